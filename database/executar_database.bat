@@ -330,6 +330,9 @@ for %%F in (
     "tabelas\032_criar_tabela_fato_gestao_vista_manifestos.sql"
     "tabelas\033_criar_tabela_regras_atribuicao_filial.sql"
     "tabelas\034_criar_tabela_dim_regiao_logistica_rules.sql"
+    "tabelas\035_criar_tabela_sys_completude_diaria.sql"
+    "tabelas\036_criar_tabela_sys_materializacao_faixa_alterada.sql"
+    "tabelas\037_criar_tabela_sys_replay_fila.sql"
 ) do (
     call :MASTER_ADD_REQUIRED "%%~F"
     if errorlevel 1 exit /b 1
@@ -0,0 +1,72 @@
+PRINT 'Migration 050: adicionar metricas estruturadas em log_extracoes';
+GO
+
+SET ANSI_NULLS ON;
+SET QUOTED_IDENTIFIER ON;
+SET XACT_ABORT ON;
+GO
+
+DECLARE @MigrationId NVARCHAR(255) = N'050_adicionar_metricas_estruturadas_log_extracoes';
+
+IF OBJECT_ID(N'dbo.schema_migrations', N'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.schema_migrations (
+        migration_id NVARCHAR(255) NOT NULL,
+        applied_at DATETIME2(0) NOT NULL CONSTRAINT DF_schema_migrations_applied_at DEFAULT SYSUTCDATETIME(),
+        checksum_sha256 VARCHAR(64) NULL,
+        notes NVARCHAR(500) NULL,
+        CONSTRAINT PK_schema_migrations PRIMARY KEY (migration_id)
+    );
+END;
+
+IF EXISTS (SELECT 1 FROM dbo.schema_migrations WHERE migration_id = @MigrationId)
+BEGIN
+    PRINT 'Migracao 050_adicionar_metricas_estruturadas_log_extracoes ja aplicada. Nenhuma acao necessaria.';
+    RETURN;
+END;
+
+BEGIN TRY
+BEGIN TRANSACTION;
+
+-- Colunas NULL de proposito: linhas antigas continuam sem metrica tipada e os
+-- validadores caem no parse legado da mensagem apenas nesses casos.
+IF COL_LENGTH(N'dbo.log_extracoes', N'unique_count') IS NULL
+BEGIN
+    ALTER TABLE dbo.log_extracoes ADD unique_count INT NULL;
+    PRINT 'Coluna dbo.log_extracoes.unique_count adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.log_extracoes', N'db_upserts') IS NULL
+BEGIN
+    ALTER TABLE dbo.log_extracoes ADD db_upserts INT NULL;
+    PRINT 'Coluna dbo.log_extracoes.db_upserts adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.log_extracoes', N'invalid_count') IS NULL
+BEGIN
+    ALTER TABLE dbo.log_extracoes ADD invalid_count INT NULL;
+    PRINT 'Coluna dbo.log_extracoes.invalid_count adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.log_extracoes', N'bytes_recebidos') IS NULL
+BEGIN
+    ALTER TABLE dbo.log_extracoes ADD bytes_recebidos BIGINT NULL;
+    PRINT 'Coluna dbo.log_extracoes.bytes_recebidos adicionada.';
+END;
+
+INSERT INTO dbo.schema_migrations (migration_id, notes)
+VALUES (
+    @MigrationId,
+    N'Adiciona unique_count, db_upserts, invalid_count e bytes_recebidos em dbo.log_extracoes para validacao sem parse de mensagem.'
+);
+
+COMMIT TRANSACTION;
+END TRY
+BEGIN CATCH
+    IF XACT_STATE() <> 0
+        ROLLBACK TRANSACTION;
+    THROW;
+END CATCH;
+
+PRINT 'Migration 050_adicionar_metricas_estruturadas_log_extracoes concluida com sucesso.';
+GO
@@ -0,0 +1,63 @@
+PRINT 'Migration 051: criar sys_completude_diaria';
+GO
+
+SET ANSI_NULLS ON;
+SET QUOTED_IDENTIFIER ON;
+SET XACT_ABORT ON;
+GO
+
+DECLARE @MigrationId NVARCHAR(255) = N'051_criar_sys_completude_diaria';
+
+IF OBJECT_ID(N'dbo.schema_migrations', N'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.schema_migrations (
+        migration_id NVARCHAR(255) NOT NULL,
+        applied_at DATETIME2(0) NOT NULL CONSTRAINT DF_schema_migrations_applied_at DEFAULT SYSUTCDATETIME(),
+        checksum_sha256 VARCHAR(64) NULL,
+        notes NVARCHAR(500) NULL,
+        CONSTRAINT PK_schema_migrations PRIMARY KEY (migration_id)
+    );
+END;
+
+IF EXISTS (SELECT 1 FROM dbo.schema_migrations WHERE migration_id = @MigrationId)
+BEGIN
+    PRINT 'Migracao 051_criar_sys_completude_diaria ja aplicada. Nenhuma acao necessaria.';
+    RETURN;
+END;
+
+BEGIN TRY
+BEGIN TRANSACTION;
+
+-- Contadores incrementados na mesma transacao do commit final de AbstractRepository.salvar().
+-- A validacao incremental so revisita os dias com ultimo_commit_em posterior ao watermark.
+IF OBJECT_ID(N'dbo.sys_completude_diaria', N'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.sys_completude_diaria (
+        entidade NVARCHAR(50) NOT NULL,
+        data_referencia DATE NOT NULL,
+        operacoes_confirmadas BIGINT NOT NULL CONSTRAINT DF_sys_completude_diaria_operacoes DEFAULT 0,
+        registros_noop BIGINT NOT NULL CONSTRAINT DF_sys_completude_diaria_noop DEFAULT 0,
+        commits INT NOT NULL CONSTRAINT DF_sys_completude_diaria_commits DEFAULT 0,
+        ultimo_commit_em DATETIME2 NOT NULL CONSTRAINT DF_sys_completude_diaria_ultimo_commit DEFAULT SYSDATETIME(),
+        recontado_em DATETIME2 NULL,
+        CONSTRAINT PK_sys_completude_diaria PRIMARY KEY CLUSTERED (entidade, data_referencia)
+    );
+    PRINT 'Tabela dbo.sys_completude_diaria criada.';
+END;
+
+INSERT INTO dbo.schema_migrations (migration_id, notes)
+VALUES (
+    @MigrationId,
+    N'Cria dbo.sys_completude_diaria com contadores por entidade/dia para validacao incremental de completude.'
+);
+
+COMMIT TRANSACTION;
+END TRY
+BEGIN CATCH
+    IF XACT_STATE() <> 0
+        ROLLBACK TRANSACTION;
+    THROW;
+END CATCH;
+
+PRINT 'Migration 051_criar_sys_completude_diaria concluida com sucesso.';
+GO
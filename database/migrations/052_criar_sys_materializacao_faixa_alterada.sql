@@ -0,0 +1,62 @@
+PRINT 'Migration 052: criar sys_materializacao_faixa_alterada';
+GO
+
+SET ANSI_NULLS ON;
+SET QUOTED_IDENTIFIER ON;
+SET XACT_ABORT ON;
+GO
+
+DECLARE @MigrationId NVARCHAR(255) = N'052_criar_sys_materializacao_faixa_alterada';
+
+IF OBJECT_ID(N'dbo.schema_migrations', N'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.schema_migrations (
+        migration_id NVARCHAR(255) NOT NULL,
+        applied_at DATETIME2(0) NOT NULL CONSTRAINT DF_schema_migrations_applied_at DEFAULT SYSUTCDATETIME(),
+        checksum_sha256 VARCHAR(64) NULL,
+        notes NVARCHAR(500) NULL,
+        CONSTRAINT PK_schema_migrations PRIMARY KEY (migration_id)
+    );
+END;
+
+IF EXISTS (SELECT 1 FROM dbo.schema_migrations WHERE migration_id = @MigrationId)
+BEGIN
+    PRINT 'Migracao 052_criar_sys_materializacao_faixa_alterada ja aplicada. Nenhuma acao necessaria.';
+    RETURN;
+END;
+
+BEGIN TRY
+BEGIN TRANSACTION;
+
+-- Uma linha por tabela de origem: AbstractRepository.salvar() amplia a faixa no mesmo commit
+-- dos dados e FatoMaterializacaoJob remove a linha depois que todas as fatos consumidoras rodaram.
+IF OBJECT_ID(N'dbo.sys_materializacao_faixa_alterada', N'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.sys_materializacao_faixa_alterada (
+        tabela_origem NVARCHAR(128) NOT NULL,
+        data_minima DATE NULL,
+        data_maxima DATE NULL,
+        faixa_desconhecida BIT NOT NULL CONSTRAINT DF_sys_materializacao_faixa_desconhecida DEFAULT 0,
+        registros_alterados BIGINT NOT NULL CONSTRAINT DF_sys_materializacao_faixa_registros DEFAULT 0,
+        atualizado_em DATETIME2 NOT NULL CONSTRAINT DF_sys_materializacao_faixa_atualizado_em DEFAULT SYSDATETIME(),
+        CONSTRAINT PK_sys_materializacao_faixa_alterada PRIMARY KEY CLUSTERED (tabela_origem)
+    );
+    PRINT 'Tabela dbo.sys_materializacao_faixa_alterada criada.';
+END;
+
+INSERT INTO dbo.schema_migrations (migration_id, notes)
+VALUES (
+    @MigrationId,
+    N'Cria dbo.sys_materializacao_faixa_alterada para materializacao BI incremental por faixa de datas alterada.'
+);
+
+COMMIT TRANSACTION;
+END TRY
+BEGIN CATCH
+    IF XACT_STATE() <> 0
+        ROLLBACK TRANSACTION;
+    THROW;
+END CATCH;
+
+PRINT 'Migration 052_criar_sys_materializacao_faixa_alterada concluida com sucesso.';
+GO
@@ -0,0 +1,80 @@
+PRINT 'Migration 053: criar sys_replay_fila';
+GO
+
+SET ANSI_NULLS ON;
+SET QUOTED_IDENTIFIER ON;
+SET XACT_ABORT ON;
+GO
+
+DECLARE @MigrationId NVARCHAR(255) = N'053_criar_sys_replay_fila';
+
+IF OBJECT_ID(N'dbo.schema_migrations', N'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.schema_migrations (
+        migration_id NVARCHAR(255) NOT NULL,
+        applied_at DATETIME2(0) NOT NULL CONSTRAINT DF_schema_migrations_applied_at DEFAULT SYSUTCDATETIME(),
+        checksum_sha256 VARCHAR(64) NULL,
+        notes NVARCHAR(500) NULL,
+        CONSTRAINT PK_schema_migrations PRIMARY KEY (migration_id)
+    );
+END;
+
+IF EXISTS (SELECT 1 FROM dbo.schema_migrations WHERE migration_id = @MigrationId)
+BEGIN
+    PRINT 'Migracao 053_criar_sys_replay_fila ja aplicada. Nenhuma acao necessaria.';
+    RETURN;
+END;
+
+BEGIN TRY
+BEGIN TRANSACTION;
+
+-- Uma linha por api + entidade + dia pendente de replay. Workers arrendam linhas com
+-- UPDLOCK/READPAST; a linha so e removida pelo dono do lease apos o replay concluir.
+IF OBJECT_ID(N'dbo.sys_replay_fila', N'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.sys_replay_fila (
+        api NVARCHAR(50) NOT NULL,
+        entidade NVARCHAR(100) NOT NULL,
+        data_referencia DATE NOT NULL,
+        prioridade INT NOT NULL CONSTRAINT DF_sys_replay_fila_prioridade DEFAULT 0,
+        tentativas INT NOT NULL CONSTRAINT DF_sys_replay_fila_tentativas DEFAULT 0,
+        origem NVARCHAR(50) NOT NULL CONSTRAINT DF_sys_replay_fila_origem DEFAULT ('reconciliacao'),
+        disponivel_em DATETIME2 NOT NULL CONSTRAINT DF_sys_replay_fila_disponivel_em DEFAULT SYSDATETIME(),
+        lease_dono NVARCHAR(200) NULL,
+        lease_expira_em DATETIME2 NULL,
+        ultimo_erro NVARCHAR(1000) NULL,
+        criado_em DATETIME2 NOT NULL CONSTRAINT DF_sys_replay_fila_criado_em DEFAULT SYSDATETIME(),
+        atualizado_em DATETIME2 NOT NULL CONSTRAINT DF_sys_replay_fila_atualizado_em DEFAULT SYSDATETIME(),
+        CONSTRAINT PK_sys_replay_fila PRIMARY KEY CLUSTERED (api, entidade, data_referencia)
+    );
+    PRINT 'Tabela dbo.sys_replay_fila criada.';
+END;
+
+IF NOT EXISTS (
+    SELECT 1
+      FROM sys.indexes
+     WHERE name = 'IX_sys_replay_fila_prioridade'
+       AND object_id = OBJECT_ID('dbo.sys_replay_fila')
+)
+BEGIN
+    CREATE INDEX IX_sys_replay_fila_prioridade
+        ON dbo.sys_replay_fila (prioridade DESC, data_referencia)
+        INCLUDE (disponivel_em, lease_expira_em, tentativas);
+END;
+
+INSERT INTO dbo.schema_migrations (migration_id, notes)
+VALUES (
+    @MigrationId,
+    N'Cria dbo.sys_replay_fila para drenagem duravel e concorrente de replays de reconciliacao.'
+);
+
+COMMIT TRANSACTION;
+END TRY
+BEGIN CATCH
+    IF XACT_STATE() <> 0
+        ROLLBACK TRANSACTION;
+    THROW;
+END CATCH;
+
+PRINT 'Migration 053_criar_sys_replay_fila concluida com sucesso.';
+GO
@@ -0,0 +1,122 @@
+PRINT 'Migration 054: adicionar colunas de payload compactado';
+GO
+
+SET ANSI_NULLS ON;
+SET QUOTED_IDENTIFIER ON;
+SET XACT_ABORT ON;
+GO
+
+DECLARE @MigrationId NVARCHAR(255) = N'054_adicionar_colunas_payload_compactado';
+
+IF OBJECT_ID(N'dbo.schema_migrations', N'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.schema_migrations (
+        migration_id NVARCHAR(255) NOT NULL,
+        applied_at DATETIME2(0) NOT NULL CONSTRAINT DF_schema_migrations_applied_at DEFAULT SYSUTCDATETIME(),
+        checksum_sha256 VARCHAR(64) NULL,
+        notes NVARCHAR(500) NULL,
+        CONSTRAINT PK_schema_migrations PRIMARY KEY (migration_id)
+    );
+END;
+
+IF EXISTS (SELECT 1 FROM dbo.schema_migrations WHERE migration_id = @MigrationId)
+BEGIN
+    PRINT 'Migracao 054_adicionar_colunas_payload_compactado ja aplicada. Nenhuma acao necessaria.';
+    RETURN;
+END;
+
+BEGIN TRY
+BEGIN TRANSACTION;
+
+-- Com etl.payload.compressao.enabled=true o extrator grava o gzip UTF-16LE (mesmo formato de
+-- COMPRESS(N'...')) na coluna *_gz e deixa a coluna texto NULL; as views *_powerbi expoem
+-- COALESCE(texto, CAST(DECOMPRESS(gz) AS NVARCHAR(MAX))). Linhas antigas podem ser convertidas
+-- em lotes com: UPDATE dbo.<tabela> SET metadata_gz = COMPRESS(metadata), metadata = NULL WHERE metadata IS NOT NULL.
+IF COL_LENGTH(N'dbo.coletas', N'metadata_gz') IS NULL
+BEGIN
+    ALTER TABLE dbo.coletas ADD metadata_gz VARBINARY(MAX) NULL;
+    PRINT 'Coluna dbo.coletas.metadata_gz adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.fretes', N'metadata_gz') IS NULL
+BEGIN
+    ALTER TABLE dbo.fretes ADD metadata_gz VARBINARY(MAX) NULL;
+    PRINT 'Coluna dbo.fretes.metadata_gz adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.fretes', N'nfse_xml_document_gz') IS NULL
+BEGIN
+    ALTER TABLE dbo.fretes ADD nfse_xml_document_gz VARBINARY(MAX) NULL;
+    PRINT 'Coluna dbo.fretes.nfse_xml_document_gz adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.manifestos', N'metadata_gz') IS NULL
+BEGIN
+    ALTER TABLE dbo.manifestos ADD metadata_gz VARBINARY(MAX) NULL;
+    PRINT 'Coluna dbo.manifestos.metadata_gz adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.cotacoes', N'metadata_gz') IS NULL
+BEGIN
+    ALTER TABLE dbo.cotacoes ADD metadata_gz VARBINARY(MAX) NULL;
+    PRINT 'Coluna dbo.cotacoes.metadata_gz adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.localizacao_cargas', N'metadata_gz') IS NULL
+BEGIN
+    ALTER TABLE dbo.localizacao_cargas ADD metadata_gz VARBINARY(MAX) NULL;
+    PRINT 'Coluna dbo.localizacao_cargas.metadata_gz adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.contas_a_pagar', N'metadata_gz') IS NULL
+BEGIN
+    ALTER TABLE dbo.contas_a_pagar ADD metadata_gz VARBINARY(MAX) NULL;
+    PRINT 'Coluna dbo.contas_a_pagar.metadata_gz adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.faturas_por_cliente', N'metadata_gz') IS NULL
+BEGIN
+    ALTER TABLE dbo.faturas_por_cliente ADD metadata_gz VARBINARY(MAX) NULL;
+    PRINT 'Coluna dbo.faturas_por_cliente.metadata_gz adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.inventario', N'metadata_gz') IS NULL
+BEGIN
+    ALTER TABLE dbo.inventario ADD metadata_gz VARBINARY(MAX) NULL;
+    PRINT 'Coluna dbo.inventario.metadata_gz adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.sinistros', N'metadata_gz') IS NULL
+BEGIN
+    ALTER TABLE dbo.sinistros ADD metadata_gz VARBINARY(MAX) NULL;
+    PRINT 'Coluna dbo.sinistros.metadata_gz adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.raster_viagens', N'metadata_gz') IS NULL
+BEGIN
+    ALTER TABLE dbo.raster_viagens ADD metadata_gz VARBINARY(MAX) NULL;
+    PRINT 'Coluna dbo.raster_viagens.metadata_gz adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.raster_viagem_paradas', N'metadata_gz') IS NULL
+BEGIN
+    ALTER TABLE dbo.raster_viagem_paradas ADD metadata_gz VARBINARY(MAX) NULL;
+    PRINT 'Coluna dbo.raster_viagem_paradas.metadata_gz adicionada.';
+END;
+
+INSERT INTO dbo.schema_migrations (migration_id, notes)
+VALUES (
+    @MigrationId,
+    N'Adiciona metadata_gz (todas as entidades) e fretes.nfse_xml_document_gz para o modo de payload compactado.'
+);
+
+COMMIT TRANSACTION;
+END TRY
+BEGIN CATCH
+    IF XACT_STATE() <> 0
+        ROLLBACK TRANSACTION;
+    THROW;
+END CATCH;
+
+PRINT 'Migration 054_adicionar_colunas_payload_compactado concluida com sucesso.';
+GO
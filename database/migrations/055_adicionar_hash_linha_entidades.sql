@@ -0,0 +1,110 @@
+PRINT 'Migration 055: adicionar hash_linha nas tabelas de entidades';
+GO
+
+SET ANSI_NULLS ON;
+SET QUOTED_IDENTIFIER ON;
+SET XACT_ABORT ON;
+GO
+
+DECLARE @MigrationId NVARCHAR(255) = N'055_adicionar_hash_linha_entidades';
+
+IF OBJECT_ID(N'dbo.schema_migrations', N'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.schema_migrations (
+        migration_id NVARCHAR(255) NOT NULL,
+        applied_at DATETIME2(0) NOT NULL CONSTRAINT DF_schema_migrations_applied_at DEFAULT SYSUTCDATETIME(),
+        checksum_sha256 VARCHAR(64) NULL,
+        notes NVARCHAR(500) NULL,
+        CONSTRAINT PK_schema_migrations PRIMARY KEY (migration_id)
+    );
+END;
+
+IF EXISTS (SELECT 1 FROM dbo.schema_migrations WHERE migration_id = @MigrationId)
+BEGIN
+    PRINT 'Migracao 055_adicionar_hash_linha_entidades ja aplicada. Nenhuma acao necessaria.';
+    RETURN;
+END;
+
+BEGIN TRY
+BEGIN TRANSACTION;
+
+-- SHA-256 do conteudo da entidade (exceto data_extracao), gravado pelo MERGE. Com
+-- etl.merge.prefiltro_hash.enabled=true o extrator compara o hash do lote com o gravado e, para as
+-- linhas iguais, so refresca data_extracao. Linhas antigas ficam NULL e passam pelo MERGE completo
+-- na primeira extracao. manifestos fica de fora: a promocao reconcilia pick_sequence_code com coletas.
+IF COL_LENGTH(N'dbo.coletas', N'hash_linha') IS NULL
+BEGIN
+    ALTER TABLE dbo.coletas ADD hash_linha VARBINARY(32) NULL;
+    PRINT 'Coluna dbo.coletas.hash_linha adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.fretes', N'hash_linha') IS NULL
+BEGIN
+    ALTER TABLE dbo.fretes ADD hash_linha VARBINARY(32) NULL;
+    PRINT 'Coluna dbo.fretes.hash_linha adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.cotacoes', N'hash_linha') IS NULL
+BEGIN
+    ALTER TABLE dbo.cotacoes ADD hash_linha VARBINARY(32) NULL;
+    PRINT 'Coluna dbo.cotacoes.hash_linha adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.localizacao_cargas', N'hash_linha') IS NULL
+BEGIN
+    ALTER TABLE dbo.localizacao_cargas ADD hash_linha VARBINARY(32) NULL;
+    PRINT 'Coluna dbo.localizacao_cargas.hash_linha adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.contas_a_pagar', N'hash_linha') IS NULL
+BEGIN
+    ALTER TABLE dbo.contas_a_pagar ADD hash_linha VARBINARY(32) NULL;
+    PRINT 'Coluna dbo.contas_a_pagar.hash_linha adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.faturas_por_cliente', N'hash_linha') IS NULL
+BEGIN
+    ALTER TABLE dbo.faturas_por_cliente ADD hash_linha VARBINARY(32) NULL;
+    PRINT 'Coluna dbo.faturas_por_cliente.hash_linha adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.inventario', N'hash_linha') IS NULL
+BEGIN
+    ALTER TABLE dbo.inventario ADD hash_linha VARBINARY(32) NULL;
+    PRINT 'Coluna dbo.inventario.hash_linha adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.sinistros', N'hash_linha') IS NULL
+BEGIN
+    ALTER TABLE dbo.sinistros ADD hash_linha VARBINARY(32) NULL;
+    PRINT 'Coluna dbo.sinistros.hash_linha adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.raster_viagens', N'hash_linha') IS NULL
+BEGIN
+    ALTER TABLE dbo.raster_viagens ADD hash_linha VARBINARY(32) NULL;
+    PRINT 'Coluna dbo.raster_viagens.hash_linha adicionada.';
+END;
+
+IF COL_LENGTH(N'dbo.raster_viagem_paradas', N'hash_linha') IS NULL
+BEGIN
+    ALTER TABLE dbo.raster_viagem_paradas ADD hash_linha VARBINARY(32) NULL;
+    PRINT 'Coluna dbo.raster_viagem_paradas.hash_linha adicionada.';
+END;
+
+INSERT INTO dbo.schema_migrations (migration_id, notes)
+VALUES (
+    @MigrationId,
+    N'Adiciona hash_linha nas tabelas de entidades (exceto manifestos) para o pre-filtro do MERGE.'
+);
+
+COMMIT TRANSACTION;
+END TRY
+BEGIN CATCH
+    IF XACT_STATE() <> 0
+        ROLLBACK TRANSACTION;
+    THROW;
+END CATCH;
+
+PRINT 'Migration 055_adicionar_hash_linha_entidades concluida com sucesso.';
+GO
@@ -0,0 +1,54 @@
+PRINT 'Migration 056: adicionar validado_em em sys_completude_diaria';
+GO
+
+SET ANSI_NULLS ON;
+SET QUOTED_IDENTIFIER ON;
+SET XACT_ABORT ON;
+GO
+
+DECLARE @MigrationId NVARCHAR(255) = N'056_adicionar_validado_em_sys_completude_diaria';
+
+IF OBJECT_ID(N'dbo.schema_migrations', N'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.schema_migrations (
+        migration_id NVARCHAR(255) NOT NULL,
+        applied_at DATETIME2(0) NOT NULL CONSTRAINT DF_schema_migrations_applied_at DEFAULT SYSUTCDATETIME(),
+        checksum_sha256 VARCHAR(64) NULL,
+        notes NVARCHAR(500) NULL,
+        CONSTRAINT PK_schema_migrations PRIMARY KEY (migration_id)
+    );
+END;
+
+IF EXISTS (SELECT 1 FROM dbo.schema_migrations WHERE migration_id = @MigrationId)
+BEGIN
+    PRINT 'Migracao 056_adicionar_validado_em_sys_completude_diaria ja aplicada. Nenhuma acao necessaria.';
+    RETURN;
+END;
+
+BEGIN TRY
+BEGIN TRANSACTION;
+
+-- ultimo_commit_em visto na ultima validacao incremental OK do dia. O dia volta a ser validado
+-- quando um commit posterior move ultimo_commit_em; NULL significa nunca validado.
+IF COL_LENGTH(N'dbo.sys_completude_diaria', N'validado_em') IS NULL
+BEGIN
+    ALTER TABLE dbo.sys_completude_diaria ADD validado_em DATETIME2 NULL;
+    PRINT 'Coluna dbo.sys_completude_diaria.validado_em adicionada.';
+END;
+
+INSERT INTO dbo.schema_migrations (migration_id, notes)
+VALUES (
+    @MigrationId,
+    N'Adiciona validado_em em dbo.sys_completude_diaria para a validacao incremental revisitar dias tocados apos a ultima validacao.'
+);
+
+COMMIT TRANSACTION;
+END TRY
+BEGIN CATCH
+    IF XACT_STATE() <> 0
+        ROLLBACK TRANSACTION;
+    THROW;
+END CATCH;
+
+PRINT 'Migration 056_adicionar_validado_em_sys_completude_diaria concluida com sucesso.';
+GO
@@ -0,0 +1,62 @@
+PRINT 'Migration 057: adicionar operacoes_pendentes em sys_completude_diaria';
+GO
+
+SET ANSI_NULLS ON;
+SET QUOTED_IDENTIFIER ON;
+SET XACT_ABORT ON;
+GO
+
+DECLARE @MigrationId NVARCHAR(255) = N'057_adicionar_operacoes_pendentes_sys_completude_diaria';
+
+IF OBJECT_ID(N'dbo.schema_migrations', N'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.schema_migrations (
+        migration_id NVARCHAR(255) NOT NULL,
+        applied_at DATETIME2(0) NOT NULL CONSTRAINT DF_schema_migrations_applied_at DEFAULT SYSUTCDATETIME(),
+        checksum_sha256 VARCHAR(64) NULL,
+        notes NVARCHAR(500) NULL,
+        CONSTRAINT PK_schema_migrations PRIMARY KEY (migration_id)
+    );
+END;
+
+IF EXISTS (SELECT 1 FROM dbo.schema_migrations WHERE migration_id = @MigrationId)
+BEGIN
+    PRINT 'Migracao 057_adicionar_operacoes_pendentes_sys_completude_diaria ja aplicada. Nenhuma acao necessaria.';
+    RETURN;
+END;
+
+BEGIN TRY
+BEGIN TRANSACTION;
+
+-- data_referencia passa a ser a data de negocio do registro, e nao o dia do commit: um mesmo commit
+-- espalha operacoes por varios dias. operacoes_pendentes guarda o que foi confirmado desde a ultima
+-- validacao incremental OK, que reconcilia a soma pendente da entidade com os logs posteriores a ela.
+IF COL_LENGTH(N'dbo.sys_completude_diaria', N'operacoes_pendentes') IS NULL
+BEGIN
+    ALTER TABLE dbo.sys_completude_diaria
+        ADD operacoes_pendentes BIGINT NOT NULL
+            CONSTRAINT DF_sys_completude_diaria_pendentes DEFAULT 0;
+    PRINT 'Coluna dbo.sys_completude_diaria.operacoes_pendentes adicionada.';
+END;
+
+-- validado_em passa a ser o timestamp_fim do ultimo log consumido pela validacao incremental.
+-- Linhas antigas (chaveadas pelo dia do commit) viram a linha de base: nada pendente, logs ate agora ja conferidos.
+UPDATE dbo.sys_completude_diaria
+SET validado_em = SYSDATETIME();
+
+INSERT INTO dbo.schema_migrations (migration_id, notes)
+VALUES (
+    @MigrationId,
+    N'Adiciona operacoes_pendentes em dbo.sys_completude_diaria; contadores passam a ser chaveados pela data de negocio.'
+);
+
+COMMIT TRANSACTION;
+END TRY
+BEGIN CATCH
+    IF XACT_STATE() <> 0
+        ROLLBACK TRANSACTION;
+    THROW;
+END CATCH;
+
+PRINT 'Migration 057_adicionar_operacoes_pendentes_sys_completude_diaria concluida com sucesso.';
+GO
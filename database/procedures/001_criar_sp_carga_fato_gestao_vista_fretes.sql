@@ -155,6 +155,7 @@ BEGIN
                     WHEN f.nfse_number IS NOT NULL
                       OR NULLIF(LTRIM(RTRIM(f.nfse_series)), N'') IS NOT NULL
                       OR NULLIF(LTRIM(RTRIM(f.nfse_xml_document)), N'') IS NOT NULL
+                      OR f.nfse_xml_document_gz IS NOT NULL
                       OR NULLIF(LTRIM(RTRIM(f.nfse_integration_id)), N'') IS NOT NULL THEN N'NFS-E'
                     ELSE N'PENDENTE/NAO EMITIDO'
                 END AS documento_oficial_tipo,
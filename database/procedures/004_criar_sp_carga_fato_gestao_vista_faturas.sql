@@ -128,7 +128,7 @@ BEGIN
 
                 LEFT(NULLIF(LTRIM(RTRIM(CONVERT(NVARCHAR(MAX), fpc.notas_fiscais))), N''), 4000) AS notas_fiscais,
                 LEFT(NULLIF(LTRIM(RTRIM(CONVERT(NVARCHAR(MAX), fpc.pedidos_cliente))), N''), 4000) AS pedidos_cliente,
-                LEFT(NULLIF(LTRIM(RTRIM(CONVERT(NVARCHAR(MAX), fpc.metadata))), N''), 4000) AS metadata,
+                LEFT(NULLIF(LTRIM(RTRIM(CONVERT(NVARCHAR(MAX), COALESCE(fpc.metadata, CAST(DECOMPRESS(fpc.metadata_gz) AS NVARCHAR(MAX)))))), N''), 4000) AS metadata,
 
                 CAST(COALESCE(fpc.excluido_na_origem, 0) AS BIT) AS excluido_na_origem,
                 fpc.data_extracao AS data_extracao_origem
@@ -80,12 +80,17 @@ BEGIN
                 m.*,
                 competencia_operacional.data_competencia_operacional,
                 proprietario_documento.proprietario_documento,
-                tipo_motorista.tipo_motorista
+                tipo_motorista.tipo_motorista,
+                payload.metadata_texto
             FROM dbo.manifestos AS m
             CROSS APPLY (
                 SELECT COALESCE(m.departured_at, m.created_at) AS data_competencia_operacional
             ) competencia_operacional
-            OUTER APPLY OPENJSON(CASE WHEN ISJSON(m.metadata) = 1 THEN m.metadata END)
+            CROSS APPLY (
+                -- Modo etl.payload.compressao.enabled grava so metadata_gz.
+                SELECT COALESCE(m.metadata, CAST(DECOMPRESS(m.metadata_gz) AS NVARCHAR(MAX))) AS metadata_texto
+            ) payload
+            OUTER APPLY OPENJSON(CASE WHEN ISJSON(payload.metadata_texto) = 1 THEN payload.metadata_texto END)
             WITH (
                 mft_vie_onr_document NVARCHAR(255) '$.mft_vie_onr_document',
                 mft_vie_onr_cnpj NVARCHAR(255) '$.mft_vie_onr_cnpj',
@@ -286,7 +291,7 @@ BEGIN
                 MAX(ml.adjustment_user_name) AS usuario_ajuste,
                 MAX(ml.obs_operacional) AS obs_operacional,
                 MAX(ml.obs_financeira) AS obs_financeira,
-                MAX(ml.metadata) AS metadata,
+                MAX(ml.metadata_texto) AS metadata,
                 MAX(CAST(ml.data_extracao AS DATETIME2(0))) AS data_extracao
             FROM manifestos_linha AS ml
             LEFT JOIN receita_coletas AS rc
@@ -124,9 +124,12 @@ BEGIN
         nfse_corporation_id BIGINT,
         nfse_service_description NVARCHAR(500),
         nfse_xml_document NVARCHAR(MAX),
+        nfse_xml_document_gz VARBINARY(MAX),
 
         -- Coluna de Metadados para Resiliência e Completude
         metadata NVARCHAR(MAX),
+        metadata_gz VARBINARY(MAX),
+        hash_linha VARBINARY(32),
 
         -- Coluna de Auditoria
         data_extracao DATETIME2 DEFAULT GETDATE(),
@@ -109,6 +109,7 @@ BEGIN
 
         -- Coluna de Metadados para Resiliência e Completude
         metadata NVARCHAR(MAX),
+        metadata_gz VARBINARY(MAX),
 
         -- Coluna computada para deduplicação (alinhada com lógica de MERGE)
         -- Quando pick_sequence_code estiver NULL, identificador_unico diferencia itens
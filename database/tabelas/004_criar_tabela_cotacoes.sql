@@ -49,6 +49,8 @@ BEGIN
 
         -- Coluna de Metadados para Resiliência e Completude
         metadata NVARCHAR(MAX),
+        metadata_gz VARBINARY(MAX),
+        hash_linha VARBINARY(32),
 
         -- Coluna de Auditoria
         data_extracao DATETIME2 DEFAULT GETDATE(),
@@ -34,6 +34,8 @@ BEGIN
 
         -- Coluna de Metadados para Resiliência e Completude
         metadata NVARCHAR(MAX), -- Dados brutos do JSON...
+        metadata_gz VARBINARY(MAX),
+        hash_linha VARBINARY(32),
         localizacao_hash CHAR(64), -- Hash operacional para UPSERT sem refresh destrutivo
 
         -- Coluna de Auditoria
@@ -34,6 +34,8 @@ BEGIN
         nome_usuario NVARCHAR(255),
         reconciliado BIT,
         metadata NVARCHAR(MAX),
+        metadata_gz VARBINARY(MAX),
+        hash_linha VARBINARY(32),
         data_extracao DATETIME2 DEFAULT GETDATE(),
         excluido_na_origem BIT NOT NULL CONSTRAINT DF_contas_a_pagar_excluido_na_origem DEFAULT (0),
         data_exclusao_origem DATETIME2(0) NULL
@@ -41,6 +41,8 @@ BEGIN
         notas_fiscais NVARCHAR(MAX),
         pedidos_cliente NVARCHAR(MAX),
         metadata NVARCHAR(MAX),
+        metadata_gz VARBINARY(MAX),
+        hash_linha VARBINARY(32),
         data_extracao DATETIME2 DEFAULT GETDATE(),
         excluido_na_origem BIT NOT NULL CONSTRAINT DF_faturas_por_cliente_excluido_na_origem DEFAULT (0),
         data_exclusao_origem DATETIME2(0) NULL
@@ -14,6 +14,10 @@ BEGIN
         registros_extraidos INT NOT NULL,
         paginas_processadas INT NOT NULL,
         noop_count INT NOT NULL CONSTRAINT DF_log_extracoes_noop_count DEFAULT (0),
+        unique_count INT NULL,
+        db_upserts INT NULL,
+        invalid_count INT NULL,
+        bytes_recebidos BIGINT NULL,
         mensagem NVARCHAR(MAX)
     );
     
@@ -30,6 +30,8 @@ BEGIN
         ultima_ocorrencia_descricao NVARCHAR(500) NULL,
         flag_comprovante_anexado BIT NOT NULL CONSTRAINT DF_inventario_flag_comprovante_anexado DEFAULT (0),
         metadata NVARCHAR(MAX) NULL,
+        metadata_gz VARBINARY(MAX) NULL,
+        hash_linha VARBINARY(32) NULL,
         data_extracao DATETIME2 DEFAULT GETDATE(),
         excluido_na_origem BIT NOT NULL CONSTRAINT DF_inventario_excluido_na_origem DEFAULT (0),
         data_exclusao_origem DATETIME2(0) NULL
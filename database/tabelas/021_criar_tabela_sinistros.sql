@@ -34,6 +34,8 @@ BEGIN
         dealing_type NVARCHAR(100) NULL,
         solution_type NVARCHAR(100) NULL,
         metadata NVARCHAR(MAX) NULL,
+        metadata_gz VARBINARY(MAX) NULL,
+        hash_linha VARBINARY(32) NULL,
         data_extracao DATETIME2 DEFAULT GETDATE(),
         excluido_na_origem BIT NOT NULL CONSTRAINT DF_sinistros_excluido_na_origem DEFAULT (0),
         data_exclusao_origem DATETIME2(0) NULL
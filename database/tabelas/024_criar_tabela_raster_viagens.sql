@@ -35,6 +35,8 @@ BEGIN
         rota_descricao NVARCHAR(500) NULL,
         link_timeline NVARCHAR(1000) NULL,
         metadata NVARCHAR(MAX) NULL,
+        metadata_gz VARBINARY(MAX) NULL,
+        hash_linha VARBINARY(32) NULL,
         data_extracao DATETIME2(3) NOT NULL CONSTRAINT DF_raster_viagens_data_extracao DEFAULT SYSUTCDATETIME(),
         excluido_na_origem BIT NOT NULL CONSTRAINT DF_raster_viagens_excluido_na_origem DEFAULT (0),
         data_exclusao_origem DATETIME2(0) NULL
@@ -27,6 +27,8 @@ BEGIN
         longitude_ultima_posicao DECIMAL(18, 8) NULL,
         referencia_ultima_posicao NVARCHAR(500) NULL,
         metadata NVARCHAR(MAX) NULL,
+        metadata_gz VARBINARY(MAX) NULL,
+        hash_linha VARBINARY(32) NULL,
         data_extracao DATETIME2(3) NOT NULL CONSTRAINT DF_raster_viagem_paradas_data_extracao DEFAULT SYSUTCDATETIME(),
         excluido_na_origem BIT NOT NULL CONSTRAINT DF_raster_viagem_paradas_excluido_na_origem DEFAULT (0),
         data_exclusao_origem DATETIME2(0) NULL,
@@ -0,0 +1,26 @@
+-- ============================================
+-- Script de criacao da tabela 'sys_completude_diaria'
+-- Contadores de completude por entidade e dia, atualizados no commit do salvar()
+-- ============================================
+
+IF NOT EXISTS (SELECT * FROM sys.objects WHERE object_id = OBJECT_ID(N'dbo.sys_completude_diaria') AND type in (N'U'))
+BEGIN
+    CREATE TABLE dbo.sys_completude_diaria (
+        entidade NVARCHAR(50) NOT NULL,
+        data_referencia DATE NOT NULL,
+        operacoes_confirmadas BIGINT NOT NULL CONSTRAINT DF_sys_completude_diaria_operacoes DEFAULT 0,
+        registros_noop BIGINT NOT NULL CONSTRAINT DF_sys_completude_diaria_noop DEFAULT 0,
+        commits INT NOT NULL CONSTRAINT DF_sys_completude_diaria_commits DEFAULT 0,
+        ultimo_commit_em DATETIME2 NOT NULL CONSTRAINT DF_sys_completude_diaria_ultimo_commit DEFAULT SYSDATETIME(),
+        recontado_em DATETIME2 NULL,
+        validado_em DATETIME2 NULL,
+        CONSTRAINT PK_sys_completude_diaria PRIMARY KEY CLUSTERED (entidade, data_referencia)
+    );
+
+    PRINT 'Tabela sys_completude_diaria criada com sucesso!';
+END
+ELSE
+BEGIN
+    PRINT 'Tabela sys_completude_diaria ja existe. Pulando criacao.';
+END
+GO
@@ -0,0 +1,24 @@
+-- ============================================
+-- Script de criacao da tabela 'sys_materializacao_faixa_alterada'
+-- Faixa de datas de negocio alteradas por tabela de origem, consumida pela materializacao BI
+-- ============================================
+
+IF NOT EXISTS (SELECT * FROM sys.objects WHERE object_id = OBJECT_ID(N'dbo.sys_materializacao_faixa_alterada') AND type in (N'U'))
+BEGIN
+    CREATE TABLE dbo.sys_materializacao_faixa_alterada (
+        tabela_origem NVARCHAR(128) NOT NULL,
+        data_minima DATE NULL,
+        data_maxima DATE NULL,
+        faixa_desconhecida BIT NOT NULL CONSTRAINT DF_sys_materializacao_faixa_desconhecida DEFAULT 0,
+        registros_alterados BIGINT NOT NULL CONSTRAINT DF_sys_materializacao_faixa_registros DEFAULT 0,
+        atualizado_em DATETIME2 NOT NULL CONSTRAINT DF_sys_materializacao_faixa_atualizado_em DEFAULT SYSDATETIME(),
+        CONSTRAINT PK_sys_materializacao_faixa_alterada PRIMARY KEY CLUSTERED (tabela_origem)
+    );
+
+    PRINT 'Tabela sys_materializacao_faixa_alterada criada com sucesso!';
+END
+ELSE
+BEGIN
+    PRINT 'Tabela sys_materializacao_faixa_alterada ja existe. Pulando criacao.';
+END
+GO
@@ -0,0 +1,48 @@
+-- ============================================
+-- Script de criacao da tabela 'sys_replay_fila'
+-- Fila duravel de replays de reconciliacao (api + entidade + dia) com prioridade, tentativas e lease
+-- ============================================
+
+IF NOT EXISTS (SELECT * FROM sys.objects WHERE object_id = OBJECT_ID(N'dbo.sys_replay_fila') AND type in (N'U'))
+BEGIN
+    CREATE TABLE dbo.sys_replay_fila (
+        api NVARCHAR(50) NOT NULL,
+        entidade NVARCHAR(100) NOT NULL,
+        data_referencia DATE NOT NULL,
+        prioridade INT NOT NULL CONSTRAINT DF_sys_replay_fila_prioridade DEFAULT 0,
+        tentativas INT NOT NULL CONSTRAINT DF_sys_replay_fila_tentativas DEFAULT 0,
+        origem NVARCHAR(50) NOT NULL CONSTRAINT DF_sys_replay_fila_origem DEFAULT ('reconciliacao'),
+        disponivel_em DATETIME2 NOT NULL CONSTRAINT DF_sys_replay_fila_disponivel_em DEFAULT SYSDATETIME(),
+        lease_dono NVARCHAR(200) NULL,
+        lease_expira_em DATETIME2 NULL,
+        ultimo_erro NVARCHAR(1000) NULL,
+        criado_em DATETIME2 NOT NULL CONSTRAINT DF_sys_replay_fila_criado_em DEFAULT SYSDATETIME(),
+        atualizado_em DATETIME2 NOT NULL CONSTRAINT DF_sys_replay_fila_atualizado_em DEFAULT SYSDATETIME(),
+        CONSTRAINT PK_sys_replay_fila PRIMARY KEY CLUSTERED (api, entidade, data_referencia)
+    );
+
+    PRINT 'Tabela sys_replay_fila criada com sucesso!';
+END
+ELSE
+BEGIN
+    PRINT 'Tabela sys_replay_fila ja existe. Pulando criacao.';
+END
+GO
+
+IF NOT EXISTS (
+    SELECT 1
+      FROM sys.indexes
+     WHERE name = 'IX_sys_replay_fila_prioridade'
+       AND object_id = OBJECT_ID('dbo.sys_replay_fila')
+)
+BEGIN
+    CREATE INDEX IX_sys_replay_fila_prioridade
+        ON dbo.sys_replay_fila (prioridade DESC, data_referencia)
+        INCLUDE (disponivel_em, lease_expira_em, tentativas);
+    PRINT 'Indice IX_sys_replay_fila_prioridade criado com sucesso!';
+END
+ELSE
+BEGIN
+    PRINT 'Indice IX_sys_replay_fila_prioridade ja existe. Pulando criacao.';
+END
+GO
@@ -23,13 +23,17 @@ SELECT TOP 10
     destroy_user_id,
     vehicle_type_id,
     -- Extrair do JSON metadata
-    JSON_VALUE(metadata, '$.cancellationUserId') AS cancellationUserId_metadata,
-    JSON_VALUE(metadata, '$.destroyUserId') AS destroyUserId_metadata,
-    JSON_VALUE(metadata, '$.vehicleTypeId') AS vehicleTypeId_metadata,
-    JSON_VALUE(metadata, '$.cancellationReason') AS cancellationReason_metadata,
-    JSON_VALUE(metadata, '$.destroyReason') AS destroyReason_metadata
+    JSON_VALUE(payload.metadata_texto, '$.cancellationUserId') AS cancellationUserId_metadata,
+    JSON_VALUE(payload.metadata_texto, '$.destroyUserId') AS destroyUserId_metadata,
+    JSON_VALUE(payload.metadata_texto, '$.vehicleTypeId') AS vehicleTypeId_metadata,
+    JSON_VALUE(payload.metadata_texto, '$.cancellationReason') AS cancellationReason_metadata,
+    JSON_VALUE(payload.metadata_texto, '$.destroyReason') AS destroyReason_metadata
 FROM dbo.coletas
-WHERE metadata IS NOT NULL
+CROSS APPLY (
+    -- Modo etl.payload.compressao.enabled grava so metadata_gz.
+    SELECT COALESCE(metadata, CAST(DECOMPRESS(metadata_gz) AS NVARCHAR(MAX))) AS metadata_texto
+) payload
+WHERE payload.metadata_texto IS NOT NULL
 ORDER BY data_extracao DESC;
 
 PRINT '';
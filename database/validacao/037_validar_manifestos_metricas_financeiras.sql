@@ -45,25 +45,29 @@ FROM dbo.manifestos;
 SELECT
     @metadadosComValorColunaZerada = COUNT_BIG(1)
 FROM dbo.manifestos
+CROSS APPLY (
+    -- Modo etl.payload.compressao.enabled grava so metadata_gz.
+    SELECT COALESCE(metadata, CAST(DECOMPRESS(metadata_gz) AS NVARCHAR(MAX))) AS metadata_texto
+) payload
 WHERE
     (
-        TRY_CONVERT(DECIMAL(18, 6), JSON_VALUE(metadata, '$.km')) <> 0
+        TRY_CONVERT(DECIMAL(18, 6), JSON_VALUE(payload.metadata_texto, '$.km')) <> 0
         AND ISNULL(km, 0) = 0
     )
     OR (
-        TRY_CONVERT(DECIMAL(18, 6), JSON_VALUE(metadata, '$.total_cost')) <> 0
+        TRY_CONVERT(DECIMAL(18, 6), JSON_VALUE(payload.metadata_texto, '$.total_cost')) <> 0
         AND ISNULL(total_cost, 0) = 0
     )
     OR (
-        TRY_CONVERT(DECIMAL(18, 6), JSON_VALUE(metadata, '$.manifest_freights_total')) <> 0
+        TRY_CONVERT(DECIMAL(18, 6), JSON_VALUE(payload.metadata_texto, '$.manifest_freights_total')) <> 0
         AND ISNULL(manifest_freights_total, 0) = 0
     )
     OR (
-        TRY_CONVERT(DECIMAL(18, 6), JSON_VALUE(metadata, '$.total_taxed_weight')) <> 0
+        TRY_CONVERT(DECIMAL(18, 6), JSON_VALUE(payload.metadata_texto, '$.total_taxed_weight')) <> 0
         AND ISNULL(total_taxed_weight, 0) = 0
     )
     OR (
-        TRY_CONVERT(DECIMAL(18, 6), JSON_VALUE(metadata, '$.mft_vie_weight_capacity')) <> 0
+        TRY_CONVERT(DECIMAL(18, 6), JSON_VALUE(payload.metadata_texto, '$.mft_vie_weight_capacity')) <> 0
         AND ISNULL(capacidade_kg, 0) = 0
     );
 
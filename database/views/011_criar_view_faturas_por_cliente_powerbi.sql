@@ -52,7 +52,7 @@ SELECT
     CONVERT(NVARCHAR(10), datas.fit_ant_ils_original_due_date, 23) AS [Fatura/Data Vencimento Original],
     fpc.notas_fiscais AS [Notas Fiscais],
     fpc.pedidos_cliente AS [Pedidos/Cliente],
-    fpc.metadata AS [Metadata],
+    COALESCE(fpc.metadata, CAST(DECOMPRESS(fpc.metadata_gz) AS NVARCHAR(MAX))) AS [Metadata],
     fpc.data_extracao AS [Data da Última Atualização]
 FROM dbo.faturas_por_cliente fpc
 OUTER APPLY (
@@ -26,6 +26,7 @@ SELECT
         WHEN f.nfse_number IS NOT NULL
           OR NULLIF(LTRIM(RTRIM(f.nfse_series)), '') IS NOT NULL
           OR NULLIF(LTRIM(RTRIM(f.nfse_xml_document)), '') IS NOT NULL
+          OR f.nfse_xml_document_gz IS NOT NULL
           OR NULLIF(LTRIM(RTRIM(f.nfse_integration_id)), '') IS NOT NULL THEN 'NFS-e'
         ELSE 'Pendente/Não Emitido'
     END AS [Documento Oficial/Tipo],
@@ -42,6 +43,7 @@ SELECT
         WHEN f.nfse_number IS NOT NULL
           OR NULLIF(LTRIM(RTRIM(f.nfse_series)), '') IS NOT NULL
           OR NULLIF(LTRIM(RTRIM(f.nfse_xml_document)), '') IS NOT NULL
+          OR f.nfse_xml_document_gz IS NOT NULL
           OR NULLIF(LTRIM(RTRIM(f.nfse_integration_id)), '') IS NOT NULL THEN CONVERT(NVARCHAR(50), f.nfse_number)
         ELSE NULL
     END AS [Documento Oficial/Número],
@@ -53,6 +55,7 @@ SELECT
         WHEN f.nfse_number IS NOT NULL
           OR NULLIF(LTRIM(RTRIM(f.nfse_series)), '') IS NOT NULL
           OR NULLIF(LTRIM(RTRIM(f.nfse_xml_document)), '') IS NOT NULL
+          OR f.nfse_xml_document_gz IS NOT NULL
           OR NULLIF(LTRIM(RTRIM(f.nfse_integration_id)), '') IS NOT NULL THEN f.nfse_series
         ELSE NULL
     END AS [Documento Oficial/Série],
@@ -64,7 +67,8 @@ SELECT
         WHEN f.nfse_number IS NOT NULL
           OR NULLIF(LTRIM(RTRIM(f.nfse_series)), '') IS NOT NULL
           OR NULLIF(LTRIM(RTRIM(f.nfse_xml_document)), '') IS NOT NULL
-          OR NULLIF(LTRIM(RTRIM(f.nfse_integration_id)), '') IS NOT NULL THEN f.nfse_xml_document
+          OR f.nfse_xml_document_gz IS NOT NULL
+          OR NULLIF(LTRIM(RTRIM(f.nfse_integration_id)), '') IS NOT NULL THEN COALESCE(f.nfse_xml_document, CAST(DECOMPRESS(f.nfse_xml_document_gz) AS NVARCHAR(MAX)))
         ELSE NULL
     END AS [Documento Oficial/XML],
     f.servico_em AS [Data frete],
@@ -221,7 +225,7 @@ SELECT
     f.nfse_pdf_service_url AS [NFS-e/PDF],
     f.nfse_corporation_id AS [NFS-e/Filial ID],
     f.nfse_service_description AS [NFS-e/Serviço/Descrição],
-    f.nfse_xml_document AS [NFS-e/XML],
+    COALESCE(f.nfse_xml_document, CAST(DECOMPRESS(f.nfse_xml_document_gz) AS NVARCHAR(MAX))) AS [NFS-e/XML],
     f.insurance_id AS [Seguro ID],
     f.other_fees AS [Outras Tarifas],
     f.km AS [KM],
@@ -238,7 +242,7 @@ SELECT
     END AS [Tipo Globalizado],
     f.price_table_accountable_type AS [Tipo Contábil Tabela],
     f.insurance_accountable_type AS [Tipo Contábil Seguro],
-    f.metadata AS [Metadata],
+    COALESCE(f.metadata, CAST(DECOMPRESS(f.metadata_gz) AS NVARCHAR(MAX))) AS [Metadata],
     f.data_extracao AS [Data de extracao]
 FROM dbo.fretes AS f
 LEFT JOIN dbo.localizacao_cargas AS lc
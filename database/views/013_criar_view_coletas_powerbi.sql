@@ -61,7 +61,7 @@ SELECT
     c.last_occurrence AS [Última Ocorrência],
     c.acao_ocorrencia AS [Ação da Ocorrência],
     c.numero_tentativas AS [Nº Tentativas],
-    c.metadata AS [Metadata],
+    COALESCE(c.metadata, CAST(DECOMPRESS(c.metadata_gz) AS NVARCHAR(MAX))) AS [Metadata],
     c.data_extracao AS [Data de extracao]
 FROM dbo.coletas c
 LEFT JOIN dbo.manifestos m
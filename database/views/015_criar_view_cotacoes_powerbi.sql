@@ -95,7 +95,7 @@ SELECT
 
     price_table                                     AS [Tabela],
     operation_type                                  AS [Tipo de operação],
-    metadata                                        AS [Metadata],
+    COALESCE(metadata, CAST(DECOMPRESS(metadata_gz) AS NVARCHAR(MAX))) AS [Metadata],
 
     -- =============================================
     -- 6. STATUS E REFINAMENTOS
@@ -37,7 +37,7 @@ SELECT
          WHEN reconciliado = 0 THEN 'Não conciliado'
          ELSE NULL
     END AS [Conciliado],
-    metadata AS [Metadata],
+    COALESCE(metadata, CAST(DECOMPRESS(metadata_gz) AS NVARCHAR(MAX))) AS [Metadata],
     data_extracao AS [Data de extracao]
 FROM dbo.contas_a_pagar
 WHERE COALESCE(excluido_na_origem, 0) = 0;
@@ -44,7 +44,7 @@ SELECT
     lc.origin_branch_nickname AS [Filial Origem], -- CHECK
     lc.fit_fln_cln_nickname AS [Localização Atual],
     lc.localizacao_hash AS [Hash Localização],
-    lc.metadata AS [Metadata], -- Dados brutos do JSON...
+    COALESCE(lc.metadata, CAST(DECOMPRESS(lc.metadata_gz) AS NVARCHAR(MAX))) AS [Metadata], -- Dados brutos do JSON...
     lc.data_extracao AS [Data de extracao] -- Dados da extracao...
 FROM dbo.localizacao_cargas lc
 LEFT JOIN dbo.localizacao_cargas_regiao_destino_alias regiao_alias
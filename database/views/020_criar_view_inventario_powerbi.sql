@@ -51,7 +51,7 @@ SELECT
         WHEN i.flag_comprovante_anexado = 1 THEN N'Sim'
         ELSE N'Não'
     END AS [Comprovante Anexado],
-    i.metadata AS [Metadata],
+    COALESCE(i.metadata, CAST(DECOMPRESS(i.metadata_gz) AS NVARCHAR(MAX))) AS [Metadata],
     i.data_extracao AS [Data de extracao]
 FROM dbo.inventario AS i
 LEFT JOIN dbo.fretes AS f
@@ -44,7 +44,7 @@ SELECT
         WHEN 'redelivery_without_freight_charge' THEN 'redespacho sem cobrança de frete'
         ELSE solution_type
     END AS [Tratativa/Solução],
-    metadata AS [Metadata],
+    COALESCE(metadata, CAST(DECOMPRESS(metadata_gz) AS NVARCHAR(MAX))) AS [Metadata],
     data_extracao AS [Data de extracao]
 FROM dbo.sinistros
 WHERE COALESCE(excluido_na_origem, 0) = 0;
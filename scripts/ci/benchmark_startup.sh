@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+# Mede o tempo de inicializacao dos comandos leves do JAR empacotado, com e sem o arquivo AppCDS
+# gerado por: mvn -Pstartup-cds verify
+# Uso: scripts/ci/benchmark_startup.sh [repeticoes]
+
+ROOT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")/../.." && pwd)"
+cd "$ROOT_DIR"
+
+REPETICOES="${1:-10}"
+JAR_PATH="target/extrator.jar"
+CDS_PATH="target/extrator.jsa"
+if [[ ! -f "$JAR_PATH" ]]; then
+  echo "ERRO: JAR nao encontrado em $JAR_PATH" >&2
+  exit 1
+fi
+
+JAVA_BIN="java"
+if [[ -n "${JAVA_HOME:-}" && -x "${JAVA_HOME}/bin/java" ]]; then
+  JAVA_BIN="${JAVA_HOME}/bin/java"
+fi
+
+BENCH_DIR="target/ci/startup-benchmark"
+rm -rf "$BENCH_DIR"
+mkdir -p "$BENCH_DIR"
+BASE_OPTS=("-DETL_BASE_DIR=$BENCH_DIR" "-Detl.base.dir=$BENCH_DIR" "-Dextrator.security.db.path=$BENCH_DIR/users.db")
+
+mediana_ms() {
+  local -a tempos=()
+  local inicio fim
+  for ((i = 0; i < REPETICOES; i++)); do
+    inicio=$(date +%s%N)
+    "$JAVA_BIN" "$@" >/dev/null 2>&1 || true
+    fim=$(date +%s%N)
+    tempos+=($(((fim - inicio) / 1000000)))
+  done
+  printf '%s\n' "${tempos[@]}" | sort -n | awk '{v[NR] = $1} END {print v[int((NR + 1) / 2)]}'
+}
+
+printf '%-24s %12s %12s\n' "comando" "sem_cds_ms" "com_cds_ms"
+for comando in --ajuda --loop-daemon-status --auth-info; do
+  sem_cds=$(mediana_ms "${BASE_OPTS[@]}" -Xshare:auto -jar "$JAR_PATH" "$comando")
+  com_cds="-"
+  if [[ -f "$CDS_PATH" ]]; then
+    com_cds=$(mediana_ms "${BASE_OPTS[@]}" "-XX:SharedArchiveFile=$CDS_PATH" -jar "$JAR_PATH" "$comando")
+  fi
+  printf '%-24s %12s %12s\n' "$comando" "$sem_cds" "$com_cds"
+done
+
+if [[ ! -f "$CDS_PATH" ]]; then
+  echo "[benchmark] $CDS_PATH ausente: gere com 'mvn -Pstartup-cds verify' para comparar."
+fi
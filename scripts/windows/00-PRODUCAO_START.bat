@@ -7,6 +7,7 @@ set "SCRIPT_ROOT=%~dp0"
 for %%I in ("%~dp0..\..") do set "REPO_ROOT=%%~fI"
 pushd "%REPO_ROOT%"
 set "JAVA_BASE_OPTS=--enable-native-access=ALL-UNNAMED "-DETL_BASE_DIR=%REPO_ROOT%" "-Detl.base.dir=%REPO_ROOT%""
+if exist "%REPO_ROOT%\target\extrator.jsa" set "JAVA_BASE_OPTS=%JAVA_BASE_OPTS% "-XX:SharedArchiveFile=%REPO_ROOT%\target\extrator.jsa""
 set "JAR_PATH=%REPO_ROOT%\target\extrator.jar"
 set "BASICS_READY=0"
 set "STARTUP_READY=0"
@@ -30,6 +30,7 @@ set "SCRIPT_DIR=%~dp0"
 for %%I in ("%SCRIPT_DIR%.") do set "SCRIPT_DIR=%%~fI"
 for %%I in ("%SCRIPT_DIR%\..\..") do set "REPO_ROOT=%%~fI"
 set "JAVA_BASE_OPTS=--enable-native-access=ALL-UNNAMED "-DETL_BASE_DIR=%REPO_ROOT%" "-Detl.base.dir=%REPO_ROOT%""
+if exist "%REPO_ROOT%\target\extrator.jsa" set "JAVA_BASE_OPTS=%JAVA_BASE_OPTS% "-XX:SharedArchiveFile=%REPO_ROOT%\target\extrator.jsa""
 set "JAR_PATH=%REPO_ROOT%\target\extrator.jar"
 set "LOOP_LOG=%REPO_ROOT%\logs\daemon\runtime\loop_daemon_console.log"
 
@@ -4,6 +4,7 @@ set "SCRIPT_DIR=%~dp0"
 for %%I in ("%SCRIPT_DIR%.") do set "SCRIPT_DIR=%%~fI"
 for %%I in ("%SCRIPT_DIR%\..\..") do set "REPO_ROOT=%%~fI"
 set "JAVA_BASE_OPTS=--enable-native-access=ALL-UNNAMED "-DETL_BASE_DIR=%REPO_ROOT%" "-Detl.base.dir=%REPO_ROOT%""
+if exist "%REPO_ROOT%\target\extrator.jsa" set "JAVA_BASE_OPTS=%JAVA_BASE_OPTS% "-XX:SharedArchiveFile=%REPO_ROOT%\target\extrator.jsa""
 if not defined JAR_PATH set "JAR_PATH=%REPO_ROOT%\target\extrator.jar"
 if not defined MVN_CMD set "MVN_CMD=%REPO_ROOT%\mvn.bat"
 set "EXPORT_DIR=%REPO_ROOT%\runtime\exports"
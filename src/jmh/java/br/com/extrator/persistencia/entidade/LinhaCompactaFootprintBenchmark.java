@@ -0,0 +1,100 @@
+package br.com.extrator.persistencia.entidade;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Heap retido por registro de frete: FreteEntity sobre LinhaCompacta contra um Object[] com um valor boxed por
+ * coluna, que tem o layout das entidades com um campo por coluna. Cada registro recebe instancias novas;
+ * os textos sao compartilhados porque ocupam o mesmo espaco nas duas formas. Leia a media de bytesPorRegistro
+ * (a linha de resumo do JMH soma as iteracoes). ParallelGC: com SerialGC o System.gc() oscila entre iteracoes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-XX:+UseParallelGC", "-Xms1g", "-Xmx1g"})
+public class LinhaCompactaFootprintBenchmark {
+    private static final int REGISTROS = 20_000;
+    private static final LinhaCompacta.Layout LAYOUT = FreteEntity.LAYOUT;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long bytesPorRegistro;
+    }
+
+    @Benchmark
+    public void entidadeComLinhaCompacta(final Footprint footprint) {
+        medir(footprint, registro -> {
+            final FreteEntity frete = new FreteEntity();
+            final LinhaCompacta linha = frete.linhaCompacta();
+            for (int coluna = 0; coluna < LAYOUT.tamanho(); coluna++) {
+                linha.set(coluna, novoValor(coluna, registro));
+            }
+            return frete;
+        });
+    }
+
+    @Benchmark
+    public void camposBoxedPorColuna(final Footprint footprint) {
+        medir(footprint, registro -> {
+            final Object[] campos = new Object[LAYOUT.tamanho()];
+            for (int coluna = 0; coluna < campos.length; coluna++) {
+                campos[coluna] = novoValor(coluna, registro);
+            }
+            return campos;
+        });
+    }
+
+    private static void medir(final Footprint footprint, final IntFunction<Object> fabrica) {
+        final Object[] retidos = new Object[REGISTROS];
+        final long antes = heapUsado();
+        for (int registro = 0; registro < REGISTROS; registro++) {
+            retidos[registro] = fabrica.apply(registro);
+        }
+        footprint.bytesPorRegistro = (heapUsado() - antes) / REGISTROS;
+        // Usa os registros depois da segunda medicao e os solta antes da proxima iteracao.
+        Arrays.fill(retidos, null);
+    }
+
+    /**
+     * Valores no formato que os mappers produzem: ids grandes (fora do cache de Long), decimais com centavos
+     * e datas com offset da API.
+     */
+    private static Object novoValor(final int coluna, final int registro) {
+        return switch (LAYOUT.tipo(coluna)) {
+            case LONG -> Long.valueOf(1_000_000L + registro * 31L + coluna);
+            case INTEIRO -> Integer.valueOf(500 + coluna);
+            case BOOLEANO -> Boolean.valueOf(((registro + coluna) & 1) == 0);
+            case DECIMAL -> BigDecimal.valueOf(123_456L + registro + coluna, 2);
+            case DATA -> LocalDate.of(2026, 10, 1).plusDays(registro % 28);
+            case DATA_HORA -> OffsetDateTime.parse("2026-10-01T08:30:15-03:00").plusMinutes(registro + coluna);
+            case TEXTO -> LAYOUT.colunas().get(coluna);
+        };
+    }
+
+    private static long heapUsado() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
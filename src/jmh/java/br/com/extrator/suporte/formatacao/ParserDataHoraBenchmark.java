@@ -0,0 +1,178 @@
+package br.com.extrator.suporte.formatacao;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import br.com.extrator.suporte.mapeamento.MapperUtil;
+import br.com.extrator.suporte.mapeamento.NumeroUtil;
+
+/**
+ * Parsers de data e numero dos mappers contra as versoes com DateTimeFormatter/DecimalFormat, sobre os valores
+ * de test-environment/datasets e test-environment/wiremock/__files. Rode da raiz do repositorio.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserDataHoraBenchmark {
+    private static final ZoneId ZONA = ZoneId.of("America/Sao_Paulo");
+    private static final DateTimeFormatter[] LEGADO_DATA_HORA = {
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"),
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"),
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"),
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS"),
+        DateTimeFormatter.ofPattern("MM/dd/yyyy HH:mm:ss"),
+        DateTimeFormatter.ofPattern("MM/dd/yyyy HH:mm")
+    };
+    private static final DecimalFormat DECIMAL_FORMAT_LEGADO =
+        new DecimalFormat("#,##0.00", DecimalFormatSymbols.getInstance(Locale.US));
+
+    private final ParserDataHora campo = ParserDataHora.campo("benchmark.data_hora");
+    private String[] datas;
+    private String[] numeros;
+
+    static {
+        DECIMAL_FORMAT_LEGADO.setParseBigDecimal(true);
+    }
+
+    @Setup
+    public void carregarAmostras() {
+        System.setProperty("api.dataexport.timezone", ZONA.getId());
+        final List<String> valores = new ArrayList<>();
+        carregar(Path.of("test-environment", "datasets"), valores);
+        carregar(Path.of("test-environment", "wiremock", "__files"), valores);
+        datas = valores.stream().filter(v -> ParserDataHora.detectar(v.trim()) != null).toArray(String[]::new);
+        numeros = valores.stream().filter(v -> !v.isBlank() && v.chars().allMatch(c -> "0123456789.,-E".indexOf(c) >= 0)).toArray(String[]::new);
+        if (datas.length == 0 || numeros.length == 0) {
+            throw new IllegalStateException("Amostras nao encontradas; rode o benchmark a partir da raiz do repositorio.");
+        }
+    }
+
+    @Benchmark
+    public void dataHoraPorForma(final Blackhole blackhole) {
+        for (final String valor : datas) {
+            blackhole.consume(FormatadorData.parseOffsetDateTime(valor));
+        }
+    }
+
+    @Benchmark
+    public void dataHoraPorFormaMemorizadaNoCampo(final Blackhole blackhole) {
+        for (final String valor : datas) {
+            blackhole.consume(campo.paraOffsetDateTime(valor));
+        }
+    }
+
+    @Benchmark
+    public void dataHoraLegadoComExcecoes(final Blackhole blackhole) {
+        for (final String valor : datas) {
+            blackhole.consume(parseOffsetDateTimeLegado(valor));
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void decimalSemLocale(final Blackhole blackhole) {
+        for (final String valor : numeros) {
+            blackhole.consume(NumeroUtil.parseBigDecimalUS(valor));
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void decimalLegadoDecimalFormatCompartilhado(final Blackhole blackhole) {
+        for (final String valor : numeros) {
+            blackhole.consume(parseBigDecimalLegado(valor));
+        }
+    }
+
+    private static OffsetDateTime parseOffsetDateTimeLegado(final String valorBruto) {
+        final String valor = valorBruto.trim();
+        try {
+            return OffsetDateTime.parse(valor);
+        } catch (final DateTimeParseException ignored) {
+            // proxima tentativa
+        }
+        try {
+            return LocalDateTime.parse(valor).atZone(ZONA).toOffsetDateTime();
+        } catch (final DateTimeParseException ignored) {
+            // proxima tentativa
+        }
+        for (final DateTimeFormatter formatter : LEGADO_DATA_HORA) {
+            try {
+                return LocalDateTime.parse(valor, formatter).atZone(ZONA).toOffsetDateTime();
+            } catch (final DateTimeParseException ignored) {
+                // proxima tentativa
+            }
+        }
+        try {
+            return LocalDate.parse(valor).atStartOfDay(ZONA).toOffsetDateTime();
+        } catch (final DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static BigDecimal parseBigDecimalLegado(final String valor) {
+        synchronized (DECIMAL_FORMAT_LEGADO) {
+            try {
+                return (BigDecimal) DECIMAL_FORMAT_LEGADO.parse(valor.replace(",", ""));
+            } catch (final ParseException e) {
+                return null;
+            }
+        }
+    }
+
+    private static void carregar(final Path diretorio, final List<String> valores) {
+        if (!Files.isDirectory(diretorio)) {
+            return;
+        }
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            for (final Path arquivo : arquivos.filter(p -> p.toString().endsWith(".json")).sorted().toList()) {
+                coletarTextos(MapperUtil.sharedJson().readTree(arquivo.toFile()), valores);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void coletarTextos(final JsonNode no, final List<String> valores) {
+        if (no.isTextual()) {
+            valores.add(no.asText());
+        } else if (no.isContainerNode()) {
+            no.forEach(filho -> coletarTextos(filho, valores));
+        }
+    }
+}
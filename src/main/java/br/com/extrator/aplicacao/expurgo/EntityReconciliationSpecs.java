@@ -13,11 +13,13 @@ import br.com.extrator.integracao.constantes.ConstantesApiDataExport;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
 
 public final class EntityReconciliationSpecs {
-    private static final Map<String, EntityReconciliationSpec> DATAEXPORT_SPECS = criarSpecsDataExport();
+    // Com etl.payload.compressao.enabled so metadata_gz e gravado.
+    private static final String METADATA_TEXTO =
+        "COALESCE(base.metadata, CAST(DECOMPRESS(base.metadata_gz) AS NVARCHAR(MAX)))";
     private static final String TEMPORAL_FATURAS_POR_CLIENTE = """
         COALESCE(
-            TRY_CONVERT(date, CASE WHEN ISJSON(base.metadata) = 1 THEN JSON_VALUE(base.metadata, '$.service_at') END),
-            TRY_CONVERT(date, CASE WHEN ISJSON(base.metadata) = 1 THEN JSON_VALUE(base.metadata, '$.service_date') END),
+            TRY_CONVERT(date, CASE WHEN ISJSON(%1$s) = 1 THEN JSON_VALUE(%1$s, '$.service_at') END),
+            TRY_CONVERT(date, CASE WHEN ISJSON(%1$s) = 1 THEN JSON_VALUE(%1$s, '$.service_date') END),
             (
                 SELECT TOP (1) COALESCE(f.service_date, CONVERT(date, f.servico_em))
                   FROM dbo.fretes f
@@ -30,17 +32,19 @@ public final class EntityReconciliationSpecs {
             TRY_CONVERT(date, base.fit_ant_issue_date),
             CONVERT(date, base.data_extracao)
         )
-        """;
+        """.formatted(METADATA_TEXTO);
     private static final String TEMPORAL_MANIFESTOS = """
         COALESCE(
-            TRY_CONVERT(date, CASE WHEN ISJSON(base.metadata) = 1 THEN JSON_VALUE(base.metadata, '$.service_date') END),
+            TRY_CONVERT(date, CASE WHEN ISJSON(%1$s) = 1 THEN JSON_VALUE(%1$s, '$.service_date') END),
             TRY_CONVERT(date, base.created_at),
             TRY_CONVERT(date, base.departured_at),
             TRY_CONVERT(date, base.closed_at),
             TRY_CONVERT(date, base.finished_at),
             CONVERT(date, base.data_extracao)
         )
-        """;
+        """.formatted(METADATA_TEXTO);
+    // Depois dos TEMPORAL_*: com formatted() eles deixam de ser constantes e sao inicializados em ordem.
+    private static final Map<String, EntityReconciliationSpec> DATAEXPORT_SPECS = criarSpecsDataExport();
 
     private EntityReconciliationSpecs() {
     }
@@ -0,0 +1,196 @@
+package br.com.extrator.aplicacao.extracao;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.extrator.observabilidade.LogStoragePaths;
+import br.com.extrator.plataforma.auditoria.dominio.ExecutionAuditRecord;
+import br.com.extrator.suporte.configuracao.ConfigEtl;
+
+/**
+ * Cadencia do loop daemon por entidade, guiada pelo rendimento recente (registros inseridos/atualizados).
+ * Entidades sem alteracao recuam exponencialmente ate o teto; alteracao ou falha devolve a entidade a todo
+ * ciclo. Toda entidade roda ao menos uma vez por dia.
+ */
+final class CadenciaAdaptativaEntidades {
+    private static final Logger logger = LoggerFactory.getLogger(CadenciaAdaptativaEntidades.class);
+    private static final Path ARQUIVO_PADRAO = LogStoragePaths.RUNTIME_STATE_DIR.resolve("entity_cadence.properties");
+    private static final int EXPOENTE_MAXIMO = 16;
+
+    record Estado(int ciclosOciosos, LocalDateTime ultimaExecucao, LocalDateTime proximaExecucao) {
+    }
+
+    private final Path arquivo;
+    private final Duration intervaloBase;
+    private final Duration teto;
+    private final Set<String> entidadesFixas;
+
+    CadenciaAdaptativaEntidades(final Path arquivo,
+                                final Duration intervaloBase,
+                                final Duration teto,
+                                final Set<String> entidadesFixas) {
+        this.arquivo = arquivo;
+        this.intervaloBase = intervaloBase;
+        this.teto = teto;
+        this.entidadesFixas = Set.copyOf(entidadesFixas);
+    }
+
+    static CadenciaAdaptativaEntidades padrao() {
+        return new CadenciaAdaptativaEntidades(
+            ARQUIVO_PADRAO,
+            Duration.ofMinutes(ConfigEtl.obterIntervaloMinutosDaemon()),
+            ConfigEtl.obterCadenciaAdaptativaTeto(),
+            ConfigEtl.obterCadenciaAdaptativaEntidadesFixas()
+        );
+    }
+
+    /**
+     * Entidades que podem pular o ciclo iniciado em {@code agora}.
+     */
+    Set<String> planejarAdiadas(final Collection<String> entidades, final LocalDateTime agora) {
+        final Map<String, Estado> estados = carregar();
+        final Set<String> adiadas = new LinkedHashSet<>();
+        for (final String entidade : entidades) {
+            final Estado estado = estados.get(entidade);
+            if (entidadesFixas.contains(entidade) || estado == null) {
+                continue;
+            }
+            final boolean passagemDiariaFeita = estado.ultimaExecucao().toLocalDate().equals(agora.toLocalDate());
+            if (passagemDiariaFeita && agora.isBefore(estado.proximaExecucao())) {
+                adiadas.add(entidade);
+            }
+        }
+        return Set.copyOf(adiadas);
+    }
+
+    /**
+     * @param inicioCiclo inicio do ciclo em que as entidades rodaram
+     * @param rendimentos registros alterados por entidade; ausencia indica falha ou rendimento desconhecido
+     */
+    void registrarCiclo(final Collection<String> executadas,
+                        final Map<String, Integer> rendimentos,
+                        final LocalDateTime inicioCiclo) {
+        final Map<String, Estado> estados = carregar();
+        for (final String entidade : executadas) {
+            final Integer rendimento = rendimentos.get(entidade);
+            final Estado anterior = estados.get(entidade);
+            final int ciclosOciosos = rendimento != null && rendimento == 0
+                ? (anterior == null ? 0 : anterior.ciclosOciosos()) + 1
+                : 0;
+            estados.put(entidade, new Estado(ciclosOciosos, inicioCiclo, inicioCiclo.plus(atraso(ciclosOciosos))));
+        }
+        gravar(estados);
+    }
+
+    Optional<Estado> estado(final String entidade) {
+        return Optional.ofNullable(carregar().get(entidade));
+    }
+
+    /**
+     * Ociosidade n espera 2^(n-1) intervalos, com meio intervalo de folga para absorver a duracao do ciclo.
+     */
+    Duration atraso(final int ciclosOciosos) {
+        if (ciclosOciosos <= 0) {
+            return Duration.ZERO;
+        }
+        final Duration atraso = intervaloBase
+            .multipliedBy(1L << Math.min(ciclosOciosos - 1, EXPOENTE_MAXIMO))
+            .minus(intervaloBase.dividedBy(2));
+        return atraso.compareTo(teto) > 0 ? teto : atraso;
+    }
+
+    /**
+     * Registros realmente inseridos ou atualizados por entidade no run: operacoes confirmadas menos no-op
+     * (linhas inalteradas pelo hash_linha, refresh de data_extracao e confirmacoes do staging).
+     * db_persistidos nao serve: conta esses no-op como linhas afetadas. So entram execucoes completas e confirmaveis.
+     */
+    static Map<String, Integer> resolverRendimentos(final List<ExecutionAuditRecord> auditoria) {
+        final Map<String, ExecutionAuditRecord> maisRecentes = new LinkedHashMap<>();
+        if (auditoria != null) {
+            for (final ExecutionAuditRecord registro : auditoria) {
+                if (registro == null || registro.entidade() == null) {
+                    continue;
+                }
+                maisRecentes.merge(registro.entidade(), registro, (atual, candidato) ->
+                    candidato.finishedAt() != null
+                        && (atual.finishedAt() == null || candidato.finishedAt().isAfter(atual.finishedAt()))
+                        ? candidato
+                        : atual
+                );
+            }
+        }
+        final Map<String, Integer> rendimentos = new LinkedHashMap<>();
+        maisRecentes.forEach((entidade, registro) -> {
+            if (registro.apiCompleta() && registro.isStatusConfirmavel()) {
+                rendimentos.put(entidade, Math.max(0, registro.dbUpserts() - registro.noopCount()));
+            }
+        });
+        return rendimentos;
+    }
+
+    private Map<String, Estado> carregar() {
+        final Map<String, Estado> estados = new LinkedHashMap<>();
+        if (!Files.isRegularFile(arquivo)) {
+            return estados;
+        }
+        final Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(arquivo)) {
+            props.load(in);
+        } catch (final IOException e) {
+            logger.warn("Falha ao ler estado da cadencia adaptativa {}: {}", arquivo, e.getMessage());
+            return estados;
+        }
+        for (final String chave : props.stringPropertyNames()) {
+            if (!chave.endsWith(".ciclos_ociosos")) {
+                continue;
+            }
+            final String entidade = chave.substring(0, chave.length() - ".ciclos_ociosos".length());
+            try {
+                estados.put(entidade, new Estado(
+                    Integer.parseInt(props.getProperty(chave).trim()),
+                    LocalDateTime.parse(Objects.requireNonNull(props.getProperty(entidade + ".ultima_execucao")).trim()),
+                    LocalDateTime.parse(Objects.requireNonNull(props.getProperty(entidade + ".proxima_execucao")).trim())
+                ));
+            } catch (final NumberFormatException | DateTimeParseException | NullPointerException e) {
+                // Estado invalido apenas devolve a entidade a todo ciclo.
+                logger.debug("Estado de cadencia invalido ignorado para {}: {}", entidade, e.getMessage());
+            }
+        }
+        return estados;
+    }
+
+    private void gravar(final Map<String, Estado> estados) {
+        final Properties props = new Properties();
+        estados.forEach((entidade, estado) -> {
+            props.setProperty(entidade + ".ciclos_ociosos", Integer.toString(estado.ciclosOciosos()));
+            props.setProperty(entidade + ".ultima_execucao", estado.ultimaExecucao().toString());
+            props.setProperty(entidade + ".proxima_execucao", estado.proximaExecucao().toString());
+        });
+        try {
+            Files.createDirectories(arquivo.getParent());
+            try (OutputStream out = Files.newOutputStream(arquivo)) {
+                props.store(out, "Cadencia adaptativa do loop daemon por entidade");
+            }
+        } catch (final IOException e) {
+            logger.warn("Falha ao gravar estado da cadencia adaptativa {}: {}", arquivo, e.getMessage());
+        }
+    }
+}
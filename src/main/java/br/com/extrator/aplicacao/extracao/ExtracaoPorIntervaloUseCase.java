@@ -17,6 +17,8 @@ Fluxo geral:
 1) executar() recebe request (datas, filtros, flags).
 2) Valida limites de extracao por entidade e divide periodo em blocos (30 dias).
 3) Para cada bloco: cria steps, orquestra pipeline, valida volume e integridade.
+   Com etl.intervalo.blocos.paralelismo > 1, blocos rodam em paralelo e o progresso e persistido
+   para retomar execucoes interrompidas.
 4) Coleta falhas e lanca PartialExecutionException se houver falhas parciais.
 
 Estrutura interna:
@@ -24,6 +26,7 @@ Metodos principais:
 - executar(ExtracaoPorIntervaloRequest): ponto de entrada, orquestra blocos.
 - dividirEmBlocos(): subdivide intervalo em blocos de ate 30 dias.
 - validarLimitesParaBloco(): verifica limite de extracao (horas) por entidade.
+- executarBloco(): executa e valida um bloco.
 - registrarResultadosBloco(): coleta status e falhas do pipeline.
 - validarResultadosCriticosDoBloco(): valida volume e integridade apos execucao.
 Atributos-chave:
@@ -33,6 +36,7 @@ Atributos-chave:
 [DOC-FILE-END]============================================================== */
 package br.com.extrator.aplicacao.extracao;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -42,6 +46,12 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import br.com.extrator.aplicacao.contexto.AplicacaoContexto;
 import br.com.extrator.aplicacao.portas.ExtractionLogQueryPort;
@@ -54,11 +64,13 @@ import br.com.extrator.aplicacao.pipeline.runtime.StepStatus;
 import br.com.extrator.plataforma.auditoria.aplicacao.ExecutionWindowPlanner;
 import br.com.extrator.plataforma.auditoria.dominio.ExecutionPlanContext;
 import br.com.extrator.plataforma.auditoria.dominio.ExecutionWindowPlan;
+import br.com.extrator.suporte.configuracao.ConfigBanco;
 import br.com.extrator.suporte.configuracao.ConfigEtl;
 import br.com.extrator.suporte.banco.SqlServerExecutionLockManager;
 import br.com.extrator.suporte.console.BannerUtil;
 import br.com.extrator.suporte.console.LoggerConsole;
 import br.com.extrator.suporte.formatacao.FormatadorData;
+import br.com.extrator.suporte.observabilidade.ExecutionContext;
 import br.com.extrator.suporte.configuracao.ScopedSystemPropertyOverride;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
 
@@ -78,9 +90,14 @@ public class ExtracaoPorIntervaloUseCase {
     private static final long TIMEOUT_FRETES_INTERVALO_MS = 10_800_000L;
     private static final LoggerConsole log = LoggerConsole.getLogger(ExtracaoPorIntervaloUseCase.class);
     private static final int TAMANHO_BLOCO_DIAS = 30;
+    /** Conexoes que um bloco ocupa no pool do processo (steps do pipeline + consultas de log/integridade). */
+    private static final int CONEXOES_POR_BLOCO = 2;
+    /** Steps simultaneos por bloco: o PipelineOrchestrator roda o par graphql + dataexport em paralelo. */
+    private static final int STEPS_SIMULTANEOS_POR_BLOCO = 2;
     private final PreBackfillReferencialColetasUseCase preBackfillReferencialColetasUseCase;
     private final PlanejadorEscopoExtracaoIntervalo planejadorEscopo;
     private final ExecutionLockManager executionLockManager;
+    private final Path diretorioProgresso;
 
     public ExtracaoPorIntervaloUseCase() {
         this(
@@ -101,10 +118,25 @@ public class ExtracaoPorIntervaloUseCase {
         final PreBackfillReferencialColetasUseCase preBackfillReferencialColetasUseCase,
         final PlanejadorEscopoExtracaoIntervalo planejadorEscopo,
         final ExecutionLockManager executionLockManager
+    ) {
+        this(
+            preBackfillReferencialColetasUseCase,
+            planejadorEscopo,
+            executionLockManager,
+            ProgressoBlocosIntervalo.DIRETORIO_PADRAO
+        );
+    }
+
+    ExtracaoPorIntervaloUseCase(
+        final PreBackfillReferencialColetasUseCase preBackfillReferencialColetasUseCase,
+        final PlanejadorEscopoExtracaoIntervalo planejadorEscopo,
+        final ExecutionLockManager executionLockManager,
+        final Path diretorioProgresso
     ) {
         this.preBackfillReferencialColetasUseCase = preBackfillReferencialColetasUseCase;
         this.planejadorEscopo = planejadorEscopo;
         this.executionLockManager = executionLockManager;
+        this.diretorioProgresso = diretorioProgresso;
     }
 
     public void executar(final ExtracaoPorIntervaloRequest request) throws Exception {
@@ -227,98 +259,40 @@ public class ExtracaoPorIntervaloUseCase {
         String motivoAbortoColetas = null;
         final List<String> blocosFalhadosLista = new ArrayList<>();
         final List<ResumoEntidadeBloco> resumosEntidades = new ArrayList<>();
+        final ContextoBlocos contexto = new ContextoBlocos(
+            apiEspecifica,
+            entidadeEspecifica,
+            modoLoopDaemon,
+            modoRapido24h,
+            validador,
+            blocos.size()
+        );
+        final int paralelismo = resolverParalelismoBlocos(blocos.size(), modoLoopDaemon);
+        final ProgressoBlocosIntervalo progresso = paralelismo > 1
+            ? ProgressoBlocosIntervalo.para(diretorioProgresso, request)
+            : null;
+        final ExecutorBlocos executorBlocos = new ExecutorBlocos(blocos, contexto, paralelismo, progresso);
 
+        try {
         for (int i = 0; i < blocos.size(); i++) {
             final BlocoPeriodo bloco = blocos.get(i);
             final int numeroBloco = i + 1;
             final int totalBlocos = blocos.size();
+            final ResultadoBloco resultado = executorBlocos.resultado(i);
 
-            log.console("\n" + "=".repeat(60));
-            log.console(
-                "BLOCO {}/{}: {} a {}",
-                numeroBloco,
-                totalBlocos,
-                FormatadorData.formatBR(bloco.dataInicio),
-                FormatadorData.formatBR(bloco.dataFim)
-            );
-            log.console("=".repeat(60));
-
-            final boolean podeExecutar = validarLimitesParaBloco(
-                bloco,
-                validador,
-                apiEspecifica,
-                entidadeEspecifica
-            );
-
-            if (!podeExecutar) {
-                log.warn("Bloco {}/{} bloqueado pelas regras de limitacao. Pulando...", numeroBloco, totalBlocos);
+            if (resultado.retomado()) {
+                log.info("Bloco {}/{} ja concluido em execucao anterior. Retomando dos blocos restantes.", numeroBloco, totalBlocos);
+                blocosCompletos++;
+                continue;
+            }
+            if (resultado.bloqueado()) {
                 blocosFalhados++;
                 blocosFalhadosLista.add("Bloco " + numeroBloco);
                 continue;
             }
+            resumosEntidades.addAll(resultado.resumos());
 
-            log.info("Iniciando extracao do bloco {}/{}...", numeroBloco, totalBlocos);
-            final LocalDateTime inicioExecucaoBloco = LocalDateTime.now();
-            boolean blocoComFalha = false;
-            final List<String> falhasBloco = new ArrayList<>();
-            final PipelineOrchestrator orchestrator = AplicacaoContexto.orchestratorFactory().criar();
-            final List<PipelineStep> steps = planejadorEscopo.criarSteps(
-                apiEspecifica,
-                entidadeEspecifica
-            );
-            final PipelineReport pipelineReport = orchestrator.executar(bloco.dataInicio, bloco.dataFim, steps);
-            blocoComFalha = registrarResultadosBloco(numeroBloco, totalBlocos, pipelineReport, falhasBloco);
-
-            if (!blocoComFalha && !steps.isEmpty()) {
-                log.info("Bloco {}/{} concluido com sucesso via PipelineOrchestrator!", numeroBloco, totalBlocos);
-            }
-
-            executarPosHidratacaoReferencialColetas(
-                bloco.dataInicio,
-                bloco.dataFim,
-                apiEspecifica,
-                entidadeEspecifica,
-                modoLoopDaemon,
-                blocoComFalha,
-                modoRapido24h
-            );
-
-            final LocalDateTime fimExecucaoBloco = LocalDateTime.now();
-            final Map<String, Optional<LogExtracaoInfo>> logsBloco = buscarLogsBloco(
-                inicioExecucaoBloco,
-                fimExecucaoBloco,
-                apiEspecifica,
-                entidadeEspecifica
-            );
-            resumosEntidades.addAll(montarResumoBloco(
-                bloco,
-                numeroBloco,
-                totalBlocos,
-                logsBloco
-            ));
-            final List<String> falhasDeVolume = validarResultadosCriticosDoBloco(
-                bloco,
-                inicioExecucaoBloco,
-                fimExecucaoBloco,
-                apiEspecifica,
-                entidadeEspecifica,
-                modoLoopDaemon,
-                logsBloco
-            );
-            if (!falhasDeVolume.isEmpty()) {
-                blocoComFalha = true;
-                falhasBloco.addAll(falhasDeVolume);
-                log.warn(
-                    "Bloco {}/{} apresentou inconsistencias de volume em entidades criticas:",
-                    numeroBloco,
-                    totalBlocos
-                );
-                for (final String falhaVolume : falhasDeVolume) {
-                    log.warn("   - {}", falhaVolume);
-                }
-            }
-
-            final boolean falhaCriticaColetas = houveFalhaCriticaColetas(pipelineReport, falhasBloco);
+            final boolean falhaCriticaColetas = resultado.falhaCriticaColetas();
             if (falhaCriticaColetas) {
                 falhasCriticasConsecutivasColetas++;
                 log.warn(
@@ -332,15 +306,18 @@ public class ExtracaoPorIntervaloUseCase {
                 falhasCriticasConsecutivasColetas = 0;
             }
 
-            if (blocoComFalha) {
+            if (resultado.comFalha()) {
                 blocosFalhados++;
-                if (falhasBloco.isEmpty()) {
+                if (resultado.falhas().isEmpty()) {
                     blocosFalhadosLista.add("Bloco " + numeroBloco);
                 } else {
-                    blocosFalhadosLista.add("Bloco " + numeroBloco + " (" + String.join(" | ", falhasBloco) + ")");
+                    blocosFalhadosLista.add("Bloco " + numeroBloco + " (" + String.join(" | ", resultado.falhas()) + ")");
                 }
             } else {
                 blocosCompletos++;
+                if (progresso != null) {
+                    progresso.registrarConcluido(bloco.dataInicio, bloco.dataFim);
+                }
             }
 
             if (falhaCriticaColetas && falhasCriticasConsecutivasColetas >= limiteFalhasCriticasColetas) {
@@ -359,6 +336,9 @@ public class ExtracaoPorIntervaloUseCase {
                 break;
             }
         }
+        } finally {
+            executorBlocos.encerrar();
+        }
 
         final LocalDateTime fimExecucao = LocalDateTime.now();
         final long duracaoMinutos = java.time.Duration.between(inicioExecucao, fimExecucao).toMinutes();
@@ -382,6 +362,9 @@ public class ExtracaoPorIntervaloUseCase {
         }
 
         if (blocosFalhados == 0) {
+            if (progresso != null) {
+                progresso.limpar();
+            }
             BannerUtil.exibirBannerSucesso();
             atualizarWatermarkUsuariosSistema(planoUsuariosSistema);
             return;
@@ -473,6 +456,142 @@ public class ExtracaoPorIntervaloUseCase {
         );
     }
 
+    /**
+     * Blocos executados em paralelo: limitado pela configuracao, pelo numero de blocos e pelas conexoes ao banco.
+     * O orcamento da API ja e global (throttling do GerenciadorRequisicaoHttp). O loop daemon continua
+     * sequencial: suas janelas sao curtas e dividem o processo com os demais ciclos.
+     */
+    static int resolverParalelismoBlocos(final int totalBlocos, final boolean modoLoopDaemon) {
+        if (modoLoopDaemon || totalBlocos <= 1) {
+            return 1;
+        }
+        return calcularParalelismoBlocos(
+            totalBlocos,
+            ConfigEtl.obterIntervaloBlocosParalelismo(),
+            ConfigEtl.isIsolamentoProcessoAtivo(),
+            ConfigBanco.obterPoolMaximumSize(),
+            ConfigEtl.obterIntervaloBlocosMaxConexoesBanco()
+        );
+    }
+
+    /**
+     * Com isolamento de processo cada step roda numa JVM filha com seu proprio pool Hikari (mesmo
+     * db.pool.maximum_size), entao um bloco pode abrir ate STEPS_SIMULTANEOS_POR_BLOCO pools inteiros: o limite
+     * vem do orcamento de conexoes do banco. Sem isolamento, os blocos dividem o pool deste processo.
+     */
+    static int calcularParalelismoBlocos(final int totalBlocos,
+                                         final int paralelismoConfigurado,
+                                         final boolean isolamentoProcesso,
+                                         final int poolMaximo,
+                                         final int maxConexoesBanco) {
+        final int limiteConexoes = isolamentoProcesso
+            ? maxConexoesBanco / (STEPS_SIMULTANEOS_POR_BLOCO * poolMaximo)
+            : poolMaximo / CONEXOES_POR_BLOCO;
+        return Math.max(1, Math.min(paralelismoConfigurado, Math.min(totalBlocos, Math.max(1, limiteConexoes))));
+    }
+
+    private ResultadoBloco executarBloco(
+        final BlocoPeriodo bloco,
+        final int numeroBloco,
+        final ContextoBlocos contexto,
+        final boolean concorrente
+    ) throws Exception {
+        final int totalBlocos = contexto.totalBlocos();
+        log.console("\n" + "=".repeat(60));
+        log.console(
+            "BLOCO {}/{}: {} a {}",
+            numeroBloco,
+            totalBlocos,
+            FormatadorData.formatBR(bloco.dataInicio),
+            FormatadorData.formatBR(bloco.dataFim)
+        );
+        log.console("=".repeat(60));
+
+        final boolean podeExecutar = validarLimitesParaBloco(
+            bloco,
+            contexto.validador(),
+            contexto.apiEspecifica(),
+            contexto.entidadeEspecifica()
+        );
+
+        if (!podeExecutar) {
+            log.warn("Bloco {}/{} bloqueado pelas regras de limitacao. Pulando...", numeroBloco, totalBlocos);
+            return ResultadoBloco.bloqueadoPorLimite();
+        }
+
+        log.info("Iniciando extracao do bloco {}/{}...", numeroBloco, totalBlocos);
+        final LocalDateTime inicioExecucaoBloco = LocalDateTime.now();
+        boolean blocoComFalha = false;
+        final List<String> falhasBloco = new ArrayList<>();
+        final PipelineOrchestrator orchestrator = AplicacaoContexto.orchestratorFactory().criar();
+        final List<PipelineStep> steps = planejadorEscopo.criarSteps(
+            contexto.apiEspecifica(),
+            contexto.entidadeEspecifica()
+        );
+        final PipelineReport pipelineReport = orchestrator.executar(bloco.dataInicio, bloco.dataFim, steps);
+        blocoComFalha = registrarResultadosBloco(numeroBloco, totalBlocos, pipelineReport, falhasBloco);
+
+        if (!blocoComFalha && !steps.isEmpty()) {
+            log.info("Bloco {}/{} concluido com sucesso via PipelineOrchestrator!", numeroBloco, totalBlocos);
+        }
+
+        executarPosHidratacaoReferencialColetas(
+            bloco.dataInicio,
+            bloco.dataFim,
+            contexto.apiEspecifica(),
+            contexto.entidadeEspecifica(),
+            contexto.modoLoopDaemon(),
+            blocoComFalha,
+            contexto.modoRapido24h()
+        );
+
+        final LocalDateTime fimExecucaoBloco = LocalDateTime.now();
+        final Map<String, Optional<LogExtracaoInfo>> logsBloco = buscarLogsBloco(
+            bloco,
+            inicioExecucaoBloco,
+            fimExecucaoBloco,
+            contexto.apiEspecifica(),
+            contexto.entidadeEspecifica(),
+            concorrente
+        );
+        final List<ResumoEntidadeBloco> resumos = montarResumoBloco(
+            bloco,
+            numeroBloco,
+            totalBlocos,
+            logsBloco
+        );
+        final List<String> falhasDeVolume = validarResultadosCriticosDoBloco(
+            bloco,
+            inicioExecucaoBloco,
+            fimExecucaoBloco,
+            contexto.apiEspecifica(),
+            contexto.entidadeEspecifica(),
+            contexto.modoLoopDaemon(),
+            logsBloco
+        );
+        if (!falhasDeVolume.isEmpty()) {
+            blocoComFalha = true;
+            falhasBloco.addAll(falhasDeVolume);
+            log.warn(
+                "Bloco {}/{} apresentou inconsistencias de volume em entidades criticas:",
+                numeroBloco,
+                totalBlocos
+            );
+            for (final String falhaVolume : falhasDeVolume) {
+                log.warn("   - {}", falhaVolume);
+            }
+        }
+
+        return new ResultadoBloco(
+            false,
+            false,
+            blocoComFalha,
+            List.copyOf(falhasBloco),
+            resumos,
+            houveFalhaCriticaColetas(pipelineReport, falhasBloco)
+        );
+    }
+
     private List<BlocoPeriodo> dividirEmBlocos(final LocalDate dataInicio, final LocalDate dataFim) {
         final List<BlocoPeriodo> blocos = new ArrayList<>();
         LocalDate inicioBloco = dataInicio;
@@ -593,11 +712,17 @@ public class ExtracaoPorIntervaloUseCase {
         return valor != null && valor.toLowerCase(Locale.ROOT).contains("coletas");
     }
 
+    /**
+     * Com blocos concorrentes a janela de execucao se sobrepoe a de outros blocos; nesse caso o log e
+     * localizado pelo periodo do bloco e so cai na busca por janela quando nao houver correspondencia.
+     */
     private Map<String, Optional<LogExtracaoInfo>> buscarLogsBloco(
+        final BlocoPeriodo bloco,
         final LocalDateTime inicioExecucaoBloco,
         final LocalDateTime fimExecucaoBloco,
         final String apiEspecifica,
-        final String entidadeEspecifica
+        final String entidadeEspecifica,
+        final boolean concorrente
     ) {
         final Map<String, Optional<LogExtracaoInfo>> logsBloco = new LinkedHashMap<>();
         final Set<String> entidadesResumo = planejadorEscopo.determinarEntidadesParaResumo(
@@ -610,18 +735,31 @@ public class ExtracaoPorIntervaloUseCase {
 
         final ExtractionLogQueryPort logQueryPort = AplicacaoContexto.extractionLogQueryPort();
         for (final String entidade : entidadesResumo) {
+            final Optional<LogExtracaoInfo> logPeriodo = concorrente
+                ? logQueryPort.buscarUltimaExtracaoPorPeriodo(entidade, bloco.dataInicio, bloco.dataFim)
+                    .filter(info -> terminouEntre(info, inicioExecucaoBloco, fimExecucaoBloco))
+                : Optional.empty();
             logsBloco.put(
                 entidade,
-                logQueryPort.buscarUltimoLogPorEntidadeNoIntervaloExecucao(
-                    entidade,
-                    inicioExecucaoBloco,
-                    fimExecucaoBloco
-                )
+                logPeriodo.isPresent()
+                    ? logPeriodo
+                    : logQueryPort.buscarUltimoLogPorEntidadeNoIntervaloExecucao(
+                        entidade,
+                        inicioExecucaoBloco,
+                        fimExecucaoBloco
+                    )
             );
         }
         return logsBloco;
     }
 
+    private static boolean terminouEntre(final LogExtracaoInfo info,
+                                         final LocalDateTime inicio,
+                                         final LocalDateTime fim) {
+        final LocalDateTime timestampFim = info.getTimestampFim();
+        return timestampFim != null && !timestampFim.isBefore(inicio) && !timestampFim.isAfter(fim);
+    }
+
     private List<ResumoEntidadeBloco> montarResumoBloco(
         final BlocoPeriodo bloco,
         final int numeroBloco,
@@ -1142,6 +1280,119 @@ public class ExtracaoPorIntervaloUseCase {
         }
     }
 
+    private record ContextoBlocos(
+        String apiEspecifica,
+        String entidadeEspecifica,
+        boolean modoLoopDaemon,
+        boolean modoRapido24h,
+        ValidadorLimiteExtracao validador,
+        int totalBlocos
+    ) {
+    }
+
+    private record ResultadoBloco(
+        boolean retomado,
+        boolean bloqueado,
+        boolean comFalha,
+        List<String> falhas,
+        List<ResumoEntidadeBloco> resumos,
+        boolean falhaCriticaColetas
+    ) {
+        private static ResultadoBloco retomadoDeExecucaoAnterior() {
+            return new ResultadoBloco(true, false, false, List.of(), List.of(), false);
+        }
+
+        private static ResultadoBloco bloqueadoPorLimite() {
+            return new ResultadoBloco(false, true, true, List.of(), List.of(), false);
+        }
+    }
+
+    /**
+     * Entrega os resultados dos blocos na ordem do periodo. Sequencial quando paralelismo = 1; senao o
+     * primeiro bloco pendente roda sozinho (aquece dimensoes compartilhadas como usuarios_sistema e
+     * falha cedo em problemas de credencial) e os demais vao para um pool fixo.
+     */
+    private final class ExecutorBlocos {
+        private final List<BlocoPeriodo> blocos;
+        private final ContextoBlocos contexto;
+        private final int paralelismo;
+        private final ProgressoBlocosIntervalo progresso;
+        private final Map<Integer, Future<ResultadoBloco>> futuros = new LinkedHashMap<>();
+        private ExecutorService pool;
+
+        private ExecutorBlocos(final List<BlocoPeriodo> blocos,
+                               final ContextoBlocos contexto,
+                               final int paralelismo,
+                               final ProgressoBlocosIntervalo progresso) {
+            this.blocos = blocos;
+            this.contexto = contexto;
+            this.paralelismo = paralelismo;
+            this.progresso = progresso;
+            if (progresso != null && progresso.totalConcluidos() > 0) {
+                log.info(
+                    "Progresso anterior encontrado: {} bloco(s) ja concluido(s) serao pulados.",
+                    progresso.totalConcluidos()
+                );
+            }
+        }
+
+        private ResultadoBloco resultado(final int indice) throws Exception {
+            final BlocoPeriodo bloco = blocos.get(indice);
+            if (progresso != null && progresso.concluido(bloco.dataInicio, bloco.dataFim)) {
+                return ResultadoBloco.retomadoDeExecucaoAnterior();
+            }
+            final Future<ResultadoBloco> futuro = futuros.get(indice);
+            if (futuro != null) {
+                try {
+                    return futuro.get();
+                } catch (final ExecutionException e) {
+                    if (e.getCause() instanceof Exception causa) {
+                        throw causa;
+                    }
+                    throw e;
+                }
+            }
+            final ResultadoBloco resultado = executarBloco(bloco, indice + 1, contexto, false);
+            if (paralelismo > 1 && pool == null) {
+                submeterRestantes(indice + 1);
+            }
+            return resultado;
+        }
+
+        private void submeterRestantes(final int primeiroIndice) {
+            log.info("Executando blocos restantes com paralelismo {}.", paralelismo);
+            final AtomicInteger sequencia = new AtomicInteger();
+            pool = Executors.newFixedThreadPool(paralelismo, runnable -> {
+                final Thread thread = new Thread(runnable, "intervalo-bloco-" + sequencia.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            for (int i = primeiroIndice; i < blocos.size(); i++) {
+                final BlocoPeriodo bloco = blocos.get(i);
+                if (progresso != null && progresso.concluido(bloco.dataInicio, bloco.dataFim)) {
+                    continue;
+                }
+                final int numeroBloco = i + 1;
+                futuros.put(i, pool.submit(ExecutionContext.wrapCallable(() -> executarBloco(bloco, numeroBloco, contexto, true))));
+            }
+        }
+
+        /**
+         * Blocos ainda nao iniciados sao cancelados (aborto por falhas consecutivas); os em andamento terminam.
+         */
+        private void encerrar() throws InterruptedException {
+            if (pool == null) {
+                return;
+            }
+            futuros.values().forEach(futuro -> futuro.cancel(false));
+            pool.shutdown();
+            if (!pool.awaitTermination(1, TimeUnit.HOURS)) {
+                log.warn("Blocos em andamento nao terminaram em 1 hora; interrompendo.");
+                pool.shutdownNow();
+            }
+        }
+    }
+
     private static final class BlocoPeriodo {
         private final LocalDate dataInicio;
         private final LocalDate dataFim;
@@ -0,0 +1,43 @@
+package br.com.extrator.aplicacao.extracao;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Fila duravel de replays (api + entidade + dia). Um item arrendado pertence ao dono do lease ate
+ * expirar; apenas o dono conclui, libera ou registra falha, o que torna a drenagem segura entre workers.
+ */
+public interface FilaReplay {
+    record ItemReplay(String api, String entidade, LocalDate data, int prioridade, int tentativas) {
+    }
+
+    boolean isDisponivel();
+
+    /**
+     * Itens existentes mantem tentativas e lease; a prioridade so aumenta.
+     */
+    void enfileirar(Collection<ItemReplay> itens, String origem) throws Exception;
+
+    /**
+     * Arrenda ate {@code limite} dias disponiveis do escopo (api + entidade) mais prioritario, em ordem de data.
+     */
+    List<ItemReplay> arrendar(String dono,
+                              int limite,
+                              LocalDate dataMaxima,
+                              LocalDateTime agora,
+                              Duration lease) throws Exception;
+
+    void concluir(Collection<ItemReplay> itens, String dono) throws Exception;
+
+    void falhar(Collection<ItemReplay> itens,
+                String dono,
+                LocalDateTime proximaTentativa,
+                String erro) throws Exception;
+
+    void liberar(Collection<ItemReplay> itens, String dono) throws Exception;
+
+    List<LocalDate> datasPendentes() throws Exception;
+}
@@ -13,12 +13,13 @@ Conecta com:
 - IntegridadeEtlPort (valida integridade ETL)
 - AplicacaoContexto (obtem portas)
 - RelogioSistema (marca tempo de execucao)
+- CadenciaAdaptativaEntidades (adia entidades sem alteracoes recentes no loop daemon)
 
 Fluxo geral:
 1) executar() orquestra extracao completa da janela principal intradia.
 2) Executa pre-backfill de referencial de coletas (orfaos dinamicos).
 3) Orquestra pipeline (GraphQL + DataExport + Data Quality).
-4) Valida completude (origem x destino), integridade e data quality.
+4) Valida integridade e data quality; completude incremental (dias tocados desde a ultima validacao) como telemetria.
 5) Grava timestamp de ultima execucao bem-sucedida se tudo OK.
 6) Retorna status (SUCCESS, PARTIAL, ERROR, SUCCESS_WITH_ALERT em modo daemon).
 
@@ -42,6 +43,7 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
@@ -54,6 +56,7 @@ import java.util.stream.Collectors;
 
 import br.com.extrator.aplicacao.contexto.AplicacaoContexto;
 import br.com.extrator.aplicacao.pipeline.PipelineOrchestrator;
+import br.com.extrator.aplicacao.portas.CompletudePort;
 import br.com.extrator.aplicacao.portas.ExecutionAuditPort;
 import br.com.extrator.aplicacao.portas.IntegridadeEtlPort;
 import br.com.extrator.aplicacao.pipeline.PipelineReport;
@@ -83,6 +86,16 @@ public class FluxoCompletoUseCase {
     private static final String PROPRIEDADE_ULTIMO_RUN = "last_successful_run";
     private static final String PROP_LOOKBACK_MODO_FRETES = "ETL_FRETES_PERFORMANCE_LOOKBACK_MODO";
     private static final String PROP_PRUNE_AUSENTES_FRETES = "ETL_FRETES_PRUNE_AUSENTES";
+    private static final String PROP_ENTIDADES_ADIADAS = "ETL_CADENCIA_ENTIDADES_ADIADAS";
+    private static final List<String> ENTIDADES_DATAEXPORT = List.of(
+        ConstantesEntidades.MANIFESTOS,
+        ConstantesEntidades.COTACOES,
+        ConstantesEntidades.LOCALIZACAO_CARGAS,
+        ConstantesEntidades.CONTAS_A_PAGAR,
+        ConstantesEntidades.FATURAS_POR_CLIENTE,
+        ConstantesEntidades.INVENTARIO,
+        ConstantesEntidades.SINISTROS
+    );
     private final PreBackfillReferencialColetasUseCase preBackfillReferencialColetasUseCase;
     private final ExecutionLockManager executionLockManager;
 
@@ -104,14 +117,24 @@ public class FluxoCompletoUseCase {
 
     public void executar(final boolean modoLoopDaemon) throws Exception {
         try (AutoCloseable ignored = executionLockManager.acquire(EXECUTION_LOCK_RESOURCE)) {
-        final Map<String, String> overridesTemporarios = modoLoopDaemon
-            ? Map.of(
+        final CadenciaAdaptativaEntidades cadencia = modoLoopDaemon && ConfigEtl.isCadenciaAdaptativaDaemonAtiva()
+            ? CadenciaAdaptativaEntidades.padrao()
+            : null;
+        final Set<String> entidadesAdiadas = cadencia == null
+            ? Set.of()
+            : cadencia.planejarAdiadas(entidadesCadencia(), RelogioSistema.agora());
+        final Map<String, String> overridesTemporarios = new LinkedHashMap<>();
+        overridesTemporarios.put(PROP_PRUNE_AUSENTES_FRETES, Boolean.FALSE.toString());
+        if (modoLoopDaemon) {
+            overridesTemporarios.put(
                 PROP_LOOKBACK_MODO_FRETES,
-                ExtracaoPorIntervaloRequest.ModoExecucao.MICRO_BATCH.modoLookbackFretes(),
-                PROP_PRUNE_AUSENTES_FRETES,
-                Boolean.FALSE.toString()
-            )
-            : Map.of(PROP_PRUNE_AUSENTES_FRETES, Boolean.FALSE.toString());
+                ExtracaoPorIntervaloRequest.ModoExecucao.MICRO_BATCH.modoLookbackFretes()
+            );
+        }
+        if (!entidadesAdiadas.isEmpty()) {
+            // Propagado aos processos filhos isolados, que pulam as entidades adiadas na varredura completa.
+            overridesTemporarios.put(PROP_ENTIDADES_ADIADAS, String.join(",", entidadesAdiadas));
+        }
         try (ScopedSystemPropertyOverride scopedOverride = ScopedSystemPropertyOverride.apply(overridesTemporarios)) {
         BannerUtil.exibirBannerExtracaoCompleta();
 
@@ -154,6 +177,9 @@ public class FluxoCompletoUseCase {
         ExecutionPlanContext.setPlanos(planosExecucao);
         try {
         registrarResumoPlanos(planosExecucao);
+        if (!entidadesAdiadas.isEmpty()) {
+            infoConsole("CADENCIA_ADAPTATIVA | entidades_adiadas={}", String.join(", ", entidadesAdiadas));
+        }
 
         executarPreBackfillReferencialColetas(dataInicioColetas, modoLoopDaemon);
 
@@ -172,7 +198,10 @@ public class FluxoCompletoUseCase {
         int totalFalhas = 0;
 
         final PipelineOrchestrator orchestrator = AplicacaoContexto.orchestratorFactory().criar();
-        final List<PipelineStep> steps = AplicacaoContexto.stepsFactory().criarStepsFluxoCompleto(true);
+        final List<PipelineStep> steps = removerStepsAdiados(
+            AplicacaoContexto.stepsFactory().criarStepsFluxoCompleto(true),
+            entidadesAdiadas
+        );
         log.info("Iniciando fluxo ETL via PipelineOrchestrator com {} steps", steps.size());
 
         final PipelineReport pipelineReport = orchestrator.executar(dataInicioOrquestracao, dataFim, steps);
@@ -211,6 +240,9 @@ public class FluxoCompletoUseCase {
             runnersFalhados.add("ABORTED:" + abortadoPor);
             log.error("Pipeline abortado por failure policy no step {}", abortadoPor);
         }
+        if (cadencia != null) {
+            registrarRendimentoCadencia(cadencia, entidadesAdiadas, executionAuditPort, inicioExecucao);
+        }
 
         log.console("\n" + "=".repeat(60));
         infoConsole("RESUMO DA EXECUCAO DOS RUNNERS");
@@ -251,6 +283,7 @@ public class FluxoCompletoUseCase {
                 ConstantesEntidades.CONTAS_A_PAGAR,
                 ConstantesEntidades.FATURAS_POR_CLIENTE
             ));
+            entidadesEsperadas.removeAll(entidadesAdiadas);
 
             final IntegridadeEtlPort.ResultadoIntegridade resultadoIntegridade =
                 integridadePort.validarExecucao(inicioExecucao, RelogioSistema.agora(), entidadesEsperadas, modoLoopDaemon);
@@ -269,6 +302,7 @@ public class FluxoCompletoUseCase {
             completudeEntidadesTotal = resultadoIntegridade.getTotalEntidades();
             completudeEntidadesNaoOk = resultadoIntegridade.getEntidadesNaoOk();
             integridadeFalhas = resultadoIntegridade.getFalhas().size();
+            registrarCompletudeIncremental();
 
             validacaoFinalCompleta = resultadoIntegridade.isValido() && qualidadeDadosAprovada;
             if (!qualidadeDadosAprovada && (detalheQualidadeDados == null || detalheQualidadeDados.isBlank())) {
@@ -482,6 +516,45 @@ public class FluxoCompletoUseCase {
         return null;
     }
 
+    private List<String> entidadesCadencia() {
+        final List<String> entidades = new ArrayList<>(entidadesResumoPlano());
+        if (ConfigRaster.isHabilitadoParaExecucao()) {
+            entidades.add(ConstantesEntidades.RASTER_VIAGENS);
+        }
+        return entidades;
+    }
+
+    private static List<PipelineStep> removerStepsAdiados(final List<PipelineStep> steps, final Set<String> entidadesAdiadas) {
+        if (entidadesAdiadas.isEmpty()) {
+            return steps;
+        }
+        return steps.stream()
+            .filter(step -> !entidadesAdiadas.contains(step.obterNomeEntidade()))
+            .filter(step -> !"dataexport".equals(step.obterNomeEntidade())
+                || !entidadesAdiadas.containsAll(ENTIDADES_DATAEXPORT))
+            .toList();
+    }
+
+    private void registrarRendimentoCadencia(final CadenciaAdaptativaEntidades cadencia,
+                                             final Set<String> entidadesAdiadas,
+                                             final ExecutionAuditPort executionAuditPort,
+                                             final LocalDateTime inicioCiclo) {
+        final String executionUuid = ExecutionContext.currentExecutionId();
+        final List<String> executadas = entidadesCadencia().stream()
+            .filter(entidade -> !entidadesAdiadas.contains(entidade))
+            .toList();
+        try {
+            // Sem auditoria estruturada o rendimento fica desconhecido e nenhuma entidade recua.
+            final List<ExecutionAuditRecord> auditoria =
+                executionAuditPort == null || !executionAuditPort.isDisponivel() || "n/a".equalsIgnoreCase(executionUuid)
+                    ? List.of()
+                    : executionAuditPort.listarResultados(executionUuid);
+            cadencia.registrarCiclo(executadas, CadenciaAdaptativaEntidades.resolverRendimentos(auditoria), inicioCiclo);
+        } catch (final RuntimeException e) {
+            log.warn("CADENCIA_ADAPTATIVA | falha ao registrar rendimento do ciclo: {}", e.getMessage());
+        }
+    }
+
     private void executarPreBackfillReferencialColetas(final LocalDate dataInicio, final boolean modoLoopDaemon) {
         if (modoLoopDaemon) {
             return;
@@ -673,6 +746,24 @@ public class FluxoCompletoUseCase {
         log.console("[ERRO] " + message, args);
     }
 
+    /**
+     * Telemetria de completude sobre os dias tocados desde a ultima validacao incremental; a decisao do run
+     * continua sendo da validacao de integridade.
+     */
+    private void registrarCompletudeIncremental() {
+        try {
+            final Map<String, CompletudePort.StatusCompletude> resultado =
+                AplicacaoContexto.completudePort().validarCompletudeIncremental();
+            resultado.forEach((entidade, status) -> {
+                if (status != CompletudePort.StatusCompletude.OK) {
+                    log.warn("COMPLETUDE_INCREMENTAL | entidade={} | status={}", entidade, status);
+                }
+            });
+        } catch (final RuntimeException e) {
+            log.warn("COMPLETUDE_INCREMENTAL | validacao indisponivel: {}", e.getMessage());
+        }
+    }
+
     private void atualizarWatermarksConfirmados(final ExecutionAuditPort executionAuditPort,
                                                 final Map<String, ExecutionWindowPlan> planosExecucao) {
         if (executionAuditPort == null || !executionAuditPort.isDisponivel() || planosExecucao == null) {
@@ -0,0 +1,112 @@
+package br.com.extrator.aplicacao.extracao;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.extrator.observabilidade.LogStoragePaths;
+import br.com.extrator.suporte.tempo.RelogioSistema;
+
+/**
+ * Blocos ja concluidos de uma extracao por intervalo, para que uma execucao interrompida retome
+ * apenas os blocos restantes. O arquivo e removido quando o intervalo inteiro conclui sem falhas.
+ */
+final class ProgressoBlocosIntervalo {
+    private static final Logger logger = LoggerFactory.getLogger(ProgressoBlocosIntervalo.class);
+    static final Path DIRETORIO_PADRAO = LogStoragePaths.RUNTIME_STATE_DIR.resolve("interval_backfill");
+
+    private final Path arquivo;
+    private final Properties concluidos = new Properties();
+
+    ProgressoBlocosIntervalo(final Path arquivo) {
+        this.arquivo = arquivo;
+        carregar();
+    }
+
+    /**
+     * Um arquivo por combinacao de periodo, escopo e modo: execucoes diferentes nao compartilham progresso.
+     */
+    static ProgressoBlocosIntervalo para(final Path diretorio, final ExtracaoPorIntervaloRequest request) {
+        final String nome = String.join(
+            "_",
+            "intervalo",
+            request.dataInicio().toString(),
+            request.dataFim().toString(),
+            normalizar(request.apiEspecifica()),
+            normalizar(request.entidadeEspecifica()),
+            request.modoExecucao().name().toLowerCase(Locale.ROOT)
+        ) + ".properties";
+        return new ProgressoBlocosIntervalo(diretorio.resolve(nome));
+    }
+
+    synchronized boolean concluido(final LocalDate inicio, final LocalDate fim) {
+        return concluidos.containsKey(chave(inicio, fim));
+    }
+
+    synchronized int totalConcluidos() {
+        return concluidos.size();
+    }
+
+    synchronized void registrarConcluido(final LocalDate inicio, final LocalDate fim) {
+        concluidos.setProperty(chave(inicio, fim), RelogioSistema.agora().toString());
+        gravar();
+    }
+
+    synchronized void limpar() {
+        concluidos.clear();
+        try {
+            Files.deleteIfExists(arquivo);
+        } catch (final IOException e) {
+            logger.warn("Falha ao remover progresso de blocos {}: {}", arquivo, e.getMessage());
+        }
+    }
+
+    private static String chave(final LocalDate inicio, final LocalDate fim) {
+        return "bloco." + inicio + "_" + fim;
+    }
+
+    private static String normalizar(final String valor) {
+        if (valor == null || valor.isBlank()) {
+            return "todas";
+        }
+        return valor.trim().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
+    }
+
+    private void carregar() {
+        if (!Files.isRegularFile(arquivo)) {
+            return;
+        }
+        try (InputStream in = Files.newInputStream(arquivo)) {
+            concluidos.load(in);
+        } catch (final IOException e) {
+            // Progresso ilegivel apenas reexecuta todos os blocos.
+            logger.warn("Falha ao ler progresso de blocos {}: {}", arquivo, e.getMessage());
+            concluidos.clear();
+        }
+    }
+
+    /**
+     * Grava em arquivo temporario e move: uma interrupcao no meio da escrita nao corrompe o progresso.
+     */
+    private void gravar() {
+        try {
+            Files.createDirectories(arquivo.getParent());
+            final Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(temporario)) {
+                concluidos.store(out, "Blocos concluidos da extracao por intervalo");
+            }
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            logger.warn("Falha ao gravar progresso de blocos {}: {}", arquivo, e.getMessage());
+        }
+    }
+}
@@ -11,7 +11,7 @@ Conecta com:
 
 Fluxo geral:
 1) executar(data, api, entidade) monta ExtracaoPorIntervaloRequest (data = data, modo reconciliacao explicito).
-2) Delega a ExtracaoPorIntervaloUseCase.executar() com intervalo de 1 dia.
+2) Delega a ExtracaoPorIntervaloUseCase.executar() com intervalo de 1 dia (ou dias contiguos da fila de replay).
 3) Retorna CompletableFuture<Void> concluido apenas apos o fluxo delegado encerrar.
 4) Reusa pipeline, validacoes e integridade do fluxo de intervalo.
 
@@ -48,9 +48,19 @@ public class ReconciliacaoUseCase {
     public CompletableFuture<Void> executar(final LocalDate data,
                                             final String api,
                                             final String entidade) {
+        return executar(data, data, api, entidade);
+    }
+
+    /**
+     * Reconcilia dias contiguos de um mesmo escopo em uma unica extracao por intervalo.
+     */
+    public CompletableFuture<Void> executar(final LocalDate dataInicio,
+                                            final LocalDate dataFim,
+                                            final String api,
+                                            final String entidade) {
         final ExtracaoPorIntervaloRequest request = new ExtracaoPorIntervaloRequest(
-            data,
-            data,
+            dataInicio,
+            dataFim,
             api,
             entidade,
             true,
@@ -0,0 +1,121 @@
+package br.com.extrator.aplicacao.materializacao;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Despacha procedures de fato em paralelo respeitando conflitos de leitura/escrita entre elas.
+ * Procedures conflitantes mantem a ordem configurada; as demais ocupam os workers livres.
+ */
+final class FatoMaterializacaoExecutorParalelo {
+    private static final AtomicInteger WORKER_COUNTER = new AtomicInteger();
+
+    private FatoMaterializacaoExecutorParalelo() {
+    }
+
+    static List<FatoMaterializacaoProcedureResultado> executar(
+        final List<FatoMaterializacaoJanela> janelas,
+        final int paralelismo,
+        final Function<FatoMaterializacaoJanela, FatoMaterializacaoProcedureResultado> execucao
+    ) throws InterruptedException {
+        final int workers = Math.min(Math.max(1, paralelismo), janelas.size());
+        if (workers <= 1) {
+            final List<FatoMaterializacaoProcedureResultado> resultados = new ArrayList<>();
+            for (final FatoMaterializacaoJanela janela : janelas) {
+                resultados.add(executarProtegido(janela, execucao));
+            }
+            return resultados;
+        }
+
+        final FatoMaterializacaoProcedureResultado[] resultados = new FatoMaterializacaoProcedureResultado[janelas.size()];
+        final ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            final Thread thread = new Thread(runnable, "fato-materializacao-" + WORKER_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        final CompletionService<Integer> completion = new ExecutorCompletionService<>(executor);
+        final LinkedList<Integer> pendentes = new LinkedList<>();
+        for (int i = 0; i < janelas.size(); i++) {
+            pendentes.add(i);
+        }
+        final Set<Integer> emExecucao = new HashSet<>();
+        try {
+            int concluidas = 0;
+            while (concluidas < janelas.size()) {
+                despacharLiberadas(janelas, pendentes, emExecucao, workers, completion, resultados, execucao);
+                final int indice;
+                try {
+                    indice = completion.take().get();
+                } catch (final ExecutionException e) {
+                    // executarProtegido nao propaga excecao; manter apenas por seguranca.
+                    throw new IllegalStateException("Falha inesperada no despacho de procedures de fato", e.getCause());
+                }
+                emExecucao.remove(indice);
+                concluidas++;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return List.of(resultados);
+    }
+
+    private static void despacharLiberadas(
+        final List<FatoMaterializacaoJanela> janelas,
+        final LinkedList<Integer> pendentes,
+        final Set<Integer> emExecucao,
+        final int workers,
+        final CompletionService<Integer> completion,
+        final FatoMaterializacaoProcedureResultado[] resultados,
+        final Function<FatoMaterializacaoJanela, FatoMaterializacaoProcedureResultado> execucao
+    ) {
+        final List<Integer> bloqueadas = new ArrayList<>();
+        final Iterator<Integer> iterator = pendentes.iterator();
+        while (iterator.hasNext() && emExecucao.size() < workers) {
+            final int indice = iterator.next();
+            final String procedure = janelas.get(indice).procedureName();
+            final boolean conflita = emExecucao.stream()
+                .anyMatch(outro -> FatoMaterializacaoPlanejador.conflitam(procedure, janelas.get(outro).procedureName()))
+                || bloqueadas.stream()
+                .anyMatch(outro -> FatoMaterializacaoPlanejador.conflitam(procedure, janelas.get(outro).procedureName()));
+            if (conflita) {
+                bloqueadas.add(indice);
+                continue;
+            }
+            iterator.remove();
+            emExecucao.add(indice);
+            completion.submit(() -> {
+                resultados[indice] = executarProtegido(janelas.get(indice), execucao);
+                return indice;
+            });
+        }
+    }
+
+    private static FatoMaterializacaoProcedureResultado executarProtegido(
+        final FatoMaterializacaoJanela janela,
+        final Function<FatoMaterializacaoJanela, FatoMaterializacaoProcedureResultado> execucao
+    ) {
+        final Instant inicio = Instant.now();
+        try {
+            return execucao.apply(janela);
+        } catch (final RuntimeException e) {
+            return FatoMaterializacaoProcedureResultado.falha(
+                janela.procedureName(),
+                e,
+                Duration.between(inicio, Instant.now())
+            );
+        }
+    }
+}
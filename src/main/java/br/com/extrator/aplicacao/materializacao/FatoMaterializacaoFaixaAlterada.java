@@ -0,0 +1,20 @@
+package br.com.extrator.aplicacao.materializacao;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Linha de dbo.sys_materializacao_faixa_alterada: faixa de datas de negocio alterada em uma tabela de origem.
+ */
+public record FatoMaterializacaoFaixaAlterada(
+    String tabelaOrigem,
+    LocalDate dataMinima,
+    LocalDate dataMaxima,
+    boolean faixaDesconhecida,
+    long registrosAlterados,
+    LocalDateTime atualizadoEm
+) {
+    public boolean possuiFaixaConhecida() {
+        return !faixaDesconhecida && dataMinima != null && dataMaxima != null;
+    }
+}
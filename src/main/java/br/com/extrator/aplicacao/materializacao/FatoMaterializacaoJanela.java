@@ -0,0 +1,21 @@
+package br.com.extrator.aplicacao.materializacao;
+
+import java.time.LocalDate;
+
+/**
+ * Procedure a executar e a janela passada em @DataInicio/@DataFimExclusivo.
+ * Datas nulas mantem a janela padrao da propria procedure.
+ */
+public record FatoMaterializacaoJanela(
+    String procedureName,
+    LocalDate dataInicio,
+    LocalDate dataFimExclusivo
+) {
+    public static FatoMaterializacaoJanela padrao(final String procedureName) {
+        return new FatoMaterializacaoJanela(procedureName, null, null);
+    }
+
+    public boolean possuiFaixa() {
+        return dataInicio != null && dataFimExclusivo != null;
+    }
+}
@@ -1,14 +1,28 @@
 package br.com.extrator.aplicacao.materializacao;
 
+import java.sql.SQLException;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import br.com.extrator.suporte.configuracao.ConfigEtl;
+import br.com.extrator.suporte.tempo.RelogioSistema;
+
 public class FatoMaterializacaoJob {
     private static final Logger logger = LoggerFactory.getLogger(FatoMaterializacaoJob.class);
+    /**
+     * Primeira execucao do dia no processo roda ao menos a janela padrao de todas as procedures,
+     * recalculando atributos que dependem da data atual (ex.: vencimento) mesmo sem alteracao na origem.
+     */
+    private static final AtomicReference<LocalDate> ULTIMA_REVARREDURA_PADRAO = new AtomicReference<>();
 
     private final FatoMaterializacaoRepository repository;
 
@@ -22,20 +36,67 @@ public class FatoMaterializacaoJob {
 
     public FatoMaterializacaoResumo executar(final List<String> procedures,
                                              final int timeoutSegundos) throws Exception {
+        return executar(procedures, timeoutSegundos, ConfigEtl.obterMaterializacaoFatosBiParalelismo());
+    }
+
+    public FatoMaterializacaoResumo executar(final List<String> procedures,
+                                             final int timeoutSegundos,
+                                             final int paralelismo) throws Exception {
         final Instant inicio = Instant.now();
-        logger.info("Iniciando materializacao de fatos BI | procedures={}", procedures);
-        final List<FatoMaterializacaoProcedureResultado> resultados =
-            repository.executarProcedures(procedures, timeoutSegundos);
+        logger.info("Iniciando materializacao de fatos BI | procedures={} | paralelismo={}", procedures, paralelismo);
+        final LocalDate hoje = RelogioSistema.hoje();
+        final boolean revarreduraDiaria = !hoje.equals(ULTIMA_REVARREDURA_PADRAO.get());
+        final Optional<Map<String, FatoMaterializacaoFaixaAlterada>> faixas = carregarFaixasAlteradas();
+        final FatoMaterializacaoPlanejador.Plano plano = faixas
+            .map(mapa -> FatoMaterializacaoPlanejador.planejar(procedures, mapa, revarreduraDiaria, hoje))
+            .orElseGet(() -> new FatoMaterializacaoPlanejador.Plano(
+                procedures.stream().map(FatoMaterializacaoJanela::padrao).toList(),
+                List.of()
+            ));
+        plano.janelas().stream()
+            .filter(FatoMaterializacaoJanela::possuiFaixa)
+            .forEach(janela -> logger.info(
+                "Materializacao incremental | procedure={} | data_inicio={} | data_fim_exclusivo={}",
+                janela.procedureName(),
+                janela.dataInicio(),
+                janela.dataFimExclusivo()
+            ));
+        if (!plano.ignoradas().isEmpty()) {
+            logger.info("Procedures sem alteracao nas tabelas de origem ignoradas | procedures={}", plano.ignoradas());
+        }
+
+        final List<FatoMaterializacaoProcedureResultado> executadas =
+            repository.executarProcedures(plano.janelas(), timeoutSegundos, paralelismo);
+        final List<FatoMaterializacaoProcedureResultado> resultados = new ArrayList<>(executadas);
+        plano.ignoradas().forEach(procedure -> resultados.add(FatoMaterializacaoProcedureResultado.ignorada(procedure)));
+        if (faixas.isPresent()) {
+            confirmarFaixasConsumidas(faixas.get(), resultados);
+        }
+        if (revarreduraDiaria && resultados.stream().allMatch(FatoMaterializacaoProcedureResultado::sucesso)) {
+            ULTIMA_REVARREDURA_PADRAO.set(hoje);
+        }
         final FatoMaterializacaoResumo resumo =
             new FatoMaterializacaoResumo(resultados, Duration.between(inicio, Instant.now()));
 
+        for (final FatoMaterializacaoProcedureResultado resultado : executadas) {
+            logger.info(
+                "Procedure de fato concluida | procedure={} | sucesso={} | inseridas={} | atualizadas={} | duracao_ms={}",
+                resultado.procedureName(),
+                resultado.sucesso(),
+                resultado.linhasInseridas(),
+                resultado.linhasAtualizadas(),
+                resultado.duracao().toMillis()
+            );
+        }
         logger.info(
-            "Materializacao de fatos BI concluida | procedures={} | falhas={} | inseridas={} | atualizadas={} | duracao_ms={}",
+            "Materializacao de fatos BI concluida | procedures={} | falhas={} | inseridas={} | atualizadas={} | duracao_ms={} | soma_procedures_ms={} | mais_lenta={}",
             resultados.size(),
             resumo.totalProceduresFalhas(),
             resumo.totalLinhasInseridas(),
             resumo.totalLinhasAtualizadas(),
-            resumo.duracao().toMillis()
+            resumo.duracao().toMillis(),
+            resumo.duracaoSomadaProcedures().toMillis(),
+            resumo.procedureMaisLenta().map(FatoMaterializacaoProcedureResultado::procedureName).orElse("-")
         );
         if (resumo.houveFalha()) {
             logger.warn(
@@ -47,4 +108,26 @@ public class FatoMaterializacaoJob {
         }
         return resumo;
     }
+
+    private Optional<Map<String, FatoMaterializacaoFaixaAlterada>> carregarFaixasAlteradas() {
+        try {
+            return repository.carregarFaixasAlteradas();
+        } catch (final SQLException e) {
+            logger.warn("Falha ao ler faixas alteradas; executando janela padrao de todas as procedures: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void confirmarFaixasConsumidas(final Map<String, FatoMaterializacaoFaixaAlterada> faixas,
+                                           final List<FatoMaterializacaoProcedureResultado> resultados) {
+        final List<FatoMaterializacaoFaixaAlterada> consumidas =
+            FatoMaterializacaoPlanejador.faixasConsumidas(faixas.values(), resultados);
+        try {
+            final int removidas = repository.confirmarFaixasConsumidas(consumidas);
+            logger.debug("Faixas alteradas consumidas: {}/{}", removidas, faixas.size());
+        } catch (final SQLException e) {
+            // Faixas mantidas sao reprocessadas na proxima execucao; o custo e apenas refazer a janela.
+            logger.warn("Falha ao confirmar faixas alteradas consumidas: {}", e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,171 @@
+package br.com.extrator.aplicacao.materializacao;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import br.com.extrator.suporte.validacao.ConstantesEntidades;
+
+/**
+ * Decide, a partir das faixas alteradas nas tabelas de origem, quais procedures de fato executar e com qual janela.
+ */
+final class FatoMaterializacaoPlanejador {
+    /** Margem contra diferenca de fuso entre DATETIMEOFFSET da origem e o filtro DATE das procedures. */
+    private static final int MARGEM_DIAS = 1;
+    /** Janela padrao das procedures (3 dias) com a mesma margem de fuso. */
+    private static final int DIAS_JANELA_PADRAO = 3;
+
+    /**
+     * Tabelas lidas por cada procedure. Valor true quando o filtro @DataInicio/@DataFimExclusivo
+     * recai sobre as mesmas datas registradas para a tabela; false quando a tabela so entra por join
+     * e uma alteracao nela so e coberta pela janela padrao.
+     */
+    private static final Map<String, Map<String, Boolean>> FONTES = Map.of(
+        "sp_carga_fato_gestao_vista_fretes", Map.of(
+            ConstantesEntidades.FRETES, true,
+            ConstantesEntidades.LOCALIZACAO_CARGAS, true
+        ),
+        "sp_carga_fato_gestao_vista_coletores", Map.of(
+            ConstantesEntidades.MANIFESTOS, true,
+            ConstantesEntidades.INVENTARIO, true,
+            ConstantesEntidades.FRETES, false
+        ),
+        "sp_carga_fato_fretes_faturamento", Map.of(
+            ConstantesEntidades.FRETES, true,
+            ConstantesEntidades.LOCALIZACAO_CARGAS, false,
+            ConstantesEntidades.FATURAS_POR_CLIENTE, false
+        ),
+        "sp_carga_fato_gestao_vista_faturas", Map.of(
+            ConstantesEntidades.FATURAS_POR_CLIENTE, true
+        ),
+        "sp_carga_fato_gestao_vista_manifestos", Map.of(
+            ConstantesEntidades.MANIFESTOS, true,
+            ConstantesEntidades.COLETAS, false,
+            ConstantesEntidades.FRETES, false
+        )
+    );
+
+    /** Tabela de fato gravada por cada procedure (MERGE protegido por sp_getapplock proprio). */
+    private static final Map<String, String> DESTINOS = Map.of(
+        "sp_carga_fato_gestao_vista_fretes", "fato_gestao_vista_fretes",
+        "sp_carga_fato_gestao_vista_coletores", "fato_gestao_vista_coletores",
+        "sp_carga_fato_fretes_faturamento", "fato_fretes_faturamento",
+        "sp_carga_fato_gestao_vista_faturas", "fato_gestao_vista_faturas",
+        "sp_carga_fato_gestao_vista_manifestos", "fato_gestao_vista_manifestos"
+    );
+
+    record Plano(List<FatoMaterializacaoJanela> janelas, List<String> ignoradas) {
+    }
+
+    private FatoMaterializacaoPlanejador() {
+    }
+
+    /**
+     * Monta o plano da execucao.
+     *
+     * @param incluirJanelaPadrao quando true toda procedure roda ao menos na janela padrao (revarredura diaria)
+     */
+    static Plano planejar(final List<String> procedures,
+                          final Map<String, FatoMaterializacaoFaixaAlterada> faixas,
+                          final boolean incluirJanelaPadrao,
+                          final LocalDate hoje) {
+        final List<FatoMaterializacaoJanela> janelas = new ArrayList<>();
+        final List<String> ignoradas = new ArrayList<>();
+        for (final String procedure : procedures) {
+            final Map<String, Boolean> fontes = FONTES.get(normalizar(procedure));
+            if (fontes == null) {
+                janelas.add(FatoMaterializacaoJanela.padrao(procedure));
+                continue;
+            }
+
+            boolean exigeJanelaPadrao = incluirJanelaPadrao;
+            boolean alterada = false;
+            LocalDate inicio = null;
+            LocalDate fimExclusivo = null;
+            for (final Map.Entry<String, Boolean> fonte : fontes.entrySet()) {
+                final FatoMaterializacaoFaixaAlterada faixa = faixas.get(fonte.getKey());
+                if (faixa == null) {
+                    continue;
+                }
+                alterada = true;
+                if (!fonte.getValue() || !faixa.possuiFaixaConhecida()) {
+                    exigeJanelaPadrao = true;
+                    continue;
+                }
+                inicio = min(inicio, faixa.dataMinima().minusDays(MARGEM_DIAS));
+                fimExclusivo = max(fimExclusivo, faixa.dataMaxima().plusDays(1L + MARGEM_DIAS));
+            }
+
+            if (!alterada && !exigeJanelaPadrao) {
+                ignoradas.add(procedure);
+            } else if (inicio == null) {
+                janelas.add(FatoMaterializacaoJanela.padrao(procedure));
+            } else {
+                if (exigeJanelaPadrao) {
+                    inicio = min(inicio, hoje.minusDays(DIAS_JANELA_PADRAO));
+                    fimExclusivo = max(fimExclusivo, hoje.plusDays(1L + MARGEM_DIAS));
+                }
+                janelas.add(new FatoMaterializacaoJanela(procedure, inicio, fimExclusivo));
+            }
+        }
+        return new Plano(List.copyOf(janelas), List.copyOf(ignoradas));
+    }
+
+    /**
+     * Faixas que podem sair do ledger: todas as procedures conhecidas que leem a tabela
+     * estavam na execucao e concluiram com sucesso.
+     */
+    static List<FatoMaterializacaoFaixaAlterada> faixasConsumidas(final Collection<FatoMaterializacaoFaixaAlterada> faixas,
+                                                                  final List<FatoMaterializacaoProcedureResultado> resultados) {
+        final Set<String> concluidas = resultados.stream()
+            .filter(FatoMaterializacaoProcedureResultado::sucesso)
+            .map(resultado -> normalizar(resultado.procedureName()))
+            .collect(Collectors.toSet());
+        final Map<String, Boolean> consumidasPorTabela = new LinkedHashMap<>();
+        FONTES.forEach((procedure, fontes) -> fontes.keySet().forEach(tabela ->
+            consumidasPorTabela.merge(tabela, concluidas.contains(procedure), Boolean::logicalAnd)
+        ));
+        return faixas.stream()
+            .filter(faixa -> consumidasPorTabela.getOrDefault(faixa.tabelaOrigem(), true))
+            .toList();
+    }
+
+    /**
+     * Duas procedures conflitam quando gravam a mesma tabela ou uma le o que a outra grava.
+     * Leituras compartilhadas das tabelas de origem nao serializam. Procedure nao mapeada conflita com todas.
+     */
+    static boolean conflitam(final String procedureA, final String procedureB) {
+        final String a = normalizar(procedureA);
+        final String b = normalizar(procedureB);
+        final String destinoA = DESTINOS.get(a);
+        final String destinoB = DESTINOS.get(b);
+        if (destinoA == null || destinoB == null) {
+            return true;
+        }
+        return destinoA.equals(destinoB)
+            || FONTES.getOrDefault(a, Map.of()).containsKey(destinoB)
+            || FONTES.getOrDefault(b, Map.of()).containsKey(destinoA);
+    }
+
+    static String normalizar(final String procedure) {
+        String nome = procedure == null ? "" : procedure.trim().toLowerCase(Locale.ROOT).replace("[", "").replace("]", "");
+        if (nome.startsWith("dbo.")) {
+            nome = nome.substring("dbo.".length());
+        }
+        return nome;
+    }
+
+    private static LocalDate min(final LocalDate atual, final LocalDate candidato) {
+        return atual == null || candidato.isBefore(atual) ? candidato : atual;
+    }
+
+    private static LocalDate max(final LocalDate atual, final LocalDate candidato) {
+        return atual == null || candidato.isAfter(atual) ? candidato : atual;
+    }
+}
@@ -24,6 +24,13 @@ public record FatoMaterializacaoProcedureResultado(
         this(procedureName, linhasInseridas, linhasAtualizadas, snapshotEm, duracao, true, null);
     }
 
+    /**
+     * Procedure nao executada porque nenhuma tabela de origem mudou desde a ultima materializacao.
+     */
+    public static FatoMaterializacaoProcedureResultado ignorada(final String procedureName) {
+        return new FatoMaterializacaoProcedureResultado(procedureName, 0L, 0L, null, Duration.ZERO);
+    }
+
     public static FatoMaterializacaoProcedureResultado falha(final String procedureName,
                                                             final Throwable erro,
                                                             final Duration duracao) {
@@ -2,41 +2,111 @@ package br.com.extrator.aplicacao.materializacao;
 
 import java.sql.CallableStatement;
 import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import br.com.extrator.suporte.banco.GerenciadorConexao;
 
 public class FatoMaterializacaoRepository {
-    public List<FatoMaterializacaoProcedureResultado> executarProcedures(final List<String> procedures,
-                                                                        final int timeoutSegundos) throws SQLException {
-        final List<FatoMaterializacaoProcedureResultado> resultados = new ArrayList<>();
-        for (final String procedure : procedures) {
+    /**
+     * Le o ledger de faixas alteradas. Vazio quando a tabela ainda nao foi criada (migration 052).
+     */
+    public Optional<Map<String, FatoMaterializacaoFaixaAlterada>> carregarFaixasAlteradas() throws SQLException {
+        final String sql = """
+            IF OBJECT_ID(N'dbo.sys_materializacao_faixa_alterada', N'U') IS NOT NULL
+                SELECT tabela_origem, data_minima, data_maxima, faixa_desconhecida, registros_alterados, atualizado_em
+                FROM dbo.sys_materializacao_faixa_alterada
+            """;
+        try (Connection conexao = GerenciadorConexao.obterConexao();
+             PreparedStatement stmt = conexao.prepareStatement(sql)) {
+            if (!stmt.execute()) {
+                return Optional.empty();
+            }
+            final Map<String, FatoMaterializacaoFaixaAlterada> faixas = new LinkedHashMap<>();
+            try (ResultSet rs = stmt.getResultSet()) {
+                while (rs.next()) {
+                    final Date dataMinima = rs.getDate("data_minima");
+                    final Date dataMaxima = rs.getDate("data_maxima");
+                    final Timestamp atualizadoEm = rs.getTimestamp("atualizado_em");
+                    final FatoMaterializacaoFaixaAlterada faixa = new FatoMaterializacaoFaixaAlterada(
+                        rs.getString("tabela_origem"),
+                        dataMinima == null ? null : dataMinima.toLocalDate(),
+                        dataMaxima == null ? null : dataMaxima.toLocalDate(),
+                        rs.getBoolean("faixa_desconhecida"),
+                        rs.getLong("registros_alterados"),
+                        atualizadoEm == null ? null : atualizadoEm.toLocalDateTime()
+                    );
+                    faixas.put(faixa.tabelaOrigem(), faixa);
+                }
+            }
+            return Optional.of(faixas);
+        }
+    }
+
+    /**
+     * Remove as faixas materializadas. Linhas ampliadas por um commit concorrente (atualizado_em diferente) permanecem.
+     */
+    public int confirmarFaixasConsumidas(final List<FatoMaterializacaoFaixaAlterada> faixas) throws SQLException {
+        if (faixas.isEmpty()) {
+            return 0;
+        }
+        final String sql = """
+            DELETE FROM dbo.sys_materializacao_faixa_alterada
+            WHERE tabela_origem = ? AND atualizado_em = ?
+            """;
+        int removidas = 0;
+        try (Connection conexao = GerenciadorConexao.obterConexao();
+             PreparedStatement stmt = conexao.prepareStatement(sql)) {
+            for (final FatoMaterializacaoFaixaAlterada faixa : faixas) {
+                stmt.setString(1, faixa.tabelaOrigem());
+                stmt.setTimestamp(2, Timestamp.valueOf(faixa.atualizadoEm()));
+                removidas += stmt.executeUpdate();
+            }
+        }
+        return removidas;
+    }
+
+    /**
+     * Executa as procedures com ate {@code paralelismo} conexoes simultaneas; resultados na ordem recebida.
+     */
+    public List<FatoMaterializacaoProcedureResultado> executarProcedures(final List<FatoMaterializacaoJanela> janelas,
+                                                                        final int timeoutSegundos,
+                                                                        final int paralelismo) throws InterruptedException {
+        return FatoMaterializacaoExecutorParalelo.executar(janelas, paralelismo, janela -> {
             final Instant inicio = Instant.now();
             try {
-                resultados.add(executarProcedure(procedure, timeoutSegundos));
+                return executarProcedure(janela, timeoutSegundos);
             } catch (final SQLException e) {
-                resultados.add(FatoMaterializacaoProcedureResultado.falha(
-                    procedure,
+                return FatoMaterializacaoProcedureResultado.falha(
+                    janela.procedureName(),
                     e,
                     Duration.between(inicio, Instant.now())
-                ));
+                );
             }
-        }
-        return resultados;
+        });
     }
 
-    private FatoMaterializacaoProcedureResultado executarProcedure(final String procedure,
+    private FatoMaterializacaoProcedureResultado executarProcedure(final FatoMaterializacaoJanela janela,
                                                                    final int timeoutSegundos) throws SQLException {
         final Instant inicio = Instant.now();
+        final String procedure = janela.procedureName();
+        final String chamada = janela.possuiFaixa() ? "{call " + procedure + "(?, ?)}" : "{call " + procedure + "}";
         try (Connection conexao = GerenciadorConexao.obterConexao();
-             CallableStatement statement = conexao.prepareCall("{call " + procedure + "}")) {
+             CallableStatement statement = conexao.prepareCall(chamada)) {
+            if (janela.possuiFaixa()) {
+                statement.setDate(1, Date.valueOf(janela.dataInicio()));
+                statement.setDate(2, Date.valueOf(janela.dataFimExclusivo()));
+            }
             statement.setQueryTimeout(timeoutSegundos);
             final boolean possuiResultado = statement.execute();
             if (possuiResultado) {
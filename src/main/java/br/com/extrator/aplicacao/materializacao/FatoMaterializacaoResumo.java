@@ -1,7 +1,9 @@
 package br.com.extrator.aplicacao.materializacao;
 
 import java.time.Duration;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 public record FatoMaterializacaoResumo(
     List<FatoMaterializacaoProcedureResultado> procedures,
@@ -19,6 +21,20 @@ public record FatoMaterializacaoResumo(
             .sum();
     }
 
+    /**
+     * Soma das duracoes individuais; comparada com duracao() mostra o ganho da execucao paralela.
+     */
+    public Duration duracaoSomadaProcedures() {
+        return procedures.stream()
+            .map(FatoMaterializacaoProcedureResultado::duracao)
+            .reduce(Duration.ZERO, Duration::plus);
+    }
+
+    public Optional<FatoMaterializacaoProcedureResultado> procedureMaisLenta() {
+        return procedures.stream()
+            .max(Comparator.comparing(FatoMaterializacaoProcedureResultado::duracao));
+    }
+
     public long totalProceduresFalhas() {
         return procedures.stream()
             .filter(procedure -> !procedure.sucesso())
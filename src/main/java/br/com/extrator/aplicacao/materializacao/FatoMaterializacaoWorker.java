@@ -0,0 +1,255 @@
+package br.com.extrator.aplicacao.materializacao;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.extrator.suporte.concorrencia.OperationTimeoutGuard;
+import br.com.extrator.suporte.tempo.RelogioSistema;
+
+/**
+ * Materializacao de fatos BI disparada por commits, em thread propria e com timeout proprio.
+ * Gatilhos recebidos durante a espera ou a execucao sao agrupados em uma unica execucao seguinte.
+ */
+public final class FatoMaterializacaoWorker implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(FatoMaterializacaoWorker.class);
+    private static final AtomicInteger WORKER_COUNTER = new AtomicInteger();
+    private static final long ESPERA_APOS_INTERRUPCAO_MS = 1_000L;
+
+    public enum Status {
+        OCIOSO,
+        AGUARDANDO,
+        EXECUTANDO,
+        ENCERRADO
+    }
+
+    @FunctionalInterface
+    public interface Execucao {
+        FatoMaterializacaoResumo executar() throws Exception;
+    }
+
+    public record Estado(
+        Status status,
+        boolean pendente,
+        long gatilhos,
+        long gatilhosAgrupados,
+        long execucoes,
+        String ultimaOrigem,
+        LocalDateTime ultimoGatilhoEm,
+        LocalDateTime ultimoInicioEm,
+        LocalDateTime ultimoFimEm,
+        FatoMaterializacaoResumo ultimoResumo,
+        String ultimoErro
+    ) {
+    }
+
+    private final Execucao execucao;
+    private final Duration timeout;
+    private final Duration atrasoGatilho;
+    private final Duration limiteEncerramento;
+    private final Consumer<Estado> observador;
+    private final Thread thread;
+    private final Object publicacaoLock = new Object();
+
+    private Status status = Status.OCIOSO;
+    private boolean pendente;
+    private boolean fechado;
+    private long gatilhos;
+    private long gatilhosAgrupados;
+    private long execucoes;
+    private String ultimaOrigem;
+    private LocalDateTime ultimoGatilhoEm;
+    private LocalDateTime ultimoInicioEm;
+    private LocalDateTime ultimoFimEm;
+    private FatoMaterializacaoResumo ultimoResumo;
+    private String ultimoErro;
+    private FatoMaterializacaoResumo resumoNaoConsumido;
+
+    public FatoMaterializacaoWorker(final Execucao execucao,
+                                    final Duration timeout,
+                                    final Duration atrasoGatilho,
+                                    final Consumer<Estado> observador) {
+        this(execucao, timeout, atrasoGatilho, timeout, observador);
+    }
+
+    /**
+     * @param atrasoGatilho espera apos o primeiro gatilho para agrupar commits do mesmo ciclo
+     * @param limiteEncerramento quanto close() espera pela execucao em andamento ou pelo gatilho pendente
+     * @param observador recebe cada mudanca de estado (ex.: persistencia no state file do daemon)
+     */
+    public FatoMaterializacaoWorker(final Execucao execucao,
+                                    final Duration timeout,
+                                    final Duration atrasoGatilho,
+                                    final Duration limiteEncerramento,
+                                    final Consumer<Estado> observador) {
+        this.execucao = execucao;
+        this.timeout = timeout;
+        this.atrasoGatilho = atrasoGatilho == null || atrasoGatilho.isNegative() ? Duration.ZERO : atrasoGatilho;
+        this.limiteEncerramento = limiteEncerramento == null || limiteEncerramento.isNegative()
+            ? Duration.ZERO
+            : limiteEncerramento;
+        this.observador = observador;
+        this.thread = new Thread(this::executarLoop, "fato-materializacao-worker-" + WORKER_COUNTER.incrementAndGet());
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Registra gatilho; nunca bloqueia quem fez o commit.
+     */
+    public void sinalizar(final String origem) {
+        synchronized (this) {
+            if (fechado) {
+                return;
+            }
+            gatilhos++;
+            if (pendente) {
+                gatilhosAgrupados++;
+            }
+            pendente = true;
+            ultimaOrigem = origem;
+            ultimoGatilhoEm = RelogioSistema.agora();
+            if (status == Status.OCIOSO) {
+                status = Status.AGUARDANDO;
+            }
+            notifyAll();
+        }
+        publicar();
+    }
+
+    public synchronized Estado estado() {
+        return estadoAtual();
+    }
+
+    /**
+     * Resumo da ultima execucao concluida ainda nao reportada; consome o valor.
+     */
+    public synchronized Optional<FatoMaterializacaoResumo> consumirResumoConcluido() {
+        final FatoMaterializacaoResumo resumo = resumoNaoConsumido;
+        resumoNaoConsumido = null;
+        return Optional.ofNullable(resumo);
+    }
+
+    /**
+     * Encerra o worker: um gatilho ainda pendente roda sem esperar o agrupamento, e close() espera no maximo
+     * limiteEncerramento por ele e pela execucao em andamento antes de interromper.
+     * Se a thread que fecha for interrompida, interrompe o worker sem esperar e preserva o sinal de interrupcao.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            fechado = true;
+            notifyAll();
+        }
+        try {
+            thread.join(Math.max(1L, limiteEncerramento.toMillis()));
+            if (thread.isAlive()) {
+                logger.warn("Materializacao BI nao terminou em {} ms no encerramento; interrompendo.", limiteEncerramento.toMillis());
+                thread.interrupt();
+                thread.join(ESPERA_APOS_INTERRUPCAO_MS);
+            }
+        } catch (final InterruptedException e) {
+            thread.interrupt();
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            status = Status.ENCERRADO;
+        }
+        publicar();
+    }
+
+    private void executarLoop() {
+        try {
+            while (aguardarGatilho()) {
+                executarUmaVez();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Espera o proximo gatilho e o atraso de agrupamento. Fechado, so retorna true para escoar o gatilho pendente.
+     */
+    private synchronized boolean aguardarGatilho() throws InterruptedException {
+        while (!pendente && !fechado) {
+            wait();
+        }
+        final long limite = System.nanoTime() + atrasoGatilho.toNanos();
+        long restante;
+        while (!fechado && (restante = limite - System.nanoTime()) > 0L) {
+            wait(Math.max(1L, restante / 1_000_000L));
+        }
+        if (!pendente) {
+            return false;
+        }
+        pendente = false;
+        status = Status.EXECUTANDO;
+        ultimoInicioEm = RelogioSistema.agora();
+        return true;
+    }
+
+    private void executarUmaVez() {
+        publicar();
+        FatoMaterializacaoResumo resumo = null;
+        String erro = null;
+        try {
+            resumo = OperationTimeoutGuard.executar("materializacao_bi_evento", timeout, execucao::executar);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            erro = "interrompido";
+        } catch (final Exception e) {
+            erro = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            logger.warn("Materializacao BI por evento falhou: {}", erro);
+        }
+
+        synchronized (this) {
+            execucoes++;
+            ultimoFimEm = RelogioSistema.agora();
+            ultimoErro = erro;
+            if (resumo != null) {
+                ultimoResumo = resumo;
+                resumoNaoConsumido = resumo;
+            }
+            status = pendente ? Status.AGUARDANDO : Status.OCIOSO;
+        }
+        publicar();
+    }
+
+    private Estado estadoAtual() {
+        return new Estado(
+            status,
+            pendente,
+            gatilhos,
+            gatilhosAgrupados,
+            execucoes,
+            ultimaOrigem,
+            ultimoGatilhoEm,
+            ultimoInicioEm,
+            ultimoFimEm,
+            ultimoResumo,
+            ultimoErro
+        );
+    }
+
+    /**
+     * Le o estado dentro do lock de publicacao para que a ultima gravacao seja sempre a mais recente.
+     */
+    private void publicar() {
+        if (observador == null) {
+            return;
+        }
+        synchronized (publicacaoLock) {
+            try {
+                observador.accept(estado());
+            } catch (final RuntimeException e) {
+                logger.debug("Falha ao publicar estado do worker de materializacao: {}", e.getMessage());
+            }
+        }
+    }
+}
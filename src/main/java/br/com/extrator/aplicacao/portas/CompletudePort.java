@@ -12,6 +12,8 @@ Conecta com:
 
 Fluxo geral:
 1) validarCompletudePorLogs(dataReferencia) retorna Map<entidade, StatusCompletude>.
+   validarCompletudeIncremental() revisita so os dias tocados desde a ultima validacao;
+   recontarCompletude(dataReferencia) faz a recontagem completa (fechamento mensal).
 2) StatusCompletude: OK, INCOMPLETO, DUPLICADOS, ERRO.
 3) Use case avalia resultado para decidir se extracao completa ou falhou.
 
@@ -23,6 +25,8 @@ Enum StatusCompletude:
 - ERRO: erro ao validar completude.
 Metodos principais:
 - validarCompletudePorLogs(LocalDate dataReferencia): retorna mapa de status por entidade.
+- validarCompletudeIncremental(): status por entidade considerando apenas dias alterados.
+- recontarCompletude(LocalDate dataReferencia): recontagem completa no destino.
 [DOC-FILE-END]============================================================== */
 package br.com.extrator.aplicacao.portas;
 
@@ -36,6 +40,10 @@ public interface CompletudePort {
 
     Map<String, StatusCompletude> validarCompletudePorLogs(LocalDate dataReferencia);
 
+    Map<String, StatusCompletude> validarCompletudeIncremental();
+
+    Map<String, StatusCompletude> recontarCompletude(LocalDate dataReferencia);
+
     enum StatusCompletude {
         OK,
         INCOMPLETO,
@@ -21,11 +21,15 @@ Atributos-chave:
 - log: LoggerConsole statico para debug.
 Metodos principais:
 - hashMetadata(String, String): retorna hash SHA256 hex.
+- hashMetadataCompactado(String, byte[]): mesmo hash a partir de metadata_gz.
 - normalizarMetadataParaComparacao(): parse JSON, remove campos volateis por switch de entidade.
 - removerCamposVolateisComparacao(): remove status, datas de predicao, valores, volumes (dependendo entidade).
 [DOC-FILE-END]============================================================== */
 package br.com.extrator.aplicacao.validacao;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -36,6 +40,7 @@ import br.com.extrator.dominio.dataexport.faturaporcliente.FaturaPorClienteDTO;
 import br.com.extrator.integracao.mapeamento.dataexport.faturaporcliente.FaturaPorClienteMapper;
 import br.com.extrator.suporte.console.LoggerConsole;
 import br.com.extrator.suporte.json.CanonicalJsonHasher;
+import br.com.extrator.suporte.json.PayloadCompactado;
 import br.com.extrator.suporte.mapeamento.MapperUtil;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
 
@@ -49,6 +54,31 @@ final class ValidacaoApiBanco24hDetalhadaMetadataHasher {
         return CanonicalJsonHasher.sha256Hex(normalizado);
     }
 
+    /**
+     * Mesmo hash de hashMetadata para o gzip de metadata_gz: o JSON e parseado direto do stream
+     * descompactado; so payload fora de objeto JSON e materializado como texto.
+     */
+    String hashMetadataCompactado(final String entidade, final byte[] metadataCompactado) {
+        if (metadataCompactado == null) {
+            return hashMetadata(entidade, null);
+        }
+        try (Reader leitor = PayloadCompactado.abrirLeitor(metadataCompactado)) {
+            final JsonNode parsed = MapperUtil.sharedJson().readTree(leitor);
+            if (parsed != null && parsed.isObject()) {
+                return CanonicalJsonHasher.sha256Hex(normalizarObjeto(entidade, (ObjectNode) parsed));
+            }
+        } catch (final JsonProcessingException e) {
+            log.debug(
+                "Fallback de normalizacao de metadata compactada por erro de parse JSON | entidade={} | erro={}",
+                entidade,
+                e.getOriginalMessage()
+            );
+        } catch (final IOException e) {
+            throw new UncheckedIOException("metadata_gz invalida para " + entidade, e);
+        }
+        return hashMetadata(entidade, PayloadCompactado.descompactar(metadataCompactado));
+    }
+
     private String normalizarMetadataParaComparacao(final String entidade, final String metadata) {
         if (metadata == null || metadata.trim().isEmpty()) {
             return "__NULL__";
@@ -59,13 +89,7 @@ final class ValidacaoApiBanco24hDetalhadaMetadataHasher {
             if (!parsed.isObject()) {
                 return metadata.trim();
             }
-            final ObjectNode obj = (ObjectNode) parsed.deepCopy();
-            final ObjectNode projetado = projetarCamposEstaveis(entidade, obj);
-            if (projetado != null && projetado.size() > 0) {
-                return CanonicalJsonHasher.canonicalize(projetado);
-            }
-            removerCamposVolateisComparacao(entidade, obj);
-            return CanonicalJsonHasher.canonicalize(obj);
+            return normalizarObjeto(entidade, (ObjectNode) parsed);
         } catch (JsonProcessingException e) {
             log.debug(
                 "Fallback de normalizacao de metadata por erro de parse JSON | entidade={} | erro={}",
@@ -76,6 +100,15 @@ final class ValidacaoApiBanco24hDetalhadaMetadataHasher {
         }
     }
 
+    private String normalizarObjeto(final String entidade, final ObjectNode obj) throws JsonProcessingException {
+        final ObjectNode projetado = projetarCamposEstaveis(entidade, obj);
+        if (projetado != null && projetado.size() > 0) {
+            return CanonicalJsonHasher.canonicalize(projetado);
+        }
+        removerCamposVolateisComparacao(entidade, obj);
+        return CanonicalJsonHasher.canonicalize(obj);
+    }
+
     private ObjectNode projetarCamposEstaveis(final String entidade, final ObjectNode origem) {
         if (ConstantesEntidades.FATURAS_POR_CLIENTE.equals(entidade)) {
             return projetarFaturaPorCliente(origem);
@@ -50,6 +50,7 @@ import java.util.Set;
 
 import br.com.extrator.suporte.mapeamento.MapperUtil;
 import br.com.extrator.suporte.console.LoggerConsole;
+import br.com.extrator.suporte.json.PayloadCompactado;
 import br.com.extrator.suporte.tempo.RelogioSistema;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
 
@@ -655,63 +656,63 @@ class ValidacaoApiBanco24hDetalhadaRepository {
         final String sql = switch (entidade) {
             case ConstantesEntidades.MANIFESTOS ->
                 """
-                SELECT sequence_code, pick_sequence_code, mdfe_number, identificador_unico, metadata
+                SELECT sequence_code, pick_sequence_code, mdfe_number, identificador_unico, metadata, metadata_gz
                 FROM dbo.manifestos
                 WHERE %s
                   AND sequence_code IS NOT NULL
                 """.formatted(condicaoFiltroBanco(entidade));
             case ConstantesEntidades.COTACOES ->
                 """
-                SELECT CAST(sequence_code AS VARCHAR(50)) AS chave, metadata
+                SELECT CAST(sequence_code AS VARCHAR(50)) AS chave, metadata, metadata_gz
                 FROM dbo.cotacoes
                 WHERE %s
                   AND sequence_code IS NOT NULL
                 """.formatted(condicaoFiltroBanco(entidade));
             case ConstantesEntidades.LOCALIZACAO_CARGAS ->
                 """
-                SELECT CAST(sequence_number AS VARCHAR(50)) AS chave, metadata
+                SELECT CAST(sequence_number AS VARCHAR(50)) AS chave, metadata, metadata_gz
                 FROM dbo.localizacao_cargas
                 WHERE %s
                   AND sequence_number IS NOT NULL
                 """.formatted(condicaoFiltroBanco(entidade, filtroEstritoDataExtracao));
             case ConstantesEntidades.CONTAS_A_PAGAR ->
                 """
-                SELECT CAST(sequence_code AS VARCHAR(50)) AS chave, metadata
+                SELECT CAST(sequence_code AS VARCHAR(50)) AS chave, metadata, metadata_gz
                 FROM dbo.contas_a_pagar
                 WHERE %s
                   AND sequence_code IS NOT NULL
                 """.formatted(condicaoFiltroBanco(entidade, filtroEstritoDataExtracao));
             case ConstantesEntidades.FATURAS_POR_CLIENTE ->
                 """
-                SELECT unique_id AS chave, metadata
+                SELECT unique_id AS chave, metadata, metadata_gz
                 FROM dbo.faturas_por_cliente
                 WHERE %s
                   AND unique_id IS NOT NULL
                 """.formatted(condicaoFiltroBanco(entidade));
             case ConstantesEntidades.INVENTARIO ->
                 """
-                SELECT identificador_unico AS chave, metadata
+                SELECT identificador_unico AS chave, metadata, metadata_gz
                 FROM dbo.inventario
                 WHERE %s
                   AND identificador_unico IS NOT NULL
                 """.formatted(condicaoFiltroBanco(entidade));
             case ConstantesEntidades.SINISTROS ->
                 """
-                SELECT identificador_unico AS chave, metadata
+                SELECT identificador_unico AS chave, metadata, metadata_gz
                 FROM dbo.sinistros
                 WHERE %s
                   AND identificador_unico IS NOT NULL
                 """.formatted(condicaoFiltroBanco(entidade));
             case ConstantesEntidades.FRETES ->
                 """
-                SELECT CAST(id AS VARCHAR(50)) AS chave, metadata
+                SELECT CAST(id AS VARCHAR(50)) AS chave, metadata, metadata_gz
                 FROM dbo.fretes
                 WHERE %s
                   AND id IS NOT NULL
                 """.formatted(condicaoFiltroBanco(entidade, filtroEstritoDataExtracao));
             case ConstantesEntidades.COLETAS ->
                 """
-                SELECT id AS chave, metadata
+                SELECT id AS chave, metadata, metadata_gz
                 FROM dbo.coletas
                 WHERE %s
                   AND id IS NOT NULL
@@ -755,7 +756,9 @@ class ValidacaoApiBanco24hDetalhadaRepository {
                     }
                     hashesPorChave.put(
                         chave.trim(),
-                        metadataHasher.hashMetadata(entidade, metadata)
+                        metadata != null
+                            ? metadataHasher.hashMetadata(entidade, metadata)
+                            : metadataHasher.hashMetadataCompactado(entidade, rs.getBytes("metadata_gz"))
                     );
                 }
             }
@@ -787,63 +790,63 @@ class ValidacaoApiBanco24hDetalhadaRepository {
         final String sql = switch (entidade) {
             case ConstantesEntidades.MANIFESTOS ->
                 """
-                SELECT sequence_code, pick_sequence_code, mdfe_number, identificador_unico, metadata
+                SELECT sequence_code, pick_sequence_code, mdfe_number, identificador_unico, metadata, metadata_gz
                 FROM dbo.manifestos
                 WHERE %s
                   AND sequence_code IS NOT NULL
                 """.formatted(condicaoFiltroBanco(entidade));
             case ConstantesEntidades.COTACOES ->
                 """
-                SELECT CAST(sequence_code AS VARCHAR(50)) AS chave, metadata
+                SELECT CAST(sequence_code AS VARCHAR(50)) AS chave, metadata, metadata_gz
                 FROM dbo.cotacoes
                 WHERE %s
                   AND sequence_code IS NOT NULL
                 """.formatted(condicaoFiltroBanco(entidade));
             case ConstantesEntidades.LOCALIZACAO_CARGAS ->
                 """
-                SELECT CAST(sequence_number AS VARCHAR(50)) AS chave, metadata
+                SELECT CAST(sequence_number AS VARCHAR(50)) AS chave, metadata, metadata_gz
                 FROM dbo.localizacao_cargas
                 WHERE %s
                   AND sequence_number IS NOT NULL
                 """.formatted(condicaoFiltroBanco(entidade));
             case ConstantesEntidades.CONTAS_A_PAGAR ->
                 """
-                SELECT CAST(sequence_code AS VARCHAR(50)) AS chave, metadata
+                SELECT CAST(sequence_code AS VARCHAR(50)) AS chave, metadata, metadata_gz
                 FROM dbo.contas_a_pagar
                 WHERE %s
                   AND sequence_code IS NOT NULL
                 """.formatted(condicaoFiltroBanco(entidade));
             case ConstantesEntidades.FATURAS_POR_CLIENTE ->
                 """
-                SELECT unique_id AS chave, metadata
+                SELECT unique_id AS chave, metadata, metadata_gz
                 FROM dbo.faturas_por_cliente
                 WHERE %s
                   AND unique_id IS NOT NULL
                 """.formatted(condicaoFiltroBanco(entidade));
             case ConstantesEntidades.INVENTARIO ->
                 """
-                SELECT identificador_unico AS chave, metadata
+                SELECT identificador_unico AS chave, metadata, metadata_gz
                 FROM dbo.inventario
                 WHERE %s
                   AND identificador_unico IS NOT NULL
                 """.formatted(condicaoFiltroBanco(entidade));
             case ConstantesEntidades.SINISTROS ->
                 """
-                SELECT identificador_unico AS chave, metadata
+                SELECT identificador_unico AS chave, metadata, metadata_gz
                 FROM dbo.sinistros
                 WHERE %s
                   AND identificador_unico IS NOT NULL
                 """.formatted(condicaoFiltroBanco(entidade));
             case ConstantesEntidades.FRETES ->
                 """
-                SELECT CAST(id AS VARCHAR(50)) AS chave, metadata
+                SELECT CAST(id AS VARCHAR(50)) AS chave, metadata, metadata_gz
                 FROM dbo.fretes
                 WHERE %s
                   AND id IS NOT NULL
                 """.formatted(condicaoFiltroBanco(entidade));
             case ConstantesEntidades.COLETAS ->
                 """
-                SELECT id AS chave, metadata
+                SELECT id AS chave, metadata, metadata_gz
                 FROM dbo.coletas
                 WHERE %s
                   AND id IS NOT NULL
@@ -876,7 +879,8 @@ class ValidacaoApiBanco24hDetalhadaRepository {
                         payload.put("name", rs.getString("nome"));
                         metadata = MapperUtil.toJson(payload);
                     } else {
-                        metadata = rs.getString("metadata");
+                        final String texto = rs.getString("metadata");
+                        metadata = texto != null ? texto : PayloadCompactado.descompactar(rs.getBytes("metadata_gz"));
                     }
                     metadataPorChave.put(chave.trim(), metadata);
                 }
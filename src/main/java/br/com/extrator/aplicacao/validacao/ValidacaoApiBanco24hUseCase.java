@@ -27,7 +27,8 @@ Metodos principais:
 - executar(ValidacaoApiBanco24hRequest): orquestra validacao com resolve de data.
 - resolverDataReferenciaLogs(): fallback inteligente (24h -> dia anterior -> sem filtro -> ultima data).
 - buscarUltimaJanelaCompletaDoDia(): busca log com periodo ou fallback.
-- extrairNumeroCampoMensagem(String, String): regex extrator de campos (api_count, unique_count, db_upserts).
+- lerMetricaTipada(ResultSet, String, String): le unique_count/db_upserts tipados com fallback para a mensagem legada.
+- extrairNumeroCampoMensagem(String, String): regex extrator de campos (api_count, db_persisted e linhas legadas).
 [DOC-FILE-END]============================================================== */
 package br.com.extrator.aplicacao.validacao;
 
@@ -357,7 +358,7 @@ public class ValidacaoApiBanco24hUseCase {
                                                                      final LocalDate periodoFim,
                                                                      final boolean permitirFallbackJanela) throws SQLException {
         final String sqlComPeriodo = """
-            SELECT TOP 1 timestamp_inicio, timestamp_fim, registros_extraidos, mensagem
+            SELECT TOP 1 timestamp_inicio, timestamp_fim, registros_extraidos, unique_count, db_upserts, mensagem
             FROM dbo.log_extracoes
             WHERE entidade = ?
               AND status_final = 'COMPLETO'
@@ -383,7 +384,7 @@ public class ValidacaoApiBanco24hUseCase {
         }
 
         final String sqlFallback = """
-            SELECT TOP 1 timestamp_inicio, timestamp_fim, registros_extraidos, mensagem
+            SELECT TOP 1 timestamp_inicio, timestamp_fim, registros_extraidos, unique_count, db_upserts, mensagem
             FROM dbo.log_extracoes
             WHERE entidade = ?
               AND status_final = 'COMPLETO'
@@ -410,12 +411,21 @@ public class ValidacaoApiBanco24hUseCase {
         final int registrosExtraidos = rs.getInt("registros_extraidos");
         final String mensagem = rs.getString("mensagem");
         final Integer apiCount = extrairNumeroCampoMensagem(mensagem, "api_count");
-        final Integer uniqueCount = extrairNumeroCampoMensagem(mensagem, "unique_count");
-        final Integer dbUpserts = extrairNumeroCampoMensagem(mensagem, "db_upserts");
+        final Integer uniqueCount = lerMetricaTipada(rs, "unique_count", mensagem);
+        final Integer dbUpserts = lerMetricaTipada(rs, "db_upserts", mensagem);
         final Integer dbPersisted = extrairNumeroCampoMensagem(mensagem, "db_persisted");
         return new JanelaExecucao(inicio, fim, registrosExtraidos, apiCount, uniqueCount, dbUpserts, dbPersisted);
     }
 
+    private Integer lerMetricaTipada(final ResultSet rs, final String coluna, final String mensagem) throws SQLException {
+        final int valor = rs.getInt(coluna);
+        if (!rs.wasNull()) {
+            return valor;
+        }
+        // Linha gravada antes da migration 050: metrica so existe como key=value na mensagem.
+        return extrairNumeroCampoMensagem(mensagem, coluna);
+    }
+
     private Integer extrairNumeroCampoMensagem(final String mensagem, final String campo) {
         if (mensagem == null || mensagem.isBlank() || campo == null || campo.isBlank()) {
             return null;
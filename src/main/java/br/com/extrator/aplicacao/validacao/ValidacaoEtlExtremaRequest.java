@@ -3,16 +3,45 @@ package br.com.extrator.aplicacao.validacao;
 import java.time.LocalDate;
 import java.util.Objects;
 
+/**
+ * paralelismoEntidades = 1 mantem a execucao sequencial; limiteFalhasEarlyExit = 0 desativa o early exit.
+ */
 public record ValidacaoEtlExtremaRequest(
     boolean periodoFechado,
     boolean permitirFallbackJanela,
     int repeticoesStress,
     boolean executarIdempotencia,
     boolean executarHidratacaoOrfaos,
-    LocalDate dataReferenciaSistema
+    LocalDate dataReferenciaSistema,
+    int paralelismoEntidades,
+    int limiteFalhasEarlyExit
 ) {
     public ValidacaoEtlExtremaRequest {
         Objects.requireNonNull(dataReferenciaSistema, "dataReferenciaSistema");
         repeticoesStress = Math.max(1, repeticoesStress);
+        paralelismoEntidades = Math.max(1, paralelismoEntidades);
+        limiteFalhasEarlyExit = Math.max(0, limiteFalhasEarlyExit);
+    }
+
+    public ValidacaoEtlExtremaRequest(final boolean periodoFechado,
+                                      final boolean permitirFallbackJanela,
+                                      final int repeticoesStress,
+                                      final boolean executarIdempotencia,
+                                      final boolean executarHidratacaoOrfaos,
+                                      final LocalDate dataReferenciaSistema) {
+        this(
+            periodoFechado,
+            permitirFallbackJanela,
+            repeticoesStress,
+            executarIdempotencia,
+            executarHidratacaoOrfaos,
+            dataReferenciaSistema,
+            1,
+            0
+        );
+    }
+
+    public boolean earlyExitAtivo() {
+        return limiteFalhasEarlyExit > 0;
     }
 }
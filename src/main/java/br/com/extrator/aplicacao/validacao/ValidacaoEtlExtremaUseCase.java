@@ -10,6 +10,7 @@ import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.sql.Connection;
@@ -22,6 +23,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -31,11 +33,19 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import br.com.extrator.aplicacao.extracao.ExtracaoPorIntervaloRequest;
 import br.com.extrator.aplicacao.extracao.ExtracaoPorIntervaloUseCase;
 import br.com.extrator.aplicacao.extracao.PreBackfillReferencialColetasUseCase;
+import br.com.extrator.observabilidade.LogEventIndex;
 import br.com.extrator.observabilidade.LogRetentionPolicy;
 import br.com.extrator.observabilidade.LogStoragePaths;
 import br.com.extrator.suporte.banco.GerenciadorConexao;
@@ -48,6 +58,7 @@ public class ValidacaoEtlExtremaUseCase {
     private static final LoggerConsole log = LoggerConsole.getLogger(ValidacaoEtlExtremaUseCase.class);
     private static final DateTimeFormatter FILE_TS = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
     private static final int SAMPLE_LIMIT = 8;
+    private static final AtomicInteger WORKER_COUNTER = new AtomicInteger();
 
     private final ValidacaoApiBanco24hDetalhadaMetadataHasher metadataHasher;
     private final ValidacaoApiBanco24hDetalhadaRepository repository;
@@ -88,56 +99,42 @@ public class ValidacaoEtlExtremaUseCase {
             log.info("Stress API: {} repeticao(oes)", request.repeticoesStress());
             log.info("Idempotencia com rerun do ETL: {}", request.executarIdempotencia());
             log.info("Hidratacao de orfaos: {}", request.executarHidratacaoOrfaos());
+            log.info("Paralelismo de entidades: {}", request.paralelismoEntidades());
+            log.info(
+                "Early exit: {}",
+                request.earlyExitAtivo() ? "apos " + request.limiteFalhasEarlyExit() + " entidade(s) em FALHA" : "desativado"
+            );
             log.console("=".repeat(96));
 
-            final Map<String, ResultadoApiChaves> apiResultados = coletarApi(
+            final List<String> globalProblems = new ArrayList<>();
+            final Set<String> suggestions = new LinkedHashSet<>();
+            final ExecucaoEntidades execucaoEntidades = executarEntidades(
                 conexao,
+                entidades,
                 dataReferencia,
                 dataInicio,
                 dataFim,
-                nomesEntidades,
-                request.permitirFallbackJanela()
+                request,
+                caminhoStreamEntidades(inicio)
             );
-            final Map<String, StressAnalysis> stressAnalyses =
-                executarStress(
-                    conexao,
-                    dataReferencia,
-                    dataInicio,
-                    dataFim,
-                    nomesEntidades,
-                    request.repeticoesStress(),
-                    request.permitirFallbackJanela(),
-                    apiResultados
-                );
-
-            final List<EntityDiagnostic> entityDiagnostics = new ArrayList<>();
-            final List<String> globalProblems = new ArrayList<>();
-            final Set<String> suggestions = new LinkedHashSet<>();
-
-            for (final EntitySpec entity : entidades) {
-                final ResultadoApiChaves api = apiResultados.get(entity.entidade());
-                final StressAnalysis stress = stressAnalyses.get(entity.entidade());
-                final EntityDiagnostic diagnostic = analisarEntidade(
-                    conexao,
-                    entity,
-                    api,
-                    stress,
-                    dataReferencia,
-                    dataInicio,
-                    dataFim,
-                    request
-                );
-                entityDiagnostics.add(diagnostic);
+            final List<EntityDiagnostic> entityDiagnostics = execucaoEntidades.diagnosticos();
+            for (final EntityDiagnostic diagnostic : entityDiagnostics) {
                 globalProblems.addAll(diagnostic.problems());
                 suggestions.addAll(diagnostic.suggestions());
             }
+            if (execucaoEntidades.interrompida()) {
+                globalProblems.add(
+                    "Early exit: limite de " + request.limiteFalhasEarlyExit()
+                        + " entidade(s) em FALHA atingido; entidades restantes nao foram validadas."
+                );
+            }
 
             final OrphanHydrationAnalysis orphanHydration = executarAnaliseOrfaos(
                 conexao,
                 dataReferencia,
                 dataInicio,
                 dataFim,
-                request.executarHidratacaoOrfaos(),
+                request.executarHidratacaoOrfaos() && !execucaoEntidades.interrompida(),
                 request.permitirFallbackJanela()
             );
             globalProblems.addAll(orphanHydration.problems());
@@ -160,12 +157,14 @@ public class ValidacaoEtlExtremaUseCase {
 
             final List<PerformanceMetric> performanceMetrics = carregarPerformance(conexao, nomesEntidades, dataReferencia);
 
-            final IdempotencyAnalysis idempotencyAnalysis = request.executarIdempotencia()
-                ? executarTesteIdempotencia(
-                    dataInicio,
-                    dataFim
-                )
-                : IdempotencyAnalysis.skipped("Teste desabilitado para evitar escrita nao-confirmada em producao.");
+            final IdempotencyAnalysis idempotencyAnalysis;
+            if (execucaoEntidades.interrompida()) {
+                idempotencyAnalysis = IdempotencyAnalysis.skipped("Teste ignorado: bateria interrompida por early exit.");
+            } else if (request.executarIdempotencia()) {
+                idempotencyAnalysis = executarTesteIdempotencia(dataInicio, dataFim);
+            } else {
+                idempotencyAnalysis = IdempotencyAnalysis.skipped("Teste desabilitado para evitar escrita nao-confirmada em producao.");
+            }
             globalProblems.addAll(idempotencyAnalysis.problems());
             suggestions.addAll(idempotencyAnalysis.suggestions());
 
@@ -206,89 +205,269 @@ public class ValidacaoEtlExtremaUseCase {
         }
     }
 
-    private Map<String, ResultadoApiChaves> coletarApi(
+    /**
+     * Executa API + stress + diagnostico por entidade. Em modo paralelo cada worker usa conexao,
+     * coletor e comparador proprios; o throttling global do GerenciadorRequisicaoHttp continua
+     * sendo o orcamento unico de chamadas a API. Cada diagnostico e gravado no stream assim que fica pronto.
+     */
+    private ExecucaoEntidades executarEntidades(
         final Connection conexao,
+        final List<EntitySpec> entidades,
         final LocalDate dataReferencia,
         final LocalDate dataInicio,
         final LocalDate dataFim,
-        final List<String> entidades,
+        final ValidacaoEtlExtremaRequest request,
+        final Path streamEntidades
+    ) throws Exception {
+        final Map<String, EntityDiagnostic> porEntidade = new LinkedHashMap<>();
+        final int paralelismo = Math.min(request.paralelismoEntidades(), Math.max(1, entidades.size()));
+        boolean interrompida = false;
+
+        if (paralelismo <= 1) {
+            for (final EntitySpec entity : entidades) {
+                final EntityDiagnostic diagnostic = processarEntidade(
+                    conexao,
+                    apiCollector,
+                    comparator,
+                    entity,
+                    dataReferencia,
+                    dataInicio,
+                    dataFim,
+                    request
+                );
+                porEntidade.put(entity.entidade(), diagnostic);
+                publicarDiagnostico(diagnostic, streamEntidades);
+                if (limiteEarlyExitAtingido(porEntidade.values(), request)) {
+                    interrompida = porEntidade.size() < entidades.size();
+                    break;
+                }
+            }
+        } else {
+            final ThreadLocal<ValidacaoApiBanco24hDetalhadaApiCollector> coletorPorWorker =
+                ThreadLocal.withInitial(() -> new ValidacaoApiBanco24hDetalhadaApiCollector(metadataHasher));
+            final ThreadLocal<ValidacaoApiBanco24hDetalhadaComparator> comparadorPorWorker =
+                ThreadLocal.withInitial(() -> new ValidacaoApiBanco24hDetalhadaComparator(repository));
+            final ExecutorService executor = Executors.newFixedThreadPool(paralelismo, runnable -> {
+                final Thread thread = new Thread(runnable, "etl-extremo-" + WORKER_COUNTER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            final CompletionService<EntityDiagnostic> completion = new ExecutorCompletionService<>(executor);
+            final List<Future<EntityDiagnostic>> futures = new ArrayList<>();
+            try {
+                for (final EntitySpec entity : entidades) {
+                    futures.add(completion.submit(() -> {
+                        try (Connection conexaoWorker = GerenciadorConexao.obterConexao()) {
+                            return processarEntidade(
+                                conexaoWorker,
+                                coletorPorWorker.get(),
+                                comparadorPorWorker.get(),
+                                entity,
+                                dataReferencia,
+                                dataInicio,
+                                dataFim,
+                                request
+                            );
+                        }
+                    }));
+                }
+                for (int concluidas = 0; concluidas < futures.size(); concluidas++) {
+                    final EntityDiagnostic diagnostic;
+                    try {
+                        diagnostic = completion.take().get();
+                    } catch (final ExecutionException e) {
+                        throw e.getCause() instanceof Exception causa ? causa : e;
+                    }
+                    porEntidade.put(diagnostic.entidade(), diagnostic);
+                    publicarDiagnostico(diagnostic, streamEntidades);
+                    if (limiteEarlyExitAtingido(porEntidade.values(), request)) {
+                        interrompida = porEntidade.size() < entidades.size();
+                        break;
+                    }
+                }
+            } finally {
+                futures.forEach(future -> future.cancel(true));
+                executor.shutdownNow();
+            }
+        }
+
+        final List<EntityDiagnostic> diagnosticos = new ArrayList<>();
+        for (final EntitySpec entity : entidades) {
+            final EntityDiagnostic diagnostic = porEntidade.get(entity.entidade());
+            diagnosticos.add(diagnostic != null ? diagnostic : naoExecutada(entity));
+        }
+        return new ExecucaoEntidades(diagnosticos, interrompida);
+    }
+
+    static boolean limiteFalhasAtingido(final long entidadesEmFalha, final int limiteFalhasEarlyExit) {
+        return limiteFalhasEarlyExit > 0 && entidadesEmFalha >= limiteFalhasEarlyExit;
+    }
+
+    private boolean limiteEarlyExitAtingido(final Collection<EntityDiagnostic> diagnosticos,
+                                            final ValidacaoEtlExtremaRequest request) {
+        final long falhas = diagnosticos.stream().filter(d -> d.status().startsWith("FALHA")).count();
+        return limiteFalhasAtingido(falhas, request.limiteFalhasEarlyExit());
+    }
+
+    private EntityDiagnostic processarEntidade(
+        final Connection conexao,
+        final ValidacaoApiBanco24hDetalhadaApiCollector coletor,
+        final ValidacaoApiBanco24hDetalhadaComparator comparador,
+        final EntitySpec entity,
+        final LocalDate dataReferencia,
+        final LocalDate dataInicio,
+        final LocalDate dataFim,
+        final ValidacaoEtlExtremaRequest request
+    ) throws Exception {
+        final ResultadoApiChaves api = coletarApi(
+            conexao,
+            coletor,
+            dataReferencia,
+            dataInicio,
+            dataFim,
+            entity.entidade(),
+            request.permitirFallbackJanela()
+        );
+        final StressAnalysis stress = executarStress(
+            conexao,
+            coletor,
+            dataReferencia,
+            dataInicio,
+            dataFim,
+            entity.entidade(),
+            request.repeticoesStress(),
+            request.permitirFallbackJanela(),
+            api
+        );
+        return analisarEntidade(conexao, comparador, entity, api, stress, dataReferencia, dataInicio, dataFim, request);
+    }
+
+    private ResultadoApiChaves coletarApi(
+        final Connection conexao,
+        final ValidacaoApiBanco24hDetalhadaApiCollector coletor,
+        final LocalDate dataReferencia,
+        final LocalDate dataInicio,
+        final LocalDate dataFim,
+        final String entidade,
         final boolean permitirFallbackJanela
     ) throws Exception {
-        final Map<String, ResultadoApiChaves> resultados = new LinkedHashMap<>();
-        for (final EntidadeValidacao entidade : apiCollector.criarEntidades(
+        for (final EntidadeValidacao entidadeValidacao : coletor.criarEntidades(
             conexao,
             dataReferencia,
             dataInicio,
             dataFim,
-            entidades,
+            List.of(entidade),
             permitirFallbackJanela,
             Map.of()
         )) {
-            resultados.put(entidade.entidade(), entidade.fornecedor().get());
+            return entidadeValidacao.fornecedor().get();
         }
-        return resultados;
+        return null;
     }
 
-    private Map<String, StressAnalysis> executarStress(
+    private StressAnalysis executarStress(
         final Connection conexao,
+        final ValidacaoApiBanco24hDetalhadaApiCollector coletor,
         final LocalDate dataReferencia,
         final LocalDate dataInicio,
         final LocalDate dataFim,
-        final List<String> entidades,
+        final String entidade,
         final int repeticoes,
         final boolean permitirFallbackJanela,
-        final Map<String, ResultadoApiChaves> baselineResultados
+        final ResultadoApiChaves baseline
     ) throws Exception {
-        final Map<String, StressAnalysis> analyses = new LinkedHashMap<>();
-        final Map<String, List<Integer>> totaisPorEntidade = new LinkedHashMap<>();
-        final Map<String, List<Integer>> paginasPorEntidade = new LinkedHashMap<>();
-        final Map<String, List<String>> motivosPorEntidade = new LinkedHashMap<>();
-        for (final String entidade : entidades) {
-            final ResultadoApiChaves baseline = baselineResultados.get(entidade);
-            if (baseline == null) {
-                continue;
-            }
-            totaisPorEntidade.computeIfAbsent(entidade, ignored -> new ArrayList<>()).add(baseline.apiUnico());
-            paginasPorEntidade.computeIfAbsent(entidade, ignored -> new ArrayList<>()).add(baseline.paginasProcessadas());
-            motivosPorEntidade.computeIfAbsent(entidade, ignored -> new ArrayList<>()).add(baseline.motivoInterrupcao());
+        final List<Integer> totais = new ArrayList<>();
+        final List<Integer> paginas = new ArrayList<>();
+        final List<String> motivos = new ArrayList<>();
+        if (baseline != null) {
+            totais.add(baseline.apiUnico());
+            paginas.add(baseline.paginasProcessadas());
+            motivos.add(baseline.motivoInterrupcao());
         }
 
-        final List<String> entidadesStress = entidades.stream()
-            .filter(ValidacaoEtlExtremaUseCase::deveExecutarStressApi)
-            .toList();
-
-        for (int i = 0; i < repeticoes; i++) {
-            if (entidadesStress.isEmpty()) {
-                break;
-            }
-            final Map<String, ResultadoApiChaves> rodada = coletarApi(
-                conexao,
-                dataReferencia,
-                dataInicio,
-                dataFim,
-                entidadesStress,
-                permitirFallbackJanela
-            );
-            for (final Map.Entry<String, ResultadoApiChaves> entry : rodada.entrySet()) {
-                totaisPorEntidade.computeIfAbsent(entry.getKey(), ignored -> new ArrayList<>()).add(entry.getValue().apiUnico());
-                paginasPorEntidade.computeIfAbsent(entry.getKey(), ignored -> new ArrayList<>())
-                    .add(entry.getValue().paginasProcessadas());
-                motivosPorEntidade.computeIfAbsent(entry.getKey(), ignored -> new ArrayList<>())
-                    .add(entry.getValue().motivoInterrupcao());
+        if (deveExecutarStressApi(entidade)) {
+            for (int i = 0; i < repeticoes; i++) {
+                final ResultadoApiChaves rodada = coletarApi(
+                    conexao,
+                    coletor,
+                    dataReferencia,
+                    dataInicio,
+                    dataFim,
+                    entidade,
+                    permitirFallbackJanela
+                );
+                if (rodada == null) {
+                    continue;
+                }
+                totais.add(rodada.apiUnico());
+                paginas.add(rodada.paginasProcessadas());
+                motivos.add(rodada.motivoInterrupcao());
             }
         }
 
-        for (final String entidade : entidades) {
-            final List<Integer> totais = totaisPorEntidade.getOrDefault(entidade, List.of());
-            final List<Integer> paginas = paginasPorEntidade.getOrDefault(entidade, List.of());
-            final List<String> motivos = motivosPorEntidade.getOrDefault(entidade, List.of());
-            final boolean estavel = new LinkedHashSet<>(totais).size() <= 1
-                && motivos.stream().filter(m -> m != null && !m.isBlank()).count() == 0;
-            final String detalhe = "totais=" + totais + " | paginas=" + paginas + " | motivos=" + motivos;
-            analyses.put(entidade, new StressAnalysis(estavel ? "OK" : "FALHA", detalhe));
-        }
+        final boolean estavel = new LinkedHashSet<>(totais).size() <= 1
+            && motivos.stream().filter(m -> m != null && !m.isBlank()).count() == 0;
+        final String detalhe = "totais=" + totais + " | paginas=" + paginas + " | motivos=" + motivos;
+        return new StressAnalysis(estavel ? "OK" : "FALHA", detalhe);
+    }
 
-        return analyses;
+    private EntityDiagnostic naoExecutada(final EntitySpec entity) {
+        return new EntityDiagnostic(
+            entity.entidade(),
+            "NAO_EXECUTADO",
+            0,
+            0,
+            0,
+            0,
+            0,
+            0,
+            0,
+            0,
+            0,
+            0,
+            0,
+            0,
+            0,
+            "Entidade nao validada: bateria interrompida por early exit.",
+            List.of(),
+            List.of(),
+            List.of(),
+            null,
+            List.of(),
+            List.of()
+        );
+    }
+
+    private Path caminhoStreamEntidades(final LocalDateTime inicio) throws IOException {
+        LogStoragePaths.ensureBaseDirectories();
+        Files.createDirectories(LogStoragePaths.REPORTS_DIR);
+        return LogStoragePaths.REPORTS_DIR.resolve("etl_extreme_entities_" + FILE_TS.format(inicio) + ".jsonl");
+    }
+
+    private void publicarDiagnostico(final EntityDiagnostic diagnostic, final Path streamEntidades) {
+        log.info(
+            "ENTIDADE_CONCLUIDA | {} | status={} | api_total={} | db_total={} | missing={} | extra={} | divergent_fields={}",
+            diagnostic.entidade(),
+            diagnostic.status(),
+            diagnostic.apiTotal(),
+            diagnostic.dbTotal(),
+            diagnostic.missing(),
+            diagnostic.extra(),
+            diagnostic.divergentFields()
+        );
+        synchronized (this) {
+            try {
+                Files.writeString(
+                    streamEntidades,
+                    MapperUtil.sharedJson().writeValueAsString(diagnostic) + System.lineSeparator(),
+                    StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND
+                );
+            } catch (final IOException e) {
+                log.warn("Falha ao gravar stream de entidades {}: {}", streamEntidades, e.getMessage());
+            }
+        }
     }
 
     static boolean deveExecutarStressApi(final String entidade) {
@@ -301,6 +480,7 @@ public class ValidacaoEtlExtremaUseCase {
 
     private EntityDiagnostic analisarEntidade(
         final Connection conexao,
+        final ValidacaoApiBanco24hDetalhadaComparator comparator,
         final EntitySpec entity,
         final ResultadoApiChaves api,
         final StressAnalysis stress,
@@ -710,24 +890,13 @@ public class ValidacaoEtlExtremaUseCase {
                     .limit(8)
                     .toList();
                 for (final Path arquivo : arquivos) {
-                    for (final String line : Files.readAllLines(arquivo, StandardCharsets.UTF_8)) {
-                        final String normalized = line.toLowerCase(Locale.ROOT);
-                        if (normalized.contains("org.junit.jupiter")) {
-                            continue;
+                    for (final LogEventIndex.Evento evento : carregarEvidenciasLog(arquivo)) {
+                        evidences.add(arquivo.getFileName() + ": " + resumir(evento.linha()));
+                        if (evento.possui(LogEventIndex.TipoEvento.RETRY) || evento.possui(LogEventIndex.TipoEvento.TIMEOUT)) {
+                            evidenciaOperacionalRelevante = true;
                         }
-                        if (normalized.contains("retry")
-                            || normalized.contains("timeout")
-                            || normalized.contains("loop_detectado")
-                            || normalized.contains("pagina vazia")
-                            || normalized.contains("deduplic")
-                            || normalized.contains("descart")) {
-                            evidences.add(arquivo.getFileName() + ": " + resumir(line));
-                            if (normalized.contains("retry") || normalized.contains("timeout")) {
-                                evidenciaOperacionalRelevante = true;
-                            }
-                            if (evidences.size() >= 20) {
-                                break;
-                            }
+                        if (evidences.size() >= 20) {
+                            break;
                         }
                     }
                     if (evidences.size() >= 20) {
@@ -744,6 +913,24 @@ public class ValidacaoEtlExtremaUseCase {
         return new LogAnalysis(problems, suggestions, evidences, problems.size());
     }
 
+    /**
+     * Evidencias do indice gravado junto ao log; logs sem indice sao varridos por completo.
+     */
+    private List<LogEventIndex.Evento> carregarEvidenciasLog(final Path arquivo) throws IOException {
+        final Optional<List<LogEventIndex.Evento>> indexados = LogEventIndex.ler(arquivo);
+        if (indexados.isPresent()) {
+            return indexados.get().stream().filter(LogEventIndex.Evento::evidenciaOperacional).toList();
+        }
+        final List<LogEventIndex.Evento> eventos = new ArrayList<>();
+        for (final String line : Files.readAllLines(arquivo, StandardCharsets.UTF_8)) {
+            final Set<LogEventIndex.TipoEvento> tipos = LogEventIndex.classificar(line);
+            if (tipos.stream().anyMatch(LogEventIndex.TipoEvento::evidenciaOperacional)) {
+                eventos.add(new LogEventIndex.Evento("", tipos, null, -1L, line));
+            }
+        }
+        return eventos;
+    }
+
     private List<PerformanceMetric> carregarPerformance(
         final Connection conexao,
         final List<String> entidades,
@@ -1103,7 +1290,7 @@ public class ValidacaoEtlExtremaUseCase {
                 case ConstantesEntidades.COLETAS -> "id";
                 default -> throw new IllegalArgumentException("Entidade nao suportada no fingerprint: " + entidade.entidade());
             };
-            final String sql = "SELECT " + keyExpr + " AS chave, metadata FROM dbo." + entidade.table()
+            final String sql = "SELECT " + keyExpr + " AS chave, metadata, metadata_gz FROM dbo." + entidade.table()
                 + " WHERE COALESCE(excluido_na_origem, 0) = 0"
                 + " AND " + keyExpr + " IS NOT NULL ORDER BY chave";
             try (PreparedStatement stmt = conexao.prepareStatement(sql); ResultSet rs = stmt.executeQuery()) {
@@ -1118,7 +1305,7 @@ public class ValidacaoEtlExtremaUseCase {
                             + "|"
                             + chave
                             + "|"
-                            + metadataHasher.hashMetadata(entidade.entidade(), rs.getString("metadata"))
+                            + hashMetadataTextoOuCompactado(entidade.entidade(), rs)
                     );
                 }
             }
@@ -1126,6 +1313,13 @@ public class ValidacaoEtlExtremaUseCase {
         return sha256(String.join("\n", fragments));
     }
 
+    private String hashMetadataTextoOuCompactado(final String entidade, final ResultSet rs) throws SQLException {
+        final String metadata = rs.getString("metadata");
+        return metadata != null
+            ? metadataHasher.hashMetadata(entidade, metadata)
+            : metadataHasher.hashMetadataCompactado(entidade, rs.getBytes("metadata_gz"));
+    }
+
     private boolean usaSomenteChaveNoFingerprint(final String entidade) {
         return switch (entidade) {
             case ConstantesEntidades.COLETAS,
@@ -1157,6 +1351,12 @@ public class ValidacaoEtlExtremaUseCase {
             path -> LogRetentionPolicy.hasExtension(path, ".json", ".md")
                 && path.getFileName().toString().startsWith("etl_extreme_report_")
         );
+        LogRetentionPolicy.retainRecentFiles(
+            logsDir,
+            LogStoragePaths.MAX_FILES_PER_BUCKET,
+            path -> LogRetentionPolicy.hasExtension(path, ".jsonl")
+                && path.getFileName().toString().startsWith("etl_extreme_entities_")
+        );
         return new ReportFiles(json, markdown);
     }
 
@@ -1380,4 +1580,7 @@ public class ValidacaoEtlExtremaUseCase {
 
     private record ReportFiles(Path json, Path markdown) {
     }
+
+    private record ExecucaoEntidades(List<EntityDiagnostic> diagnosticos, boolean interrompida) {
+    }
 }
@@ -40,7 +40,9 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -53,6 +55,7 @@ import br.com.extrator.observabilidade.LogStoragePaths;
 import br.com.extrator.observabilidade.execucao.ExecutionAuditor;
 import br.com.extrator.comandos.cli.CommandRegistry;
 import br.com.extrator.comandos.cli.base.Comando;
+import br.com.extrator.comandos.cli.base.Subsistema;
 import br.com.extrator.comandos.cli.console.ExibirAjudaComando;
 import br.com.extrator.persistencia.repositorio.ExecutionHistoryRepository;
 import br.com.extrator.persistencia.repositorio.HistoryPersistenceInterruptedException;
@@ -82,6 +85,7 @@ public class Main {
         final boolean comandoSilencioso = isComandoSilencioso(nomeComando);
         final boolean capturarLogOperacao = !comandoLongaDuracao && !comandoSilencioso;
         final boolean registrarHistorico = !comandoLongaDuracao && !comandoSilencioso;
+        final boolean historicoNoBanco = gravaHistoricoNoBanco(nomeComando);
 
         final LoggingService loggingService = capturarLogOperacao ? new LoggingService() : null;
         final LocalDateTime inicioExecucao = RelogioSistema.agora();
@@ -91,7 +95,7 @@ public class Main {
         final AtomicBoolean historicoRegistrado = new AtomicBoolean(false);
         final AtomicBoolean finalizadoNormalmente = new AtomicBoolean(false);
         final ExecutionHistoryRepository executionHistoryRepository =
-            registrarHistorico ? new ExecutionHistoryRepository() : null;
+            historicoNoBanco ? new ExecutionHistoryRepository() : null;
 
         final Runnable persistirHistoricoExecucao = () -> {
             if (!registrarHistorico || !historicoRegistrado.compareAndSet(false, true)) {
@@ -104,11 +108,13 @@ public class Main {
             final int duracaoSegundosInt = (int) Math.min(Integer.MAX_VALUE, duracaoSegundos);
             int totalRecords = 0;
 
-            try {
-                totalRecords = executionHistoryRepository.calcularTotalRegistros(inicioExecucao, fimExecucao);
-            } catch (final Throwable t) {
-                rethrowIfFatal(t);
-                logger.warn("Falha ao calcular total de registros: {}", sanitizeMessage(t.getMessage()));
+            if (historicoNoBanco) {
+                try {
+                    totalRecords = executionHistoryRepository.calcularTotalRegistros(inicioExecucao, fimExecucao);
+                } catch (final Throwable t) {
+                    rethrowIfFatal(t);
+                    logger.warn("Falha ao calcular total de registros: {}", sanitizeMessage(t.getMessage()));
+                }
             }
 
             ExecutionAuditor.registrarCsv(
@@ -119,6 +125,9 @@ public class Main {
                 tipoExecucao,
                 errorMessageRef.get()
             );
+            if (!historicoNoBanco) {
+                return;
+            }
 
             Throwable ultimoErroPersistencia = null;
             boolean historicoPersistidoNoBanco = false;
@@ -274,27 +283,24 @@ public class Main {
     }
 
     static boolean requerInicializacaoContexto(final String nomeComando) {
-        if (nomeComando == null) {
-            return false;
-        }
-        return switch (nomeComando.toLowerCase()) {
-            case "--fluxo-completo",
-                "--extracao-intervalo",
-                "--fechamento-mensal",
-                "--recovery",
-                "--expurgo-orfaos",
-                "--sincronizar-usuarios",
-                "--loop",
-                "--auditar-api",
-                "--executar-step-isolado",
-                "--testar-api",
-                "--validar-api-banco-24h",
-                "--validar-api-banco-24h-detalhado",
-                "--validar-etl-extremo",
-                "--validar-etl-resiliencia",
-                "--loop-daemon-run" -> true;
-            default -> false;
-        };
+        return subsistemasDeclarados(nomeComando).contains(Subsistema.CONTEXTO_PIPELINE);
+    }
+
+    /**
+     * Comando que nao declara banco nao abre o pool HikariCP so para gravar historico; fica o CSV.
+     */
+    static boolean gravaHistoricoNoBanco(final String nomeComando) {
+        return !isComandoLongaDuracao(nomeComando)
+            && !isComandoSilencioso(nomeComando)
+            && subsistemasDeclarados(nomeComando).contains(Subsistema.BANCO_DADOS);
+    }
+
+    /**
+     * Subsistemas declarados no registro do comando; comando desconhecido cai na ajuda e nao precisa de nenhum.
+     */
+    static Set<Subsistema> subsistemasDeclarados(final String nomeComando) {
+        final Comando comando = nomeComando == null ? null : COMANDOS.get(nomeComando.toLowerCase(Locale.ROOT));
+        return comando == null ? Subsistema.nenhum() : comando.subsistemas();
     }
 
     private static void inicializarContextoSeNecessario(final String nomeComando) {
@@ -312,6 +318,8 @@ public class Main {
             || "--help".equals(nomeComando)
             || "--auditar-api".equals(nomeComando)
             || "--executar-step-isolado".equals(nomeComando)
+            || "--worker-step-isolado".equals(nomeComando)
+            || "--treinar-cds".equals(nomeComando)
             || "--loop-daemon-start".equals(nomeComando)
             || "--loop-daemon-stop".equals(nomeComando)
             || "--loop-daemon-status".equals(nomeComando);
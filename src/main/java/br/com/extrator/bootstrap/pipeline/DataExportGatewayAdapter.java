@@ -49,14 +49,19 @@ import br.com.extrator.suporte.observabilidade.ExecutionContext;
 public final class DataExportGatewayAdapter implements DataExportGateway {
     private static final String ISOLATED_RESULT_PREFIX = "ISOLATED_STEP_RESULT api=dataexport";
 
-    private final DataExportExtractionService service;
+    private final ServicoSobDemanda<DataExportExtractionService> service;
     private final IsolatedStepProcessExecutor isolatedExecutor;
 
     public DataExportGatewayAdapter() {
-        this(new DataExportExtractionService(), new IsolatedStepProcessExecutor());
+        this(ServicoSobDemanda.de(DataExportExtractionService::new), new IsolatedStepProcessExecutor());
     }
 
     DataExportGatewayAdapter(final DataExportExtractionService service,
+                          final IsolatedStepProcessExecutor isolatedExecutor) {
+        this(ServicoSobDemanda.pronto(service), isolatedExecutor);
+    }
+
+    private DataExportGatewayAdapter(final ServicoSobDemanda<DataExportExtractionService> service,
                              final IsolatedStepProcessExecutor isolatedExecutor) {
         this.service = service;
         this.isolatedExecutor = isolatedExecutor;
@@ -80,7 +85,7 @@ public final class DataExportGatewayAdapter implements DataExportGateway {
             resumo = lerResumoProcessoIsolado(childLogFile)
                 .orElseGet(DataExportStepSummary::success);
         } else {
-            resumo = DataExportStepSummary.from(service.executar(dataInicio, dataFim, filtroEntidade));
+            resumo = DataExportStepSummary.from(service.get().executar(dataInicio, dataFim, filtroEntidade));
             childPid = null;
             childLogFile = null;
         }
@@ -41,15 +41,20 @@ import br.com.extrator.suporte.configuracao.ConfigEtl;
 import br.com.extrator.suporte.observabilidade.ExecutionContext;
 
 public final class GraphQLGatewayAdapter implements GraphQLGateway {
-    private final GraphQLExtractionService service;
+    private final ServicoSobDemanda<GraphQLExtractionService> service;
     private final IsolatedStepProcessExecutor isolatedExecutor;
 
     public GraphQLGatewayAdapter() {
-        this(new GraphQLExtractionService(), new IsolatedStepProcessExecutor());
+        this(ServicoSobDemanda.de(GraphQLExtractionService::new), new IsolatedStepProcessExecutor());
     }
 
     GraphQLGatewayAdapter(final GraphQLExtractionService service,
                           final IsolatedStepProcessExecutor isolatedExecutor) {
+        this(ServicoSobDemanda.pronto(service), isolatedExecutor);
+    }
+
+    private GraphQLGatewayAdapter(final ServicoSobDemanda<GraphQLExtractionService> service,
+                          final IsolatedStepProcessExecutor isolatedExecutor) {
         this.service = service;
         this.isolatedExecutor = isolatedExecutor;
     }
@@ -69,7 +74,7 @@ public final class GraphQLGatewayAdapter implements GraphQLGateway {
             childPid = processResult.pid();
             childLogFile = processResult.logFile();
         } else {
-            service.executar(dataInicio, dataFim, filtroEntidade);
+            service.get().executar(dataInicio, dataFim, filtroEntidade);
             childPid = null;
             childLogFile = null;
         }
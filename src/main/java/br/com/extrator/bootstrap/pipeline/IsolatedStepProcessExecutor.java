@@ -14,12 +14,16 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import br.com.extrator.observabilidade.LogStoragePaths;
 import br.com.extrator.observabilidade.LogRetentionPolicy;
 import br.com.extrator.plataforma.auditoria.dominio.ExecutionPlanContext;
+import br.com.extrator.suporte.banco.NotificadorCommit;
 import br.com.extrator.suporte.concorrencia.ExecutionTimeoutException;
 import br.com.extrator.suporte.configuracao.ConfigEtl;
 import br.com.extrator.suporte.console.LoggerConsole;
@@ -28,10 +32,25 @@ import br.com.extrator.suporte.observabilidade.ExecutionContext;
 public class IsolatedStepProcessExecutor {
     private static final DateTimeFormatter FILE_TS = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
     private static final String MAIN_CLASS_NAME = "br.com.extrator.bootstrap.Main";
+    private static final String ARQUIVO_CDS = "extrator.jsa";
     private static final String CHILD_PROCESS_PROPERTY = "etl.process.isolated.child";
     private static final long HEARTBEAT_INTERVAL_MS = 30_000L;
     private static final LoggerConsole log = LoggerConsole.getLogger(IsolatedStepProcessExecutor.class);
 
+    private final Supplier<WarmStepWorkerPool> poolAquecido;
+
+    public IsolatedStepProcessExecutor() {
+        this(WarmStepWorkerPool::compartilhado);
+    }
+
+    IsolatedStepProcessExecutor(final WarmStepWorkerPool poolAquecido) {
+        this(() -> poolAquecido);
+    }
+
+    private IsolatedStepProcessExecutor(final Supplier<WarmStepWorkerPool> poolAquecido) {
+        this.poolAquecido = poolAquecido;
+    }
+
     public ProcessExecutionResult executar(final ApiType apiType,
                                            final LocalDate dataInicio,
                                            final LocalDate dataFim,
@@ -61,7 +80,14 @@ public class IsolatedStepProcessExecutor {
                                            final String entidade,
                                            final FaultMode faultMode,
                                            final Duration timeout) throws Exception {
-        final Path logFile = criarArquivoLog(apiType, entidade, faultMode);
+        final Path logFile = criarArquivoLog(apiType, dataInicio, dataFim, entidade, faultMode);
+        final Duration timeoutAplicado = timeout == null || timeout.isNegative() || timeout.isZero()
+            ? resolverTimeoutPadrao(apiType, entidade)
+            : timeout;
+        final WarmStepWorkerPool pool = poolAquecido.get();
+        if (pool != null) {
+            return executarEmProcessoAquecido(pool, apiType, dataInicio, dataFim, entidade, faultMode, timeoutAplicado, logFile);
+        }
         final List<String> comando = construirComando(apiType, dataInicio, dataFim, entidade, faultMode);
         final ProcessBuilder processBuilder = new ProcessBuilder(comando);
         processBuilder.directory(LogStoragePaths.PROJECT_ROOT.toFile());
@@ -71,55 +97,8 @@ public class IsolatedStepProcessExecutor {
         final Process process = processBuilder.start();
         final Thread shutdownHook = criarShutdownHook(process, apiType, entidade);
         final boolean shutdownHookRegistrado = registrarShutdownHook(shutdownHook);
-        final Duration timeoutAplicado = timeout == null || timeout.isNegative() || timeout.isZero()
-            ? resolverTimeoutPadrao(apiType, entidade)
-            : timeout;
-        final long inicioNanos = System.nanoTime();
-        final long deadlineNanos = System.nanoTime() + timeoutAplicado.toNanos();
-        long proximoHeartbeatNanos = inicioNanos
-            + java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(HEARTBEAT_INTERVAL_MS);
         try {
-            while (true) {
-                try {
-                    final long restanteNanos = deadlineNanos - System.nanoTime();
-                    if (restanteNanos <= 0L) {
-                        destruirProcesso(process);
-                        throw new ExecutionTimeoutException(
-                            "Processo isolado "
-                                + apiType.name().toLowerCase(Locale.ROOT)
-                                + " excedeu timeout de "
-                                + timeoutAplicado.toMillis()
-                                + " ms. Log: "
-                                + logFile.toAbsolutePath()
-                                + ". Ultimas linhas: "
-                                + lerTail(logFile)
-                        );
-                    }
-                    final long esperaAtualMs = Math.max(
-                        1L,
-                        Math.min(250L, java.util.concurrent.TimeUnit.NANOSECONDS.toMillis(restanteNanos))
-                    );
-                    if (process.waitFor(esperaAtualMs, java.util.concurrent.TimeUnit.MILLISECONDS)) {
-                        break;
-                    }
-                    final long agoraNanos = System.nanoTime();
-                    if (agoraNanos >= proximoHeartbeatNanos) {
-                        log.console(
-                            "[INFO] Step isolado {}:{} em andamento ha {} min. Log runtime: {}",
-                            apiType.name().toLowerCase(Locale.ROOT),
-                            entidade == null || entidade.isBlank() ? "all" : entidade,
-                            Math.max(1L, java.util.concurrent.TimeUnit.NANOSECONDS.toMinutes(agoraNanos - inicioNanos)),
-                            LogStoragePaths.APP_RUNTIME_DIR.resolve("extrator-esl.log").toAbsolutePath()
-                        );
-                        proximoHeartbeatNanos = agoraNanos
-                            + java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(HEARTBEAT_INTERVAL_MS);
-                    }
-                } catch (final InterruptedException e) {
-                    destruirProcesso(process);
-                    Thread.currentThread().interrupt();
-                    throw e;
-                }
-            }
+            aguardarConclusao(process, process::waitFor, apiType, entidade, timeoutAplicado, logFile);
             final int exitCode = process.exitValue();
             if (exitCode != 0) {
                 throw new IllegalStateException(
@@ -129,6 +108,7 @@ public class IsolatedStepProcessExecutor {
                         + ". Ultimas linhas: " + lerTail(logFile)
                 );
             }
+            notificarCommit(apiType, entidade);
             return new ProcessExecutionResult(process.pid(), logFile);
         } finally {
             if (process.isAlive()) {
@@ -140,12 +120,162 @@ public class IsolatedStepProcessExecutor {
         }
     }
 
+    /**
+     * Mesmo contrato do processo novo, mas em JVM ja aquecida: o pedido vai por stdin e a saida do step vai
+     * para o mesmo arquivo de log. Timeout mata o worker; falha ou resposta ausente descarta o worker.
+     */
+    private ProcessExecutionResult executarEmProcessoAquecido(final WarmStepWorkerPool pool,
+                                                              final ApiType apiType,
+                                                              final LocalDate dataInicio,
+                                                              final LocalDate dataFim,
+                                                              final String entidade,
+                                                              final FaultMode faultMode,
+                                                              final Duration timeout,
+                                                              final Path logFile) throws Exception {
+        final WarmStepWorkerPool.Worker worker = pool.emprestar(construirComandoWorker());
+        boolean reutilizavel = false;
+        try {
+            worker.enviar(new WarmStepWorkerPool.PedidoStep(
+                apiType.name().toLowerCase(Locale.ROOT),
+                dataInicio.toString(),
+                dataFim.toString(),
+                entidade == null || entidade.isBlank() ? "all" : entidade,
+                (faultMode == null ? FaultMode.NONE : faultMode).cliValue(),
+                logFile.toAbsolutePath().toString(),
+                propriedadesContextoExecucao()
+            ));
+            aguardarConclusao(worker.processo(), worker::aguardarResposta, apiType, entidade, timeout, logFile);
+            final String resposta = worker.ultimaResposta();
+            if (resposta == null) {
+                throw new IllegalStateException(
+                    "Processo isolado " + apiType.name().toLowerCase(Locale.ROOT)
+                        + " aquecido encerrou sem resposta (pid=" + worker.processo().pid() + ")"
+                        + " | log=" + logFile.toAbsolutePath()
+                        + ". Ultimas linhas: " + lerTail(logFile)
+                );
+            }
+            if (!WarmStepWorkerPool.RESULTADO_OK.equals(resposta)) {
+                throw new IllegalStateException(
+                    "Processo isolado " + apiType.name().toLowerCase(Locale.ROOT)
+                        + " falhou: " + resposta
+                        + " | log=" + logFile.toAbsolutePath()
+                        + ". Ultimas linhas: " + lerTail(logFile)
+                );
+            }
+            reutilizavel = true;
+            notificarCommit(apiType, entidade);
+            return new ProcessExecutionResult(worker.processo().pid(), logFile);
+        } finally {
+            pool.devolver(worker, reutilizavel);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Espera {
+        boolean aguardar(long timeoutMs, java.util.concurrent.TimeUnit unidade) throws InterruptedException;
+    }
+
+    /**
+     * Espera o fim do step com heartbeat; no timeout ou interrupcao o processo e destruido.
+     */
+    private void aguardarConclusao(final Process process,
+                                   final Espera espera,
+                                   final ApiType apiType,
+                                   final String entidade,
+                                   final Duration timeoutAplicado,
+                                   final Path logFile) throws InterruptedException, ExecutionTimeoutException {
+        final long inicioNanos = System.nanoTime();
+        final long deadlineNanos = System.nanoTime() + timeoutAplicado.toNanos();
+        long proximoHeartbeatNanos = inicioNanos
+            + java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(HEARTBEAT_INTERVAL_MS);
+        while (true) {
+            try {
+                final long restanteNanos = deadlineNanos - System.nanoTime();
+                if (restanteNanos <= 0L) {
+                    destruirProcesso(process);
+                    throw new ExecutionTimeoutException(
+                        "Processo isolado "
+                            + apiType.name().toLowerCase(Locale.ROOT)
+                            + " excedeu timeout de "
+                            + timeoutAplicado.toMillis()
+                            + " ms. Log: "
+                            + logFile.toAbsolutePath()
+                            + ". Ultimas linhas: "
+                            + lerTail(logFile)
+                    );
+                }
+                final long esperaAtualMs = Math.max(
+                    1L,
+                    Math.min(250L, java.util.concurrent.TimeUnit.NANOSECONDS.toMillis(restanteNanos))
+                );
+                if (espera.aguardar(esperaAtualMs, java.util.concurrent.TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+                final long agoraNanos = System.nanoTime();
+                if (agoraNanos >= proximoHeartbeatNanos) {
+                    log.console(
+                        "[INFO] Step isolado {}:{} em andamento ha {} min. Log runtime: {}",
+                        apiType.name().toLowerCase(Locale.ROOT),
+                        entidade == null || entidade.isBlank() ? "all" : entidade,
+                        Math.max(1L, java.util.concurrent.TimeUnit.NANOSECONDS.toMinutes(agoraNanos - inicioNanos)),
+                        LogStoragePaths.APP_RUNTIME_DIR.resolve("extrator-esl.log").toAbsolutePath()
+                    );
+                    proximoHeartbeatNanos = agoraNanos
+                        + java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(HEARTBEAT_INTERVAL_MS);
+                }
+            } catch (final InterruptedException e) {
+                destruirProcesso(process);
+                Thread.currentThread().interrupt();
+                throw e;
+            }
+        }
+    }
+
+    private void notificarCommit(final ApiType apiType, final String entidade) {
+        // Os commits do filho acontecem em outra JVM; o fim bem-sucedido do step e o sinal disponivel aqui.
+        NotificadorCommit.notificar(
+            apiType.name().toLowerCase(Locale.ROOT) + ":" + (entidade == null || entidade.isBlank() ? "all" : entidade)
+        );
+    }
+
     protected List<String> construirComando(final ApiType apiType,
                                             final LocalDate dataInicio,
                                             final LocalDate dataFim,
                                             final String entidade,
                                             final FaultMode faultMode) throws URISyntaxException {
         final List<String> comando = new ArrayList<>();
+        adicionarOpcoesJvm(comando);
+        propriedadesContextoExecucao().forEach((chave, valor) -> comando.add("-D" + chave + "=" + valor));
+        adicionarSystemPropertiesConfiguracao(comando);
+        adicionarAlvoExecucao(comando);
+
+        comando.add("--executar-step-isolado");
+        comando.add(apiType.name().toLowerCase(Locale.ROOT));
+        comando.add(dataInicio.toString());
+        comando.add(dataFim.toString());
+        comando.add(entidade == null || entidade.isBlank() ? "all" : entidade);
+        if (faultMode != null && faultMode != FaultMode.NONE) {
+            comando.add("--fault");
+            comando.add(faultMode.cliValue());
+        }
+        return comando;
+    }
+
+    /**
+     * Comando do worker aquecido: so a configuracao estavel entra na linha de comando; o contexto de
+     * execucao e os planos seguem em cada pedido. Mudanca de configuracao gera outro comando e outro worker.
+     */
+    protected List<String> construirComandoWorker() throws URISyntaxException {
+        final List<String> comando = new ArrayList<>();
+        adicionarOpcoesJvm(comando);
+        comando.add("-Detl.parent.command=" + ExecutionContext.currentCommand());
+        adicionarSystemPropertiesConfiguracao(comando);
+        adicionarAlvoExecucao(comando);
+        comando.add(WarmStepWorkerPool.FLAG_WORKER);
+        return comando;
+    }
+
+    private void adicionarOpcoesJvm(final List<String> comando) {
         comando.add(resolverExecutavelJava());
         comando.add("-Dfile.encoding=UTF-8");
         comando.add("-Dsun.stdout.encoding=UTF-8");
@@ -155,18 +285,29 @@ public class IsolatedStepProcessExecutor {
         comando.add("-Dextrator.logger.console.mirror=true");
         comando.add("-Detl.process.isolation.enabled=false");
         comando.add("-D" + CHILD_PROCESS_PROPERTY + "=true");
-        comando.add("-Detl.parent.execution.id=" + ExecutionContext.currentExecutionId());
-        comando.add("-Detl.parent.command=" + ExecutionContext.currentCommand());
-        comando.add("-Detl.parent.cycle.id=" + ExecutionContext.currentCycleId());
+    }
+
+    private Map<String, String> propriedadesContextoExecucao() {
+        final Map<String, String> propriedades = new LinkedHashMap<>();
+        propriedades.put("etl.parent.execution.id", ExecutionContext.currentExecutionId());
+        propriedades.put("etl.parent.command", ExecutionContext.currentCommand());
+        propriedades.put("etl.parent.cycle.id", ExecutionContext.currentCycleId());
         if (ExecutionContext.hasRetryContext()) {
-            comando.add("-Detl.parent.retry.attempt=" + ExecutionContext.currentRetryAttempt());
-            comando.add("-Detl.parent.retry.max_attempts=" + ExecutionContext.currentRetryMaxAttempts());
+            propriedades.put("etl.parent.retry.attempt", Integer.toString(ExecutionContext.currentRetryAttempt()));
+            propriedades.put("etl.parent.retry.max_attempts", Integer.toString(ExecutionContext.currentRetryMaxAttempts()));
         }
-        adicionarSystemPropertiesConfiguracao(comando);
-        adicionarPlanosExecucao(comando);
+        propriedades.putAll(ExecutionPlanContext.exportarSystemProperties());
+        return propriedades;
+    }
 
+    private void adicionarAlvoExecucao(final List<String> comando) throws URISyntaxException {
         final Path jarAtual = resolverJarAtual();
         if (jarAtual != null && Files.exists(jarAtual)) {
+            // Arquivo AppCDS gerado pelo perfil Maven startup-cds ao lado do jar.
+            final Path arquivoCds = jarAtual.resolveSibling(ARQUIVO_CDS);
+            if (Files.isRegularFile(arquivoCds)) {
+                comando.add("-XX:SharedArchiveFile=" + arquivoCds);
+            }
             comando.add("-jar");
             comando.add(jarAtual.toString());
         } else {
@@ -178,17 +319,6 @@ public class IsolatedStepProcessExecutor {
             comando.add(classpath);
             comando.add(MAIN_CLASS_NAME);
         }
-
-        comando.add("--executar-step-isolado");
-        comando.add(apiType.name().toLowerCase(Locale.ROOT));
-        comando.add(dataInicio.toString());
-        comando.add(dataFim.toString());
-        comando.add(entidade == null || entidade.isBlank() ? "all" : entidade);
-        if (faultMode != null && faultMode != FaultMode.NONE) {
-            comando.add("--fault");
-            comando.add(faultMode.cliValue());
-        }
-        return comando;
     }
 
     private String montarClasspathExecucao() throws URISyntaxException {
@@ -237,28 +367,14 @@ public class IsolatedStepProcessExecutor {
     }
 
     private Path criarArquivoLog(final ApiType apiType,
+                                 final LocalDate dataInicio,
+                                 final LocalDate dataFim,
                                  final String entidade,
                                  final FaultMode faultMode) throws IOException {
         LogStoragePaths.ensureBaseDirectories();
         final Path dir = LogStoragePaths.ISOLATED_STEPS_DIR;
         Files.createDirectories(dir);
-        final String nomeEntidade = entidade == null || entidade.isBlank()
-            ? "all"
-            : entidade.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
-        final String nomeFault = faultMode == null ? FaultMode.NONE.cliValue() : faultMode.cliValue();
-        final String sufixoExecucao = resolverSufixoExecucaoArquivo();
-        final Path arquivo = dir.resolve(
-            "isolated_step_"
-                + apiType.name().toLowerCase(Locale.ROOT)
-                + "_"
-                + nomeEntidade
-                + "_"
-                + nomeFault
-                + sufixoExecucao
-                + "_"
-                + FILE_TS.format(LocalDateTime.now())
-                + ".log"
-        );
+        final Path arquivo = dir.resolve(nomeArquivoLog(apiType, dataInicio, dataFim, entidade, faultMode, LocalDateTime.now()));
         if (!Files.exists(arquivo)) {
             Files.createFile(arquivo);
         }
@@ -271,6 +387,32 @@ public class IsolatedStepProcessExecutor {
         return arquivo;
     }
 
+    /**
+     * Inclui o periodo do step: blocos paralelos do --extracao-intervalo dividem exec/cycle e o mesmo segundo.
+     */
+    String nomeArquivoLog(final ApiType apiType,
+                          final LocalDate dataInicio,
+                          final LocalDate dataFim,
+                          final String entidade,
+                          final FaultMode faultMode,
+                          final LocalDateTime agora) {
+        final String nomeEntidade = entidade == null || entidade.isBlank()
+            ? "all"
+            : entidade.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
+        final String nomeFault = faultMode == null ? FaultMode.NONE.cliValue() : faultMode.cliValue();
+        return "isolated_step_"
+            + apiType.name().toLowerCase(Locale.ROOT)
+            + "_"
+            + nomeEntidade
+            + "_"
+            + nomeFault
+            + resolverSufixoExecucaoArquivo()
+            + "_" + dataInicio + "_" + dataFim
+            + "_"
+            + FILE_TS.format(agora)
+            + ".log";
+    }
+
     private Thread criarShutdownHook(final Process process, final ApiType apiType, final String entidade) {
         return new Thread(() -> {
             if (process != null && process.isAlive()) {
@@ -301,7 +443,7 @@ public class IsolatedStepProcessExecutor {
         }
     }
 
-    private void destruirProcesso(final Process process) {
+    static void destruirProcesso(final Process process) {
         process.descendants().forEach(ProcessHandle::destroyForcibly);
         process.destroy();
         try {
@@ -317,11 +459,6 @@ public class IsolatedStepProcessExecutor {
         }
     }
 
-    private void adicionarPlanosExecucao(final List<String> comando) {
-        ExecutionPlanContext.exportarSystemProperties()
-            .forEach((chave, valor) -> comando.add("-D" + chave + "=" + valor));
-    }
-
     private String lerTail(final Path logFile) {
         try {
             final List<String> linhas = Files.readAllLines(logFile, StandardCharsets.UTF_8);
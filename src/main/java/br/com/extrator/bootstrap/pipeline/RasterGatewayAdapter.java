@@ -12,13 +12,17 @@ import br.com.extrator.integracao.raster.services.RasterExtractionService;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
 
 public final class RasterGatewayAdapter implements RasterGateway {
-    private final RasterExtractionService service;
+    private final ServicoSobDemanda<RasterExtractionService> service;
 
     public RasterGatewayAdapter() {
-        this(new RasterExtractionService());
+        this(ServicoSobDemanda.de(RasterExtractionService::new));
     }
 
     RasterGatewayAdapter(final RasterExtractionService service) {
+        this(ServicoSobDemanda.pronto(service));
+    }
+
+    private RasterGatewayAdapter(final ServicoSobDemanda<RasterExtractionService> service) {
         this.service = service;
     }
 
@@ -28,7 +32,7 @@ public final class RasterGatewayAdapter implements RasterGateway {
                                         final String entidade) {
         final LocalDateTime inicio = LocalDateTime.now();
         final String entidadeExecucao = normalizarEntidade(entidade);
-        final ExtractionResult result = service.executar(dataInicio, dataFim);
+        final ExtractionResult result = service.get().executar(dataInicio, dataFim);
         final boolean completo = result != null && ConstantesEntidades.STATUS_COMPLETO.equals(result.getStatus());
         final String mensagem = result == null
             ? "Raster sem resultado operacional"
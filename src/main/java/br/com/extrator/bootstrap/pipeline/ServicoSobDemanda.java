@@ -0,0 +1,41 @@
+package br.com.extrator.bootstrap.pipeline;
+
+import java.util.function.Supplier;
+
+/**
+ * Cria o servico de extracao na primeira chamada. No processo pai com isolamento ativo os steps rodam em
+ * outra JVM, e os clientes HTTP, tokens e repositorios do servico nunca precisam ser montados.
+ */
+final class ServicoSobDemanda<T> implements Supplier<T> {
+    private final Supplier<T> fabrica;
+    private volatile T instancia;
+
+    private ServicoSobDemanda(final Supplier<T> fabrica) {
+        this.fabrica = fabrica;
+    }
+
+    static <T> ServicoSobDemanda<T> de(final Supplier<T> fabrica) {
+        return new ServicoSobDemanda<>(fabrica);
+    }
+
+    static <T> ServicoSobDemanda<T> pronto(final T instancia) {
+        final ServicoSobDemanda<T> servico = new ServicoSobDemanda<>(() -> instancia);
+        servico.instancia = instancia;
+        return servico;
+    }
+
+    @Override
+    public T get() {
+        T atual = instancia;
+        if (atual == null) {
+            synchronized (this) {
+                atual = instancia;
+                if (atual == null) {
+                    atual = fabrica.get();
+                    instancia = atual;
+                }
+            }
+        }
+        return atual;
+    }
+}
@@ -0,0 +1,302 @@
+package br.com.extrator.bootstrap.pipeline;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import br.com.extrator.observabilidade.LogRetentionPolicy;
+import br.com.extrator.observabilidade.LogStoragePaths;
+import br.com.extrator.suporte.configuracao.ConfigEtl;
+import br.com.extrator.suporte.console.LoggerConsole;
+import br.com.extrator.suporte.mapeamento.MapperUtil;
+
+/**
+ * JVMs filhas pre-aquecidas que recebem steps isolados por stdin (um pedido JSON por linha) e respondem
+ * por stdout. Cada step continua em outro processo: travamento ou timeout mata a JVM inteira, e falha
+ * descarta a JVM em vez de devolve-la ao pool.
+ */
+public final class WarmStepWorkerPool {
+    public static final String FLAG_WORKER = "--worker-step-isolado";
+    public static final String PREFIXO_RESULTADO = "WORKER_STEP_RESULT ";
+    public static final String RESULTADO_OK = "ok";
+    public static final String RESULTADO_ERRO = "erro";
+    private static final String FIM_DA_SAIDA = "\u0000eof";
+    private static final DateTimeFormatter FILE_TS = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+    private static final AtomicLong SEQUENCIA = new AtomicLong();
+    private static final LoggerConsole log = LoggerConsole.getLogger(WarmStepWorkerPool.class);
+    private static WarmStepWorkerPool compartilhado;
+
+    private final int tamanho;
+    private final int maximoSteps;
+    private final Deque<Worker> ociosos = new ArrayDeque<>();
+    private final Set<Worker> ativos = ConcurrentHashMap.newKeySet();
+    private final Thread shutdownHook;
+    private boolean encerrado;
+
+    WarmStepWorkerPool(final int tamanho, final int maximoSteps) {
+        this.tamanho = Math.max(1, tamanho);
+        this.maximoSteps = Math.max(1, maximoSteps);
+        this.shutdownHook = new Thread(this::encerrar, "isolated-step-warm-pool-shutdown");
+        try {
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        } catch (final IllegalStateException ignored) {
+            // JVM ja esta em shutdown; nenhum worker chegara a ser criado.
+        }
+    }
+
+    /**
+     * Pool do processo atual; null quando etl.process.isolation.warm_pool.size=0.
+     */
+    static synchronized WarmStepWorkerPool compartilhado() {
+        final int tamanhoConfigurado = ConfigEtl.obterTamanhoPoolProcessosAquecidos();
+        if (tamanhoConfigurado <= 0) {
+            return null;
+        }
+        if (compartilhado == null || compartilhado.tamanho != tamanhoConfigurado) {
+            if (compartilhado != null) {
+                compartilhado.encerrar();
+            }
+            compartilhado = new WarmStepWorkerPool(tamanhoConfigurado, ConfigEtl.obterMaximoStepsPorProcessoAquecido());
+        }
+        return compartilhado;
+    }
+
+    /**
+     * Retira um worker ocioso iniciado com o mesmo comando; sem ocioso, inicia um novo. Workers iniciados
+     * com outra configuracao (comando diferente) sao descartados.
+     */
+    synchronized Worker emprestar(final List<String> comandoWorker) throws IOException {
+        if (encerrado) {
+            throw new IllegalStateException("Pool de processos aquecidos ja encerrado.");
+        }
+        Worker escolhido = null;
+        while (!ociosos.isEmpty() && escolhido == null) {
+            final Worker candidato = ociosos.pollFirst();
+            if (candidato.processo().isAlive() && candidato.comando().equals(comandoWorker)) {
+                escolhido = candidato;
+            } else {
+                descartar(candidato);
+            }
+        }
+        if (escolhido == null) {
+            escolhido = iniciar(comandoWorker);
+        }
+        completar(comandoWorker);
+        return escolhido;
+    }
+
+    /**
+     * Worker descartado e reposto na hora, para o proximo step encontrar uma JVM ja aquecida.
+     *
+     * @param reutilizavel false apos falha, timeout ou resposta ausente: a JVM e sempre descartada
+     */
+    synchronized void devolver(final Worker worker, final boolean reutilizavel) {
+        if (encerrado) {
+            descartar(worker);
+            return;
+        }
+        if (reutilizavel
+            && worker.processo().isAlive()
+            && worker.stepsAtendidos() < maximoSteps
+            && ociosos.size() < tamanho) {
+            ociosos.addFirst(worker);
+            return;
+        }
+        descartar(worker);
+        try {
+            completar(worker.comando());
+        } catch (final IOException e) {
+            log.warn("Falha ao repor worker de step isolado: {}", e.getMessage());
+        }
+    }
+
+    synchronized int totalOciosos() {
+        return ociosos.size();
+    }
+
+    void encerrar() {
+        synchronized (this) {
+            encerrado = true;
+            ociosos.clear();
+        }
+        ativos.forEach(this::descartar);
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (final IllegalStateException | IllegalArgumentException ignored) {
+            // Chamado pelo proprio hook ou durante o shutdown.
+        }
+    }
+
+    private void completar(final List<String> comandoWorker) throws IOException {
+        while (ativos.size() < tamanho) {
+            ociosos.addLast(iniciar(comandoWorker));
+        }
+    }
+
+    private Worker iniciar(final List<String> comandoWorker) throws IOException {
+        final Path logWorker = criarArquivoLogWorker();
+        final ProcessBuilder processBuilder = new ProcessBuilder(comandoWorker);
+        processBuilder.directory(LogStoragePaths.PROJECT_ROOT.toFile());
+        processBuilder.redirectError(logWorker.toFile());
+        final Worker worker = new Worker(processBuilder.start(), List.copyOf(comandoWorker));
+        ativos.add(worker);
+        return worker;
+    }
+
+    private void descartar(final Worker worker) {
+        ativos.remove(worker);
+        worker.fecharEntrada();
+        if (worker.processo().isAlive()) {
+            IsolatedStepProcessExecutor.destruirProcesso(worker.processo());
+        }
+    }
+
+    private Path criarArquivoLogWorker() throws IOException {
+        LogStoragePaths.ensureBaseDirectories();
+        final Path dir = LogStoragePaths.ISOLATED_STEPS_DIR;
+        Files.createDirectories(dir);
+        final Path arquivo = dir.resolve(
+            "isolated_worker_" + FILE_TS.format(LocalDateTime.now()) + "_" + SEQUENCIA.incrementAndGet() + ".log"
+        );
+        LogRetentionPolicy.retainRecentFiles(
+            dir,
+            LogStoragePaths.MAX_FILES_PER_BUCKET,
+            path -> LogRetentionPolicy.hasExtension(path, ".log")
+                && path.getFileName().toString().startsWith("isolated_worker_")
+        );
+        return arquivo;
+    }
+
+    /**
+     * Pedido de step enviado ao worker; {@code propriedades} sao aplicadas como System properties so durante o step.
+     */
+    public record PedidoStep(String api,
+                             String dataInicio,
+                             String dataFim,
+                             String entidade,
+                             String fault,
+                             String arquivoLog,
+                             Map<String, String> propriedades) {
+
+        public String serializar() {
+            try {
+                return MapperUtil.sharedJson().writeValueAsString(this);
+            } catch (final JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        public static PedidoStep ler(final String linha) {
+            try {
+                return MapperUtil.sharedJson().readValue(linha, PedidoStep.class);
+            } catch (final JsonProcessingException e) {
+                throw new IllegalArgumentException("Pedido de step isolado invalido: " + e.getOriginalMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * JVM filha dedicada a um step por vez; stdout e lido em thread propria para o pai poder esperar com deadline.
+     */
+    static final class Worker {
+        private final Process processo;
+        private final List<String> comando;
+        private final BufferedWriter entrada;
+        private final LinkedBlockingQueue<String> respostas = new LinkedBlockingQueue<>();
+        private int stepsAtendidos;
+        private String ultimaResposta;
+
+        private Worker(final Process processo, final List<String> comando) {
+            this.processo = processo;
+            this.comando = comando;
+            this.entrada = new BufferedWriter(new OutputStreamWriter(processo.getOutputStream(), StandardCharsets.UTF_8));
+            final Thread leitor = new Thread(this::lerSaida, "isolated-step-worker-" + processo.pid());
+            leitor.setDaemon(true);
+            leitor.start();
+        }
+
+        Process processo() {
+            return processo;
+        }
+
+        List<String> comando() {
+            return comando;
+        }
+
+        int stepsAtendidos() {
+            return stepsAtendidos;
+        }
+
+        void enviar(final PedidoStep pedido) throws IOException {
+            stepsAtendidos++;
+            ultimaResposta = null;
+            respostas.clear();
+            entrada.write(pedido.serializar());
+            entrada.newLine();
+            entrada.flush();
+        }
+
+        /**
+         * @return true quando o worker respondeu ou encerrou a saida dentro da espera
+         */
+        boolean aguardarResposta(final long espera, final TimeUnit unidade) throws InterruptedException {
+            final String resposta = respostas.poll(espera, unidade);
+            if (resposta == null) {
+                return false;
+            }
+            ultimaResposta = resposta;
+            return true;
+        }
+
+        /**
+         * Resposta do ultimo pedido; null quando o worker encerrou sem responder.
+         */
+        String ultimaResposta() {
+            return FIM_DA_SAIDA.equals(ultimaResposta) ? null : ultimaResposta;
+        }
+
+        private void fecharEntrada() {
+            try {
+                entrada.close();
+            } catch (final IOException ignored) {
+                // Processo ja encerrado.
+            }
+        }
+
+        private void lerSaida() {
+            try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(processo.getInputStream(), StandardCharsets.UTF_8)
+            )) {
+                String linha;
+                while ((linha = reader.readLine()) != null) {
+                    // Saida fora do protocolo (ex.: banner antes do redirecionamento) e ignorada.
+                    if (linha.startsWith(PREFIXO_RESULTADO)) {
+                        respostas.add(linha.substring(PREFIXO_RESULTADO.length()));
+                    }
+                }
+            } catch (final IOException e) {
+                log.debug("Leitura do worker {} interrompida: {}", processo.pid(), e.getMessage());
+            }
+            respostas.add(FIM_DA_SAIDA);
+        }
+    }
+}
@@ -31,13 +31,16 @@ Atributos-chave:
 package br.com.extrator.comandos.cli;
 
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import br.com.extrator.comandos.cli.auditoria.AuditarEstruturaApiComando;
 import br.com.extrator.comandos.cli.auditoria.ExecutarAuditoriaComando;
 import br.com.extrator.comandos.cli.base.Comando;
+import br.com.extrator.comandos.cli.base.Subsistema;
 import br.com.extrator.comandos.cli.console.ExibirAjudaComando;
 import br.com.extrator.comandos.cli.extracao.ExecutarFechamentoMensalComando;
 import br.com.extrator.comandos.cli.extracao.ExecutarExtracaoPorIntervaloComando;
@@ -45,8 +48,11 @@ import br.com.extrator.comandos.cli.extracao.ExecutarFluxoCompletoComando;
 import br.com.extrator.comandos.cli.extracao.ExpurgoOrfaosComando;
 import br.com.extrator.comandos.cli.extracao.LoopDaemonComando;
 import br.com.extrator.comandos.cli.extracao.LoopExtracaoComando;
+import br.com.extrator.comandos.cli.extracao.RecontarCompletudeComando;
 import br.com.extrator.comandos.cli.extracao.recovery.RecoveryComando;
 import br.com.extrator.comandos.cli.interno.ExecutarStepIsoladoComando;
+import br.com.extrator.comandos.cli.interno.ExecutarWorkerStepIsoladoComando;
+import br.com.extrator.comandos.cli.interno.TreinarArquivoCdsComando;
 import br.com.extrator.comandos.cli.materializacao.MaterializarFatosBiComando;
 import br.com.extrator.comandos.cli.materializacao.MaterializarFatosBiSchedulerComando;
 import br.com.extrator.comandos.cli.seguranca.AuthBootstrapComando;
@@ -81,57 +87,73 @@ public final class CommandRegistry {
     }
 
     static Comando lazy(final Supplier<Comando> factory) {
-        return new LazyComando(factory);
+        return lazy(factory, Subsistema.todos());
+    }
+
+    /**
+     * @param subsistemas declarados sem instanciar o comando, para o bootstrap decidir o que inicializar
+     */
+    static Comando lazy(final Supplier<Comando> factory, final Set<Subsistema> subsistemas) {
+        return new LazyComando(factory, subsistemas);
     }
 
     private static void registrarComandosPadrao(final Map<String, Comando> comandos) {
-        comandos.put("--fluxo-completo", lazy(ExecutarFluxoCompletoComando::new));
-        comandos.put("--extracao-intervalo", lazy(ExecutarExtracaoPorIntervaloComando::new));
-        comandos.put("--fechamento-mensal", lazy(ExecutarFechamentoMensalComando::new));
-        comandos.put("--recovery", lazy(RecoveryComando::new));
-        comandos.put("--expurgo-orfaos", lazy(ExpurgoOrfaosComando::new));
-        comandos.put("--loop", lazy(LoopExtracaoComando::new));
-        comandos.put("--validar", lazy(ValidarAcessoComando::new));
-        comandos.put("--ajuda", lazy(ExibirAjudaComando::new));
-        comandos.put("--help", lazy(ExibirAjudaComando::new));
-        comandos.put("--introspeccao", lazy(RealizarIntrospeccaoGraphQLComando::new));
-        comandos.put("--auditoria", lazy(ExecutarAuditoriaComando::new));
-        comandos.put("--auditar-api", lazy(AuditarEstruturaApiComando::new));
-        comandos.put("--testar-api", lazy(TestarApiComando::new));
-        comandos.put("--sincronizar-usuarios", lazy(SincronizarUsuariosComando::new));
-        comandos.put("--limpar-tabelas", lazy(LimparTabelasComando::new));
-        comandos.put("--verificar-timestamps", lazy(VerificarTimestampsComando::new));
-        comandos.put("--verificar-timezone", lazy(VerificarTimezoneComando::new));
-        comandos.put("--validar-manifestos", lazy(ValidarManifestosComando::new));
-        comandos.put("--validar-dados", lazy(ValidarDadosCompletoComando::new));
-        comandos.put("--validar-api-banco-24h", lazy(ValidarApiVsBanco24hComando::new));
-        comandos.put("--validar-api-banco-24h-detalhado", lazy(ValidarApiVsBanco24hDetalhadoComando::new));
-        comandos.put("--validar-etl-extremo", lazy(ValidarEtlExtremoComando::new));
-        comandos.put("--validar-etl-resiliencia", lazy(ValidarEtlResilienciaComando::new));
-        comandos.put("--executar-step-isolado", lazy(ExecutarStepIsoladoComando::new));
-        comandos.put("--exportar-csv", lazy(ExportarCsvComando::new));
-        comandos.put("--materializar-fatos-bi", lazy(MaterializarFatosBiComando::new));
-        comandos.put("--materializar-fatos-bi-scheduler", lazy(MaterializarFatosBiSchedulerComando::new));
-
-        comandos.put("--auth-check", lazy(AuthCheckComando::new));
-        comandos.put("--auth-bootstrap", lazy(AuthBootstrapComando::new));
-        comandos.put("--auth-create-user", lazy(AuthCreateUserComando::new));
-        comandos.put("--auth-reset-password", lazy(AuthResetPasswordComando::new));
-        comandos.put("--auth-disable-user", lazy(AuthDisableUserComando::new));
-        comandos.put("--auth-info", lazy(AuthInfoComando::new));
-
-        comandos.put("--loop-daemon-start", lazy(() -> new LoopDaemonComando(LoopDaemonComando.Modo.START)));
-        comandos.put("--loop-daemon-stop", lazy(() -> new LoopDaemonComando(LoopDaemonComando.Modo.STOP)));
-        comandos.put("--loop-daemon-status", lazy(() -> new LoopDaemonComando(LoopDaemonComando.Modo.STATUS)));
-        comandos.put("--loop-daemon-run", lazy(() -> new LoopDaemonComando(LoopDaemonComando.Modo.RUN)));
+        final Set<Subsistema> execucao = Subsistema.todos();
+        final Set<Subsistema> banco = EnumSet.of(Subsistema.BANCO_DADOS);
+        final Set<Subsistema> nenhum = Subsistema.nenhum();
+
+        comandos.put("--fluxo-completo", lazy(ExecutarFluxoCompletoComando::new, execucao));
+        comandos.put("--extracao-intervalo", lazy(ExecutarExtracaoPorIntervaloComando::new, execucao));
+        comandos.put("--fechamento-mensal", lazy(ExecutarFechamentoMensalComando::new, execucao));
+        comandos.put("--recontar-completude", lazy(RecontarCompletudeComando::new, execucao));
+        comandos.put("--recovery", lazy(RecoveryComando::new, execucao));
+        comandos.put("--expurgo-orfaos", lazy(ExpurgoOrfaosComando::new, execucao));
+        comandos.put("--loop", lazy(LoopExtracaoComando::new, execucao));
+        comandos.put("--validar", lazy(ValidarAcessoComando::new, banco));
+        comandos.put("--ajuda", lazy(ExibirAjudaComando::new, nenhum));
+        comandos.put("--help", lazy(ExibirAjudaComando::new, nenhum));
+        comandos.put("--introspeccao", lazy(RealizarIntrospeccaoGraphQLComando::new, banco));
+        comandos.put("--auditoria", lazy(ExecutarAuditoriaComando::new, banco));
+        comandos.put("--auditar-api", lazy(AuditarEstruturaApiComando::new, execucao));
+        comandos.put("--testar-api", lazy(TestarApiComando::new, execucao));
+        comandos.put("--sincronizar-usuarios", lazy(SincronizarUsuariosComando::new, execucao));
+        comandos.put("--limpar-tabelas", lazy(LimparTabelasComando::new, banco));
+        comandos.put("--verificar-timestamps", lazy(VerificarTimestampsComando::new, banco));
+        comandos.put("--verificar-timezone", lazy(VerificarTimezoneComando::new, banco));
+        comandos.put("--validar-manifestos", lazy(ValidarManifestosComando::new, banco));
+        comandos.put("--validar-dados", lazy(ValidarDadosCompletoComando::new, banco));
+        comandos.put("--validar-api-banco-24h", lazy(ValidarApiVsBanco24hComando::new, execucao));
+        comandos.put("--validar-api-banco-24h-detalhado", lazy(ValidarApiVsBanco24hDetalhadoComando::new, execucao));
+        comandos.put("--validar-etl-extremo", lazy(ValidarEtlExtremoComando::new, execucao));
+        comandos.put("--validar-etl-resiliencia", lazy(ValidarEtlResilienciaComando::new, execucao));
+        comandos.put("--executar-step-isolado", lazy(ExecutarStepIsoladoComando::new, execucao));
+        comandos.put("--worker-step-isolado", lazy(ExecutarWorkerStepIsoladoComando::new, execucao));
+        comandos.put("--treinar-cds", lazy(TreinarArquivoCdsComando::new, nenhum));
+        comandos.put("--exportar-csv", lazy(ExportarCsvComando::new, banco));
+        comandos.put("--materializar-fatos-bi", lazy(MaterializarFatosBiComando::new, banco));
+        comandos.put("--materializar-fatos-bi-scheduler", lazy(MaterializarFatosBiSchedulerComando::new, banco));
+
+        comandos.put("--auth-check", lazy(AuthCheckComando::new, nenhum));
+        comandos.put("--auth-bootstrap", lazy(AuthBootstrapComando::new, nenhum));
+        comandos.put("--auth-create-user", lazy(AuthCreateUserComando::new, nenhum));
+        comandos.put("--auth-reset-password", lazy(AuthResetPasswordComando::new, nenhum));
+        comandos.put("--auth-disable-user", lazy(AuthDisableUserComando::new, nenhum));
+        comandos.put("--auth-info", lazy(AuthInfoComando::new, nenhum));
+
+        comandos.put("--loop-daemon-start", lazy(() -> new LoopDaemonComando(LoopDaemonComando.Modo.START), nenhum));
+        comandos.put("--loop-daemon-stop", lazy(() -> new LoopDaemonComando(LoopDaemonComando.Modo.STOP), nenhum));
+        comandos.put("--loop-daemon-status", lazy(() -> new LoopDaemonComando(LoopDaemonComando.Modo.STATUS), nenhum));
+        comandos.put("--loop-daemon-run", lazy(() -> new LoopDaemonComando(LoopDaemonComando.Modo.RUN), execucao));
     }
 
     private static final class LazyComando implements Comando {
         private final Supplier<Comando> factory;
+        private final Set<Subsistema> subsistemas;
         private volatile Comando delegate;
 
-        private LazyComando(final Supplier<Comando> factory) {
+        private LazyComando(final Supplier<Comando> factory, final Set<Subsistema> subsistemas) {
             this.factory = factory;
+            this.subsistemas = Collections.unmodifiableSet(EnumSet.copyOf(subsistemas));
         }
 
         @Override
@@ -139,6 +161,11 @@ public final class CommandRegistry {
             resolver().executar(args);
         }
 
+        @Override
+        public Set<Subsistema> subsistemas() {
+            return subsistemas;
+        }
+
         private Comando resolver() {
             if (delegate == null) {
                 synchronized (this) {
@@ -22,6 +22,8 @@ Atributos-chave:
 
 package br.com.extrator.comandos.cli.base;
 
+import java.util.Set;
+
 /**
  * Interface que define o contrato comum para todos os comandos do sistema.
  * 
@@ -37,4 +39,11 @@ public interface Comando {
      * @throws Exception Se ocorrer algum erro durante a execução
      */
     void executar(String[] args) throws Exception;
+
+    /**
+     * Subsistemas que o bootstrap deve preparar para este comando; sem declaracao, assume todos.
+     */
+    default Set<Subsistema> subsistemas() {
+        return Subsistema.todos();
+    }
 }
\ No newline at end of file
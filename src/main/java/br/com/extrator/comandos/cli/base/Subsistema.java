@@ -0,0 +1,23 @@
+package br.com.extrator.comandos.cli.base;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Subsistemas que um comando declara precisar. O bootstrap so inicializa o que foi declarado;
+ * o restante permanece sob demanda.
+ */
+public enum Subsistema {
+    /** Adapters do pipeline registrados no AplicacaoContexto. */
+    CONTEXTO_PIPELINE,
+    /** Pool HikariCP do SQL Server (inclui o historico de execucao gravado no banco). */
+    BANCO_DADOS;
+
+    public static Set<Subsistema> nenhum() {
+        return EnumSet.noneOf(Subsistema.class);
+    }
+
+    public static Set<Subsistema> todos() {
+        return EnumSet.allOf(Subsistema.class);
+    }
+}
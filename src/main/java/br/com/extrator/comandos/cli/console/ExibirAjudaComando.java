@@ -41,6 +41,8 @@ public class ExibirAjudaComando implements Comando {
         System.out.println("  --extracao-intervalo  Executa extracao por intervalo");
         System.out.println("                        Uso: --extracao-intervalo YYYY-MM-DD YYYY-MM-DD [api] [entidade] [--retrofit]");
         System.out.println("  --fechamento-mensal   Reprocessa automaticamente o mes anterior fechado");
+        System.out.println("  --recontar-completude Reconta a completude de cada dia util do mes (padrao: mes anterior)");
+        System.out.println("                        Uso: --recontar-completude [YYYY-MM]");
         System.out.println("  --recovery            Replay/backfill idempotente por intervalo");
         System.out.println("                        Uso: --recovery YYYY-MM-DD YYYY-MM-DD [--api graphql|dataexport] [--entidade nome]");
         System.out.println("  --expurgo-orfaos      Executa reconciliacao noturna Sweep and Prune para DataExport");
@@ -65,6 +67,7 @@ public class ExibirAjudaComando implements Comando {
         System.out.println("                        Executa a bateria extrema do ETL com API x banco x logs x paginacao");
         System.out.println("                        Opcional: --periodo-fechado | --permitir-fallback-janela");
         System.out.println("                                  --stress-repeticoes N | --executar-idempotencia | --executar-hidratacao-orfaos");
+        System.out.println("                                  --paralelismo N (entidades em paralelo) | --parar-apos-falhas N (early exit)");
         System.out.println("  --validar-etl-resiliencia");
         System.out.println("                        Executa bateria de resiliencia/chaos do daemon e do pipeline");
         System.out.println("                        Opcional: --auto-chaos | --ciclos N | --duracao-segundos N");
@@ -91,6 +94,7 @@ public class ExibirAjudaComando implements Comando {
         System.out.println("  java -jar extrator.jar --fluxo-completo");
         System.out.println("  java -jar extrator.jar --extracao-intervalo 2026-01-01 2026-01-31");
         System.out.println("  java -jar extrator.jar --fechamento-mensal");
+        System.out.println("  java -jar extrator.jar --recontar-completude 2026-01");
         System.out.println("  java -jar extrator.jar --extracao-intervalo 2026-01-01 2026-01-31 --retrofit");
         System.out.println("  java -jar extrator.jar --recovery 2026-01-01 2026-01-31 --api graphql --entidade coletas");
         System.out.println("  java -jar extrator.jar --expurgo-orfaos --periodo 2026-05-29 2026-05-30 --dry-run");
@@ -1,11 +1,18 @@
 package br.com.extrator.comandos.cli.extracao;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import br.com.extrator.aplicacao.contexto.AplicacaoContexto;
 import br.com.extrator.aplicacao.extracao.ExtracaoPorIntervaloRequest;
 import br.com.extrator.aplicacao.extracao.ExtracaoPorIntervaloUseCase;
+import br.com.extrator.aplicacao.portas.CompletudePort;
 import br.com.extrator.comandos.cli.base.Comando;
 import br.com.extrator.suporte.console.LoggerConsole;
 import br.com.extrator.suporte.formatacao.FormatadorData;
@@ -16,15 +23,27 @@ public class ExecutarFechamentoMensalComando implements Comando {
 
     private final ExtracaoPorIntervaloUseCase extracaoPorIntervaloUseCase;
     private final Supplier<LocalDate> hojeSupplier;
+    private final Function<LocalDate, Map<String, CompletudePort.StatusCompletude>> recontagemCompletude;
 
     public ExecutarFechamentoMensalComando() {
-        this(new ExtracaoPorIntervaloUseCase(), RelogioSistema::hoje);
+        this(
+            new ExtracaoPorIntervaloUseCase(),
+            RelogioSistema::hoje,
+            data -> AplicacaoContexto.completudePort().recontarCompletude(data)
+        );
     }
 
     ExecutarFechamentoMensalComando(final ExtracaoPorIntervaloUseCase extracaoPorIntervaloUseCase,
                                     final Supplier<LocalDate> hojeSupplier) {
+        this(extracaoPorIntervaloUseCase, hojeSupplier, data -> Map.of());
+    }
+
+    ExecutarFechamentoMensalComando(final ExtracaoPorIntervaloUseCase extracaoPorIntervaloUseCase,
+                                    final Supplier<LocalDate> hojeSupplier,
+                                    final Function<LocalDate, Map<String, CompletudePort.StatusCompletude>> recontagemCompletude) {
         this.extracaoPorIntervaloUseCase = extracaoPorIntervaloUseCase;
         this.hojeSupplier = hojeSupplier;
+        this.recontagemCompletude = recontagemCompletude;
     }
 
     @Override
@@ -49,5 +68,47 @@ public class ExecutarFechamentoMensalComando implements Comando {
             false,
             ExtracaoPorIntervaloRequest.ModoExecucao.INTERVALO
         ));
+        recontarCompletude(recontagemCompletude, mesAnterior);
+    }
+
+    /**
+     * O fechamento reextrai o mes inteiro, entao a validacao incremental nao basta:
+     * recontamos o destino em cada dia util do mes fechado, contra o ultimo log COMPLETO do dia.
+     * Divergencias sao reportadas, mas nao invalidam o fechamento ja persistido.
+     *
+     * @return quantidade de pares dia/entidade fora de OK
+     */
+    public static int recontarCompletude(final Function<LocalDate, Map<String, CompletudePort.StatusCompletude>> recontagem,
+                                         final YearMonth mesFechado) {
+        int divergencias = 0;
+        for (final LocalDate dia : diasUteis(mesFechado)) {
+            try {
+                final Map<String, CompletudePort.StatusCompletude> resultado = recontagem.apply(dia);
+                for (final Map.Entry<String, CompletudePort.StatusCompletude> entrada : resultado.entrySet()) {
+                    if (entrada.getValue() == CompletudePort.StatusCompletude.OK) {
+                        log.info("FECHAMENTO_COMPLETUDE | dia={} | entidade={} | status={}", dia, entrada.getKey(), entrada.getValue());
+                    } else {
+                        divergencias++;
+                        log.warn("FECHAMENTO_COMPLETUDE | dia={} | entidade={} | status={}", dia, entrada.getKey(), entrada.getValue());
+                    }
+                }
+            } catch (final RuntimeException e) {
+                log.warn("FECHAMENTO_COMPLETUDE | recontagem completa indisponivel: {}", e.getMessage());
+                return divergencias;
+            }
+        }
+        log.info("FECHAMENTO_COMPLETUDE | mes={} | divergencias={}", mesFechado, divergencias);
+        return divergencias;
+    }
+
+    static List<LocalDate> diasUteis(final YearMonth mes) {
+        final List<LocalDate> dias = new ArrayList<>();
+        for (LocalDate dia = mes.atDay(1); !dia.isAfter(mes.atEndOfMonth()); dia = dia.plusDays(1)) {
+            final DayOfWeek diaSemana = dia.getDayOfWeek();
+            if (diaSemana != DayOfWeek.SATURDAY && diaSemana != DayOfWeek.SUNDAY) {
+                dias.add(dia);
+            }
+        }
+        return dias;
     }
 }
@@ -0,0 +1,53 @@
+package br.com.extrator.comandos.cli.extracao;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import br.com.extrator.aplicacao.contexto.AplicacaoContexto;
+import br.com.extrator.aplicacao.portas.CompletudePort;
+import br.com.extrator.comandos.cli.base.Comando;
+import br.com.extrator.suporte.console.LoggerConsole;
+import br.com.extrator.suporte.tempo.RelogioSistema;
+
+/**
+ * Recontagem completa de completude sob demanda, dia util a dia util, sem reextrair o mes.
+ */
+public class RecontarCompletudeComando implements Comando {
+    private static final LoggerConsole log = LoggerConsole.getLogger(RecontarCompletudeComando.class);
+
+    private final Supplier<LocalDate> hojeSupplier;
+    private final Function<LocalDate, Map<String, CompletudePort.StatusCompletude>> recontagemCompletude;
+
+    public RecontarCompletudeComando() {
+        this(RelogioSistema::hoje, data -> AplicacaoContexto.completudePort().recontarCompletude(data));
+    }
+
+    RecontarCompletudeComando(final Supplier<LocalDate> hojeSupplier,
+                              final Function<LocalDate, Map<String, CompletudePort.StatusCompletude>> recontagemCompletude) {
+        this.hojeSupplier = hojeSupplier;
+        this.recontagemCompletude = recontagemCompletude;
+    }
+
+    @Override
+    public void executar(final String[] args) throws Exception {
+        final YearMonth mes = resolverMes(args);
+        log.console("Recontando completude dos dias uteis de {}", mes);
+        final int divergencias = ExecutarFechamentoMensalComando.recontarCompletude(recontagemCompletude, mes);
+        log.console("Recontagem concluida: {} divergencia(s) dia/entidade", divergencias);
+    }
+
+    private YearMonth resolverMes(final String[] args) {
+        if (args == null || args.length < 2) {
+            return YearMonth.from(hojeSupplier.get()).minusMonths(1);
+        }
+        try {
+            return YearMonth.parse(args[1]);
+        } catch (final DateTimeParseException e) {
+            throw new IllegalArgumentException("Uso: --recontar-completude [YYYY-MM]", e);
+        }
+    }
+}
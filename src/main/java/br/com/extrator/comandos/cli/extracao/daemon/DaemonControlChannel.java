@@ -0,0 +1,313 @@
+/* ==[DOC-FILE]===============================================================
+Arquivo : src/main/java/br/com/extrator/comandos/extracao/daemon/DaemonControlChannel.java
+Classe  : DaemonControlChannel (class)
+Pacote  : br.com.extrator.comandos.cli.extracao.daemon
+Modulo  : Comando CLI (daemon)
+Papel   : Canal de controle local do loop daemon (parada, ciclo manual e status ao vivo).
+
+Conecta com:
+- DaemonStateStore
+- PedidoCicloManual
+- LoopDaemonRunHandler
+
+Fluxo geral:
+1) Observa os arquivos stop/force_run via WatchService e acorda a espera do daemon na hora.
+2) Opcionalmente expoe endpoint HTTP em loopback (POST /stop, POST /force-run, GET /status),
+   exigindo o token compartilhado no cabecalho X-Controle-Token.
+3) Pedidos HTTP gravam os mesmos arquivos de controle, mantendo um unico caminho de sinalizacao.
+
+Estrutura interna:
+Metodos principais:
+- abrir(...4 args): inicia observador de arquivos e endpoint HTTP opcional.
+- aguardar(...1 args): espera proximo ciclo, parada ou ciclo manual.
+- acordar(): desperta a espera imediatamente.
+Atributos-chave:
+- watchService: observador dos arquivos de controle.
+- servidor: endpoint HTTP em loopback (null quando desativado).
+[DOC-FILE-END]============================================================== */
+
+package br.com.extrator.comandos.cli.extracao.daemon;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import br.com.extrator.suporte.mapeamento.MapperUtil;
+
+/**
+ * Canal de controle do loop daemon: acorda a espera entre ciclos assim que chega parada ou ciclo manual.
+ */
+public final class DaemonControlChannel implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(DaemonControlChannel.class);
+    /** Rede de seguranca caso algum evento do WatchService se perca (ex.: diretorio recriado). */
+    private static final Duration VERIFICACAO_PERIODICA = Duration.ofSeconds(30);
+    /** Sem WatchService, volta ao polling curto anterior. */
+    private static final Duration VERIFICACAO_SEM_OBSERVADOR = Duration.ofSeconds(1);
+    static final String CABECALHO_TOKEN = "X-Controle-Token";
+
+    private final DaemonStateStore stateStore;
+    private final Supplier<Map<String, Object>> statusAoVivo;
+    private final Object sinal = new Object();
+    private long geracao;
+    private WatchService watchService;
+    private Thread observador;
+    private HttpServer servidor;
+
+    private DaemonControlChannel(final DaemonStateStore stateStore, final Supplier<Map<String, Object>> statusAoVivo) {
+        this.stateStore = stateStore;
+        this.statusAoVivo = statusAoVivo;
+    }
+
+    /**
+     * @param portaHttp porta do endpoint em 127.0.0.1; 0 desativa o HTTP
+     * @param tokenHttp segredo exigido em {@value #CABECALHO_TOKEN}; sem token o HTTP nao e aberto
+     * @param statusAoVivo estado corrente do daemon servido em GET /status
+     */
+    public static DaemonControlChannel abrir(final DaemonStateStore stateStore,
+                                             final int portaHttp,
+                                             final String tokenHttp,
+                                             final Supplier<Map<String, Object>> statusAoVivo) {
+        final DaemonControlChannel canal = new DaemonControlChannel(stateStore, statusAoVivo);
+        canal.iniciarObservador();
+        if (portaHttp > 0) {
+            if (tokenHttp == null || tokenHttp.isBlank()) {
+                logger.warn(
+                    "Endpoint de controle do daemon nao iniciado: defina etl.daemon.controle.http.token para usar a porta {}",
+                    portaHttp
+                );
+            } else {
+                canal.iniciarServidorHttp(portaHttp, tokenHttp.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return canal;
+    }
+
+    /**
+     * Espera ate {@code proximoCiclo}; retorna antes se houver parada ou ciclo manual pendente.
+     * O pedido de ciclo manual nao e consumido aqui.
+     */
+    public LoopDaemonRunHandler.WaitResult aguardar(final LocalDateTime proximoCiclo) throws InterruptedException {
+        final Duration maximo = watchService == null ? VERIFICACAO_SEM_OBSERVADOR : VERIFICACAO_PERIODICA;
+        while (true) {
+            final long geracaoLida;
+            synchronized (sinal) {
+                geracaoLida = geracao;
+            }
+            if (stateStore.stopRequested()) {
+                return LoopDaemonRunHandler.WaitResult.STOP_REQUESTED;
+            }
+            if (stateStore.forceRunRequested()) {
+                return LoopDaemonRunHandler.WaitResult.FORCE_RUN_REQUESTED;
+            }
+            final Duration restante = Duration.between(LocalDateTime.now(), proximoCiclo);
+            if (restante.isNegative() || restante.isZero()) {
+                return LoopDaemonRunHandler.WaitResult.TIME_ELAPSED;
+            }
+            final long esperaMs = Math.max(1L, Math.min(restante.toMillis(), maximo.toMillis()));
+            synchronized (sinal) {
+                if (geracao == geracaoLida) {
+                    sinal.wait(esperaMs);
+                }
+            }
+        }
+    }
+
+    public void acordar() {
+        synchronized (sinal) {
+            geracao++;
+            sinal.notifyAll();
+        }
+    }
+
+    /**
+     * Porta efetiva do endpoint HTTP; -1 quando desativado.
+     */
+    public int portaHttp() {
+        return servidor == null ? -1 : servidor.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        if (servidor != null) {
+            servidor.stop(0);
+            servidor = null;
+        }
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (final IOException e) {
+                logger.debug("Falha ao fechar observador de controle do daemon: {}", e.getMessage());
+            }
+        }
+        acordar();
+    }
+
+    private void iniciarObservador() {
+        final Set<Path> diretorios = new LinkedHashSet<>();
+        diretorios.add(stateStore.getStopFile().toAbsolutePath().getParent());
+        diretorios.add(stateStore.getForceRunFile().toAbsolutePath().getParent());
+        try {
+            stateStore.ensureDaemonDirectory();
+            final WatchService servico = FileSystems.getDefault().newWatchService();
+            for (final Path diretorio : diretorios) {
+                diretorio.register(
+                    servico,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY
+                );
+            }
+            watchService = servico;
+        } catch (final IOException | UnsupportedOperationException e) {
+            logger.warn("WatchService indisponivel para controle do daemon; usando verificacao periodica: {}", e.getMessage());
+            return;
+        }
+        final Set<Path> nomesControle = Set.of(
+            stateStore.getStopFile().getFileName(),
+            stateStore.getForceRunFile().getFileName()
+        );
+        observador = new Thread(() -> observarArquivos(nomesControle), "loop-daemon-controle-arquivos");
+        observador.setDaemon(true);
+        observador.start();
+    }
+
+    private void observarArquivos(final Set<Path> nomesControle) {
+        try {
+            while (true) {
+                final WatchKey chave = watchService.take();
+                boolean relevante = false;
+                for (final WatchEvent<?> evento : chave.pollEvents()) {
+                    relevante |= evento.kind() == StandardWatchEventKinds.OVERFLOW
+                        || nomesControle.contains((Path) evento.context());
+                }
+                chave.reset();
+                if (relevante) {
+                    acordar();
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ClosedWatchServiceException e) {
+            // Encerramento normal do canal.
+        }
+    }
+
+    private void iniciarServidorHttp(final int porta, final byte[] token) {
+        try {
+            servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), porta), 0);
+        } catch (final IOException e) {
+            logger.warn("Endpoint de controle do daemon nao iniciado na porta {}: {}", porta, e.getMessage());
+            return;
+        }
+        servidor.createContext("/stop", troca -> tratar(troca, "POST", token, () -> {
+            stateStore.requestStop();
+            acordar();
+            return new Resposta(202, Map.of("aceito", true, "acao", "stop"));
+        }));
+        servidor.createContext("/force-run", troca -> tratar(troca, "POST", token, () -> {
+            final Map<String, String> parametros = lerQuery(troca.getRequestURI().getRawQuery());
+            final PedidoCicloManual pedido;
+            try {
+                pedido = PedidoCicloManual.de(
+                    parametros.get("entidades"),
+                    parametros.get("data_inicio"),
+                    parametros.get("data_fim")
+                );
+            } catch (final IllegalArgumentException e) {
+                return new Resposta(400, Map.of("aceito", false, "erro", e.getMessage()));
+            }
+            stateStore.requestForceRun(pedido);
+            acordar();
+            return new Resposta(202, Map.of("aceito", true, "acao", "force-run", "pedido", pedido.descrever()));
+        }));
+        servidor.createContext("/status", troca -> tratar(troca, "GET", token, () -> new Resposta(200, statusAoVivo.get())));
+        servidor.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "loop-daemon-controle-http");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        servidor.start();
+        logger.info("Endpoint de controle do daemon ativo em http://127.0.0.1:{}", servidor.getAddress().getPort());
+    }
+
+    private record Resposta(int status, Map<String, Object> corpo) {
+    }
+
+    @FunctionalInterface
+    private interface Acao {
+        Resposta executar() throws IOException;
+    }
+
+    private static void tratar(final HttpExchange troca,
+                               final String metodo,
+                               final byte[] token,
+                               final Acao acao) throws IOException {
+        Resposta resposta;
+        if (!tokenValido(troca.getRequestHeaders().getFirst(CABECALHO_TOKEN), token)) {
+            resposta = new Resposta(401, Map.of("erro", "token de controle ausente ou invalido"));
+        } else if (!metodo.equalsIgnoreCase(troca.getRequestMethod())) {
+            resposta = new Resposta(405, Map.of("erro", "metodo nao suportado; use " + metodo));
+        } else {
+            try {
+                resposta = acao.executar();
+            } catch (final IOException | RuntimeException e) {
+                resposta = new Resposta(500, Map.of("erro", String.valueOf(e.getMessage())));
+            }
+        }
+        final byte[] corpo = MapperUtil.sharedJson().writeValueAsBytes(resposta.corpo());
+        troca.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        troca.sendResponseHeaders(resposta.status(), corpo.length);
+        try (OutputStream saida = troca.getResponseBody()) {
+            saida.write(corpo);
+        }
+    }
+
+    /**
+     * Comparacao em tempo constante para nao vazar o token pelo tempo de resposta.
+     */
+    private static boolean tokenValido(final String recebido, final byte[] esperado) {
+        return recebido != null && MessageDigest.isEqual(recebido.getBytes(StandardCharsets.UTF_8), esperado);
+    }
+
+    private static Map<String, String> lerQuery(final String query) {
+        final Map<String, String> parametros = new HashMap<>();
+        if (query == null || query.isBlank()) {
+            return parametros;
+        }
+        for (final String par : query.split("&")) {
+            final int separador = par.indexOf('=');
+            if (separador <= 0) {
+                continue;
+            }
+            parametros.put(
+                URLDecoder.decode(par.substring(0, separador), StandardCharsets.UTF_8),
+                URLDecoder.decode(par.substring(separador + 1), StandardCharsets.UTF_8)
+            );
+        }
+        return parametros;
+    }
+}
@@ -4,13 +4,13 @@ Classe  : DaemonCycleTee (utility), CycleTeeHandle (nested), TeeOutputStream (ne
 Pacote  : br.com.extrator.comandos.cli.extracao.daemon
 Modulo  : CLI - Daemon
 Papel   : Implementa Tee pattern para duplicar stdout/stderr para arquivo durante ciclos daemon.
-Conecta com: Sem dependencia interna
+Conecta com: LogEventIndex (indice de eventos do log de ciclo)
 Fluxo geral:
 1) abrir() cria PrintStreams tee e alterna System.out/err
-2) TeeOutputStream copia bytes para dois outputs (console + arquivo)
+2) TeeOutputStream copia bytes para dois outputs (console + arquivo indexado)
 3) CycleTeeHandle restaura System.out/err ao close()
 Estrutura interna:
-Atributos: originalOut, originalErr, teeOut, teeErr, arquivoOut, arquivoErr (em CycleTeeHandle)
+Atributos: originalOut, originalErr, teeOut, teeErr, arquivoOut, arquivoErr, indice (em CycleTeeHandle)
 Metodos: abrir() [static], close(), write()
 [DOC-FILE-END]============================================================== */
 package br.com.extrator.comandos.cli.extracao.daemon;
@@ -22,6 +22,8 @@ import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 
+import br.com.extrator.observabilidade.LogEventIndex;
+
 final class DaemonCycleTee {
     private DaemonCycleTee() {
     }
@@ -29,13 +31,14 @@ final class DaemonCycleTee {
     static AutoCloseable abrir(final Path cicloLog) throws IOException {
         final PrintStream originalOut = System.out;
         final PrintStream originalErr = System.err;
-        final FileOutputStream arquivoOut = new FileOutputStream(cicloLog.toFile(), true);
-        final FileOutputStream arquivoErr = new FileOutputStream(cicloLog.toFile(), true);
+        final LogEventIndex.Escritor indice = LogEventIndex.abrirEscritor(cicloLog);
+        final OutputStream arquivoOut = indice.envolver(new FileOutputStream(cicloLog.toFile(), true));
+        final OutputStream arquivoErr = indice.envolver(new FileOutputStream(cicloLog.toFile(), true));
         final PrintStream teeOut = new PrintStream(new TeeOutputStream(originalOut, arquivoOut), true, StandardCharsets.UTF_8);
         final PrintStream teeErr = new PrintStream(new TeeOutputStream(originalErr, arquivoErr), true, StandardCharsets.UTF_8);
         System.setOut(teeOut);
         System.setErr(teeErr);
-        return new CycleTeeHandle(originalOut, originalErr, teeOut, teeErr, arquivoOut, arquivoErr);
+        return new CycleTeeHandle(originalOut, originalErr, teeOut, teeErr, arquivoOut, arquivoErr, indice);
     }
 
     private static final class CycleTeeHandle implements AutoCloseable {
@@ -43,21 +46,24 @@ final class DaemonCycleTee {
         private final PrintStream originalErr;
         private final PrintStream teeOut;
         private final PrintStream teeErr;
-        private final FileOutputStream arquivoOut;
-        private final FileOutputStream arquivoErr;
+        private final OutputStream arquivoOut;
+        private final OutputStream arquivoErr;
+        private final LogEventIndex.Escritor indice;
 
         private CycleTeeHandle(final PrintStream originalOut,
                                final PrintStream originalErr,
                                final PrintStream teeOut,
                                final PrintStream teeErr,
-                               final FileOutputStream arquivoOut,
-                               final FileOutputStream arquivoErr) {
+                               final OutputStream arquivoOut,
+                               final OutputStream arquivoErr,
+                               final LogEventIndex.Escritor indice) {
             this.originalOut = originalOut;
             this.originalErr = originalErr;
             this.teeOut = teeOut;
             this.teeErr = teeErr;
             this.arquivoOut = arquivoOut;
             this.arquivoErr = arquivoErr;
+            this.indice = indice;
         }
 
         @Override
@@ -78,6 +84,11 @@ final class DaemonCycleTee {
             } catch (final IOException ignored) {
                 // no-op
             }
+            try {
+                indice.close();
+            } catch (final IOException ignored) {
+                // no-op
+            }
         }
     }
 
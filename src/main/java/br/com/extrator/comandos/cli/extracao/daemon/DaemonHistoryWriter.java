@@ -57,6 +57,8 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -65,6 +67,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import br.com.extrator.observabilidade.execucao.ExecutionAuditor;
+import br.com.extrator.observabilidade.LogEventIndex;
 import br.com.extrator.observabilidade.LogRetentionPolicy;
 import br.com.extrator.observabilidade.LogStoragePaths;
 import br.com.extrator.comandos.cli.extracao.reconciliacao.LoopReconciliationService.ReconciliationSummary;
@@ -180,29 +183,16 @@ public final class DaemonHistoryWriter {
         boolean statusIncompleto = false;
         boolean resumoFinalSucesso = false;
 
-        try {
-            final List<String> linhas = Files.readAllLines(cicloLog, StandardCharsets.UTF_8);
-            for (final String linha : linhas) {
-                if (linha.contains(" WARN ")) {
-                    warns++;
-                }
-                if (linha.contains(" ERROR ")) {
-                    errors++;
-                }
-                if (linha.contains("ALERTA_LOOP")
-                    || linha.contains("EXTRACAO CONCLUIDA COM ALERTA DE INTEGRIDADE")
-                    || linha.contains("RESUMO DA EXTRACAO (com alerta de integridade no loop)")) {
-                    alertaIntegridade = true;
-                }
-                if (linha.contains("status_code=INCOMPLETO")) {
-                    statusIncompleto = true;
-                }
-                if (linha.contains("Todas as APIs foram processadas com sucesso.")) {
-                    resumoFinalSucesso = true;
-                }
+        for (final Set<LogEventIndex.TipoEvento> tipos : carregarEventosCiclo(cicloLog)) {
+            if (tipos.contains(LogEventIndex.TipoEvento.WARN)) {
+                warns++;
             }
-        } catch (final IOException e) {
-            logger.warn("Falha ao ler log do ciclo para resumo: {}", sanitize(e.getMessage()));
+            if (tipos.contains(LogEventIndex.TipoEvento.ERROR)) {
+                errors++;
+            }
+            alertaIntegridade |= tipos.contains(LogEventIndex.TipoEvento.ALERTA_INTEGRIDADE);
+            statusIncompleto |= tipos.contains(LogEventIndex.TipoEvento.STATUS_INCOMPLETO);
+            resumoFinalSucesso |= tipos.contains(LogEventIndex.TipoEvento.RESUMO_SUCESSO);
         }
 
         final long duracaoSegundos = Math.max(0L, Duration.between(inicio, fim).getSeconds());
@@ -230,6 +220,25 @@ public final class DaemonHistoryWriter {
         );
     }
 
+    /**
+     * Usa o indice de eventos gravado pelo tee; logs sem indice caem na varredura completa.
+     */
+    private List<Set<LogEventIndex.TipoEvento>> carregarEventosCiclo(final Path cicloLog) {
+        final Optional<List<LogEventIndex.Evento>> indexados = LogEventIndex.ler(cicloLog);
+        if (indexados.isPresent()) {
+            return indexados.get().stream().map(LogEventIndex.Evento::tipos).toList();
+        }
+        try {
+            return Files.readAllLines(cicloLog, StandardCharsets.UTF_8).stream()
+                .map(LogEventIndex::classificar)
+                .filter(tipos -> !tipos.isEmpty())
+                .toList();
+        } catch (final IOException e) {
+            logger.warn("Falha ao ler log do ciclo para resumo: {}", sanitize(e.getMessage()));
+            return List.of();
+        }
+    }
+
     public void appendFinalSummary(final Path cicloLog, final CycleSummary resumo) {
         final List<String> linhas = new ArrayList<>();
         linhas.add("");
@@ -410,6 +419,12 @@ public final class DaemonHistoryWriter {
             path -> LogRetentionPolicy.hasExtension(path, ".log")
                 && path.getFileName().toString().startsWith("extracao_daemon_")
         );
+        LogRetentionPolicy.retainRecentFilesRecursively(
+            cyclesDir,
+            LogStoragePaths.MAX_FILES_PER_BUCKET,
+            path -> LogRetentionPolicy.hasExtension(path, LogEventIndex.SUFIXO_SIDECAR)
+                && path.getFileName().toString().startsWith("extracao_daemon_")
+        );
         LogRetentionPolicy.retainRecentFiles(
             daemonHistoryDir,
             LogStoragePaths.MAX_FILES_PER_BUCKET,
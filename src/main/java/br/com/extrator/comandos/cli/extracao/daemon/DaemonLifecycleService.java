@@ -269,7 +269,8 @@ public final class DaemonLifecycleService {
 
     static boolean ehComandoStepIsoladoDoDaemon(final String comandoCompleto) {
         final String normalizado = comandoCompleto.toLowerCase(Locale.ROOT).replace('\\', '/');
-        return "--executar-step-isolado".equals(extrairFlagExecucao(normalizado))
+        final String flag = extrairFlagExecucao(normalizado);
+        return ("--executar-step-isolado".equals(flag) || "--worker-step-isolado".equals(flag))
             && normalizado.contains("-detl.parent.command=" + FLAG_LOOP_DAEMON_RUN);
     }
 
@@ -322,7 +323,7 @@ public final class DaemonLifecycleService {
             + " foreach($m in [regex]::Matches($cmd,'\"[^\"]*\"|[^\\s]+')){"
             + "  $t=$m.Value.Trim('\"').ToLowerInvariant().Replace('\\','/');"
             + "  if($t.StartsWith('-d')){continue}"
-            + "  if($t -eq '--loop-daemon-run' -or $t -eq '--executar-step-isolado'){return $t}"
+            + "  if($t -eq '--loop-daemon-run' -or $t -eq '--executar-step-isolado' -or $t -eq '--worker-step-isolado'){return $t}"
             + " }"
             + " return ''"
             + "};"
@@ -332,7 +333,7 @@ public final class DaemonLifecycleService {
             + " if(-not ($n.Contains('extrator-daemon-runtime') -or $n.Contains('/target/extrator.jar') -or $n.Contains('br.com.extrator.bootstrap.main'))){return}"
             + " $flag=Get-Flag $cmd;"
             + " if($modo -eq 'daemon' -and $flag -eq '--loop-daemon-run'){ [string]$_.ProcessId }"
-            + " elseif($modo -eq 'step' -and $flag -eq '--executar-step-isolado' -and $n.Contains('-detl.parent.command=--loop-daemon-run')){ [string]$_.ProcessId }"
+            + " elseif($modo -eq 'step' -and ($flag -eq '--executar-step-isolado' -or $flag -eq '--worker-step-isolado') -and $n.Contains('-detl.parent.command=--loop-daemon-run')){ [string]$_.ProcessId }"
             + "}";
     }
 
@@ -345,7 +346,9 @@ public final class DaemonLifecycleService {
             if (normalizado.isBlank() || normalizado.startsWith("-d")) {
                 continue;
             }
-            if (normalizado.equals(FLAG_LOOP_DAEMON_RUN) || normalizado.equals("--executar-step-isolado")) {
+            if (normalizado.equals(FLAG_LOOP_DAEMON_RUN)
+                || normalizado.equals("--executar-step-isolado")
+                || normalizado.equals("--worker-step-isolado")) {
                 return normalizado;
             }
         }
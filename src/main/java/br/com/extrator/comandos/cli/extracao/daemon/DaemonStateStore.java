@@ -22,10 +22,12 @@ Metodos principais:
 - getForceRunFile(): expone valor atual do estado interno.
 - stopRequested(): realiza operacao relacionada a "stop requested".
 - forceRunRequested(): realiza operacao relacionada a "force run requested".
+- consumeForceRun(): le e remove o pedido de ciclo manual (PedidoCicloManual).
 - readPidFile(): realiza operacao relacionada a "read pid file".
 - readPidState(): realiza operacao relacionada a "read pid state".
 - loadState(): realiza operacao relacionada a "load state".
 - saveState(...5 args): realiza operacao relacionada a "save state".
+- saveMaterializationState(...1 args): grava status do worker de materializacao BI.
 - syncPidFile(...1 args): realiza operacao relacionada a "sync pid file".
 Atributos-chave:
 - daemonDir: campo de estado para "daemon dir".
@@ -43,6 +45,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.Properties;
 
@@ -54,6 +58,7 @@ import org.slf4j.LoggerFactory;
  */
 public final class DaemonStateStore {
     private static final Logger logger = LoggerFactory.getLogger(DaemonStateStore.class);
+    public static final String MATERIALIZATION_PREFIX = "bi_materialization_";
     private final Path daemonDir;
     private final Path stateFile;
     private final Path pidFile;
@@ -114,8 +119,30 @@ public final class DaemonStateStore {
     }
 
     public void requestForceRun() throws IOException {
+        requestForceRun(PedidoCicloManual.imediato());
+    }
+
+    public void requestForceRun(final PedidoCicloManual pedido) throws IOException {
         ensureDaemonDirectory();
-        Files.writeString(forceRunFile, "force-run@" + LocalDateTime.now(), StandardCharsets.UTF_8);
+        Files.writeString(forceRunFile, pedido.serializar("force-run@" + LocalDateTime.now()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Le e remove o pedido de ciclo manual; vazio quando nao ha pedido pendente.
+     */
+    public Optional<PedidoCicloManual> consumeForceRun() {
+        if (!Files.exists(forceRunFile)) {
+            return Optional.empty();
+        }
+        String conteudo = null;
+        try {
+            conteudo = Files.readString(forceRunFile, StandardCharsets.UTF_8);
+            clearFileIfExists(forceRunFile);
+        } catch (final IOException e) {
+            // Em caso de falha de leitura/limpeza, executa ciclo imediato mesmo assim.
+            logger.debug("Falha ao consumir pedido de ciclo manual {}: {}", forceRunFile, e.getMessage());
+        }
+        return Optional.of(PedidoCicloManual.ler(conteudo));
     }
 
     public boolean stopRequested() {
@@ -168,11 +195,11 @@ public final class DaemonStateStore {
         return properties;
     }
 
-    public void saveState(final String status,
-                          final long pid,
-                          final String detalhe,
-                          final String lastRunAt,
-                          final String nextRunAt) {
+    public synchronized void saveState(final String status,
+                                       final long pid,
+                                       final String detalhe,
+                                       final String lastRunAt,
+                                       final String nextRunAt) {
         final Properties estadoAtual = loadState();
         saveState(
             status,
@@ -185,14 +212,19 @@ public final class DaemonStateStore {
         );
     }
 
-    public void saveState(final String status,
-                          final long pid,
-                          final String detalhe,
-                          final String lastRunAt,
-                          final String nextRunAt,
-                          final int consecutiveAlertCycles,
-                          final int consecutiveNonSuccessCycles) {
+    public synchronized void saveState(final String status,
+                                       final long pid,
+                                       final String detalhe,
+                                       final String lastRunAt,
+                                       final String nextRunAt,
+                                       final int consecutiveAlertCycles,
+                                       final int consecutiveNonSuccessCycles) {
         final Properties properties = new Properties();
+        // Estado do worker de materializacao e gravado por outra thread; preserva entre ciclos.
+        final Properties estadoAtual = loadState();
+        estadoAtual.stringPropertyNames().stream()
+            .filter(chave -> chave.startsWith(MATERIALIZATION_PREFIX))
+            .forEach(chave -> properties.setProperty(chave, estadoAtual.getProperty(chave)));
         properties.setProperty("status", status);
         properties.setProperty("pid", pid > 0 ? String.valueOf(pid) : "");
         properties.setProperty("detail", detalhe == null ? "" : detalhe);
@@ -201,7 +233,22 @@ public final class DaemonStateStore {
         properties.setProperty("next_run_at", nextRunAt == null ? "" : nextRunAt);
         properties.setProperty("consecutive_alert_cycles", String.valueOf(Math.max(0, consecutiveAlertCycles)));
         properties.setProperty("consecutive_non_success_cycles", String.valueOf(Math.max(0, consecutiveNonSuccessCycles)));
+        gravar(properties);
+    }
+
+    /**
+     * Atualiza apenas as chaves bi_materialization_* do state file, mantendo o estado do ciclo.
+     */
+    public synchronized void saveMaterializationState(final Map<String, String> valores) {
+        final Properties properties = loadState();
+        properties.stringPropertyNames().stream()
+            .filter(chave -> chave.startsWith(MATERIALIZATION_PREFIX))
+            .forEach(properties::remove);
+        valores.forEach((chave, valor) -> properties.setProperty(MATERIALIZATION_PREFIX + chave, valor == null ? "" : valor));
+        gravar(properties);
+    }
 
+    private void gravar(final Properties properties) {
         try {
             ensureDaemonDirectory();
         } catch (final IOException e) {
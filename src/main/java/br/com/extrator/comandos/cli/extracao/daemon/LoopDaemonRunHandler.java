@@ -14,13 +14,16 @@ Conecta com:
 Fluxo geral:
 1) Inicializa estado runtime do daemon.
 2) Executa ciclo de extracao em loop com controle de parada/forca.
+   Em modo evento, a materializacao BI roda em FatoMaterializacaoWorker disparado por commits.
+   A espera entre ciclos usa DaemonControlChannel (WatchService + HTTP loopback opcional).
 3) Persiste historico e agenda proximo ciclo.
 
 Estrutura interna:
 Metodos principais:
 - executar(...1 args): loop principal do daemon.
 - executarFluxoCompletoPadrao(...1 args): executa fluxo ETL padrao.
-- aguardarProximoCicloPadrao(...2 args): aguarda gatilho do proximo ciclo.
+- executarExtracao(...1 args): aplica escopo do ciclo manual (entidades/intervalo).
+- statusAoVivo(): progresso corrente servido pelo canal de controle.
 Atributos-chave:
 - stateStore: estado/persistencia do daemon.
 - historyWriter: escrita de historico operacional.
@@ -39,12 +42,16 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
+import br.com.extrator.aplicacao.contexto.AplicacaoContexto;
 import br.com.extrator.aplicacao.extracao.ExecutionLockBusyException;
 import br.com.extrator.aplicacao.extracao.ExtracaoPorIntervaloRequest;
 import br.com.extrator.aplicacao.extracao.ExtracaoPorIntervaloUseCase;
@@ -52,13 +59,17 @@ import br.com.extrator.aplicacao.extracao.FluxoCompletoUseCase;
 import br.com.extrator.aplicacao.materializacao.FatoMaterializacaoProcedureResultado;
 import br.com.extrator.aplicacao.materializacao.FatoMaterializacaoResumo;
 import br.com.extrator.aplicacao.materializacao.FatoMaterializacaoService;
+import br.com.extrator.aplicacao.materializacao.FatoMaterializacaoWorker;
+import br.com.extrator.comandos.cli.extracao.ExecutarFechamentoMensalComando;
 import br.com.extrator.comandos.cli.extracao.reconciliacao.LoopReconciliationService;
 import br.com.extrator.comandos.cli.extracao.reconciliacao.LoopReconciliationService.ReconciliationSummary;
+import br.com.extrator.suporte.banco.NotificadorCommit;
 import br.com.extrator.suporte.concorrencia.ExecutionTimeoutException;
 import br.com.extrator.suporte.concorrencia.OperationTimeoutGuard;
 import br.com.extrator.suporte.configuracao.ConfigEtl;
 import br.com.extrator.suporte.observabilidade.ExecutionContext;
 import br.com.extrator.suporte.tempo.RelogioSistema;
+import br.com.extrator.suporte.validacao.ConstantesEntidades;
 
 public final class LoopDaemonRunHandler implements LoopDaemonModeHandler {
     private static final String FECHAMENTO_STATUS_RUNNING = "RUNNING";
@@ -82,6 +93,11 @@ public final class LoopDaemonRunHandler implements LoopDaemonModeHandler {
         void executar(LocalDate dataInicio, LocalDate dataFim) throws Exception;
     }
 
+    @FunctionalInterface
+    public interface ExecucaoManualProcessor {
+        void executar(PedidoCicloManual pedido) throws Exception;
+    }
+
     @FunctionalInterface
     public interface ReconciliationProcessor {
         ReconciliationSummary processar(LocalDateTime inicio,
@@ -120,6 +136,17 @@ public final class LoopDaemonRunHandler implements LoopDaemonModeHandler {
     private final FechamentoMensalProcessor fechamentoMensalProcessor;
     private final Supplier<LocalDate> hojeSupplier;
     private final Path fechamentoMensalStateFile;
+    private final boolean materializacaoPorEvento;
+    private final Duration atrasoGatilhoMaterializacao;
+    private final ExecucaoManualProcessor execucaoManualProcessor;
+    private FatoMaterializacaoWorker materializacaoWorker;
+    private final AtomicLong ciclosConcluidos = new AtomicLong();
+    private final AtomicLong ciclosComFalha = new AtomicLong();
+    private final AtomicLong disparosManuais = new AtomicLong();
+    private volatile String faseAtual = "INICIANDO";
+    private volatile String cicloAtualId;
+    private volatile LocalDateTime cicloAtualInicio;
+    private volatile PedidoCicloManual pedidoAtual;
 
     public LoopDaemonRunHandler(final DaemonStateStore stateStore, final DaemonHistoryWriter historyWriter) {
         this(
@@ -128,7 +155,7 @@ public final class LoopDaemonRunHandler implements LoopDaemonModeHandler {
             LoopDaemonRunHandler::executarFluxoCompletoPadrao,
             criarProcessadorMaterializacaoPadrao(),
             criarProcessadorReconciliacaoPadrao(),
-            LoopDaemonRunHandler::aguardarProximoCicloPadrao,
+            null,
             LoopDaemonRunHandler::iniciarTeeCicloPadrao,
             () -> ProcessHandle.current().pid(),
             ConfigEtl.obterIntervaloMinutosDaemon(),
@@ -136,7 +163,10 @@ public final class LoopDaemonRunHandler implements LoopDaemonModeHandler {
             ConfigEtl::obterTimeoutCicloDaemon,
             criarProcessadorFechamentoMensalPadrao(),
             RelogioSistema::hoje,
-            DaemonPaths.FECHAMENTO_MENSAL_STATE_FILE
+            DaemonPaths.FECHAMENTO_MENSAL_STATE_FILE,
+            ConfigEtl.isMaterializacaoFatosBiPorEventoAtiva(),
+            ConfigEtl.obterMaterializacaoFatosBiAtrasoGatilho(),
+            criarProcessadorExecucaoManualPadrao()
         );
     }
 
@@ -211,11 +241,86 @@ public final class LoopDaemonRunHandler implements LoopDaemonModeHandler {
                          final FechamentoMensalProcessor fechamentoMensalProcessor,
                          final Supplier<LocalDate> hojeSupplier,
                          final Path fechamentoMensalStateFile) {
+        this(
+            stateStore,
+            historyWriter,
+            fluxoExecutor,
+            materializacaoProcessor,
+            reconciliationProcessor,
+            waitStrategy,
+            teeFactory,
+            pidSupplier,
+            intervaloMinutos,
+            registrarShutdownHook,
+            cycleTimeoutProvider,
+            fechamentoMensalProcessor,
+            hojeSupplier,
+            fechamentoMensalStateFile,
+            false,
+            Duration.ZERO
+        );
+    }
+
+    LoopDaemonRunHandler(final DaemonStateStore stateStore,
+                         final DaemonHistoryWriter historyWriter,
+                         final FluxoExecutor fluxoExecutor,
+                         final MaterializacaoProcessor materializacaoProcessor,
+                         final ReconciliationProcessor reconciliationProcessor,
+                         final CycleWaitStrategy waitStrategy,
+                         final TeeFactory teeFactory,
+                         final LongSupplier pidSupplier,
+                         final long intervaloMinutos,
+                         final boolean registrarShutdownHook,
+                         final Supplier<Duration> cycleTimeoutProvider,
+                         final FechamentoMensalProcessor fechamentoMensalProcessor,
+                         final Supplier<LocalDate> hojeSupplier,
+                         final Path fechamentoMensalStateFile,
+                         final boolean materializacaoPorEvento,
+                         final Duration atrasoGatilhoMaterializacao) {
+        this(
+            stateStore,
+            historyWriter,
+            fluxoExecutor,
+            materializacaoProcessor,
+            reconciliationProcessor,
+            waitStrategy,
+            teeFactory,
+            pidSupplier,
+            intervaloMinutos,
+            registrarShutdownHook,
+            cycleTimeoutProvider,
+            fechamentoMensalProcessor,
+            hojeSupplier,
+            fechamentoMensalStateFile,
+            materializacaoPorEvento,
+            atrasoGatilhoMaterializacao,
+            LoopDaemonRunHandler::ignorarExecucaoManual
+        );
+    }
+
+    LoopDaemonRunHandler(final DaemonStateStore stateStore,
+                         final DaemonHistoryWriter historyWriter,
+                         final FluxoExecutor fluxoExecutor,
+                         final MaterializacaoProcessor materializacaoProcessor,
+                         final ReconciliationProcessor reconciliationProcessor,
+                         final CycleWaitStrategy waitStrategy,
+                         final TeeFactory teeFactory,
+                         final LongSupplier pidSupplier,
+                         final long intervaloMinutos,
+                         final boolean registrarShutdownHook,
+                         final Supplier<Duration> cycleTimeoutProvider,
+                         final FechamentoMensalProcessor fechamentoMensalProcessor,
+                         final Supplier<LocalDate> hojeSupplier,
+                         final Path fechamentoMensalStateFile,
+                         final boolean materializacaoPorEvento,
+                         final Duration atrasoGatilhoMaterializacao,
+                         final ExecucaoManualProcessor execucaoManualProcessor) {
         this.stateStore = stateStore;
         this.historyWriter = historyWriter;
         this.fluxoExecutor = fluxoExecutor;
         this.materializacaoProcessor = materializacaoProcessor;
         this.reconciliationProcessor = reconciliationProcessor;
+        // null usa o canal de controle padrao (WatchService + HTTP loopback opcional).
         this.waitStrategy = waitStrategy;
         this.teeFactory = teeFactory;
         this.pidSupplier = pidSupplier;
@@ -227,6 +332,9 @@ public final class LoopDaemonRunHandler implements LoopDaemonModeHandler {
         this.fechamentoMensalProcessor = fechamentoMensalProcessor;
         this.hojeSupplier = hojeSupplier;
         this.fechamentoMensalStateFile = fechamentoMensalStateFile;
+        this.materializacaoPorEvento = materializacaoPorEvento;
+        this.atrasoGatilhoMaterializacao = atrasoGatilhoMaterializacao;
+        this.execucaoManualProcessor = execucaoManualProcessor;
     }
 
     @Override
@@ -239,6 +347,16 @@ public final class LoopDaemonRunHandler implements LoopDaemonModeHandler {
         final long pid = pidSupplier.getAsLong();
         stateStore.syncPidFile(pid);
         stateStore.saveState("RUNNING", pid, "Daemon iniciado e aguardando ciclos.", null, null, 0, 0);
+        final AutoCloseable registroCommits = iniciarWorkerMaterializacao();
+        final DaemonControlChannel canalControle = waitStrategy == null
+            ? DaemonControlChannel.abrir(
+                stateStore,
+                ConfigEtl.obterDaemonControleHttpPorta(),
+                ConfigEtl.obterDaemonControleHttpToken(),
+                this::statusAoVivo
+            )
+            : null;
+        PedidoCicloManual pedidoManual = null;
 
         if (registrarShutdownHook) {
             Runtime.getRuntime().addShutdownHook(new Thread(() -> {
@@ -263,6 +381,10 @@ public final class LoopDaemonRunHandler implements LoopDaemonModeHandler {
             final Path cicloLog = historyWriter.createCycleLogFile(inicio);
             final String cycleId = UUID.randomUUID().toString();
             ExecutionContext.setCycleId(cycleId);
+            cicloAtualId = cycleId;
+            cicloAtualInicio = inicio;
+            pedidoAtual = pedidoManual;
+            faseAtual = "EXTRACAO";
             stateStore.saveState(
                 "RUNNING",
                 pid,
@@ -280,7 +402,7 @@ public final class LoopDaemonRunHandler implements LoopDaemonModeHandler {
             try {
                 try (AutoCloseable ignored = teeFactory.abrir(cicloLog)) {
                     executarFechamentoMensalSeNecessario();
-                    resumoMaterializacao = executarPipelineComWatchdog();
+                    resumoMaterializacao = executarPipelineComWatchdog(pedidoManual);
                 }
             } catch (final Error e) {
                 throw e;
@@ -308,6 +430,10 @@ public final class LoopDaemonRunHandler implements LoopDaemonModeHandler {
                     detalhe = "Falha no ciclo [cycle_id=" + cycleId + "]: " + historyWriter.summarizeMessage(e.getMessage());
                 }
             }
+            if (materializacaoWorker != null) {
+                // Em modo evento o ciclo reporta a ultima materializacao concluida desde o ciclo anterior.
+                resumoMaterializacao = materializacaoWorker.consumirResumoConcluido().orElse(null);
+            }
             if (sucesso && resumoMaterializacao != null && resumoMaterializacao.houveFalha()) {
                 cicloComAlertaMaterializacao = true;
                 detalhe = "Ciclo concluido com alerta de materializacao BI [cycle_id=" + cycleId + "].";
@@ -315,6 +441,7 @@ public final class LoopDaemonRunHandler implements LoopDaemonModeHandler {
             }
 
             final LocalDateTime fimExtracao = LocalDateTime.now();
+            faseAtual = "RECONCILIACAO";
             final ReconciliationSummary resumoReconciliacao = cicloPuladoPorLock
                 ? ReconciliationSummary.semAcao()
                 : processarReconciliacao(
@@ -380,6 +507,14 @@ public final class LoopDaemonRunHandler implements LoopDaemonModeHandler {
                 consecutiveNonSuccessCycles
             );
             ExecutionContext.clearCycleId();
+            ciclosConcluidos.incrementAndGet();
+            if (!cicloSaudavel && !cicloPuladoPorLock) {
+                ciclosComFalha.incrementAndGet();
+            }
+            cicloAtualId = null;
+            pedidoAtual = null;
+            pedidoManual = null;
+            faseAtual = "AGUARDANDO";
             if (waitingManualIntervention) {
                 System.err.println(
                     "ALERTA LOOP: limite de degradacao atingido. O daemon foi colocado em WAITING_MANUAL_INTERVENTION."
@@ -387,27 +522,86 @@ public final class LoopDaemonRunHandler implements LoopDaemonModeHandler {
                 break;
             }
 
-            final WaitResult resultadoEspera = waitStrategy.aguardar(proximo, stateStore);
+            final WaitResult resultadoEspera = canalControle != null
+                ? canalControle.aguardar(proximo)
+                : waitStrategy.aguardar(proximo, stateStore);
             if (resultadoEspera == WaitResult.STOP_REQUESTED) {
                 stateStore.saveState("STOPPED", pid, "Sinal de parada detectado durante espera.", fim.toString(), null);
                 break;
             }
             if (resultadoEspera == WaitResult.FORCE_RUN_REQUESTED) {
+                pedidoManual = stateStore.consumeForceRun().orElse(PedidoCicloManual.imediato());
+                disparosManuais.incrementAndGet();
                 stateStore.saveState(
                     "RUNNING",
                     pid,
-                    "Disparo manual detectado: iniciando novo ciclo imediato.",
+                    "Disparo manual detectado: iniciando novo ciclo imediato. pedido=" + pedidoManual.descrever(),
                     fim.toString(),
                     null
                 );
             }
         }
 
+        faseAtual = "ENCERRADO";
+        if (canalControle != null) {
+            canalControle.close();
+        }
+        encerrarWorkerMaterializacao(registroCommits);
         stateStore.clearFileIfExists(stateStore.getPidFile());
         stateStore.clearFileIfExists(stateStore.getStopFile());
         stateStore.clearFileIfExists(stateStore.getForceRunFile());
     }
 
+    /**
+     * Em modo evento, cria o worker de materializacao e o liga aos commits; retorna o registro a fechar.
+     */
+    private AutoCloseable iniciarWorkerMaterializacao() {
+        if (!materializacaoPorEvento || materializacaoProcessor == null) {
+            return null;
+        }
+        materializacaoWorker = new FatoMaterializacaoWorker(
+            materializacaoProcessor::processar,
+            ConfigEtl.obterMaterializacaoFatosBiTimeoutExecucao(),
+            atrasoGatilhoMaterializacao,
+            ConfigEtl.obterMaterializacaoFatosBiLimiteEncerramento(),
+            this::salvarEstadoMaterializacao
+        );
+        return NotificadorCommit.registrar(materializacaoWorker::sinalizar);
+    }
+
+    private void encerrarWorkerMaterializacao(final AutoCloseable registroCommits) {
+        if (materializacaoWorker == null) {
+            return;
+        }
+        try {
+            registroCommits.close();
+            materializacaoWorker.close();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Exception e) {
+            System.err.println(
+                "ALERTA LOOP: falha ao encerrar worker de materializacao BI: " + historyWriter.summarizeMessage(e.getMessage())
+            );
+        }
+        materializacaoWorker = null;
+    }
+
+    private void salvarEstadoMaterializacao(final FatoMaterializacaoWorker.Estado estado) {
+        final Map<String, String> valores = new LinkedHashMap<>();
+        valores.put("status", estado.status().name());
+        valores.put("pending", String.valueOf(estado.pendente()));
+        valores.put("triggers", String.valueOf(estado.gatilhos()));
+        valores.put("coalesced_triggers", String.valueOf(estado.gatilhosAgrupados()));
+        valores.put("runs", String.valueOf(estado.execucoes()));
+        valores.put("last_trigger_origin", estado.ultimaOrigem());
+        valores.put("last_trigger_at", estado.ultimoGatilhoEm() == null ? null : estado.ultimoGatilhoEm().toString());
+        valores.put("last_started_at", estado.ultimoInicioEm() == null ? null : estado.ultimoInicioEm().toString());
+        valores.put("last_finished_at", estado.ultimoFimEm() == null ? null : estado.ultimoFimEm().toString());
+        valores.put("last_result", formatarResumoMaterializacao(estado.ultimoResumo()));
+        valores.put("last_error", estado.ultimoErro() == null ? null : historyWriter.summarizeMessage(estado.ultimoErro()));
+        stateStore.saveMaterializationState(valores);
+    }
+
     static String determinarStatusDaemon(final boolean sucesso, final ReconciliationSummary resumoReconciliacao) {
         return determinarStatusDaemon(sucesso, false, resumoReconciliacao);
     }
@@ -632,13 +826,31 @@ public final class LoopDaemonRunHandler implements LoopDaemonModeHandler {
         // Injetado por testes/harness para evitar efeitos colaterais no runtime real.
     }
 
-    private static FechamentoMensalProcessor criarProcessadorFechamentoMensalPadrao() {
-        return (dataInicio, dataFim) -> new ExtracaoPorIntervaloUseCase().executar(
+    private static void ignorarExecucaoManual(final PedidoCicloManual pedido) {
+        // Injetado por testes/harness para evitar efeitos colaterais no runtime real.
+    }
+
+    private static ExecucaoManualProcessor criarProcessadorExecucaoManualPadrao() {
+        return pedido -> {
+            if (pedido.entidades().isEmpty()) {
+                executarIntervaloManual(pedido, null, null);
+                return;
+            }
+            for (final String entidade : pedido.entidades().stream().sorted().toList()) {
+                executarIntervaloManual(pedido, resolverApiEntidade(entidade), entidade);
+            }
+        };
+    }
+
+    private static void executarIntervaloManual(final PedidoCicloManual pedido,
+                                                final String api,
+                                                final String entidade) throws Exception {
+        new ExtracaoPorIntervaloUseCase().executar(
             new ExtracaoPorIntervaloRequest(
-                dataInicio,
-                dataFim,
-                null,
-                null,
+                pedido.dataInicio(),
+                pedido.dataFim(),
+                api,
+                entidade,
                 false,
                 false,
                 ExtracaoPorIntervaloRequest.ModoExecucao.INTERVALO
@@ -646,6 +858,38 @@ public final class LoopDaemonRunHandler implements LoopDaemonModeHandler {
         );
     }
 
+    static String resolverApiEntidade(final String entidade) {
+        if (ConstantesEntidades.RASTER_VIAGENS.equals(entidade)) {
+            return ConstantesEntidades.RASTER;
+        }
+        if (ConstantesEntidades.USUARIOS_SISTEMA.equals(entidade)
+            || ConstantesEntidades.COLETAS.equals(entidade)
+            || ConstantesEntidades.FRETES.equals(entidade)) {
+            return "graphql";
+        }
+        return "dataexport";
+    }
+
+    private static FechamentoMensalProcessor criarProcessadorFechamentoMensalPadrao() {
+        return (dataInicio, dataFim) -> {
+            new ExtracaoPorIntervaloUseCase().executar(
+                new ExtracaoPorIntervaloRequest(
+                    dataInicio,
+                    dataFim,
+                    null,
+                    null,
+                    false,
+                    false,
+                    ExtracaoPorIntervaloRequest.ModoExecucao.INTERVALO
+                )
+            );
+            ExecutarFechamentoMensalComando.recontarCompletude(
+                data -> AplicacaoContexto.completudePort().recontarCompletude(data),
+                YearMonth.from(dataInicio)
+            );
+        };
+    }
+
     private static MaterializacaoProcessor criarProcessadorMaterializacaoPadrao() {
         final FatoMaterializacaoService service = new FatoMaterializacaoService();
         return service::processarTodasFatos;
@@ -656,54 +900,101 @@ public final class LoopDaemonRunHandler implements LoopDaemonModeHandler {
         return service::processarPosCiclo;
     }
 
-    private static WaitResult aguardarProximoCicloPadrao(final LocalDateTime proximoCiclo, final DaemonStateStore stateStore)
-        throws InterruptedException {
-        while (LocalDateTime.now().isBefore(proximoCiclo)) {
-            if (stateStore.stopRequested()) {
-                return WaitResult.STOP_REQUESTED;
-            }
-            if (stateStore.forceRunRequested()) {
-                try {
-                    stateStore.clearFileIfExists(stateStore.getForceRunFile());
-                } catch (final IOException ignored) {
-                    // Em caso de falha de limpeza, executa ciclo imediato mesmo assim.
-                }
-                return WaitResult.FORCE_RUN_REQUESTED;
-            }
-            Thread.sleep(1000L);
-        }
-        return WaitResult.TIME_ELAPSED;
-    }
-
     private static AutoCloseable iniciarTeeCicloPadrao(final Path cicloLog) throws IOException {
         return DaemonCycleTee.abrir(cicloLog);
     }
 
-    private FatoMaterializacaoResumo executarPipelineComWatchdog() throws Exception {
+    private FatoMaterializacaoResumo executarPipelineComWatchdog(final PedidoCicloManual pedido) throws Exception {
         final Duration timeout = resolverTimeoutCiclo();
         return OperationTimeoutGuard.executar(
             "ciclo_loop_daemon",
             timeout,
             () -> {
-                fluxoExecutor.executar();
+                executarExtracao(pedido);
+                if (materializacaoWorker != null) {
+                    // Materializacao acontece no worker, fora do timeout do ciclo.
+                    return null;
+                }
                 return materializacaoProcessor == null ? null : materializacaoProcessor.processar();
             }
         );
     }
 
+    /**
+     * Ciclo manual com escopo roda extracao por intervalo so das entidades pedidas; sem datas, usa a
+     * janela base do ciclo (D-1..D). Sem escopo, roda o fluxo completo.
+     */
+    private void executarExtracao(final PedidoCicloManual pedido) throws Exception {
+        if (pedido == null || !pedido.possuiEscopo()) {
+            fluxoExecutor.executar();
+            return;
+        }
+        execucaoManualProcessor.executar(pedido.comIntervaloPadrao(resolverHoje()));
+    }
+
+    private LocalDate resolverHoje() {
+        return hojeSupplier == null ? RelogioSistema.hoje() : hojeSupplier.get();
+    }
+
+    Map<String, Object> statusAoVivo() {
+        final Map<String, Object> status = new LinkedHashMap<>();
+        final LocalDateTime inicio = cicloAtualInicio;
+        final String cicloId = cicloAtualId;
+        final PedidoCicloManual pedido = pedidoAtual;
+        status.put("fase", faseAtual);
+        status.put("cycle_id", cicloId);
+        status.put("ciclo_iniciado_em", cicloId == null || inicio == null ? null : inicio.toString());
+        status.put(
+            "ciclo_decorrido_segundos",
+            cicloId == null || inicio == null ? null : Duration.between(inicio, LocalDateTime.now()).toSeconds()
+        );
+        status.put("pedido_manual", pedido == null ? null : pedido.descrever());
+        status.put("ciclos_concluidos", ciclosConcluidos.get());
+        status.put("ciclos_com_falha", ciclosComFalha.get());
+        status.put("disparos_manuais", disparosManuais.get());
+        final FatoMaterializacaoWorker worker = materializacaoWorker;
+        if (worker != null) {
+            final FatoMaterializacaoWorker.Estado estado = worker.estado();
+            status.put("materializacao_bi", estado.status().name()
+                + " | pendente=" + estado.pendente()
+                + " | execucoes=" + estado.execucoes());
+        }
+        final Map<String, String> persistido = new LinkedHashMap<>();
+        final Properties estadoPersistido = stateStore.loadState();
+        estadoPersistido.stringPropertyNames().stream().sorted()
+            .forEach(chave -> persistido.put(chave, estadoPersistido.getProperty(chave)));
+        status.put("estado_persistido", persistido);
+        return status;
+    }
+
     private String adicionarDetalheMaterializacao(final String detalheBase,
                                                   final FatoMaterializacaoResumo resumoMaterializacao) {
+        final String base = detalheBase == null ? "Sem detalhes." : detalheBase;
+        if (materializacaoWorker != null) {
+            final FatoMaterializacaoWorker.Estado estado = materializacaoWorker.estado();
+            return base
+                + " | materializacao_bi[modo=evento, status=" + estado.status()
+                + ", pendente=" + estado.pendente()
+                + ", execucoes=" + estado.execucoes()
+                + (resumoMaterializacao == null ? "" : ", " + formatarResumoMaterializacao(resumoMaterializacao))
+                + "]";
+        }
         if (resumoMaterializacao == null) {
             return detalheBase;
         }
-        return (detalheBase == null ? "Sem detalhes." : detalheBase)
-            + " | materializacao_bi[procedures=" + resumoMaterializacao.procedures().size()
+        return base + " | materializacao_bi[" + formatarResumoMaterializacao(resumoMaterializacao) + "]";
+    }
+
+    private String formatarResumoMaterializacao(final FatoMaterializacaoResumo resumoMaterializacao) {
+        if (resumoMaterializacao == null) {
+            return null;
+        }
+        return "procedures=" + resumoMaterializacao.procedures().size()
             + ", falhas=" + resumoMaterializacao.totalProceduresFalhas()
             + formatarProceduresFalhas(resumoMaterializacao)
             + ", inseridas=" + resumoMaterializacao.totalLinhasInseridas()
             + ", atualizadas=" + resumoMaterializacao.totalLinhasAtualizadas()
-            + ", duracao_ms=" + resumoMaterializacao.duracao().toMillis()
-            + "]";
+            + ", duracao_ms=" + resumoMaterializacao.duracao().toMillis();
     }
 
     private String formatarProceduresFalhas(final FatoMaterializacaoResumo resumoMaterializacao) {
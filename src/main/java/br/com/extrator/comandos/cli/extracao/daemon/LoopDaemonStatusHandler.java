@@ -16,11 +16,13 @@ Fluxo geral:
 1) Garante estrutura de logs e estado.
 2) Sincroniza PID ativo encontrado no sistema.
 3) Le estado persistido e imprime status consolidado no console.
+   Com endpoint de controle ativo, mostra tambem o progresso ao vivo do ciclo.
 4) Corrige estado para STOPPED quando PID em arquivo nao esta mais ativo.
 
 Estrutura interna:
 Metodos principais:
 - executar(...1 args): consulta estado e apresenta diagnostico do daemon.
+- consultarStatusAoVivo(...2 args): le GET /status do DaemonControlChannel (com token).
 Atributos-chave:
 - stateStore: origem do estado persistido e arquivos de controle.
 - lifecycleService: detecta processo daemon em execucao.
@@ -29,9 +31,20 @@ Atributos-chave:
 
 package br.com.extrator.comandos.cli.extracao.daemon;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.Properties;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
+import br.com.extrator.suporte.configuracao.ConfigEtl;
+import br.com.extrator.suporte.mapeamento.MapperUtil;
+
 public final class LoopDaemonStatusHandler implements LoopDaemonModeHandler {
     private final DaemonStateStore stateStore;
     private final DaemonLifecycleService lifecycleService;
@@ -75,6 +88,36 @@ public final class LoopDaemonStatusHandler implements LoopDaemonModeHandler {
         System.out.println("  Alertas consecutivos: " + consecutiveAlertCycles);
         System.out.println("  Ciclos nao saudaveis consecutivos: " + consecutiveNonSuccessCycles);
         System.out.println("  Detalhe: " + detalhe);
+        final String prefixoBi = DaemonStateStore.MATERIALIZATION_PREFIX;
+        if (state.containsKey(prefixoBi + "status")) {
+            System.out.println(
+                "  Materializacao BI: " + state.getProperty(prefixoBi + "status")
+                    + " | pendente=" + state.getProperty(prefixoBi + "pending", "false")
+                    + " | execucoes=" + state.getProperty(prefixoBi + "runs", "0")
+                    + " | ultimo_fim=" + state.getProperty(prefixoBi + "last_finished_at", "N/A")
+            );
+            System.out.println("  Ultima materializacao BI: " + state.getProperty(prefixoBi + "last_result", "N/A"));
+        }
+        final int portaControle = ConfigEtl.obterDaemonControleHttpPorta();
+        if (vivo && portaControle > 0) {
+            final Optional<JsonNode> aoVivo = consultarStatusAoVivo(portaControle, ConfigEtl.obterDaemonControleHttpToken());
+            if (aoVivo.isPresent()) {
+                final JsonNode status = aoVivo.get();
+                System.out.println(
+                    "  Ao vivo: fase=" + status.path("fase").asText("N/A")
+                        + " | cycle_id=" + textoOuNa(status.path("cycle_id"))
+                        + " | decorrido_s=" + textoOuNa(status.path("ciclo_decorrido_segundos"))
+                        + " | pedido_manual=" + textoOuNa(status.path("pedido_manual"))
+                );
+                System.out.println(
+                    "  Ao vivo: ciclos=" + status.path("ciclos_concluidos").asText("0")
+                        + " | ciclos_com_falha=" + status.path("ciclos_com_falha").asText("0")
+                        + " | disparos_manuais=" + status.path("disparos_manuais").asText("0")
+                );
+            } else {
+                System.out.println("  Ao vivo: endpoint de controle indisponivel na porta " + portaControle);
+            }
+        }
         System.out.println("  Log: " + DaemonPaths.DAEMON_STDOUT_FILE.toAbsolutePath());
 
         if (!vivo && pidArquivo.isPresent()) {
@@ -82,4 +125,34 @@ public final class LoopDaemonStatusHandler implements LoopDaemonModeHandler {
             stateStore.clearFileIfExists(stateStore.getPidFile());
         }
     }
+
+    static Optional<JsonNode> consultarStatusAoVivo(final int porta, final String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            final HttpClient cliente = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+            final HttpResponse<String> resposta = cliente.send(
+                HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + porta + "/status"))
+                    .timeout(Duration.ofSeconds(3))
+                    .header(DaemonControlChannel.CABECALHO_TOKEN, token)
+                    .GET()
+                    .build(),
+                HttpResponse.BodyHandlers.ofString()
+            );
+            if (resposta.statusCode() != 200) {
+                return Optional.empty();
+            }
+            return Optional.of(MapperUtil.sharedJson().readTree(resposta.body()));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (final Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String textoOuNa(final JsonNode valor) {
+        return valor == null || valor.isNull() || valor.isMissingNode() ? "N/A" : valor.asText();
+    }
 }
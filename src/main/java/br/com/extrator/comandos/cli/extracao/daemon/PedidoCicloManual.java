@@ -0,0 +1,126 @@
+package br.com.extrator.comandos.cli.extracao.daemon;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Disparo manual de ciclo do daemon, opcionalmente restrito a entidades e/ou a um intervalo de datas.
+ * Sem escopo equivale ao ciclo imediato padrao.
+ */
+public record PedidoCicloManual(Set<String> entidades, LocalDate dataInicio, LocalDate dataFim) {
+    private static final String CHAVE_ENTIDADES = "entidades";
+    private static final String CHAVE_DATA_INICIO = "data_inicio";
+    private static final String CHAVE_DATA_FIM = "data_fim";
+
+    public PedidoCicloManual {
+        entidades = entidades == null ? Set.of() : Set.copyOf(entidades);
+        if (dataInicio == null && dataFim != null) {
+            dataInicio = dataFim;
+        }
+        if (dataFim == null && dataInicio != null) {
+            dataFim = dataInicio;
+        }
+        if (dataInicio != null && dataInicio.isAfter(dataFim)) {
+            throw new IllegalArgumentException("data_inicio posterior a data_fim: " + dataInicio + " > " + dataFim);
+        }
+    }
+
+    public static PedidoCicloManual imediato() {
+        return new PedidoCicloManual(Set.of(), null, null);
+    }
+
+    /**
+     * @throws IllegalArgumentException quando alguma data e invalida
+     */
+    public static PedidoCicloManual de(final String entidadesCsv, final String dataInicio, final String dataFim) {
+        return new PedidoCicloManual(parseEntidades(entidadesCsv), parseData(dataInicio), parseData(dataFim));
+    }
+
+    /**
+     * Le o conteudo do arquivo force_run; conteudo legado ou invalido vira ciclo imediato padrao.
+     */
+    public static PedidoCicloManual ler(final String conteudo) {
+        if (conteudo == null || conteudo.isBlank()) {
+            return imediato();
+        }
+        final Properties props = new Properties();
+        try {
+            props.load(new StringReader(conteudo));
+            return de(
+                props.getProperty(CHAVE_ENTIDADES),
+                props.getProperty(CHAVE_DATA_INICIO),
+                props.getProperty(CHAVE_DATA_FIM)
+            );
+        } catch (final IOException | IllegalArgumentException e) {
+            return imediato();
+        }
+    }
+
+    /**
+     * Pedido com o intervalo informado ou, sem datas, com a janela base do ciclo (ontem..hoje).
+     */
+    public PedidoCicloManual comIntervaloPadrao(final LocalDate hoje) {
+        return possuiIntervalo() ? this : new PedidoCicloManual(entidades, hoje.minusDays(1), hoje);
+    }
+
+    public boolean possuiEscopo() {
+        return !entidades.isEmpty() || possuiIntervalo();
+    }
+
+    public boolean possuiIntervalo() {
+        return dataInicio != null;
+    }
+
+    /**
+     * Formato properties gravado no arquivo force_run (primeira linha comentada com o instante do pedido).
+     */
+    public String serializar(final String cabecalho) {
+        final StringBuilder sb = new StringBuilder("# ").append(cabecalho).append('\n');
+        if (!entidades.isEmpty()) {
+            sb.append(CHAVE_ENTIDADES).append('=').append(String.join(",", entidades.stream().sorted().toList())).append('\n');
+        }
+        if (possuiIntervalo()) {
+            sb.append(CHAVE_DATA_INICIO).append('=').append(dataInicio).append('\n');
+            sb.append(CHAVE_DATA_FIM).append('=').append(dataFim).append('\n');
+        }
+        return sb.toString();
+    }
+
+    public String descrever() {
+        if (!possuiEscopo()) {
+            return "ciclo_completo";
+        }
+        return "entidades=" + (entidades.isEmpty() ? "todas" : String.join(",", entidades.stream().sorted().toList()))
+            + (possuiIntervalo() ? " | intervalo=" + dataInicio + ".." + dataFim : "");
+    }
+
+    private static Set<String> parseEntidades(final String valor) {
+        if (valor == null || valor.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(valor.split(","))
+            .map(String::trim)
+            .filter(item -> !item.isEmpty())
+            .map(item -> item.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static LocalDate parseData(final String valor) {
+        if (valor == null || valor.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(valor.trim());
+        } catch (final DateTimeParseException e) {
+            throw new IllegalArgumentException("Data invalida (esperado YYYY-MM-DD): " + valor, e);
+        }
+    }
+}
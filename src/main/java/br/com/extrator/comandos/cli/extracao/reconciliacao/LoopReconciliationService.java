@@ -19,6 +19,7 @@ Metodos principais:
 - LoopReconciliationService(...6 args): realiza operacao relacionada a "loop reconciliation service".
 - criarPadrao(...1 args): instancia ou monta estrutura de dados.
 - processarPosCiclo(...5 args): realiza operacao relacionada a "processar pos ciclo".
+- drenarFila(...3 args): arrenda e executa lotes da fila SQL de replay.
 - agendarPendenciasPorFalha(...3 args): realiza operacao relacionada a "agendar pendencias por falha".
 - carregarEstado(): realiza operacao relacionada a "carregar estado".
 - salvarEstado(...2 args): persiste dados em armazenamento.
@@ -43,8 +44,11 @@ Atributos-chave:
 
 package br.com.extrator.comandos.cli.extracao.reconciliacao;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -54,7 +58,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.regex.Matcher;
@@ -63,9 +69,12 @@ import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import br.com.extrator.aplicacao.extracao.FilaReplay;
+import br.com.extrator.aplicacao.extracao.FilaReplay.ItemReplay;
 import br.com.extrator.aplicacao.extracao.ReconciliacaoUseCase;
 import br.com.extrator.comandos.cli.extracao.reconciliacao.LoopReconciliationStateStore.ReconciliationState;
 import br.com.extrator.comandos.cli.extracao.reconciliacao.LoopReconciliationStateStore.ReconciliationTarget;
+import br.com.extrator.plataforma.extracao.persistencia.sqlserver.SqlServerFilaReplay;
 import br.com.extrator.suporte.configuracao.ConfigLoop;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
 
@@ -76,6 +85,8 @@ import br.com.extrator.suporte.validacao.ConstantesEntidades;
  * - Agenda reconciliacao diaria para D-1 (uma vez por dia).
  * - Em falha de ciclo, adiciona janelas retroativas somente para escopos identificados.
  * - Reexecuta pendencias com limite de tentativas por ciclo.
+ * - Com a tabela dbo.sys_replay_fila, as pendencias vao para a fila SQL: workers arrendam dias contiguos
+ *   de um escopo e executam um unico replay por intervalo.
  */
 public final class LoopReconciliationService {
     private static final Logger logger = LoggerFactory.getLogger(LoopReconciliationService.class);
@@ -88,9 +99,38 @@ public final class LoopReconciliationService {
             .thenComparing(target -> target.api() == null ? "" : target.api())
             .thenComparing(target -> target.entidade() == null ? "" : target.entidade());
 
+    private static final int PRIORIDADE_RECONCILIACAO = 0;
+    private static final int PRIORIDADE_FALHA_CICLO = 10;
+    private static final Duration BACKOFF_BASE = Duration.ofMinutes(15);
+    private static final Duration BACKOFF_MAXIMO = Duration.ofHours(6);
+
     @FunctionalInterface
     public interface ReconciliationExecutor {
         CompletionStage<Void> execute(LocalDate data, String api, String entidade);
+
+        /**
+         * Dias contiguos de um mesmo escopo; o padrao executa um dia por vez.
+         */
+        default CompletionStage<Void> executeIntervalo(final LocalDate inicio,
+                                                       final LocalDate fim,
+                                                       final String api,
+                                                       final String entidade) {
+            CompletionStage<Void> etapa = CompletableFuture.completedFuture(null);
+            for (LocalDate data = inicio; !data.isAfter(fim); data = data.plusDays(1)) {
+                final LocalDate dia = data;
+                etapa = etapa.thenCompose(ignored -> execute(dia, api, entidade));
+            }
+            return etapa;
+        }
+    }
+
+    /**
+     * Dias contiguos de um escopo arrendados da fila e executados como um unico replay.
+     */
+    record LoteReplay(String api, String entidade, LocalDate inicio, LocalDate fim, List<ItemReplay> itens) {
+        String token() {
+            return inicio + ".." + fim + "|" + api + "|" + entidade;
+        }
     }
 
     private final LoopReconciliationStateStore stateStore;
@@ -99,6 +139,10 @@ public final class LoopReconciliationService {
     private final int maxTentativasPorCiclo;
     private final int diasRetroativosFalha;
     private final ReconciliationExecutor executor;
+    private final FilaReplay filaReplay;
+    private final Duration leaseFila;
+    private final int diasPorExecucaoFila;
+    private final String donoLease;
 
     public LoopReconciliationService(final Path stateFile,
                                      final Clock clock,
@@ -106,6 +150,21 @@ public final class LoopReconciliationService {
                                      final int maxTentativasPorCiclo,
                                      final int diasRetroativosFalha,
                                      final ReconciliationExecutor executor) {
+        this(stateFile, clock, ativo, maxTentativasPorCiclo, diasRetroativosFalha, executor, null, Duration.ofHours(3), 1);
+    }
+
+    /**
+     * @param filaReplay fila SQL de replay; null (ou tabela ausente) mantem as pendencias apenas no arquivo de estado
+     */
+    public LoopReconciliationService(final Path stateFile,
+                                     final Clock clock,
+                                     final boolean ativo,
+                                     final int maxTentativasPorCiclo,
+                                     final int diasRetroativosFalha,
+                                     final ReconciliationExecutor executor,
+                                     final FilaReplay filaReplay,
+                                     final Duration leaseFila,
+                                     final int diasPorExecucaoFila) {
         this.clock = Objects.requireNonNull(clock, "clock nao pode ser null");
         this.stateStore = new LoopReconciliationStateStore(
             Objects.requireNonNull(stateFile, "stateFile nao pode ser null"),
@@ -116,6 +175,10 @@ public final class LoopReconciliationService {
         this.maxTentativasPorCiclo = Math.max(1, maxTentativasPorCiclo);
         this.diasRetroativosFalha = Math.max(0, diasRetroativosFalha);
         this.executor = Objects.requireNonNull(executor, "executor nao pode ser null");
+        this.filaReplay = filaReplay;
+        this.leaseFila = Objects.requireNonNull(leaseFila, "leaseFila nao pode ser null");
+        this.diasPorExecucaoFila = Math.max(1, diasPorExecucaoFila);
+        this.donoLease = resolverDonoLease();
     }
 
     public static LoopReconciliationService criarPadrao(final Path stateFile) {
@@ -126,7 +189,23 @@ public final class LoopReconciliationService {
             ConfigLoop.isReconciliacaoAtiva(),
             ConfigLoop.obterReconciliacaoMaxPorCiclo(),
             ConfigLoop.obterReconciliacaoDiasRetroativosFalha(),
-            reconciliacaoUseCase::executar
+            new ReconciliationExecutor() {
+                @Override
+                public CompletionStage<Void> execute(final LocalDate data, final String api, final String entidade) {
+                    return reconciliacaoUseCase.executar(data, api, entidade);
+                }
+
+                @Override
+                public CompletionStage<Void> executeIntervalo(final LocalDate inicio,
+                                                              final LocalDate fim,
+                                                              final String api,
+                                                              final String entidade) {
+                    return reconciliacaoUseCase.executar(inicio, fim, api, entidade);
+                }
+            },
+            new SqlServerFilaReplay(),
+            Duration.ofMinutes(ConfigLoop.obterReconciliacaoFilaLeaseMinutos()),
+            ConfigLoop.obterReconciliacaoFilaDiasPorExecucao()
         );
     }
 
@@ -157,10 +236,25 @@ public final class LoopReconciliationService {
             logger.info("Reconciliacao diaria agendada para {} com escopos explicitos", ontem);
         }
 
+        final Set<ReconciliationTarget> pendenciasAntesDaFalha = Set.copyOf(estado.pendingTargets);
         if (!cicloSucesso) {
             adicionouPorFalha = agendarPendenciasPorFalha(estado, inicioCiclo, fimCiclo, detalheFalhaCiclo);
         }
 
+        if (filaReplay != null && filaReplay.isDisponivel() && migrarPendenciasParaFila(estado, pendenciasAntesDaFalha)) {
+            final int[] contadores = drenarFila(estado, hoje, detalhesFalha);
+            stateStore.save(estado, detalhesFalha);
+            return new ReconciliationSummary(
+                true,
+                contadores[0],
+                contadores[1],
+                datasPendentesFila(),
+                detalhesFalha,
+                agendouDiaria,
+                adicionouPorFalha
+            );
+        }
+
         final List<ReconciliationTarget> pendenciasOrdenadas = estado.pendingTargets.stream()
             .filter(target -> !target.data().isAfter(hoje))
             .sorted(TARGET_COMPARATOR)
@@ -215,6 +309,158 @@ public final class LoopReconciliationService {
         );
     }
 
+    /**
+     * Pendencias do arquivo passam para a fila SQL; falhas de ciclo entram acima da reconciliacao diaria.
+     * Se o enfileiramento falhar, o ciclo segue pelo arquivo como antes.
+     */
+    private boolean migrarPendenciasParaFila(final ReconciliationState estado,
+                                             final Set<ReconciliationTarget> pendenciasAntesDaFalha) {
+        if (estado.pendingTargets.isEmpty()) {
+            return true;
+        }
+        final List<ItemReplay> reconciliacao = new ArrayList<>();
+        final List<ItemReplay> falhaCiclo = new ArrayList<>();
+        for (final ReconciliationTarget target : estado.pendingTargets) {
+            final boolean porFalha = !pendenciasAntesDaFalha.contains(target);
+            (porFalha ? falhaCiclo : reconciliacao).add(new ItemReplay(
+                target.api(),
+                target.entidade(),
+                target.data(),
+                porFalha ? PRIORIDADE_FALHA_CICLO : PRIORIDADE_RECONCILIACAO,
+                0
+            ));
+        }
+        try {
+            filaReplay.enfileirar(reconciliacao, "reconciliacao");
+            filaReplay.enfileirar(falhaCiclo, "falha_ciclo");
+        } catch (final Exception e) {
+            logger.warn("Fila SQL de replay indisponivel; pendencias seguem no arquivo de estado: {}", e.getMessage());
+            return false;
+        }
+        estado.pendingTargets.clear();
+        return true;
+    }
+
+    /**
+     * @return {executadas, falhas}; executadas conta dias reconciliados
+     */
+    private int[] drenarFila(final ReconciliationState estado,
+                             final LocalDate hoje,
+                             final List<String> detalhesFalha) {
+        int executadas = 0;
+        int falhas = 0;
+        for (int tentativa = 0; tentativa < maxTentativasPorCiclo; tentativa++) {
+            final List<ItemReplay> arrendados;
+            try {
+                arrendados = filaReplay.arrendar(donoLease, diasPorExecucaoFila, hoje, LocalDateTime.now(clock), leaseFila);
+            } catch (final Exception e) {
+                falhas++;
+                detalhesFalha.add("fila_replay: " + resumirMensagem(e.getMessage()));
+                logger.error("Falha ao arrendar itens da fila de replay: {}", e.getMessage(), e);
+                break;
+            }
+            if (arrendados.isEmpty()) {
+                break;
+            }
+            final LoteReplay lote = primeiroLote(arrendados, diasPorExecucaoFila);
+            liberarNaoUsados(arrendados, lote);
+            try {
+                logger.info(
+                    "Iniciando replay da fila para {} a {} | api={} | entidade={}",
+                    lote.inicio(),
+                    lote.fim(),
+                    lote.api(),
+                    lote.entidade()
+                );
+                aguardarConclusao(executor.executeIntervalo(lote.inicio(), lote.fim(), lote.api(), lote.entidade()));
+                filaReplay.concluir(lote.itens(), donoLease);
+                estado.lastSuccessfulReconciliationDate = maiorData(estado.lastSuccessfulReconciliationDate, lote.fim());
+                executadas += lote.itens().size();
+                logger.info("Replay da fila concluido: {}", lote.token());
+            } catch (final Exception e) {
+                falhas++;
+                detalhesFalha.add(lote.token() + ": " + resumirMensagem(e.getMessage()));
+                logger.error("Falha no replay da fila para {}: {}", lote.token(), e.getMessage(), e);
+                registrarFalhaNaFila(lote, e);
+            }
+        }
+        return new int[] {executadas, falhas};
+    }
+
+    /**
+     * Prefixo de dias contiguos do escopo do primeiro item, limitado a {@code maxDias}.
+     */
+    static LoteReplay primeiroLote(final List<ItemReplay> arrendados, final int maxDias) {
+        final ItemReplay primeiro = arrendados.get(0);
+        final List<ItemReplay> itens = new ArrayList<>();
+        itens.add(primeiro);
+        LocalDate fim = primeiro.data();
+        for (final ItemReplay item : arrendados.subList(1, arrendados.size())) {
+            if (itens.size() >= maxDias
+                || !item.api().equals(primeiro.api())
+                || !item.entidade().equals(primeiro.entidade())
+                || !item.data().equals(fim.plusDays(1))) {
+                break;
+            }
+            itens.add(item);
+            fim = item.data();
+        }
+        return new LoteReplay(primeiro.api(), primeiro.entidade(), primeiro.data(), fim, List.copyOf(itens));
+    }
+
+    /**
+     * Backoff exponencial a partir de 15 minutos, limitado a 6 horas.
+     */
+    static LocalDateTime proximaTentativa(final int tentativasAnteriores, final LocalDateTime agora) {
+        final Duration espera = BACKOFF_BASE.multipliedBy(1L << Math.min(Math.max(0, tentativasAnteriores), 10));
+        return agora.plus(espera.compareTo(BACKOFF_MAXIMO) > 0 ? BACKOFF_MAXIMO : espera);
+    }
+
+    private void liberarNaoUsados(final List<ItemReplay> arrendados, final LoteReplay lote) {
+        if (arrendados.size() == lote.itens().size()) {
+            return;
+        }
+        try {
+            filaReplay.liberar(arrendados.subList(lote.itens().size(), arrendados.size()), donoLease);
+        } catch (final Exception e) {
+            // O lease expira sozinho; outro worker assume os itens depois.
+            logger.warn("Falha ao liberar itens nao usados da fila de replay: {}", e.getMessage());
+        }
+    }
+
+    private void registrarFalhaNaFila(final LoteReplay lote, final Exception erro) {
+        final int tentativas = lote.itens().stream().mapToInt(ItemReplay::tentativas).max().orElse(0);
+        try {
+            filaReplay.falhar(
+                lote.itens(),
+                donoLease,
+                proximaTentativa(tentativas, LocalDateTime.now(clock)),
+                erro.getMessage()
+            );
+        } catch (final Exception e) {
+            logger.warn("Falha ao registrar erro na fila de replay para {}: {}", lote.token(), e.getMessage());
+        }
+    }
+
+    private List<LocalDate> datasPendentesFila() {
+        try {
+            return filaReplay.datasPendentes();
+        } catch (final Exception e) {
+            logger.warn("Falha ao consultar pendencias da fila de replay: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static String resolverDonoLease() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (final UnknownHostException e) {
+            host = "host";
+        }
+        return host + ":" + ProcessHandle.current().pid() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
     private void aguardarConclusao(final CompletionStage<Void> execucao) throws Exception {
         if (execucao == null) {
             throw new IllegalStateException("Executor de reconciliacao retornou CompletionStage null");
@@ -42,7 +42,19 @@ public class ExecutarStepIsoladoComando implements Comando {
         }
     }
 
-    private ApiType resolverApi(final String raw) {
+    /**
+     * Step ja validado, executado na JVM atual; usado tambem pelo worker aquecido.
+     */
+    void executarPedido(final ApiType apiType,
+                        final LocalDate dataInicio,
+                        final LocalDate dataFim,
+                        final String entidade,
+                        final FaultMode faultMode) throws InterruptedException {
+        executarFaultSeNecessario(faultMode);
+        executarStep(apiType, dataInicio, dataFim, entidade);
+    }
+
+    ApiType resolverApi(final String raw) {
         if (raw == null || raw.isBlank()) {
             throw new IllegalArgumentException("Tipo de API nao informado para execucao isolada.");
         }
@@ -53,7 +65,7 @@ public class ExecutarStepIsoladoComando implements Comando {
         };
     }
 
-    private LocalDate parseDate(final String raw, final String fieldName) {
+    LocalDate parseDate(final String raw, final String fieldName) {
         try {
             return LocalDate.parse(raw, DateTimeFormatter.ISO_DATE);
         } catch (final DateTimeParseException e) {
@@ -61,7 +73,7 @@ public class ExecutarStepIsoladoComando implements Comando {
         }
     }
 
-    private String normalizarEntidade(final String raw) {
+    String normalizarEntidade(final String raw) {
         if (raw == null || raw.isBlank() || "all".equalsIgnoreCase(raw) || "todas".equalsIgnoreCase(raw)) {
             return null;
         }
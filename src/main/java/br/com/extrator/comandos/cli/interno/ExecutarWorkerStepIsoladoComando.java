@@ -0,0 +1,124 @@
+package br.com.extrator.comandos.cli.interno;
+
+import java.io.BufferedReader;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.extrator.bootstrap.pipeline.IsolatedStepProcessExecutor.FaultMode;
+import br.com.extrator.bootstrap.pipeline.WarmStepWorkerPool;
+import br.com.extrator.bootstrap.pipeline.WarmStepWorkerPool.PedidoStep;
+import br.com.extrator.comandos.cli.base.Comando;
+import br.com.extrator.plataforma.auditoria.dominio.ExecutionPlanContext;
+import br.com.extrator.suporte.banco.GerenciadorConexao;
+import br.com.extrator.suporte.configuracao.ConfigBanco;
+import br.com.extrator.suporte.configuracao.ConfigEtl;
+import br.com.extrator.suporte.configuracao.ScopedSystemPropertyOverride;
+import br.com.extrator.suporte.log.SensitiveDataSanitizer;
+import br.com.extrator.suporte.observabilidade.ExecutionContext;
+
+/**
+ * Processo filho aquecido: inicializa uma vez (classes, contexto e pool de conexoes) e atende steps isolados
+ * recebidos por stdin ate o pai fechar a entrada. A saida de cada step vai para o log indicado no pedido;
+ * stdout fica reservado ao protocolo de resposta.
+ */
+public class ExecutarWorkerStepIsoladoComando implements Comando {
+    private static final Logger logger = LoggerFactory.getLogger(ExecutarWorkerStepIsoladoComando.class);
+
+    private final ExecutarStepIsoladoComando step = new ExecutarStepIsoladoComando();
+
+    @Override
+    public void executar(final String[] args) throws Exception {
+        if (!ConfigEtl.isProcessoFilhoIsolado()) {
+            throw new IllegalStateException(
+                "O comando " + WarmStepWorkerPool.FLAG_WORKER + " e interno e so roda como processo filho isolado."
+            );
+        }
+        final PrintStream canal = System.out;
+        final PrintStream saidaOciosa = System.err;
+        System.setOut(saidaOciosa);
+        aquecerPoolConexoes();
+
+        final BufferedReader entrada = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        String linha;
+        while ((linha = entrada.readLine()) != null) {
+            if (linha.isBlank()) {
+                continue;
+            }
+            final String resposta = atender(linha, saidaOciosa);
+            canal.println(WarmStepWorkerPool.PREFIXO_RESULTADO + resposta);
+            canal.flush();
+        }
+    }
+
+    private String atender(final String linha, final PrintStream saidaOciosa) {
+        final PedidoStep pedido;
+        try {
+            pedido = PedidoStep.ler(linha);
+        } catch (final IllegalArgumentException e) {
+            return WarmStepWorkerPool.RESULTADO_ERRO + " " + resumirErro(e);
+        }
+        try (PrintStream saidaStep = new PrintStream(
+            new FileOutputStream(pedido.arquivoLog(), true),
+            true,
+            StandardCharsets.UTF_8
+        )) {
+            System.setOut(saidaStep);
+            System.setErr(saidaStep);
+            ExecutionPlanContext.clear();
+            final ScopedSystemPropertyOverride propriedadesDoPedido = ScopedSystemPropertyOverride.apply(pedido.propriedades());
+            try (propriedadesDoPedido) {
+                ExecutionContext.initialize("--executar-step-isolado");
+                step.executarPedido(
+                    step.resolverApi(pedido.api()),
+                    step.parseDate(pedido.dataInicio(), "dataInicio"),
+                    step.parseDate(pedido.dataFim(), "dataFim"),
+                    step.normalizarEntidade(pedido.entidade()),
+                    FaultMode.fromCliValue(pedido.fault())
+                );
+                return WarmStepWorkerPool.RESULTADO_OK;
+            } catch (final Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                e.printStackTrace(saidaStep);
+                return WarmStepWorkerPool.RESULTADO_ERRO + " " + resumirErro(e);
+            }
+        } catch (final IOException e) {
+            return WarmStepWorkerPool.RESULTADO_ERRO + " log do step indisponivel: " + resumirErro(e);
+        } finally {
+            System.setOut(saidaOciosa);
+            System.setErr(saidaOciosa);
+            ExecutionPlanContext.clear();
+        }
+    }
+
+    /**
+     * Abre, valida e devolve uma conexao para pagar a validacao inicial do pool antes do primeiro step.
+     */
+    private void aquecerPoolConexoes() {
+        try (Connection conexao = GerenciadorConexao.obterConexao()) {
+            if (!conexao.isValid(ConfigBanco.obterTimeoutValidacaoConexao())) {
+                throw new IllegalStateException("Aquecimento do pool de conexoes do worker falhou: conexao invalida");
+            }
+            logger.info("Worker de step isolado aquecido | pid={}", ProcessHandle.current().pid());
+        } catch (final SQLException e) {
+            // Pool que falha na inicializacao nao se recupera nesta JVM; o pai abre outro worker.
+            throw new IllegalStateException("Aquecimento do pool de conexoes do worker falhou: " + e.getMessage(), e);
+        }
+    }
+
+    private static String resumirErro(final Exception e) {
+        final String mensagem = e.getMessage() == null || e.getMessage().isBlank()
+            ? e.getClass().getSimpleName()
+            : e.getClass().getSimpleName() + ": " + e.getMessage();
+        return SensitiveDataSanitizer.sanitize(mensagem).replaceAll("\\s+", " ").trim();
+    }
+}
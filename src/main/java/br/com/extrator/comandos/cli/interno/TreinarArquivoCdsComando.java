@@ -0,0 +1,76 @@
+package br.com.extrator.comandos.cli.interno;
+
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import br.com.extrator.comandos.cli.base.Comando;
+import br.com.extrator.suporte.mapeamento.MapperUtil;
+
+/**
+ * Execucao de treino do arquivo AppCDS (perfil Maven startup-cds): carrega, sem inicializar, as classes
+ * do extrator e das bibliotecas usadas em toda execucao, para que a JVM as grave com
+ * -XX:ArchiveClassesAtExit. Nao acessa banco, APIs nem arquivos de estado.
+ */
+public class TreinarArquivoCdsComando implements Comando {
+    private static final List<String> PREFIXOS_ARQUIVADOS = List.of(
+        "br/com/extrator/",
+        "com/fasterxml/jackson/",
+        "com/zaxxer/hikari/",
+        "com/microsoft/sqlserver/jdbc/",
+        "ch/qos/logback/",
+        "org/slf4j/",
+        "org/sqlite/"
+    );
+
+    @Override
+    public void executar(final String[] args) throws Exception {
+        final Path jar = resolverJarAtual();
+        if (jar == null || !Files.isRegularFile(jar)) {
+            throw new IllegalStateException("O treino do arquivo CDS so roda a partir do jar empacotado (target/extrator.jar).");
+        }
+        // Inicializacao compartilhada por quase todos os comandos.
+        MapperUtil.sharedJson();
+
+        final ClassLoader loader = TreinarArquivoCdsComando.class.getClassLoader();
+        int carregadas = 0;
+        int ignoradas = 0;
+        try (JarFile arquivo = new JarFile(jar.toFile())) {
+            final Enumeration<JarEntry> entradas = arquivo.entries();
+            while (entradas.hasMoreElements()) {
+                final String nome = entradas.nextElement().getName();
+                if (!deveArquivar(nome)) {
+                    continue;
+                }
+                try {
+                    Class.forName(nome.substring(0, nome.length() - ".class".length()).replace('/', '.'), false, loader);
+                    carregadas++;
+                } catch (final ClassNotFoundException | LinkageError e) {
+                    // Dependencia opcional ausente no jar (ex.: integracoes Azure do driver JDBC).
+                    ignoradas++;
+                }
+            }
+        }
+        System.out.println("CDS_TREINO classes_carregadas=" + carregadas + " ignoradas=" + ignoradas);
+    }
+
+    static boolean deveArquivar(final String nomeEntrada) {
+        if (!nomeEntrada.endsWith(".class") || nomeEntrada.endsWith("module-info.class") || nomeEntrada.startsWith("META-INF/")) {
+            return false;
+        }
+        return PREFIXOS_ARQUIVADOS.stream().anyMatch(nomeEntrada::startsWith);
+    }
+
+    private static Path resolverJarAtual() throws URISyntaxException {
+        final var codeSource = TreinarArquivoCdsComando.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return null;
+        }
+        final Path local = Path.of(codeSource.getLocation().toURI());
+        return local.getFileName() != null && local.getFileName().toString().endsWith(".jar") ? local : null;
+    }
+}
@@ -55,11 +55,12 @@ public class MaterializarFatosBiComando implements Comando {
             }
         }
         log.console(
-            "Totais | falhas={} | inseridas={} | atualizadas={} | duracao_ms={}",
+            "Totais | falhas={} | inseridas={} | atualizadas={} | duracao_ms={} | soma_procedures_ms={}",
             resumo.totalProceduresFalhas(),
             resumo.totalLinhasInseridas(),
             resumo.totalLinhasAtualizadas(),
-            resumo.duracao().toMillis()
+            resumo.duracao().toMillis(),
+            resumo.duracaoSomadaProcedures().toMillis()
         );
     }
 }
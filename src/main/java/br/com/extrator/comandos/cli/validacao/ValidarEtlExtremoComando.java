@@ -25,7 +25,9 @@ public class ValidarEtlExtremoComando implements Comando {
                 resolverStressRepeticoes(args),
                 possuiFlag(args, "--executar-idempotencia"),
                 possuiFlag(args, "--executar-hidratacao-orfaos"),
-                RelogioSistema.hoje()
+                RelogioSistema.hoje(),
+                resolverInteiro(args, "--paralelismo", 1),
+                resolverInteiro(args, "--parar-apos-falhas", 0)
             )
         );
     }
@@ -42,6 +44,23 @@ public class ValidarEtlExtremoComando implements Comando {
         return false;
     }
 
+    private int resolverInteiro(final String[] args, final String flag, final int padrao) {
+        if (args == null) {
+            return padrao;
+        }
+        for (int i = 0; i < args.length; i++) {
+            if (!flag.equalsIgnoreCase(args[i]) || i + 1 >= args.length) {
+                continue;
+            }
+            try {
+                return Math.max(0, Integer.parseInt(args[i + 1]));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Valor invalido para " + flag + ": " + args[i + 1]);
+            }
+        }
+        return padrao;
+    }
+
     private int resolverStressRepeticoes(final String[] args) {
         if (args == null) {
             return 3;
@@ -0,0 +1,19 @@
+package br.com.extrator.dominio;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * DTO que guarda o objeto JSON do registro exatamente como veio na pagina da API. O mapper grava esse
+ * texto como metadata em vez de remontar e reserializar todas as propriedades.
+ */
+public interface RegistroComJsonOriginal {
+
+    /**
+     * @return trecho JSON do registro na resposta original; null quando o DTO nao veio de uma pagina da API
+     */
+    @JsonIgnore
+    String getJsonOriginal();
+
+    @JsonIgnore
+    void setJsonOriginal(String jsonOriginal);
+}
@@ -56,6 +56,8 @@ import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import br.com.extrator.dominio.RegistroComJsonOriginal;
+
 /**
  * DTO para dados de Contas a Pagar retornados pela API Data Export.
  * Template ID: 8636
@@ -63,7 +65,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * Campo de filtro: issue_date
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class ContasAPagarDTO {
+public class ContasAPagarDTO implements RegistroComJsonOriginal {
     
     // CHAVE PRIMÁRIA
     @JsonProperty("ant_ils_sequence_code")
@@ -160,6 +162,9 @@ public class ContasAPagarDTO {
     private Boolean reconciled;
 
     private final Map<String, Object> otherProperties = new LinkedHashMap<>();
+
+    // Objeto JSON do registro como veio na pagina da API (gravado como metadata).
+    private String jsonOriginal;
     
     // CONSTRUTOR VAZIO
     public ContasAPagarDTO() {}
@@ -424,4 +429,14 @@ public class ContasAPagarDTO {
         }
         return all;
     }
+
+    @Override
+    public String getJsonOriginal() {
+        return jsonOriginal;
+    }
+
+    @Override
+    public void setJsonOriginal(final String jsonOriginal) {
+        this.jsonOriginal = jsonOriginal;
+    }
 }
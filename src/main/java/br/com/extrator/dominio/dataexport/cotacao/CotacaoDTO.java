@@ -56,13 +56,15 @@ import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import br.com.extrator.dominio.RegistroComJsonOriginal;
+
 /**
  * DTO (Data Transfer Object) para representar um registro de Cotação
  * vindo da API Data Export. Mapeia campos essenciais para colunas dedicadas
  * e captura dinamicamente todos os outros campos do template em um mapa,
  * garantindo resiliência contra futuras alterações no template.
  */
-public class CotacaoDTO {
+public class CotacaoDTO implements RegistroComJsonOriginal {
 
     // --- Todos os 37 campos do CSV mapeados explicitamente conforme docs/descobertas-endpoints/cotacoes.md ---
     
@@ -216,6 +218,9 @@ public class CotacaoDTO {
     // --- Contêiner Dinâmico ("Resto") ---
     private final Map<String, Object> otherProperties = new HashMap<>();
 
+    // Objeto JSON do registro como veio na pagina da API (gravado como metadata).
+    private String jsonOriginal;
+
     @JsonAnySetter
     public void add(final String key, final Object value) {
         this.otherProperties.put(key, value);
@@ -568,4 +573,14 @@ public class CotacaoDTO {
     public Map<String, Object> getOtherProperties() {
         return otherProperties;
     }
+
+    @Override
+    public String getJsonOriginal() {
+        return jsonOriginal;
+    }
+
+    @Override
+    public void setJsonOriginal(final String jsonOriginal) {
+        this.jsonOriginal = jsonOriginal;
+    }
 }
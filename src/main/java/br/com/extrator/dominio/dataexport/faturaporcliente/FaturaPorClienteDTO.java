@@ -57,6 +57,8 @@ import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import br.com.extrator.dominio.RegistroComJsonOriginal;
+
 /**
  * DTO para dados de Faturas por Cliente da API Data Export (Template 4924).
  * Representa a resposta JSON da API contendo informações híbridas de CT-e e NFS-e.
@@ -65,7 +67,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * @version 1.0
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class FaturaPorClienteDTO {
+public class FaturaPorClienteDTO implements RegistroComJsonOriginal {
 
     // Documentos Fiscais
     @JsonProperty("fit_nse_number")
@@ -167,6 +169,9 @@ public class FaturaPorClienteDTO {
 
     private final Map<String, Object> otherProperties = new LinkedHashMap<>();
 
+    // Objeto JSON do registro como veio na pagina da API (impressao da deduplicacao entre chunks).
+    private String jsonOriginal;
+
     // Getters e Setters
     public Long getNfseNumber() {
         return nfseNumber;
@@ -434,4 +439,14 @@ public class FaturaPorClienteDTO {
     public Map<String, Object> getOtherProperties() {
         return otherProperties;
     }
+
+    @Override
+    public String getJsonOriginal() {
+        return jsonOriginal;
+    }
+
+    @Override
+    public void setJsonOriginal(final String jsonOriginal) {
+        this.jsonOriginal = jsonOriginal;
+    }
 }
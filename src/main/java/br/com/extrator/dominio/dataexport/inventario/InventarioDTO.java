@@ -8,7 +8,9 @@ import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-public class InventarioDTO {
+import br.com.extrator.dominio.RegistroComJsonOriginal;
+
+public class InventarioDTO implements RegistroComJsonOriginal {
 
     @JsonProperty("cnr_c_s_fit_corporation_sequence_number")
     private Long numeroMinuta;
@@ -90,6 +92,9 @@ public class InventarioDTO {
 
     private final Map<String, Object> otherProperties = new HashMap<>();
 
+    // Objeto JSON do registro como veio na pagina da API (gravado como metadata).
+    private String jsonOriginal;
+
     @JsonAnySetter
     public void add(final String key, final Object value) {
         otherProperties.put(key, value);
@@ -339,4 +344,14 @@ public class InventarioDTO {
     public void setUltimaOcorrenciaDescricao(final String ultimaOcorrenciaDescricao) {
         this.ultimaOcorrenciaDescricao = ultimaOcorrenciaDescricao;
     }
+
+    @Override
+    public String getJsonOriginal() {
+        return jsonOriginal;
+    }
+
+    @Override
+    public void setJsonOriginal(final String jsonOriginal) {
+        this.jsonOriginal = jsonOriginal;
+    }
 }
@@ -57,13 +57,15 @@ import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import br.com.extrator.dominio.RegistroComJsonOriginal;
+
 /**
  * DTO (Data Transfer Object) para representar um registro de Localização de Carga
  * vindo do template da API Data Export. Mapeia campos essenciais para colunas dedicadas
  * e captura dinamicamente todos os outros campos em um mapa, garantindo
  * resiliência contra futuras alterações no template.
  */
-public class LocalizacaoCargaDTO {
+public class LocalizacaoCargaDTO implements RegistroComJsonOriginal {
 
     // --- Todos os 17 campos do CSV mapeados explicitamente conforme docs/descobertas-endpoints/localizacaocarga.md ---
     
@@ -143,6 +145,9 @@ public class LocalizacaoCargaDTO {
     // --- Contêiner Dinâmico ("Resto") ---
     private final Map<String, Object> otherProperties = new HashMap<>();
 
+    // Objeto JSON do registro como veio na pagina da API (gravado como metadata).
+    private String jsonOriginal;
+
     @JsonAnySetter
     public void add(final String key, final Object value) {
         this.otherProperties.put(key, value);
@@ -333,4 +338,14 @@ public class LocalizacaoCargaDTO {
     public Map<String, Object> getOtherProperties() {
         return otherProperties;
     }
+
+    @Override
+    public String getJsonOriginal() {
+        return jsonOriginal;
+    }
+
+    @Override
+    public void setJsonOriginal(final String jsonOriginal) {
+        this.jsonOriginal = jsonOriginal;
+    }
 }
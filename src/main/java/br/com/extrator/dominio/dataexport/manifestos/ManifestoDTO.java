@@ -56,13 +56,15 @@ import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import br.com.extrator.dominio.RegistroComJsonOriginal;
+
 /**
  * DTO (Data Transfer Object) para representar um registro de Manifesto
  * vindo do template da API Data Export. Mapeia campos essenciais para colunas dedicadas
  * e captura dinamicamente todos os outros campos em um mapa, garantindo
  * resiliência contra futuras alterações no template.
  */
-public class ManifestoDTO {
+public class ManifestoDTO implements RegistroComJsonOriginal {
 
     // --- Todos os 87 campos da amostra principal mapeados explicitamente conforme docs/descobertas-endpoints/manifestos.md ---
     
@@ -436,6 +438,9 @@ public class ManifestoDTO {
     // --- Contêiner Dinâmico ("Resto") ---
     private final Map<String, Object> otherProperties = new HashMap<>();
 
+    // Objeto JSON do registro como veio na pagina da API (gravado como metadata).
+    private String jsonOriginal;
+
     @JsonAnySetter
     public void add(final String key, final Object value) {
         this.otherProperties.put(key, value);
@@ -1283,4 +1288,14 @@ public class ManifestoDTO {
     public Map<String, Object> getOtherProperties() {
         return otherProperties;
     }
+
+    @Override
+    public String getJsonOriginal() {
+        return jsonOriginal;
+    }
+
+    @Override
+    public void setJsonOriginal(final String jsonOriginal) {
+        this.jsonOriginal = jsonOriginal;
+    }
 }
@@ -8,7 +8,9 @@ import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-public class SinistroDTO {
+import br.com.extrator.dominio.RegistroComJsonOriginal;
+
+public class SinistroDTO implements RegistroComJsonOriginal {
 
     @JsonProperty("sequence_code")
     private Long sequenceCode;
@@ -105,6 +107,9 @@ public class SinistroDTO {
 
     private final Map<String, Object> otherProperties = new HashMap<>();
 
+    // Objeto JSON do registro como veio na pagina da API (gravado como metadata).
+    private String jsonOriginal;
+
     @JsonAnySetter
     public void add(final String key, final Object value) {
         otherProperties.put(key, value);
@@ -399,4 +404,14 @@ public class SinistroDTO {
     public void setSolutionType(final String solutionType) {
         this.solutionType = solutionType;
     }
+
+    @Override
+    public String getJsonOriginal() {
+        return jsonOriginal;
+    }
+
+    @Override
+    public void setJsonOriginal(final String jsonOriginal) {
+        this.jsonOriginal = jsonOriginal;
+    }
 }
@@ -0,0 +1,17 @@
+package br.com.extrator.dominio.graphql.coletas;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Coleta reduzida as projecoes CHAVES/CHAVES_E_FRESCOR; os campos de frescor vem nulos em CHAVES.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ColetaChaveDTO(
+    String id,
+    Long sequenceCode,
+    String requestDate,
+    String serviceDate,
+    String finishDate,
+    String statusUpdatedAt
+) {
+}
@@ -57,6 +57,8 @@ import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import br.com.extrator.dominio.RegistroComJsonOriginal;
+
 /**
  * DTO (Data Transfer Object) para representar um "node" de Coleta,
  * conforme retornado pela API GraphQL.
@@ -64,7 +66,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * dinâmico para garantir a captura de quaisquer outros campos que a query
  * possa vir a retornar no futuro.
  */
-public class ColetaNodeDTO {
+public class ColetaNodeDTO implements RegistroComJsonOriginal {
 
     // --- Campos Essenciais do Tipo Pick ---
     @JsonProperty("id")
@@ -183,6 +185,9 @@ public class ColetaNodeDTO {
     // --- Contêiner Dinâmico ("Resto") ---
     private final Map<String, Object> otherProperties = new HashMap<>();
 
+    // Objeto JSON do registro como veio na pagina da API (gravado como metadata).
+    private String jsonOriginal;
+
     @JsonAnySetter
     public void add(final String key, final Object value) {
         this.otherProperties.put(key, value);
@@ -520,4 +525,14 @@ public class ColetaNodeDTO {
         public String getCnpj() { return cnpj; }
         public void setCnpj(final String cnpj) { this.cnpj = cnpj; }
     }
+
+    @Override
+    public String getJsonOriginal() {
+        return jsonOriginal;
+    }
+
+    @Override
+    public void setJsonOriginal(final String jsonOriginal) {
+        this.jsonOriginal = jsonOriginal;
+    }
 }
@@ -0,0 +1,19 @@
+package br.com.extrator.dominio.graphql.fretes;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Frete reduzido as projecoes CHAVES/CHAVES_E_FRESCOR; os campos de frescor vem nulos em CHAVES.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record FreteChaveDTO(
+    Long id,
+    String serviceAt,
+    String createdAt,
+    String finishedAt,
+    Cte cte
+) {
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Cte(String issuedAt, String createdAt) {
+    }
+}
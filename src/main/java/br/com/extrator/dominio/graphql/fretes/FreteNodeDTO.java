@@ -57,13 +57,15 @@ import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import br.com.extrator.dominio.RegistroComJsonOriginal;
+
 /**
  * DTO (Data Transfer Object) para representar um "node" de Frete,
  * conforme retornado pela API GraphQL. Mapeia os campos essenciais
  * e inclui um contêiner dinâmico para capturar todas as outras
  * propriedades, garantindo resiliência e completude.
  */
-public class FreteNodeDTO {
+public class FreteNodeDTO implements RegistroComJsonOriginal {
 
     // --- Campos Essenciais Mapeados ---
     @JsonProperty("id")
@@ -307,6 +309,9 @@ public class FreteNodeDTO {
     // --- Contêiner Dinâmico ("Resto") ---
     private final Map<String, Object> otherProperties = new HashMap<>();
 
+    // Objeto JSON do registro como veio na pagina da API (gravado como metadata).
+    private String jsonOriginal;
+
     @JsonAnySetter
     public void add(final String key, final Object value) {
         this.otherProperties.put(key, value);
@@ -660,4 +665,14 @@ public class FreteNodeDTO {
     public Map<String, Object> getOtherProperties() {
         return otherProperties;
     }
+
+    @Override
+    public String getJsonOriginal() {
+        return jsonOriginal;
+    }
+
+    @Override
+    public void setJsonOriginal(final String jsonOriginal) {
+        this.jsonOriginal = jsonOriginal;
+    }
 }
@@ -21,10 +21,10 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.TreeMap;
 
 import org.slf4j.Logger;
@@ -32,9 +32,13 @@ import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import br.com.extrator.integracao.comum.ChaveFrescor;
+import br.com.extrator.integracao.comum.DeduplicadorPorFrescor;
 import br.com.extrator.integracao.constantes.ConstantesApiDataExport;
 import br.com.extrator.integracao.constantes.ConstantesApiDataExport.ConfiguracaoEntidade;
 import br.com.extrator.persistencia.repositorio.PageAuditRepository;
+import br.com.extrator.plataforma.auditoria.dominio.ExecutionPlanContext;
+import br.com.extrator.plataforma.auditoria.dominio.ExecutionWindowPlan;
 import br.com.extrator.dominio.dataexport.contasapagar.ContasAPagarDTO;
 import br.com.extrator.dominio.dataexport.cotacao.CotacaoDTO;
 import br.com.extrator.dominio.dataexport.fretes.FreteIndicadorDTO;
@@ -53,6 +57,10 @@ public class ClienteApiDataExport {
     private static final int INTERVALO_LOG_PROGRESSO = 10;
     private static final int MAX_FALHAS_CONSECUTIVAS = 5;
     private static final Duration JANELA_REABERTURA_CIRCUITO = Duration.ofMinutes(10);
+    private static final DeduplicadorPorFrescor<ContasAPagarDTO> DEDUPLICADOR_CONTAS_A_PAGAR = DeduplicadorPorFrescor
+        .<ContasAPagarDTO>porChave(ClienteApiDataExport::chaveContaAPagar)
+        .comFrescor(ClienteApiDataExport::chaveFrescorConta)
+        .comDesempate(ClienteApiDataExport::desempatarConta);
 
     private final String urlBase;
     private final Duration timeoutRequisicao;
@@ -244,6 +252,7 @@ public class ClienteApiDataExport {
         logger.info("Buscando cotações da API DataExport - Período: {} a {}", dataInicio, dataFim);
         final ConfiguracaoEntidade config = ConstantesApiDataExport.obterConfiguracao(ConstantesEntidades.COTACOES);
         return buscarDadosDiretos(
+            ConstantesEntidades.COTACOES,
             dataInicio,
             dataFim,
             config,
@@ -263,6 +272,7 @@ public class ClienteApiDataExport {
         logger.info("Buscando localização de carga da API DataExport - Período: {} a {}", dataInicio, dataFim);
         final ConfiguracaoEntidade config = ConstantesApiDataExport.obterConfiguracao(ConstantesEntidades.LOCALIZACAO_CARGAS);
         return buscarDadosDiretos(
+            ConstantesEntidades.LOCALIZACAO_CARGAS,
             dataInicio,
             dataFim,
             config,
@@ -336,6 +346,7 @@ public class ClienteApiDataExport {
         logger.info("Buscando Faturas por Cliente da API DataExport - Período: {} a {}", dataInicio, dataFim);
         final ConfiguracaoEntidade config = ConstantesApiDataExport.obterConfiguracao(ConstantesEntidades.FATURAS_POR_CLIENTE);
         return buscarDadosDiretos(
+            ConstantesEntidades.FATURAS_POR_CLIENTE,
             dataInicio,
             dataFim,
             config,
@@ -354,6 +365,7 @@ public class ClienteApiDataExport {
         logger.info("Buscando inventario da API DataExport - Período: {} a {}", dataInicio, dataFim);
         final ConfiguracaoEntidade config = ConstantesApiDataExport.obterConfiguracao(ConstantesEntidades.INVENTARIO);
         return buscarDadosDiretos(
+            ConstantesEntidades.INVENTARIO,
             dataInicio,
             dataFim,
             config,
@@ -372,6 +384,7 @@ public class ClienteApiDataExport {
         logger.info("Buscando sinistros da API DataExport - Período: {} a {}", dataInicio, dataFim);
         final ConfiguracaoEntidade config = ConstantesApiDataExport.obterConfiguracao(ConstantesEntidades.SINISTROS);
         return buscarDadosDiretos(
+            ConstantesEntidades.SINISTROS,
             dataInicio,
             dataFim,
             config,
@@ -400,6 +413,7 @@ public class ClienteApiDataExport {
             false
         );
         return buscarDadosDiretos(
+            null,
             dataInicio,
             dataFim,
             config,
@@ -530,52 +544,29 @@ public class ClienteApiDataExport {
             return List.of();
         }
 
-        final Map<String, ContasAPagarDTO> unicos = new LinkedHashMap<>();
-        int sequencialSemChave = 0;
-        for (final ContasAPagarDTO registro : registros) {
-            if (registro == null) {
-                continue;
-            }
-            final String sequenceCode = registro.getSequenceCode();
-            if (sequenceCode == null || sequenceCode.isBlank()) {
-                unicos.put("__SEM_SEQUENCE_CODE__:" + sequencialSemChave++, registro);
-                continue;
-            }
-            unicos.merge(sequenceCode.trim(), registro, ClienteApiDataExport::preferirContaMaisFresca);
-        }
-        return List.copyOf(unicos.values());
+        return List.copyOf(DEDUPLICADOR_CONTAS_A_PAGAR.deduplicar(registros.stream().filter(Objects::nonNull).toList()));
     }
 
-    static ContasAPagarDTO preferirContaMaisFresca(final ContasAPagarDTO atual,
-                                                   final ContasAPagarDTO candidata) {
-        final int comparacao = compararFrescorConta(candidata, atual);
-        if (comparacao > 0) {
-            return candidata;
-        }
-        if (comparacao < 0) {
-            return atual;
-        }
-        return fingerprintConta(atual).compareTo(fingerprintConta(candidata)) >= 0 ? atual : candidata;
+    /**
+     * Sem sequence_code cada registro e mantido (chave propria); com sequence_code fica o mais fresco por
+     * createdAt, transactionDate, liquidationDate e issueDate.
+     */
+    private static Object chaveContaAPagar(final ContasAPagarDTO registro) {
+        final String sequenceCode = registro.getSequenceCode();
+        return sequenceCode == null || sequenceCode.isBlank() ? new Object() : sequenceCode.trim();
     }
 
-    static int compararFrescorConta(final ContasAPagarDTO esquerda, final ContasAPagarDTO direita) {
-        final int createdAt = compararDataHora(parseDataHora(esquerda == null ? null : esquerda.getCreatedAt()),
-            parseDataHora(direita == null ? null : direita.getCreatedAt()));
-        if (createdAt != 0) {
-            return createdAt;
-        }
-        final int transactionDate = compararDataHora(parseData(esquerda == null ? null : esquerda.getTransactionDate()),
-            parseData(direita == null ? null : direita.getTransactionDate()));
-        if (transactionDate != 0) {
-            return transactionDate;
-        }
-        final int liquidationDate = compararDataHora(parseData(esquerda == null ? null : esquerda.getLiquidationDate()),
-            parseData(direita == null ? null : direita.getLiquidationDate()));
-        if (liquidationDate != 0) {
-            return liquidationDate;
-        }
-        return compararDataHora(parseData(esquerda == null ? null : esquerda.getIssueDate()),
-            parseData(direita == null ? null : direita.getIssueDate()));
+    static ChaveFrescor chaveFrescorConta(final ContasAPagarDTO registro) {
+        return ChaveFrescor.de(
+            parseDataHora(registro.getCreatedAt()),
+            parseData(registro.getTransactionDate()),
+            parseData(registro.getLiquidationDate()),
+            parseData(registro.getIssueDate())
+        );
+    }
+
+    private static ContasAPagarDTO desempatarConta(final ContasAPagarDTO atual, final ContasAPagarDTO candidata) {
+        return fingerprintConta(atual).compareTo(fingerprintConta(candidata)) >= 0 ? atual : candidata;
     }
 
     static List<LocalDate> listarSegmentosDiarios(final LocalDate dataInicio, final LocalDate dataFim) {
@@ -591,12 +582,13 @@ public class ClienteApiDataExport {
         return List.copyOf(segmentos);
     }
 
-    private <T> ResultadoExtracao<T> buscarDadosDiretos(final LocalDate dataInicio,
+    private <T> ResultadoExtracao<T> buscarDadosDiretos(final String entidade,
+                                                        final LocalDate dataInicio,
                                                         final LocalDate dataFim,
                                                         final ConfiguracaoEntidade config,
                                                         final TypeReference<List<T>> typeReference,
                                                         final PageChunkConsumer<T> chunkConsumer) {
-        final Instant inicio = timeWindowSupport.inicioDoDia(dataInicio);
+        final Instant inicio = resolverInicioConsulta(entidade, dataInicio, config);
         final Instant fim = timeWindowSupport.fimDoDia(dataFim);
         return paginator.buscarDadosGenericos(
             this.executionUuid,
@@ -613,6 +605,29 @@ public class ClienteApiDataExport {
         );
     }
 
+    /**
+     * Usa o inicio preciso do plano (watermark menos sobreposicao) quando ele cai no primeiro dia pedido
+     * e o filtro da API e data/hora; caso contrario, inicio do dia.
+     */
+    private Instant resolverInicioConsulta(final String entidade,
+                                           final LocalDate dataInicio,
+                                           final ConfiguracaoEntidade config) {
+        if (entidade != null && config.campoData().endsWith("_at")) {
+            final Optional<ExecutionWindowPlan> plano = ExecutionPlanContext.getPlano(entidade)
+                .filter(ExecutionWindowPlan::possuiConsultaPrecisa)
+                .filter(candidato -> candidato.consultaInicioPreciso().toLocalDate().equals(dataInicio));
+            if (plano.isPresent()) {
+                logger.info(
+                    "Janela precisa por watermark para {}: a partir de {}",
+                    entidade,
+                    plano.get().consultaInicioPreciso()
+                );
+                return timeWindowSupport.instante(plano.get().consultaInicioPreciso());
+            }
+        }
+        return timeWindowSupport.inicioDoDia(dataInicio);
+    }
+
     private int obterContagemGenericaCsv(final int templateId,
                                          final String nomeTabela,
                                          final String campoData,
@@ -629,19 +644,6 @@ public class ClienteApiDataExport {
         return FormatadorData.parseOffsetDateTime(valor);
     }
 
-    private static int compararDataHora(final OffsetDateTime esquerda, final OffsetDateTime direita) {
-        if (esquerda == null && direita == null) {
-            return 0;
-        }
-        if (esquerda == null) {
-            return -1;
-        }
-        if (direita == null) {
-            return 1;
-        }
-        return esquerda.compareTo(direita);
-    }
-
     private static String selecionarMotivoInterrupcao(final String atual, final String candidato) {
         if (candidato == null || candidato.isBlank()) {
             return atual;
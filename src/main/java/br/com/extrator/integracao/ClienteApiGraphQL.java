@@ -33,8 +33,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.extrator.integracao.constantes.ConstantesApiGraphQL;
 import br.com.extrator.integracao.graphql.GraphQLQueries;
+import br.com.extrator.integracao.graphql.ProjecaoGraphQL;
 import br.com.extrator.dominio.graphql.bancos.BankAccountNodeDTO;
+import br.com.extrator.dominio.graphql.coletas.ColetaChaveDTO;
 import br.com.extrator.dominio.graphql.coletas.ColetaNodeDTO;
+import br.com.extrator.dominio.graphql.fretes.FreteChaveDTO;
 import br.com.extrator.dominio.graphql.fretes.FreteNodeDTO;
 import br.com.extrator.suporte.configuracao.ConfigApi;
 import br.com.extrator.suporte.formatacao.FormatadorData;
@@ -151,14 +154,41 @@ public class ClienteApiGraphQL {
                                                         final LocalDate dataFim,
                                                         final PageChunkConsumer<FreteNodeDTO> chunkConsumer) {
         logger.info("🔍 Buscando fretes via GraphQL - Período: {} a {}", dataInicio, dataFim);
+        return buscarFretesComQuery(GraphQLQueries.QUERY_FRETES, FreteNodeDTO.class, dataInicio, dataFim, chunkConsumer);
+    }
+
+    /**
+     * Coletas com selecao reduzida (chaves, ou chaves e frescor) para contagens e reconciliacao.
+     */
+    public ResultadoExtracao<ColetaChaveDTO> buscarChavesColetas(final LocalDate dataInicio,
+                                                                 final LocalDate dataFim,
+                                                                 final ProjecaoGraphQL projecao) {
+        return coletaSupport.buscarChavesColetas(this.executionUuid, dataInicio, dataFim, projecao);
+    }
+
+    /**
+     * Fretes com selecao reduzida (chaves, ou chaves e frescor) para contagens e reconciliacao.
+     */
+    public ResultadoExtracao<FreteChaveDTO> buscarChavesFretes(final LocalDate dataInicio,
+                                                               final LocalDate dataFim,
+                                                               final ProjecaoGraphQL projecao) {
+        logger.info("Buscando fretes ({}) via GraphQL - Periodo: {} a {}", projecao, dataInicio, dataFim);
+        return buscarFretesComQuery(GraphQLQueries.queryFretes(projecao), FreteChaveDTO.class, dataInicio, dataFim, null);
+    }
+
+    private <T> ResultadoExtracao<T> buscarFretesComQuery(final String query,
+                                                          final Class<T> tipoClasse,
+                                                          final LocalDate dataInicio,
+                                                          final LocalDate dataFim,
+                                                          final PageChunkConsumer<T> chunkConsumer) {
         final String intervaloServiceAt = formatarDataParaApiGraphQL(dataInicio) + " - " + formatarDataParaApiGraphQL(dataFim);
         final Map<String, Object> variaveis = Map.of("params", Map.of("serviceAt", intervaloServiceAt));
         return paginator.executarQueryPaginada(
             this.executionUuid,
-            GraphQLQueries.QUERY_FRETES,
+            query,
             ConstantesApiGraphQL.obterNomeEntidadeApi(ConstantesEntidades.FRETES),
             variaveis,
-            FreteNodeDTO.class,
+            tipoClasse,
             chunkConsumer
         );
     }
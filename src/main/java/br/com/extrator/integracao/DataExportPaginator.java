@@ -249,7 +249,9 @@ final class DataExportPaginator {
             LocalDate dia = janelaInicio;
             while (!dia.isAfter(janelaFim)) {
                 verificarInterrupcaoCooperativa("particionamento DataExport", templateId, dia.toString());
-                final Instant inicioDia = timeWindowSupport.inicioDoDia(dia);
+                // Sub-janela do primeiro dia preserva um inicio preciso (watermark) vindo do chamador.
+                final Instant inicioCalendario = timeWindowSupport.inicioDoDia(dia);
+                final Instant inicioDia = inicioCalendario.isBefore(dataInicio) ? dataInicio : inicioCalendario;
                 final Instant fimDia = timeWindowSupport.fimDoDia(dia);
 
                 final ResultadoExtracao<T> resultadoDia = buscarDadosGenericos(
@@ -528,6 +530,11 @@ final class DataExportPaginator {
                             dadosNode
                         );
                         registrosPagina = MapperUtil.sharedJson().convertValue(dadosNode, typeReference);
+                        if (raizJson.has("data")) {
+                            RawJsonSpanExtractor.anexar(registrosPagina, resposta.body(), "data", RawJsonSpanExtractor.CADA_ELEMENTO);
+                        } else {
+                            RawJsonSpanExtractor.anexar(registrosPagina, resposta.body(), RawJsonSpanExtractor.CADA_ELEMENTO);
+                        }
                     } else {
                         pageAuditLogger.registrarPayloadInvalido(
                             executionId,
@@ -2,6 +2,7 @@ package br.com.extrator.integracao;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -27,6 +28,10 @@ final class DataExportTimeWindowSupport {
         return data.plusDays(1).atStartOfDay(zoneId).toInstant();
     }
 
+    Instant instante(final LocalDateTime dataHora) {
+        return dataHora.atZone(zoneId).toInstant();
+    }
+
     LocalDate toLocalDate(final Instant instant) {
         return instant.atZone(zoneId).toLocalDate();
     }
@@ -39,7 +44,16 @@ final class DataExportTimeWindowSupport {
         return zonedDateTime.toLocalDate();
     }
 
+    /**
+     * Range diario ("yyyy-MM-dd - yyyy-MM-dd"); com inicio fora da meia-noite usa o formato
+     * ESL Cloud com hora ("yyyy-MM-dd HH:mm - yyyy-MM-dd HH:mm") e fim inclusivo no minuto.
+     */
     String formatarRange(final Instant dataInicio, final Instant dataFim) {
+        final ZonedDateTime inicio = dataInicio.atZone(zoneId);
+        if (!LocalTime.MIDNIGHT.equals(inicio.toLocalTime())) {
+            final LocalDateTime fimInclusivo = dataFim.atZone(zoneId).toLocalDateTime().minusMinutes(1);
+            return FormatadorData.formatarIntervaloEslCloud(inicio.toLocalDateTime(), fimInclusivo);
+        }
         final String dataInicioStr = toLocalDate(dataInicio).format(FormatadorData.ISO_DATE);
         final String dataFimStr = toInclusiveEndDate(dataFim).format(FormatadorData.ISO_DATE);
         return dataInicioStr + " - " + dataFimStr;
@@ -16,22 +16,28 @@ Atributos: [PENDENTE]
 
 
 import java.time.LocalDate;
-import java.time.OffsetDateTime;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 import org.slf4j.Logger;
 
+import br.com.extrator.integracao.comum.ChaveFrescor;
+import br.com.extrator.integracao.comum.DeduplicadorPorFrescor;
 import br.com.extrator.integracao.constantes.ConstantesApiGraphQL;
+import br.com.extrator.dominio.graphql.coletas.ColetaChaveDTO;
 import br.com.extrator.dominio.graphql.coletas.ColetaNodeDTO;
 import br.com.extrator.integracao.graphql.GraphQLQueries;
+import br.com.extrator.integracao.graphql.ProjecaoGraphQL;
 import br.com.extrator.suporte.formatacao.FormatadorData;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
 
 final class GraphQLColetaSupport {
+    private static final DeduplicadorPorFrescor<ColetaNodeDTO> DEDUPLICADOR = DeduplicadorPorFrescor
+        .<ColetaNodeDTO>porChave(GraphQLColetaSupport::resolverChaveDeduplicacao)
+        .comFrescor(GraphQLColetaSupport::chaveFrescor)
+        .comDesempate(GraphQLColetaSupport::desempateDeterministico);
+
     private final Logger logger;
     private final GraphQLPaginator paginator;
 
@@ -61,37 +67,51 @@ final class GraphQLColetaSupport {
         );
     }
 
+    ResultadoExtracao<ColetaChaveDTO> buscarChavesColetas(final String executionUuid,
+                                                          final LocalDate dataInicio,
+                                                          final LocalDate dataFim,
+                                                          final ProjecaoGraphQL projecao) {
+        final String query = GraphQLQueries.queryColetas(projecao);
+        return GraphQLIntervaloHelper.executarPorDia(
+            dataInicio,
+            dataFim,
+            data -> buscarColetasDiaComCampo(executionUuid, data, "requestDate", query, ColetaChaveDTO.class, null),
+            "Coletas (" + projecao + ")"
+        );
+    }
+
     private ResultadoExtracao<ColetaNodeDTO> buscarColetasDia(final String executionUuid,
                                                               final LocalDate data,
                                                               final PageChunkConsumer<ColetaNodeDTO> chunkConsumer) {
-        return buscarColetasDiaComCampo(executionUuid, data, "requestDate", chunkConsumer);
+        return buscarColetasDiaComCampo(
+            executionUuid,
+            data,
+            "requestDate",
+            GraphQLQueries.QUERY_COLETAS,
+            ColetaNodeDTO.class,
+            chunkConsumer
+        );
     }
 
-    private ResultadoExtracao<ColetaNodeDTO> buscarColetasDiaComCampo(final String executionUuid,
-                                                                      final LocalDate data,
-                                                                      final String campoData,
-                                                                      final PageChunkConsumer<ColetaNodeDTO> chunkConsumer) {
+    private <T> ResultadoExtracao<T> buscarColetasDiaComCampo(final String executionUuid,
+                                                              final LocalDate data,
+                                                              final String campoData,
+                                                              final String query,
+                                                              final Class<T> tipoClasse,
+                                                              final PageChunkConsumer<T> chunkConsumer) {
         final Map<String, Object> variaveis = Map.of("params", Map.of(campoData, data.format(FormatadorData.ISO_DATE)));
         return paginator.executarQueryPaginada(
             executionUuid,
-            GraphQLQueries.QUERY_COLETAS,
+            query,
             ConstantesApiGraphQL.obterNomeEntidadeApi(ConstantesEntidades.COLETAS),
             variaveis,
-            ColetaNodeDTO.class,
+            tipoClasse,
             chunkConsumer
         );
     }
 
     static List<ColetaNodeDTO> deduplicarColetasPorId(final List<ColetaNodeDTO> coletas) {
-        final Map<String, ColetaNodeDTO> unicos = new LinkedHashMap<>();
-        for (final ColetaNodeDTO coleta : coletas) {
-            if (coleta == null) {
-                continue;
-            }
-            final String chave = resolverChaveDeduplicacao(coleta);
-            unicos.merge(chave, coleta, GraphQLColetaSupport::preferirRegistroMaisFresco);
-        }
-        return new ArrayList<>(unicos.values());
+        return DEDUPLICADOR.deduplicar(coletas.stream().filter(Objects::nonNull).toList());
     }
 
     static String resolverChaveDeduplicacao(final ColetaNodeDTO coleta) {
@@ -107,56 +127,20 @@ final class GraphQLColetaSupport {
         throw new IllegalStateException("Coleta sem id e sem sequenceCode nao pode ser deduplicada.");
     }
 
-    static ColetaNodeDTO preferirRegistroMaisFresco(final ColetaNodeDTO atual, final ColetaNodeDTO candidata) {
-        final int comparacao = compararFrescor(candidata, atual);
-        if (comparacao > 0) {
-            return candidata;
-        }
-        if (comparacao < 0) {
-            return atual;
-        }
-        return desempateDeterministico(atual, candidata) >= 0 ? atual : candidata;
-    }
-
-    static int compararFrescor(final ColetaNodeDTO esquerda, final ColetaNodeDTO direita) {
-        final int statusUpdatedAt = compararData(parseData(esquerda == null ? null : esquerda.getStatusUpdatedAt()),
-            parseData(direita == null ? null : direita.getStatusUpdatedAt()));
-        if (statusUpdatedAt != 0) {
-            return statusUpdatedAt;
-        }
-        final int finishDate = compararData(parseData(esquerda == null ? null : esquerda.getFinishDate()),
-            parseData(direita == null ? null : direita.getFinishDate()));
-        if (finishDate != 0) {
-            return finishDate;
-        }
-        final int serviceDate = compararData(parseData(esquerda == null ? null : esquerda.getServiceDate()),
-            parseData(direita == null ? null : direita.getServiceDate()));
-        if (serviceDate != 0) {
-            return serviceDate;
-        }
-        return compararData(parseData(esquerda == null ? null : esquerda.getRequestDate()),
-            parseData(direita == null ? null : direita.getRequestDate()));
-    }
-
-    private static OffsetDateTime parseData(final String valor) {
-        return FormatadorData.parseOffsetDateTime(valor);
-    }
-
-    private static int compararData(final OffsetDateTime esquerda, final OffsetDateTime direita) {
-        if (esquerda == null && direita == null) {
-            return 0;
-        }
-        if (esquerda == null) {
-            return -1;
-        }
-        if (direita == null) {
-            return 1;
-        }
-        return esquerda.compareTo(direita);
+    /**
+     * statusUpdatedAt, finishDate, serviceDate e requestDate, nessa ordem de prioridade.
+     */
+    static ChaveFrescor chaveFrescor(final ColetaNodeDTO coleta) {
+        return ChaveFrescor.de(
+            FormatadorData.parseOffsetDateTime(coleta.getStatusUpdatedAt()),
+            FormatadorData.parseOffsetDateTime(coleta.getFinishDate()),
+            FormatadorData.parseOffsetDateTime(coleta.getServiceDate()),
+            FormatadorData.parseOffsetDateTime(coleta.getRequestDate())
+        );
     }
 
-    private static int desempateDeterministico(final ColetaNodeDTO atual, final ColetaNodeDTO candidata) {
-        return fingerprint(atual).compareTo(fingerprint(candidata));
+    private static ColetaNodeDTO desempateDeterministico(final ColetaNodeDTO atual, final ColetaNodeDTO candidata) {
+        return fingerprint(atual).compareTo(fingerprint(candidata)) >= 0 ? atual : candidata;
     }
 
     private static String fingerprint(final ColetaNodeDTO coleta) {
@@ -28,6 +28,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import br.com.extrator.dominio.RegistroComJsonOriginal;
 import br.com.extrator.suporte.ThreadUtil;
 import br.com.extrator.suporte.configuracao.ConfigApi;
 import br.com.extrator.suporte.http.GerenciadorRequisicaoHttp;
@@ -132,8 +133,18 @@ final class GraphQLHttpExecutor {
                     return new PaginatedGraphQLResponse<>(entidades, false, null, statusCode, duracaoMs, reqHash, respHash, entidades.size(), true, "SEM_ENTIDADE:" + nomeEntidade);
                 }
 
-                final GraphQLTypedResponseParser.ParsedGraphQLPage<T> pagina =
-                    typedResponseParser.extrairPagina(dados.get(nomeEntidade), nomeEntidade, tipoClasse);
+                final JsonNode dadosEntidade = dados.get(nomeEntidade);
+                final GraphQLTypedResponseParser.ParsedGraphQLPage<T> pagina = typedResponseParser.extrairPagina(
+                    dadosEntidade,
+                    nomeEntidade,
+                    tipoClasse,
+                    RegistroComJsonOriginal.class.isAssignableFrom(tipoClasse)
+                        ? RawJsonSpanExtractor.extrair(
+                            resposta.body(),
+                            GraphQLTypedResponseParser.caminhoRegistros(dadosEntidade, nomeEntidade)
+                        )
+                        : List.of()
+                );
                 entidades.addAll(pagina.entidades());
 
                 logger.debug("Query GraphQL tipada concluida para {}. Total encontrado: {}", nomeEntidade, entidades.size());
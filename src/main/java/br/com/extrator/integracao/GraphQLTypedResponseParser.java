@@ -10,7 +10,7 @@ Conecta com:
 - ObjectMapper (Jackson)
 
 Fluxo geral:
-1) extrairPagina(dadosEntidade, nomeEntidade, tipoClasse) deserializa JSON.
+1) extrairPagina(dadosEntidade, nomeEntidade, tipoClasse, trechosOriginais) deserializa JSON.
 2) Detecta formato: edges/pageInfo (novo) ou array direto (antigo).
 3) Retorna ParsedGraphQLPage com entidades, hasNextPage, endCursor.
 
@@ -34,6 +34,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import br.com.extrator.dominio.RegistroComJsonOriginal;
+
 final class GraphQLTypedResponseParser {
     private static final Logger logger = LoggerFactory.getLogger(GraphQLTypedResponseParser.class);
 
@@ -46,6 +48,18 @@ final class GraphQLTypedResponseParser {
     <T> ParsedGraphQLPage<T> extrairPagina(final JsonNode dadosEntidade,
                                            final String nomeEntidade,
                                            final Class<T> tipoClasse) {
+        return extrairPagina(dadosEntidade, nomeEntidade, tipoClasse, List.of());
+    }
+
+    /**
+     * @param trechosOriginais texto de cada node/item na resposta, na mesma ordem (ver
+     *                         {@link #caminhoRegistros(JsonNode, String)}); lista vazia desliga a associacao
+     */
+    <T> ParsedGraphQLPage<T> extrairPagina(final JsonNode dadosEntidade,
+                                           final String nomeEntidade,
+                                           final Class<T> tipoClasse,
+                                           final List<String> trechosOriginais) {
+        int posicao = 0;
         final List<T> entidades = new ArrayList<>();
         boolean hasNextPage = false;
         String endCursor = null;
@@ -56,7 +70,8 @@ final class GraphQLTypedResponseParser {
             if (edges.isArray()) {
                 for (final JsonNode edge : edges) {
                     if (edge.has("node")) {
-                        adicionarEntidade(entidades, edge.get("node"), nomeEntidade, tipoClasse, "node");
+                        adicionarEntidade(entidades, edge.get("node"), nomeEntidade, tipoClasse, "node",
+                            trechoNaPosicao(trechosOriginais, posicao++));
                     }
                 }
             }
@@ -82,19 +97,39 @@ final class GraphQLTypedResponseParser {
         logger.debug("Processando resposta no formato antigo (array direto) para {}", nomeEntidade);
         if (dadosEntidade.isArray()) {
             for (final JsonNode item : dadosEntidade) {
-                adicionarEntidade(entidades, item, nomeEntidade, tipoClasse, "item");
+                adicionarEntidade(entidades, item, nomeEntidade, tipoClasse, "item",
+                    trechoNaPosicao(trechosOriginais, posicao++));
             }
         }
         return new ParsedGraphQLPage<>(entidades, false, null);
     }
 
+    /**
+     * Caminho, a partir da raiz da resposta, ate cada registro da entidade: edges[].node ou array direto.
+     */
+    static String[] caminhoRegistros(final JsonNode dadosEntidade, final String nomeEntidade) {
+        if (dadosEntidade.has("edges")) {
+            return new String[] {"data", nomeEntidade, "edges", RawJsonSpanExtractor.CADA_ELEMENTO, "node"};
+        }
+        return new String[] {"data", nomeEntidade, RawJsonSpanExtractor.CADA_ELEMENTO};
+    }
+
+    private static String trechoNaPosicao(final List<String> trechos, final int posicao) {
+        return posicao < trechos.size() ? trechos.get(posicao) : null;
+    }
+
     private <T> void adicionarEntidade(final List<T> entidades,
                                        final JsonNode origem,
                                        final String nomeEntidade,
                                        final Class<T> tipoClasse,
-                                       final String tipoOrigem) {
+                                       final String tipoOrigem,
+                                       final String trechoOriginal) {
         try {
-            entidades.add(objectMapper.treeToValue(origem, tipoClasse));
+            final T entidade = objectMapper.treeToValue(origem, tipoClasse);
+            if (trechoOriginal != null && entidade instanceof final RegistroComJsonOriginal registro) {
+                registro.setJsonOriginal(trechoOriginal);
+            }
+            entidades.add(entidade);
         } catch (final JsonProcessingException | IllegalArgumentException e) {
             logger.warn(
                 "Erro ao deserializar {} de {} para {}: {}",
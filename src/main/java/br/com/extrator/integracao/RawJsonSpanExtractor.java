@@ -0,0 +1,105 @@
+package br.com.extrator.integracao;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import br.com.extrator.dominio.RegistroComJsonOriginal;
+import br.com.extrator.suporte.mapeamento.MapperUtil;
+
+/**
+ * Recorta do corpo da resposta o texto de cada registro de uma pagina, numa unica passada de tokens
+ * (sem montar arvore), para ser gravado como metadata sem reserializacao.
+ */
+final class RawJsonSpanExtractor {
+    /** Passo do caminho que percorre todos os elementos de um array. */
+    static final String CADA_ELEMENTO = "[]";
+
+    private RawJsonSpanExtractor() {
+    }
+
+    /**
+     * Segue o caminho a partir da raiz (nomes de campo e {@link #CADA_ELEMENTO}) e devolve o texto de cada
+     * objeto encontrado no fim, na ordem do corpo. Valores que nao sao objeto entram como null, para manter
+     * o alinhamento com a lista desserializada.
+     */
+    static List<String> extrair(final String corpo, final String... caminho) {
+        if (corpo == null || corpo.isEmpty()) {
+            return List.of();
+        }
+        final List<String> trechos = new ArrayList<>();
+        try (JsonParser parser = MapperUtil.sharedJson().getFactory().createParser(corpo)) {
+            if (parser.nextToken() != null) {
+                percorrer(parser, corpo, caminho, 0, trechos);
+            }
+        } catch (final IOException e) {
+            // O corpo ja foi validado por readTree; um recorte falho so faz o mapper reserializar o DTO.
+            return List.of();
+        }
+        return trechos;
+    }
+
+    /**
+     * Recorta os registros do corpo e associa cada trecho ao DTO na mesma posicao. Nao faz nada quando o
+     * DTO nao guarda JSON original ou quando a contagem de trechos diverge da lista desserializada.
+     */
+    static void anexar(final List<?> registros, final String corpo, final String... caminho) {
+        if (registros == null || registros.isEmpty() || !(registros.get(0) instanceof RegistroComJsonOriginal)) {
+            return;
+        }
+        final List<String> trechos = extrair(corpo, caminho);
+        if (registros.size() != trechos.size()) {
+            return;
+        }
+        for (int i = 0; i < registros.size(); i++) {
+            if (registros.get(i) instanceof final RegistroComJsonOriginal registro) {
+                registro.setJsonOriginal(trechos.get(i));
+            }
+        }
+    }
+
+    private static void percorrer(final JsonParser parser,
+                                  final String corpo,
+                                  final String[] caminho,
+                                  final int nivel,
+                                  final List<String> trechos) throws IOException {
+        final JsonToken atual = parser.currentToken();
+        if (nivel == caminho.length) {
+            if (atual == JsonToken.START_OBJECT) {
+                final int inicio = (int) parser.currentTokenLocation().getCharOffset();
+                parser.skipChildren();
+                trechos.add(corpo.substring(inicio, (int) parser.currentLocation().getCharOffset()));
+            } else {
+                parser.skipChildren();
+                trechos.add(null);
+            }
+            return;
+        }
+        if (CADA_ELEMENTO.equals(caminho[nivel])) {
+            if (atual != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                return;
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                percorrer(parser, corpo, caminho, nivel + 1, trechos);
+            }
+            return;
+        }
+        if (atual != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String campo = parser.currentName();
+            parser.nextToken();
+            if (caminho[nivel].equals(campo)) {
+                percorrer(parser, corpo, caminho, nivel + 1, trechos);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+}
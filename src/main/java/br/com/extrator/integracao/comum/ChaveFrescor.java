@@ -0,0 +1,70 @@
+package br.com.extrator.integracao.comum;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.Temporal;
+import java.util.Arrays;
+
+/**
+ * Tupla de datas de um registro convertida uma unica vez em longs, para deduplicacao sem reparsear
+ * nem recomparar objetos java.time a cada merge. Campos nulos ficam abaixo de qualquer data, como nos
+ * comparadores que esta chave substitui.
+ */
+public final class ChaveFrescor implements Comparable<ChaveFrescor> {
+    /** Registros sem criterio de frescor: todo duplicado empata e cai no desempate. */
+    public static final ChaveFrescor NENHUMA = new ChaveFrescor(new long[0]);
+
+    private static final int COMPONENTES_POR_CAMPO = 3;
+
+    private final long[] componentes;
+
+    private ChaveFrescor(final long[] componentes) {
+        this.componentes = componentes;
+    }
+
+    /**
+     * Campos em ordem de prioridade. OffsetDateTime segue {@link OffsetDateTime#compareTo} (instante e,
+     * no empate, o horario local); LocalDateTime e LocalDate seguem a ordem cronologica.
+     */
+    public static ChaveFrescor de(final Temporal... campos) {
+        final long[] componentes = new long[campos.length * COMPONENTES_POR_CAMPO];
+        for (int i = 0; i < campos.length; i++) {
+            preencher(componentes, i * COMPONENTES_POR_CAMPO, campos[i]);
+        }
+        return new ChaveFrescor(componentes);
+    }
+
+    private static void preencher(final long[] componentes, final int inicio, final Temporal campo) {
+        if (campo == null) {
+            Arrays.fill(componentes, inicio, inicio + COMPONENTES_POR_CAMPO, Long.MIN_VALUE);
+        } else if (campo instanceof OffsetDateTime dataHora) {
+            componentes[inicio] = dataHora.toEpochSecond();
+            componentes[inicio + 1] = dataHora.getNano();
+            componentes[inicio + 2] = dataHora.getOffset().getTotalSeconds();
+        } else if (campo instanceof LocalDateTime dataHora) {
+            componentes[inicio] = dataHora.toEpochSecond(ZoneOffset.UTC);
+            componentes[inicio + 1] = dataHora.getNano();
+        } else if (campo instanceof LocalDate data) {
+            componentes[inicio] = data.toEpochDay();
+        } else {
+            throw new IllegalArgumentException("Tipo de data nao suportado na chave de frescor: " + campo.getClass().getName());
+        }
+    }
+
+    @Override
+    public int compareTo(final ChaveFrescor outra) {
+        return Arrays.compare(componentes, outra.componentes);
+    }
+
+    @Override
+    public boolean equals(final Object outro) {
+        return outro instanceof ChaveFrescor chave && Arrays.equals(componentes, chave.componentes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(componentes);
+    }
+}
@@ -18,6 +18,10 @@ public interface ChunkedEntityExtractor<T> extends EntityExtractor<T> {
     ) throws Exception {
         final ChunkedSaveMetricsAccumulator<T> accumulator = new ChunkedSaveMetricsAccumulator<>(this);
         final ResultadoExtracao<T> resultado = extractInChunks(dataInicio, dataFim, accumulator::processar);
+        if (!accumulator.recebeuChunks() && resultado != null && resultado.getDados() != null) {
+            // Extracao sem paginacao em chunks (ex.: sem intervalo informado) devolve os dados de uma vez.
+            accumulator.processar(resultado.getDados());
+        }
         return new ChunkedExtractionOutcome<>(
             resultado,
             accumulator.toSaveMetrics(),
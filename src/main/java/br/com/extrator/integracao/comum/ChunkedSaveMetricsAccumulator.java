@@ -3,21 +3,40 @@ package br.com.extrator.integracao.comum;
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.extrator.suporte.configuracao.ConfigEtl;
 
 final class ChunkedSaveMetricsAccumulator<T> {
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedSaveMetricsAccumulator.class);
+
     private final EntityExtractor<T> extractor;
+    private final DeduplicadorEntreChunks<T> deduplicadorEntreChunks;
     private int registrosSalvos;
     private int totalUnicos;
     private int registrosInvalidos;
     private int registrosPersistidos;
     private int registrosNoOpIdempotente;
     private long nanosSalvamento;
+    private boolean recebeuChunks;
 
     ChunkedSaveMetricsAccumulator(final EntityExtractor<T> extractor) {
         this.extractor = Objects.requireNonNull(extractor, "extractor");
+        this.deduplicadorEntreChunks = criarDeduplicadorEntreChunks(extractor);
     }
 
-    void processar(final List<T> registros) throws java.sql.SQLException {
+    private static <T> DeduplicadorEntreChunks<T> criarDeduplicadorEntreChunks(final EntityExtractor<T> extractor) {
+        final Function<T, ?> chave = extractor.chaveNaturalEntreChunks();
+        final int maximoChaves = ConfigEtl.obterMaximoChavesDeduplicacaoEntreChunks();
+        return chave == null || maximoChaves <= 0 ? null : new DeduplicadorEntreChunks<>(chave, maximoChaves);
+    }
+
+    void processar(final List<T> chunk) throws java.sql.SQLException {
+        recebeuChunks = true;
+        final List<T> registros = deduplicadorEntreChunks == null ? chunk : deduplicadorEntreChunks.filtrar(chunk);
         if (registros == null || registros.isEmpty()) {
             return;
         }
@@ -32,6 +51,7 @@ final class ChunkedSaveMetricsAccumulator<T> {
     }
 
     EntityExtractor.SaveMetrics toSaveMetrics() {
+        registrarResumoDeduplicacaoEntreChunks();
         return new EntityExtractor.SaveMetrics(
             registrosSalvos,
             totalUnicos,
@@ -41,6 +61,31 @@ final class ChunkedSaveMetricsAccumulator<T> {
         );
     }
 
+    boolean recebeuChunks() {
+        return recebeuChunks;
+    }
+
+    private void registrarResumoDeduplicacaoEntreChunks() {
+        if (deduplicadorEntreChunks == null) {
+            return;
+        }
+        if (deduplicadorEntreChunks.getRepeticoesDescartadas() > 0 || deduplicadorEntreChunks.getVersoesEmChunkPosterior() > 0) {
+            logger.info(
+                "{}: {} repeticao(oes) identica(s) nao reenviada(s); {} chave(s) reenviada(s) com outro conteudo em chunk posterior (resolvidas pelo guard de frescor do MERGE).",
+                extractor.getEntityName(),
+                deduplicadorEntreChunks.getRepeticoesDescartadas(),
+                deduplicadorEntreChunks.getVersoesEmChunkPosterior()
+            );
+        }
+        if (deduplicadorEntreChunks.isSaturado()) {
+            logger.warn(
+                "{}: limite etl.dedup.entre_chunks.max_chaves atingido; chaves alem de {} seguiram sem rastreio entre chunks.",
+                extractor.getEntityName(),
+                deduplicadorEntreChunks.getTotalChaves()
+            );
+        }
+    }
+
     Duration getDuracaoSalvamento() {
         return Duration.ofNanos(nanosSalvamento);
     }
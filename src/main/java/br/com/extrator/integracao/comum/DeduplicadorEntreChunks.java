@@ -0,0 +1,171 @@
+package br.com.extrator.integracao.comum;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import br.com.extrator.dominio.RegistroComJsonOriginal;
+
+/**
+ * Deduplicacao entre chunks de uma mesma extracao sem reter os registros: guarda so hash da chave
+ * natural -> impressao do conteudo, em arrays primitivos de tamanho limitado.
+ * <p>
+ * Repeticao identica (mesmo JSON original) de uma chave ja enviada e descartada. Versao diferente segue
+ * para a persistencia: quem decide entre as versoes e o guard de frescor do MERGE
+ * ({@code buildMonotonicUpdateGuard}). Ao atingir o limite de chaves, chaves novas passam sem
+ * rastreio e as contagens viram limite inferior.
+ *
+ * @param <T> tipo do DTO do chunk
+ */
+public final class DeduplicadorEntreChunks<T> {
+    private static final long VAZIO = 0L;
+    private static final long SEM_IMPRESSAO = 0L;
+    private static final int CAPACIDADE_INICIAL = 1 << 10;
+
+    private final Function<? super T, ?> extratorChave;
+    private final int maximoChaves;
+    private long[] chaves = new long[CAPACIDADE_INICIAL];
+    private long[] impressoes = new long[CAPACIDADE_INICIAL];
+    private int[] chunks = new int[CAPACIDADE_INICIAL];
+    private int totalChaves;
+    private int chunkAtual;
+    private int repeticoesDescartadas;
+    private int versoesEmChunkPosterior;
+    private boolean saturado;
+
+    /**
+     * @param extratorChave chave natural do DTO (mesma do MERGE); null deixa o registro passar sem rastreio
+     * @param maximoChaves limite de chaves rastreadas (~40 bytes por chave no pior caso)
+     */
+    public DeduplicadorEntreChunks(final Function<? super T, ?> extratorChave, final int maximoChaves) {
+        this.extratorChave = Objects.requireNonNull(extratorChave, "extratorChave");
+        this.maximoChaves = Math.max(1, maximoChaves);
+    }
+
+    /**
+     * Registros do chunk que devem seguir para a persistencia, na ordem original.
+     */
+    public List<T> filtrar(final List<T> chunk) {
+        if (chunk == null || chunk.isEmpty()) {
+            return chunk;
+        }
+        chunkAtual++;
+        final List<T> aPersistir = new ArrayList<>(chunk.size());
+        for (final T registro : chunk) {
+            if (deveSeguir(registro)) {
+                aPersistir.add(registro);
+            }
+        }
+        return aPersistir;
+    }
+
+    private boolean deveSeguir(final T registro) {
+        final Object chave = registro == null ? null : extratorChave.apply(registro);
+        if (chave == null) {
+            return true;
+        }
+        final long hashChave = naoVazio(hash64(String.valueOf(chave)));
+        final long impressao = impressao(registro);
+        final int posicao = localizar(hashChave);
+        if (chaves[posicao] == VAZIO) {
+            if (totalChaves >= maximoChaves) {
+                saturado = true;
+                return true;
+            }
+            ocupar(posicao, hashChave, impressao);
+            return true;
+        }
+        if (impressao != SEM_IMPRESSAO && impressao == impressoes[posicao]) {
+            repeticoesDescartadas++;
+            return false;
+        }
+        if (chunks[posicao] != chunkAtual) {
+            versoesEmChunkPosterior++;
+        }
+        impressoes[posicao] = impressao;
+        chunks[posicao] = chunkAtual;
+        return true;
+    }
+
+    /** Chaves distintas vistas ate agora (limite inferior quando {@link #isSaturado()}). */
+    public int getTotalChaves() {
+        return totalChaves;
+    }
+
+    /** Repeticoes identicas que nao foram reenviadas ao banco. */
+    public int getRepeticoesDescartadas() {
+        return repeticoesDescartadas;
+    }
+
+    /**
+     * Chaves ja persistidas em chunk anterior que voltaram com outro conteudo e foram reenviadas; cada uma
+     * foi contada como unica nos dois chunks.
+     */
+    public int getVersoesEmChunkPosterior() {
+        return versoesEmChunkPosterior;
+    }
+
+    public boolean isSaturado() {
+        return saturado;
+    }
+
+    private void ocupar(final int posicao, final long hashChave, final long impressao) {
+        chaves[posicao] = hashChave;
+        impressoes[posicao] = impressao;
+        chunks[posicao] = chunkAtual;
+        totalChaves++;
+        if (totalChaves * 2 > chaves.length) {
+            crescer();
+        }
+    }
+
+    private int localizar(final long hashChave) {
+        final int mascara = chaves.length - 1;
+        int posicao = (int) (hashChave ^ (hashChave >>> 32)) & mascara;
+        while (chaves[posicao] != VAZIO && chaves[posicao] != hashChave) {
+            posicao = (posicao + 1) & mascara;
+        }
+        return posicao;
+    }
+
+    private void crescer() {
+        final long[] chavesAntigas = chaves;
+        final long[] impressoesAntigas = impressoes;
+        final int[] chunksAntigos = chunks;
+        chaves = new long[chavesAntigas.length * 2];
+        impressoes = new long[chaves.length];
+        chunks = new int[chaves.length];
+        for (int i = 0; i < chavesAntigas.length; i++) {
+            if (chavesAntigas[i] != VAZIO) {
+                final int posicao = localizar(chavesAntigas[i]);
+                chaves[posicao] = chavesAntigas[i];
+                impressoes[posicao] = impressoesAntigas[i];
+                chunks[posicao] = chunksAntigos[i];
+            }
+        }
+    }
+
+    private static long impressao(final Object registro) {
+        if (registro instanceof RegistroComJsonOriginal comJson && comJson.getJsonOriginal() != null) {
+            return naoVazio(hash64(comJson.getJsonOriginal()));
+        }
+        return SEM_IMPRESSAO;
+    }
+
+    private static long naoVazio(final long hash) {
+        return hash == VAZIO ? 1L : hash;
+    }
+
+    /** FNV-1a 64 sobre os chars (sem copiar a string), com mistura final do SplitMix64. */
+    static long hash64(final String valor) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < valor.length(); i++) {
+            hash ^= valor.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
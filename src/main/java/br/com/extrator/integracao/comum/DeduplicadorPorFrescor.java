@@ -0,0 +1,102 @@
+package br.com.extrator.integracao.comum;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Deduplicacao por chave natural mantendo o registro mais fresco. A {@link ChaveFrescor} de cada
+ * registro e calculada uma vez na entrada; merges so comparam longs. A ordem de saida e a da primeira
+ * ocorrencia de cada chave.
+ *
+ * @param <T> tipo do registro
+ */
+public final class DeduplicadorPorFrescor<T> {
+    private final Function<? super T, ?> extratorChave;
+    private final Function<? super T, ChaveFrescor> extratorFrescor;
+    private final BinaryOperator<T> desempate;
+    private final BiConsumer<? super T, ? super T> consolidacao;
+    private final BiConsumer<? super T, ? super T> aoDetectarDuplicado;
+
+    private DeduplicadorPorFrescor(final Function<? super T, ?> extratorChave,
+                                   final Function<? super T, ChaveFrescor> extratorFrescor,
+                                   final BinaryOperator<T> desempate,
+                                   final BiConsumer<? super T, ? super T> consolidacao,
+                                   final BiConsumer<? super T, ? super T> aoDetectarDuplicado) {
+        this.extratorChave = Objects.requireNonNull(extratorChave, "extratorChave");
+        this.extratorFrescor = Objects.requireNonNull(extratorFrescor, "extratorFrescor");
+        this.desempate = Objects.requireNonNull(desempate, "desempate");
+        this.consolidacao = Objects.requireNonNull(consolidacao, "consolidacao");
+        this.aoDetectarDuplicado = Objects.requireNonNull(aoDetectarDuplicado, "aoDetectarDuplicado");
+    }
+
+    /**
+     * Sem criterio de frescor: o ultimo registro de cada chave vence (Keep Last).
+     *
+     * @param extratorChave chave natural; pode lancar excecao para registros sem chave valida
+     */
+    public static <T> DeduplicadorPorFrescor<T> porChave(final Function<? super T, ?> extratorChave) {
+        return new DeduplicadorPorFrescor<>(extratorChave, registro -> ChaveFrescor.NENHUMA, (atual, candidato) -> candidato,
+            (vencedor, perdedor) -> { }, (atual, candidato) -> { });
+    }
+
+    public DeduplicadorPorFrescor<T> comFrescor(final Function<? super T, ChaveFrescor> extrator) {
+        return new DeduplicadorPorFrescor<>(extratorChave, extrator, desempate, consolidacao, aoDetectarDuplicado);
+    }
+
+    /**
+     * Escolha entre registros de mesmo frescor; recebe (atual, candidato). Padrao: o candidato (ultimo).
+     */
+    public DeduplicadorPorFrescor<T> comDesempate(final BinaryOperator<T> criterio) {
+        return new DeduplicadorPorFrescor<>(extratorChave, extratorFrescor, criterio, consolidacao, aoDetectarDuplicado);
+    }
+
+    /**
+     * Aplicada a cada merge com (vencedor, perdedor), ex.: completar campos ausentes no vencedor.
+     * Nao pode alterar os campos usados na chave de frescor.
+     */
+    public DeduplicadorPorFrescor<T> comConsolidacao(final BiConsumer<? super T, ? super T> acao) {
+        return new DeduplicadorPorFrescor<>(extratorChave, extratorFrescor, desempate, acao, aoDetectarDuplicado);
+    }
+
+    /**
+     * Notificada a cada duplicado com (atual, candidato), antes da escolha.
+     */
+    public DeduplicadorPorFrescor<T> aoDetectarDuplicado(final BiConsumer<? super T, ? super T> acao) {
+        return new DeduplicadorPorFrescor<>(extratorChave, extratorFrescor, desempate, consolidacao, acao);
+    }
+
+    public List<T> deduplicar(final List<T> registros) {
+        if (registros == null || registros.isEmpty()) {
+            return registros;
+        }
+        final Map<Object, Integer> posicoes = new HashMap<>(Math.max(16, (int) (registros.size() / 0.75f) + 1));
+        final List<T> vencedores = new ArrayList<>(registros.size());
+        final List<ChaveFrescor> frescores = new ArrayList<>(registros.size());
+        for (final T candidato : registros) {
+            final Object chave = extratorChave.apply(candidato);
+            final ChaveFrescor frescor = extratorFrescor.apply(candidato);
+            final Integer posicao = posicoes.putIfAbsent(chave, vencedores.size());
+            if (posicao == null) {
+                vencedores.add(candidato);
+                frescores.add(frescor);
+                continue;
+            }
+            final T atual = vencedores.get(posicao);
+            aoDetectarDuplicado.accept(atual, candidato);
+            final int comparacao = frescor.compareTo(frescores.get(posicao));
+            final T vencedor = comparacao > 0 ? candidato : comparacao < 0 ? atual : desempate.apply(atual, candidato);
+            consolidacao.accept(vencedor, vencedor == candidato ? atual : candidato);
+            if (vencedor == candidato) {
+                vencedores.set(posicao, candidato);
+                frescores.set(posicao, frescor);
+            }
+        }
+        return vencedores;
+    }
+}
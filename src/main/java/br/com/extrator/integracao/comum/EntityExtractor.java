@@ -24,6 +24,7 @@ package br.com.extrator.integracao.comum;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Function;
 
 import br.com.extrator.integracao.ResultadoExtracao;
 
@@ -82,6 +83,14 @@ public interface EntityExtractor<T> {
         return "📦";
     }
 
+    /**
+     * Chave natural do DTO (a mesma do MERGE) para deduplicar entre chunks da extração;
+     * null quando o extractor não rastreia chaves entre chunks.
+     */
+    default Function<T, ?> chaveNaturalEntreChunks() {
+        return null;
+    }
+
     /**
      * Permite que o extractor informe que registros inválidos foram auditados
      * fora da tabela principal e podem ser tolerados dentro dos limites configurados.
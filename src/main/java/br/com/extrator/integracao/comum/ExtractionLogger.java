@@ -51,6 +51,7 @@ import br.com.extrator.plataforma.auditoria.dominio.ExecutionPlanContext;
 import br.com.extrator.plataforma.auditoria.dominio.ExecutionWindowPlan;
 import br.com.extrator.suporte.configuracao.ConfigEtl;
 import br.com.extrator.suporte.console.LoggerConsole;
+import br.com.extrator.suporte.http.GerenciadorRequisicaoHttp;
 import br.com.extrator.suporte.tempo.RelogioSistema;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
 
@@ -86,6 +87,7 @@ public class ExtractionLogger {
             final String emoji) {
         
         final LocalDateTime inicio = RelogioSistema.agora();
+        final long bytesRecebidosInicio = GerenciadorRequisicaoHttp.obterBytesRecebidosThreadAtual();
         final String entityName = extractor.getEntityName();
         final String prefixoEntidade = montarPrefixoEntidade(emoji != null ? emoji : extractor.getEmoji());
         
@@ -296,6 +298,8 @@ public class ExtractionLogger {
             );
             final ExecutionWindowPlan planoJanela =
                 ExecutionPlanContext.getPlano(entityName).orElseGet(() -> criarJanelaPadrao(dataInicio, dataFim));
+            final long bytesRecebidos =
+                GerenciadorRequisicaoHttp.obterBytesRecebidosThreadAtual() - bytesRecebidosInicio;
 
             if (!salvamentoConsistente) {
                 log.error("[ERRO] Divergencia de carga detectada em {}: unicos={} | salvos={}",
@@ -372,6 +376,7 @@ public class ExtractionLogger {
                     .registrosPersistidos(registrosPersistidos)
                     .registrosNoOpIdempotente(registrosNoOpIdempotente)
                     .registrosInvalidos(registrosInvalidos)
+                    .bytesRecebidos(bytesRecebidos)
                     .apiCompleta(ConstantesEntidades.STATUS_COMPLETO.equals(statusFinal))
                     .sucesso(ConstantesEntidades.STATUS_COMPLETO.equals(statusFinal))
                     .build();
@@ -385,6 +390,7 @@ public class ExtractionLogger {
                     .registrosPersistidos(registrosPersistidos)
                     .registrosNoOpIdempotente(registrosNoOpIdempotente)
                     .registrosInvalidos(registrosInvalidos)
+                    .bytesRecebidos(bytesRecebidos)
                     .apiCompleta(ConstantesEntidades.STATUS_COMPLETO.equals(statusFinal))
                     .sucesso(ConstantesEntidades.STATUS_COMPLETO.equals(statusFinal))
                     .build();
@@ -415,6 +421,7 @@ public class ExtractionLogger {
                 registrosExtraidosAteFalha,
                 paginasProcessadasAteFalha
             )
+                .bytesRecebidos(GerenciadorRequisicaoHttp.obterBytesRecebidosThreadAtual() - bytesRecebidosInicio)
                 .janelaConsultaInicio(criarJanelaPadrao(dataInicio, dataFim).consultaInicioDateTime())
                 .janelaConsultaFim(criarJanelaPadrao(dataInicio, dataFim).consultaFimDateTime())
                 .janelaConfirmacaoInicio(criarJanelaPadrao(dataInicio, dataFim).confirmacaoInicio())
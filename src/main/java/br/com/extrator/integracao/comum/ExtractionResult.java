@@ -77,6 +77,7 @@ public class ExtractionResult {
     private final int registrosPersistidos;
     private final int registrosNoOpIdempotente;
     private final int registrosInvalidos;
+    private final long bytesRecebidos;
     
     private ExtractionResult(final Builder builder) {
         this.entityName = builder.entityName;
@@ -99,6 +100,7 @@ public class ExtractionResult {
         this.registrosPersistidos = builder.registrosPersistidos;
         this.registrosNoOpIdempotente = builder.registrosNoOpIdempotente;
         this.registrosInvalidos = builder.registrosInvalidos;
+        this.bytesRecebidos = builder.bytesRecebidos;
     }
     
     public static Builder sucesso(final String entityName, 
@@ -196,7 +198,7 @@ public class ExtractionResult {
         }
         
         // LogExtracaoEntity aceita String no construtor e converte para enum
-        return new LogExtracaoEntity(
+        final LogExtracaoEntity logEntity = new LogExtracaoEntity(
             entityName,
             inicio,
             fim != null ? fim : LocalDateTime.now(),
@@ -206,6 +208,12 @@ public class ExtractionResult {
             registrosNoOpIdempotente,
             mensagem
         );
+        // Metricas tipadas: validadores leem estas colunas em vez de extrair key=value da mensagem
+        logEntity.setUniqueCount(totalUnicos);
+        logEntity.setDbUpserts(registrosSalvos);
+        logEntity.setInvalidCount(registrosInvalidos);
+        logEntity.setBytesRecebidos(bytesRecebidos);
+        return logEntity;
     }
     
     public String getEntityName() {
@@ -287,6 +295,10 @@ public class ExtractionResult {
     public int getRegistrosInvalidos() {
         return registrosInvalidos;
     }
+
+    public long getBytesRecebidos() {
+        return bytesRecebidos;
+    }
     
     public static class Builder {
         private final String entityName;
@@ -309,6 +321,7 @@ public class ExtractionResult {
         private int registrosPersistidos;
         private int registrosNoOpIdempotente;
         private int registrosInvalidos;
+        private long bytesRecebidos;
         
         public Builder(final String entityName, final LocalDateTime inicio) {
             this.entityName = entityName;
@@ -395,6 +408,11 @@ public class ExtractionResult {
             this.registrosInvalidos = registrosInvalidos;
             return this;
         }
+
+        public Builder bytesRecebidos(final long bytesRecebidos) {
+            this.bytesRecebidos = bytesRecebidos;
+            return this;
+        }
         
         public Builder sucesso(final boolean sucesso) {
             this.sucesso = sucesso;
@@ -40,6 +40,7 @@ package br.com.extrator.integracao.dataexport.extractors;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import br.com.extrator.integracao.ClienteApiDataExport;
 import br.com.extrator.integracao.PageChunkConsumer;
@@ -149,6 +150,11 @@ public class ContasAPagarExtractor implements ChunkedDataExportEntityExtractor<C
         );
     }
     
+    @Override
+    public Function<ContasAPagarDTO, ?> chaveNaturalEntreChunks() {
+        return dto -> dto.getSequenceCode() == null || dto.getSequenceCode().isBlank() ? null : dto.getSequenceCode().trim();
+    }
+
     @Override
     public String getEntityName() {
         return ConstantesEntidades.CONTAS_A_PAGAR;
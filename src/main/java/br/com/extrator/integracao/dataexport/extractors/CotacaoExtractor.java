@@ -40,6 +40,7 @@ package br.com.extrator.integracao.dataexport.extractors;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import br.com.extrator.integracao.ClienteApiDataExport;
 import br.com.extrator.integracao.PageChunkConsumer;
@@ -149,6 +150,11 @@ public class CotacaoExtractor implements ChunkedDataExportEntityExtractor<Cotaca
         );
     }
     
+    @Override
+    public Function<CotacaoDTO, ?> chaveNaturalEntreChunks() {
+        return CotacaoDTO::getSequenceCode;
+    }
+
     @Override
     public String getEntityName() {
         return ConstantesEntidades.COTACOES;
@@ -40,6 +40,7 @@ package br.com.extrator.integracao.dataexport.extractors;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import br.com.extrator.integracao.ClienteApiDataExport;
 import br.com.extrator.integracao.PageChunkConsumer;
@@ -150,6 +151,11 @@ public class LocalizacaoCargaExtractor implements ChunkedDataExportEntityExtract
         );
     }
     
+    @Override
+    public Function<LocalizacaoCargaDTO, ?> chaveNaturalEntreChunks() {
+        return LocalizacaoCargaDTO::getSequenceNumber;
+    }
+
     @Override
     public String getEntityName() {
         return ConstantesEntidades.LOCALIZACAO_CARGAS;
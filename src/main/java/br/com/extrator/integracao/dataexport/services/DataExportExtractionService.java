@@ -46,6 +46,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import br.com.extrator.aplicacao.contexto.AplicacaoContexto;
 import br.com.extrator.aplicacao.portas.ExecutionAuditPort;
@@ -193,19 +194,23 @@ public class DataExportExtractionService {
             ExtractionHelper.limparAvisosSeguranca();
 
             final String ent = entidade == null ? "" : entidade.trim().toLowerCase();
-            final boolean executarManifestos = ent.isEmpty() || ConstantesEntidades.MANIFESTOS.equals(ent);
-            final boolean executarCotacoes = ent.isEmpty() || ConstantesEntidades.COTACOES.equals(ent)
+            final Set<String> adiadas = ent.isEmpty() ? ConfigEtl.obterEntidadesAdiadasCadencia() : Set.of();
+            if (!adiadas.isEmpty()) {
+                log.info("Entidades adiadas pela cadencia adaptativa: {}", String.join(", ", adiadas));
+            }
+            final boolean executarManifestos = (ent.isEmpty() && !adiadas.contains(ConstantesEntidades.MANIFESTOS)) || ConstantesEntidades.MANIFESTOS.equals(ent);
+            final boolean executarCotacoes = (ent.isEmpty() && !adiadas.contains(ConstantesEntidades.COTACOES)) || ConstantesEntidades.COTACOES.equals(ent)
                 || Arrays.stream(ConstantesEntidades.ALIASES_COTACOES).anyMatch(alias -> alias.equals(ent));
-            final boolean executarLocalizacao = ent.isEmpty() || ConstantesEntidades.LOCALIZACAO_CARGAS.equals(ent)
+            final boolean executarLocalizacao = (ent.isEmpty() && !adiadas.contains(ConstantesEntidades.LOCALIZACAO_CARGAS)) || ConstantesEntidades.LOCALIZACAO_CARGAS.equals(ent)
                 || Arrays.stream(ConstantesEntidades.ALIASES_LOCALIZACAO).anyMatch(alias -> alias.equals(ent));
-            final boolean executarContasAPagar = ent.isEmpty() || ConstantesEntidades.CONTAS_A_PAGAR.equals(ent)
+            final boolean executarContasAPagar = (ent.isEmpty() && !adiadas.contains(ConstantesEntidades.CONTAS_A_PAGAR)) || ConstantesEntidades.CONTAS_A_PAGAR.equals(ent)
                 || Arrays.stream(ConstantesEntidades.ALIASES_CONTAS_PAGAR).anyMatch(alias -> alias.equals(ent))
                 || "constas a pagar".equals(ent) || "constas-a-pagar".equals(ent);
-            final boolean executarFaturasPorCliente = ent.isEmpty() || ConstantesEntidades.FATURAS_POR_CLIENTE.equals(ent)
+            final boolean executarFaturasPorCliente = (ent.isEmpty() && !adiadas.contains(ConstantesEntidades.FATURAS_POR_CLIENTE)) || ConstantesEntidades.FATURAS_POR_CLIENTE.equals(ent)
                 || Arrays.stream(ConstantesEntidades.ALIASES_FATURAS_CLIENTE).anyMatch(alias -> alias.equals(ent));
-            final boolean executarInventario = ent.isEmpty() || ConstantesEntidades.INVENTARIO.equals(ent)
+            final boolean executarInventario = (ent.isEmpty() && !adiadas.contains(ConstantesEntidades.INVENTARIO)) || ConstantesEntidades.INVENTARIO.equals(ent)
                 || Arrays.stream(ConstantesEntidades.ALIASES_INVENTARIO).anyMatch(alias -> alias.equals(ent));
-            final boolean executarSinistros = ent.isEmpty() || ConstantesEntidades.SINISTROS.equals(ent)
+            final boolean executarSinistros = (ent.isEmpty() && !adiadas.contains(ConstantesEntidades.SINISTROS)) || ConstantesEntidades.SINISTROS.equals(ent)
                 || Arrays.stream(ConstantesEntidades.ALIASES_SINISTROS).anyMatch(alias -> alias.equals(ent));
 
             if (executarManifestos) {
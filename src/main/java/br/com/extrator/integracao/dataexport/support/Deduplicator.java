@@ -21,11 +21,9 @@ Estrutura interna:
 Metodos principais:
 - Deduplicator(): realiza operacao relacionada a "deduplicator".
 - deduplicarManifestos(...1 args): realiza operacao relacionada a "deduplicar manifestos".
-- obterMaisRecenteManifesto(...2 args): recupera dados configurados ou calculados.
+- escolherManifestoNoEmpate(...2 args): desempate por metricas preenchidas.
 - deduplicarCotacoes(...1 args): realiza operacao relacionada a "deduplicar cotacoes".
-- obterMaisRecenteCotacao(...2 args): recupera dados configurados ou calculados.
 - deduplicarLocalizacoes(...1 args): realiza operacao relacionada a "deduplicar localizacoes".
-- obterMaisRecenteLocalizacao(...2 args): recupera dados configurados ou calculados.
 - deduplicarFaturasAPagar(...1 args): realiza operacao relacionada a "deduplicar faturas apagar".
 - deduplicarFaturasPorCliente(...1 args): realiza operacao relacionada a "deduplicar faturas por cliente".
 Atributos-chave:
@@ -35,13 +33,13 @@ Atributos-chave:
 package br.com.extrator.integracao.dataexport.support;
 
 import java.math.BigDecimal;
-import java.time.OffsetDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import br.com.extrator.integracao.comum.ChaveFrescor;
+import br.com.extrator.integracao.comum.DeduplicadorPorFrescor;
 import br.com.extrator.persistencia.entidade.ContasAPagarDataExportEntity;
 import br.com.extrator.persistencia.entidade.CotacaoEntity;
 import br.com.extrator.persistencia.entidade.FaturaPorClienteEntity;
@@ -56,10 +54,73 @@ import br.com.extrator.persistencia.entidade.ManifestoEntity;
  * para preservar campos financeiros/operacionais que a API pode devolver
  * apenas em uma das variantes do mesmo manifesto.
  * Chaves de deduplicação são alinhadas com as chaves do MERGE SQL.
+ * O frescor de cada registro vira uma {@link ChaveFrescor} calculada uma vez por registro.
  */
 public final class Deduplicator {
     private static final Logger logger = LoggerFactory.getLogger(Deduplicator.class);
-    
+
+    private static final DeduplicadorPorFrescor<ManifestoEntity> MANIFESTOS = DeduplicadorPorFrescor
+        .<ManifestoEntity>porChave(Deduplicator::chaveManifesto)
+        .comFrescor(m -> ChaveFrescor.de(m.getFinishedAt(), m.getCreatedAt()))
+        .comDesempate(Deduplicator::escolherManifestoNoEmpate)
+        .comConsolidacao(Deduplicator::enriquecerMetricasManifesto)
+        .aoDetectarDuplicado((primeiro, segundo) -> logger.warn(
+            "⚠️ Duplicado detectado na API: sequence_code={}, pick={}, mdfe={}. Mantendo o mais fresco e consolidando métricas financeiras/operacionais.",
+            primeiro.getSequenceCode(),
+            primeiro.getPickSequenceCode(),
+            primeiro.getMdfeNumber()));
+
+    private static final DeduplicadorPorFrescor<CotacaoEntity> COTACOES = DeduplicadorPorFrescor
+        .<CotacaoEntity>porChave(c -> {
+            // Chave única: sequence_code
+            if (c.getSequenceCode() == null) {
+                throw new IllegalStateException("Cotação com sequence_code NULL não pode ser deduplicada");
+            }
+            return c.getSequenceCode();
+        })
+        .comFrescor(c -> ChaveFrescor.de(c.getRequestedAt()))
+        .aoDetectarDuplicado((primeiro, segundo) -> logger.warn(
+            "⚠️ Duplicado detectado na API: sequence_code={}. Mantendo o mais recente (requestedAt).",
+            segundo.getSequenceCode()));
+
+    private static final DeduplicadorPorFrescor<LocalizacaoCargaEntity> LOCALIZACOES = DeduplicadorPorFrescor
+        .<LocalizacaoCargaEntity>porChave(l -> {
+            // Chave única: sequence_number
+            if (l.getSequenceNumber() == null) {
+                throw new IllegalStateException("Localização com sequence_number NULL não pode ser deduplicada");
+            }
+            return l.getSequenceNumber();
+        })
+        .comFrescor(l -> ChaveFrescor.de(l.getServiceAt()))
+        .aoDetectarDuplicado((primeiro, segundo) -> logger.warn(
+            "⚠️ Duplicado detectado na API: sequence_number={}. Mantendo o mais recente (serviceAt).",
+            segundo.getSequenceNumber()));
+
+    private static final DeduplicadorPorFrescor<ContasAPagarDataExportEntity> FATURAS_A_PAGAR = DeduplicadorPorFrescor
+        .<ContasAPagarDataExportEntity>porChave(e -> {
+            if (e.getSequenceCode() == null) {
+                throw new IllegalStateException("Fatura a pagar com sequence_code NULL não pode ser deduplicada");
+            }
+            return e.getSequenceCode();
+        })
+        .comFrescor(e -> ChaveFrescor.de(
+            e.getDataCriacao(), e.getDataTransacao(), e.getDataLiquidacao(), e.getIssueDate(), e.getDataExtracao()))
+        .aoDetectarDuplicado((primeiro, segundo) -> logger.warn(
+            "⚠️ Duplicado detectado: sequence_code={}. Mantendo o registro mais fresco (dataCriacao/dataTransacao/dataLiquidacao).",
+            segundo.getSequenceCode()));
+
+    private static final DeduplicadorPorFrescor<FaturaPorClienteEntity> FATURAS_POR_CLIENTE = DeduplicadorPorFrescor
+        .<FaturaPorClienteEntity>porChave(e -> {
+            if (e.getUniqueId() == null || e.getUniqueId().trim().isEmpty()) {
+                throw new IllegalStateException(
+                    "Fatura por cliente com unique_id NULL não pode ser deduplicada");
+            }
+            return e.getUniqueId();
+        })
+        .aoDetectarDuplicado((primeiro, segundo) -> logger.warn(
+            "⚠️ Duplicado detectado: unique_id={}. Mantendo o último processado.",
+            segundo.getUniqueId()));
+
     private Deduplicator() {}
     
     /**
@@ -75,34 +136,17 @@ public final class Deduplicator {
      * @return Lista deduplicada de manifestos
      */
     public static List<ManifestoEntity> deduplicarManifestos(final List<ManifestoEntity> manifestos) {
-        if (manifestos == null || manifestos.isEmpty()) {
-            return manifestos;
+        return MANIFESTOS.deduplicar(manifestos);
+    }
+
+    private static String chaveManifesto(final ManifestoEntity m) {
+        // Chave alinhada com MERGE SQL: fallback em identificador_unico quando pick e nulo.
+        if (m.getSequenceCode() == null) {
+            throw new IllegalStateException("Manifesto com sequence_code NULL não pode ser deduplicado");
         }
-        
-        return manifestos.stream()
-            .collect(Collectors.toMap(
-                m -> {
-                    // Chave alinhada com MERGE SQL: fallback em identificador_unico quando pick e nulo.
-                    if (m.getSequenceCode() == null) {
-                        throw new IllegalStateException("Manifesto com sequence_code NULL não pode ser deduplicado");
-                    }
-                    final String pickOuIdentificador = chavePickOuIdentificador(m);
-                    final Integer mdfe = m.getMdfeNumber() != null ? m.getMdfeNumber() : -1;
-                    return m.getSequenceCode() + "_" + pickOuIdentificador + "_" + mdfe;
-                },
-                m -> m,
-                (primeiro, segundo) -> {
-                    final ManifestoEntity consolidado = obterMaisRecenteManifesto(primeiro, segundo);
-                    logger.warn("⚠️ Duplicado detectado na API: sequence_code={}, pick={}, mdfe={}. Mantendo o mais fresco e consolidando métricas financeiras/operacionais.", 
-                        primeiro.getSequenceCode(), 
-                        primeiro.getPickSequenceCode(), 
-                        primeiro.getMdfeNumber());
-                    return consolidado;
-                }
-            ))
-            .values()
-            .stream()
-            .collect(Collectors.toList());
+        final String pickOuIdentificador = chavePickOuIdentificador(m);
+        final Integer mdfe = m.getMdfeNumber() != null ? m.getMdfeNumber() : -1;
+        return m.getSequenceCode() + "_" + pickOuIdentificador + "_" + mdfe;
     }
 
     private static String chavePickOuIdentificador(final ManifestoEntity manifesto) {
@@ -116,40 +160,11 @@ public final class Deduplicator {
     }
     
     /**
-     * Determina qual manifesto é mais recente baseado em finishedAt ou createdAt
-     * e preserva métricas reais que possam existir apenas em uma variante duplicada
-     * do payload da ESL.
+     * Mesmo finishedAt/createdAt: fica a variante com mais métricas preenchidas; as ausentes
+     * são completadas com as do duplicado na consolidação.
      */
-    private static ManifestoEntity obterMaisRecenteManifesto(final ManifestoEntity primeiro, final ManifestoEntity segundo) {
-        final int comparacaoFreshness = compararFreshnessManifesto(primeiro, segundo);
-        final ManifestoEntity base;
-        final ManifestoEntity complemento;
-
-        if (comparacaoFreshness > 0) {
-            base = primeiro;
-            complemento = segundo;
-        } else if (comparacaoFreshness < 0) {
-            base = segundo;
-            complemento = primeiro;
-        } else if (pontuarMetricasManifesto(primeiro) >= pontuarMetricasManifesto(segundo)) {
-            base = primeiro;
-            complemento = segundo;
-        } else {
-            base = segundo;
-            complemento = primeiro;
-        }
-
-        enriquecerMetricasManifesto(base, complemento);
-        return base;
-    }
-
-    private static int compararFreshnessManifesto(final ManifestoEntity primeiro, final ManifestoEntity segundo) {
-        final int finishedAt = comparar(primeiro.getFinishedAt(), segundo.getFinishedAt());
-        if (finishedAt != 0) {
-            return finishedAt;
-        }
-
-        return comparar(primeiro.getCreatedAt(), segundo.getCreatedAt());
+    private static ManifestoEntity escolherManifestoNoEmpate(final ManifestoEntity primeiro, final ManifestoEntity segundo) {
+        return pontuarMetricasManifesto(primeiro) >= pontuarMetricasManifesto(segundo) ? primeiro : segundo;
     }
 
     private static int pontuarMetricasManifesto(final ManifestoEntity manifesto) {
@@ -206,50 +221,7 @@ public final class Deduplicator {
      * @return Lista deduplicada de cotações
      */
     public static List<CotacaoEntity> deduplicarCotacoes(final List<CotacaoEntity> cotacoes) {
-        if (cotacoes == null || cotacoes.isEmpty()) {
-            return cotacoes;
-        }
-        
-        return cotacoes.stream()
-            .collect(Collectors.toMap(
-                c -> {
-                    // Chave única: sequence_code
-                    if (c.getSequenceCode() == null) {
-                        throw new IllegalStateException("Cotação com sequence_code NULL não pode ser deduplicada");
-                    }
-                    return c.getSequenceCode();
-                },
-                c -> c,
-                (primeiro, segundo) -> {
-                    // ✅ ESTRATÉGIA "KEEP LAST": Manter o registro mais recente
-                    final CotacaoEntity maisRecente = obterMaisRecenteCotacao(primeiro, segundo);
-                    logger.warn("⚠️ Duplicado detectado na API: sequence_code={}. Mantendo o mais recente (requestedAt).", 
-                        segundo.getSequenceCode());
-                    return maisRecente;
-                }
-            ))
-            .values()
-            .stream()
-            .collect(Collectors.toList());
-    }
-    
-    /**
-     * Determina qual cotação é mais recente baseado em requestedAt.
-     */
-    private static CotacaoEntity obterMaisRecenteCotacao(final CotacaoEntity primeiro, final CotacaoEntity segundo) {
-        final OffsetDateTime requestedAt1 = primeiro.getRequestedAt();
-        final OffsetDateTime requestedAt2 = segundo.getRequestedAt();
-        if (requestedAt1 != null && requestedAt2 != null) {
-            return requestedAt1.isAfter(requestedAt2) ? primeiro : segundo;
-        }
-        if (requestedAt2 != null) {
-            return segundo;
-        }
-        if (requestedAt1 != null) {
-            return primeiro;
-        }
-        // Fallback: manter o segundo (último processado)
-        return segundo;
+        return COTACOES.deduplicar(cotacoes);
     }
     
     /**
@@ -262,83 +234,17 @@ public final class Deduplicator {
      * @return Lista deduplicada de localizações
      */
     public static List<LocalizacaoCargaEntity> deduplicarLocalizacoes(final List<LocalizacaoCargaEntity> localizacoes) {
-        if (localizacoes == null || localizacoes.isEmpty()) {
-            return localizacoes;
-        }
-        
-        return localizacoes.stream()
-            .collect(Collectors.toMap(
-                l -> {
-                    // Chave única: sequence_number
-                    if (l.getSequenceNumber() == null) {
-                        throw new IllegalStateException("Localização com sequence_number NULL não pode ser deduplicada");
-                    }
-                    return l.getSequenceNumber();
-                },
-                l -> l,
-                (primeiro, segundo) -> {
-                    // ✅ ESTRATÉGIA "KEEP LAST": Manter o registro mais recente
-                    final LocalizacaoCargaEntity maisRecente = obterMaisRecenteLocalizacao(primeiro, segundo);
-                    logger.warn("⚠️ Duplicado detectado na API: sequence_number={}. Mantendo o mais recente (serviceAt).", 
-                        segundo.getSequenceNumber());
-                    return maisRecente;
-                }
-            ))
-            .values()
-            .stream()
-            .collect(Collectors.toList());
-    }
-    
-    /**
-     * Determina qual localização é mais recente baseado em serviceAt.
-     */
-    private static LocalizacaoCargaEntity obterMaisRecenteLocalizacao(
-            final LocalizacaoCargaEntity primeiro, 
-            final LocalizacaoCargaEntity segundo) {
-        final OffsetDateTime serviceAt1 = primeiro.getServiceAt();
-        final OffsetDateTime serviceAt2 = segundo.getServiceAt();
-        if (serviceAt1 != null && serviceAt2 != null) {
-            return serviceAt1.isAfter(serviceAt2) ? primeiro : segundo;
-        }
-        if (serviceAt2 != null) {
-            return segundo;
-        }
-        if (serviceAt1 != null) {
-            return primeiro;
-        }
-        // Fallback: manter o segundo (último processado)
-        return segundo;
+        return LOCALIZACOES.deduplicar(localizacoes);
     }
 
     /**
      * Deduplica Faturas a Pagar por sequence_code (chave primária).
      * 
-     * Estratégia: "Keep Last" - mantém o último processado (sem timestamp específico).
+     * Estratégia: mantém o mais fresco por dataCriacao, dataTransacao, dataLiquidacao, issueDate e
+     * dataExtracao, nessa ordem; no empate, o último processado.
      */
     public static List<ContasAPagarDataExportEntity> deduplicarFaturasAPagar(final List<ContasAPagarDataExportEntity> lista) {
-        if (lista == null || lista.isEmpty()) {
-            return lista;
-        }
-
-        return lista.stream()
-            .collect(Collectors.toMap(
-                e -> {
-                    if (e.getSequenceCode() == null) {
-                        throw new IllegalStateException("Fatura a pagar com sequence_code NULL não pode ser deduplicada");
-                    }
-                    return e.getSequenceCode();
-                },
-                e -> e,
-                (primeiro, segundo) -> {
-                    final ContasAPagarDataExportEntity maisFresco = obterMaisRecenteContaAPagar(primeiro, segundo);
-                    logger.warn("⚠️ Duplicado detectado: sequence_code={}. Mantendo o registro mais fresco (dataCriacao/dataTransacao/dataLiquidacao).", 
-                        segundo.getSequenceCode());
-                    return maisFresco;
-                }
-            ))
-            .values()
-            .stream()
-            .collect(Collectors.toList());
+        return FATURAS_A_PAGAR.deduplicar(lista);
     }
 
     /**
@@ -347,74 +253,6 @@ public final class Deduplicator {
      * Estratégia: "Keep Last" - mantém o último processado (sem timestamp específico).
      */
     public static List<FaturaPorClienteEntity> deduplicarFaturasPorCliente(final List<FaturaPorClienteEntity> lista) {
-        if (lista == null || lista.isEmpty()) {
-            return lista;
-        }
-
-        return lista.stream()
-            .collect(Collectors.toMap(
-                e -> {
-                    if (e.getUniqueId() == null || e.getUniqueId().trim().isEmpty()) {
-                        throw new IllegalStateException(
-                            "Fatura por cliente com unique_id NULL não pode ser deduplicada");
-                    }
-                    return e.getUniqueId();
-                },
-                e -> e,
-                (primeiro, segundo) -> {
-                    // ✅ ESTRATÉGIA "KEEP LAST": Manter o segundo (último processado)
-                    logger.warn("⚠️ Duplicado detectado: unique_id={}. Mantendo o último processado.", 
-                        segundo.getUniqueId());
-                    return segundo;
-                }
-            ))
-            .values()
-            .stream()
-            .collect(Collectors.toList());
-    }
-
-    private static ContasAPagarDataExportEntity obterMaisRecenteContaAPagar(
-        final ContasAPagarDataExportEntity primeiro,
-        final ContasAPagarDataExportEntity segundo
-    ) {
-        final int dataCriacao = comparar(primeiro.getDataCriacao(), segundo.getDataCriacao());
-        if (dataCriacao != 0) {
-            return dataCriacao >= 0 ? primeiro : segundo;
-        }
-
-        final int dataTransacao = comparar(primeiro.getDataTransacao(), segundo.getDataTransacao());
-        if (dataTransacao != 0) {
-            return dataTransacao >= 0 ? primeiro : segundo;
-        }
-
-        final int dataLiquidacao = comparar(primeiro.getDataLiquidacao(), segundo.getDataLiquidacao());
-        if (dataLiquidacao != 0) {
-            return dataLiquidacao >= 0 ? primeiro : segundo;
-        }
-
-        final int issueDate = comparar(primeiro.getIssueDate(), segundo.getIssueDate());
-        if (issueDate != 0) {
-            return issueDate >= 0 ? primeiro : segundo;
-        }
-
-        final int dataExtracao = comparar(primeiro.getDataExtracao(), segundo.getDataExtracao());
-        if (dataExtracao != 0) {
-            return dataExtracao >= 0 ? primeiro : segundo;
-        }
-
-        return segundo;
-    }
-
-    private static <T extends Comparable<? super T>> int comparar(final T esquerda, final T direita) {
-        if (esquerda == null && direita == null) {
-            return 0;
-        }
-        if (esquerda == null) {
-            return -1;
-        }
-        if (direita == null) {
-            return 1;
-        }
-        return esquerda.compareTo(direita);
+        return FATURAS_POR_CLIENTE.deduplicar(lista);
     }
 }
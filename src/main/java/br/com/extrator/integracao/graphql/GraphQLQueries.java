@@ -186,6 +186,62 @@ public final class GraphQLQueries {
               }
             }""";
     
+    /**
+     * Coletas/Fretes com selecao reduzida (mesma operacao, filtros e paginacao da query completa).
+     * Usadas por quem so precisa de chaves ou de chaves e frescor.
+     */
+    public static final String QUERY_COLETAS_CHAVES = comCamposNode(QUERY_COLETAS, "id sequenceCode");
+    public static final String QUERY_COLETAS_CHAVES_FRESCOR = comCamposNode(
+        QUERY_COLETAS,
+        "id sequenceCode requestDate serviceDate finishDate statusUpdatedAt"
+    );
+    public static final String QUERY_FRETES_CHAVES = comCamposNode(QUERY_FRETES, "id");
+    public static final String QUERY_FRETES_CHAVES_FRESCOR = comCamposNode(
+        QUERY_FRETES,
+        "id serviceAt createdAt finishedAt cte { issuedAt createdAt }"
+    );
+
+    public static String queryColetas(final ProjecaoGraphQL projecao) {
+        return switch (projecao) {
+            case CHAVES -> QUERY_COLETAS_CHAVES;
+            case CHAVES_E_FRESCOR -> QUERY_COLETAS_CHAVES_FRESCOR;
+            case COMPLETA -> QUERY_COLETAS;
+        };
+    }
+
+    public static String queryFretes(final ProjecaoGraphQL projecao) {
+        return switch (projecao) {
+            case CHAVES -> QUERY_FRETES_CHAVES;
+            case CHAVES_E_FRESCOR -> QUERY_FRETES_CHAVES_FRESCOR;
+            case COMPLETA -> QUERY_FRETES;
+        };
+    }
+
+    /**
+     * Troca a selecao do primeiro bloco node { ... } da query pelos campos informados.
+     */
+    static String comCamposNode(final String query, final String camposNode) {
+        final int abertura = query.indexOf("node {");
+        if (abertura < 0) {
+            throw new IllegalArgumentException("Query sem bloco node para projetar.");
+        }
+        final int inicio = abertura + "node {".length();
+        int profundidade = 1;
+        int posicao = inicio;
+        while (profundidade > 0) {
+            if (posicao >= query.length()) {
+                throw new IllegalArgumentException("Bloco node sem fechamento na query.");
+            }
+            final char c = query.charAt(posicao++);
+            if (c == '{') {
+                profundidade++;
+            } else if (c == '}') {
+                profundidade--;
+            }
+        }
+        return query.substring(0, inicio) + " " + camposNode + " " + query.substring(posicao - 1);
+    }
+
     /**
      * Query para buscar NFSe diretamente
      * Tipo GraphQL: Nfse
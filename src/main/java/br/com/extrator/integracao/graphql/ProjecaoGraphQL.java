@@ -0,0 +1,14 @@
+package br.com.extrator.integracao.graphql;
+
+/**
+ * Largura da selecao de campos pedida ao GraphQL. Extracao usa COMPLETA (o node inteiro vira metadata);
+ * contagens e reconciliacao pedem so o necessario e trafegam uma fracao dos bytes.
+ */
+public enum ProjecaoGraphQL {
+    /** Apenas os campos que identificam o registro. */
+    CHAVES,
+    /** Chaves mais os campos usados como frescor na deduplicacao e nas guardas de MERGE. */
+    CHAVES_E_FRESCOR,
+    /** Selecao completa usada na extracao. */
+    COMPLETA
+}
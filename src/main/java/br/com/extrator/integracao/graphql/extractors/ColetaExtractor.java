@@ -38,6 +38,7 @@ package br.com.extrator.integracao.graphql.extractors;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -52,6 +53,7 @@ import br.com.extrator.integracao.mapeamento.graphql.coletas.ColetaMapper;
 import br.com.extrator.dominio.graphql.coletas.ColetaNodeDTO;
 import br.com.extrator.integracao.comum.ChunkedEntityExtractor;
 import br.com.extrator.integracao.comum.ConstantesExtracao;
+import br.com.extrator.integracao.comum.DeduplicadorPorFrescor;
 import br.com.extrator.integracao.comum.EntityExtractor;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
 
@@ -130,20 +132,13 @@ public class ColetaExtractor implements ChunkedEntityExtractor<ColetaNodeDTO> {
      * @since 2.3.2
      */
     private List<ColetaEntity> deduplicarPorId(final List<ColetaEntity> entities) {
-        return entities.stream()
-            .peek(this::validarChavePrimaria)
-            .collect(Collectors.toMap(
-                ColetaEntity::getId,
-                e -> e,
-                (primeiro, segundo) -> {
-                    logger.warn("⚠️ Duplicado detectado na API GraphQL: id={}. Mantendo o último.", 
-                        primeiro.getId());
-                    return segundo; // Keep Last
-                }
-            ))
-            .values()
-            .stream()
-            .collect(Collectors.toList());
+        return DeduplicadorPorFrescor.<ColetaEntity>porChave(entity -> {
+                validarChavePrimaria(entity);
+                return entity.getId();
+            })
+            .aoDetectarDuplicado((primeiro, segundo) ->
+                logger.warn("⚠️ Duplicado detectado na API GraphQL: id={}. Mantendo o último.", primeiro.getId()))
+            .deduplicar(entities);
     }
 
     private void validarChavePrimaria(final ColetaEntity entity) {
@@ -152,6 +147,11 @@ public class ColetaExtractor implements ChunkedEntityExtractor<ColetaNodeDTO> {
         }
     }
     
+    @Override
+    public Function<ColetaNodeDTO, ?> chaveNaturalEntreChunks() {
+        return dto -> dto.getId() == null || dto.getId().isBlank() ? null : dto.getId();
+    }
+
     @Override
     public String getEntityName() {
         return ConstantesEntidades.COLETAS;
@@ -61,6 +61,7 @@ import br.com.extrator.integracao.ResultadoExtracao;
 import br.com.extrator.integracao.comum.ChunkedEntityExtractor;
 import br.com.extrator.integracao.comum.ChunkedExtractionOutcome;
 import br.com.extrator.integracao.comum.ConstantesExtracao;
+import br.com.extrator.integracao.comum.DeduplicadorPorFrescor;
 import br.com.extrator.integracao.comum.EntityExtractor;
 import br.com.extrator.integracao.mapeamento.graphql.fretes.FreteMapper;
 import br.com.extrator.persistencia.entidade.FreteEntity;
@@ -68,6 +69,7 @@ import br.com.extrator.persistencia.repositorio.FreteRepository;
 import br.com.extrator.suporte.configuracao.ConfigApi;
 import br.com.extrator.suporte.configuracao.ConfigEtl;
 import br.com.extrator.suporte.formatacao.FormatadorData;
+import br.com.extrator.suporte.formatacao.ParserDataHora;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
 
 /**
@@ -286,20 +288,13 @@ public class FreteExtractor implements ChunkedEntityExtractor<FreteNodeDTO> {
      * @since 2.3.2
      */
     private List<FreteEntity> deduplicarPorId(final List<FreteEntity> entities) {
-        return entities.stream()
-            .peek(this::validarChavePrimaria)
-            .collect(Collectors.toMap(
-                FreteEntity::getId,
-                e -> e,
-                (primeiro, segundo) -> {
-                    logger.warn("⚠️ Duplicado detectado na API GraphQL: id={}. Mantendo o último.", 
-                        primeiro.getId());
-                    return segundo; // Keep Last
-                }
-            ))
-            .values()
-            .stream()
-            .collect(Collectors.toList());
+        return DeduplicadorPorFrescor.<FreteEntity>porChave(entity -> {
+                validarChavePrimaria(entity);
+                return entity.getId();
+            })
+            .aoDetectarDuplicado((primeiro, segundo) ->
+                logger.warn("⚠️ Duplicado detectado na API GraphQL: id={}. Mantendo o último.", primeiro.getId()))
+            .deduplicar(entities);
     }
 
     private void validarChavePrimaria(final FreteEntity entity) {
@@ -693,6 +688,10 @@ public class FreteExtractor implements ChunkedEntityExtractor<FreteNodeDTO> {
 
     private OffsetDateTime parseOffsetDateTimeBr(final String valor) {
         final java.time.ZoneId zoneId = ConfigApi.obterZoneIdDataExport();
+        final OffsetDateTime rapido = ParserDataHora.lerDataHoraBr(valor, zoneId);
+        if (rapido != null) {
+            return rapido;
+        }
         for (final DateTimeFormatter formatter : FORMATOS_BR_DATA_HORA) {
             try {
                 return java.time.LocalDateTime.parse(valor, formatter).atZone(zoneId).toOffsetDateTime();
@@ -459,6 +459,11 @@ public class GraphQLExtractionService {
             public boolean permiteConcluirComInvalidosAuditados() {
                 return extractor.permiteConcluirComInvalidosAuditados();
             }
+
+            @Override
+            public java.util.function.Function<ColetaNodeDTO, ?> chaveNaturalEntreChunks() {
+                return extractor.chaveNaturalEntreChunks();
+            }
         };
 
         final ExtractionResult result =
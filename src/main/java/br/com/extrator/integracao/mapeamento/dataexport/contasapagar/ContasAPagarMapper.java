@@ -132,7 +132,7 @@ public class ContasAPagarMapper {
         entity.setReconciliado(dto.getReconciled());
         
         // GERAR METADATA (JSON completo do DTO)
-        final String metadata = MapperUtil.toJson(dto.getAllProperties());
+        final String metadata = MapperUtil.jsonOriginalOu(dto.getJsonOriginal(), dto::getAllProperties);
         entity.setMetadata(metadata != null ? metadata : "{}");
         
         // DATA DE EXTRAÇÃO (sempre now)
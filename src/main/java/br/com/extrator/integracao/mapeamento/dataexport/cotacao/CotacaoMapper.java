@@ -161,7 +161,7 @@ public class CotacaoMapper {
 
         // 3. Empacotamento de todos os metadados
         // Serializa o mapa completo que inclui campos explícitos e o "resto"
-        String metadata = MapperUtil.toJson(dto.getAllProperties());
+        String metadata = MapperUtil.jsonOriginalOu(dto.getJsonOriginal(), dto::getAllProperties);
         entity.setMetadata(metadata);
 
         return entity;
@@ -12,7 +12,7 @@ import org.slf4j.LoggerFactory;
 
 import br.com.extrator.dominio.dataexport.inventario.InventarioDTO;
 import br.com.extrator.persistencia.entidade.InventarioEntity;
-import br.com.extrator.suporte.formatacao.FormatadorData;
+import br.com.extrator.suporte.formatacao.ParserDataHora;
 import br.com.extrator.suporte.mapeamento.MapperUtil;
 import br.com.extrator.suporte.validacao.ValidadorDTO;
 import br.com.extrator.suporte.validacao.ValidadorDTO.ResultadoValidacao;
@@ -20,6 +20,11 @@ import br.com.extrator.suporte.validacao.ValidadorDTO.ResultadoValidacao;
 public class InventarioMapper {
 
     private static final Logger logger = LoggerFactory.getLogger(InventarioMapper.class);
+    private static final ParserDataHora STARTED_AT = ParserDataHora.campo("inventario.started_at");
+    private static final ParserDataHora FINISHED_AT = ParserDataHora.campo("inventario.finished_at");
+    private static final ParserDataHora PREDICTED_DELIVERY_AT = ParserDataHora.campo("inventario.cnr_c_s_fit_dpn_delivery_prediction_at");
+    private static final ParserDataHora PERFORMANCE_FINISHED_AT = ParserDataHora.campo("inventario.cnr_c_s_fit_dpn_performance_finished_at");
+    private static final ParserDataHora ULTIMA_OCORRENCIA_AT = ParserDataHora.campo("inventario.cnr_c_s_fit_fte_lce_occurrence_at");
 
     public InventarioEntity toEntity(final InventarioDTO dto) {
         if (dto == null) {
@@ -54,15 +59,15 @@ public class InventarioMapper {
         entity.setTaxedWeight(converterParaBigDecimal(dto.getTaxedWeight(), "cnr_c_s_fit_taxed_weight", dto.getSequenceCode()));
         entity.setInvoicesVolumes(dto.getInvoicesVolumes());
         entity.setReadVolumes(dto.getReadVolumes());
-        entity.setStartedAt(FormatadorData.parseOffsetDateTime(dto.getStartedAt()));
-        entity.setFinishedAt(FormatadorData.parseOffsetDateTime(dto.getFinishedAt()));
-        entity.setPredictedDeliveryAt(FormatadorData.parseOffsetDateTime(dto.getPredictedDeliveryAt()));
-        entity.setPerformanceFinishedAt(FormatadorData.parseOffsetDateTime(dto.getPerformanceFinishedAt()));
-        entity.setUltimaOcorrenciaAt(FormatadorData.parseOffsetDateTime(dto.getUltimaOcorrenciaAt()));
+        entity.setStartedAt(STARTED_AT.paraOffsetDateTime(dto.getStartedAt()));
+        entity.setFinishedAt(FINISHED_AT.paraOffsetDateTime(dto.getFinishedAt()));
+        entity.setPredictedDeliveryAt(PREDICTED_DELIVERY_AT.paraOffsetDateTime(dto.getPredictedDeliveryAt()));
+        entity.setPerformanceFinishedAt(PERFORMANCE_FINISHED_AT.paraOffsetDateTime(dto.getPerformanceFinishedAt()));
+        entity.setUltimaOcorrenciaAt(ULTIMA_OCORRENCIA_AT.paraOffsetDateTime(dto.getUltimaOcorrenciaAt()));
         entity.setUltimaOcorrenciaDescricao(dto.getUltimaOcorrenciaDescricao());
         entity.setFlagComprovanteAnexado(isComprovanteEntregaAnexado(dto.getUltimaOcorrenciaDescricao()));
 
-        final String metadata = MapperUtil.toJson(dto.getAllProperties());
+        final String metadata = MapperUtil.jsonOriginalOu(dto.getJsonOriginal(), dto::getAllProperties);
         entity.setMetadata(metadata);
         entity.setIdentificadorUnico(calcularIdentificador(dto, entity.getInvoicesMapping(), metadata));
         return entity;
@@ -126,7 +126,7 @@ public class LocalizacaoCargaMapper {
         }
 
         // 3. Empacotamento de todos os metadados
-        String metadata = MapperUtil.toJson(dto.getAllProperties());
+        String metadata = MapperUtil.jsonOriginalOu(dto.getJsonOriginal(), dto::getAllProperties);
         entity.setMetadata(metadata);
         entity.setLocalizacaoHash(calcularHashOperacional(entity));
 
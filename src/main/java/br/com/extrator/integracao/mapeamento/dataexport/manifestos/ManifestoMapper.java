@@ -30,7 +30,7 @@ package br.com.extrator.integracao.mapeamento.dataexport.manifestos;
 import br.com.extrator.dominio.dataexport.manifestos.ManifestoDTO;
 
 import br.com.extrator.persistencia.entidade.ManifestoEntity;
-import br.com.extrator.suporte.formatacao.FormatadorData;
+import br.com.extrator.suporte.formatacao.ParserDataHora;
 import br.com.extrator.suporte.validacao.ValidadorDTO;
 import br.com.extrator.suporte.validacao.ValidadorDTO.ResultadoValidacao;
 import br.com.extrator.suporte.mapeamento.MapperUtil;
@@ -48,6 +48,13 @@ import java.time.format.DateTimeParseException;
 public class ManifestoMapper {
 
     private static final Logger logger = LoggerFactory.getLogger(ManifestoMapper.class);
+    private static final ParserDataHora CREATED_AT = ParserDataHora.campo("manifestos.created_at");
+    private static final ParserDataHora DEPARTURED_AT = ParserDataHora.campo("manifestos.departured_at");
+    private static final ParserDataHora CLOSED_AT = ParserDataHora.campo("manifestos.closed_at");
+    private static final ParserDataHora FINISHED_AT = ParserDataHora.campo("manifestos.finished_at");
+    private static final ParserDataHora MOBILE_READ_AT = ParserDataHora.campo("manifestos.mobile_read_at");
+    private static final ParserDataHora PROGRAMACAO_STARTING_AT = ParserDataHora.campo("manifestos.mft_s_n_starting_at");
+    private static final ParserDataHora PROGRAMACAO_ENDING_AT = ParserDataHora.campo("manifestos.mft_s_n_ending_at");
 
     public ManifestoMapper() {
         // Usando MapperUtil para ObjectMapper compartilhado
@@ -159,25 +166,25 @@ public class ManifestoMapper {
         // 2. Conversão segura de tipos de dados
         try {
             if (dto.getCreatedAt() != null && !dto.getCreatedAt().trim().isEmpty()) {
-                entity.setCreatedAt(FormatadorData.parseOffsetDateTime(dto.getCreatedAt()));
+                entity.setCreatedAt(CREATED_AT.paraOffsetDateTime(dto.getCreatedAt()));
             }
             if (dto.getDeparturedAt() != null && !dto.getDeparturedAt().trim().isEmpty()) {
-                entity.setDeparturedAt(FormatadorData.parseOffsetDateTime(dto.getDeparturedAt()));
+                entity.setDeparturedAt(DEPARTURED_AT.paraOffsetDateTime(dto.getDeparturedAt()));
             }
             if (dto.getClosedAt() != null && !dto.getClosedAt().trim().isEmpty()) {
-                entity.setClosedAt(FormatadorData.parseOffsetDateTime(dto.getClosedAt()));
+                entity.setClosedAt(CLOSED_AT.paraOffsetDateTime(dto.getClosedAt()));
             }
             if (dto.getFinishedAt() != null && !dto.getFinishedAt().trim().isEmpty()) {
-                entity.setFinishedAt(FormatadorData.parseOffsetDateTime(dto.getFinishedAt()));
+                entity.setFinishedAt(FINISHED_AT.paraOffsetDateTime(dto.getFinishedAt()));
             }
             if (dto.getMobileReadAt() != null && !dto.getMobileReadAt().trim().isEmpty()) {
-                entity.setMobileReadAt(FormatadorData.parseOffsetDateTime(dto.getMobileReadAt()));
+                entity.setMobileReadAt(MOBILE_READ_AT.paraOffsetDateTime(dto.getMobileReadAt()));
             }
             if (dto.getProgramacaoStartingAt() != null && !dto.getProgramacaoStartingAt().trim().isEmpty()) {
-                entity.setProgramacaoStartingAt(FormatadorData.parseOffsetDateTime(dto.getProgramacaoStartingAt()));
+                entity.setProgramacaoStartingAt(PROGRAMACAO_STARTING_AT.paraOffsetDateTime(dto.getProgramacaoStartingAt()));
             }
             if (dto.getProgramacaoEndingAt() != null && !dto.getProgramacaoEndingAt().trim().isEmpty()) {
-                entity.setProgramacaoEndingAt(FormatadorData.parseOffsetDateTime(dto.getProgramacaoEndingAt()));
+                entity.setProgramacaoEndingAt(PROGRAMACAO_ENDING_AT.paraOffsetDateTime(dto.getProgramacaoEndingAt()));
             }
         } catch (final DateTimeParseException e) {
             logger.error("❌ Erro ao converter datas para manifesto {}: createdAt='{}', departuredAt='{}', closedAt='{}', finishedAt='{}' - {}", 
@@ -206,7 +213,7 @@ public class ManifestoMapper {
         entity.setObsFinanceira(dto.getObsFinanceira());
 
         // 3. Empacotamento de todos os metadados
-        final String metadata = MapperUtil.toJson(dto.getAllProperties());
+        final String metadata = MapperUtil.jsonOriginalOu(dto.getJsonOriginal(), dto::getAllProperties);
         entity.setMetadata(metadata);
         
         if (dto.getOtherProperties() != null) {
@@ -64,9 +64,9 @@ public class SinistroMapper {
         entity.setTreatmentAt(FormatadorData.parseOffsetDateTime(dto.getTreatmentAt()));
         entity.setDealingType(dto.getDealingType());
         entity.setSolutionType(dto.getSolutionType());
-        final String metadata = MapperUtil.toJson(dto.getAllProperties());
+        final String metadata = MapperUtil.jsonOriginalOu(dto.getJsonOriginal(), dto::getAllProperties);
         entity.setMetadata(metadata);
-        entity.setIdentificadorUnico(calcularIdentificador(dto, metadata));
+        entity.setIdentificadorUnico(calcularIdentificador(dto));
         return entity;
     }
 
@@ -82,14 +82,15 @@ public class SinistroMapper {
         }
     }
 
-    private String calcularIdentificador(final SinistroDTO dto, final String metadata) {
+    private String calcularIdentificador(final SinistroDTO dto) {
         final String chaveCanonica = String.join(
             "|",
             String.valueOf(dto.getSequenceCode()),
             String.valueOf(dto.getInsuranceOccurrenceNumber()),
             String.valueOf(dto.getCorporationSequenceNumber())
         );
-        return sha256Hex(chaveCanonica.equals("null|null|null") ? metadata : chaveCanonica);
+        // Sem chave natural, o hash usa a serializacao do DTO (nao o JSON original) para manter os ids ja gravados.
+        return sha256Hex(chaveCanonica.equals("null|null|null") ? MapperUtil.toJson(dto.getAllProperties()) : chaveCanonica);
     }
 
     private String sha256Hex(final String valor) {
@@ -178,7 +178,7 @@ public class ColetaMapper {
 
         // 3. Empacotamento de todos os metadados
         // Serializa o DTO original completo para a coluna de metadados usando MapperUtil
-        final String metadata = MapperUtil.toJson(dto);
+        final String metadata = MapperUtil.jsonOriginalOu(dto.getJsonOriginal(), () -> dto);
         entity.setMetadata(metadata);
 
         return entity;
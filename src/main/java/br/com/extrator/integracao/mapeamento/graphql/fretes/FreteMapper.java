@@ -298,7 +298,7 @@ public class FreteMapper {
         }
 
         // 3. Empacotamento de todos os metadados
-        final String metadata = MapperUtil.toJson(dto);
+        final String metadata = MapperUtil.jsonOriginalOu(dto.getJsonOriginal(), () -> dto);
         entity.setMetadata(metadata);
 
         return entity;
@@ -0,0 +1,163 @@
+/* ==[DOC-FILE]===============================================================
+Arquivo : src/main/java/br/com/extrator/observabilidade/LogCaptureSpool.java
+Classe  : LogCaptureSpool (class)
+Pacote  : br.com.extrator.observabilidade
+Modulo  : Observabilidade
+Papel   : Grava em disco, de forma assincrona e com memoria limitada, a saida capturada pelo LoggingService.
+
+Conecta com:
+- LoggingService (um spool para System.out e outro para System.err)
+
+Fluxo geral:
+1) write() copia o trecho e enfileira em fila limitada (bloqueia quando cheia).
+2) Thread daemon drena a fila para um arquivo .part bufferizado.
+3) close() sinaliza fim, aguarda a drenagem e propaga falha de I/O.
+
+Estrutura interna:
+Metodos principais:
+- write(...3 args): enfileira bytes e contabiliza tamanho/linhas.
+- close(): conclui a escrita do arquivo parcial.
+- bytesEscritos()/linhas(): estatisticas usadas no cabecalho do log final.
+[DOC-FILE-END]============================================================== */
+
+package br.com.extrator.observabilidade;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Spool em disco da saida capturada; substitui o buffer em memoria da execucao inteira.
+ */
+final class LogCaptureSpool extends OutputStream {
+    private static final int CAPACIDADE_FILA = 256;
+    private static final int TAMANHO_BUFFER_ARQUIVO = 64 * 1024;
+    private static final byte[] FIM = new byte[0];
+    private static final AtomicInteger WORKER_COUNTER = new AtomicInteger();
+
+    private final Path arquivo;
+    private final BlockingQueue<byte[]> fila = new ArrayBlockingQueue<>(CAPACIDADE_FILA);
+    private final Thread escritor;
+    private volatile IOException falha;
+    private long bytes;
+    private long quebrasLinha;
+    private byte ultimoByte = '\n';
+    private boolean fechado;
+
+    LogCaptureSpool(final Path arquivo) throws IOException {
+        this.arquivo = arquivo;
+        final OutputStream saida = new BufferedOutputStream(
+            Files.newOutputStream(arquivo, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE),
+            TAMANHO_BUFFER_ARQUIVO
+        );
+        this.escritor = new Thread(() -> drenar(saida), "log-spool-" + WORKER_COUNTER.incrementAndGet());
+        this.escritor.setDaemon(true);
+        this.escritor.start();
+    }
+
+    Path arquivo() {
+        return arquivo;
+    }
+
+    synchronized long bytesEscritos() {
+        return bytes;
+    }
+
+    synchronized long linhas() {
+        return quebrasLinha + (bytes > 0 && ultimoByte != '\n' ? 1 : 0);
+    }
+
+    @Override
+    public void write(final int b) {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(final byte[] b, final int off, final int len) {
+        if (fechado || len <= 0) {
+            return;
+        }
+        final byte[] trecho = Arrays.copyOfRange(b, off, off + len);
+        for (final byte valor : trecho) {
+            if (valor == '\n') {
+                quebrasLinha++;
+            }
+        }
+        bytes += len;
+        ultimoByte = trecho[len - 1];
+        enfileirar(trecho);
+    }
+
+    @Override
+    public void flush() {
+        // A thread de escrita descarrega o buffer sempre que a fila esvazia.
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (fechado) {
+            return;
+        }
+        fechado = true;
+        enfileirar(FIM);
+        try {
+            escritor.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrompido aguardando gravacao de " + arquivo.getFileName(), e);
+        }
+        if (falha != null) {
+            throw falha;
+        }
+    }
+
+    private void enfileirar(final byte[] trecho) {
+        try {
+            fila.put(trecho);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // Preserva o trecho se ainda houver espaco; nao bloqueia thread interrompida.
+            fila.offer(trecho);
+        }
+    }
+
+    private void drenar(final OutputStream saida) {
+        try (saida) {
+            while (true) {
+                final byte[] trecho = fila.take();
+                if (trecho == FIM) {
+                    return;
+                }
+                saida.write(trecho);
+                if (fila.isEmpty()) {
+                    saida.flush();
+                }
+            }
+        } catch (final IOException e) {
+            falha = e;
+            descartarAteFim();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Apos falha de disco continua consumindo a fila para nao travar quem escreve no console.
+     */
+    private void descartarAteFim() {
+        try {
+            while (fila.take() != FIM) {
+                // descarta
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,330 @@
+/* ==[DOC-FILE]===============================================================
+Arquivo : src/main/java/br/com/extrator/observabilidade/LogEventIndex.java
+Classe  : LogEventIndex (utility), Evento (record), Escritor (nested)
+Pacote  : br.com.extrator.observabilidade
+Modulo  : Observabilidade
+Papel   : Mantem indice append-only de eventos relevantes ao lado de cada arquivo de log.
+
+Conecta com:
+- LoggingService (indexa o log operacional no momento da escrita)
+- DaemonCycleTee (indexa o log de ciclo conforme as linhas chegam)
+- ValidacaoEtlExtremaUseCase / DaemonHistoryWriter (consultam o indice)
+
+Fluxo geral:
+1) classificar() identifica os tipos de evento de uma linha (WARN, ERROR, retry, timeout...).
+2) Cada linha classificada vira uma linha JSON em <log>.events.jsonl com offset em bytes.
+3) ler() devolve os eventos sem reabrir o log; vazio quando o sidecar nao existe.
+
+Estrutura interna:
+Metodos principais:
+- classificar(...1 args): tipos de evento presentes na linha.
+- abrirEscritor(...1 args): escritor incremental; envolver() indexa as linhas gravadas no log.
+- ler(...1 args): carrega os eventos indexados de um log.
+[DOC-FILE-END]============================================================== */
+
+package br.com.extrator.observabilidade;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import br.com.extrator.suporte.mapeamento.MapperUtil;
+import br.com.extrator.suporte.tempo.RelogioSistema;
+
+/**
+ * Indice de eventos de log gravado como JSONL ao lado do arquivo original.
+ */
+public final class LogEventIndex {
+    private static final Logger logger = LoggerFactory.getLogger(LogEventIndex.class);
+    public static final String SUFIXO_SIDECAR = ".events.jsonl";
+    private static final int MAX_TRECHO = 400;
+    private static final int MAX_BYTES_LINHA = 4096;
+    private static final Pattern PADRAO_ENTIDADE =
+        Pattern.compile("entidade[=:]\\s*\"?([A-Za-z_]+)", Pattern.CASE_INSENSITIVE);
+
+    public enum TipoEvento {
+        WARN,
+        ERROR,
+        RETRY,
+        TIMEOUT,
+        LOOP_DETECTADO,
+        PAGINA_VAZIA,
+        DEDUPLICACAO,
+        DESCARTE,
+        ALERTA_INTEGRIDADE,
+        STATUS_INCOMPLETO,
+        RESUMO_SUCESSO;
+
+        /** Tipos usados como evidencia operacional na validacao extrema. */
+        public boolean evidenciaOperacional() {
+            return this == RETRY
+                || this == TIMEOUT
+                || this == LOOP_DETECTADO
+                || this == PAGINA_VAZIA
+                || this == DEDUPLICACAO
+                || this == DESCARTE;
+        }
+    }
+
+    public record Evento(String ts, Set<TipoEvento> tipos, String entidade, long offset, String linha) {
+        public boolean possui(final TipoEvento tipo) {
+            return tipos.contains(tipo);
+        }
+
+        public boolean evidenciaOperacional() {
+            return tipos.stream().anyMatch(TipoEvento::evidenciaOperacional);
+        }
+    }
+
+    private LogEventIndex() {
+        // utility class
+    }
+
+    public static Path sidecar(final Path arquivoLog) {
+        return arquivoLog.resolveSibling(arquivoLog.getFileName().toString() + SUFIXO_SIDECAR);
+    }
+
+    public static Set<TipoEvento> classificar(final String linha) {
+        if (linha == null || linha.isBlank()) {
+            return Set.of();
+        }
+        final EnumSet<TipoEvento> tipos = EnumSet.noneOf(TipoEvento.class);
+        if (linha.contains(" WARN ")) {
+            tipos.add(TipoEvento.WARN);
+        }
+        if (linha.contains(" ERROR ")) {
+            tipos.add(TipoEvento.ERROR);
+        }
+        if (linha.contains("ALERTA_LOOP")
+            || linha.contains("EXTRACAO CONCLUIDA COM ALERTA DE INTEGRIDADE")
+            || linha.contains("RESUMO DA EXTRACAO (com alerta de integridade no loop)")) {
+            tipos.add(TipoEvento.ALERTA_INTEGRIDADE);
+        }
+        if (linha.contains("status_code=INCOMPLETO")) {
+            tipos.add(TipoEvento.STATUS_INCOMPLETO);
+        }
+        if (linha.contains("Todas as APIs foram processadas com sucesso.")) {
+            tipos.add(TipoEvento.RESUMO_SUCESSO);
+        }
+
+        final String normalizada = linha.toLowerCase(Locale.ROOT);
+        // Stack traces de testes mencionam retry/timeout sem refletir a extracao real.
+        if (!normalizada.contains("org.junit.jupiter")) {
+            if (normalizada.contains("retry")) {
+                tipos.add(TipoEvento.RETRY);
+            }
+            if (normalizada.contains("timeout")) {
+                tipos.add(TipoEvento.TIMEOUT);
+            }
+            if (normalizada.contains("loop_detectado")) {
+                tipos.add(TipoEvento.LOOP_DETECTADO);
+            }
+            if (normalizada.contains("pagina vazia")) {
+                tipos.add(TipoEvento.PAGINA_VAZIA);
+            }
+            if (normalizada.contains("deduplic")) {
+                tipos.add(TipoEvento.DEDUPLICACAO);
+            }
+            if (normalizada.contains("descart")) {
+                tipos.add(TipoEvento.DESCARTE);
+            }
+        }
+        return tipos;
+    }
+
+    /**
+     * Abre escritor incremental; offsets partem do tamanho atual do log.
+     */
+    public static Escritor abrirEscritor(final Path arquivoLog) throws IOException {
+        final long offsetInicial = Files.exists(arquivoLog) ? Files.size(arquivoLog) : 0L;
+        final BufferedWriter writer = Files.newBufferedWriter(
+            sidecar(arquivoLog),
+            StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND
+        );
+        return new Escritor(writer, offsetInicial);
+    }
+
+    /**
+     * Le os eventos indexados. Vazio indica log sem indice (legado) e o chamador deve varrer o arquivo.
+     */
+    public static Optional<List<Evento>> ler(final Path arquivoLog) {
+        final Path sidecar = sidecar(arquivoLog);
+        if (!Files.isRegularFile(sidecar)) {
+            return Optional.empty();
+        }
+        final List<Evento> eventos = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(sidecar, StandardCharsets.UTF_8)) {
+            String json;
+            while ((json = reader.readLine()) != null) {
+                if (json.isBlank()) {
+                    continue;
+                }
+                try {
+                    eventos.add(converter(MapperUtil.sharedJson().readTree(json)));
+                } catch (final IOException | IllegalArgumentException e) {
+                    // Linha truncada por queda do processo: ignora e segue com as demais.
+                    logger.debug("Evento invalido ignorado em {}: {}", sidecar, e.getMessage());
+                }
+            }
+        } catch (final IOException e) {
+            logger.warn("Falha ao ler indice de eventos {}: {}", sidecar, e.getMessage());
+            return Optional.empty();
+        }
+        return Optional.of(eventos);
+    }
+
+    private static Evento converter(final JsonNode node) {
+        final EnumSet<TipoEvento> tipos = EnumSet.noneOf(TipoEvento.class);
+        node.path("tipos").forEach(tipo -> tipos.add(TipoEvento.valueOf(tipo.asText())));
+        final JsonNode entidade = node.get("entidade");
+        return new Evento(
+            node.path("ts").asText(),
+            tipos,
+            entidade == null || entidade.isNull() ? null : entidade.asText(),
+            node.path("offset").asLong(),
+            node.path("linha").asText()
+        );
+    }
+
+    private static String extrairEntidade(final String linha) {
+        final Matcher matcher = PADRAO_ENTIDADE.matcher(linha);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * Escritor do sidecar. Compartilhavel entre streams que gravam no mesmo log (stdout/stderr).
+     */
+    public static final class Escritor implements Closeable {
+        private final BufferedWriter writer;
+        private long posicao;
+
+        private Escritor(final BufferedWriter writer, final long posicaoInicial) {
+            this.writer = writer;
+            this.posicao = posicaoInicial;
+        }
+
+        /**
+         * Envolve o stream que grava no log, indexando cada linha completa pelo offset em que comecou.
+         */
+        public OutputStream envolver(final OutputStream destino) {
+            return new LinhaIndexadaOutputStream(destino, this);
+        }
+
+        synchronized void registrar(final long offset, final String linha) throws IOException {
+            final String limpa = linha.replace("\r", "").replace("\n", "");
+            final Set<TipoEvento> tipos = classificar(limpa);
+            if (tipos.isEmpty()) {
+                return;
+            }
+            final Map<String, Object> evento = new LinkedHashMap<>();
+            evento.put("ts", RelogioSistema.agora().toString());
+            evento.put("tipos", tipos);
+            evento.put("entidade", extrairEntidade(limpa));
+            evento.put("offset", offset);
+            evento.put("linha", limpa.length() <= MAX_TRECHO ? limpa : limpa.substring(0, MAX_TRECHO));
+            writer.write(MapperUtil.sharedJson().writeValueAsString(evento));
+            writer.newLine();
+            writer.flush();
+        }
+
+        private synchronized long reservar(final int bytes) {
+            final long inicio = posicao;
+            posicao += bytes;
+            return inicio;
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    private static final class LinhaIndexadaOutputStream extends OutputStream {
+        private final OutputStream destino;
+        private final Escritor escritor;
+        private final ByteArrayOutputStream linhaAtual = new ByteArrayOutputStream();
+        private long inicioLinha = -1L;
+
+        private LinhaIndexadaOutputStream(final OutputStream destino, final Escritor escritor) {
+            this.destino = destino;
+            this.escritor = escritor;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public synchronized void write(final byte[] b, final int off, final int len) throws IOException {
+            destino.write(b, off, len);
+            final long offsetBloco = escritor.reservar(len);
+            int inicio = off;
+            for (int i = off; i < off + len; i++) {
+                if (inicioLinha < 0) {
+                    inicioLinha = offsetBloco + (i - off);
+                }
+                if (b[i] == '\n') {
+                    acumular(b, inicio, i - inicio);
+                    concluirLinha();
+                    inicio = i + 1;
+                }
+            }
+            acumular(b, inicio, off + len - inicio);
+        }
+
+        private void acumular(final byte[] b, final int off, final int len) {
+            final int espaco = MAX_BYTES_LINHA - linhaAtual.size();
+            if (len > 0 && espaco > 0) {
+                linhaAtual.write(b, off, Math.min(len, espaco));
+            }
+        }
+
+        private void concluirLinha() throws IOException {
+            try {
+                escritor.registrar(inicioLinha, linhaAtual.toString(StandardCharsets.UTF_8));
+            } catch (final IOException e) {
+                logger.debug("Falha ao indexar linha de log: {}", e.getMessage());
+            }
+            linhaAtual.reset();
+            inicioLinha = -1L;
+        }
+
+        @Override
+        public synchronized void flush() throws IOException {
+            destino.flush();
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (linhaAtual.size() > 0) {
+                concluirLinha();
+            }
+            destino.close();
+        }
+    }
+}
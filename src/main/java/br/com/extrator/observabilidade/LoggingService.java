@@ -21,10 +21,12 @@ Metodos principais:
 - pararCaptura(...1 args): encerra recursos e finaliza operacao com seguranca.
 - centralizarLinha(...1 args): realiza operacao relacionada a "centralizar linha".
 - salvarLogsEmArquivo(...2 args): persiste dados em armazenamento.
+- salvarLogsEmArquivo: grava tambem o indice de eventos (LogEventIndex) ao lado do log.
 - formatarDuracao(...1 args): realiza operacao relacionada a "formatar duracao".
 - formatarTamanho(...1 args): realiza operacao relacionada a "formatar tamanho".
 - formatarNumero(...1 args): realiza operacao relacionada a "formatar numero".
-- contarLinhas(...1 args): realiza operacao relacionada a "contar linhas".
+- abrirSpool(...1 args): cria o arquivo parcial (.part) que recebe a saida capturada.
+- copiarSecao(...4 args): anexa uma secao do spool ao log final sem carregar em memoria.
 - gerarNomeArquivoLog(): realiza operacao relacionada a "gerar nome arquivo log".
 - criarDiretorioLogs(): instancia ou monta estrutura de dados.
 - aplicarRetencaoLogs(): realiza operacao relacionada a "aplicar retencao logs".
@@ -37,8 +39,8 @@ Atributos-chave:
 - MAX_LOG_FILES: campo de estado para "max log files".
 - originalOut: campo de estado para "original out".
 - originalErr: campo de estado para "original err".
-- outputBuffer: campo de estado para "output buffer".
-- errorBuffer: campo de estado para "error buffer".
+- saidaPadrao: spool em disco de System.out (LogCaptureSpool).
+- saidaErro: spool em disco de System.err (LogCaptureSpool).
 - teeOut: campo de estado para "tee out".
 - teeErr: campo de estado para "tee err".
 - nomeOperacao: campo de estado para "nome operacao".
@@ -47,10 +49,12 @@ Atributos-chave:
 
 package br.com.extrator.observabilidade;
 
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintStream;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -79,8 +83,8 @@ public class LoggingService {
     
     private PrintStream originalOut;
     private PrintStream originalErr;
-    private ByteArrayOutputStream outputBuffer;
-    private ByteArrayOutputStream errorBuffer;
+    private LogCaptureSpool saidaPadrao;
+    private LogCaptureSpool saidaErro;
     private PrintStream teeOut;
     private PrintStream teeErr;
     private String nomeOperacao;
@@ -97,17 +101,23 @@ public class LoggingService {
         this.nomeOperacao = nomeOperacao;
         this.inicioOperacao = RelogioSistema.agora();
         
+        // Criar spools em disco para capturar a saída sem acumular a execução inteira no heap
+        try {
+            saidaPadrao = abrirSpool("stdout");
+            saidaErro = abrirSpool("stderr");
+        } catch (final IOException e) {
+            System.err.println("[ERRO] Nao foi possivel iniciar captura de log em arquivo: " + e.getMessage());
+            fecharSpoolsSilenciosamente();
+            return;
+        }
+        
         // Salvar referências originais
         originalOut = System.out;
         originalErr = System.err;
         
-        // Criar buffers para capturar a saída
-        outputBuffer = new ByteArrayOutputStream();
-        errorBuffer = new ByteArrayOutputStream();
-        
-        // Criar PrintStreams que escrevem tanto no console quanto no buffer
-        teeOut = new PrintStream(new TeeOutputStream(originalOut, outputBuffer), true, StandardCharsets.UTF_8);
-        teeErr = new PrintStream(new TeeOutputStream(originalErr, errorBuffer), true, StandardCharsets.UTF_8);
+        // Criar PrintStreams que escrevem tanto no console quanto no spool
+        teeOut = new PrintStream(new TeeOutputStream(originalOut, saidaPadrao), true, StandardCharsets.UTF_8);
+        teeErr = new PrintStream(new TeeOutputStream(originalErr, saidaErro), true, StandardCharsets.UTF_8);
         
         // Redirecionar System.out e System.err
         System.setOut(teeOut);
@@ -178,24 +188,25 @@ public class LoggingService {
         System.setOut(originalOut);
         System.setErr(originalErr);
         
-        // Salvar logs em arquivo
-        salvarLogsEmArquivo(fimOperacao, duracao, statusNormalizado);
-        
-        // Limpar recursos
+        // Concluir spools e salvar logs em arquivo
+        if (teeOut != null) teeOut.close();
+        if (teeErr != null) teeErr.close();
         try {
-            if (teeOut != null) teeOut.close();
-            if (teeErr != null) teeErr.close();
-            if (outputBuffer != null) outputBuffer.close();
-            if (errorBuffer != null) errorBuffer.close();
+            saidaPadrao.close();
+            saidaErro.close();
+            salvarLogsEmArquivo(fimOperacao, duracao, statusNormalizado);
+            Files.deleteIfExists(saidaPadrao.arquivo());
+            Files.deleteIfExists(saidaErro.arquivo());
         } catch (final IOException e) {
-            System.err.println("Erro ao fechar recursos de logging: " + e.getMessage());
+            System.err.println("[ERRO] Erro ao concluir captura de log (parciais mantidos em "
+                + LogStoragePaths.APP_OPERATIONS_DIR.toAbsolutePath() + "): " + e.getMessage());
         }
         
         // Resetar variáveis
         originalOut = null;
         originalErr = null;
-        outputBuffer = null;
-        errorBuffer = null;
+        saidaPadrao = null;
+        saidaErro = null;
         teeOut = null;
         teeErr = null;
         nomeOperacao = null;
@@ -203,19 +214,27 @@ public class LoggingService {
     }
 
     /**
-     * Salva os logs capturados em um arquivo
+     * Salva os logs capturados em um arquivo, montado em streaming a partir dos spools
      */
     private void salvarLogsEmArquivo(
         final LocalDateTime fimOperacao,
         final java.time.Duration duracao,
         final String statusNormalizado
-    ) {
-        try {
-            final String nomeArquivo = gerarNomeArquivoLog();
-            final Path caminhoArquivo = LogStoragePaths.APP_OPERATIONS_DIR.resolve(nomeArquivo);
-            
-            final StringBuilder conteudoLog = new StringBuilder();
-            
+    ) throws IOException {
+        final String nomeArquivo = gerarNomeArquivoLog();
+        final Path caminhoArquivo = LogStoragePaths.APP_OPERATIONS_DIR.resolve(nomeArquivo);
+        Files.deleteIfExists(caminhoArquivo);
+        Files.deleteIfExists(LogEventIndex.sidecar(caminhoArquivo));
+
+        // Estatísticas do log
+        final long tamanhoOutput = saidaPadrao.bytesEscritos();
+        final long tamanhoError = saidaErro.bytesEscritos();
+        final long totalLinhas = saidaPadrao.linhas() + saidaErro.linhas();
+
+        try (LogEventIndex.Escritor indice = LogEventIndex.abrirEscritor(caminhoArquivo);
+             OutputStream arquivo = indice.envolver(Files.newOutputStream(caminhoArquivo));
+             Writer conteudoLog = new BufferedWriter(new OutputStreamWriter(arquivo, StandardCharsets.UTF_8))) {
+
             // Cabecalho do log em ASCII
             conteudoLog.append(SEPARADOR).append("\n");
             conteudoLog.append("LOG DA OPERACAO\n");
@@ -229,15 +248,10 @@ public class LoggingService {
                 .append(statusNormalizado == null || statusNormalizado.isBlank() ? "DESCONHECIDO" : statusNormalizado)
                 .append("\n");
             conteudoLog.append("Arquivo: ").append(nomeArquivo).append("\n");
-            conteudoLog.append("Log runtime detalhado: ").append(caminhoLogRuntime().toAbsolutePath()).append("\n");
+            conteudoLog.append("Log runtime detalhado: ").append(caminhoLogRuntime().toAbsolutePath().toString()).append("\n");
             conteudoLog.append(SEPARADOR_SECAO).append("\n");
             conteudoLog.append("\n");
-            
-            // Estatísticas do log
-            final int tamanhoOutput = outputBuffer.size();
-            final int tamanhoError = errorBuffer.size();
-            final int totalLinhas = contarLinhas(outputBuffer) + contarLinhas(errorBuffer);
-            
+
             conteudoLog.append("ESTATISTICAS DO LOG:\n");
             conteudoLog.append("   - Tamanho da saida padrao: ").append(formatarTamanho(tamanhoOutput)).append("\n");
             conteudoLog.append("   - Tamanho da saida de erro: ").append(formatarTamanho(tamanhoError)).append("\n");
@@ -253,49 +267,68 @@ public class LoggingService {
                 conteudoLog.append("\n");
                 conteudoLog.append(resumoRuntime).append("\n\n");
             }
-            
+
             // Saída padrão (System.out)
-            if (tamanhoOutput > 0) {
-                conteudoLog.append(SEPARADOR).append("\n");
-                conteudoLog.append("SAIDA PADRAO (System.out)\n");
-                conteudoLog.append(SEPARADOR).append("\n");
-                conteudoLog.append("\n");
-                conteudoLog.append(outputBuffer.toString(StandardCharsets.UTF_8));
-                conteudoLog.append("\n");
-            }
-            
+            copiarSecao(conteudoLog, arquivo, "SAIDA PADRAO (System.out)", saidaPadrao);
+
             // Saída de erro (System.err)
-            if (tamanhoError > 0) {
-                conteudoLog.append(SEPARADOR).append("\n");
-                conteudoLog.append("SAIDA DE ERRO (System.err)\n");
-                conteudoLog.append(SEPARADOR).append("\n");
-                conteudoLog.append("\n");
-                conteudoLog.append(errorBuffer.toString(StandardCharsets.UTF_8));
-                conteudoLog.append("\n");
-            }
-            
+            copiarSecao(conteudoLog, arquivo, "SAIDA DE ERRO (System.err)", saidaErro);
+
             // Rodape do log
             conteudoLog.append("\n");
             conteudoLog.append(SEPARADOR).append("\n");
             conteudoLog.append("FIM DO LOG\n");
             conteudoLog.append(SEPARADOR).append("\n");
-            
-            // Escrever arquivo
-            final byte[] bytes = conteudoLog.toString().getBytes(StandardCharsets.UTF_8);
-            Files.write(caminhoArquivo, bytes);
-            final long tamanhoArquivo = Files.size(caminhoArquivo);
-            
-            System.out.println("[OK] Log salvo com sucesso!");
-            System.out.println("   - Arquivo: " + caminhoArquivo.toAbsolutePath());
-            System.out.println("   - Tamanho: " + formatarTamanho((int) tamanhoArquivo));
-            System.out.println("   - Linhas: " + formatarNumero(totalLinhas));
-            System.out.println();
-            
-            aplicarRetencaoLogs();
-            
-        } catch (final IOException e) {
-            System.err.println("[ERRO] Erro ao salvar log em arquivo: " + e.getMessage());
         }
+        final long tamanhoArquivo = Files.size(caminhoArquivo);
+
+        System.out.println("[OK] Log salvo com sucesso!");
+        System.out.println("   - Arquivo: " + caminhoArquivo.toAbsolutePath());
+        System.out.println("   - Tamanho: " + formatarTamanho(tamanhoArquivo));
+        System.out.println("   - Linhas: " + formatarNumero(totalLinhas));
+        System.out.println();
+
+        aplicarRetencaoLogs();
+    }
+
+    /**
+     * Anexa o conteudo de um spool como secao do log final, copiando direto do disco
+     */
+    private void copiarSecao(final Writer conteudoLog,
+                             final OutputStream arquivo,
+                             final String titulo,
+                             final LogCaptureSpool spool) throws IOException {
+        if (spool.bytesEscritos() <= 0) {
+            return;
+        }
+        conteudoLog.append(SEPARADOR).append("\n");
+        conteudoLog.append(titulo).append("\n");
+        conteudoLog.append(SEPARADOR).append("\n");
+        conteudoLog.append("\n");
+        conteudoLog.flush();
+        Files.copy(spool.arquivo(), arquivo);
+        conteudoLog.append("\n");
+    }
+
+    private LogCaptureSpool abrirSpool(final String canal) throws IOException {
+        final String nome = gerarNomeArquivoLog().replaceAll("\\.log$", "") + "." + canal + ".part";
+        return new LogCaptureSpool(LogStoragePaths.APP_OPERATIONS_DIR.resolve(nome));
+    }
+
+    private void fecharSpoolsSilenciosamente() {
+        for (final LogCaptureSpool spool : new LogCaptureSpool[] {saidaPadrao, saidaErro}) {
+            if (spool == null) {
+                continue;
+            }
+            try {
+                spool.close();
+                Files.deleteIfExists(spool.arquivo());
+            } catch (final IOException ignored) {
+                // no-op
+            }
+        }
+        saidaPadrao = null;
+        saidaErro = null;
     }
     
     /**
@@ -319,7 +352,7 @@ public class LoggingService {
     /**
      * Formata tamanho em bytes para formato legível
      */
-    private String formatarTamanho(final int bytes) {
+    private String formatarTamanho(final long bytes) {
         if (bytes < 1024) {
             return bytes + " bytes";
         } else if (bytes < 1024 * 1024) {
@@ -332,25 +365,10 @@ public class LoggingService {
     /**
      * Formata número com separadores de milhares
      */
-    private String formatarNumero(final int numero) {
+    private String formatarNumero(final long numero) {
         return String.format("%,d", numero);
     }
     
-    /**
-     * Conta o número de linhas em um ByteArrayOutputStream
-     */
-    private int contarLinhas(final ByteArrayOutputStream buffer) {
-        if (buffer.size() == 0) {
-            return 0;
-        }
-        try {
-            final String conteudo = buffer.toString(StandardCharsets.UTF_8);
-            return conteudo.split("\r?\n").length;
-        } catch (final Exception e) {
-            return 0;
-        }
-    }
-    
     /**
      * Gera o nome do arquivo de log baseado na operação e timestamp
      */
@@ -429,6 +447,17 @@ public class LoggingService {
             LogStoragePaths.MAX_FILES_PER_BUCKET,
             path -> LogRetentionPolicy.hasExtension(path, ".log")
         );
+        LogRetentionPolicy.retainRecentFiles(
+            LogStoragePaths.APP_OPERATIONS_DIR,
+            LogStoragePaths.MAX_FILES_PER_BUCKET,
+            path -> LogRetentionPolicy.hasExtension(path, LogEventIndex.SUFIXO_SIDECAR)
+        );
+        // Parciais so sobram quando a JVM morre antes do fechamento; ficam para diagnostico.
+        LogRetentionPolicy.retainRecentFiles(
+            LogStoragePaths.APP_OPERATIONS_DIR,
+            LogStoragePaths.MAX_FILES_PER_BUCKET,
+            path -> LogRetentionPolicy.hasExtension(path, ".part")
+        );
     }
     
     /**
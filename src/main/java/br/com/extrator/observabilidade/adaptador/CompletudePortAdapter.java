@@ -19,6 +19,7 @@ Atributos-chave:
 - validator: CompletudeValidator (instancia no-arg).
 Metodos principais:
 - validarCompletudePorLogs(): retorna Map<entidade, StatusCompletude>.
+- validarCompletudeIncremental() / recontarCompletude(): mesma conversao sobre os modos incremental e completo.
 - mapStatus(): converte enum StatusValidacao -> StatusCompletude.
 [DOC-FILE-END]============================================================== */
 package br.com.extrator.observabilidade.adaptador;
@@ -43,8 +44,20 @@ public class CompletudePortAdapter implements CompletudePort {
 
     @Override
     public Map<String, StatusCompletude> validarCompletudePorLogs(final LocalDate dataReferencia) {
-        final Map<String, CompletudeValidator.StatusValidacao> resultado =
-            validator.validarCompletudePorLogs(dataReferencia);
+        return mapResultado(validator.validarCompletudePorLogs(dataReferencia));
+    }
+
+    @Override
+    public Map<String, StatusCompletude> validarCompletudeIncremental() {
+        return mapResultado(validator.validarCompletudeIncremental());
+    }
+
+    @Override
+    public Map<String, StatusCompletude> recontarCompletude(final LocalDate dataReferencia) {
+        return mapResultado(validator.recontarCompletude(dataReferencia));
+    }
+
+    private Map<String, StatusCompletude> mapResultado(final Map<String, CompletudeValidator.StatusValidacao> resultado) {
         return resultado.entrySet().stream()
             .collect(Collectors.toMap(
                 Map.Entry::getKey,
@@ -0,0 +1,223 @@
+package br.com.extrator.observabilidade.servicos;
+
+/* ==[DOC-FILE]===============================================================
+Arquivo : src/main/java/br/com/extrator/observabilidade/servicos/CompletudeIncrementalValidator.java
+Classe  : CompletudeIncrementalValidator (class)
+Pacote  : br.com.extrator.observabilidade.servicos
+Modulo  : Observabilidade - Servico
+Papel   : Valida completude apenas nos dias tocados desde a ultima validacao incremental.
+
+Conecta com:
+- dbo.sys_completude_diaria (contadores mantidos por AbstractRepository.salvar)
+- dbo.log_extracoes (unique_count/db_upserts tipados como referencia)
+
+Fluxo geral:
+1) Seleciona (entidade, data de negocio) com operacoes_pendentes desde a ultima validacao OK.
+2) Soma as pendencias da entidade e agrega a referencia dos logs terminados depois de validado_em.
+3) Compara unique_count dos logs COMPLETO com as operacoes confirmadas pendentes.
+4) Na entidade OK, abate as pendencias lidas e carimba validado_em com o ultimo log consumido.
+5) Entidades divergentes ou inconclusivas seguem pendentes; entidades sem pendencia ficam OK.
+
+Estrutura interna:
+Metodos principais:
+- validar(...2 args): retorna status por entidade ou vazio se os contadores nao existem.
+- marcarRecontagem(...2 args): carimba recontado_em apos recontagem completa.
+[DOC-FILE-END]============================================================== */
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+
+/**
+ * Validacao incremental de completude baseada nos contadores diarios de dbo.sys_completude_diaria.
+ */
+class CompletudeIncrementalValidator {
+    private static final String SQL_DIAS_PENDENTES = """
+        SELECT c.entidade, c.data_referencia, c.operacoes_pendentes
+        FROM dbo.sys_completude_diaria c
+        WHERE c.operacoes_pendentes > 0
+        """;
+    private static final String SQL_ULTIMA_VALIDACAO = """
+        SELECT MAX(c.validado_em) AS validado_em
+        FROM dbo.sys_completude_diaria c
+        WHERE c.entidade = ?
+        """;
+    private static final String SQL_REFERENCIA = """
+        SELECT SUM(CASE WHEN l.status_final = 'COMPLETO' THEN CAST(l.unique_count AS BIGINT) ELSE 0 END) AS unique_completo,
+               SUM(CASE WHEN l.status_final <> 'COMPLETO' THEN CAST(COALESCE(l.db_upserts, 0) AS BIGINT) ELSE 0 END) AS upserts_nao_completo,
+               SUM(CASE WHEN l.status_final = 'COMPLETO' THEN 1 ELSE 0 END) AS logs_completos,
+               SUM(CASE WHEN l.status_final = 'COMPLETO' AND l.unique_count IS NULL THEN 1 ELSE 0 END) AS logs_legados,
+               MAX(l.timestamp_fim) AS ultimo_fim
+        FROM dbo.log_extracoes l
+        WHERE l.entidade = ?
+          AND l.timestamp_fim > ?
+        """;
+    // Abate o que foi lido, e nao zera: um commit entre a leitura e o carimbo segue pendente.
+    private static final String SQL_MARCAR_VALIDADO = """
+        UPDATE dbo.sys_completude_diaria
+        SET operacoes_pendentes = operacoes_pendentes - ?,
+            validado_em = ?
+        WHERE entidade = ? AND data_referencia = ?
+        """;
+    private static final Timestamp SEM_VALIDACAO_ANTERIOR = Timestamp.valueOf(LocalDate.of(1900, 1, 1).atStartOfDay());
+
+    private record DiaPendente(LocalDate dia, long pendentes) {
+    }
+
+    private final Logger logger;
+
+    CompletudeIncrementalValidator(final Logger logger) {
+        this.logger = logger;
+    }
+
+    Optional<Map<String, CompletudeValidator.StatusValidacao>> validar(final Connection conexao,
+                                                                      final Set<String> entidades) throws SQLException {
+        if (!colunaExiste(conexao, "sys_completude_diaria", "operacoes_pendentes")) {
+            return Optional.empty();
+        }
+
+        final Map<String, CompletudeValidator.StatusValidacao> resultado = new LinkedHashMap<>();
+        entidades.forEach(entidade -> resultado.put(entidade, CompletudeValidator.StatusValidacao.OK));
+        int entidadesAvaliadas = 0;
+
+        for (final Map.Entry<String, List<DiaPendente>> pendencia : listarDiasPendentes(conexao, resultado.keySet()).entrySet()) {
+            final String entidade = pendencia.getKey();
+            final List<DiaPendente> dias = pendencia.getValue();
+            final Timestamp ultimaValidacao = lerUltimaValidacao(conexao, entidade);
+            try (PreparedStatement stmt = conexao.prepareStatement(SQL_REFERENCIA)) {
+                stmt.setString(1, entidade);
+                stmt.setTimestamp(2, ultimaValidacao == null ? SEM_VALIDACAO_ANTERIOR : ultimaValidacao);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (!rs.next()) {
+                        continue;
+                    }
+                    final long referencia = rs.getLong("unique_completo");
+                    final long upsertsNaoCompleto = rs.getLong("upserts_nao_completo");
+                    final int logsCompletos = rs.getInt("logs_completos");
+                    final int logsLegados = rs.getInt("logs_legados");
+                    final Timestamp ultimoFim = rs.getTimestamp("ultimo_fim");
+
+                    if (logsCompletos == 0 || logsLegados > 0) {
+                        logger.warn(
+                            "Completude incremental inconclusiva para {} desde {} (logs_completos={}, logs_legados={}); use a recontagem completa.",
+                            entidade,
+                            ultimaValidacao,
+                            logsCompletos,
+                            logsLegados
+                        );
+                        continue;
+                    }
+
+                    // Commits de execucoes que nao fecharam COMPLETO nao tem unique_count de referencia.
+                    final long pendentes = dias.stream().mapToLong(DiaPendente::pendentes).sum();
+                    final long banco = Math.max(0L, pendentes - upsertsNaoCompleto);
+                    final CompletudeValidator.StatusValidacao status = determinarStatus(referencia, banco);
+                    resultado.put(entidade, status);
+                    entidadesAvaliadas++;
+                    logger.info("Completude incremental {} ({} dia(s) de negocio): referencia={}, confirmadas={} -> {}",
+                        entidade, dias.size(), referencia, banco, status);
+                    if (status == CompletudeValidator.StatusValidacao.OK) {
+                        marcarValidado(conexao, entidade, dias, ultimoFim);
+                    }
+                }
+            }
+        }
+
+        logger.info("Completude incremental concluida: {} entidade(s) com pendencias revalidada(s).", entidadesAvaliadas);
+        return Optional.of(resultado);
+    }
+
+    void marcarRecontagem(final Connection conexao, final LocalDate dataReferencia) throws SQLException {
+        final String sql = """
+            IF OBJECT_ID(N'dbo.sys_completude_diaria', N'U') IS NOT NULL
+                UPDATE dbo.sys_completude_diaria
+                SET recontado_em = SYSDATETIME()
+                WHERE data_referencia = ?
+            """;
+        try (PreparedStatement stmt = conexao.prepareStatement(sql)) {
+            stmt.setDate(1, Date.valueOf(dataReferencia));
+            stmt.executeUpdate();
+        }
+    }
+
+    private static CompletudeValidator.StatusValidacao determinarStatus(final long referencia, final long banco) {
+        if (referencia == banco) {
+            return CompletudeValidator.StatusValidacao.OK;
+        }
+        return banco < referencia
+            ? CompletudeValidator.StatusValidacao.INCOMPLETO
+            : CompletudeValidator.StatusValidacao.DUPLICADOS;
+    }
+
+    private Map<String, List<DiaPendente>> listarDiasPendentes(final Connection conexao,
+                                                               final Set<String> entidades) throws SQLException {
+        final Map<String, List<DiaPendente>> dias = new LinkedHashMap<>();
+        try (PreparedStatement stmt = conexao.prepareStatement(SQL_DIAS_PENDENTES);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                final String entidade = rs.getString("entidade");
+                if (entidades.contains(entidade)) {
+                    dias.computeIfAbsent(entidade, ignorado -> new ArrayList<>()).add(new DiaPendente(
+                        rs.getDate("data_referencia").toLocalDate(),
+                        rs.getLong("operacoes_pendentes")
+                    ));
+                }
+            }
+        }
+        return dias;
+    }
+
+    private Timestamp lerUltimaValidacao(final Connection conexao, final String entidade) throws SQLException {
+        try (PreparedStatement stmt = conexao.prepareStatement(SQL_ULTIMA_VALIDACAO)) {
+            stmt.setString(1, entidade);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getTimestamp("validado_em") : null;
+            }
+        }
+    }
+
+    private void marcarValidado(final Connection conexao,
+                                final String entidade,
+                                final List<DiaPendente> dias,
+                                final Timestamp ultimoFim) throws SQLException {
+        try (PreparedStatement stmt = conexao.prepareStatement(SQL_MARCAR_VALIDADO)) {
+            for (final DiaPendente dia : dias) {
+                stmt.setLong(1, dia.pendentes());
+                stmt.setTimestamp(2, ultimoFim);
+                stmt.setString(3, entidade);
+                stmt.setDate(4, Date.valueOf(dia.dia()));
+                stmt.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * Sem operacoes_pendentes (migration 057 pendente) a validacao incremental fica indisponivel.
+     */
+    boolean colunaExiste(final Connection conexao, final String nomeTabela, final String nomeColuna) throws SQLException {
+        final String sql = """
+            SELECT COUNT(*)
+            FROM INFORMATION_SCHEMA.COLUMNS
+            WHERE TABLE_NAME = ? AND COLUMN_NAME = ? AND TABLE_SCHEMA = 'dbo'
+        """;
+        try (PreparedStatement stmt = conexao.prepareStatement(sql)) {
+            stmt.setString(1, nomeTabela);
+            stmt.setString(2, nomeColuna);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() && rs.getInt(1) > 0;
+            }
+        }
+    }
+}
@@ -23,6 +23,8 @@ Metodos principais:
 - buscarTotaisEslCloud(...1 args): consulta e retorna dados conforme criterio.
 - validarCompletudePorLogs(...1 args): aplica regras de validacao e consistencia.
 - validarCompletude(...3 args): aplica regras de validacao e consistencia.
+- validarCompletudeIncremental(): valida so os dias tocados desde a ultima validacao incremental.
+- recontarCompletude(...1 args): recontagem completa (COUNT no destino) sob demanda/fechamento mensal.
 - extrairMetricaInteira(...2 args): realiza operacao relacionada a "extrair metrica inteira".
 - determinarStatusValidacao(...2 args): realiza operacao relacionada a "determinar status validacao".
 - obterIconeStatus(...1 args): recupera dados configurados ou calculados.
@@ -46,6 +48,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashMap;
@@ -60,7 +63,11 @@ import org.slf4j.LoggerFactory;
 
 import br.com.extrator.integracao.ClienteApiDataExport;
 import br.com.extrator.integracao.ClienteApiGraphQL;
+import br.com.extrator.integracao.graphql.ProjecaoGraphQL;
+import br.com.extrator.persistencia.entidade.LogExtracaoEntity;
+import br.com.extrator.persistencia.repositorio.LogExtracaoRepository;
 import br.com.extrator.suporte.banco.GerenciadorConexao;
+import br.com.extrator.suporte.tempo.RelogioSistema;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
 
 /**
@@ -85,6 +92,8 @@ public class CompletudeValidator {
     private final ClienteApiDataExport clienteApiDataExport;
     private final CompletudeGapValidator gapValidator;
     private final CompletudeJanelaTemporalValidator janelaTemporalValidator;
+    private final CompletudeIncrementalValidator incrementalValidator;
+    private final LogExtracaoRepository logExtracaoRepository;
     
     // Mapeamento de entidades para nomes de tabelas no banco
     private static final Map<String, String> MAPEAMENTO_ENTIDADES_TABELAS = Map.of(
@@ -107,6 +116,8 @@ public class CompletudeValidator {
         this.clienteApiGraphQL = new ClienteApiGraphQL();
         this.clienteApiDataExport = new ClienteApiDataExport();
         this.gapValidator = new CompletudeGapValidator(logger);
+        this.logExtracaoRepository = new LogExtracaoRepository();
+        this.incrementalValidator = new CompletudeIncrementalValidator(logger);
         this.janelaTemporalValidator =
             new CompletudeJanelaTemporalValidator(logger, clienteApiGraphQL, clienteApiDataExport);
         
@@ -125,6 +136,8 @@ public class CompletudeValidator {
         this.clienteApiGraphQL = clienteApiGraphQL;
         this.clienteApiDataExport = clienteApiDataExport;
         this.gapValidator = new CompletudeGapValidator(logger);
+        this.logExtracaoRepository = new LogExtracaoRepository();
+        this.incrementalValidator = new CompletudeIncrementalValidator(logger);
         this.janelaTemporalValidator =
             new CompletudeJanelaTemporalValidator(logger, clienteApiGraphQL, clienteApiDataExport);
         
@@ -153,11 +166,13 @@ public class CompletudeValidator {
             // === API GraphQL - Fretes e Coletas ===
             logger.info("ÃƒÂ°Ã…Â¸Ã¢â‚¬Å“Ã…Â  Buscando contagens via API GraphQL...");
             
-            final var resFretes = clienteApiGraphQL.buscarFretes(dataReferencia);
+            final var resFretes = clienteApiGraphQL.buscarChavesFretes(
+                dataReferencia.minusDays(1), dataReferencia, ProjecaoGraphQL.CHAVES);
             totaisEslCloud.put(ConstantesEntidades.FRETES, resFretes.getRegistrosExtraidos());
             logger.info("ÃƒÂ¢Ã…â€œÃ¢â‚¬Â¦ Fretes: {} registros", resFretes.getRegistrosExtraidos());
             
-            final var resColetas = clienteApiGraphQL.buscarColetas(dataReferencia);
+            final var resColetas = clienteApiGraphQL.buscarChavesColetas(
+                dataReferencia.minusDays(1), dataReferencia, ProjecaoGraphQL.CHAVES);
             totaisEslCloud.put(ConstantesEntidades.COLETAS, resColetas.getRegistrosExtraidos());
             logger.info("ÃƒÂ¢Ã…â€œÃ¢â‚¬Â¦ Coletas: {} registros", resColetas.getRegistrosExtraidos());
 
@@ -246,10 +261,53 @@ public class CompletudeValidator {
      */
     public Map<String, StatusValidacao> validarCompletude(final Map<String, Integer> totaisEslCloud, 
                                                          final LocalDate dataReferencia) {
+        return validarCompletude(totaisEslCloud, dataReferencia, false);
+    }
+
+    /**
+     * Valida somente as operacoes confirmadas desde a ultima validacao incremental OK de cada entidade,
+     * usando os contadores por data de negocio de dbo.sys_completude_diaria. Sem a tabela ou sem
+     * operacoes_pendentes (migrations 051/057 pendentes), cai na validacao por logs do dia corrente.
+     */
+    public Map<String, StatusValidacao> validarCompletudeIncremental() {
+        try (Connection conexao = GerenciadorConexao.obterConexao()) {
+            final Optional<Map<String, StatusValidacao>> resultado =
+                incrementalValidator.validar(conexao, MAPEAMENTO_ENTIDADES_TABELAS.keySet());
+            if (resultado.isPresent()) {
+                return resultado.get();
+            }
+            logger.warn("dbo.sys_completude_diaria indisponivel; usando validacao por logs do dia.");
+        } catch (final SQLException e) {
+            logger.warn("Falha na validacao incremental de completude; usando validacao por logs do dia: {}", e.getMessage());
+        }
+        return validarCompletudePorLogs(RelogioSistema.hoje());
+    }
+
+    /**
+     * Recontagem completa: ignora db_upserts tipado e conta o destino na janela do ultimo log
+     * COMPLETO de cada entidade. Usada sob demanda e no fechamento mensal.
+     */
+    public Map<String, StatusValidacao> recontarCompletude(final LocalDate dataReferencia) {
+        logger.info("Iniciando recontagem completa de completude para data: {}", dataReferencia);
+        final Map<String, StatusValidacao> resultado = validarCompletude(Collections.emptyMap(), dataReferencia, true);
+        try (Connection conexao = GerenciadorConexao.obterConexao()) {
+            incrementalValidator.marcarRecontagem(conexao, dataReferencia);
+        } catch (final SQLException e) {
+            logger.warn("Nao foi possivel carimbar recontagem em sys_completude_diaria: {}", e.getMessage());
+        }
+        return resultado;
+    }
+
+    private Map<String, StatusValidacao> validarCompletude(final Map<String, Integer> totaisEslCloud,
+                                                          final LocalDate dataReferencia,
+                                                          final boolean forcarRecontagem) {
         logger.info("ÃƒÂ°Ã…Â¸Ã¢â‚¬ÂÃ‚Â Iniciando validaÃƒÆ’Ã‚Â§ÃƒÆ’Ã‚Â£o de completude para {} entidades na data: {}", 
                 MAPEAMENTO_ENTIDADES_TABELAS.size(), dataReferencia);
         
         final Map<String, StatusValidacao> resultadosValidacao = new HashMap<>();
+        // Uma unica consulta traz o ultimo log COMPLETO de cada entidade com as metricas tipadas.
+        final Map<String, LogExtracaoEntity> logsCompletos =
+            logExtracaoRepository.buscarUltimosLogsCompletosPorData(dataReferencia);
         
         try (Connection conexao = GerenciadorConexao.obterConexao()) {
             
@@ -260,38 +318,23 @@ public class CompletudeValidator {
                     continue;
                 }
                 try {
-                    final String sqlLog = """
-                        SELECT TOP 1 timestamp_inicio, timestamp_fim, registros_extraidos, mensagem
-                        FROM dbo.log_extracoes
-                        WHERE entidade = ? AND CAST(timestamp_inicio AS DATE) = ? AND status_final = 'COMPLETO'
-                        ORDER BY timestamp_fim DESC
-                    """;
-                    java.sql.Timestamp tsInicio = null;
-                    java.sql.Timestamp tsFim = null;
-                    String mensagemLog = null;
+                    final LogExtracaoEntity logCompleto = logsCompletos.get(nomeEntidade);
                     int contagemEslCloud = -1;
-                    try (PreparedStatement stmtLog = conexao.prepareStatement(sqlLog)) {
-                        stmtLog.setString(1, nomeEntidade);
-                        stmtLog.setDate(2, java.sql.Date.valueOf(dataReferencia));
-                        try (ResultSet rsLog = stmtLog.executeQuery()) {
-                            if (rsLog.next()) {
-                                tsInicio = rsLog.getTimestamp("timestamp_inicio");
-                                tsFim = rsLog.getTimestamp("timestamp_fim");
-                                contagemEslCloud = rsLog.getInt("registros_extraidos");
-                                mensagemLog = rsLog.getString("mensagem");
-                                final OptionalInt uniqueCount = extrairMetricaInteira(mensagemLog, PADRAO_UNIQUE_COUNT);
-                                if (uniqueCount.isPresent()) {
-                                    contagemEslCloud = uniqueCount.getAsInt();
-                                }
-                            }
-                        }
+                    if (logCompleto != null) {
+                        contagemEslCloud = resolverMetrica(
+                            logCompleto.getUniqueCount(),
+                            logCompleto.getMensagem(),
+                            PADRAO_UNIQUE_COUNT
+                        ).orElse(logCompleto.getRegistrosExtraidos() == null ? 0 : logCompleto.getRegistrosExtraidos());
                     }
 
                     int contagemBanco;
-                    final OptionalInt dbUpserts = extrairMetricaInteira(mensagemLog, PADRAO_DB_UPSERTS);
+                    final OptionalInt dbUpserts = logCompleto == null || forcarRecontagem
+                        ? OptionalInt.empty()
+                        : resolverMetrica(logCompleto.getDbUpserts(), logCompleto.getMensagem(), PADRAO_DB_UPSERTS);
                     if (dbUpserts.isPresent()) {
                         contagemBanco = dbUpserts.getAsInt();
-                    } else if (tsInicio != null && tsFim != null) {
+                    } else if (logCompleto != null) {
                         final String colunaTemporal = ConstantesEntidades.USUARIOS_SISTEMA.equals(nomeEntidade)
                             ? "data_atualizacao"
                             : "data_extracao";
@@ -302,8 +345,8 @@ public class CompletudeValidator {
                             colunaTemporal
                         );
                         try (PreparedStatement stmtDb = conexao.prepareStatement(sqlDb)) {
-                            stmtDb.setTimestamp(1, tsInicio);
-                            stmtDb.setTimestamp(2, tsFim);
+                            stmtDb.setTimestamp(1, Timestamp.valueOf(logCompleto.getTimestampInicio()));
+                            stmtDb.setTimestamp(2, Timestamp.valueOf(logCompleto.getTimestampFim()));
                             try (ResultSet rsDb = stmtDb.executeQuery()) {
                                 rsDb.next();
                                 contagemBanco = rsDb.getInt(1);
@@ -364,6 +407,17 @@ public class CompletudeValidator {
         return resultadosValidacao;
     }
 
+    /**
+     * Prefere a coluna tipada de log_extracoes; a mensagem so e consultada para linhas legadas
+     * gravadas antes da migration 050.
+     */
+    private OptionalInt resolverMetrica(final Integer valorTipado, final String mensagem, final Pattern padrao) {
+        if (valorTipado != null) {
+            return OptionalInt.of(valorTipado);
+        }
+        return extrairMetricaInteira(mensagem, padrao);
+    }
+
     private OptionalInt extrairMetricaInteira(final String mensagem, final Pattern padrao) {
         if (mensagem == null || mensagem.isBlank()) {
             return OptionalInt.empty();
@@ -442,11 +496,13 @@ public class CompletudeValidator {
         try {
             logger.info("Buscando contagens via API GraphQL...");
 
-            final var resFretes = clienteApiGraphQL.buscarFretes(dataReferencia);
+            final var resFretes = clienteApiGraphQL.buscarChavesFretes(
+                dataReferencia.minusDays(1), dataReferencia, ProjecaoGraphQL.CHAVES);
             totaisEslCloud.put(ConstantesEntidades.FRETES, resFretes.getRegistrosExtraidos());
             logger.info("GraphQL fretes: {} registros", resFretes.getRegistrosExtraidos());
 
-            final var resColetas = clienteApiGraphQL.buscarColetas(dataReferencia);
+            final var resColetas = clienteApiGraphQL.buscarChavesColetas(
+                dataReferencia.minusDays(1), dataReferencia, ProjecaoGraphQL.CHAVES);
             totaisEslCloud.put(ConstantesEntidades.COLETAS, resColetas.getRegistrosExtraidos());
             logger.info("GraphQL coletas: {} registros", resColetas.getRegistrosExtraidos());
 
@@ -52,6 +52,8 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 
+import br.com.extrator.persistencia.entidade.LinhaCompacta.TipoColuna;
+
 /**
  * Entity (Entidade) que representa uma linha na tabela 'fretes' do banco de dados.
  * Contém os campos-chave "promovidos" para acesso rápido e indexação,
@@ -59,621 +61,636 @@ import java.time.OffsetDateTime;
  * 100% de completude e resiliência a futuras mudanças na API.
  */
 public class FreteEntity {
+    private static final LinhaCompacta.Construtor COLUNAS = LinhaCompacta.construtor();
 
     // --- Coluna de Chave Primária ---
-    private Long id;
+    private static final int ID = COLUNAS.coluna("id", TipoColuna.LONG);
 
     // --- Colunas Essenciais para Indexação e Relatórios ---
-    private OffsetDateTime servicoEm;
-    private OffsetDateTime criadoEm;
-    private String status;
-    private Boolean cortesia;
-    private String modal;
-    private String tipoFrete;
-    private Long accountingCreditId;
-    private Long accountingCreditInstallmentId;
-    private BigDecimal valorTotal;
-    private BigDecimal valorNotas;
-    private BigDecimal pesoNotas;
-    private Long idCorporacao;
-    private Long idCidadeDestino;
-    private LocalDate dataPrevisaoEntrega;
-    private LocalDate serviceDate;
-    private OffsetDateTime finishedAt;
-    private OffsetDateTime fitDpnPerformanceFinishedAt;
-    private Long corporationSequenceNumber;
-    private Long pickItemId;
+    private static final int SERVICO_EM = COLUNAS.coluna("servico_em", TipoColuna.DATA_HORA);
+    private static final int CRIADO_EM = COLUNAS.coluna("criado_em", TipoColuna.DATA_HORA);
+    private static final int STATUS = COLUNAS.coluna("status", TipoColuna.TEXTO);
+    private static final int CORTESIA = COLUNAS.coluna("cortesia", TipoColuna.BOOLEANO);
+    private static final int MODAL = COLUNAS.coluna("modal", TipoColuna.TEXTO);
+    private static final int TIPO_FRETE = COLUNAS.coluna("tipo_frete", TipoColuna.TEXTO);
+    private static final int ACCOUNTING_CREDIT_ID = COLUNAS.coluna("accounting_credit_id", TipoColuna.LONG);
+    private static final int ACCOUNTING_CREDIT_INSTALLMENT_ID = COLUNAS.coluna("accounting_credit_installment_id", TipoColuna.LONG);
+    private static final int VALOR_TOTAL = COLUNAS.coluna("valor_total", TipoColuna.DECIMAL);
+    private static final int VALOR_NOTAS = COLUNAS.coluna("valor_notas", TipoColuna.DECIMAL);
+    private static final int PESO_NOTAS = COLUNAS.coluna("peso_notas", TipoColuna.DECIMAL);
+    private static final int ID_CORPORACAO = COLUNAS.coluna("id_corporacao", TipoColuna.LONG);
+    private static final int ID_CIDADE_DESTINO = COLUNAS.coluna("id_cidade_destino", TipoColuna.LONG);
+    private static final int DATA_PREVISAO_ENTREGA = COLUNAS.coluna("data_previsao_entrega", TipoColuna.DATA);
+    private static final int SERVICE_DATE = COLUNAS.coluna("service_date", TipoColuna.DATA);
+    private static final int FINISHED_AT = COLUNAS.coluna("finished_at", TipoColuna.DATA_HORA);
+    private static final int FIT_DPN_PERFORMANCE_FINISHED_AT = COLUNAS.coluna("fit_dpn_performance_finished_at", TipoColuna.DATA_HORA);
+    private static final int CORPORATION_SEQUENCE_NUMBER = COLUNAS.coluna("corporation_sequence_number", TipoColuna.LONG);
+    private static final int PICK_ITEM_ID = COLUNAS.coluna("pick_item_id", TipoColuna.LONG);
 
     // --- Campos Expandidos (22 campos do CSV) ---
-    private Long pagadorId;
-    private String pagadorNome;
-    private Long remetenteId;
-    private String remetenteNome;
-    private String origemCidade;
-    private String origemUf;
-    private Long destinatarioId;
-    private String destinatarioNome;
-    private String destinoCidade;
-    private String destinoUf;
-    private String filialNome;
-    private String numeroNotaFiscal;
-    private String tabelaPrecoNome;
-    private String classificacaoNome;
-    private String centroCustoNome;
-    private String usuarioNome;
-    private String referenceNumber;
-    private Integer invoicesTotalVolumes;
-    private BigDecimal taxedWeight;
-    private BigDecimal realWeight;
-    private BigDecimal cubagesCubedWeight;
-    private BigDecimal totalCubicVolume;
-    private BigDecimal subtotal;
-
-    private String chaveCte;
-    private Integer numeroCte;
-    private Integer serieCte;
-    private OffsetDateTime cteIssuedAt;
-
-    private Integer serviceType;
-    private Boolean insuranceEnabled;
-    private BigDecimal grisSubtotal;
-    private BigDecimal tdeSubtotal;
-    private String modalCte;
-    private BigDecimal redispatchSubtotal;
-    private BigDecimal suframaSubtotal;
-    private String paymentType;
-    private String previousDocumentType;
-    private BigDecimal productsValue;
-    private BigDecimal trtSubtotal;
-    private BigDecimal freightWeightSubtotal;
-    private BigDecimal adValoremSubtotal;
-    private BigDecimal tollSubtotal;
-    private BigDecimal itrSubtotal;
-    private String nfseSeries;
-    private Integer nfseNumber;
-    private String nfseIntegrationId;
-    private String nfseStatus;
-    private java.time.LocalDate nfseIssuedAt;
-    private String nfseCancelationReason;
-    private String nfsePdfServiceUrl;
-    private Long nfseCorporationId;
-    private String nfseServiceDescription;
-    private String nfseXmlDocument;
-    private Long insuranceId;
-    private BigDecimal otherFees;
-    private BigDecimal km;
-    private Integer paymentAccountableType;
-    private BigDecimal insuredValue;
-    private Boolean globalized;
-    private BigDecimal secCatSubtotal;
-    private String globalizedType;
-    private Integer priceTableAccountableType;
-    private Integer insuranceAccountableType;
-
-    private String filialCnpj;
-    private String remetenteDocumento;
-    private String destinatarioDocumento;
-    private String pagadorDocumento;
-
-    private String fiscalCstType;
-    private String fiscalCfopCode;
-    private BigDecimal fiscalTaxValue;
-    private BigDecimal fiscalPisValue;
-    private BigDecimal fiscalCofinsValue;
-
-    private BigDecimal fiscalCalculationBasis;
-    private BigDecimal fiscalTaxRate;
-    private BigDecimal fiscalPisRate;
-    private BigDecimal fiscalCofinsRate;
-    private Boolean fiscalHasDifal;
-    private BigDecimal fiscalDifalOrigin;
-    private BigDecimal fiscalDifalDestination;
-
-    private Long cteId;
-    private String cteEmissionType;
-    private OffsetDateTime cteCreatedAt;
-
-    private String filialApelido;
+    private static final int PAGADOR_ID = COLUNAS.coluna("pagador_id", TipoColuna.LONG);
+    private static final int PAGADOR_NOME = COLUNAS.coluna("pagador_nome", TipoColuna.TEXTO);
+    private static final int REMETENTE_ID = COLUNAS.coluna("remetente_id", TipoColuna.LONG);
+    private static final int REMETENTE_NOME = COLUNAS.coluna("remetente_nome", TipoColuna.TEXTO);
+    private static final int ORIGEM_CIDADE = COLUNAS.coluna("origem_cidade", TipoColuna.TEXTO);
+    private static final int ORIGEM_UF = COLUNAS.coluna("origem_uf", TipoColuna.TEXTO);
+    private static final int DESTINATARIO_ID = COLUNAS.coluna("destinatario_id", TipoColuna.LONG);
+    private static final int DESTINATARIO_NOME = COLUNAS.coluna("destinatario_nome", TipoColuna.TEXTO);
+    private static final int DESTINO_CIDADE = COLUNAS.coluna("destino_cidade", TipoColuna.TEXTO);
+    private static final int DESTINO_UF = COLUNAS.coluna("destino_uf", TipoColuna.TEXTO);
+    private static final int FILIAL_NOME = COLUNAS.coluna("filial_nome", TipoColuna.TEXTO);
+    private static final int NUMERO_NOTA_FISCAL = COLUNAS.coluna("numero_nota_fiscal", TipoColuna.TEXTO);
+    private static final int TABELA_PRECO_NOME = COLUNAS.coluna("tabela_preco_nome", TipoColuna.TEXTO);
+    private static final int CLASSIFICACAO_NOME = COLUNAS.coluna("classificacao_nome", TipoColuna.TEXTO);
+    private static final int CENTRO_CUSTO_NOME = COLUNAS.coluna("centro_custo_nome", TipoColuna.TEXTO);
+    private static final int USUARIO_NOME = COLUNAS.coluna("usuario_nome", TipoColuna.TEXTO);
+    private static final int REFERENCE_NUMBER = COLUNAS.coluna("reference_number", TipoColuna.TEXTO);
+    private static final int INVOICES_TOTAL_VOLUMES = COLUNAS.coluna("invoices_total_volumes", TipoColuna.INTEIRO);
+    private static final int TAXED_WEIGHT = COLUNAS.coluna("taxed_weight", TipoColuna.DECIMAL);
+    private static final int REAL_WEIGHT = COLUNAS.coluna("real_weight", TipoColuna.DECIMAL);
+    private static final int CUBAGES_CUBED_WEIGHT = COLUNAS.coluna("cubages_cubed_weight", TipoColuna.DECIMAL);
+    private static final int TOTAL_CUBIC_VOLUME = COLUNAS.coluna("total_cubic_volume", TipoColuna.DECIMAL);
+    private static final int SUBTOTAL = COLUNAS.coluna("subtotal", TipoColuna.DECIMAL);
+
+    private static final int CHAVE_CTE = COLUNAS.coluna("chave_cte", TipoColuna.TEXTO);
+    private static final int NUMERO_CTE = COLUNAS.coluna("numero_cte", TipoColuna.INTEIRO);
+    private static final int SERIE_CTE = COLUNAS.coluna("serie_cte", TipoColuna.INTEIRO);
+    private static final int CTE_ISSUED_AT = COLUNAS.coluna("cte_issued_at", TipoColuna.DATA_HORA);
+
+    private static final int SERVICE_TYPE = COLUNAS.coluna("service_type", TipoColuna.INTEIRO);
+    private static final int INSURANCE_ENABLED = COLUNAS.coluna("insurance_enabled", TipoColuna.BOOLEANO);
+    private static final int GRIS_SUBTOTAL = COLUNAS.coluna("gris_subtotal", TipoColuna.DECIMAL);
+    private static final int TDE_SUBTOTAL = COLUNAS.coluna("tde_subtotal", TipoColuna.DECIMAL);
+    private static final int MODAL_CTE = COLUNAS.coluna("modal_cte", TipoColuna.TEXTO);
+    private static final int REDISPATCH_SUBTOTAL = COLUNAS.coluna("redispatch_subtotal", TipoColuna.DECIMAL);
+    private static final int SUFRAMA_SUBTOTAL = COLUNAS.coluna("suframa_subtotal", TipoColuna.DECIMAL);
+    private static final int PAYMENT_TYPE = COLUNAS.coluna("payment_type", TipoColuna.TEXTO);
+    private static final int PREVIOUS_DOCUMENT_TYPE = COLUNAS.coluna("previous_document_type", TipoColuna.TEXTO);
+    private static final int PRODUCTS_VALUE = COLUNAS.coluna("products_value", TipoColuna.DECIMAL);
+    private static final int TRT_SUBTOTAL = COLUNAS.coluna("trt_subtotal", TipoColuna.DECIMAL);
+    private static final int FREIGHT_WEIGHT_SUBTOTAL = COLUNAS.coluna("freight_weight_subtotal", TipoColuna.DECIMAL);
+    private static final int AD_VALOREM_SUBTOTAL = COLUNAS.coluna("ad_valorem_subtotal", TipoColuna.DECIMAL);
+    private static final int TOLL_SUBTOTAL = COLUNAS.coluna("toll_subtotal", TipoColuna.DECIMAL);
+    private static final int ITR_SUBTOTAL = COLUNAS.coluna("itr_subtotal", TipoColuna.DECIMAL);
+    private static final int NFSE_SERIES = COLUNAS.coluna("nfse_series", TipoColuna.TEXTO);
+    private static final int NFSE_NUMBER = COLUNAS.coluna("nfse_number", TipoColuna.INTEIRO);
+    private static final int NFSE_INTEGRATION_ID = COLUNAS.coluna("nfse_integration_id", TipoColuna.TEXTO);
+    private static final int NFSE_STATUS = COLUNAS.coluna("nfse_status", TipoColuna.TEXTO);
+    private static final int NFSE_ISSUED_AT = COLUNAS.coluna("nfse_issued_at", TipoColuna.DATA);
+    private static final int NFSE_CANCELATION_REASON = COLUNAS.coluna("nfse_cancelation_reason", TipoColuna.TEXTO);
+    private static final int NFSE_PDF_SERVICE_URL = COLUNAS.coluna("nfse_pdf_service_url", TipoColuna.TEXTO);
+    private static final int NFSE_CORPORATION_ID = COLUNAS.coluna("nfse_corporation_id", TipoColuna.LONG);
+    private static final int NFSE_SERVICE_DESCRIPTION = COLUNAS.coluna("nfse_service_description", TipoColuna.TEXTO);
+    private static final int NFSE_XML_DOCUMENT = COLUNAS.coluna("nfse_xml_document", TipoColuna.TEXTO);
+    private static final int INSURANCE_ID = COLUNAS.coluna("insurance_id", TipoColuna.LONG);
+    private static final int OTHER_FEES = COLUNAS.coluna("other_fees", TipoColuna.DECIMAL);
+    private static final int KM = COLUNAS.coluna("km", TipoColuna.DECIMAL);
+    private static final int PAYMENT_ACCOUNTABLE_TYPE = COLUNAS.coluna("payment_accountable_type", TipoColuna.INTEIRO);
+    private static final int INSURED_VALUE = COLUNAS.coluna("insured_value", TipoColuna.DECIMAL);
+    private static final int GLOBALIZED = COLUNAS.coluna("globalized", TipoColuna.BOOLEANO);
+    private static final int SEC_CAT_SUBTOTAL = COLUNAS.coluna("sec_cat_subtotal", TipoColuna.DECIMAL);
+    private static final int GLOBALIZED_TYPE = COLUNAS.coluna("globalized_type", TipoColuna.TEXTO);
+    private static final int PRICE_TABLE_ACCOUNTABLE_TYPE = COLUNAS.coluna("price_table_accountable_type", TipoColuna.INTEIRO);
+    private static final int INSURANCE_ACCOUNTABLE_TYPE = COLUNAS.coluna("insurance_accountable_type", TipoColuna.INTEIRO);
+
+    private static final int FILIAL_CNPJ = COLUNAS.coluna("filial_cnpj", TipoColuna.TEXTO);
+    private static final int REMETENTE_DOCUMENTO = COLUNAS.coluna("remetente_documento", TipoColuna.TEXTO);
+    private static final int DESTINATARIO_DOCUMENTO = COLUNAS.coluna("destinatario_documento", TipoColuna.TEXTO);
+    private static final int PAGADOR_DOCUMENTO = COLUNAS.coluna("pagador_documento", TipoColuna.TEXTO);
+
+    private static final int FISCAL_CST_TYPE = COLUNAS.coluna("fiscal_cst_type", TipoColuna.TEXTO);
+    private static final int FISCAL_CFOP_CODE = COLUNAS.coluna("fiscal_cfop_code", TipoColuna.TEXTO);
+    private static final int FISCAL_TAX_VALUE = COLUNAS.coluna("fiscal_tax_value", TipoColuna.DECIMAL);
+    private static final int FISCAL_PIS_VALUE = COLUNAS.coluna("fiscal_pis_value", TipoColuna.DECIMAL);
+    private static final int FISCAL_COFINS_VALUE = COLUNAS.coluna("fiscal_cofins_value", TipoColuna.DECIMAL);
+
+    private static final int FISCAL_CALCULATION_BASIS = COLUNAS.coluna("fiscal_calculation_basis", TipoColuna.DECIMAL);
+    private static final int FISCAL_TAX_RATE = COLUNAS.coluna("fiscal_tax_rate", TipoColuna.DECIMAL);
+    private static final int FISCAL_PIS_RATE = COLUNAS.coluna("fiscal_pis_rate", TipoColuna.DECIMAL);
+    private static final int FISCAL_COFINS_RATE = COLUNAS.coluna("fiscal_cofins_rate", TipoColuna.DECIMAL);
+    private static final int FISCAL_HAS_DIFAL = COLUNAS.coluna("fiscal_has_difal", TipoColuna.BOOLEANO);
+    private static final int FISCAL_DIFAL_ORIGIN = COLUNAS.coluna("fiscal_difal_origin", TipoColuna.DECIMAL);
+    private static final int FISCAL_DIFAL_DESTINATION = COLUNAS.coluna("fiscal_difal_destination", TipoColuna.DECIMAL);
+
+    private static final int CTE_ID = COLUNAS.coluna("cte_id", TipoColuna.LONG);
+    private static final int CTE_EMISSION_TYPE = COLUNAS.coluna("cte_emission_type", TipoColuna.TEXTO);
+    private static final int CTE_CREATED_AT = COLUNAS.coluna("cte_created_at", TipoColuna.DATA_HORA);
+
+    private static final int FILIAL_APELIDO = COLUNAS.coluna("filial_apelido", TipoColuna.TEXTO);
 
     // --- Coluna de Metadados ---
-    private String metadata;
+    private static final int METADATA = COLUNAS.coluna("metadata", TipoColuna.TEXTO);
+
+    /**
+     * Layout da linha compacta, com os nomes de coluna de dbo.fretes.
+     */
+    public static final LinhaCompacta.Layout LAYOUT = COLUNAS.construir();
+
+    private final LinhaCompacta linha = new LinhaCompacta(LAYOUT);
     private boolean excluidoNaOrigem;
 
+    /**
+     * Valores da linha por indice de coluna, para o repositorio vincular sem passar pelos getters.
+     */
+    public LinhaCompacta linhaCompacta() {
+        return linha;
+    }
+
     // --- Getters e Setters ---
 
     public Long getId() {
-        return id;
+        return linha.getLong(ID);
     }
 
     public void setId(final Long id) {
-        this.id = id;
+        linha.setLong(ID, id);
     }
 
     public OffsetDateTime getServicoEm() {
-        return servicoEm;
+        return linha.getDataHora(SERVICO_EM);
     }
 
     public void setServicoEm(final OffsetDateTime servicoEm) {
-        this.servicoEm = servicoEm;
+        linha.setDataHora(SERVICO_EM, servicoEm);
     }
 
     public OffsetDateTime getCriadoEm() {
-        return criadoEm;
+        return linha.getDataHora(CRIADO_EM);
     }
 
     public void setCriadoEm(final OffsetDateTime criadoEm) {
-        this.criadoEm = criadoEm;
+        linha.setDataHora(CRIADO_EM, criadoEm);
     }
 
     public String getStatus() {
-        return status;
+        return linha.getTexto(STATUS);
     }
 
     public void setStatus(final String status) {
-        this.status = status;
+        linha.setTexto(STATUS, status);
     }
 
     public Boolean getCortesia() {
-        return cortesia;
+        return linha.getBooleano(CORTESIA);
     }
 
     public void setCortesia(final Boolean cortesia) {
-        this.cortesia = cortesia;
+        linha.setBooleano(CORTESIA, cortesia);
     }
 
     public String getModal() {
-        return modal;
+        return linha.getTexto(MODAL);
     }
 
     public void setModal(final String modal) {
-        this.modal = modal;
+        linha.setTexto(MODAL, modal);
     }
 
     public String getTipoFrete() {
-        return tipoFrete;
+        return linha.getTexto(TIPO_FRETE);
     }
 
     public void setTipoFrete(final String tipoFrete) {
-        this.tipoFrete = tipoFrete;
+        linha.setTexto(TIPO_FRETE, tipoFrete);
     }
 
     public Long getAccountingCreditId() {
-        return accountingCreditId;
+        return linha.getLong(ACCOUNTING_CREDIT_ID);
     }
     public void setAccountingCreditId(final Long accountingCreditId) {
-        this.accountingCreditId = accountingCreditId;
+        linha.setLong(ACCOUNTING_CREDIT_ID, accountingCreditId);
     }
     public Long getAccountingCreditInstallmentId() {
-        return accountingCreditInstallmentId;
+        return linha.getLong(ACCOUNTING_CREDIT_INSTALLMENT_ID);
     }
     public void setAccountingCreditInstallmentId(final Long accountingCreditInstallmentId) {
-        this.accountingCreditInstallmentId = accountingCreditInstallmentId;
+        linha.setLong(ACCOUNTING_CREDIT_INSTALLMENT_ID, accountingCreditInstallmentId);
     }
 
     public BigDecimal getValorTotal() {
-        return valorTotal;
+        return linha.getDecimal(VALOR_TOTAL);
     }
 
     public void setValorTotal(final BigDecimal valorTotal) {
-        this.valorTotal = valorTotal;
+        linha.setDecimal(VALOR_TOTAL, valorTotal);
     }
 
     public BigDecimal getValorNotas() {
-        return valorNotas;
+        return linha.getDecimal(VALOR_NOTAS);
     }
 
     public void setValorNotas(final BigDecimal valorNotas) {
-        this.valorNotas = valorNotas;
+        linha.setDecimal(VALOR_NOTAS, valorNotas);
     }
 
     public BigDecimal getPesoNotas() {
-        return pesoNotas;
+        return linha.getDecimal(PESO_NOTAS);
     }
 
     public void setPesoNotas(final BigDecimal pesoNotas) {
-        this.pesoNotas = pesoNotas;
+        linha.setDecimal(PESO_NOTAS, pesoNotas);
     }
 
     public Long getIdCorporacao() {
-        return idCorporacao;
+        return linha.getLong(ID_CORPORACAO);
     }
 
     public void setIdCorporacao(final Long idCorporacao) {
-        this.idCorporacao = idCorporacao;
+        linha.setLong(ID_CORPORACAO, idCorporacao);
     }
 
     public Long getIdCidadeDestino() {
-        return idCidadeDestino;
+        return linha.getLong(ID_CIDADE_DESTINO);
     }
 
     public void setIdCidadeDestino(final Long idCidadeDestino) {
-        this.idCidadeDestino = idCidadeDestino;
+        linha.setLong(ID_CIDADE_DESTINO, idCidadeDestino);
     }
 
     public LocalDate getDataPrevisaoEntrega() {
-        return dataPrevisaoEntrega;
+        return linha.getData(DATA_PREVISAO_ENTREGA);
     }
 
     public void setDataPrevisaoEntrega(final LocalDate dataPrevisaoEntrega) {
-        this.dataPrevisaoEntrega = dataPrevisaoEntrega;
+        linha.setData(DATA_PREVISAO_ENTREGA, dataPrevisaoEntrega);
     }
 
     public LocalDate getServiceDate() {
-        return serviceDate;
+        return linha.getData(SERVICE_DATE);
     }
 
     public void setServiceDate(final LocalDate serviceDate) {
-        this.serviceDate = serviceDate;
+        linha.setData(SERVICE_DATE, serviceDate);
     }
 
     public OffsetDateTime getFinishedAt() {
-        return finishedAt;
+        return linha.getDataHora(FINISHED_AT);
     }
 
     public void setFinishedAt(final OffsetDateTime finishedAt) {
-        this.finishedAt = finishedAt;
+        linha.setDataHora(FINISHED_AT, finishedAt);
     }
 
     public OffsetDateTime getFitDpnPerformanceFinishedAt() {
-        return fitDpnPerformanceFinishedAt;
+        return linha.getDataHora(FIT_DPN_PERFORMANCE_FINISHED_AT);
     }
 
     public void setFitDpnPerformanceFinishedAt(final OffsetDateTime fitDpnPerformanceFinishedAt) {
-        this.fitDpnPerformanceFinishedAt = fitDpnPerformanceFinishedAt;
+        linha.setDataHora(FIT_DPN_PERFORMANCE_FINISHED_AT, fitDpnPerformanceFinishedAt);
     }
 
     public Long getCorporationSequenceNumber() {
-        return corporationSequenceNumber;
+        return linha.getLong(CORPORATION_SEQUENCE_NUMBER);
     }
 
     public void setCorporationSequenceNumber(final Long corporationSequenceNumber) {
-        this.corporationSequenceNumber = corporationSequenceNumber;
+        linha.setLong(CORPORATION_SEQUENCE_NUMBER, corporationSequenceNumber);
     }
 
     public Long getPickItemId() {
-        return pickItemId;
+        return linha.getLong(PICK_ITEM_ID);
     }
 
     public void setPickItemId(final Long pickItemId) {
-        this.pickItemId = pickItemId;
+        linha.setLong(PICK_ITEM_ID, pickItemId);
     }
 
     // --- Getters e Setters para Campos Expandidos ---
 
     public Long getPagadorId() {
-        return pagadorId;
+        return linha.getLong(PAGADOR_ID);
     }
 
     public void setPagadorId(Long pagadorId) {
-        this.pagadorId = pagadorId;
+        linha.setLong(PAGADOR_ID, pagadorId);
     }
 
     public String getPagadorNome() {
-        return pagadorNome;
+        return linha.getTexto(PAGADOR_NOME);
     }
 
     public void setPagadorNome(String pagadorNome) {
-        this.pagadorNome = pagadorNome;
+        linha.setTexto(PAGADOR_NOME, pagadorNome);
     }
 
     public Long getRemetenteId() {
-        return remetenteId;
+        return linha.getLong(REMETENTE_ID);
     }
 
     public void setRemetenteId(Long remetenteId) {
-        this.remetenteId = remetenteId;
+        linha.setLong(REMETENTE_ID, remetenteId);
     }
 
     public String getRemetenteNome() {
-        return remetenteNome;
+        return linha.getTexto(REMETENTE_NOME);
     }
 
     public void setRemetenteNome(String remetenteNome) {
-        this.remetenteNome = remetenteNome;
+        linha.setTexto(REMETENTE_NOME, remetenteNome);
     }
 
     public String getOrigemCidade() {
-        return origemCidade;
+        return linha.getTexto(ORIGEM_CIDADE);
     }
 
     public void setOrigemCidade(String origemCidade) {
-        this.origemCidade = origemCidade;
+        linha.setTexto(ORIGEM_CIDADE, origemCidade);
     }
 
     public String getOrigemUf() {
-        return origemUf;
+        return linha.getTexto(ORIGEM_UF);
     }
 
     public void setOrigemUf(String origemUf) {
-        this.origemUf = origemUf;
+        linha.setTexto(ORIGEM_UF, origemUf);
     }
 
     public Long getDestinatarioId() {
-        return destinatarioId;
+        return linha.getLong(DESTINATARIO_ID);
     }
 
     public void setDestinatarioId(Long destinatarioId) {
-        this.destinatarioId = destinatarioId;
+        linha.setLong(DESTINATARIO_ID, destinatarioId);
     }
 
     public String getDestinatarioNome() {
-        return destinatarioNome;
+        return linha.getTexto(DESTINATARIO_NOME);
     }
 
     public void setDestinatarioNome(String destinatarioNome) {
-        this.destinatarioNome = destinatarioNome;
+        linha.setTexto(DESTINATARIO_NOME, destinatarioNome);
     }
 
     public String getDestinoCidade() {
-        return destinoCidade;
+        return linha.getTexto(DESTINO_CIDADE);
     }
 
     public void setDestinoCidade(String destinoCidade) {
-        this.destinoCidade = destinoCidade;
+        linha.setTexto(DESTINO_CIDADE, destinoCidade);
     }
 
     public String getDestinoUf() {
-        return destinoUf;
+        return linha.getTexto(DESTINO_UF);
     }
 
     public void setDestinoUf(String destinoUf) {
-        this.destinoUf = destinoUf;
+        linha.setTexto(DESTINO_UF, destinoUf);
     }
 
     public String getFilialNome() {
-        return filialNome;
+        return linha.getTexto(FILIAL_NOME);
     }
 
     public void setFilialNome(String filialNome) {
-        this.filialNome = filialNome;
+        linha.setTexto(FILIAL_NOME, filialNome);
     }
 
     public String getNumeroNotaFiscal() {
-        return numeroNotaFiscal;
+        return linha.getTexto(NUMERO_NOTA_FISCAL);
     }
 
     public void setNumeroNotaFiscal(String numeroNotaFiscal) {
-        this.numeroNotaFiscal = numeroNotaFiscal;
+        linha.setTexto(NUMERO_NOTA_FISCAL, numeroNotaFiscal);
     }
 
     public String getTabelaPrecoNome() {
-        return tabelaPrecoNome;
+        return linha.getTexto(TABELA_PRECO_NOME);
     }
 
     public void setTabelaPrecoNome(String tabelaPrecoNome) {
-        this.tabelaPrecoNome = tabelaPrecoNome;
+        linha.setTexto(TABELA_PRECO_NOME, tabelaPrecoNome);
     }
 
     public String getClassificacaoNome() {
-        return classificacaoNome;
+        return linha.getTexto(CLASSIFICACAO_NOME);
     }
 
     public void setClassificacaoNome(String classificacaoNome) {
-        this.classificacaoNome = classificacaoNome;
+        linha.setTexto(CLASSIFICACAO_NOME, classificacaoNome);
     }
 
     public String getCentroCustoNome() {
-        return centroCustoNome;
+        return linha.getTexto(CENTRO_CUSTO_NOME);
     }
 
     public void setCentroCustoNome(String centroCustoNome) {
-        this.centroCustoNome = centroCustoNome;
+        linha.setTexto(CENTRO_CUSTO_NOME, centroCustoNome);
     }
 
     public String getUsuarioNome() {
-        return usuarioNome;
+        return linha.getTexto(USUARIO_NOME);
     }
 
     public void setUsuarioNome(String usuarioNome) {
-        this.usuarioNome = usuarioNome;
+        linha.setTexto(USUARIO_NOME, usuarioNome);
     }
 
     public String getReferenceNumber() {
-        return referenceNumber;
+        return linha.getTexto(REFERENCE_NUMBER);
     }
 
     public void setReferenceNumber(String referenceNumber) {
-        this.referenceNumber = referenceNumber;
+        linha.setTexto(REFERENCE_NUMBER, referenceNumber);
     }
 
     public Integer getInvoicesTotalVolumes() {
-        return invoicesTotalVolumes;
+        return linha.getInteiro(INVOICES_TOTAL_VOLUMES);
     }
 
     public void setInvoicesTotalVolumes(Integer invoicesTotalVolumes) {
-        this.invoicesTotalVolumes = invoicesTotalVolumes;
+        linha.setInteiro(INVOICES_TOTAL_VOLUMES, invoicesTotalVolumes);
     }
 
     public BigDecimal getTaxedWeight() {
-        return taxedWeight;
+        return linha.getDecimal(TAXED_WEIGHT);
     }
 
     public void setTaxedWeight(BigDecimal taxedWeight) {
-        this.taxedWeight = taxedWeight;
+        linha.setDecimal(TAXED_WEIGHT, taxedWeight);
     }
 
     public BigDecimal getRealWeight() {
-        return realWeight;
+        return linha.getDecimal(REAL_WEIGHT);
     }
 
     public void setRealWeight(BigDecimal realWeight) {
-        this.realWeight = realWeight;
+        linha.setDecimal(REAL_WEIGHT, realWeight);
     }
 
     public BigDecimal getCubagesCubedWeight() {
-        return cubagesCubedWeight;
+        return linha.getDecimal(CUBAGES_CUBED_WEIGHT);
     }
 
     public void setCubagesCubedWeight(BigDecimal cubagesCubedWeight) {
-        this.cubagesCubedWeight = cubagesCubedWeight;
+        linha.setDecimal(CUBAGES_CUBED_WEIGHT, cubagesCubedWeight);
     }
 
     public BigDecimal getTotalCubicVolume() {
-        return totalCubicVolume;
+        return linha.getDecimal(TOTAL_CUBIC_VOLUME);
     }
 
     public void setTotalCubicVolume(BigDecimal totalCubicVolume) {
-        this.totalCubicVolume = totalCubicVolume;
+        linha.setDecimal(TOTAL_CUBIC_VOLUME, totalCubicVolume);
     }
 
     public BigDecimal getSubtotal() {
-        return subtotal;
+        return linha.getDecimal(SUBTOTAL);
     }
 
     public void setSubtotal(BigDecimal subtotal) {
-        this.subtotal = subtotal;
+        linha.setDecimal(SUBTOTAL, subtotal);
     }
 
     public String getChaveCte() {
-        return chaveCte;
+        return linha.getTexto(CHAVE_CTE);
     }
 
     public void setChaveCte(final String chaveCte) {
-        this.chaveCte = chaveCte;
+        linha.setTexto(CHAVE_CTE, chaveCte);
     }
 
     public Integer getNumeroCte() {
-        return numeroCte;
+        return linha.getInteiro(NUMERO_CTE);
     }
 
     public void setNumeroCte(final Integer numeroCte) {
-        this.numeroCte = numeroCte;
+        linha.setInteiro(NUMERO_CTE, numeroCte);
     }
 
     public Integer getSerieCte() {
-        return serieCte;
+        return linha.getInteiro(SERIE_CTE);
     }
 
     public void setSerieCte(final Integer serieCte) {
-        this.serieCte = serieCte;
-    }
-
-    public OffsetDateTime getCteIssuedAt() { return cteIssuedAt; }
-    public void setCteIssuedAt(final OffsetDateTime cteIssuedAt) { this.cteIssuedAt = cteIssuedAt; }
-
-    public Integer getServiceType() { return serviceType; }
-    public void setServiceType(final Integer serviceType) { this.serviceType = serviceType; }
-    public Boolean getInsuranceEnabled() { return insuranceEnabled; }
-    public void setInsuranceEnabled(final Boolean insuranceEnabled) { this.insuranceEnabled = insuranceEnabled; }
-    public BigDecimal getGrisSubtotal() { return grisSubtotal; }
-    public void setGrisSubtotal(final BigDecimal grisSubtotal) { this.grisSubtotal = grisSubtotal; }
-    public BigDecimal getTdeSubtotal() { return tdeSubtotal; }
-    public void setTdeSubtotal(final BigDecimal tdeSubtotal) { this.tdeSubtotal = tdeSubtotal; }
-    public String getModalCte() { return modalCte; }
-    public void setModalCte(final String modalCte) { this.modalCte = modalCte; }
-    public BigDecimal getRedispatchSubtotal() { return redispatchSubtotal; }
-    public void setRedispatchSubtotal(final BigDecimal redispatchSubtotal) { this.redispatchSubtotal = redispatchSubtotal; }
-    public BigDecimal getSuframaSubtotal() { return suframaSubtotal; }
-    public void setSuframaSubtotal(final BigDecimal suframaSubtotal) { this.suframaSubtotal = suframaSubtotal; }
-    public String getPaymentType() { return paymentType; }
-    public void setPaymentType(final String paymentType) { this.paymentType = paymentType; }
-    public String getPreviousDocumentType() { return previousDocumentType; }
-    public void setPreviousDocumentType(final String previousDocumentType) { this.previousDocumentType = previousDocumentType; }
-    public BigDecimal getProductsValue() { return productsValue; }
-    public void setProductsValue(final BigDecimal productsValue) { this.productsValue = productsValue; }
-    public BigDecimal getTrtSubtotal() { return trtSubtotal; }
-    public void setTrtSubtotal(final BigDecimal trtSubtotal) { this.trtSubtotal = trtSubtotal; }
-
-    public BigDecimal getFreightWeightSubtotal() { return freightWeightSubtotal; }
-    public void setFreightWeightSubtotal(final BigDecimal freightWeightSubtotal) { this.freightWeightSubtotal = freightWeightSubtotal; }
-    public BigDecimal getAdValoremSubtotal() { return adValoremSubtotal; }
-    public void setAdValoremSubtotal(final BigDecimal adValoremSubtotal) { this.adValoremSubtotal = adValoremSubtotal; }
-    public BigDecimal getTollSubtotal() { return tollSubtotal; }
-    public void setTollSubtotal(final BigDecimal tollSubtotal) { this.tollSubtotal = tollSubtotal; }
-    public BigDecimal getItrSubtotal() { return itrSubtotal; }
-    public void setItrSubtotal(final BigDecimal itrSubtotal) { this.itrSubtotal = itrSubtotal; }
-    public String getNfseSeries() { return nfseSeries; }
-    public void setNfseSeries(final String nfseSeries) { this.nfseSeries = nfseSeries; }
-    public Integer getNfseNumber() { return nfseNumber; }
-    public void setNfseNumber(final Integer nfseNumber) { this.nfseNumber = nfseNumber; }
-    public String getNfseIntegrationId() { return nfseIntegrationId; }
-    public void setNfseIntegrationId(final String nfseIntegrationId) { this.nfseIntegrationId = nfseIntegrationId; }
-    public String getNfseStatus() { return nfseStatus; }
-    public void setNfseStatus(final String nfseStatus) { this.nfseStatus = nfseStatus; }
-    public java.time.LocalDate getNfseIssuedAt() { return nfseIssuedAt; }
-    public void setNfseIssuedAt(final java.time.LocalDate nfseIssuedAt) { this.nfseIssuedAt = nfseIssuedAt; }
-    public String getNfseCancelationReason() { return nfseCancelationReason; }
-    public void setNfseCancelationReason(final String nfseCancelationReason) { this.nfseCancelationReason = nfseCancelationReason; }
-    public String getNfsePdfServiceUrl() { return nfsePdfServiceUrl; }
-    public void setNfsePdfServiceUrl(final String nfsePdfServiceUrl) { this.nfsePdfServiceUrl = nfsePdfServiceUrl; }
-    public Long getNfseCorporationId() { return nfseCorporationId; }
-    public void setNfseCorporationId(final Long nfseCorporationId) { this.nfseCorporationId = nfseCorporationId; }
-    public String getNfseServiceDescription() { return nfseServiceDescription; }
-    public void setNfseServiceDescription(final String nfseServiceDescription) { this.nfseServiceDescription = nfseServiceDescription; }
-    public String getNfseXmlDocument() { return nfseXmlDocument; }
-    public void setNfseXmlDocument(final String nfseXmlDocument) { this.nfseXmlDocument = nfseXmlDocument; }
-    public Long getInsuranceId() { return insuranceId; }
-    public void setInsuranceId(final Long insuranceId) { this.insuranceId = insuranceId; }
-    public BigDecimal getOtherFees() { return otherFees; }
-    public void setOtherFees(final BigDecimal otherFees) { this.otherFees = otherFees; }
-    public BigDecimal getKm() { return km; }
-    public void setKm(final BigDecimal km) { this.km = km; }
-    public Integer getPaymentAccountableType() { return paymentAccountableType; }
-    public void setPaymentAccountableType(final Integer paymentAccountableType) { this.paymentAccountableType = paymentAccountableType; }
-    public BigDecimal getInsuredValue() { return insuredValue; }
-    public void setInsuredValue(final BigDecimal insuredValue) { this.insuredValue = insuredValue; }
-    public Boolean getGlobalized() { return globalized; }
-    public void setGlobalized(final Boolean globalized) { this.globalized = globalized; }
-    public BigDecimal getSecCatSubtotal() { return secCatSubtotal; }
-    public void setSecCatSubtotal(final BigDecimal secCatSubtotal) { this.secCatSubtotal = secCatSubtotal; }
-    public String getGlobalizedType() { return globalizedType; }
-    public void setGlobalizedType(final String globalizedType) { this.globalizedType = globalizedType; }
-    public Integer getPriceTableAccountableType() { return priceTableAccountableType; }
-    public void setPriceTableAccountableType(final Integer priceTableAccountableType) { this.priceTableAccountableType = priceTableAccountableType; }
-    public Integer getInsuranceAccountableType() { return insuranceAccountableType; }
-    public void setInsuranceAccountableType(final Integer insuranceAccountableType) { this.insuranceAccountableType = insuranceAccountableType; }
-
-    public String getFilialCnpj() { return filialCnpj; }
-    public void setFilialCnpj(final String filialCnpj) { this.filialCnpj = filialCnpj; }
-    public String getRemetenteDocumento() { return remetenteDocumento; }
-    public void setRemetenteDocumento(final String remetenteDocumento) { this.remetenteDocumento = remetenteDocumento; }
-    public String getDestinatarioDocumento() { return destinatarioDocumento; }
-    public void setDestinatarioDocumento(final String destinatarioDocumento) { this.destinatarioDocumento = destinatarioDocumento; }
-    public String getPagadorDocumento() { return pagadorDocumento; }
-    public void setPagadorDocumento(final String pagadorDocumento) { this.pagadorDocumento = pagadorDocumento; }
-
-    public String getFiscalCstType() { return fiscalCstType; }
-    public void setFiscalCstType(final String fiscalCstType) { this.fiscalCstType = fiscalCstType; }
-    public String getFiscalCfopCode() { return fiscalCfopCode; }
-    public void setFiscalCfopCode(final String fiscalCfopCode) { this.fiscalCfopCode = fiscalCfopCode; }
-    public BigDecimal getFiscalTaxValue() { return fiscalTaxValue; }
-    public void setFiscalTaxValue(final BigDecimal fiscalTaxValue) { this.fiscalTaxValue = fiscalTaxValue; }
-    public BigDecimal getFiscalPisValue() { return fiscalPisValue; }
-    public void setFiscalPisValue(final BigDecimal fiscalPisValue) { this.fiscalPisValue = fiscalPisValue; }
-    public BigDecimal getFiscalCofinsValue() { return fiscalCofinsValue; }
-    public void setFiscalCofinsValue(final BigDecimal fiscalCofinsValue) { this.fiscalCofinsValue = fiscalCofinsValue; }
-
-    public BigDecimal getFiscalCalculationBasis() { return fiscalCalculationBasis; }
-    public void setFiscalCalculationBasis(final BigDecimal fiscalCalculationBasis) { this.fiscalCalculationBasis = fiscalCalculationBasis; }
-    public BigDecimal getFiscalTaxRate() { return fiscalTaxRate; }
-    public void setFiscalTaxRate(final BigDecimal fiscalTaxRate) { this.fiscalTaxRate = fiscalTaxRate; }
-    public BigDecimal getFiscalPisRate() { return fiscalPisRate; }
-    public void setFiscalPisRate(final BigDecimal fiscalPisRate) { this.fiscalPisRate = fiscalPisRate; }
-    public BigDecimal getFiscalCofinsRate() { return fiscalCofinsRate; }
-    public void setFiscalCofinsRate(final BigDecimal fiscalCofinsRate) { this.fiscalCofinsRate = fiscalCofinsRate; }
-    public Boolean getFiscalHasDifal() { return fiscalHasDifal; }
-    public void setFiscalHasDifal(final Boolean fiscalHasDifal) { this.fiscalHasDifal = fiscalHasDifal; }
-    public BigDecimal getFiscalDifalOrigin() { return fiscalDifalOrigin; }
-    public void setFiscalDifalOrigin(final BigDecimal fiscalDifalOrigin) { this.fiscalDifalOrigin = fiscalDifalOrigin; }
-    public BigDecimal getFiscalDifalDestination() { return fiscalDifalDestination; }
-    public void setFiscalDifalDestination(final BigDecimal fiscalDifalDestination) { this.fiscalDifalDestination = fiscalDifalDestination; }
-
-    public Long getCteId() { return cteId; }
-    public void setCteId(final Long cteId) { this.cteId = cteId; }
-    public String getCteEmissionType() { return cteEmissionType; }
-    public void setCteEmissionType(final String cteEmissionType) { this.cteEmissionType = cteEmissionType; }
-    public OffsetDateTime getCteCreatedAt() { return cteCreatedAt; }
-    public void setCteCreatedAt(final OffsetDateTime cteCreatedAt) { this.cteCreatedAt = cteCreatedAt; }
-
-    public String getFilialApelido() { return filialApelido; }
-    public void setFilialApelido(final String filialApelido) { this.filialApelido = filialApelido; }
+        linha.setInteiro(SERIE_CTE, serieCte);
+    }
+
+    public OffsetDateTime getCteIssuedAt() { return linha.getDataHora(CTE_ISSUED_AT); }
+    public void setCteIssuedAt(final OffsetDateTime cteIssuedAt) { linha.setDataHora(CTE_ISSUED_AT, cteIssuedAt); }
+
+    public Integer getServiceType() { return linha.getInteiro(SERVICE_TYPE); }
+    public void setServiceType(final Integer serviceType) { linha.setInteiro(SERVICE_TYPE, serviceType); }
+    public Boolean getInsuranceEnabled() { return linha.getBooleano(INSURANCE_ENABLED); }
+    public void setInsuranceEnabled(final Boolean insuranceEnabled) { linha.setBooleano(INSURANCE_ENABLED, insuranceEnabled); }
+    public BigDecimal getGrisSubtotal() { return linha.getDecimal(GRIS_SUBTOTAL); }
+    public void setGrisSubtotal(final BigDecimal grisSubtotal) { linha.setDecimal(GRIS_SUBTOTAL, grisSubtotal); }
+    public BigDecimal getTdeSubtotal() { return linha.getDecimal(TDE_SUBTOTAL); }
+    public void setTdeSubtotal(final BigDecimal tdeSubtotal) { linha.setDecimal(TDE_SUBTOTAL, tdeSubtotal); }
+    public String getModalCte() { return linha.getTexto(MODAL_CTE); }
+    public void setModalCte(final String modalCte) { linha.setTexto(MODAL_CTE, modalCte); }
+    public BigDecimal getRedispatchSubtotal() { return linha.getDecimal(REDISPATCH_SUBTOTAL); }
+    public void setRedispatchSubtotal(final BigDecimal redispatchSubtotal) { linha.setDecimal(REDISPATCH_SUBTOTAL, redispatchSubtotal); }
+    public BigDecimal getSuframaSubtotal() { return linha.getDecimal(SUFRAMA_SUBTOTAL); }
+    public void setSuframaSubtotal(final BigDecimal suframaSubtotal) { linha.setDecimal(SUFRAMA_SUBTOTAL, suframaSubtotal); }
+    public String getPaymentType() { return linha.getTexto(PAYMENT_TYPE); }
+    public void setPaymentType(final String paymentType) { linha.setTexto(PAYMENT_TYPE, paymentType); }
+    public String getPreviousDocumentType() { return linha.getTexto(PREVIOUS_DOCUMENT_TYPE); }
+    public void setPreviousDocumentType(final String previousDocumentType) { linha.setTexto(PREVIOUS_DOCUMENT_TYPE, previousDocumentType); }
+    public BigDecimal getProductsValue() { return linha.getDecimal(PRODUCTS_VALUE); }
+    public void setProductsValue(final BigDecimal productsValue) { linha.setDecimal(PRODUCTS_VALUE, productsValue); }
+    public BigDecimal getTrtSubtotal() { return linha.getDecimal(TRT_SUBTOTAL); }
+    public void setTrtSubtotal(final BigDecimal trtSubtotal) { linha.setDecimal(TRT_SUBTOTAL, trtSubtotal); }
+
+    public BigDecimal getFreightWeightSubtotal() { return linha.getDecimal(FREIGHT_WEIGHT_SUBTOTAL); }
+    public void setFreightWeightSubtotal(final BigDecimal freightWeightSubtotal) { linha.setDecimal(FREIGHT_WEIGHT_SUBTOTAL, freightWeightSubtotal); }
+    public BigDecimal getAdValoremSubtotal() { return linha.getDecimal(AD_VALOREM_SUBTOTAL); }
+    public void setAdValoremSubtotal(final BigDecimal adValoremSubtotal) { linha.setDecimal(AD_VALOREM_SUBTOTAL, adValoremSubtotal); }
+    public BigDecimal getTollSubtotal() { return linha.getDecimal(TOLL_SUBTOTAL); }
+    public void setTollSubtotal(final BigDecimal tollSubtotal) { linha.setDecimal(TOLL_SUBTOTAL, tollSubtotal); }
+    public BigDecimal getItrSubtotal() { return linha.getDecimal(ITR_SUBTOTAL); }
+    public void setItrSubtotal(final BigDecimal itrSubtotal) { linha.setDecimal(ITR_SUBTOTAL, itrSubtotal); }
+    public String getNfseSeries() { return linha.getTexto(NFSE_SERIES); }
+    public void setNfseSeries(final String nfseSeries) { linha.setTexto(NFSE_SERIES, nfseSeries); }
+    public Integer getNfseNumber() { return linha.getInteiro(NFSE_NUMBER); }
+    public void setNfseNumber(final Integer nfseNumber) { linha.setInteiro(NFSE_NUMBER, nfseNumber); }
+    public String getNfseIntegrationId() { return linha.getTexto(NFSE_INTEGRATION_ID); }
+    public void setNfseIntegrationId(final String nfseIntegrationId) { linha.setTexto(NFSE_INTEGRATION_ID, nfseIntegrationId); }
+    public String getNfseStatus() { return linha.getTexto(NFSE_STATUS); }
+    public void setNfseStatus(final String nfseStatus) { linha.setTexto(NFSE_STATUS, nfseStatus); }
+    public java.time.LocalDate getNfseIssuedAt() { return linha.getData(NFSE_ISSUED_AT); }
+    public void setNfseIssuedAt(final java.time.LocalDate nfseIssuedAt) { linha.setData(NFSE_ISSUED_AT, nfseIssuedAt); }
+    public String getNfseCancelationReason() { return linha.getTexto(NFSE_CANCELATION_REASON); }
+    public void setNfseCancelationReason(final String nfseCancelationReason) { linha.setTexto(NFSE_CANCELATION_REASON, nfseCancelationReason); }
+    public String getNfsePdfServiceUrl() { return linha.getTexto(NFSE_PDF_SERVICE_URL); }
+    public void setNfsePdfServiceUrl(final String nfsePdfServiceUrl) { linha.setTexto(NFSE_PDF_SERVICE_URL, nfsePdfServiceUrl); }
+    public Long getNfseCorporationId() { return linha.getLong(NFSE_CORPORATION_ID); }
+    public void setNfseCorporationId(final Long nfseCorporationId) { linha.setLong(NFSE_CORPORATION_ID, nfseCorporationId); }
+    public String getNfseServiceDescription() { return linha.getTexto(NFSE_SERVICE_DESCRIPTION); }
+    public void setNfseServiceDescription(final String nfseServiceDescription) { linha.setTexto(NFSE_SERVICE_DESCRIPTION, nfseServiceDescription); }
+    public String getNfseXmlDocument() { return linha.getTexto(NFSE_XML_DOCUMENT); }
+    public void setNfseXmlDocument(final String nfseXmlDocument) { linha.setTexto(NFSE_XML_DOCUMENT, nfseXmlDocument); }
+    public Long getInsuranceId() { return linha.getLong(INSURANCE_ID); }
+    public void setInsuranceId(final Long insuranceId) { linha.setLong(INSURANCE_ID, insuranceId); }
+    public BigDecimal getOtherFees() { return linha.getDecimal(OTHER_FEES); }
+    public void setOtherFees(final BigDecimal otherFees) { linha.setDecimal(OTHER_FEES, otherFees); }
+    public BigDecimal getKm() { return linha.getDecimal(KM); }
+    public void setKm(final BigDecimal km) { linha.setDecimal(KM, km); }
+    public Integer getPaymentAccountableType() { return linha.getInteiro(PAYMENT_ACCOUNTABLE_TYPE); }
+    public void setPaymentAccountableType(final Integer paymentAccountableType) { linha.setInteiro(PAYMENT_ACCOUNTABLE_TYPE, paymentAccountableType); }
+    public BigDecimal getInsuredValue() { return linha.getDecimal(INSURED_VALUE); }
+    public void setInsuredValue(final BigDecimal insuredValue) { linha.setDecimal(INSURED_VALUE, insuredValue); }
+    public Boolean getGlobalized() { return linha.getBooleano(GLOBALIZED); }
+    public void setGlobalized(final Boolean globalized) { linha.setBooleano(GLOBALIZED, globalized); }
+    public BigDecimal getSecCatSubtotal() { return linha.getDecimal(SEC_CAT_SUBTOTAL); }
+    public void setSecCatSubtotal(final BigDecimal secCatSubtotal) { linha.setDecimal(SEC_CAT_SUBTOTAL, secCatSubtotal); }
+    public String getGlobalizedType() { return linha.getTexto(GLOBALIZED_TYPE); }
+    public void setGlobalizedType(final String globalizedType) { linha.setTexto(GLOBALIZED_TYPE, globalizedType); }
+    public Integer getPriceTableAccountableType() { return linha.getInteiro(PRICE_TABLE_ACCOUNTABLE_TYPE); }
+    public void setPriceTableAccountableType(final Integer priceTableAccountableType) { linha.setInteiro(PRICE_TABLE_ACCOUNTABLE_TYPE, priceTableAccountableType); }
+    public Integer getInsuranceAccountableType() { return linha.getInteiro(INSURANCE_ACCOUNTABLE_TYPE); }
+    public void setInsuranceAccountableType(final Integer insuranceAccountableType) { linha.setInteiro(INSURANCE_ACCOUNTABLE_TYPE, insuranceAccountableType); }
+
+    public String getFilialCnpj() { return linha.getTexto(FILIAL_CNPJ); }
+    public void setFilialCnpj(final String filialCnpj) { linha.setTexto(FILIAL_CNPJ, filialCnpj); }
+    public String getRemetenteDocumento() { return linha.getTexto(REMETENTE_DOCUMENTO); }
+    public void setRemetenteDocumento(final String remetenteDocumento) { linha.setTexto(REMETENTE_DOCUMENTO, remetenteDocumento); }
+    public String getDestinatarioDocumento() { return linha.getTexto(DESTINATARIO_DOCUMENTO); }
+    public void setDestinatarioDocumento(final String destinatarioDocumento) { linha.setTexto(DESTINATARIO_DOCUMENTO, destinatarioDocumento); }
+    public String getPagadorDocumento() { return linha.getTexto(PAGADOR_DOCUMENTO); }
+    public void setPagadorDocumento(final String pagadorDocumento) { linha.setTexto(PAGADOR_DOCUMENTO, pagadorDocumento); }
+
+    public String getFiscalCstType() { return linha.getTexto(FISCAL_CST_TYPE); }
+    public void setFiscalCstType(final String fiscalCstType) { linha.setTexto(FISCAL_CST_TYPE, fiscalCstType); }
+    public String getFiscalCfopCode() { return linha.getTexto(FISCAL_CFOP_CODE); }
+    public void setFiscalCfopCode(final String fiscalCfopCode) { linha.setTexto(FISCAL_CFOP_CODE, fiscalCfopCode); }
+    public BigDecimal getFiscalTaxValue() { return linha.getDecimal(FISCAL_TAX_VALUE); }
+    public void setFiscalTaxValue(final BigDecimal fiscalTaxValue) { linha.setDecimal(FISCAL_TAX_VALUE, fiscalTaxValue); }
+    public BigDecimal getFiscalPisValue() { return linha.getDecimal(FISCAL_PIS_VALUE); }
+    public void setFiscalPisValue(final BigDecimal fiscalPisValue) { linha.setDecimal(FISCAL_PIS_VALUE, fiscalPisValue); }
+    public BigDecimal getFiscalCofinsValue() { return linha.getDecimal(FISCAL_COFINS_VALUE); }
+    public void setFiscalCofinsValue(final BigDecimal fiscalCofinsValue) { linha.setDecimal(FISCAL_COFINS_VALUE, fiscalCofinsValue); }
+
+    public BigDecimal getFiscalCalculationBasis() { return linha.getDecimal(FISCAL_CALCULATION_BASIS); }
+    public void setFiscalCalculationBasis(final BigDecimal fiscalCalculationBasis) { linha.setDecimal(FISCAL_CALCULATION_BASIS, fiscalCalculationBasis); }
+    public BigDecimal getFiscalTaxRate() { return linha.getDecimal(FISCAL_TAX_RATE); }
+    public void setFiscalTaxRate(final BigDecimal fiscalTaxRate) { linha.setDecimal(FISCAL_TAX_RATE, fiscalTaxRate); }
+    public BigDecimal getFiscalPisRate() { return linha.getDecimal(FISCAL_PIS_RATE); }
+    public void setFiscalPisRate(final BigDecimal fiscalPisRate) { linha.setDecimal(FISCAL_PIS_RATE, fiscalPisRate); }
+    public BigDecimal getFiscalCofinsRate() { return linha.getDecimal(FISCAL_COFINS_RATE); }
+    public void setFiscalCofinsRate(final BigDecimal fiscalCofinsRate) { linha.setDecimal(FISCAL_COFINS_RATE, fiscalCofinsRate); }
+    public Boolean getFiscalHasDifal() { return linha.getBooleano(FISCAL_HAS_DIFAL); }
+    public void setFiscalHasDifal(final Boolean fiscalHasDifal) { linha.setBooleano(FISCAL_HAS_DIFAL, fiscalHasDifal); }
+    public BigDecimal getFiscalDifalOrigin() { return linha.getDecimal(FISCAL_DIFAL_ORIGIN); }
+    public void setFiscalDifalOrigin(final BigDecimal fiscalDifalOrigin) { linha.setDecimal(FISCAL_DIFAL_ORIGIN, fiscalDifalOrigin); }
+    public BigDecimal getFiscalDifalDestination() { return linha.getDecimal(FISCAL_DIFAL_DESTINATION); }
+    public void setFiscalDifalDestination(final BigDecimal fiscalDifalDestination) { linha.setDecimal(FISCAL_DIFAL_DESTINATION, fiscalDifalDestination); }
+
+    public Long getCteId() { return linha.getLong(CTE_ID); }
+    public void setCteId(final Long cteId) { linha.setLong(CTE_ID, cteId); }
+    public String getCteEmissionType() { return linha.getTexto(CTE_EMISSION_TYPE); }
+    public void setCteEmissionType(final String cteEmissionType) { linha.setTexto(CTE_EMISSION_TYPE, cteEmissionType); }
+    public OffsetDateTime getCteCreatedAt() { return linha.getDataHora(CTE_CREATED_AT); }
+    public void setCteCreatedAt(final OffsetDateTime cteCreatedAt) { linha.setDataHora(CTE_CREATED_AT, cteCreatedAt); }
+
+    public String getFilialApelido() { return linha.getTexto(FILIAL_APELIDO); }
+    public void setFilialApelido(final String filialApelido) { linha.setTexto(FILIAL_APELIDO, filialApelido); }
 
     public String getMetadata() {
-        return metadata;
+        return linha.getTexto(METADATA);
     }
 
     public void setMetadata(final String metadata) {
-        this.metadata = metadata;
+        linha.setTexto(METADATA, metadata);
     }
 
     public boolean isExcluidoNaOrigem() {
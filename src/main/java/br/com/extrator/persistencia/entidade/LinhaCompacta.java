@@ -0,0 +1,292 @@
+package br.com.extrator.persistencia.entidade;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Linha de tabela larga guardada por indice de coluna, sem um objeto por campo.
+ * Numeros, booleanos e datas ficam em um long[] (data/hora usa dois slots: epoch e nanos+offset);
+ * decimais guardam unscaled + escala e so caem para BigDecimal quando nao cabem em long.
+ * Texto continua como referencia. Os getters reconstroem o valor com o mesmo equals do original.
+ */
+public final class LinhaCompacta {
+
+    public enum TipoColuna {
+        LONG,
+        INTEIRO,
+        BOOLEANO,
+        DECIMAL,
+        DATA,
+        DATA_HORA,
+        TEXTO
+    }
+
+    private final Layout layout;
+    private final long[] valores;
+    private final Object[] objetos;
+    private final byte[] escalas;
+    private final long[] presentes;
+
+    public LinhaCompacta(final Layout layout) {
+        this.layout = layout;
+        this.valores = new long[layout.totalValores];
+        this.objetos = new Object[layout.totalObjetos];
+        this.escalas = new byte[layout.totalEscalas];
+        this.presentes = new long[(layout.tipos.length + 63) >>> 6];
+    }
+
+    public static Construtor construtor() {
+        return new Construtor();
+    }
+
+    public Layout layout() {
+        return layout;
+    }
+
+    public Long getLong(final int coluna) {
+        return presente(coluna, TipoColuna.LONG) ? valores[layout.posicoes[coluna]] : null;
+    }
+
+    public void setLong(final int coluna, final Long valor) {
+        if (marcar(coluna, TipoColuna.LONG, valor)) {
+            valores[layout.posicoes[coluna]] = valor;
+        }
+    }
+
+    public Integer getInteiro(final int coluna) {
+        return presente(coluna, TipoColuna.INTEIRO) ? (int) valores[layout.posicoes[coluna]] : null;
+    }
+
+    public void setInteiro(final int coluna, final Integer valor) {
+        if (marcar(coluna, TipoColuna.INTEIRO, valor)) {
+            valores[layout.posicoes[coluna]] = valor;
+        }
+    }
+
+    public Boolean getBooleano(final int coluna) {
+        return presente(coluna, TipoColuna.BOOLEANO) ? valores[layout.posicoes[coluna]] != 0 : null;
+    }
+
+    public void setBooleano(final int coluna, final Boolean valor) {
+        if (marcar(coluna, TipoColuna.BOOLEANO, valor)) {
+            valores[layout.posicoes[coluna]] = valor ? 1L : 0L;
+        }
+    }
+
+    public BigDecimal getDecimal(final int coluna) {
+        if (!presente(coluna, TipoColuna.DECIMAL)) {
+            return null;
+        }
+        final Object grande = objetos[layout.posicoesObjeto[coluna]];
+        if (grande != null) {
+            return (BigDecimal) grande;
+        }
+        return BigDecimal.valueOf(valores[layout.posicoes[coluna]], escalas[layout.posicoesEscala[coluna]]);
+    }
+
+    public void setDecimal(final int coluna, final BigDecimal valor) {
+        if (!marcar(coluna, TipoColuna.DECIMAL, valor)) {
+            objetos[layout.posicoesObjeto[coluna]] = null;
+            return;
+        }
+        if (valor.unscaledValue().bitLength() < Long.SIZE
+            && valor.scale() >= Byte.MIN_VALUE && valor.scale() <= Byte.MAX_VALUE) {
+            valores[layout.posicoes[coluna]] = valor.unscaledValue().longValue();
+            escalas[layout.posicoesEscala[coluna]] = (byte) valor.scale();
+            objetos[layout.posicoesObjeto[coluna]] = null;
+        } else {
+            objetos[layout.posicoesObjeto[coluna]] = valor;
+        }
+    }
+
+    public LocalDate getData(final int coluna) {
+        return presente(coluna, TipoColuna.DATA) ? LocalDate.ofEpochDay(valores[layout.posicoes[coluna]]) : null;
+    }
+
+    public void setData(final int coluna, final LocalDate valor) {
+        if (marcar(coluna, TipoColuna.DATA, valor)) {
+            valores[layout.posicoes[coluna]] = valor.toEpochDay();
+        }
+    }
+
+    public OffsetDateTime getDataHora(final int coluna) {
+        if (!presente(coluna, TipoColuna.DATA_HORA)) {
+            return null;
+        }
+        final int posicao = layout.posicoes[coluna];
+        final long nanosEOffset = valores[posicao + 1];
+        return OffsetDateTime.ofInstant(
+            Instant.ofEpochSecond(valores[posicao], nanosEOffset >>> 32),
+            ZoneOffset.ofTotalSeconds((int) nanosEOffset)
+        );
+    }
+
+    public void setDataHora(final int coluna, final OffsetDateTime valor) {
+        if (marcar(coluna, TipoColuna.DATA_HORA, valor)) {
+            final int posicao = layout.posicoes[coluna];
+            valores[posicao] = valor.toEpochSecond();
+            valores[posicao + 1] = ((long) valor.getNano() << 32) | (valor.getOffset().getTotalSeconds() & 0xFFFFFFFFL);
+        }
+    }
+
+    public String getTexto(final int coluna) {
+        exigirTipo(coluna, TipoColuna.TEXTO);
+        return (String) objetos[layout.posicoesObjeto[coluna]];
+    }
+
+    public void setTexto(final int coluna, final String valor) {
+        exigirTipo(coluna, TipoColuna.TEXTO);
+        objetos[layout.posicoesObjeto[coluna]] = valor;
+    }
+
+    /**
+     * Valor da coluna no tipo Java correspondente (Long, Integer, Boolean, BigDecimal, LocalDate,
+     * OffsetDateTime ou String).
+     */
+    public Object get(final int coluna) {
+        return switch (layout.tipos[coluna]) {
+            case LONG -> getLong(coluna);
+            case INTEIRO -> getInteiro(coluna);
+            case BOOLEANO -> getBooleano(coluna);
+            case DECIMAL -> getDecimal(coluna);
+            case DATA -> getData(coluna);
+            case DATA_HORA -> getDataHora(coluna);
+            case TEXTO -> getTexto(coluna);
+        };
+    }
+
+    public void set(final int coluna, final Object valor) {
+        switch (layout.tipos[coluna]) {
+            case LONG -> setLong(coluna, (Long) valor);
+            case INTEIRO -> setInteiro(coluna, (Integer) valor);
+            case BOOLEANO -> setBooleano(coluna, (Boolean) valor);
+            case DECIMAL -> setDecimal(coluna, (BigDecimal) valor);
+            case DATA -> setData(coluna, (LocalDate) valor);
+            case DATA_HORA -> setDataHora(coluna, (OffsetDateTime) valor);
+            case TEXTO -> setTexto(coluna, (String) valor);
+        }
+    }
+
+    private boolean presente(final int coluna, final TipoColuna tipo) {
+        exigirTipo(coluna, tipo);
+        return (presentes[coluna >>> 6] & (1L << coluna)) != 0;
+    }
+
+    private boolean marcar(final int coluna, final TipoColuna tipo, final Object valor) {
+        exigirTipo(coluna, tipo);
+        if (valor == null) {
+            presentes[coluna >>> 6] &= ~(1L << coluna);
+            return false;
+        }
+        presentes[coluna >>> 6] |= 1L << coluna;
+        return true;
+    }
+
+    private void exigirTipo(final int coluna, final TipoColuna tipo) {
+        if (layout.tipos[coluna] != tipo) {
+            throw new IllegalArgumentException(
+                "Coluna " + layout.colunas.get(coluna) + " e " + layout.tipos[coluna] + ", nao " + tipo);
+        }
+    }
+
+    /**
+     * Colunas da linha, na ordem de declaracao, com a posicao de cada uma nos arrays de valores.
+     */
+    public static final class Layout {
+        private final List<String> colunas;
+        private final Map<String, Integer> indices;
+        private final TipoColuna[] tipos;
+        private final int[] posicoes;
+        private final int[] posicoesObjeto;
+        private final int[] posicoesEscala;
+        private final int totalValores;
+        private final int totalObjetos;
+        private final int totalEscalas;
+
+        private Layout(final Construtor construtor) {
+            final int total = construtor.colunas.size();
+            this.colunas = List.copyOf(construtor.colunas);
+            this.tipos = construtor.tipos.toArray(new TipoColuna[0]);
+            this.indices = new HashMap<>(total * 2);
+            this.posicoes = new int[total];
+            this.posicoesObjeto = new int[total];
+            this.posicoesEscala = new int[total];
+            int valoresUsados = 0;
+            int objetosUsados = 0;
+            int escalasUsadas = 0;
+            for (int coluna = 0; coluna < total; coluna++) {
+                indices.put(colunas.get(coluna), coluna);
+                posicoes[coluna] = -1;
+                posicoesObjeto[coluna] = -1;
+                posicoesEscala[coluna] = -1;
+                switch (tipos[coluna]) {
+                    case TEXTO -> posicoesObjeto[coluna] = objetosUsados++;
+                    case DECIMAL -> {
+                        posicoes[coluna] = valoresUsados++;
+                        posicoesObjeto[coluna] = objetosUsados++;
+                        posicoesEscala[coluna] = escalasUsadas++;
+                    }
+                    case DATA_HORA -> {
+                        posicoes[coluna] = valoresUsados;
+                        valoresUsados += 2;
+                    }
+                    default -> posicoes[coluna] = valoresUsados++;
+                }
+            }
+            this.totalValores = valoresUsados;
+            this.totalObjetos = objetosUsados;
+            this.totalEscalas = escalasUsadas;
+        }
+
+        public List<String> colunas() {
+            return colunas;
+        }
+
+        public int tamanho() {
+            return tipos.length;
+        }
+
+        public TipoColuna tipo(final int coluna) {
+            return tipos[coluna];
+        }
+
+        public int indice(final String coluna) {
+            final Integer indice = indices.get(coluna);
+            if (indice == null) {
+                throw new IllegalArgumentException("Coluna fora do layout: " + coluna);
+            }
+            return indice;
+        }
+    }
+
+    /**
+     * Monta o layout coluna a coluna; {@link #coluna} devolve o indice para guardar em constante.
+     */
+    public static final class Construtor {
+        private final List<String> colunas = new ArrayList<>();
+        private final List<TipoColuna> tipos = new ArrayList<>();
+
+        private Construtor() {
+        }
+
+        public int coluna(final String nome, final TipoColuna tipo) {
+            if (colunas.contains(nome)) {
+                throw new IllegalArgumentException("Coluna duplicada no layout: " + nome);
+            }
+            colunas.add(nome);
+            tipos.add(tipo);
+            return colunas.size() - 1;
+        }
+
+        public Layout construir() {
+            return new Layout(this);
+        }
+    }
+}
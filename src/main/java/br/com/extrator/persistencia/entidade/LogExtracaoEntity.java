@@ -58,6 +58,11 @@ public class LogExtracaoEntity {
     private Integer registrosExtraidos;
     private Integer paginasProcessadas;
     private Integer noopCount = 0;
+    // Metricas tipadas (migration 050). Null indica linha legada gravada antes das colunas existirem.
+    private Integer uniqueCount;
+    private Integer dbUpserts;
+    private Integer invalidCount;
+    private Long bytesRecebidos;
     private String mensagem;
     
     public enum StatusExtracao {
@@ -210,6 +215,38 @@ public class LogExtracaoEntity {
         this.noopCount = noopCount == null ? 0 : Math.max(0, noopCount);
     }
     
+    public Integer getUniqueCount() {
+        return uniqueCount;
+    }
+
+    public void setUniqueCount(final Integer uniqueCount) {
+        this.uniqueCount = uniqueCount == null ? null : Math.max(0, uniqueCount);
+    }
+
+    public Integer getDbUpserts() {
+        return dbUpserts;
+    }
+
+    public void setDbUpserts(final Integer dbUpserts) {
+        this.dbUpserts = dbUpserts == null ? null : Math.max(0, dbUpserts);
+    }
+
+    public Integer getInvalidCount() {
+        return invalidCount;
+    }
+
+    public void setInvalidCount(final Integer invalidCount) {
+        this.invalidCount = invalidCount == null ? null : Math.max(0, invalidCount);
+    }
+
+    public Long getBytesRecebidos() {
+        return bytesRecebidos;
+    }
+
+    public void setBytesRecebidos(final Long bytesRecebidos) {
+        this.bytesRecebidos = bytesRecebidos == null ? null : Math.max(0L, bytesRecebidos);
+    }
+    
     public String getMensagem() {
         return mensagem;
     }
@@ -229,6 +266,10 @@ public class LogExtracaoEntity {
                 ", registrosExtraidos=" + registrosExtraidos +
                 ", paginasProcessadas=" + paginasProcessadas +
                 ", noopCount=" + getNoopCount() +
+                ", uniqueCount=" + uniqueCount +
+                ", dbUpserts=" + dbUpserts +
+                ", invalidCount=" + invalidCount +
+                ", bytesRecebidos=" + bytesRecebidos +
                 ", mensagem='" + mensagem + '\'' +
                 '}';
     }
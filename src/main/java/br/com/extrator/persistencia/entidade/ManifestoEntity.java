@@ -60,6 +60,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import br.com.extrator.persistencia.entidade.LinhaCompacta.TipoColuna;
 import br.com.extrator.suporte.json.CanonicalJsonHasher;
 import br.com.extrator.suporte.mapeamento.MapperUtil;
 /**
@@ -72,877 +73,893 @@ public class ManifestoEntity {
 
     private static final Logger logger = LoggerFactory.getLogger(ManifestoEntity.class);
 
+    private static final LinhaCompacta.Construtor COLUNAS = LinhaCompacta.construtor();
+
     // --- Coluna de Chave Primária ---
-    private Long sequenceCode;
+    private static final int SEQUENCE_CODE = COLUNAS.coluna("sequence_code", TipoColuna.LONG);
 
     // --- Colunas Essenciais para Indexação e Relatórios ---
     // Campos principais conforme docs/descobertas-endpoints/manifestos.md
-    private String status;
-    private OffsetDateTime createdAt;
-    private OffsetDateTime departuredAt;
-    private OffsetDateTime closedAt; // Data Fechamento
-    private OffsetDateTime finishedAt;
-    private Integer mdfeNumber; // MDF-e
-    private String mdfeKey; // Chave MDF-e
-    private String mdfeStatus;
-    private String distributionPole; // Polo de Distribuição
-    private String classification; // Classificação
-    private String vehiclePlate;
-    private String vehicleType; // Tipo Veículo
-    private String vehicleOwner; // Proprietário
-    private String driverName;
-    private String branchNickname; // Filial (Apelido)
-    private Integer vehicleDepartureKm; // Km Saída
-    private Integer closingKm; // Km Fechamento
-    private Integer traveledKm;
-    private Integer invoicesCount; // Total Notas
-    private Integer invoicesVolumes; // Total Volumes
-    private BigDecimal invoicesWeight; // Peso Real
-    private BigDecimal totalTaxedWeight; // Peso Taxado
-    private BigDecimal totalCubicVolume; // Cubagem
-    private BigDecimal invoicesValue; // Valor Notas
-    private BigDecimal manifestFreightsTotal; // Valor Fretes
-    private Long pickSequenceCode; // Coleta (Item)
-    private String contractNumber; // Contrato
-    private BigDecimal dailySubtotal; // Diárias
-    private BigDecimal totalCost;
-    private BigDecimal operationalExpensesTotal; // Desp. Operacionais
-    private BigDecimal inssValue; // INSS
-    private BigDecimal sestSenatValue; // SEST/SENAT
-    private BigDecimal irValue; // IR
-    private BigDecimal payingTotal; // Valor a Pagar
-    private String creationUserName; // Usuário (Criação)
-    private String adjustmentUserName; // Usuário do Acerto
-
-    private String contractType;
-    private String driverContractType;
-    private String calculationType;
-    private String cargoType;
-    private BigDecimal freightSubtotal;
-    private BigDecimal fuelSubtotal;
-    private BigDecimal tollSubtotal;
-    private BigDecimal driverServicesTotal;
-    private Boolean manualKm;
-    private Boolean generateMdfe;
-    private Boolean monitoringRequest;
-    private Integer uniqDestinationsCount;
-
-    private OffsetDateTime mobileReadAt;
-    private BigDecimal km;
-    private Integer deliveryManifestItemsCount;
-    private Integer transferManifestItemsCount;
-    private Integer pickManifestItemsCount;
-    private Integer dispatchDraftManifestItemsCount;
-    private Integer consolidationManifestItemsCount;
-    private Integer reversePickManifestItemsCount;
-    private Integer manifestItemsCount;
-    private Integer finalizedManifestItemsCount;
-    private Integer calculatedPickCount;
-    private Integer calculatedDeliveryCount;
-    private Integer calculatedDispatchCount;
-    private Integer calculatedConsolidationCount;
-    private Integer calculatedReversePickCount;
-    private BigDecimal pickSubtotal;
-    private BigDecimal deliverySubtotal;
-    private BigDecimal dispatchSubtotal;
-    private BigDecimal consolidationSubtotal;
-    private BigDecimal reversePickSubtotal;
-    private BigDecimal advanceSubtotal;
-    private BigDecimal fleetCostsSubtotal;
-    private BigDecimal additionalsSubtotal;
-    private BigDecimal discountsSubtotal;
-    private BigDecimal discountValue;
-    private String adjustmentComments;
-    private String contractStatus;
-    private String iksId;
-    private String programacaoSequenceCode;
-    private OffsetDateTime programacaoStartingAt;
-    private OffsetDateTime programacaoEndingAt;
-    private String trailer1LicensePlate;
-    private BigDecimal trailer1WeightCapacity;
-    private String trailer2LicensePlate;
-    private BigDecimal trailer2WeightCapacity;
-    private BigDecimal vehicleWeightCapacity;
-    private BigDecimal vehicleCubicWeight;
-    private String unloadingRecipientNames;
-    private String deliveryRegionNames;
-    private String programacaoCliente;
-    private String programacaoTipoServico;
+    private static final int STATUS = COLUNAS.coluna("status", TipoColuna.TEXTO);
+    private static final int CREATED_AT = COLUNAS.coluna("created_at", TipoColuna.DATA_HORA);
+    private static final int DEPARTURED_AT = COLUNAS.coluna("departured_at", TipoColuna.DATA_HORA);
+    private static final int CLOSED_AT = COLUNAS.coluna("closed_at", TipoColuna.DATA_HORA); // Data Fechamento
+    private static final int FINISHED_AT = COLUNAS.coluna("finished_at", TipoColuna.DATA_HORA);
+    private static final int MDFE_NUMBER = COLUNAS.coluna("mdfe_number", TipoColuna.INTEIRO); // MDF-e
+    private static final int MDFE_KEY = COLUNAS.coluna("mdfe_key", TipoColuna.TEXTO); // Chave MDF-e
+    private static final int MDFE_STATUS = COLUNAS.coluna("mdfe_status", TipoColuna.TEXTO);
+    private static final int DISTRIBUTION_POLE = COLUNAS.coluna("distribution_pole", TipoColuna.TEXTO); // Polo de Distribuição
+    private static final int CLASSIFICATION = COLUNAS.coluna("classification", TipoColuna.TEXTO); // Classificação
+    private static final int VEHICLE_PLATE = COLUNAS.coluna("vehicle_plate", TipoColuna.TEXTO);
+    private static final int VEHICLE_TYPE = COLUNAS.coluna("vehicle_type", TipoColuna.TEXTO); // Tipo Veículo
+    private static final int VEHICLE_OWNER = COLUNAS.coluna("vehicle_owner", TipoColuna.TEXTO); // Proprietário
+    private static final int DRIVER_NAME = COLUNAS.coluna("driver_name", TipoColuna.TEXTO);
+    private static final int BRANCH_NICKNAME = COLUNAS.coluna("branch_nickname", TipoColuna.TEXTO); // Filial (Apelido)
+    private static final int VEHICLE_DEPARTURE_KM = COLUNAS.coluna("vehicle_departure_km", TipoColuna.INTEIRO); // Km Saída
+    private static final int CLOSING_KM = COLUNAS.coluna("closing_km", TipoColuna.INTEIRO); // Km Fechamento
+    private static final int TRAVELED_KM = COLUNAS.coluna("traveled_km", TipoColuna.INTEIRO);
+    private static final int INVOICES_COUNT = COLUNAS.coluna("invoices_count", TipoColuna.INTEIRO); // Total Notas
+    private static final int INVOICES_VOLUMES = COLUNAS.coluna("invoices_volumes", TipoColuna.INTEIRO); // Total Volumes
+    private static final int INVOICES_WEIGHT = COLUNAS.coluna("invoices_weight", TipoColuna.DECIMAL); // Peso Real
+    private static final int TOTAL_TAXED_WEIGHT = COLUNAS.coluna("total_taxed_weight", TipoColuna.DECIMAL); // Peso Taxado
+    private static final int TOTAL_CUBIC_VOLUME = COLUNAS.coluna("total_cubic_volume", TipoColuna.DECIMAL); // Cubagem
+    private static final int INVOICES_VALUE = COLUNAS.coluna("invoices_value", TipoColuna.DECIMAL); // Valor Notas
+    private static final int MANIFEST_FREIGHTS_TOTAL = COLUNAS.coluna("manifest_freights_total", TipoColuna.DECIMAL); // Valor Fretes
+    private static final int PICK_SEQUENCE_CODE = COLUNAS.coluna("pick_sequence_code", TipoColuna.LONG); // Coleta (Item)
+    private static final int CONTRACT_NUMBER = COLUNAS.coluna("contract_number", TipoColuna.TEXTO); // Contrato
+    private static final int DAILY_SUBTOTAL = COLUNAS.coluna("daily_subtotal", TipoColuna.DECIMAL); // Diárias
+    private static final int TOTAL_COST = COLUNAS.coluna("total_cost", TipoColuna.DECIMAL);
+    private static final int OPERATIONAL_EXPENSES_TOTAL = COLUNAS.coluna("operational_expenses_total", TipoColuna.DECIMAL); // Desp. Operacionais
+    private static final int INSS_VALUE = COLUNAS.coluna("inss_value", TipoColuna.DECIMAL); // INSS
+    private static final int SEST_SENAT_VALUE = COLUNAS.coluna("sest_senat_value", TipoColuna.DECIMAL); // SEST/SENAT
+    private static final int IR_VALUE = COLUNAS.coluna("ir_value", TipoColuna.DECIMAL); // IR
+    private static final int PAYING_TOTAL = COLUNAS.coluna("paying_total", TipoColuna.DECIMAL); // Valor a Pagar
+    private static final int CREATION_USER_NAME = COLUNAS.coluna("creation_user_name", TipoColuna.TEXTO); // Usuário (Criação)
+    private static final int ADJUSTMENT_USER_NAME = COLUNAS.coluna("adjustment_user_name", TipoColuna.TEXTO); // Usuário do Acerto
+
+    private static final int CONTRACT_TYPE = COLUNAS.coluna("contract_type", TipoColuna.TEXTO);
+    private static final int DRIVER_CONTRACT_TYPE = COLUNAS.coluna("driver_contract_type", TipoColuna.TEXTO);
+    private static final int CALCULATION_TYPE = COLUNAS.coluna("calculation_type", TipoColuna.TEXTO);
+    private static final int CARGO_TYPE = COLUNAS.coluna("cargo_type", TipoColuna.TEXTO);
+    private static final int FREIGHT_SUBTOTAL = COLUNAS.coluna("freight_subtotal", TipoColuna.DECIMAL);
+    private static final int FUEL_SUBTOTAL = COLUNAS.coluna("fuel_subtotal", TipoColuna.DECIMAL);
+    private static final int TOLL_SUBTOTAL = COLUNAS.coluna("toll_subtotal", TipoColuna.DECIMAL);
+    private static final int DRIVER_SERVICES_TOTAL = COLUNAS.coluna("driver_services_total", TipoColuna.DECIMAL);
+    private static final int MANUAL_KM = COLUNAS.coluna("manual_km", TipoColuna.BOOLEANO);
+    private static final int GENERATE_MDFE = COLUNAS.coluna("generate_mdfe", TipoColuna.BOOLEANO);
+    private static final int MONITORING_REQUEST = COLUNAS.coluna("monitoring_request", TipoColuna.BOOLEANO);
+    private static final int UNIQ_DESTINATIONS_COUNT = COLUNAS.coluna("uniq_destinations_count", TipoColuna.INTEIRO);
+
+    private static final int MOBILE_READ_AT = COLUNAS.coluna("mobile_read_at", TipoColuna.DATA_HORA);
+    private static final int KM = COLUNAS.coluna("km", TipoColuna.DECIMAL);
+    private static final int DELIVERY_MANIFEST_ITEMS_COUNT = COLUNAS.coluna("delivery_manifest_items_count", TipoColuna.INTEIRO);
+    private static final int TRANSFER_MANIFEST_ITEMS_COUNT = COLUNAS.coluna("transfer_manifest_items_count", TipoColuna.INTEIRO);
+    private static final int PICK_MANIFEST_ITEMS_COUNT = COLUNAS.coluna("pick_manifest_items_count", TipoColuna.INTEIRO);
+    private static final int DISPATCH_DRAFT_MANIFEST_ITEMS_COUNT = COLUNAS.coluna("dispatch_draft_manifest_items_count", TipoColuna.INTEIRO);
+    private static final int CONSOLIDATION_MANIFEST_ITEMS_COUNT = COLUNAS.coluna("consolidation_manifest_items_count", TipoColuna.INTEIRO);
+    private static final int REVERSE_PICK_MANIFEST_ITEMS_COUNT = COLUNAS.coluna("reverse_pick_manifest_items_count", TipoColuna.INTEIRO);
+    private static final int MANIFEST_ITEMS_COUNT = COLUNAS.coluna("manifest_items_count", TipoColuna.INTEIRO);
+    private static final int FINALIZED_MANIFEST_ITEMS_COUNT = COLUNAS.coluna("finalized_manifest_items_count", TipoColuna.INTEIRO);
+    private static final int CALCULATED_PICK_COUNT = COLUNAS.coluna("calculated_pick_count", TipoColuna.INTEIRO);
+    private static final int CALCULATED_DELIVERY_COUNT = COLUNAS.coluna("calculated_delivery_count", TipoColuna.INTEIRO);
+    private static final int CALCULATED_DISPATCH_COUNT = COLUNAS.coluna("calculated_dispatch_count", TipoColuna.INTEIRO);
+    private static final int CALCULATED_CONSOLIDATION_COUNT = COLUNAS.coluna("calculated_consolidation_count", TipoColuna.INTEIRO);
+    private static final int CALCULATED_REVERSE_PICK_COUNT = COLUNAS.coluna("calculated_reverse_pick_count", TipoColuna.INTEIRO);
+    private static final int PICK_SUBTOTAL = COLUNAS.coluna("pick_subtotal", TipoColuna.DECIMAL);
+    private static final int DELIVERY_SUBTOTAL = COLUNAS.coluna("delivery_subtotal", TipoColuna.DECIMAL);
+    private static final int DISPATCH_SUBTOTAL = COLUNAS.coluna("dispatch_subtotal", TipoColuna.DECIMAL);
+    private static final int CONSOLIDATION_SUBTOTAL = COLUNAS.coluna("consolidation_subtotal", TipoColuna.DECIMAL);
+    private static final int REVERSE_PICK_SUBTOTAL = COLUNAS.coluna("reverse_pick_subtotal", TipoColuna.DECIMAL);
+    private static final int ADVANCE_SUBTOTAL = COLUNAS.coluna("advance_subtotal", TipoColuna.DECIMAL);
+    private static final int FLEET_COSTS_SUBTOTAL = COLUNAS.coluna("fleet_costs_subtotal", TipoColuna.DECIMAL);
+    private static final int ADDITIONALS_SUBTOTAL = COLUNAS.coluna("additionals_subtotal", TipoColuna.DECIMAL);
+    private static final int DISCOUNTS_SUBTOTAL = COLUNAS.coluna("discounts_subtotal", TipoColuna.DECIMAL);
+    private static final int DISCOUNT_VALUE = COLUNAS.coluna("discount_value", TipoColuna.DECIMAL);
+    private static final int ADJUSTMENT_COMMENTS = COLUNAS.coluna("adjustment_comments", TipoColuna.TEXTO);
+    private static final int CONTRACT_STATUS = COLUNAS.coluna("contract_status", TipoColuna.TEXTO);
+    private static final int IKS_ID = COLUNAS.coluna("iks_id", TipoColuna.TEXTO);
+    private static final int PROGRAMACAO_SEQUENCE_CODE = COLUNAS.coluna("programacao_sequence_code", TipoColuna.TEXTO);
+    private static final int PROGRAMACAO_STARTING_AT = COLUNAS.coluna("programacao_starting_at", TipoColuna.DATA_HORA);
+    private static final int PROGRAMACAO_ENDING_AT = COLUNAS.coluna("programacao_ending_at", TipoColuna.DATA_HORA);
+    private static final int TRAILER1_LICENSE_PLATE = COLUNAS.coluna("trailer1_license_plate", TipoColuna.TEXTO);
+    private static final int TRAILER1_WEIGHT_CAPACITY = COLUNAS.coluna("trailer1_weight_capacity", TipoColuna.DECIMAL);
+    private static final int TRAILER2_LICENSE_PLATE = COLUNAS.coluna("trailer2_license_plate", TipoColuna.TEXTO);
+    private static final int TRAILER2_WEIGHT_CAPACITY = COLUNAS.coluna("trailer2_weight_capacity", TipoColuna.DECIMAL);
+    private static final int VEHICLE_WEIGHT_CAPACITY = COLUNAS.coluna("vehicle_weight_capacity", TipoColuna.DECIMAL);
+    private static final int VEHICLE_CUBIC_WEIGHT = COLUNAS.coluna("vehicle_cubic_weight", TipoColuna.DECIMAL);
+    private static final int UNLOADING_RECIPIENT_NAMES = COLUNAS.coluna("unloading_recipient_names", TipoColuna.TEXTO);
+    private static final int DELIVERY_REGION_NAMES = COLUNAS.coluna("delivery_region_names", TipoColuna.TEXTO);
+    private static final int PROGRAMACAO_CLIENTE = COLUNAS.coluna("programacao_cliente", TipoColuna.TEXTO);
+    private static final int PROGRAMACAO_TIPO_SERVICO = COLUNAS.coluna("programacao_tipo_servico", TipoColuna.TEXTO);
     
     // Novos campos de veículo e comentários (descobertos via CTE)
-    private BigDecimal capacidadeKg; // vehicle.weightCapacity (capacidade em kg)
-    private String obsOperacional; // operationalComments (comentários de liberação)
-    private String obsFinanceira; // closingComments (comentários financeiros)
+    private static final int CAPACIDADE_KG = COLUNAS.coluna("capacidade_kg", TipoColuna.DECIMAL); // vehicle.weightCapacity (capacidade em kg)
+    private static final int OBS_OPERACIONAL = COLUNAS.coluna("obs_operacional", TipoColuna.TEXTO); // operationalComments (comentários de liberação)
+    private static final int OBS_FINANCEIRA = COLUNAS.coluna("obs_financeira", TipoColuna.TEXTO); // closingComments (comentários financeiros)
 
     // --- Coluna de Metadados ---
-    private String metadata;
-    private boolean excluidoNaOrigem;
+    private static final int METADATA = COLUNAS.coluna("metadata", TipoColuna.TEXTO);
 
     // --- Coluna de Identificador Único (para chave composta) ---
-    private String identificadorUnico;
+    private static final int IDENTIFICADOR_UNICO = COLUNAS.coluna("identificador_unico", TipoColuna.TEXTO);
+
+    /**
+     * Layout da linha compacta, com os nomes de coluna de dbo.manifestos.
+     */
+    public static final LinhaCompacta.Layout LAYOUT = COLUNAS.construir();
+
+    private final LinhaCompacta linha = new LinhaCompacta(LAYOUT);
+    private boolean excluidoNaOrigem;
+
+    /**
+     * Valores da linha por indice de coluna, para o repositorio vincular sem passar pelos getters.
+     */
+    public LinhaCompacta linhaCompacta() {
+        return linha;
+    }
 
     // --- Getters e Setters ---
 
     public Long getSequenceCode() {
-        return sequenceCode;
+        return linha.getLong(SEQUENCE_CODE);
     }
 
     public void setSequenceCode(final Long sequenceCode) {
-        this.sequenceCode = sequenceCode;
+        linha.setLong(SEQUENCE_CODE, sequenceCode);
     }
 
     public String getStatus() {
-        return status;
+        return linha.getTexto(STATUS);
     }
 
     public void setStatus(final String status) {
-        this.status = status;
+        linha.setTexto(STATUS, status);
     }
 
     public OffsetDateTime getCreatedAt() {
-        return createdAt;
+        return linha.getDataHora(CREATED_AT);
     }
 
     public void setCreatedAt(final OffsetDateTime createdAt) {
-        this.createdAt = createdAt;
+        linha.setDataHora(CREATED_AT, createdAt);
     }
 
     public OffsetDateTime getDeparturedAt() {
-        return departuredAt;
+        return linha.getDataHora(DEPARTURED_AT);
     }
 
     public void setDeparturedAt(final OffsetDateTime departuredAt) {
-        this.departuredAt = departuredAt;
+        linha.setDataHora(DEPARTURED_AT, departuredAt);
     }
 
     public OffsetDateTime getFinishedAt() {
-        return finishedAt;
+        return linha.getDataHora(FINISHED_AT);
     }
 
     public void setFinishedAt(final OffsetDateTime finishedAt) {
-        this.finishedAt = finishedAt;
+        linha.setDataHora(FINISHED_AT, finishedAt);
     }
 
     public BigDecimal getTotalCost() {
-        return totalCost;
+        return linha.getDecimal(TOTAL_COST);
     }
 
     public void setTotalCost(final BigDecimal totalCost) {
-        this.totalCost = totalCost;
+        linha.setDecimal(TOTAL_COST, totalCost);
     }
 
     public Integer getTraveledKm() {
-        return traveledKm;
+        return linha.getInteiro(TRAVELED_KM);
     }
 
     public void setTraveledKm(final Integer traveledKm) {
-        this.traveledKm = traveledKm;
+        linha.setInteiro(TRAVELED_KM, traveledKm);
     }
 
     public String getVehiclePlate() {
-        return vehiclePlate;
+        return linha.getTexto(VEHICLE_PLATE);
     }
 
     public void setVehiclePlate(final String vehiclePlate) {
-        this.vehiclePlate = vehiclePlate;
+        linha.setTexto(VEHICLE_PLATE, vehiclePlate);
     }
 
     public String getDriverName() {
-        return driverName;
+        return linha.getTexto(DRIVER_NAME);
     }
 
     public void setDriverName(final String driverName) {
-        this.driverName = driverName;
+        linha.setTexto(DRIVER_NAME, driverName);
     }
 
     // Getters e Setters para campos adicionais
     
     public OffsetDateTime getClosedAt() {
-        return closedAt;
+        return linha.getDataHora(CLOSED_AT);
     }
 
     public void setClosedAt(final OffsetDateTime closedAt) {
-        this.closedAt = closedAt;
+        linha.setDataHora(CLOSED_AT, closedAt);
     }
 
     public Integer getMdfeNumber() {
-        return mdfeNumber;
+        return linha.getInteiro(MDFE_NUMBER);
     }
 
     public void setMdfeNumber(final Integer mdfeNumber) {
-        this.mdfeNumber = mdfeNumber;
+        linha.setInteiro(MDFE_NUMBER, mdfeNumber);
     }
 
     public String getMdfeKey() {
-        return mdfeKey;
+        return linha.getTexto(MDFE_KEY);
     }
 
     public void setMdfeKey(final String mdfeKey) {
-        this.mdfeKey = mdfeKey;
+        linha.setTexto(MDFE_KEY, mdfeKey);
     }
 
     public String getMdfeStatus() {
-        return mdfeStatus;
+        return linha.getTexto(MDFE_STATUS);
     }
 
     public void setMdfeStatus(final String mdfeStatus) {
-        this.mdfeStatus = mdfeStatus;
+        linha.setTexto(MDFE_STATUS, mdfeStatus);
     }
 
     public String getDistributionPole() {
-        return distributionPole;
+        return linha.getTexto(DISTRIBUTION_POLE);
     }
 
     public void setDistributionPole(final String distributionPole) {
-        this.distributionPole = distributionPole;
+        linha.setTexto(DISTRIBUTION_POLE, distributionPole);
     }
 
     public String getClassification() {
-        return classification;
+        return linha.getTexto(CLASSIFICATION);
     }
 
     public void setClassification(final String classification) {
-        this.classification = classification;
+        linha.setTexto(CLASSIFICATION, classification);
     }
 
     public String getVehicleType() {
-        return vehicleType;
+        return linha.getTexto(VEHICLE_TYPE);
     }
 
     public void setVehicleType(final String vehicleType) {
-        this.vehicleType = vehicleType;
+        linha.setTexto(VEHICLE_TYPE, vehicleType);
     }
 
     public String getVehicleOwner() {
-        return vehicleOwner;
+        return linha.getTexto(VEHICLE_OWNER);
     }
 
     public void setVehicleOwner(final String vehicleOwner) {
-        this.vehicleOwner = vehicleOwner;
+        linha.setTexto(VEHICLE_OWNER, vehicleOwner);
     }
 
     public String getBranchNickname() {
-        return branchNickname;
+        return linha.getTexto(BRANCH_NICKNAME);
     }
 
     public void setBranchNickname(final String branchNickname) {
-        this.branchNickname = branchNickname;
+        linha.setTexto(BRANCH_NICKNAME, branchNickname);
     }
 
     public Integer getVehicleDepartureKm() {
-        return vehicleDepartureKm;
+        return linha.getInteiro(VEHICLE_DEPARTURE_KM);
     }
 
     public void setVehicleDepartureKm(final Integer vehicleDepartureKm) {
-        this.vehicleDepartureKm = vehicleDepartureKm;
+        linha.setInteiro(VEHICLE_DEPARTURE_KM, vehicleDepartureKm);
     }
 
     public Integer getClosingKm() {
-        return closingKm;
+        return linha.getInteiro(CLOSING_KM);
     }
 
     public void setClosingKm(final Integer closingKm) {
-        this.closingKm = closingKm;
+        linha.setInteiro(CLOSING_KM, closingKm);
     }
 
     public Integer getInvoicesCount() {
-        return invoicesCount;
+        return linha.getInteiro(INVOICES_COUNT);
     }
 
     public void setInvoicesCount(final Integer invoicesCount) {
-        this.invoicesCount = invoicesCount;
+        linha.setInteiro(INVOICES_COUNT, invoicesCount);
     }
 
     public Integer getInvoicesVolumes() {
-        return invoicesVolumes;
+        return linha.getInteiro(INVOICES_VOLUMES);
     }
 
     public void setInvoicesVolumes(final Integer invoicesVolumes) {
-        this.invoicesVolumes = invoicesVolumes;
+        linha.setInteiro(INVOICES_VOLUMES, invoicesVolumes);
     }
 
     public BigDecimal getInvoicesWeight() {
-        return invoicesWeight;
+        return linha.getDecimal(INVOICES_WEIGHT);
     }
 
     public void setInvoicesWeight(final BigDecimal invoicesWeight) {
-        this.invoicesWeight = invoicesWeight;
+        linha.setDecimal(INVOICES_WEIGHT, invoicesWeight);
     }
 
     public BigDecimal getTotalTaxedWeight() {
-        return totalTaxedWeight;
+        return linha.getDecimal(TOTAL_TAXED_WEIGHT);
     }
 
     public void setTotalTaxedWeight(final BigDecimal totalTaxedWeight) {
-        this.totalTaxedWeight = totalTaxedWeight;
+        linha.setDecimal(TOTAL_TAXED_WEIGHT, totalTaxedWeight);
     }
 
     public BigDecimal getTotalCubicVolume() {
-        return totalCubicVolume;
+        return linha.getDecimal(TOTAL_CUBIC_VOLUME);
     }
 
     public void setTotalCubicVolume(final BigDecimal totalCubicVolume) {
-        this.totalCubicVolume = totalCubicVolume;
+        linha.setDecimal(TOTAL_CUBIC_VOLUME, totalCubicVolume);
     }
 
     public BigDecimal getInvoicesValue() {
-        return invoicesValue;
+        return linha.getDecimal(INVOICES_VALUE);
     }
 
     public void setInvoicesValue(final BigDecimal invoicesValue) {
-        this.invoicesValue = invoicesValue;
+        linha.setDecimal(INVOICES_VALUE, invoicesValue);
     }
 
     public BigDecimal getManifestFreightsTotal() {
-        return manifestFreightsTotal;
+        return linha.getDecimal(MANIFEST_FREIGHTS_TOTAL);
     }
 
     public void setManifestFreightsTotal(final BigDecimal manifestFreightsTotal) {
-        this.manifestFreightsTotal = manifestFreightsTotal;
+        linha.setDecimal(MANIFEST_FREIGHTS_TOTAL, manifestFreightsTotal);
     }
 
     public Long getPickSequenceCode() {
-        return pickSequenceCode;
+        return linha.getLong(PICK_SEQUENCE_CODE);
     }
 
     public void setPickSequenceCode(final Long pickSequenceCode) {
-        this.pickSequenceCode = pickSequenceCode;
+        linha.setLong(PICK_SEQUENCE_CODE, pickSequenceCode);
     }
 
     public String getContractNumber() {
-        return contractNumber;
+        return linha.getTexto(CONTRACT_NUMBER);
     }
 
     public void setContractNumber(final String contractNumber) {
-        this.contractNumber = contractNumber;
+        linha.setTexto(CONTRACT_NUMBER, contractNumber);
     }
 
     public BigDecimal getDailySubtotal() {
-        return dailySubtotal;
+        return linha.getDecimal(DAILY_SUBTOTAL);
     }
 
     public void setDailySubtotal(final BigDecimal dailySubtotal) {
-        this.dailySubtotal = dailySubtotal;
+        linha.setDecimal(DAILY_SUBTOTAL, dailySubtotal);
     }
 
     public BigDecimal getOperationalExpensesTotal() {
-        return operationalExpensesTotal;
+        return linha.getDecimal(OPERATIONAL_EXPENSES_TOTAL);
     }
 
     public void setOperationalExpensesTotal(final BigDecimal operationalExpensesTotal) {
-        this.operationalExpensesTotal = operationalExpensesTotal;
+        linha.setDecimal(OPERATIONAL_EXPENSES_TOTAL, operationalExpensesTotal);
     }
 
     public BigDecimal getInssValue() {
-        return inssValue;
+        return linha.getDecimal(INSS_VALUE);
     }
 
     public void setInssValue(final BigDecimal inssValue) {
-        this.inssValue = inssValue;
+        linha.setDecimal(INSS_VALUE, inssValue);
     }
 
     public BigDecimal getSestSenatValue() {
-        return sestSenatValue;
+        return linha.getDecimal(SEST_SENAT_VALUE);
     }
 
     public void setSestSenatValue(final BigDecimal sestSenatValue) {
-        this.sestSenatValue = sestSenatValue;
+        linha.setDecimal(SEST_SENAT_VALUE, sestSenatValue);
     }
 
     public BigDecimal getIrValue() {
-        return irValue;
+        return linha.getDecimal(IR_VALUE);
     }
 
     public void setIrValue(final BigDecimal irValue) {
-        this.irValue = irValue;
+        linha.setDecimal(IR_VALUE, irValue);
     }
 
     public BigDecimal getPayingTotal() {
-        return payingTotal;
+        return linha.getDecimal(PAYING_TOTAL);
     }
 
     public void setPayingTotal(final BigDecimal payingTotal) {
-        this.payingTotal = payingTotal;
+        linha.setDecimal(PAYING_TOTAL, payingTotal);
     }
 
     public String getCreationUserName() {
-        return creationUserName;
+        return linha.getTexto(CREATION_USER_NAME);
     }
 
     public void setCreationUserName(final String creationUserName) {
-        this.creationUserName = creationUserName;
+        linha.setTexto(CREATION_USER_NAME, creationUserName);
     }
 
     public String getAdjustmentUserName() {
-        return adjustmentUserName;
+        return linha.getTexto(ADJUSTMENT_USER_NAME);
     }
 
     public void setAdjustmentUserName(final String adjustmentUserName) {
-        this.adjustmentUserName = adjustmentUserName;
+        linha.setTexto(ADJUSTMENT_USER_NAME, adjustmentUserName);
     }
 
     public String getContractType() {
-        return contractType;
+        return linha.getTexto(CONTRACT_TYPE);
     }
 
     public void setContractType(final String contractType) {
-        this.contractType = contractType;
+        linha.setTexto(CONTRACT_TYPE, contractType);
     }
 
     public String getDriverContractType() {
-        return driverContractType;
+        return linha.getTexto(DRIVER_CONTRACT_TYPE);
     }
 
     public void setDriverContractType(final String driverContractType) {
-        this.driverContractType = driverContractType;
+        linha.setTexto(DRIVER_CONTRACT_TYPE, driverContractType);
     }
 
     public String getCalculationType() {
-        return calculationType;
+        return linha.getTexto(CALCULATION_TYPE);
     }
 
     public void setCalculationType(final String calculationType) {
-        this.calculationType = calculationType;
+        linha.setTexto(CALCULATION_TYPE, calculationType);
     }
 
     public String getCargoType() {
-        return cargoType;
+        return linha.getTexto(CARGO_TYPE);
     }
 
     public void setCargoType(final String cargoType) {
-        this.cargoType = cargoType;
+        linha.setTexto(CARGO_TYPE, cargoType);
     }
 
     public BigDecimal getFreightSubtotal() {
-        return freightSubtotal;
+        return linha.getDecimal(FREIGHT_SUBTOTAL);
     }
 
     public void setFreightSubtotal(final BigDecimal freightSubtotal) {
-        this.freightSubtotal = freightSubtotal;
+        linha.setDecimal(FREIGHT_SUBTOTAL, freightSubtotal);
     }
 
     public BigDecimal getFuelSubtotal() {
-        return fuelSubtotal;
+        return linha.getDecimal(FUEL_SUBTOTAL);
     }
 
     public void setFuelSubtotal(final BigDecimal fuelSubtotal) {
-        this.fuelSubtotal = fuelSubtotal;
+        linha.setDecimal(FUEL_SUBTOTAL, fuelSubtotal);
     }
 
     public BigDecimal getTollSubtotal() {
-        return tollSubtotal;
+        return linha.getDecimal(TOLL_SUBTOTAL);
     }
 
     public void setTollSubtotal(final BigDecimal tollSubtotal) {
-        this.tollSubtotal = tollSubtotal;
+        linha.setDecimal(TOLL_SUBTOTAL, tollSubtotal);
     }
 
     public BigDecimal getDriverServicesTotal() {
-        return driverServicesTotal;
+        return linha.getDecimal(DRIVER_SERVICES_TOTAL);
     }
 
     public void setDriverServicesTotal(final BigDecimal driverServicesTotal) {
-        this.driverServicesTotal = driverServicesTotal;
+        linha.setDecimal(DRIVER_SERVICES_TOTAL, driverServicesTotal);
     }
 
     public Boolean getManualKm() {
-        return manualKm;
+        return linha.getBooleano(MANUAL_KM);
     }
 
     public void setManualKm(final Boolean manualKm) {
-        this.manualKm = manualKm;
+        linha.setBooleano(MANUAL_KM, manualKm);
     }
 
     public Boolean getGenerateMdfe() {
-        return generateMdfe;
+        return linha.getBooleano(GENERATE_MDFE);
     }
 
     public void setGenerateMdfe(final Boolean generateMdfe) {
-        this.generateMdfe = generateMdfe;
+        linha.setBooleano(GENERATE_MDFE, generateMdfe);
     }
 
     public Boolean getMonitoringRequest() {
-        return monitoringRequest;
+        return linha.getBooleano(MONITORING_REQUEST);
     }
 
     public void setMonitoringRequest(final Boolean monitoringRequest) {
-        this.monitoringRequest = monitoringRequest;
+        linha.setBooleano(MONITORING_REQUEST, monitoringRequest);
     }
 
     public Integer getUniqDestinationsCount() {
-        return uniqDestinationsCount;
+        return linha.getInteiro(UNIQ_DESTINATIONS_COUNT);
     }
 
     public void setUniqDestinationsCount(final Integer uniqDestinationsCount) {
-        this.uniqDestinationsCount = uniqDestinationsCount;
+        linha.setInteiro(UNIQ_DESTINATIONS_COUNT, uniqDestinationsCount);
     }
 
     public String getMetadata() {
-        return metadata;
+        return linha.getTexto(METADATA);
     }
 
     public void setMetadata(final String metadata) {
-        this.metadata = metadata;
+        linha.setTexto(METADATA, metadata);
     }
 
     public String getIdentificadorUnico() {
-        return identificadorUnico;
+        return linha.getTexto(IDENTIFICADOR_UNICO);
     }
 
     public void setIdentificadorUnico(final String identificadorUnico) {
-        this.identificadorUnico = identificadorUnico;
+        linha.setTexto(IDENTIFICADOR_UNICO, identificadorUnico);
     }
 
     public OffsetDateTime getMobileReadAt() {
-        return mobileReadAt;
+        return linha.getDataHora(MOBILE_READ_AT);
     }
 
     public void setMobileReadAt(final OffsetDateTime mobileReadAt) {
-        this.mobileReadAt = mobileReadAt;
+        linha.setDataHora(MOBILE_READ_AT, mobileReadAt);
     }
 
     public BigDecimal getKm() {
-        return km;
+        return linha.getDecimal(KM);
     }
 
     public void setKm(final BigDecimal km) {
-        this.km = km;
+        linha.setDecimal(KM, km);
     }
 
     public Integer getDeliveryManifestItemsCount() {
-        return deliveryManifestItemsCount;
+        return linha.getInteiro(DELIVERY_MANIFEST_ITEMS_COUNT);
     }
 
     public void setDeliveryManifestItemsCount(final Integer deliveryManifestItemsCount) {
-        this.deliveryManifestItemsCount = deliveryManifestItemsCount;
+        linha.setInteiro(DELIVERY_MANIFEST_ITEMS_COUNT, deliveryManifestItemsCount);
     }
 
     public Integer getTransferManifestItemsCount() {
-        return transferManifestItemsCount;
+        return linha.getInteiro(TRANSFER_MANIFEST_ITEMS_COUNT);
     }
 
     public void setTransferManifestItemsCount(final Integer transferManifestItemsCount) {
-        this.transferManifestItemsCount = transferManifestItemsCount;
+        linha.setInteiro(TRANSFER_MANIFEST_ITEMS_COUNT, transferManifestItemsCount);
     }
 
     public Integer getPickManifestItemsCount() {
-        return pickManifestItemsCount;
+        return linha.getInteiro(PICK_MANIFEST_ITEMS_COUNT);
     }
 
     public void setPickManifestItemsCount(final Integer pickManifestItemsCount) {
-        this.pickManifestItemsCount = pickManifestItemsCount;
+        linha.setInteiro(PICK_MANIFEST_ITEMS_COUNT, pickManifestItemsCount);
     }
 
     public Integer getDispatchDraftManifestItemsCount() {
-        return dispatchDraftManifestItemsCount;
+        return linha.getInteiro(DISPATCH_DRAFT_MANIFEST_ITEMS_COUNT);
     }
 
     public void setDispatchDraftManifestItemsCount(final Integer dispatchDraftManifestItemsCount) {
-        this.dispatchDraftManifestItemsCount = dispatchDraftManifestItemsCount;
+        linha.setInteiro(DISPATCH_DRAFT_MANIFEST_ITEMS_COUNT, dispatchDraftManifestItemsCount);
     }
 
     public Integer getConsolidationManifestItemsCount() {
-        return consolidationManifestItemsCount;
+        return linha.getInteiro(CONSOLIDATION_MANIFEST_ITEMS_COUNT);
     }
 
     public void setConsolidationManifestItemsCount(final Integer consolidationManifestItemsCount) {
-        this.consolidationManifestItemsCount = consolidationManifestItemsCount;
+        linha.setInteiro(CONSOLIDATION_MANIFEST_ITEMS_COUNT, consolidationManifestItemsCount);
     }
 
     public Integer getReversePickManifestItemsCount() {
-        return reversePickManifestItemsCount;
+        return linha.getInteiro(REVERSE_PICK_MANIFEST_ITEMS_COUNT);
     }
 
     public void setReversePickManifestItemsCount(final Integer reversePickManifestItemsCount) {
-        this.reversePickManifestItemsCount = reversePickManifestItemsCount;
+        linha.setInteiro(REVERSE_PICK_MANIFEST_ITEMS_COUNT, reversePickManifestItemsCount);
     }
 
     public Integer getManifestItemsCount() {
-        return manifestItemsCount;
+        return linha.getInteiro(MANIFEST_ITEMS_COUNT);
     }
 
     public void setManifestItemsCount(final Integer manifestItemsCount) {
-        this.manifestItemsCount = manifestItemsCount;
+        linha.setInteiro(MANIFEST_ITEMS_COUNT, manifestItemsCount);
     }
 
     public Integer getFinalizedManifestItemsCount() {
-        return finalizedManifestItemsCount;
+        return linha.getInteiro(FINALIZED_MANIFEST_ITEMS_COUNT);
     }
 
     public void setFinalizedManifestItemsCount(final Integer finalizedManifestItemsCount) {
-        this.finalizedManifestItemsCount = finalizedManifestItemsCount;
+        linha.setInteiro(FINALIZED_MANIFEST_ITEMS_COUNT, finalizedManifestItemsCount);
     }
 
     public Integer getCalculatedPickCount() {
-        return calculatedPickCount;
+        return linha.getInteiro(CALCULATED_PICK_COUNT);
     }
 
     public void setCalculatedPickCount(final Integer calculatedPickCount) {
-        this.calculatedPickCount = calculatedPickCount;
+        linha.setInteiro(CALCULATED_PICK_COUNT, calculatedPickCount);
     }
 
     public Integer getCalculatedDeliveryCount() {
-        return calculatedDeliveryCount;
+        return linha.getInteiro(CALCULATED_DELIVERY_COUNT);
     }
 
     public void setCalculatedDeliveryCount(final Integer calculatedDeliveryCount) {
-        this.calculatedDeliveryCount = calculatedDeliveryCount;
+        linha.setInteiro(CALCULATED_DELIVERY_COUNT, calculatedDeliveryCount);
     }
 
     public Integer getCalculatedDispatchCount() {
-        return calculatedDispatchCount;
+        return linha.getInteiro(CALCULATED_DISPATCH_COUNT);
     }
 
     public void setCalculatedDispatchCount(final Integer calculatedDispatchCount) {
-        this.calculatedDispatchCount = calculatedDispatchCount;
+        linha.setInteiro(CALCULATED_DISPATCH_COUNT, calculatedDispatchCount);
     }
 
     public Integer getCalculatedConsolidationCount() {
-        return calculatedConsolidationCount;
+        return linha.getInteiro(CALCULATED_CONSOLIDATION_COUNT);
     }
 
     public void setCalculatedConsolidationCount(final Integer calculatedConsolidationCount) {
-        this.calculatedConsolidationCount = calculatedConsolidationCount;
+        linha.setInteiro(CALCULATED_CONSOLIDATION_COUNT, calculatedConsolidationCount);
     }
 
     public Integer getCalculatedReversePickCount() {
-        return calculatedReversePickCount;
+        return linha.getInteiro(CALCULATED_REVERSE_PICK_COUNT);
     }
 
     public void setCalculatedReversePickCount(final Integer calculatedReversePickCount) {
-        this.calculatedReversePickCount = calculatedReversePickCount;
+        linha.setInteiro(CALCULATED_REVERSE_PICK_COUNT, calculatedReversePickCount);
     }
 
     public BigDecimal getPickSubtotal() {
-        return pickSubtotal;
+        return linha.getDecimal(PICK_SUBTOTAL);
     }
 
     public void setPickSubtotal(final BigDecimal pickSubtotal) {
-        this.pickSubtotal = pickSubtotal;
+        linha.setDecimal(PICK_SUBTOTAL, pickSubtotal);
     }
 
     public BigDecimal getDeliverySubtotal() {
-        return deliverySubtotal;
+        return linha.getDecimal(DELIVERY_SUBTOTAL);
     }
 
     public void setDeliverySubtotal(final BigDecimal deliverySubtotal) {
-        this.deliverySubtotal = deliverySubtotal;
+        linha.setDecimal(DELIVERY_SUBTOTAL, deliverySubtotal);
     }
 
     public BigDecimal getDispatchSubtotal() {
-        return dispatchSubtotal;
+        return linha.getDecimal(DISPATCH_SUBTOTAL);
     }
 
     public void setDispatchSubtotal(final BigDecimal dispatchSubtotal) {
-        this.dispatchSubtotal = dispatchSubtotal;
+        linha.setDecimal(DISPATCH_SUBTOTAL, dispatchSubtotal);
     }
 
     public BigDecimal getConsolidationSubtotal() {
-        return consolidationSubtotal;
+        return linha.getDecimal(CONSOLIDATION_SUBTOTAL);
     }
 
     public void setConsolidationSubtotal(final BigDecimal consolidationSubtotal) {
-        this.consolidationSubtotal = consolidationSubtotal;
+        linha.setDecimal(CONSOLIDATION_SUBTOTAL, consolidationSubtotal);
     }
 
     public BigDecimal getReversePickSubtotal() {
-        return reversePickSubtotal;
+        return linha.getDecimal(REVERSE_PICK_SUBTOTAL);
     }
 
     public void setReversePickSubtotal(final BigDecimal reversePickSubtotal) {
-        this.reversePickSubtotal = reversePickSubtotal;
+        linha.setDecimal(REVERSE_PICK_SUBTOTAL, reversePickSubtotal);
     }
 
     public BigDecimal getAdvanceSubtotal() {
-        return advanceSubtotal;
+        return linha.getDecimal(ADVANCE_SUBTOTAL);
     }
 
     public void setAdvanceSubtotal(final BigDecimal advanceSubtotal) {
-        this.advanceSubtotal = advanceSubtotal;
+        linha.setDecimal(ADVANCE_SUBTOTAL, advanceSubtotal);
     }
 
     public BigDecimal getFleetCostsSubtotal() {
-        return fleetCostsSubtotal;
+        return linha.getDecimal(FLEET_COSTS_SUBTOTAL);
     }
 
     public void setFleetCostsSubtotal(final BigDecimal fleetCostsSubtotal) {
-        this.fleetCostsSubtotal = fleetCostsSubtotal;
+        linha.setDecimal(FLEET_COSTS_SUBTOTAL, fleetCostsSubtotal);
     }
 
     public BigDecimal getAdditionalsSubtotal() {
-        return additionalsSubtotal;
+        return linha.getDecimal(ADDITIONALS_SUBTOTAL);
     }
 
     public void setAdditionalsSubtotal(final BigDecimal additionalsSubtotal) {
-        this.additionalsSubtotal = additionalsSubtotal;
+        linha.setDecimal(ADDITIONALS_SUBTOTAL, additionalsSubtotal);
     }
 
     public BigDecimal getDiscountsSubtotal() {
-        return discountsSubtotal;
+        return linha.getDecimal(DISCOUNTS_SUBTOTAL);
     }
 
     public void setDiscountsSubtotal(final BigDecimal discountsSubtotal) {
-        this.discountsSubtotal = discountsSubtotal;
+        linha.setDecimal(DISCOUNTS_SUBTOTAL, discountsSubtotal);
     }
 
     public BigDecimal getDiscountValue() {
-        return discountValue;
+        return linha.getDecimal(DISCOUNT_VALUE);
     }
 
     public void setDiscountValue(final BigDecimal discountValue) {
-        this.discountValue = discountValue;
+        linha.setDecimal(DISCOUNT_VALUE, discountValue);
     }
 
     public String getAdjustmentComments() {
-        return adjustmentComments;
+        return linha.getTexto(ADJUSTMENT_COMMENTS);
     }
 
     public void setAdjustmentComments(final String adjustmentComments) {
-        this.adjustmentComments = adjustmentComments;
+        linha.setTexto(ADJUSTMENT_COMMENTS, adjustmentComments);
     }
 
     public String getContractStatus() {
-        return contractStatus;
+        return linha.getTexto(CONTRACT_STATUS);
     }
 
     public void setContractStatus(final String contractStatus) {
-        this.contractStatus = contractStatus;
+        linha.setTexto(CONTRACT_STATUS, contractStatus);
     }
 
     public String getIksId() {
-        return iksId;
+        return linha.getTexto(IKS_ID);
     }
 
     public void setIksId(final String iksId) {
-        this.iksId = iksId;
+        linha.setTexto(IKS_ID, iksId);
     }
 
     public String getProgramacaoSequenceCode() {
-        return programacaoSequenceCode;
+        return linha.getTexto(PROGRAMACAO_SEQUENCE_CODE);
     }
 
     public void setProgramacaoSequenceCode(final String programacaoSequenceCode) {
-        this.programacaoSequenceCode = programacaoSequenceCode;
+        linha.setTexto(PROGRAMACAO_SEQUENCE_CODE, programacaoSequenceCode);
     }
 
     public OffsetDateTime getProgramacaoStartingAt() {
-        return programacaoStartingAt;
+        return linha.getDataHora(PROGRAMACAO_STARTING_AT);
     }
 
     public void setProgramacaoStartingAt(final OffsetDateTime programacaoStartingAt) {
-        this.programacaoStartingAt = programacaoStartingAt;
+        linha.setDataHora(PROGRAMACAO_STARTING_AT, programacaoStartingAt);
     }
 
     public OffsetDateTime getProgramacaoEndingAt() {
-        return programacaoEndingAt;
+        return linha.getDataHora(PROGRAMACAO_ENDING_AT);
     }
 
     public void setProgramacaoEndingAt(final OffsetDateTime programacaoEndingAt) {
-        this.programacaoEndingAt = programacaoEndingAt;
+        linha.setDataHora(PROGRAMACAO_ENDING_AT, programacaoEndingAt);
     }
 
     public String getTrailer1LicensePlate() {
-        return trailer1LicensePlate;
+        return linha.getTexto(TRAILER1_LICENSE_PLATE);
     }
 
     public void setTrailer1LicensePlate(final String trailer1LicensePlate) {
-        this.trailer1LicensePlate = trailer1LicensePlate;
+        linha.setTexto(TRAILER1_LICENSE_PLATE, trailer1LicensePlate);
     }
 
     public BigDecimal getTrailer1WeightCapacity() {
-        return trailer1WeightCapacity;
+        return linha.getDecimal(TRAILER1_WEIGHT_CAPACITY);
     }
 
     public void setTrailer1WeightCapacity(final BigDecimal trailer1WeightCapacity) {
-        this.trailer1WeightCapacity = trailer1WeightCapacity;
+        linha.setDecimal(TRAILER1_WEIGHT_CAPACITY, trailer1WeightCapacity);
     }
 
     public String getTrailer2LicensePlate() {
-        return trailer2LicensePlate;
+        return linha.getTexto(TRAILER2_LICENSE_PLATE);
     }
 
     public void setTrailer2LicensePlate(final String trailer2LicensePlate) {
-        this.trailer2LicensePlate = trailer2LicensePlate;
+        linha.setTexto(TRAILER2_LICENSE_PLATE, trailer2LicensePlate);
     }
 
     public BigDecimal getTrailer2WeightCapacity() {
-        return trailer2WeightCapacity;
+        return linha.getDecimal(TRAILER2_WEIGHT_CAPACITY);
     }
 
     public void setTrailer2WeightCapacity(final BigDecimal trailer2WeightCapacity) {
-        this.trailer2WeightCapacity = trailer2WeightCapacity;
+        linha.setDecimal(TRAILER2_WEIGHT_CAPACITY, trailer2WeightCapacity);
     }
 
     public BigDecimal getVehicleWeightCapacity() {
-        return vehicleWeightCapacity;
+        return linha.getDecimal(VEHICLE_WEIGHT_CAPACITY);
     }
 
     public void setVehicleWeightCapacity(final BigDecimal vehicleWeightCapacity) {
-        this.vehicleWeightCapacity = vehicleWeightCapacity;
+        linha.setDecimal(VEHICLE_WEIGHT_CAPACITY, vehicleWeightCapacity);
     }
 
     public BigDecimal getVehicleCubicWeight() {
-        return vehicleCubicWeight;
+        return linha.getDecimal(VEHICLE_CUBIC_WEIGHT);
     }
 
     public void setVehicleCubicWeight(final BigDecimal vehicleCubicWeight) {
-        this.vehicleCubicWeight = vehicleCubicWeight;
+        linha.setDecimal(VEHICLE_CUBIC_WEIGHT, vehicleCubicWeight);
     }
 
     public String getUnloadingRecipientNames() {
-        return unloadingRecipientNames;
+        return linha.getTexto(UNLOADING_RECIPIENT_NAMES);
     }
 
     public void setUnloadingRecipientNames(final String unloadingRecipientNames) {
-        this.unloadingRecipientNames = unloadingRecipientNames;
+        linha.setTexto(UNLOADING_RECIPIENT_NAMES, unloadingRecipientNames);
     }
 
     public String getDeliveryRegionNames() {
-        return deliveryRegionNames;
+        return linha.getTexto(DELIVERY_REGION_NAMES);
     }
 
     public void setDeliveryRegionNames(final String deliveryRegionNames) {
-        this.deliveryRegionNames = deliveryRegionNames;
+        linha.setTexto(DELIVERY_REGION_NAMES, deliveryRegionNames);
     }
 
     public String getProgramacaoCliente() {
-        return programacaoCliente;
+        return linha.getTexto(PROGRAMACAO_CLIENTE);
     }
 
     public void setProgramacaoCliente(final String programacaoCliente) {
-        this.programacaoCliente = programacaoCliente;
+        linha.setTexto(PROGRAMACAO_CLIENTE, programacaoCliente);
     }
 
     public String getProgramacaoTipoServico() {
-        return programacaoTipoServico;
+        return linha.getTexto(PROGRAMACAO_TIPO_SERVICO);
     }
 
     public void setProgramacaoTipoServico(final String programacaoTipoServico) {
-        this.programacaoTipoServico = programacaoTipoServico;
+        linha.setTexto(PROGRAMACAO_TIPO_SERVICO, programacaoTipoServico);
     }
 
     public BigDecimal getCapacidadeKg() {
-        return capacidadeKg;
+        return linha.getDecimal(CAPACIDADE_KG);
     }
 
     public void setCapacidadeKg(final BigDecimal capacidadeKg) {
-        this.capacidadeKg = capacidadeKg;
+        linha.setDecimal(CAPACIDADE_KG, capacidadeKg);
     }
 
     public String getObsOperacional() {
-        return obsOperacional;
+        return linha.getTexto(OBS_OPERACIONAL);
     }
 
     public void setObsOperacional(final String obsOperacional) {
-        this.obsOperacional = obsOperacional;
+        linha.setTexto(OBS_OPERACIONAL, obsOperacional);
     }
 
     public String getObsFinanceira() {
-        return obsFinanceira;
+        return linha.getTexto(OBS_FINANCEIRA);
     }
 
     public void setObsFinanceira(final String obsFinanceira) {
-        this.obsFinanceira = obsFinanceira;
+        linha.setTexto(OBS_FINANCEIRA, obsFinanceira);
     }
 
     public boolean isExcluidoNaOrigem() {
@@ -969,23 +986,23 @@ public class ManifestoEntity {
     public void calcularIdentificadorUnico() {
         // CASO 1: AMBOS pick_sequence_code E mdfe_number preenchidos
         // CRÍTICO: Incluir mdfe_number para diferenciar múltiplos MDF-es com mesmo pick
-        if (this.pickSequenceCode != null && this.mdfeNumber != null) {
-            this.identificadorUnico = this.pickSequenceCode + "_MDFE_" + this.mdfeNumber;
+        if (getPickSequenceCode() != null && getMdfeNumber() != null) {
+            setIdentificadorUnico(getPickSequenceCode() + "_MDFE_" + getMdfeNumber());
         }
         // CASO 2: Apenas pick_sequence_code preenchido (mdfe_number é NULL)
-        else if (this.pickSequenceCode != null) {
-            this.identificadorUnico = String.valueOf(this.pickSequenceCode);
+        else if (getPickSequenceCode() != null) {
+            setIdentificadorUnico(String.valueOf(getPickSequenceCode()));
         }
         // CASO 3: Apenas mdfe_number preenchido (pick_sequence_code é NULL)
-        else if (this.mdfeNumber != null) {
+        else if (getMdfeNumber() != null) {
             // Usar sequence_code + mdfe_number quando não há pick mas há MDF-e
             // Isso garante que múltiplos MDF-es do mesmo manifesto sejam preservados
-            this.identificadorUnico = this.sequenceCode + "_MDFE_" + this.mdfeNumber;
+            setIdentificadorUnico(getSequenceCode() + "_MDFE_" + getMdfeNumber());
         }
         // CASO 4: Ambos NULL - usar hash do metadata
         else {
             // Calcular hash do metadata quando não há pick nem MDF-e
-            this.identificadorUnico = calcularHashMetadata(this.metadata);
+            setIdentificadorUnico(calcularHashMetadata(getMetadata()));
         }
     }
 
@@ -1004,7 +1021,7 @@ public class ManifestoEntity {
     private String calcularHashMetadata(final String metadata) {
         if (metadata == null || metadata.trim().isEmpty()) {
             // Fallback: usar hash do sequence_code se metadata estiver vazio
-            return "NULL_METADATA_" + (this.sequenceCode != null ? this.sequenceCode : "UNKNOWN");
+            return "NULL_METADATA_" + (getSequenceCode() != null ? getSequenceCode() : "UNKNOWN");
         }
         try {
             final JsonNode parsed = MapperUtil.sharedJson().readTree(metadata);
@@ -20,8 +20,9 @@ Metodos principais:
 - isContinuarAposErro(): retorna estado booleano de controle.
 - AbstractRepository(): realiza operacao relacionada a "abstract repository".
 - obterIdentificadorEntidade(...1 args): recupera dados configurados ou calculados.
-- encontrarGetter(...2 args): realiza operacao relacionada a "encontrar getter".
-- converterSnakeToCamel(...1 args): transforma dados entre formatos/modelos.
+- obterDatasNegocio(...1 args): datas de negocio da entidade para a faixa alterada das fatos BI.
+- registrarFaixaAlterada(...2 args): amplia dbo.sys_materializacao_faixa_alterada no commit.
+- registrarCompletudeDiaria(...2 args): soma operacoes por data de negocio em dbo.sys_completude_diaria no commit.
 - normalizarNomeCampo(...1 args): realiza operacao relacionada a "normalizar nome campo".
 - truncate(...2 args): realiza operacao relacionada a "truncate".
 Atributos-chave:
@@ -36,15 +37,28 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import br.com.extrator.suporte.configuracao.ConfigBanco;
+import br.com.extrator.suporte.configuracao.ConfigEtl;
 import br.com.extrator.suporte.banco.GerenciadorConexao;
+import br.com.extrator.suporte.banco.NotificadorCommit;
+import br.com.extrator.suporte.tempo.RelogioSistema;
 
 /**
  * Classe base abstrata para repositórios com operações comuns de banco de dados.
@@ -60,7 +74,13 @@ import br.com.extrator.suporte.banco.GerenciadorConexao;
  */
 public abstract class AbstractRepository<T> extends RepositoryParameterBindingSupport {
     private static final Logger logger = LoggerFactory.getLogger(AbstractRepository.class);
+    private static final String TABELA_HASH_LINHA_LOTE = "#hash_linha_lote";
+    private static final int ERRO_DEADLOCK_SQL_SERVER = 1205;
     private volatile SaveSummary ultimoResumoSalvamento = SaveSummary.vazio();
+    // hash_linha calculado pelo pre-filtro, reaproveitado no MERGE da mesma chamada de salvar.
+    private Map<T, byte[]> hashesLinhaDoLote = new IdentityHashMap<>();
+    // Linhas que a promocao do staging so confirmou (refresh de data_extracao): no-op, nao alteracao.
+    private int confirmadosSemAlteracaoNaPromocao;
 
     public static final class SaveSummary {
         private final int operacoesBemSucedidas;
@@ -227,6 +247,329 @@ public abstract class AbstractRepository<T> extends RepositoryParameterBindingSu
         return 0;
     }
 
+    /**
+     * Colunas que identificam a linha no pre-filtro por hash_linha; lista vazia desliga o pre-filtro.
+     * A ordem deve bater com {@link #obterChaveHashLinha(Object)}.
+     */
+    protected List<String> getColunasChaveHashLinha() {
+        return List.of();
+    }
+
+    protected List<Object> obterChaveHashLinha(final T entidade) {
+        return List.of();
+    }
+
+    /**
+     * Propriedades da entidade (nome Jackson) que ficam fora do hash_linha alem de data_extracao:
+     * colunas que outro processo atualiza depois do MERGE e que nao devem invalidar o hash.
+     */
+    protected List<String> getCamposForaDoHashLinha() {
+        return List.of();
+    }
+
+    protected void setHashLinhaParameter(final PreparedStatement statement,
+                                         final int index,
+                                         final T entidade) throws SQLException {
+        statement.setBytes(index, hashLinha(entidade));
+    }
+
+    private byte[] hashLinha(final T entidade) {
+        return hashesLinhaDoLote.computeIfAbsent(entidade, e -> HashLinha.calcular(e, getCamposForaDoHashLinha()));
+    }
+
+    /**
+     * Sobe (chave, hash_linha) do lote para uma temporaria e, num unico UPDATE, refresca data_extracao das
+     * linhas ativas cujo hash gravado e igual ao recebido. Devolve as entidades que dispensam o MERGE.
+     * Chaves repetidas no lote ficam de fora: todas passam pelo MERGE, na ordem, e a ultima prevalece.
+     */
+    private Set<T> refrescarLinhasInalteradas(final Connection conexao, final List<T> entidades) throws SQLException {
+        final List<String> colunasChave = getColunasChaveHashLinha();
+        if (colunasChave.isEmpty() || !ConfigEtl.isPreFiltroHashLinhaAtivo()) {
+            return Set.of();
+        }
+        final List<String> chaves = validarListaColunas(colunasChave);
+        final String tabelaDestino = qualificarTabelaDestino();
+        final String sqlCriar = """
+            IF OBJECT_ID('tempdb..%1$s') IS NOT NULL
+                DROP TABLE %1$s;
+            SELECT TOP 0 %2$s, hash_linha
+            INTO %1$s
+            FROM %3$s;
+            """.formatted(TABELA_HASH_LINHA_LOTE, String.join(", ", chaves), tabelaDestino);
+        try (Statement stmt = conexao.createStatement()) {
+            stmt.execute(sqlCriar);
+        }
+
+        final Map<String, Integer> ocorrenciasPorChave = new HashMap<>();
+        for (final T entidade : entidades) {
+            ocorrenciasPorChave.merge(chaveHashLinha(obterChaveHashLinha(entidade)), 1, Integer::sum);
+        }
+
+        final String sqlInserir = "INSERT INTO " + TABELA_HASH_LINHA_LOTE + " (" + String.join(", ", chaves)
+            + ", hash_linha) VALUES (" + "?, ".repeat(chaves.size()) + "?)";
+        int pendentes = 0;
+        try (PreparedStatement insert = conexao.prepareStatement(sqlInserir)) {
+            for (final T entidade : entidades) {
+                final List<Object> chave = obterChaveHashLinha(entidade);
+                if (chave.size() != chaves.size() || chave.stream().anyMatch(Objects::isNull)
+                    || ocorrenciasPorChave.get(chaveHashLinha(chave)) > 1) {
+                    continue;
+                }
+                for (int i = 0; i < chave.size(); i++) {
+                    insert.setObject(i + 1, chave.get(i));
+                }
+                insert.setBytes(chave.size() + 1, hashLinha(entidade));
+                insert.addBatch();
+                if (++pendentes % getBatchSize() == 0) {
+                    insert.executeBatch();
+                }
+            }
+            if (pendentes % getBatchSize() != 0) {
+                insert.executeBatch();
+            }
+        }
+        if (pendentes == 0) {
+            return Set.of();
+        }
+
+        final String sqlRefresh = """
+            UPDATE target
+               SET data_extracao = CASE
+                       WHEN target.data_extracao IS NULL OR target.data_extracao < ? THEN ?
+                       ELSE target.data_extracao
+                   END
+            OUTPUT %1$s, inserted.hash_linha
+              FROM %2$s AS target
+              JOIN %3$s AS lote
+                ON %4$s
+             WHERE target.hash_linha = lote.hash_linha
+               AND target.excluido_na_origem = 0
+            """.formatted(
+            chaves.stream().map(coluna -> "inserted." + coluna).collect(Collectors.joining(", ")),
+            tabelaDestino,
+            TABELA_HASH_LINHA_LOTE,
+            chaves.stream().map(coluna -> "target." + coluna + " = lote." + coluna).collect(Collectors.joining(" AND "))
+        );
+        final Map<String, byte[]> hashesInalterados = new HashMap<>();
+        try (PreparedStatement refresh = conexao.prepareStatement(sqlRefresh)) {
+            final Instant agora = Instant.now();
+            setInstantParameter(refresh, 1, agora);
+            setInstantParameter(refresh, 2, agora);
+            try (ResultSet rs = refresh.executeQuery()) {
+                while (rs.next()) {
+                    final List<Object> chave = new ArrayList<>(chaves.size());
+                    for (int i = 1; i <= chaves.size(); i++) {
+                        chave.add(rs.getString(i));
+                    }
+                    hashesInalterados.put(chaveHashLinha(chave), rs.getBytes(chaves.size() + 1));
+                }
+            }
+        }
+
+        final Set<T> inalteradas = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final T entidade : entidades) {
+            final byte[] hashGravado = hashesInalterados.get(chaveHashLinha(obterChaveHashLinha(entidade)));
+            if (hashGravado != null && Arrays.equals(hashGravado, hashLinha(entidade))) {
+                inalteradas.add(entidade);
+            }
+        }
+        return inalteradas;
+    }
+
+    private static String chaveHashLinha(final List<Object> chave) {
+        return chave.stream().map(String::valueOf).collect(Collectors.joining("\u0001"));
+    }
+
+    /**
+     * Incrementa os contadores de dbo.sys_completude_diaria na mesma transacao de cada commit,
+     * um MERGE por data de negocio, para que a validacao incremental de completude nao precise recontar a janela inteira.
+     * Erros de SQL comuns so geram aviso (a recontagem completa corrige lacunas); deadlock e relancado
+     * porque o SQL Server ja desfez a transacao inteira do salvamento (ver o comentario do MERGE).
+     */
+    protected void registrarCompletudeDiaria(final Connection conexao,
+                                             final ContadoresCompletudeDiaria contadores) throws SQLException {
+        if (contadores.porDia.isEmpty()) {
+            return;
+        }
+        final String sql = """
+            IF OBJECT_ID(N'dbo.sys_completude_diaria', N'U') IS NOT NULL
+            BEGIN
+                -- HOLDLOCK roda dentro da transacao do salvar() e segura o range (entidade, dia) ate o commit:
+                -- salvamentos concorrentes da mesma entidade se serializam aqui, e o insert do primeiro commit
+                -- do dia pode entrar em deadlock com outro saver (conversao de range lock ou locks ja tomados
+                -- no destino). A vitima do deadlock perde o lote inteiro; o erro sobe para o salvar() falhar.
+                MERGE dbo.sys_completude_diaria WITH (HOLDLOCK) AS target
+                USING (SELECT ? AS entidade, CAST(? AS DATE) AS data_referencia) AS source
+                    ON target.entidade = source.entidade
+                   AND target.data_referencia = source.data_referencia
+                WHEN MATCHED THEN UPDATE SET
+                    operacoes_confirmadas = target.operacoes_confirmadas + ?,
+                    operacoes_pendentes = target.operacoes_pendentes + ?,
+                    registros_noop = target.registros_noop + ?,
+                    commits = target.commits + 1,
+                    ultimo_commit_em = SYSDATETIME()
+                WHEN NOT MATCHED THEN
+                    INSERT (entidade, data_referencia, operacoes_confirmadas, operacoes_pendentes, registros_noop, commits, ultimo_commit_em)
+                    VALUES (source.entidade, source.data_referencia, ?, ?, ?, 1, SYSDATETIME());
+            END
+            """;
+        try (PreparedStatement stmt = conexao.prepareStatement(sql)) {
+            for (final Map.Entry<LocalDate, long[]> dia : contadores.porDia.entrySet()) {
+                final long confirmadas = dia.getValue()[0];
+                final long noOp = dia.getValue()[1];
+                stmt.setString(1, getNomeTabela());
+                stmt.setDate(2, java.sql.Date.valueOf(dia.getKey()));
+                stmt.setLong(3, confirmadas);
+                stmt.setLong(4, confirmadas);
+                stmt.setLong(5, noOp);
+                stmt.setLong(6, confirmadas);
+                stmt.setLong(7, confirmadas);
+                stmt.setLong(8, noOp);
+                stmt.executeUpdate();
+            }
+        } catch (final SQLException e) {
+            if (e.getErrorCode() == ERRO_DEADLOCK_SQL_SERVER) {
+                throw e;
+            }
+            logger.warn("Nao foi possivel atualizar sys_completude_diaria para {}: {}", getNomeTabela(), e.getMessage());
+        }
+        contadores.limpar();
+    }
+
+    /**
+     * Data de negocio sob a qual a operacao entra em sys_completude_diaria: a primeira data de
+     * obterDatasNegocio; sem ela (repositorio que nao descreve datas), o dia da extracao.
+     */
+    protected LocalDate dataReferenciaCompletude(final T entidade) {
+        final List<LocalDate> datas = obterDatasNegocio(entidade);
+        if (datas != null) {
+            for (final LocalDate data : datas) {
+                if (data != null) {
+                    return data;
+                }
+            }
+        }
+        return RelogioSistema.hoje();
+    }
+
+    /**
+     * Datas de negocio usadas pelos filtros das sp_carga_fato_* para esta entidade.
+     * Retorna null quando o repositorio nao as descreve: a fato consumidora roda entao com a janela padrao.
+     */
+    protected List<LocalDate> obterDatasNegocio(final T entidade) {
+        return null;
+    }
+
+    protected static LocalDate dataNegocio(final java.time.OffsetDateTime valor) {
+        return valor == null ? null : valor.toLocalDate();
+    }
+
+    /**
+     * Amplia a faixa alterada da tabela em dbo.sys_materializacao_faixa_alterada na mesma transacao
+     * do commit, para que a materializacao BI recalcule apenas o intervalo tocado.
+     */
+    protected void registrarFaixaAlterada(final Connection conexao, final FaixaDatasNegocio faixa) {
+        if (faixa.registrosAlterados <= 0) {
+            return;
+        }
+        final String sql = """
+            IF OBJECT_ID(N'dbo.sys_materializacao_faixa_alterada', N'U') IS NOT NULL
+            BEGIN
+                MERGE dbo.sys_materializacao_faixa_alterada WITH (HOLDLOCK) AS target
+                USING (SELECT ? AS tabela_origem, CAST(? AS DATE) AS data_minima, CAST(? AS DATE) AS data_maxima,
+                              CAST(? AS BIT) AS faixa_desconhecida, CAST(? AS BIGINT) AS registros_alterados) AS source
+                    ON target.tabela_origem = source.tabela_origem
+                WHEN MATCHED THEN UPDATE SET
+                    data_minima = CASE
+                        WHEN target.data_minima IS NULL OR source.data_minima < target.data_minima THEN COALESCE(source.data_minima, target.data_minima)
+                        ELSE target.data_minima END,
+                    data_maxima = CASE
+                        WHEN target.data_maxima IS NULL OR source.data_maxima > target.data_maxima THEN COALESCE(source.data_maxima, target.data_maxima)
+                        ELSE target.data_maxima END,
+                    faixa_desconhecida = CASE WHEN target.faixa_desconhecida = 1 OR source.faixa_desconhecida = 1 THEN 1 ELSE 0 END,
+                    registros_alterados = target.registros_alterados + source.registros_alterados,
+                    atualizado_em = SYSDATETIME()
+                WHEN NOT MATCHED THEN
+                    INSERT (tabela_origem, data_minima, data_maxima, faixa_desconhecida, registros_alterados, atualizado_em)
+                    VALUES (source.tabela_origem, source.data_minima, source.data_maxima, source.faixa_desconhecida,
+                            source.registros_alterados, SYSDATETIME());
+            END
+            """;
+        try (PreparedStatement stmt = conexao.prepareStatement(sql)) {
+            stmt.setString(1, getNomeTabela());
+            stmt.setObject(2, faixa.dataMinima == null ? null : java.sql.Date.valueOf(faixa.dataMinima), java.sql.Types.DATE);
+            stmt.setObject(3, faixa.dataMaxima == null ? null : java.sql.Date.valueOf(faixa.dataMaxima), java.sql.Types.DATE);
+            stmt.setBoolean(4, faixa.faixaDesconhecida);
+            stmt.setLong(5, faixa.registrosAlterados);
+            stmt.executeUpdate();
+        } catch (final SQLException e) {
+            // Sem o registro a fato roda na proxima revarredura diaria com a janela padrao.
+            logger.warn("Nao foi possivel atualizar sys_materializacao_faixa_alterada para {}: {}", getNomeTabela(), e.getMessage());
+        }
+        faixa.limpar();
+    }
+
+    /**
+     * Acumulador da faixa de datas de negocio alteradas entre dois commits.
+     */
+    protected static final class FaixaDatasNegocio {
+        private LocalDate dataMinima;
+        private LocalDate dataMaxima;
+        private boolean faixaDesconhecida;
+        private long registrosAlterados;
+
+        void incluir(final List<LocalDate> datas) {
+            registrosAlterados++;
+            if (datas == null) {
+                faixaDesconhecida = true;
+                return;
+            }
+            for (final LocalDate data : datas) {
+                if (data == null) {
+                    continue;
+                }
+                if (dataMinima == null || data.isBefore(dataMinima)) {
+                    dataMinima = data;
+                }
+                if (dataMaxima == null || data.isAfter(dataMaxima)) {
+                    dataMaxima = data;
+                }
+            }
+        }
+
+        private void limpar() {
+            dataMinima = null;
+            dataMaxima = null;
+            faixaDesconhecida = false;
+            registrosAlterados = 0L;
+        }
+    }
+
+    /**
+     * Operacoes confirmadas e no-op por data de negocio entre dois commits.
+     */
+    protected static final class ContadoresCompletudeDiaria {
+        private final Map<LocalDate, long[]> porDia = new TreeMap<>();
+
+        void registrar(final LocalDate dia, final boolean noOp) {
+            final long[] contadores = porDia.computeIfAbsent(dia, ignorado -> new long[2]);
+            contadores[0]++;
+            if (noOp) {
+                contadores[1]++;
+            }
+        }
+
+        Map<LocalDate, Long> confirmadasPorDia() {
+            final Map<LocalDate, Long> confirmadas = new TreeMap<>();
+            porDia.forEach((dia, contadores) -> confirmadas.put(dia, contadores[0]));
+            return confirmadas;
+        }
+
+        private void limpar() {
+            porDia.clear();
+        }
+    }
+
     protected int promoverStagingPorExecucao(final Connection conexao) throws SQLException {
         // Implementacao opcional nos repositorios que promovem staging para a tabela final.
         return 0;
@@ -336,7 +679,9 @@ public abstract class AbstractRepository<T> extends RepositoryParameterBindingSu
             freshnessGuard
         );
         try (PreparedStatement refresh = conexao.prepareStatement(sqlRefresh)) {
-            return refresh.executeUpdate();
+            final int rowsConfirmados = refresh.executeUpdate();
+            confirmadosSemAlteracaoNaPromocao += rowsConfirmados;
+            return rowsConfirmados;
         }
     }
 
@@ -387,7 +732,11 @@ public abstract class AbstractRepository<T> extends RepositoryParameterBindingSu
 
         final int batchSize = getBatchSize();
         final boolean atomicCommitMode = isModoCommitAtomico();
+        final FaixaDatasNegocio faixaAlterada = new FaixaDatasNegocio();
+        final ContadoresCompletudeDiaria completudeDiaria = new ContadoresCompletudeDiaria();
         ultimoResumoSalvamento = SaveSummary.vazio();
+        hashesLinhaDoLote = new IdentityHashMap<>();
+        confirmadosSemAlteracaoNaPromocao = 0;
         logger.info("🔄 Iniciando salvamento de {} registros de {} (batch size: {})", 
             totalRegistros, getClass().getSimpleName(), batchSize);
 
@@ -410,6 +759,11 @@ public abstract class AbstractRepository<T> extends RepositoryParameterBindingSu
             try {
                 // Verificar que a tabela existe (NÃO criar - schema deve ser gerenciado via scripts SQL)
                 verificarTabelaExisteOuLancarErro(conexao);
+                final Set<T> linhasInalteradas = refrescarLinhasInalteradas(conexao, entidades);
+                if (!linhasInalteradas.isEmpty()) {
+                    logger.debug("Pre-filtro hash_linha de {}: {} de {} registro(s) sem alteracao dispensam o MERGE",
+                        getClass().getSimpleName(), linhasInalteradas.size(), totalRegistros);
+                }
                 if (usarStagingPorExecucao()) {
                     prepararStagingPorExecucao(conexao);
                 }
@@ -419,25 +773,36 @@ public abstract class AbstractRepository<T> extends RepositoryParameterBindingSu
                     registroAtual++;
                     
                     try {
-                        // Tenta executar o MERGE para este registro
-                        final int rowsAffected = executarMergeNoDestinoDaExecucao(conexao, entidade);
+                        // Tenta executar o MERGE para este registro (linhas inalteradas ja tiveram data_extracao refrescada)
+                        final boolean inalterada = linhasInalteradas.contains(entidade);
+                        final int rowsAffected = inalterada ? 0 : executarMergeNoDestinoDaExecucao(conexao, entidade);
                         
                         if (rowsAffected > 0) {
                             totalSucesso++;
                             totalPersistidos += rowsAffected;
+                            faixaAlterada.incluir(obterDatasNegocio(entidade));
+                            completudeDiaria.registrar(dataReferenciaCompletude(entidade), false);
+                        } else if (inalterada) {
+                            totalSucesso++;
+                            totalNoOpIdempotente++;
+                            totalPersistidos++;
+                            completudeDiaria.registrar(dataReferenciaCompletude(entidade), true);
                         } else if (aceitarMergeSemAlteracoesComoSucesso(entidade)) {
                             final int rowsRefrescadas = refrescarDataExtracaoQuandoNoOp(conexao, entidade);
                             totalSucesso++;
                             totalNoOpIdempotente++;
                             totalPersistidos += rowsRefrescadas;
-                            logger.debug(
-                                "MERGE retornou 0 para registro {}/{} de {}: {} (no-op idempotente aceito, rows_refrescadas={})",
-                                registroAtual,
-                                totalRegistros,
-                                getClass().getSimpleName(),
-                                obterIdentificadorEntidade(entidade),
-                                rowsRefrescadas
-                            );
+                            completudeDiaria.registrar(dataReferenciaCompletude(entidade), true);
+                            if (logger.isDebugEnabled()) {
+                                logger.debug(
+                                    "MERGE retornou 0 para registro {}/{} de {}: {} (no-op idempotente aceito, rows_refrescadas={})",
+                                    registroAtual,
+                                    totalRegistros,
+                                    getClass().getSimpleName(),
+                                    obterIdentificadorEntidade(entidade),
+                                    rowsRefrescadas
+                                );
+                            }
                         } else {
                             logger.warn("⚠️ MERGE retornou 0 para registro {}/{} de {}: {} (não foi salvo)", 
                                 registroAtual, totalRegistros, getClass().getSimpleName(),
@@ -446,6 +811,11 @@ public abstract class AbstractRepository<T> extends RepositoryParameterBindingSu
                         
                         // Commit em batches para evitar transações muito grandes
                         if (!atomicCommitMode && registroAtual % batchSize == 0) {
+                            // Com staging as linhas so chegam ao destino na promocao do commit final.
+                            if (!usarStagingPorExecucao()) {
+                                registrarCompletudeDiaria(conexao, completudeDiaria);
+                            }
+                            registrarFaixaAlterada(conexao, faixaAlterada);
                             conexao.commit();
                             logger.debug("✅ Batch commit: {}/{} registros processados", registroAtual, totalRegistros);
                         }
@@ -464,7 +834,8 @@ public abstract class AbstractRepository<T> extends RepositoryParameterBindingSu
                         // Log da stack trace completa em nível DEBUG
                         logger.debug("Stack trace completo do erro:", e);
                         
-                        if (atomicCommitMode || !isContinuarAposErro()) {
+                        // Deadlock (inclusive no MERGE de completude do commit em batch) ja desfez a transacao: nao ha o que continuar.
+                        if (atomicCommitMode || !isContinuarAposErro() || e.getErrorCode() == ERRO_DEADLOCK_SQL_SERVER) {
                             // Se configurado para parar na primeira falha
                             logger.error("🚨 Abortando salvamento devido a erro crítico");
                             conexao.rollback();
@@ -483,9 +854,19 @@ public abstract class AbstractRepository<T> extends RepositoryParameterBindingSu
                     registrosPersistidosPromovidos = totalPersistidos;
                 }
 
+                final int totalNoOpResumo = usarStagingPorExecucao()
+                    ? Math.max(0, totalSucesso - (registrosPersistidosPromovidos - confirmadosSemAlteracaoNaPromocao))
+                    : totalNoOpIdempotente;
+                // Com staging, no-op descoberto so na promocao fica fora de registros_noop (informativo; nao entra na validacao).
+                registrarCompletudeDiaria(conexao, completudeDiaria);
+                registrarFaixaAlterada(conexao, faixaAlterada);
+
                 // Commit final dos registros restantes
                 conexao.commit();
                 logger.debug("✅ Commit final executado com sucesso");
+                if (totalPersistidos > 0) {
+                    NotificadorCommit.notificar(getNomeTabela());
+                }
                 
                 // Log final com estatísticas
                 // IMPORTANTE: "totalSucesso" = operações bem-sucedidas (INSERTs + UPDATEs)
@@ -495,9 +876,6 @@ public abstract class AbstractRepository<T> extends RepositoryParameterBindingSu
                 final int totalPersistidosResumo = usarStagingPorExecucao()
                     ? registrosPersistidosPromovidos
                     : totalPersistidos;
-                final int totalNoOpResumo = usarStagingPorExecucao()
-                    ? Math.max(0, totalSucesso - totalPersistidosResumo)
-                    : totalNoOpIdempotente;
                 final int registrosNaoSalvos = Math.max(0, totalRegistros - totalSucesso - totalFalhas);
                 ultimoResumoSalvamento = new SaveSummary(
                     totalSucesso,
@@ -544,6 +922,8 @@ public abstract class AbstractRepository<T> extends RepositoryParameterBindingSu
                 logger.error("🚨 Erro crítico ao salvar entidades de {}: {}", 
                     getClass().getSimpleName(), e.getMessage());
                 throw e;
+            } finally {
+                hashesLinhaDoLote = new IdentityHashMap<>();
             }
         }
 
@@ -570,92 +950,18 @@ public abstract class AbstractRepository<T> extends RepositoryParameterBindingSu
     }
 
     /**
-     * Método auxiliar para obter um identificador legível da entidade para logs.
-     * Tenta extrair informações básicas da entidade usando reflexão.
+     * Identificador legível da entidade para logs: colunas-chave do repositório
+     * ({@link #getColunasChaveHashLinha()}) ou, sem elas, getters comuns resolvidos uma vez por classe.
      * 
      * @param entidade Entidade a ser identificada
      * @return String com identificação básica da entidade
      */
-    private String obterIdentificadorEntidade(final T entidade) {
-        if (entidade == null) {
-            return "null";
-        }
-        
-        try {
-            // Tenta obter campos comuns via reflexão
-            final StringBuilder info = new StringBuilder();
-            info.append(entidade.getClass().getSimpleName()).append("{");
-            
-            // Tenta pegar alguns campos comuns
-            final String[] camposPossiveis = {"id", "sequenceCode", "sequence_code", "documentNumber"};
-            boolean encontrouCampo = false;
-            
-            for (final String campo : camposPossiveis) {
-                try {
-                    final java.lang.reflect.Method getter = encontrarGetter(entidade.getClass(), campo);
-                    if (getter != null) {
-                        final Object valor = getter.invoke(entidade);
-                        if (valor != null) {
-                            if (encontrouCampo) info.append(", ");
-                            info.append(campo).append("=").append(valor);
-                            encontrouCampo = true;
-                        }
-                    }
-                } catch (final java.lang.reflect.InvocationTargetException | 
-                        java.lang.IllegalAccessException | 
-                        java.lang.IllegalArgumentException ignored) {
-                    // Ignora se não conseguir acessar o campo via reflexão
-                }
-            }
-            
-            if (!encontrouCampo) {
-                info.append("toString=").append(entidade.toString());
-            }
-            
-            info.append("}");
-            return info.toString();
-            
-        } catch (final Exception e) {
-            // Fallback geral: retorna identificador simples se qualquer operação falhar
-            return entidade.getClass().getSimpleName() + "@" + entidade.hashCode();
-        }
-    }
-    
-    /**
-     * Encontra o método getter para um campo usando convenções Java
-     */
-    private java.lang.reflect.Method encontrarGetter(final Class<?> clazz, final String nomeCampo) {
-        try {
-            // Tenta get + CamelCase
-            final String getterName = "get" + nomeCampo.substring(0, 1).toUpperCase() + nomeCampo.substring(1);
-            return clazz.getMethod(getterName);
-        } catch (final NoSuchMethodException e1) {
-            try {
-                // Tenta snake_case convertido para camelCase
-                final String camelCase = converterSnakeToCamel(nomeCampo);
-                final String getterName = "get" + camelCase.substring(0, 1).toUpperCase() + camelCase.substring(1);
-                return clazz.getMethod(getterName);
-            } catch (final NoSuchMethodException e2) {
-                return null;
-            }
-        }
-    }
-    
-    /**
-     * Converte snake_case para camelCase
-     */
-    private String converterSnakeToCamel(final String snake) {
-        final StringBuilder camel = new StringBuilder();
-        boolean proximaMaiuscula = false;
-        for (final char c : snake.toCharArray()) {
-            if (c == '_') {
-                proximaMaiuscula = true;
-            } else {
-                camel.append(proximaMaiuscula ? Character.toUpperCase(c) : c);
-                proximaMaiuscula = false;
-            }
+    protected String obterIdentificadorEntidade(final T entidade) {
+        final List<String> colunasChave = getColunasChaveHashLinha();
+        if (entidade == null || colunasChave.isEmpty()) {
+            return DescritorEntidade.descrever(entidade);
         }
-        return camel.toString();
+        return DescritorEntidade.descrever(entidade, colunasChave, obterChaveHashLinha(entidade));
     }
 
 
@@ -29,6 +29,8 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +53,16 @@ public class ColetaRepository extends AbstractRepository<ColetaEntity> {
         return NOME_TABELA;
     }
 
+    @Override
+    protected List<String> getColunasChaveHashLinha() {
+        return List.of("id");
+    }
+
+    @Override
+    protected List<Object> obterChaveHashLinha(final ColetaEntity coleta) {
+        return Arrays.asList(coleta.getId());
+    }
+
     @Override
     protected boolean aceitarMergeSemAlteracoesComoSucesso(final ColetaEntity coleta) {
         return true;
@@ -81,7 +93,8 @@ public class ColetaRepository extends AbstractRepository<ColetaEntity> {
                     ? AS cancellation_reason, ? AS cancellation_user_id,
                     ? AS destroy_reason, ? AS destroy_user_id, ? AS status_updated_at,
                     ? AS taxed_weight, ? AS pick_region, ? AS last_occurrence, ? AS acao_ocorrencia, ? AS numero_tentativas,
-                    ? AS metadata, ? AS data_extracao, CAST(0 AS bit) AS excluido_na_origem,
+                    ? AS metadata,
+                    ? AS metadata_gz, ? AS hash_linha, ? AS data_extracao, CAST(0 AS bit) AS excluido_na_origem,
                     CAST(NULL AS datetime2(0)) AS data_exclusao_origem
             ) AS source
             ON target.id = source.id
@@ -122,6 +135,8 @@ public class ColetaRepository extends AbstractRepository<ColetaEntity> {
                     acao_ocorrencia = source.acao_ocorrencia,
                     numero_tentativas = source.numero_tentativas,
                     metadata = source.metadata,
+                    metadata_gz = source.metadata_gz,
+                    hash_linha = source.hash_linha,
                     data_extracao = source.data_extracao,
                     excluido_na_origem = source.excluido_na_origem,
                     data_exclusao_origem = source.data_exclusao_origem
@@ -133,7 +148,7 @@ public class ColetaRepository extends AbstractRepository<ColetaEntity> {
                     cancellation_reason, cancellation_user_id,
                     destroy_reason, destroy_user_id, status_updated_at,
                     taxed_weight, pick_region, last_occurrence, acao_ocorrencia, numero_tentativas,
-                    metadata, data_extracao, excluido_na_origem, data_exclusao_origem
+                    metadata, metadata_gz, hash_linha, data_extracao, excluido_na_origem, data_exclusao_origem
                 )
                 VALUES (
                     source.id, source.sequence_code, source.request_date, source.request_hour, source.service_date, source.status, source.total_value, source.total_weight, source.total_volumes,
@@ -142,7 +157,7 @@ public class ColetaRepository extends AbstractRepository<ColetaEntity> {
                     source.cancellation_reason, source.cancellation_user_id,
                     source.destroy_reason, source.destroy_user_id, source.status_updated_at,
                     source.taxed_weight, source.pick_region, source.last_occurrence, source.acao_ocorrencia, source.numero_tentativas,
-                    source.metadata, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem
+                    source.metadata, source.metadata_gz, source.hash_linha, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem
                 );
             """, NOME_TABELA, freshnessGuard);
 
@@ -158,11 +173,11 @@ public class ColetaRepository extends AbstractRepository<ColetaEntity> {
             int expectedCount;
             try {
                 final int metaCount = statement.getParameterMetaData().getParameterCount();
-                expectedCount = (metaCount > 0 ? metaCount : 37);
+                expectedCount = (metaCount > 0 ? metaCount : 39);
                 logger.debug("MERGE de Coletas preparado: {} parâmetro(s) esperado(s)", expectedCount);
             } catch (final SQLException pmEx) {
                 logger.debug("Não foi possível obter ParameterMetaData: {}", pmEx.getMessage());
-                expectedCount = 37;
+                expectedCount = 39;
             }
             // Define os parâmetros de forma segura e na ordem correta.
             int paramIndex = 1;
@@ -202,7 +217,8 @@ public class ColetaRepository extends AbstractRepository<ColetaEntity> {
             statement.setString(paramIndex++, coleta.getLastOccurrence());
             statement.setString(paramIndex++, coleta.getAcaoOcorrencia());
             statement.setObject(paramIndex++, coleta.getNumeroTentativas(), Types.INTEGER);
-            statement.setString(paramIndex++, coleta.getMetadata());
+            paramIndex = setPayloadParameters(statement, paramIndex, coleta.getMetadata());
+            setHashLinhaParameter(statement, paramIndex++, coleta);
             setInstantParameter(statement, paramIndex++, Instant.now()); // UTC timestamp
             
             // Verificar se todos os parâmetros foram definidos
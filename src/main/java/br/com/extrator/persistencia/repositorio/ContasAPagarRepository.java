@@ -27,6 +27,8 @@ package br.com.extrator.persistencia.repositorio;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +54,16 @@ public class ContasAPagarRepository extends AbstractRepository<ContasAPagarDataE
         return NOME_TABELA;
     }
 
+    @Override
+    protected List<String> getColunasChaveHashLinha() {
+        return List.of("sequence_code");
+    }
+
+    @Override
+    protected List<Object> obterChaveHashLinha(final ContasAPagarDataExportEntity entity) {
+        return Arrays.asList(entity.getSequenceCode());
+    }
+
     @Override
     protected boolean aceitarMergeSemAlteracoesComoSucesso(final ContasAPagarDataExportEntity entity) {
         return true;
@@ -150,7 +162,8 @@ public class ContasAPagarRepository extends AbstractRepository<ContasAPagarDataE
             setStringParameter(ps, paramIndex++, entity.getDescricaoDespesa());
             setStringParameter(ps, paramIndex++, entity.getNomeUsuario());
             setBooleanParameter(ps, paramIndex++, entity.getReconciliado());
-            setStringParameter(ps, paramIndex++, entity.getMetadata());
+            paramIndex = setPayloadParameters(ps, paramIndex, entity.getMetadata());
+            setHashLinhaParameter(ps, paramIndex++, entity);
             setDateTimeParameter(ps, paramIndex++, entity.getDataExtracao());
 
             final int rowsAffected = ps.executeUpdate();
@@ -204,6 +217,8 @@ public class ContasAPagarRepository extends AbstractRepository<ContasAPagarDataE
                     nome_usuario = source.nome_usuario,
                     reconciliado = source.reconciliado,
                     metadata = source.metadata,
+                    metadata_gz = source.metadata_gz,
+                    hash_linha = source.hash_linha,
                     data_extracao = source.data_extracao,
                     excluido_na_origem = source.excluido_na_origem,
                     data_exclusao_origem = source.data_exclusao_origem
@@ -216,7 +231,7 @@ public class ContasAPagarRepository extends AbstractRepository<ContasAPagarDataE
                     nome_fornecedor, nome_filial, nome_centro_custo, valor_centro_custo,
                     classificacao_contabil, descricao_contabil, valor_contabil, area_lancamento,
                     observacoes, descricao_despesa, nome_usuario, reconciliado,
-                    metadata, data_extracao, excluido_na_origem, data_exclusao_origem
+                    metadata, metadata_gz, hash_linha, data_extracao, excluido_na_origem, data_exclusao_origem
                 )
                 VALUES (
                     source.sequence_code, source.document_number, source.issue_date, source.tipo_lancamento,
@@ -226,7 +241,7 @@ public class ContasAPagarRepository extends AbstractRepository<ContasAPagarDataE
                     source.nome_fornecedor, source.nome_filial, source.nome_centro_custo, source.valor_centro_custo,
                     source.classificacao_contabil, source.descricao_contabil, source.valor_contabil, source.area_lancamento,
                     source.observacoes, source.descricao_despesa, source.nome_usuario, source.reconciliado,
-                    source.metadata, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem
+                    source.metadata, source.metadata_gz, source.hash_linha, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem
                 );
             """.formatted(tabelaAlvo, sourceClause, freshnessGuard);
     }
@@ -271,6 +286,8 @@ public class ContasAPagarRepository extends AbstractRepository<ContasAPagarDataE
                     ? AS nome_usuario,
                     ? AS reconciliado,
                     ? AS metadata,
+                    ? AS metadata_gz,
+                    ? AS hash_linha,
                     ? AS data_extracao,
                     CAST(0 AS bit) AS excluido_na_origem,
                     CAST(NULL AS datetime2(0)) AS data_exclusao_origem
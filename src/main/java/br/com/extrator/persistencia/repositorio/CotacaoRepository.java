@@ -29,6 +29,8 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,6 +55,16 @@ public class CotacaoRepository extends AbstractRepository<CotacaoEntity> {
         return NOME_TABELA;
     }
 
+    @Override
+    protected List<String> getColunasChaveHashLinha() {
+        return List.of("sequence_code");
+    }
+
+    @Override
+    protected List<Object> obterChaveHashLinha(final CotacaoEntity cotacao) {
+        return Arrays.asList(cotacao.getSequenceCode());
+    }
+
     @Override
     protected boolean aceitarMergeSemAlteracoesComoSucesso(final CotacaoEntity cotacao) {
         return true;
@@ -174,12 +186,13 @@ public class CotacaoRepository extends AbstractRepository<CotacaoEntity> {
             } else {
                 statement.setNull(paramIndex++, Types.TIMESTAMP_WITH_TIMEZONE);
             }
-            statement.setString(paramIndex++, cotacao.getMetadata());
+            paramIndex = setPayloadParameters(statement, paramIndex, cotacao.getMetadata());
+            setHashLinhaParameter(statement, paramIndex++, cotacao);
             setInstantParameter(statement, paramIndex++, Instant.now());
 
-            if (paramIndex != 39) {
+            if (paramIndex != 41) {
                 throw new SQLException(
-                        String.format("Número incorreto de parâmetros: esperado 38, definido %d", paramIndex - 1));
+                        String.format("Número incorreto de parâmetros: esperado 40, definido %d", paramIndex - 1));
             }
 
             final int rowsAffected = statement.executeUpdate();
@@ -251,6 +264,8 @@ public class CotacaoRepository extends AbstractRepository<CotacaoEntity> {
                     cte_issued_at = source.cte_issued_at,
                     nfse_issued_at = source.nfse_issued_at,
                     metadata = source.metadata,
+                    metadata_gz = source.metadata_gz,
+                    hash_linha = source.hash_linha,
                     data_extracao = source.data_extracao,
                     excluido_na_origem = source.excluido_na_origem,
                     data_exclusao_origem = source.data_exclusao_origem
@@ -263,7 +278,7 @@ public class CotacaoRepository extends AbstractRepository<CotacaoEntity> {
                     customer_nickname, sender_document, sender_nickname, receiver_document, receiver_nickname,
                     disapprove_comments, freight_comments, discount_subtotal, itr_subtotal, tde_subtotal,
                     collect_subtotal, delivery_subtotal, other_fees, cte_issued_at, nfse_issued_at,
-                    metadata, data_extracao, excluido_na_origem, data_exclusao_origem
+                    metadata, metadata_gz, hash_linha, data_extracao, excluido_na_origem, data_exclusao_origem
                 )
                 VALUES (
                     source.sequence_code, source.requested_at, source.operation_type, source.customer_doc, source.customer_name,
@@ -273,14 +288,14 @@ public class CotacaoRepository extends AbstractRepository<CotacaoEntity> {
                     source.customer_nickname, source.sender_document, source.sender_nickname, source.receiver_document, source.receiver_nickname,
                     source.disapprove_comments, source.freight_comments, source.discount_subtotal, source.itr_subtotal, source.tde_subtotal,
                     source.collect_subtotal, source.delivery_subtotal, source.other_fees, source.cte_issued_at, source.nfse_issued_at,
-                    source.metadata, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem
+                    source.metadata, source.metadata_gz, source.hash_linha, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem
                 );
             """.formatted(tabelaAlvo, sourceClause, freshnessGuard);
     }
 
     private String construirSourceClauseValues() {
         return """
-            (VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(0 AS bit), CAST(NULL AS datetime2(0))))
+            (VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(0 AS bit), CAST(NULL AS datetime2(0))))
                 AS source (
                     sequence_code, requested_at, operation_type, customer_doc, customer_name,
                     origin_city, origin_state, destination_city, destination_state, price_table,
@@ -289,7 +304,7 @@ public class CotacaoRepository extends AbstractRepository<CotacaoEntity> {
                     customer_nickname, sender_document, sender_nickname, receiver_document, receiver_nickname,
                     disapprove_comments, freight_comments, discount_subtotal, itr_subtotal, tde_subtotal,
                     collect_subtotal, delivery_subtotal, other_fees, cte_issued_at, nfse_issued_at,
-                    metadata, data_extracao, excluido_na_origem, data_exclusao_origem
+                    metadata, metadata_gz, hash_linha, data_extracao, excluido_na_origem, data_exclusao_origem
                 )
             """;
     }
@@ -0,0 +1,131 @@
+package br.com.extrator.persistencia.repositorio;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Identificacao legivel de entidades para os logs de falha e no-op do salvamento.
+ * Usa as colunas-chave do repositorio quando existem; senao, getters candidatos resolvidos uma vez por classe
+ * e guardados como MethodHandle, sem getMethod nem excecoes por linha.
+ */
+final class DescritorEntidade {
+    private static final List<String> CAMPOS_CANDIDATOS = List.of("id", "sequenceCode", "sequence_code", "documentNumber");
+    private static final MethodType TIPO_GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final ClassValue<List<Getter>> GETTERS = new ClassValue<>() {
+        @Override
+        protected List<Getter> computeValue(final Class<?> tipo) {
+            return resolverGetters(tipo);
+        }
+    };
+
+    private record Getter(String campo, MethodHandle handle) {
+    }
+
+    private DescritorEntidade() {
+    }
+
+    /**
+     * Descreve pelas colunas-chave do repositorio; sem nenhum valor de chave, cai nos getters candidatos.
+     */
+    static String descrever(final Object entidade, final List<String> colunasChave, final List<Object> valoresChave) {
+        if (entidade == null) {
+            return "null";
+        }
+        final StringBuilder info = new StringBuilder(entidade.getClass().getSimpleName()).append('{');
+        boolean encontrouCampo = false;
+        for (int i = 0; i < colunasChave.size() && i < valoresChave.size(); i++) {
+            final Object valor = valoresChave.get(i);
+            if (valor != null) {
+                if (encontrouCampo) {
+                    info.append(", ");
+                }
+                info.append(colunasChave.get(i)).append('=').append(valor);
+                encontrouCampo = true;
+            }
+        }
+        return encontrouCampo ? info.append('}').toString() : descrever(entidade);
+    }
+
+    static String descrever(final Object entidade) {
+        if (entidade == null) {
+            return "null";
+        }
+        try {
+            final StringBuilder info = new StringBuilder(entidade.getClass().getSimpleName()).append('{');
+            boolean encontrouCampo = false;
+            for (final Getter getter : GETTERS.get(entidade.getClass())) {
+                final Object valor = getter.handle().invokeExact(entidade);
+                if (valor != null) {
+                    if (encontrouCampo) {
+                        info.append(", ");
+                    }
+                    info.append(getter.campo()).append('=').append(valor);
+                    encontrouCampo = true;
+                }
+            }
+            if (!encontrouCampo) {
+                info.append("toString=").append(entidade);
+            }
+            return info.append('}').toString();
+        } catch (final Throwable e) {
+            // Fallback geral: retorna identificador simples se qualquer operação falhar
+            return entidade.getClass().getSimpleName() + "@" + entidade.hashCode();
+        }
+    }
+
+    private static List<Getter> resolverGetters(final Class<?> tipo) {
+        final List<Getter> getters = new ArrayList<>();
+        final Set<String> metodosUsados = new HashSet<>();
+        for (final Method metodo : tipo.getMethods()) {
+            if (metodo.getParameterCount() != 0 || Modifier.isStatic(metodo.getModifiers())) {
+                continue;
+            }
+            for (final String campo : CAMPOS_CANDIDATOS) {
+                if (!metodo.getName().equals(nomeGetter(campo)) || !metodosUsados.add(metodo.getName())) {
+                    continue;
+                }
+                final MethodHandle handle = handle(metodo);
+                if (handle != null) {
+                    getters.add(new Getter(campo, handle));
+                }
+            }
+        }
+        // Mantem a ordem de CAMPOS_CANDIDATOS, independente da ordem de getMethods().
+        getters.sort((a, b) -> Integer.compare(CAMPOS_CANDIDATOS.indexOf(a.campo()), CAMPOS_CANDIDATOS.indexOf(b.campo())));
+        return List.copyOf(getters);
+    }
+
+    private static MethodHandle handle(final Method metodo) {
+        try {
+            return MethodHandles.publicLookup().unreflect(metodo).asType(TIPO_GETTER);
+        } catch (final IllegalAccessException e) {
+            // Classe nao publica: o campo fica de fora, como no acesso por reflexao.
+            return null;
+        }
+    }
+
+    /**
+     * get + CamelCase; snake_case e convertido antes (sequence_code -> getSequenceCode).
+     */
+    static String nomeGetter(final String campo) {
+        final StringBuilder nome = new StringBuilder("get");
+        boolean proximaMaiuscula = true;
+        for (int i = 0; i < campo.length(); i++) {
+            final char c = campo.charAt(i);
+            if (c == '_') {
+                proximaMaiuscula = true;
+            } else {
+                nome.append(proximaMaiuscula ? Character.toUpperCase(c) : c);
+                proximaMaiuscula = false;
+            }
+        }
+        return nome.toString();
+    }
+}
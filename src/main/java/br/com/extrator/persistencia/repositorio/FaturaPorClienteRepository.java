@@ -30,7 +30,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -60,6 +62,26 @@ public class FaturaPorClienteRepository extends AbstractRepository<FaturaPorClie
         return NOME_TABELA;
     }
 
+    @Override
+    protected List<String> getColunasChaveHashLinha() {
+        return List.of("unique_id");
+    }
+
+    @Override
+    protected List<Object> obterChaveHashLinha(final FaturaPorClienteEntity entidade) {
+        return Arrays.asList(entidade.getUniqueId());
+    }
+
+    /**
+     * data_emissao_fatura filtra a fato de faturas.
+     */
+    @Override
+    protected List<LocalDate> obterDatasNegocio(final FaturaPorClienteEntity fatura) {
+        return Arrays.asList(
+            fatura.getDataEmissaoFatura()
+        );
+    }
+
     @Override
     protected boolean aceitarMergeSemAlteracoesComoSucesso(final FaturaPorClienteEntity entidade) {
         return true;
@@ -163,7 +185,8 @@ public class FaturaPorClienteRepository extends AbstractRepository<FaturaPorClie
             pstmt.setString(idx++, entity.getVendedorNome());
             pstmt.setString(idx++, entity.getNotasFiscais());
             pstmt.setString(idx++, entity.getPedidosCliente());
-            pstmt.setString(idx++, entity.getMetadata());
+            idx = setPayloadParameters(pstmt, idx, entity.getMetadata());
+            setHashLinhaParameter(pstmt, idx++, entity);
             setInstantParameter(pstmt, idx++, Instant.now());
 
             final int rowsAffected = pstmt.executeUpdate();
@@ -216,12 +239,14 @@ public class FaturaPorClienteRepository extends AbstractRepository<FaturaPorClie
                     notas_fiscais = source.notas_fiscais,
                     pedidos_cliente = source.pedidos_cliente,
                     metadata = source.metadata,
+                    metadata_gz = source.metadata_gz,
+                    hash_linha = source.hash_linha,
                     data_extracao = source.data_extracao,
                     excluido_na_origem = source.excluido_na_origem,
                     data_exclusao_origem = source.data_exclusao_origem
             WHEN NOT MATCHED THEN
-                INSERT (unique_id, valor_frete, valor_fatura, third_party_ctes_value, numero_cte, chave_cte, numero_nfse, status_cte, status_cte_result, data_emissao_cte, numero_fatura, data_emissao_fatura, data_vencimento_fatura, data_baixa_fatura, fit_ant_ils_original_due_date, fit_ant_document, fit_ant_issue_date, fit_ant_value, filial, tipo_frete, status, classificacao, estado, pagador_nome, pagador_documento, cliente_cnpj, remetente_nome, remetente_documento, destinatario_nome, destinatario_documento, vendedor_nome, notas_fiscais, pedidos_cliente, metadata, data_extracao, excluido_na_origem, data_exclusao_origem)
-                VALUES (source.unique_id, source.valor_frete, source.valor_fatura, source.third_party_ctes_value, source.numero_cte, source.chave_cte, source.numero_nfse, source.status_cte, source.status_cte_result, source.data_emissao_cte, source.numero_fatura, source.data_emissao_fatura, source.data_vencimento_fatura, source.data_baixa_fatura, source.fit_ant_ils_original_due_date, source.fit_ant_document, source.fit_ant_issue_date, source.fit_ant_value, source.filial, source.tipo_frete, source.status, source.classificacao, source.estado, source.pagador_nome, source.pagador_documento, source.cliente_cnpj, source.remetente_nome, source.remetente_documento, source.destinatario_nome, source.destinatario_documento, source.vendedor_nome, source.notas_fiscais, source.pedidos_cliente, source.metadata, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem);
+                INSERT (unique_id, valor_frete, valor_fatura, third_party_ctes_value, numero_cte, chave_cte, numero_nfse, status_cte, status_cte_result, data_emissao_cte, numero_fatura, data_emissao_fatura, data_vencimento_fatura, data_baixa_fatura, fit_ant_ils_original_due_date, fit_ant_document, fit_ant_issue_date, fit_ant_value, filial, tipo_frete, status, classificacao, estado, pagador_nome, pagador_documento, cliente_cnpj, remetente_nome, remetente_documento, destinatario_nome, destinatario_documento, vendedor_nome, notas_fiscais, pedidos_cliente, metadata, metadata_gz, hash_linha, data_extracao, excluido_na_origem, data_exclusao_origem)
+                VALUES (source.unique_id, source.valor_frete, source.valor_fatura, source.third_party_ctes_value, source.numero_cte, source.chave_cte, source.numero_nfse, source.status_cte, source.status_cte_result, source.data_emissao_cte, source.numero_fatura, source.data_emissao_fatura, source.data_vencimento_fatura, source.data_baixa_fatura, source.fit_ant_ils_original_due_date, source.fit_ant_document, source.fit_ant_issue_date, source.fit_ant_value, source.filial, source.tipo_frete, source.status, source.classificacao, source.estado, source.pagador_nome, source.pagador_documento, source.cliente_cnpj, source.remetente_nome, source.remetente_documento, source.destinatario_nome, source.destinatario_documento, source.vendedor_nome, source.notas_fiscais, source.pedidos_cliente, source.metadata, source.metadata_gz, source.hash_linha, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem);
             """.formatted(tabelaAlvo, sourceClause, freshnessGuard);
     }
 
@@ -274,6 +299,8 @@ public class FaturaPorClienteRepository extends AbstractRepository<FaturaPorClie
                     ? AS notas_fiscais,
                     ? AS pedidos_cliente,
                     ? AS metadata,
+                    ? AS metadata_gz,
+                    ? AS hash_linha,
                     ? AS data_extracao,
                     CAST(0 AS bit) AS excluido_na_origem,
                     CAST(NULL AS datetime2(0)) AS data_exclusao_origem
@@ -17,16 +17,32 @@ Atributos: [PENDENTE]
 
 import br.com.extrator.dominio.graphql.fretes.nfse.FreteNfsePayload;
 
+import java.io.StringReader;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.slf4j.Logger;
 
 /**
  * Isola o enriquecimento de NFSe em fretes para manter o repositorio focado no MERGE principal.
+ * O lote inteiro vai para uma tabela temporaria e o vinculo e feito em dois UPDATEs com JOIN:
+ * primeiro pelo id do frete e, para o que sobrar, pelo numero da NFSe.
+ * hash_linha fica intacto: FreteRepository deixa os campos nfse_* fora do hash do pre-filtro.
  */
-final class FreteNfseUpdateSupport {
+final class FreteNfseUpdateSupport extends RepositoryParameterBindingSupport {
+    private static final String TABELA_NFSE_LOTE = "#nfse_lote";
+    private static final int VINCULO_POR_ID = 1;
+    private static final int VINCULO_POR_NUMERO = 2;
+    private static final String TAG_DISCRIMINACAO = "discriminacao";
+    private static final XMLInputFactory XML_INPUT = criarXmlInputFactory();
+
     private final Logger logger;
 
     FreteNfseUpdateSupport(final Logger logger) {
@@ -41,139 +57,173 @@ final class FreteNfseUpdateSupport {
             return 0;
         }
 
-        int totalAtualizados = 0;
-        int totalIgnoradosSemId = 0;
-        int totalNaoEncontradosNoBanco = 0;
-        final String sqlById = """
-            UPDATE dbo.fretes
-            SET
-                nfse_integration_id = ?,
-                nfse_status = ?,
-                nfse_issued_at = ?,
-                nfse_cancelation_reason = ?,
-                nfse_pdf_service_url = ?,
-                nfse_corporation_id = ?,
-                nfse_service_description = ?,
-                nfse_xml_document = ?,
-                nfse_series = ?,
-                nfse_number = ?
-            WHERE id = ?
-        """;
-        final String sqlByNumber = """
-            UPDATE dbo.fretes
-            SET
-                nfse_integration_id = ?,
-                nfse_status = ?,
-                nfse_issued_at = ?,
-                nfse_cancelation_reason = ?,
-                nfse_pdf_service_url = ?,
-                nfse_corporation_id = ?,
-                nfse_service_description = ?,
-                nfse_xml_document = ?,
-                nfse_series = ?,
-                nfse_number = ?
-            WHERE nfse_number = ?
-        """;
-
-        try (PreparedStatement psId = conexao.prepareStatement(sqlById);
-             PreparedStatement psNumber = conexao.prepareStatement(sqlByNumber)) {
-            for (final FreteNfsePayload nfse : nfseList) {
-                final java.time.LocalDate dt = parseIssuedAt(nfse.getIssuedAt());
-                final String serviceDesc = (nfse.getServiceDescription() != null
-                    && !nfse.getServiceDescription().isBlank())
-                    ? nfse.getServiceDescription()
-                    : extrairDiscriminacaoDoXml(nfse.getXmlDocument());
-
-                final int linhasAfetadas = atualizarNfse(psId, psNumber, nfse, dt, serviceDesc);
-                if (linhasAfetadas < 0) {
-                    totalIgnoradosSemId++;
-                } else if (linhasAfetadas > 0) {
-                    totalAtualizados++;
-                } else {
-                    totalNaoEncontradosNoBanco++;
-                }
+        criarTabelaLote(conexao);
+        try {
+            final int totalNoLote = inserirLote(conexao, nfseList);
+            final int totalIgnoradosSemId = nfseList.size() - totalNoLote;
+            int totalAtualizados = 0;
+            if (totalNoLote > 0) {
+                totalAtualizados += vincular(conexao, VINCULO_POR_ID);
+                totalAtualizados += vincular(conexao, VINCULO_POR_NUMERO);
             }
-        }
+            final int totalNaoEncontradosNoBanco = totalNoLote - totalAtualizados;
 
-        if (totalIgnoradosSemId > 0) {
-            logger.warn(
-                "{} NFSe ignoradas por ausência de vínculo de frete (freightId null)",
+            if (totalIgnoradosSemId > 0) {
+                logger.warn(
+                    "{} NFSe ignoradas por ausência de vínculo de frete (freightId null)",
+                    totalIgnoradosSemId
+                );
+            }
+            logger.info(
+                "Resumo Enriquecimento NFSe: Processados={}, Atualizados={}, Sem Frete Pai no Banco={}, Sem ID={}",
+                nfseList.size(),
+                totalAtualizados,
+                totalNaoEncontradosNoBanco,
                 totalIgnoradosSemId
             );
+            return totalAtualizados;
+        } finally {
+            try (Statement stmt = conexao.createStatement()) {
+                stmt.execute("IF OBJECT_ID('tempdb..%1$s') IS NOT NULL DROP TABLE %1$s;".formatted(TABELA_NFSE_LOTE));
+            }
         }
-        logger.info(
-            "Resumo Enriquecimento NFSe: Processados={}, Atualizados={}, Sem Frete Pai no Banco={}, Sem ID={}",
-            nfseList.size(),
-            totalAtualizados,
-            totalNaoEncontradosNoBanco,
-            totalIgnoradosSemId
-        );
-        return totalAtualizados;
     }
 
-    private int atualizarNfse(
-        final PreparedStatement psId,
-        final PreparedStatement psNumber,
-        final FreteNfsePayload nfse,
-        final java.time.LocalDate dt,
-        final String serviceDesc
-    ) throws SQLException {
-        if (nfse.getFreightId() != null) {
-            preencherParametrosComuns(psId, nfse, dt, serviceDesc);
-            psId.setObject(11, nfse.getFreightId(), java.sql.Types.BIGINT);
-            int linhasAfetadas = psId.executeUpdate();
-            if (linhasAfetadas == 0 && nfse.getNumber() != null) {
-                linhasAfetadas = atualizarPorNumero(psNumber, nfse, dt, serviceDesc);
-            }
-            return linhasAfetadas;
+    private static void criarTabelaLote(final Connection conexao) throws SQLException {
+        // Tipos das colunas de NFSe vem de dbo.fretes; CAST(NULL ...) mantem as colunas de controle anulaveis.
+        final String sqlCriar = """
+            IF OBJECT_ID('tempdb..%1$s') IS NOT NULL
+                DROP TABLE %1$s;
+            SELECT TOP 0
+                CAST(NULL AS INT) AS ordem,
+                CAST(NULL AS TINYINT) AS vinculo,
+                CAST(NULL AS BIGINT) AS freight_id,
+                nfse_integration_id,
+                nfse_status,
+                nfse_issued_at,
+                nfse_cancelation_reason,
+                nfse_pdf_service_url,
+                nfse_corporation_id,
+                nfse_service_description,
+                nfse_xml_document,
+                nfse_xml_document_gz,
+                nfse_series,
+                nfse_number
+            INTO %1$s
+            FROM dbo.fretes;
+            """.formatted(TABELA_NFSE_LOTE);
+        try (Statement stmt = conexao.createStatement()) {
+            stmt.execute(sqlCriar);
         }
+    }
 
-        if (nfse.getNumber() != null) {
-            return atualizarPorNumero(psNumber, nfse, dt, serviceDesc);
+    /**
+     * Grava no lote as NFSe com freightId ou numero; as demais nao tem como ser vinculadas.
+     */
+    private int inserirLote(
+        final Connection conexao,
+        final java.util.List<? extends FreteNfsePayload> nfseList
+    ) throws SQLException {
+        final String sqlInserir = """
+            INSERT INTO %s (
+                ordem, freight_id, nfse_integration_id, nfse_status, nfse_issued_at,
+                nfse_cancelation_reason, nfse_pdf_service_url, nfse_corporation_id,
+                nfse_service_description, nfse_xml_document, nfse_xml_document_gz,
+                nfse_series, nfse_number
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """.formatted(TABELA_NFSE_LOTE);
+        final int batchSize = AbstractRepository.getBatchSize();
+        int ordem = 0;
+        int pendentes = 0;
+        try (PreparedStatement insert = conexao.prepareStatement(sqlInserir)) {
+            for (final FreteNfsePayload nfse : nfseList) {
+                if (nfse.getFreightId() == null && nfse.getNumber() == null) {
+                    continue;
+                }
+                insert.setInt(1, ++ordem);
+                setLongParameter(insert, 2, nfse.getFreightId());
+                preencherParametrosComuns(insert, 3, nfse);
+                insert.addBatch();
+                if (++pendentes == batchSize) {
+                    insert.executeBatch();
+                    pendentes = 0;
+                }
+            }
+            if (pendentes > 0) {
+                insert.executeBatch();
+            }
         }
-
-        return -1;
+        return ordem;
     }
 
-    private int atualizarPorNumero(
-        final PreparedStatement psNumber,
-        final FreteNfsePayload nfse,
-        final java.time.LocalDate dt,
-        final String serviceDesc
-    ) throws SQLException {
-        preencherParametrosComuns(psNumber, nfse, dt, serviceDesc);
-        psNumber.setObject(11, nfse.getNumber(), java.sql.Types.INTEGER);
-        return psNumber.executeUpdate();
+    /**
+     * Marca as NFSe do lote que casam com algum frete e aplica seus campos. Se a mesma chave aparece
+     * mais de uma vez no lote, vale a ultima ocorrencia, como no processamento sequencial.
+     * Retorna quantas NFSe do lote foram vinculadas.
+     */
+    private static int vincular(final Connection conexao, final int vinculo) throws SQLException {
+        final boolean porId = vinculo == VINCULO_POR_ID;
+        final String colunaLote = porId ? "freight_id" : "nfse_number";
+        final String colunaFrete = porId ? "id" : "nfse_number";
+        final String sqlMarcar = """
+            UPDATE lote
+               SET vinculo = %2$d
+              FROM %1$s AS lote
+             WHERE lote.vinculo IS NULL
+               AND lote.%3$s IS NOT NULL
+               AND EXISTS (SELECT 1 FROM dbo.fretes AS f WHERE f.%4$s = lote.%3$s)
+            """.formatted(TABELA_NFSE_LOTE, vinculo, colunaLote, colunaFrete);
+        final String sqlAtualizar = """
+            UPDATE f
+               SET nfse_integration_id = lote.nfse_integration_id,
+                   nfse_status = lote.nfse_status,
+                   nfse_issued_at = lote.nfse_issued_at,
+                   nfse_cancelation_reason = lote.nfse_cancelation_reason,
+                   nfse_pdf_service_url = lote.nfse_pdf_service_url,
+                   nfse_corporation_id = lote.nfse_corporation_id,
+                   nfse_service_description = lote.nfse_service_description,
+                   nfse_xml_document = lote.nfse_xml_document,
+                   nfse_xml_document_gz = lote.nfse_xml_document_gz,
+                   nfse_series = lote.nfse_series,
+                   nfse_number = lote.nfse_number
+              FROM dbo.fretes AS f
+              JOIN (
+                    SELECT *, ROW_NUMBER() OVER (PARTITION BY %3$s ORDER BY ordem DESC) AS ocorrencia
+                      FROM %1$s
+                     WHERE vinculo = %2$d
+                   ) AS lote
+                ON f.%4$s = lote.%3$s
+             WHERE lote.ocorrencia = 1
+            """.formatted(TABELA_NFSE_LOTE, vinculo, colunaLote, colunaFrete);
+        try (Statement stmt = conexao.createStatement()) {
+            final int vinculadas = stmt.executeUpdate(sqlMarcar);
+            if (vinculadas > 0) {
+                stmt.executeUpdate(sqlAtualizar);
+            }
+            return vinculadas;
+        }
     }
 
     private void preencherParametrosComuns(
         final PreparedStatement statement,
-        final FreteNfsePayload nfse,
-        final java.time.LocalDate dt,
-        final String serviceDesc
+        final int indiceInicial,
+        final FreteNfsePayload nfse
     ) throws SQLException {
-        statement.setString(1, nfse.getId());
-        statement.setString(2, nfse.getStatus());
-        if (dt != null) {
-            statement.setObject(3, dt, java.sql.Types.DATE);
-        } else {
-            statement.setNull(3, java.sql.Types.DATE);
-        }
-        statement.setString(4, nfse.getCancelationReason());
-        statement.setString(5, nfse.getPdfServiceUrl());
-        if (nfse.getCorporationId() != null) {
-            statement.setObject(6, nfse.getCorporationId(), java.sql.Types.BIGINT);
-        } else {
-            statement.setNull(6, java.sql.Types.BIGINT);
-        }
-        statement.setString(7, serviceDesc);
-        statement.setString(8, nfse.getXmlDocument());
-        statement.setString(9, nfse.getRpsSeries());
-        if (nfse.getNumber() != null) {
-            statement.setObject(10, nfse.getNumber(), java.sql.Types.INTEGER);
-        } else {
-            statement.setNull(10, java.sql.Types.INTEGER);
-        }
+        final String serviceDesc = (nfse.getServiceDescription() != null
+            && !nfse.getServiceDescription().isBlank())
+            ? nfse.getServiceDescription()
+            : extrairDiscriminacaoDoXml(nfse.getXmlDocument());
+        int idx = indiceInicial;
+        statement.setString(idx++, nfse.getId());
+        statement.setString(idx++, nfse.getStatus());
+        setDateParameter(statement, idx++, parseIssuedAt(nfse.getIssuedAt()));
+        statement.setString(idx++, nfse.getCancelationReason());
+        statement.setString(idx++, nfse.getPdfServiceUrl());
+        setLongParameter(statement, idx++, nfse.getCorporationId());
+        statement.setString(idx++, serviceDesc);
+        idx = setPayloadParameters(statement, idx, nfse.getXmlDocument());
+        statement.setString(idx++, nfse.getRpsSeries());
+        setIntegerParameter(statement, idx, nfse.getNumber());
     }
 
     private static java.time.LocalDate parseIssuedAt(final String value) {
@@ -202,28 +252,48 @@ final class FreteNfseUpdateSupport {
         }
     }
 
-    private static String extrairDiscriminacaoDoXml(final String xml) {
+    /**
+     * Le o XML em streaming e para no primeiro elemento discriminacao (qualquer prefixo ou caixa),
+     * sem copiar o documento inteiro.
+     */
+    static String extrairDiscriminacaoDoXml(final String xml) {
         if (xml == null || xml.isBlank()) {
             return null;
         }
+        XMLStreamReader leitor = null;
         try {
-            final String lower = xml.toLowerCase();
-            final String tag = "discriminacao";
-            final int start = lower.indexOf("<" + tag + ">");
-            final int end = lower.indexOf("</" + tag + ">");
-            if (start >= 0 && end > start) {
-                final String inner = xml.substring(start + tag.length() + 2, end);
-                final String cdataStart = "<![CDATA[";
-                final String cdataEnd = "]]>";
-                String text = inner.trim();
-                if (text.startsWith(cdataStart) && text.endsWith(cdataEnd)) {
-                    text = text.substring(cdataStart.length(), text.length() - cdataEnd.length()).trim();
+            leitor = XML_INPUT.createXMLStreamReader(new StringReader(xml));
+            while (leitor.hasNext()) {
+                if (leitor.next() == XMLStreamConstants.START_ELEMENT
+                    && TAG_DISCRIMINACAO.equalsIgnoreCase(leitor.getLocalName())) {
+                    final String texto = leitor.getElementText().trim();
+                    return texto.isEmpty() ? null : texto;
                 }
-                return text.isBlank() ? null : text;
             }
-        } catch (final Exception ignored) {
+        } catch (final XMLStreamException ignored) {
             return null;
+        } finally {
+            fecharSilenciosamente(leitor);
         }
         return null;
     }
+
+    private static void fecharSilenciosamente(final XMLStreamReader leitor) {
+        if (leitor == null) {
+            return;
+        }
+        try {
+            leitor.close();
+        } catch (final XMLStreamException ignored) {
+            // Leitor sobre String: nada a liberar.
+        }
+    }
+
+    private static XMLInputFactory criarXmlInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
 }
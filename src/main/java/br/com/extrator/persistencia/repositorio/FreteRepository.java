@@ -38,14 +38,17 @@ import java.time.LocalDate;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import br.com.extrator.persistencia.entidade.FreteEntity;
+import br.com.extrator.persistencia.entidade.LinhaCompacta;
 import br.com.extrator.suporte.configuracao.ConfigEtl;
 import br.com.extrator.suporte.observabilidade.ExecutionContext;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
@@ -81,9 +84,18 @@ public class FreteRepository extends AbstractRepository<FreteEntity> {
         "fiscal_cfop_code", "fiscal_tax_value", "fiscal_pis_value", "fiscal_cofins_value", "filial_apelido",
         "cte_id", "cte_emission_type", "cte_created_at", "fiscal_calculation_basis", "fiscal_tax_rate",
         "fiscal_pis_rate", "fiscal_cofins_rate", "fiscal_has_difal", "fiscal_difal_origin",
-        "fiscal_difal_destination", "metadata", "data_extracao", "excluido_na_origem", "data_exclusao_origem"
+        "fiscal_difal_destination", "metadata", "metadata_gz", "hash_linha", "data_extracao", "excluido_na_origem", "data_exclusao_origem"
     );
     private static final List<String> COLUNAS_ATUALIZAVEIS = List.copyOf(COLUNAS_MERGE.subList(1, COLUNAS_MERGE.size()));
+    // Colunas calculadas no SQL ou de controle; as demais de COLUNAS_MERGE vem da linha compacta da entidade.
+    private static final Set<String> COLUNAS_FORA_DA_LINHA = Set.of(
+        "data_referencia_faturamento", "is_elegivel_faturamento", "metadata", "metadata_gz", "hash_linha",
+        "data_extracao", "excluido_na_origem", "data_exclusao_origem"
+    );
+    private static final int[] COLUNAS_DA_LINHA_NO_MERGE = COLUNAS_MERGE.stream()
+        .filter(coluna -> !COLUNAS_FORA_DA_LINHA.contains(coluna))
+        .mapToInt(FreteEntity.LAYOUT::indice)
+        .toArray();
     private static final String DATA_REFERENCIA_FATURAMENTO_SQL = "COALESCE(source.cte_issued_at, source.servico_em)";
     private static final String ELEGIVEL_FATURAMENTO_SQL = """
         CAST(
@@ -98,6 +110,10 @@ public class FreteRepository extends AbstractRepository<FreteEntity> {
                 ELSE 1
             END AS bit
         )""";
+    static final List<String> CAMPOS_NFSE_FORA_DO_HASH = List.of(
+        "nfseSeries", "nfseNumber", "nfseIntegrationId", "nfseStatus", "nfseIssuedAt", "nfseCancelationReason",
+        "nfsePdfServiceUrl", "nfseCorporationId", "nfseServiceDescription", "nfseXmlDocument"
+    );
     private final FreteNfseUpdateSupport nfseUpdateSupport = new FreteNfseUpdateSupport(logger);
 
     @Override
@@ -105,6 +121,37 @@ public class FreteRepository extends AbstractRepository<FreteEntity> {
         return NOME_TABELA;
     }
 
+    @Override
+    protected List<String> getColunasChaveHashLinha() {
+        return List.of("id");
+    }
+
+    @Override
+    protected List<Object> obterChaveHashLinha(final FreteEntity frete) {
+        return Arrays.asList(frete.getId());
+    }
+
+    /**
+     * Colunas nfse_* sao regravadas pelo enriquecimento de NFS-e (atualizarCamposNfse) depois do MERGE;
+     * fora do hash, o enriquecimento nao invalida o pre-filtro. Mudancas so nesses campos nao disparam MERGE.
+     */
+    @Override
+    protected List<String> getCamposForaDoHashLinha() {
+        return CAMPOS_NFSE_FORA_DO_HASH;
+    }
+
+    /**
+     * servico_em/cte_issued_at filtram as fatos de faturamento; previsao de entrega o indicador PE.
+     */
+    @Override
+    protected List<LocalDate> obterDatasNegocio(final FreteEntity frete) {
+        return Arrays.asList(
+            dataNegocio(frete.getServicoEm()),
+            dataNegocio(frete.getCteIssuedAt()),
+            frete.getDataPrevisaoEntrega()
+        );
+    }
+
     @Override
     protected boolean aceitarMergeSemAlteracoesComoSucesso(final FreteEntity frete) {
         return true;
@@ -617,7 +664,7 @@ public class FreteRepository extends AbstractRepository<FreteEntity> {
                 ?, ?, ?, ?, ?,
                 ?, ?, ?, ?,
                 ?, ?, ?, ?, ?, ?, ?,
-                ?, ?, CAST(0 AS bit), CAST(NULL AS datetime2(0))
+                ?, ?, ?, ?, CAST(0 AS bit), CAST(NULL AS datetime2(0))
             ))
                 AS source (id, servico_em, criado_em, status, cortesia, modal, tipo_frete, valor_total, valor_notas, peso_notas, id_corporacao, id_cidade_destino, data_previsao_entrega, service_date,
                            finished_at, fit_dpn_performance_finished_at, corporation_sequence_number, pick_item_id,
@@ -631,7 +678,7 @@ public class FreteRepository extends AbstractRepository<FreteEntity> {
                            fiscal_cst_type, fiscal_cfop_code, fiscal_tax_value, fiscal_pis_value, fiscal_cofins_value,
                            filial_apelido, cte_id, cte_emission_type, cte_created_at,
                            fiscal_calculation_basis, fiscal_tax_rate, fiscal_pis_rate, fiscal_cofins_rate, fiscal_has_difal, fiscal_difal_origin, fiscal_difal_destination,
-                           metadata, data_extracao, excluido_na_origem, data_exclusao_origem)
+                           metadata, metadata_gz, hash_linha, data_extracao, excluido_na_origem, data_exclusao_origem)
             ON target.id = source.id
             WHEN MATCHED AND (%s OR target.excluido_na_origem = 1) THEN
                 UPDATE SET
@@ -731,6 +778,8 @@ public class FreteRepository extends AbstractRepository<FreteEntity> {
                     fiscal_difal_origin = source.fiscal_difal_origin,
                     fiscal_difal_destination = source.fiscal_difal_destination,
                     metadata = source.metadata,
+                    metadata_gz = source.metadata_gz,
+                    hash_linha = source.hash_linha,
                     data_extracao = source.data_extracao,
                     excluido_na_origem = source.excluido_na_origem,
                     data_exclusao_origem = source.data_exclusao_origem
@@ -747,7 +796,7 @@ public class FreteRepository extends AbstractRepository<FreteEntity> {
                         fiscal_cst_type, fiscal_cfop_code, fiscal_tax_value, fiscal_pis_value, fiscal_cofins_value,
                         filial_apelido, cte_id, cte_emission_type, cte_created_at,
                         fiscal_calculation_basis, fiscal_tax_rate, fiscal_pis_rate, fiscal_cofins_rate, fiscal_has_difal, fiscal_difal_origin, fiscal_difal_destination,
-                        metadata, data_extracao, excluido_na_origem, data_exclusao_origem)
+                        metadata, metadata_gz, hash_linha, data_extracao, excluido_na_origem, data_exclusao_origem)
                 VALUES (source.id, source.servico_em, source.criado_em, source.status, source.cortesia, source.modal, source.tipo_frete, source.valor_total, source.valor_notas, source.peso_notas, source.id_corporacao, source.id_cidade_destino, source.data_previsao_entrega, source.service_date,
                         source.finished_at, source.fit_dpn_performance_finished_at, source.corporation_sequence_number, source.pick_item_id,
                         source.pagador_id, source.pagador_nome, source.remetente_id, source.remetente_nome, source.origem_cidade, source.origem_uf, source.destinatario_id, source.destinatario_nome, source.destino_cidade, source.destino_uf,
@@ -760,125 +809,19 @@ public class FreteRepository extends AbstractRepository<FreteEntity> {
                         source.fiscal_cst_type, source.fiscal_cfop_code, source.fiscal_tax_value, source.fiscal_pis_value, source.fiscal_cofins_value,
                         source.filial_apelido, source.cte_id, source.cte_emission_type, source.cte_created_at,
                         source.fiscal_calculation_basis, source.fiscal_tax_rate, source.fiscal_pis_rate, source.fiscal_cofins_rate, source.fiscal_has_difal, source.fiscal_difal_origin, source.fiscal_difal_destination,
-                        source.metadata, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem);
+                        source.metadata, source.metadata_gz, source.hash_linha, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem);
             """, tabelaAlvo, freshnessGuard, DATA_REFERENCIA_FATURAMENTO_SQL, ELEGIVEL_FATURAMENTO_SQL,
             DATA_REFERENCIA_FATURAMENTO_SQL, ELEGIVEL_FATURAMENTO_SQL);
 
         try (PreparedStatement statement = conexao.prepareStatement(sql)) {
             // Define os parâmetros de forma segura e na ordem correta.
             int paramIndex = 1;
-            statement.setObject(paramIndex++, frete.getId(), Types.BIGINT);
-            statement.setObject(paramIndex++, frete.getServicoEm(), Types.TIMESTAMP_WITH_TIMEZONE);
-            statement.setObject(paramIndex++, frete.getCriadoEm(), Types.TIMESTAMP_WITH_TIMEZONE);
-            statement.setString(paramIndex++, frete.getStatus());
-            if (frete.getCortesia() != null) {
-                statement.setObject(paramIndex++, frete.getCortesia(), Types.BOOLEAN);
-            } else {
-                statement.setNull(paramIndex++, Types.BOOLEAN);
-            }
-            statement.setString(paramIndex++, frete.getModal());
-            statement.setString(paramIndex++, frete.getTipoFrete());
-            statement.setBigDecimal(paramIndex++, frete.getValorTotal());
-            statement.setBigDecimal(paramIndex++, frete.getValorNotas());
-            statement.setBigDecimal(paramIndex++, frete.getPesoNotas());
-            statement.setObject(paramIndex++, frete.getIdCorporacao(), Types.BIGINT);
-            statement.setObject(paramIndex++, frete.getIdCidadeDestino(), Types.BIGINT);
-            statement.setObject(paramIndex++, frete.getDataPrevisaoEntrega(), Types.DATE);
-            statement.setObject(paramIndex++, frete.getServiceDate(), Types.DATE);
-            statement.setObject(paramIndex++, frete.getFinishedAt(), Types.TIMESTAMP_WITH_TIMEZONE);
-            statement.setObject(paramIndex++, frete.getFitDpnPerformanceFinishedAt(), Types.TIMESTAMP_WITH_TIMEZONE);
-            statement.setObject(paramIndex++, frete.getCorporationSequenceNumber(), Types.BIGINT);
-            statement.setObject(paramIndex++, frete.getPickItemId(), Types.BIGINT);
-            // Campos expandidos (22 campos do CSV)
-            statement.setObject(paramIndex++, frete.getPagadorId(), Types.BIGINT);
-            statement.setString(paramIndex++, frete.getPagadorNome());
-            statement.setObject(paramIndex++, frete.getRemetenteId(), Types.BIGINT);
-            statement.setString(paramIndex++, frete.getRemetenteNome());
-            statement.setString(paramIndex++, frete.getOrigemCidade());
-            statement.setString(paramIndex++, frete.getOrigemUf());
-            statement.setObject(paramIndex++, frete.getDestinatarioId(), Types.BIGINT);
-            statement.setString(paramIndex++, frete.getDestinatarioNome());
-            statement.setString(paramIndex++, frete.getDestinoCidade());
-            statement.setString(paramIndex++, frete.getDestinoUf());
-            statement.setString(paramIndex++, frete.getFilialNome());
-            statement.setString(paramIndex++, frete.getNumeroNotaFiscal());
-            statement.setString(paramIndex++, frete.getTabelaPrecoNome());
-            statement.setString(paramIndex++, frete.getClassificacaoNome());
-            statement.setString(paramIndex++, frete.getCentroCustoNome());
-            statement.setString(paramIndex++, frete.getUsuarioNome());
-            statement.setString(paramIndex++, frete.getReferenceNumber());
-            statement.setString(paramIndex++, frete.getChaveCte());
-            if (frete.getNumeroCte() != null) {
-                statement.setObject(paramIndex++, frete.getNumeroCte(), Types.INTEGER);
-            } else {
-                statement.setNull(paramIndex++, Types.INTEGER);
-            }
-            if (frete.getSerieCte() != null) {
-                statement.setObject(paramIndex++, frete.getSerieCte(), Types.INTEGER);
-            } else {
-                statement.setNull(paramIndex++, Types.INTEGER);
+            final LinhaCompacta linha = frete.linhaCompacta();
+            for (final int coluna : COLUNAS_DA_LINHA_NO_MERGE) {
+                setColunaParameter(statement, paramIndex++, linha, coluna);
             }
-            statement.setObject(paramIndex++, frete.getInvoicesTotalVolumes(), Types.INTEGER);
-            statement.setBigDecimal(paramIndex++, frete.getTaxedWeight());
-            statement.setBigDecimal(paramIndex++, frete.getRealWeight());
-            statement.setBigDecimal(paramIndex++, frete.getTotalCubicVolume());
-            statement.setBigDecimal(paramIndex++, frete.getSubtotal());
-            if (frete.getAccountingCreditId() != null) { statement.setObject(paramIndex++, frete.getAccountingCreditId(), Types.BIGINT); } else { statement.setNull(paramIndex++, Types.BIGINT); }
-            if (frete.getAccountingCreditInstallmentId() != null) { statement.setObject(paramIndex++, frete.getAccountingCreditInstallmentId(), Types.BIGINT); } else { statement.setNull(paramIndex++, Types.BIGINT); }
-            if (frete.getServiceType() != null) {
-                statement.setObject(paramIndex++, frete.getServiceType(), Types.INTEGER);
-            } else { statement.setNull(paramIndex++, Types.INTEGER); }
-            if (frete.getInsuranceEnabled() != null) {
-                statement.setObject(paramIndex++, frete.getInsuranceEnabled(), Types.BOOLEAN);
-            } else { statement.setNull(paramIndex++, Types.BOOLEAN); }
-            statement.setBigDecimal(paramIndex++, frete.getGrisSubtotal());
-            statement.setBigDecimal(paramIndex++, frete.getTdeSubtotal());
-            statement.setString(paramIndex++, frete.getModalCte());
-            statement.setBigDecimal(paramIndex++, frete.getRedispatchSubtotal());
-            statement.setBigDecimal(paramIndex++, frete.getSuframaSubtotal());
-            statement.setString(paramIndex++, frete.getPaymentType());
-            statement.setString(paramIndex++, frete.getPreviousDocumentType());
-            statement.setBigDecimal(paramIndex++, frete.getProductsValue());
-            statement.setBigDecimal(paramIndex++, frete.getTrtSubtotal());
-            statement.setString(paramIndex++, frete.getNfseSeries());
-            if (frete.getNfseNumber() != null) { statement.setObject(paramIndex++, frete.getNfseNumber(), Types.INTEGER); } else { statement.setNull(paramIndex++, Types.INTEGER); }
-            if (frete.getInsuranceId() != null) { statement.setObject(paramIndex++, frete.getInsuranceId(), Types.BIGINT); } else { statement.setNull(paramIndex++, Types.BIGINT); }
-            statement.setBigDecimal(paramIndex++, frete.getOtherFees());
-            statement.setBigDecimal(paramIndex++, frete.getKm());
-            if (frete.getPaymentAccountableType() != null) { statement.setObject(paramIndex++, frete.getPaymentAccountableType(), Types.INTEGER); } else { statement.setNull(paramIndex++, Types.INTEGER); }
-            statement.setBigDecimal(paramIndex++, frete.getInsuredValue());
-            if (frete.getGlobalized() != null) { statement.setObject(paramIndex++, frete.getGlobalized(), Types.BOOLEAN); } else { statement.setNull(paramIndex++, Types.BOOLEAN); }
-            statement.setBigDecimal(paramIndex++, frete.getSecCatSubtotal());
-            statement.setString(paramIndex++, frete.getGlobalizedType());
-            if (frete.getPriceTableAccountableType() != null) { statement.setObject(paramIndex++, frete.getPriceTableAccountableType(), Types.INTEGER); } else { statement.setNull(paramIndex++, Types.INTEGER); }
-            if (frete.getInsuranceAccountableType() != null) { statement.setObject(paramIndex++, frete.getInsuranceAccountableType(), Types.INTEGER); } else { statement.setNull(paramIndex++, Types.INTEGER); }
-            statement.setString(paramIndex++, frete.getPagadorDocumento());
-            statement.setString(paramIndex++, frete.getRemetenteDocumento());
-            statement.setString(paramIndex++, frete.getDestinatarioDocumento());
-            statement.setString(paramIndex++, frete.getFilialCnpj());
-            statement.setObject(paramIndex++, frete.getCteIssuedAt(), Types.TIMESTAMP_WITH_TIMEZONE);
-            statement.setBigDecimal(paramIndex++, frete.getCubagesCubedWeight());
-            statement.setBigDecimal(paramIndex++, frete.getFreightWeightSubtotal());
-            statement.setBigDecimal(paramIndex++, frete.getAdValoremSubtotal());
-            statement.setBigDecimal(paramIndex++, frete.getTollSubtotal());
-            statement.setBigDecimal(paramIndex++, frete.getItrSubtotal());
-            statement.setString(paramIndex++, frete.getFiscalCstType());
-            statement.setString(paramIndex++, frete.getFiscalCfopCode());
-            statement.setBigDecimal(paramIndex++, frete.getFiscalTaxValue());
-            statement.setBigDecimal(paramIndex++, frete.getFiscalPisValue());
-            statement.setBigDecimal(paramIndex++, frete.getFiscalCofinsValue());
-            statement.setString(paramIndex++, frete.getFilialApelido());
-            if (frete.getCteId() != null) { statement.setObject(paramIndex++, frete.getCteId(), Types.BIGINT); } else { statement.setNull(paramIndex++, Types.BIGINT); }
-            statement.setString(paramIndex++, frete.getCteEmissionType());
-            statement.setObject(paramIndex++, frete.getCteCreatedAt(), Types.TIMESTAMP_WITH_TIMEZONE);
-            statement.setBigDecimal(paramIndex++, frete.getFiscalCalculationBasis());
-            statement.setBigDecimal(paramIndex++, frete.getFiscalTaxRate());
-            statement.setBigDecimal(paramIndex++, frete.getFiscalPisRate());
-            statement.setBigDecimal(paramIndex++, frete.getFiscalCofinsRate());
-            if (frete.getFiscalHasDifal() != null) { statement.setObject(paramIndex++, frete.getFiscalHasDifal(), Types.BOOLEAN); } else { statement.setNull(paramIndex++, Types.BOOLEAN); }
-            statement.setBigDecimal(paramIndex++, frete.getFiscalDifalOrigin());
-            statement.setBigDecimal(paramIndex++, frete.getFiscalDifalDestination());
-            statement.setString(paramIndex++, frete.getMetadata());
+            paramIndex = setPayloadParameters(statement, paramIndex, frete.getMetadata());
+            setHashLinhaParameter(statement, paramIndex++, frete);
             setInstantParameter(statement, paramIndex++, Instant.now());
             final int rowsAffected = statement.executeUpdate();
             logger.debug("MERGE executado para Frete ID {}: {} linha(s) afetada(s)", frete.getId(), rowsAffected);
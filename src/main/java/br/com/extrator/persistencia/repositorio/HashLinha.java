@@ -0,0 +1,64 @@
+package br.com.extrator.persistencia.repositorio;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * SHA-256 do conteudo de uma entidade, gravado em hash_linha para o pre-filtro do MERGE.
+ * Campos que mudam a cada extracao (data_extracao) ficam fora: a mesma linha da API gera o mesmo hash.
+ */
+final class HashLinha {
+    static final int TAMANHO_BYTES = 32;
+    private static final List<String> CAMPOS_VOLATEIS = List.of("dataExtracao");
+    // Datas em ISO-8601 preservam o offset original, que vai para as colunas DATETIMEOFFSET.
+    // Ordem alfabetica: entidades so com getters (ex.: FreteEntity sobre LinhaCompacta) nao tem ordem de campos.
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+        .build();
+
+    private HashLinha() {
+    }
+
+    static byte[] calcular(final Object entidade) {
+        return calcular(entidade, List.of());
+    }
+
+    /**
+     * camposForaDoHash: propriedades (nome Jackson) que outro processo grava na linha depois do MERGE.
+     */
+    static byte[] calcular(final Object entidade, final Collection<String> camposForaDoHash) {
+        final ObjectNode conteudo = MAPPER.valueToTree(entidade);
+        conteudo.remove(CAMPOS_VOLATEIS);
+        conteudo.remove(camposForaDoHash);
+        final MessageDigest digest = novoDigest();
+        try (OutputStream saida = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            MAPPER.writeValue(saida, conteudo);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Falha ao calcular hash_linha de " + entidade.getClass().getSimpleName(), e);
+        }
+        return digest.digest();
+    }
+
+    private static MessageDigest novoDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 nao disponivel", e);
+        }
+    }
+}
@@ -5,6 +5,9 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
 
 import br.com.extrator.persistencia.entidade.InventarioEntity;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
@@ -18,6 +21,26 @@ public class InventarioRepository extends AbstractRepository<InventarioEntity> {
         return NOME_TABELA;
     }
 
+    @Override
+    protected List<String> getColunasChaveHashLinha() {
+        return List.of("identificador_unico");
+    }
+
+    @Override
+    protected List<Object> obterChaveHashLinha(final InventarioEntity inventario) {
+        return Arrays.asList(inventario.getIdentificadorUnico());
+    }
+
+    /**
+     * started_at filtra a parcela de inventario da fato de coletores.
+     */
+    @Override
+    protected List<LocalDate> obterDatasNegocio(final InventarioEntity inventario) {
+        return Arrays.asList(
+            dataNegocio(inventario.getStartedAt())
+        );
+    }
+
     @Override
     protected boolean aceitarMergeSemAlteracoesComoSucesso(final InventarioEntity inventario) {
         return true;
@@ -60,14 +83,14 @@ public class InventarioRepository extends AbstractRepository<InventarioEntity> {
         );
         final String sql = String.format("""
             MERGE %s AS target
-            USING (VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(0 AS bit), CAST(NULL AS datetime2(0))))
+            USING (VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(0 AS bit), CAST(NULL AS datetime2(0))))
                 AS source (
                     identificador_unico, sequence_code, numero_minuta, pagador_nome, remetente_nome, origem_cidade,
                     destinatario_nome, destino_cidade, regiao_entrega, filial_entregadora, branch_nickname, type,
                     started_at, finished_at, status, conferente_nome, invoices_mapping, invoices_value, real_weight,
                     total_cubic_volume, taxed_weight, invoices_volumes, read_volumes, predicted_delivery_at,
                     performance_finished_at, ultima_ocorrencia_at, ultima_ocorrencia_descricao,
-                    flag_comprovante_anexado, metadata, data_extracao, excluido_na_origem, data_exclusao_origem
+                    flag_comprovante_anexado, metadata, metadata_gz, hash_linha, data_extracao, excluido_na_origem, data_exclusao_origem
                 )
             ON target.identificador_unico = source.identificador_unico
             WHEN MATCHED AND (%s OR target.excluido_na_origem = 1) THEN
@@ -100,6 +123,8 @@ public class InventarioRepository extends AbstractRepository<InventarioEntity> {
                     ultima_ocorrencia_descricao = source.ultima_ocorrencia_descricao,
                     flag_comprovante_anexado = source.flag_comprovante_anexado,
                     metadata = source.metadata,
+                    metadata_gz = source.metadata_gz,
+                    hash_linha = source.hash_linha,
                     data_extracao = source.data_extracao,
                     excluido_na_origem = source.excluido_na_origem,
                     data_exclusao_origem = source.data_exclusao_origem
@@ -110,7 +135,7 @@ public class InventarioRepository extends AbstractRepository<InventarioEntity> {
                     started_at, finished_at, status, conferente_nome, invoices_mapping, invoices_value, real_weight,
                     total_cubic_volume, taxed_weight, invoices_volumes, read_volumes, predicted_delivery_at,
                     performance_finished_at, ultima_ocorrencia_at, ultima_ocorrencia_descricao,
-                    flag_comprovante_anexado, metadata, data_extracao, excluido_na_origem, data_exclusao_origem
+                    flag_comprovante_anexado, metadata, metadata_gz, hash_linha, data_extracao, excluido_na_origem, data_exclusao_origem
                 )
                 VALUES (
                     source.identificador_unico, source.sequence_code, source.numero_minuta, source.pagador_nome, source.remetente_nome, source.origem_cidade,
@@ -118,7 +143,7 @@ public class InventarioRepository extends AbstractRepository<InventarioEntity> {
                     source.started_at, source.finished_at, source.status, source.conferente_nome, source.invoices_mapping, source.invoices_value, source.real_weight,
                     source.total_cubic_volume, source.taxed_weight, source.invoices_volumes, source.read_volumes, source.predicted_delivery_at,
                     source.performance_finished_at, source.ultima_ocorrencia_at, source.ultima_ocorrencia_descricao,
-                    source.flag_comprovante_anexado, source.metadata, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem
+                    source.flag_comprovante_anexado, source.metadata, source.metadata_gz, source.hash_linha, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem
                 );
             """, NOME_TABELA, freshnessGuard);
 
@@ -152,7 +177,8 @@ public class InventarioRepository extends AbstractRepository<InventarioEntity> {
             statement.setObject(paramIndex++, inventario.getUltimaOcorrenciaAt(), Types.TIMESTAMP_WITH_TIMEZONE);
             setStringParameter(statement, paramIndex++, inventario.getUltimaOcorrenciaDescricao());
             setBooleanParameter(statement, paramIndex++, inventario.isFlagComprovanteAnexado());
-            setStringParameter(statement, paramIndex++, inventario.getMetadata());
+            paramIndex = setPayloadParameters(statement, paramIndex, inventario.getMetadata());
+            setHashLinhaParameter(statement, paramIndex++, inventario);
             setInstantParameter(statement, paramIndex++, Instant.now());
             return statement.executeUpdate();
         }
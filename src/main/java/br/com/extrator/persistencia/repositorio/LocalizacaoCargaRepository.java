@@ -30,6 +30,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,6 +56,27 @@ public class LocalizacaoCargaRepository extends AbstractRepository<LocalizacaoCa
         return NOME_TABELA;
     }
 
+    @Override
+    protected List<String> getColunasChaveHashLinha() {
+        return List.of("sequence_number");
+    }
+
+    @Override
+    protected List<Object> obterChaveHashLinha(final LocalizacaoCargaEntity carga) {
+        return Arrays.asList(carga.getSequenceNumber());
+    }
+
+    /**
+     * service_at/predicted_delivery_at acompanham as datas do frete na fato de fretes.
+     */
+    @Override
+    protected List<LocalDate> obterDatasNegocio(final LocalizacaoCargaEntity localizacao) {
+        return Arrays.asList(
+            dataNegocio(localizacao.getServiceAt()),
+            dataNegocio(localizacao.getPredictedDeliveryAt())
+        );
+    }
+
     @Override
     protected boolean aceitarMergeSemAlteracoesComoSucesso(final LocalizacaoCargaEntity carga) {
         return true;
@@ -139,12 +163,13 @@ public class LocalizacaoCargaRepository extends AbstractRepository<LocalizacaoCa
             setStringParameter(statement, paramIndex++, carga.getOriginLocationName());
             setStringParameter(statement, paramIndex++, carga.getOriginBranchNickname());
             setStringParameter(statement, paramIndex++, carga.getFitFlnClnNickname());
-            setStringParameter(statement, paramIndex++, carga.getMetadata());
+            paramIndex = setPayloadParameters(statement, paramIndex, carga.getMetadata());
+            setHashLinhaParameter(statement, paramIndex++, carga);
             setStringParameter(statement, paramIndex++, carga.getLocalizacaoHash());
             setInstantParameter(statement, paramIndex++, Instant.now()); // UTC timestamp
             
-            if (paramIndex != 25) {
-                throw new SQLException(String.format("Número incorreto de parâmetros: esperado 24, definido %d", paramIndex - 1));
+            if (paramIndex != 27) {
+                throw new SQLException(String.format("Número incorreto de parâmetros: esperado 26, definido %d", paramIndex - 1));
             }
 
             final int rowsAffected = statement.executeUpdate();
@@ -183,20 +208,22 @@ public class LocalizacaoCargaRepository extends AbstractRepository<LocalizacaoCa
                     origin_branch_nickname = source.origin_branch_nickname,
                     fit_fln_cln_nickname = source.fit_fln_cln_nickname,
                     metadata = source.metadata,
+                    metadata_gz = source.metadata_gz,
+                    hash_linha = source.hash_linha,
                     localizacao_hash = source.localizacao_hash,
                     data_extracao = source.data_extracao,
                     excluido_na_origem = source.excluido_na_origem,
                     data_exclusao_origem = source.data_exclusao_origem
             WHEN NOT MATCHED THEN
-                INSERT (sequence_number, type, service_at, invoices_volumes, taxed_weight, taxed_weight_decimal, invoices_value, invoices_value_decimal, total_value, service_type, branch_nickname, predicted_delivery_at, destination_location_name, destination_branch_nickname, classification, status, status_normalized, status_branch_nickname, origin_location_name, origin_branch_nickname, fit_fln_cln_nickname, metadata, localizacao_hash, data_extracao, excluido_na_origem, data_exclusao_origem)
-                VALUES (source.sequence_number, source.type, source.service_at, source.invoices_volumes, source.taxed_weight, source.taxed_weight_decimal, source.invoices_value, source.invoices_value_decimal, source.total_value, source.service_type, source.branch_nickname, source.predicted_delivery_at, source.destination_location_name, source.destination_branch_nickname, source.classification, source.status, source.status_normalized, source.status_branch_nickname, source.origin_location_name, source.origin_branch_nickname, source.fit_fln_cln_nickname, source.metadata, source.localizacao_hash, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem);
+                INSERT (sequence_number, type, service_at, invoices_volumes, taxed_weight, taxed_weight_decimal, invoices_value, invoices_value_decimal, total_value, service_type, branch_nickname, predicted_delivery_at, destination_location_name, destination_branch_nickname, classification, status, status_normalized, status_branch_nickname, origin_location_name, origin_branch_nickname, fit_fln_cln_nickname, metadata, metadata_gz, hash_linha, localizacao_hash, data_extracao, excluido_na_origem, data_exclusao_origem)
+                VALUES (source.sequence_number, source.type, source.service_at, source.invoices_volumes, source.taxed_weight, source.taxed_weight_decimal, source.invoices_value, source.invoices_value_decimal, source.total_value, source.service_type, source.branch_nickname, source.predicted_delivery_at, source.destination_location_name, source.destination_branch_nickname, source.classification, source.status, source.status_normalized, source.status_branch_nickname, source.origin_location_name, source.origin_branch_nickname, source.fit_fln_cln_nickname, source.metadata, source.metadata_gz, source.hash_linha, source.localizacao_hash, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem);
             """.formatted(tabelaAlvo, sourceClause, freshnessGuard);
     }
 
     private String construirSourceClauseValues() {
         return """
-            (VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(0 AS bit), CAST(NULL AS datetime2(0))))
-                AS source (sequence_number, type, service_at, invoices_volumes, taxed_weight, taxed_weight_decimal, invoices_value, invoices_value_decimal, total_value, service_type, branch_nickname, predicted_delivery_at, destination_location_name, destination_branch_nickname, classification, status, status_normalized, status_branch_nickname, origin_location_name, origin_branch_nickname, fit_fln_cln_nickname, metadata, localizacao_hash, data_extracao, excluido_na_origem, data_exclusao_origem)
+            (VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(0 AS bit), CAST(NULL AS datetime2(0))))
+                AS source (sequence_number, type, service_at, invoices_volumes, taxed_weight, taxed_weight_decimal, invoices_value, invoices_value_decimal, total_value, service_type, branch_nickname, predicted_delivery_at, destination_location_name, destination_branch_nickname, classification, status, status_normalized, status_branch_nickname, origin_location_name, origin_branch_nickname, fit_fln_cln_nickname, metadata, metadata_gz, hash_linha, localizacao_hash, data_extracao, excluido_na_origem, data_exclusao_origem)
             """;
     }
 
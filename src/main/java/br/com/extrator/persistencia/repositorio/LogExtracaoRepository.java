@@ -20,6 +20,7 @@ Metodos principais:
 - gravarLogExtracao(...1 args): realiza operacao relacionada a "gravar log extracao".
 - buscarUltimoLogPorEntidade(...1 args): consulta e retorna dados conforme criterio.
 - buscarUltimoLogPorEntidadeNoIntervaloExecucao(...3 args): consulta e retorna dados conforme criterio.
+- buscarUltimosLogsCompletosPorData(...1 args): consulta o ultimo log COMPLETO de cada entidade na data.
 - buscarUltimaExtracaoPorPeriodo(...3 args): consulta e retorna dados conforme criterio.
 Atributos-chave:
 - logger: logger da classe para diagnostico.
@@ -32,8 +33,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -56,8 +60,9 @@ public class LogExtracaoRepository {
     public void gravarLogExtracao(final LogExtracaoEntity logExtracao) {
         final String sql = """
             INSERT INTO dbo.log_extracoes
-            (entidade, timestamp_inicio, timestamp_fim, status_final, registros_extraidos, paginas_processadas, noop_count, mensagem)
-            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            (entidade, timestamp_inicio, timestamp_fim, status_final, registros_extraidos, paginas_processadas, noop_count,
+             unique_count, db_upserts, invalid_count, bytes_recebidos, mensagem)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
             """;
         
         try (Connection conn = GerenciadorConexao.obterConexao();
@@ -70,7 +75,15 @@ public class LogExtracaoRepository {
             stmt.setInt(5, inteiroSeguro(logExtracao.getRegistrosExtraidos()));
             stmt.setInt(6, inteiroSeguro(logExtracao.getPaginasProcessadas()));
             stmt.setInt(7, inteiroSeguro(logExtracao.getNoopCount()));
-            stmt.setString(8, logExtracao.getMensagem());
+            definirInteiroOpcional(stmt, 8, logExtracao.getUniqueCount());
+            definirInteiroOpcional(stmt, 9, logExtracao.getDbUpserts());
+            definirInteiroOpcional(stmt, 10, logExtracao.getInvalidCount());
+            if (logExtracao.getBytesRecebidos() == null) {
+                stmt.setNull(11, Types.BIGINT);
+            } else {
+                stmt.setLong(11, logExtracao.getBytesRecebidos());
+            }
+            stmt.setString(12, logExtracao.getMensagem());
             
             final int linhasAfetadas = stmt.executeUpdate();
             
@@ -92,7 +105,8 @@ public class LogExtracaoRepository {
     public Optional<LogExtracaoEntity> buscarUltimoLogPorEntidade(final String entidade) {
         final String sql = """
             SELECT TOP 1 id, entidade, timestamp_inicio, timestamp_fim, status_final,
-                   registros_extraidos, paginas_processadas, noop_count, mensagem
+                   registros_extraidos, paginas_processadas, noop_count,
+                   unique_count, db_upserts, invalid_count, bytes_recebidos, mensagem
             FROM dbo.log_extracoes
             WHERE entidade = ?
             ORDER BY timestamp_fim DESC
@@ -105,18 +119,7 @@ public class LogExtracaoRepository {
             
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    final LogExtracaoEntity log = new LogExtracaoEntity();
-                    log.setId(rs.getLong("id"));
-                    log.setEntidade(rs.getString("entidade"));
-                    log.setTimestampInicio(rs.getTimestamp("timestamp_inicio").toLocalDateTime());
-                    log.setTimestampFim(rs.getTimestamp("timestamp_fim").toLocalDateTime());
-                    log.setStatusFinal(StatusExtracao.fromString(rs.getString("status_final")));
-                    log.setRegistrosExtraidos(rs.getInt("registros_extraidos"));
-                    log.setPaginasProcessadas(rs.getInt("paginas_processadas"));
-                    log.setNoopCount(rs.getInt("noop_count"));
-                    log.setMensagem(rs.getString("mensagem"));
-                    
-                    return Optional.of(log);
+                    return Optional.of(criarLogExtracaoEntity(rs));
                 }
             }
             
@@ -141,7 +144,8 @@ public class LogExtracaoRepository {
                                                                                        final LocalDateTime fimExecucao) {
         final String sql = """
             SELECT TOP 1 id, entidade, timestamp_inicio, timestamp_fim, status_final,
-                   registros_extraidos, paginas_processadas, noop_count, mensagem
+                   registros_extraidos, paginas_processadas, noop_count,
+                   unique_count, db_upserts, invalid_count, bytes_recebidos, mensagem
             FROM dbo.log_extracoes
             WHERE entidade = ?
               AND timestamp_fim >= ?
@@ -170,6 +174,48 @@ public class LogExtracaoRepository {
         return Optional.empty();
     }
     
+    /**
+     * Busca, em uma única consulta, o último log COMPLETO de cada entidade iniciado na data informada.
+     * Usado pelos validadores de completude para ler as métricas tipadas sem varrer as tabelas de entidade.
+     *
+     * @param dataReferencia Data de início das execuções
+     * @return Mapa entidade -> último log COMPLETO da data (vazio em caso de erro)
+     */
+    public Map<String, LogExtracaoEntity> buscarUltimosLogsCompletosPorData(final LocalDate dataReferencia) {
+        final String sql = """
+            SELECT id, entidade, timestamp_inicio, timestamp_fim, status_final,
+                   registros_extraidos, paginas_processadas, noop_count,
+                   unique_count, db_upserts, invalid_count, bytes_recebidos, mensagem
+            FROM (
+                SELECT *,
+                       ROW_NUMBER() OVER (PARTITION BY entidade ORDER BY timestamp_fim DESC) AS rn
+                FROM dbo.log_extracoes
+                WHERE timestamp_inicio >= ?
+                  AND timestamp_inicio < ?
+                  AND status_final = 'COMPLETO'
+            ) ultimos
+            WHERE rn = 1
+            """;
+
+        final Map<String, LogExtracaoEntity> logsPorEntidade = new HashMap<>();
+        try (Connection conn = GerenciadorConexao.obterConexao();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setTimestamp(1, Timestamp.valueOf(dataReferencia.atStartOfDay()));
+            stmt.setTimestamp(2, Timestamp.valueOf(dataReferencia.plusDays(1).atStartOfDay()));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    final LogExtracaoEntity log = criarLogExtracaoEntity(rs);
+                    logsPorEntidade.put(log.getEntidade(), log);
+                }
+            }
+        } catch (final SQLException e) {
+            logger.warn("Erro ao buscar últimos logs COMPLETO da data {}: {}", dataReferencia, e.getMessage());
+        }
+        return logsPorEntidade;
+    }
+
     /**
      * Busca a última extração que tenha extraído dados do mesmo período.
      * Verifica logs onde a mensagem contenha informações sobre o período extraído,
@@ -187,7 +233,8 @@ public class LogExtracaoRepository {
         // Formato esperado na mensagem: "Período: YYYY-MM-DD a YYYY-MM-DD"
         final String sqlComPeriodo = """
             SELECT TOP 1 id, entidade, timestamp_inicio, timestamp_fim, status_final,
-                   registros_extraidos, paginas_processadas, noop_count, mensagem
+                   registros_extraidos, paginas_processadas, noop_count,
+                   unique_count, db_upserts, invalid_count, bytes_recebidos, mensagem
             FROM dbo.log_extracoes
             WHERE entidade = ?
               AND (mensagem LIKE ? OR mensagem LIKE ?)
@@ -224,7 +271,8 @@ public class LogExtracaoRepository {
         // QUALQUER uma das datas do período (início OU fim)
         final String sqlComUmaDatas = """
             SELECT TOP 1 id, entidade, timestamp_inicio, timestamp_fim, status_final,
-                   registros_extraidos, paginas_processadas, noop_count, mensagem
+                   registros_extraidos, paginas_processadas, noop_count,
+                   unique_count, db_upserts, invalid_count, bytes_recebidos, mensagem
             FROM dbo.log_extracoes
             WHERE entidade = ?
               AND (mensagem LIKE ? OR mensagem LIKE ?)
@@ -255,7 +303,8 @@ public class LogExtracaoRepository {
         final LocalDateTime limiteRecente = LocalDateTime.now().minusHours(24);
         final String sqlUltimoRecente = """
             SELECT TOP 1 id, entidade, timestamp_inicio, timestamp_fim, status_final,
-                   registros_extraidos, paginas_processadas, noop_count, mensagem
+                   registros_extraidos, paginas_processadas, noop_count,
+                   unique_count, db_upserts, invalid_count, bytes_recebidos, mensagem
             FROM dbo.log_extracoes
             WHERE entidade = ?
               AND timestamp_fim >= ?
@@ -296,10 +345,30 @@ public class LogExtracaoRepository {
         log.setRegistrosExtraidos(rs.getInt("registros_extraidos"));
         log.setPaginasProcessadas(rs.getInt("paginas_processadas"));
         log.setNoopCount(rs.getInt("noop_count"));
+        log.setUniqueCount(lerInteiroOpcional(rs, "unique_count"));
+        log.setDbUpserts(lerInteiroOpcional(rs, "db_upserts"));
+        log.setInvalidCount(lerInteiroOpcional(rs, "invalid_count"));
+        final long bytesRecebidos = rs.getLong("bytes_recebidos");
+        log.setBytesRecebidos(rs.wasNull() ? null : bytesRecebidos);
         log.setMensagem(rs.getString("mensagem"));
         return log;
     }
 
+    private Integer lerInteiroOpcional(final ResultSet rs, final String coluna) throws SQLException {
+        final int valor = rs.getInt(coluna);
+        return rs.wasNull() ? null : valor;
+    }
+
+    private void definirInteiroOpcional(final PreparedStatement stmt,
+                                        final int indice,
+                                        final Integer valor) throws SQLException {
+        if (valor == null) {
+            stmt.setNull(indice, Types.INTEGER);
+        } else {
+            stmt.setInt(indice, Math.max(0, valor));
+        }
+    }
+
     private int inteiroSeguro(final Integer valor) {
         return valor == null ? 0 : Math.max(0, valor);
     }
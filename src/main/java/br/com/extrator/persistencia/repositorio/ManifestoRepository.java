@@ -31,6 +31,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -73,7 +76,7 @@ public class ManifestoRepository extends AbstractRepository<ManifestoEntity> {
         "contract_type", "driver_contract_type", "calculation_type", "cargo_type", "daily_subtotal", "total_cost", "freight_subtotal",
         "fuel_subtotal", "toll_subtotal", "driver_services_total", "operational_expenses_total", "inss_value",
         "sest_senat_value", "ir_value", "paying_total", "manual_km", "generate_mdfe", "monitoring_request",
-        "uniq_destinations_count", "creation_user_name", "adjustment_user_name", "metadata", "data_extracao",
+        "uniq_destinations_count", "creation_user_name", "adjustment_user_name", "metadata", "metadata_gz", "data_extracao",
         "mobile_read_at", "km", "delivery_manifest_items_count", "transfer_manifest_items_count",
         "pick_manifest_items_count", "dispatch_draft_manifest_items_count", "consolidation_manifest_items_count",
         "reverse_pick_manifest_items_count", "manifest_items_count", "finalized_manifest_items_count",
@@ -95,6 +98,17 @@ public class ManifestoRepository extends AbstractRepository<ManifestoEntity> {
         return NOME_TABELA;
     }
 
+    /**
+     * created_at/departured_at filtram as fatos de manifestos e coletores.
+     */
+    @Override
+    protected List<LocalDate> obterDatasNegocio(final ManifestoEntity manifesto) {
+        return Arrays.asList(
+            dataNegocio(manifesto.getCreatedAt()),
+            dataNegocio(manifesto.getDeparturedAt())
+        );
+    }
+
     @Override
     protected boolean aceitarMergeSemAlteracoesComoSucesso(final ManifestoEntity manifesto) {
         return true;
@@ -152,8 +166,8 @@ public class ManifestoRepository extends AbstractRepository<ManifestoEntity> {
                AND source.pick_sequence_code IS NOT NULL
                AND (
                     CASE
-                        WHEN ISJSON(target.metadata) = 1
-                            THEN TRY_CONVERT(BIGINT, JSON_VALUE(target.metadata, '%s'))
+                        WHEN ISJSON(COALESCE(target.metadata, CAST(DECOMPRESS(target.metadata_gz) AS NVARCHAR(MAX)))) = 1
+                            THEN TRY_CONVERT(BIGINT, JSON_VALUE(COALESCE(target.metadata, CAST(DECOMPRESS(target.metadata_gz) AS NVARCHAR(MAX))), '%s'))
                         ELSE NULL
                     END
                ) = source.pick_sequence_code
@@ -308,8 +322,8 @@ public class ManifestoRepository extends AbstractRepository<ManifestoEntity> {
         );
         final String sql = String.format("""
             MERGE %s WITH (HOLDLOCK) AS target
-            USING (VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(0 AS bit), CAST(NULL AS datetime2(0))))
-                AS source (sequence_code, identificador_unico, status, created_at, departured_at, closed_at, finished_at, mdfe_number, mdfe_key, mdfe_status, distribution_pole, classification, vehicle_plate, vehicle_type, vehicle_owner, driver_name, branch_nickname, vehicle_departure_km, closing_km, traveled_km, invoices_count, invoices_volumes, invoices_weight, total_taxed_weight, total_cubic_volume, invoices_value, manifest_freights_total, pick_sequence_code, contract_number, contract_type, driver_contract_type, calculation_type, cargo_type, daily_subtotal, total_cost, freight_subtotal, fuel_subtotal, toll_subtotal, driver_services_total, operational_expenses_total, inss_value, sest_senat_value, ir_value, paying_total, manual_km, generate_mdfe, monitoring_request, uniq_destinations_count, creation_user_name, adjustment_user_name, metadata, data_extracao, excluido_na_origem, data_exclusao_origem)
+            USING (VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(0 AS bit), CAST(NULL AS datetime2(0))))
+                AS source (sequence_code, identificador_unico, status, created_at, departured_at, closed_at, finished_at, mdfe_number, mdfe_key, mdfe_status, distribution_pole, classification, vehicle_plate, vehicle_type, vehicle_owner, driver_name, branch_nickname, vehicle_departure_km, closing_km, traveled_km, invoices_count, invoices_volumes, invoices_weight, total_taxed_weight, total_cubic_volume, invoices_value, manifest_freights_total, pick_sequence_code, contract_number, contract_type, driver_contract_type, calculation_type, cargo_type, daily_subtotal, total_cost, freight_subtotal, fuel_subtotal, toll_subtotal, driver_services_total, operational_expenses_total, inss_value, sest_senat_value, ir_value, paying_total, manual_km, generate_mdfe, monitoring_request, uniq_destinations_count, creation_user_name, adjustment_user_name, metadata, metadata_gz, data_extracao, excluido_na_origem, data_exclusao_origem)
             ON %s
             WHEN MATCHED AND (%s OR target.excluido_na_origem = 1) THEN
                 UPDATE SET
@@ -362,13 +376,14 @@ public class ManifestoRepository extends AbstractRepository<ManifestoEntity> {
                     creation_user_name = source.creation_user_name,
                     adjustment_user_name = source.adjustment_user_name,
                     metadata = source.metadata,
+                    metadata_gz = source.metadata_gz,
                     identificador_unico = source.identificador_unico,
                     data_extracao = source.data_extracao,
                     excluido_na_origem = source.excluido_na_origem,
                     data_exclusao_origem = source.data_exclusao_origem
             WHEN NOT MATCHED THEN
-                INSERT (sequence_code, identificador_unico, status, created_at, departured_at, closed_at, finished_at, mdfe_number, mdfe_key, mdfe_status, distribution_pole, classification, vehicle_plate, vehicle_type, vehicle_owner, driver_name, branch_nickname, vehicle_departure_km, closing_km, traveled_km, invoices_count, invoices_volumes, invoices_weight, total_taxed_weight, total_cubic_volume, invoices_value, manifest_freights_total, pick_sequence_code, contract_number, contract_type, driver_contract_type, calculation_type, cargo_type, daily_subtotal, total_cost, freight_subtotal, fuel_subtotal, toll_subtotal, driver_services_total, operational_expenses_total, inss_value, sest_senat_value, ir_value, paying_total, manual_km, generate_mdfe, monitoring_request, uniq_destinations_count, creation_user_name, adjustment_user_name, metadata, data_extracao, excluido_na_origem, data_exclusao_origem)
-                VALUES (source.sequence_code, source.identificador_unico, source.status, source.created_at, source.departured_at, source.closed_at, source.finished_at, source.mdfe_number, source.mdfe_key, source.mdfe_status, source.distribution_pole, source.classification, source.vehicle_plate, source.vehicle_type, source.vehicle_owner, source.driver_name, source.branch_nickname, source.vehicle_departure_km, source.closing_km, source.traveled_km, source.invoices_count, source.invoices_volumes, source.invoices_weight, source.total_taxed_weight, source.total_cubic_volume, source.invoices_value, source.manifest_freights_total, source.pick_sequence_code, source.contract_number, source.contract_type, source.driver_contract_type, source.calculation_type, source.cargo_type, source.daily_subtotal, source.total_cost, source.freight_subtotal, source.fuel_subtotal, source.toll_subtotal, source.driver_services_total, source.operational_expenses_total, source.inss_value, source.sest_senat_value, source.ir_value, source.paying_total, source.manual_km, source.generate_mdfe, source.monitoring_request, source.uniq_destinations_count, source.creation_user_name, source.adjustment_user_name, source.metadata, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem);
+                INSERT (sequence_code, identificador_unico, status, created_at, departured_at, closed_at, finished_at, mdfe_number, mdfe_key, mdfe_status, distribution_pole, classification, vehicle_plate, vehicle_type, vehicle_owner, driver_name, branch_nickname, vehicle_departure_km, closing_km, traveled_km, invoices_count, invoices_volumes, invoices_weight, total_taxed_weight, total_cubic_volume, invoices_value, manifest_freights_total, pick_sequence_code, contract_number, contract_type, driver_contract_type, calculation_type, cargo_type, daily_subtotal, total_cost, freight_subtotal, fuel_subtotal, toll_subtotal, driver_services_total, operational_expenses_total, inss_value, sest_senat_value, ir_value, paying_total, manual_km, generate_mdfe, monitoring_request, uniq_destinations_count, creation_user_name, adjustment_user_name, metadata, metadata_gz, data_extracao, excluido_na_origem, data_exclusao_origem)
+                VALUES (source.sequence_code, source.identificador_unico, source.status, source.created_at, source.departured_at, source.closed_at, source.finished_at, source.mdfe_number, source.mdfe_key, source.mdfe_status, source.distribution_pole, source.classification, source.vehicle_plate, source.vehicle_type, source.vehicle_owner, source.driver_name, source.branch_nickname, source.vehicle_departure_km, source.closing_km, source.traveled_km, source.invoices_count, source.invoices_volumes, source.invoices_weight, source.total_taxed_weight, source.total_cubic_volume, source.invoices_value, source.manifest_freights_total, source.pick_sequence_code, source.contract_number, source.contract_type, source.driver_contract_type, source.calculation_type, source.cargo_type, source.daily_subtotal, source.total_cost, source.freight_subtotal, source.fuel_subtotal, source.toll_subtotal, source.driver_services_total, source.operational_expenses_total, source.inss_value, source.sest_senat_value, source.ir_value, source.paying_total, source.manual_km, source.generate_mdfe, source.monitoring_request, source.uniq_destinations_count, source.creation_user_name, source.adjustment_user_name, source.metadata, source.metadata_gz, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem);
             """, tabelaAlvo, CONDICAO_CHAVE_MERGE, freshnessGuard);
 
         try (PreparedStatement statement = conexao.prepareStatement(sql)) {
@@ -443,11 +458,11 @@ public class ManifestoRepository extends AbstractRepository<ManifestoEntity> {
             statement.setObject(paramIndex++, manifesto.getUniqDestinationsCount(), Types.INTEGER);
             statement.setString(paramIndex++, truncate(manifesto.getCreationUserName(), 255, "creation_user_name"));
             statement.setString(paramIndex++, truncate(manifesto.getAdjustmentUserName(), 255, "adjustment_user_name"));
-            statement.setString(paramIndex++, manifesto.getMetadata()); // JSON - sem limite, mas pode ser grande
+            paramIndex = setPayloadParameters(statement, paramIndex, manifesto.getMetadata()); // JSON - sem limite, mas pode ser grande
             setInstantParameter(statement, paramIndex++, Instant.now()); // UTC timestamp
             
             // ✅ VALIDAR número de parâmetros
-            final int expectedParams = 52;
+            final int expectedParams = 53;
             if (paramIndex != expectedParams + 1) { // +1 porque paramIndex é 1-based
                 throw new SQLException(String.format(
                     "ERRO DE PROGRAMAÇÃO: SQL espera %d parâmetros, mas apenas %d foram setados!",
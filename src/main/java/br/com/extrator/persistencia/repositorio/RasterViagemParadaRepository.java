@@ -3,6 +3,8 @@ package br.com.extrator.persistencia.repositorio;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
 
 import br.com.extrator.persistencia.entidade.RasterViagemParadaEntity;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
@@ -15,6 +17,16 @@ public class RasterViagemParadaRepository extends AbstractRepository<RasterViage
         return NOME_TABELA;
     }
 
+    @Override
+    protected List<String> getColunasChaveHashLinha() {
+        return List.of("cod_solicitacao", "ordem");
+    }
+
+    @Override
+    protected List<Object> obterChaveHashLinha(final RasterViagemParadaEntity parada) {
+        return Arrays.asList(parada.getCodSolicitacao(), parada.getOrdem());
+    }
+
     @Override
     protected int executarMerge(final Connection conexao, final RasterViagemParadaEntity parada) throws SQLException {
         if (parada.getCodSolicitacao() == null || parada.getOrdem() == null) {
@@ -23,14 +35,14 @@ public class RasterViagemParadaRepository extends AbstractRepository<RasterViage
 
         final String sql = """
             MERGE dbo.raster_viagem_paradas WITH (HOLDLOCK) AS target
-            USING (VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(0 AS bit), CAST(NULL AS datetime2(0))))
+            USING (VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(0 AS bit), CAST(NULL AS datetime2(0))))
                 AS source (
                     cod_solicitacao, ordem, tipo, cod_ibge_cidade, cnpj_cliente, codigo_cliente,
                     data_hora_prev_chegada, data_hora_prev_saida, data_hora_real_chegada,
                     data_hora_real_saida, latitude, longitude, dentro_prazo_raster,
                     diferenca_tempo_raster, km_percorrido_entrega, km_restante_entrega,
                     chegou_na_entrega, data_hora_ultima_posicao, latitude_ultima_posicao,
-                    longitude_ultima_posicao, referencia_ultima_posicao, metadata, data_extracao, excluido_na_origem, data_exclusao_origem
+                    longitude_ultima_posicao, referencia_ultima_posicao, metadata, metadata_gz, hash_linha, data_extracao, excluido_na_origem, data_exclusao_origem
                 )
             ON target.cod_solicitacao = source.cod_solicitacao
                AND target.ordem = source.ordem
@@ -56,6 +68,8 @@ public class RasterViagemParadaRepository extends AbstractRepository<RasterViage
                     longitude_ultima_posicao = source.longitude_ultima_posicao,
                     referencia_ultima_posicao = source.referencia_ultima_posicao,
                     metadata = source.metadata,
+                    metadata_gz = source.metadata_gz,
+                    hash_linha = source.hash_linha,
                     data_extracao = source.data_extracao,
                     excluido_na_origem = source.excluido_na_origem,
                     data_exclusao_origem = source.data_exclusao_origem
@@ -66,7 +80,7 @@ public class RasterViagemParadaRepository extends AbstractRepository<RasterViage
                     data_hora_real_saida, latitude, longitude, dentro_prazo_raster,
                     diferenca_tempo_raster, km_percorrido_entrega, km_restante_entrega,
                     chegou_na_entrega, data_hora_ultima_posicao, latitude_ultima_posicao,
-                    longitude_ultima_posicao, referencia_ultima_posicao, metadata, data_extracao, excluido_na_origem, data_exclusao_origem
+                    longitude_ultima_posicao, referencia_ultima_posicao, metadata, metadata_gz, hash_linha, data_extracao, excluido_na_origem, data_exclusao_origem
                 )
                 VALUES (
                     source.cod_solicitacao, source.ordem, source.tipo, source.cod_ibge_cidade, source.cnpj_cliente,
@@ -75,7 +89,7 @@ public class RasterViagemParadaRepository extends AbstractRepository<RasterViage
                     source.dentro_prazo_raster, source.diferenca_tempo_raster, source.km_percorrido_entrega,
                     source.km_restante_entrega, source.chegou_na_entrega, source.data_hora_ultima_posicao,
                     source.latitude_ultima_posicao, source.longitude_ultima_posicao, source.referencia_ultima_posicao,
-                    source.metadata, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem
+                    source.metadata, source.metadata_gz, source.hash_linha, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem
                 );
             """;
 
@@ -102,9 +116,10 @@ public class RasterViagemParadaRepository extends AbstractRepository<RasterViage
             setBigDecimalParameter(statement, index++, parada.getLatitudeUltimaPosicao());
             setBigDecimalParameter(statement, index++, parada.getLongitudeUltimaPosicao());
             setStringParameter(statement, index++, parada.getReferenciaUltimaPosicao());
-            setStringParameter(statement, index++, parada.getMetadata());
+            index = setPayloadParameters(statement, index, parada.getMetadata());
+            setHashLinhaParameter(statement, index++, parada);
             setInstantParameter(statement, index++, parada.getDataExtracao());
-            if (index != 24) {
+            if (index != 26) {
                 throw new SQLException("Numero incorreto de parametros Raster paradas: " + (index - 1));
             }
             return statement.executeUpdate();
@@ -3,6 +3,8 @@ package br.com.extrator.persistencia.repositorio;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
 
 import br.com.extrator.persistencia.entidade.RasterViagemEntity;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
@@ -15,6 +17,16 @@ public class RasterViagemRepository extends AbstractRepository<RasterViagemEntit
         return NOME_TABELA;
     }
 
+    @Override
+    protected List<String> getColunasChaveHashLinha() {
+        return List.of("cod_solicitacao");
+    }
+
+    @Override
+    protected List<Object> obterChaveHashLinha(final RasterViagemEntity viagem) {
+        return Arrays.asList(viagem.getCodSolicitacao());
+    }
+
     @Override
     protected int executarMerge(final Connection conexao, final RasterViagemEntity viagem) throws SQLException {
         if (viagem.getCodSolicitacao() == null) {
@@ -23,7 +35,7 @@ public class RasterViagemRepository extends AbstractRepository<RasterViagemEntit
 
         final String sql = """
             MERGE dbo.raster_viagens WITH (HOLDLOCK) AS target
-            USING (VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(0 AS bit), CAST(NULL AS datetime2(0))))
+            USING (VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(0 AS bit), CAST(NULL AS datetime2(0))))
                 AS source (
                     cod_solicitacao, sequencial, cod_filial, status_viagem, placa_veiculo,
                     placa_carreta1, placa_carreta2, placa_carreta3, cpf_motorista1, cpf_motorista2,
@@ -31,7 +43,7 @@ public class RasterViagemRepository extends AbstractRepository<RasterViagemEntit
                     data_hora_prev_ini, data_hora_prev_fim, data_hora_real_ini, data_hora_real_fim,
                     data_hora_identificou_fim_viagem, tempo_total_viagem_min, dentro_prazo_raster,
                     percentual_atraso_raster, rodou_fora_horario, velocidade_media, eventos_velocidade,
-                    desvios_de_rota, cod_rota, rota_descricao, link_timeline, metadata, data_extracao, excluido_na_origem, data_exclusao_origem
+                    desvios_de_rota, cod_rota, rota_descricao, link_timeline, metadata, metadata_gz, hash_linha, data_extracao, excluido_na_origem, data_exclusao_origem
                 )
             ON target.cod_solicitacao = source.cod_solicitacao
             WHEN MATCHED THEN
@@ -65,6 +77,8 @@ public class RasterViagemRepository extends AbstractRepository<RasterViagemEntit
                     rota_descricao = source.rota_descricao,
                     link_timeline = source.link_timeline,
                     metadata = source.metadata,
+                    metadata_gz = source.metadata_gz,
+                    hash_linha = source.hash_linha,
                     data_extracao = source.data_extracao,
                     excluido_na_origem = source.excluido_na_origem,
                     data_exclusao_origem = source.data_exclusao_origem
@@ -76,7 +90,7 @@ public class RasterViagemRepository extends AbstractRepository<RasterViagemEntit
                     data_hora_prev_ini, data_hora_prev_fim, data_hora_real_ini, data_hora_real_fim,
                     data_hora_identificou_fim_viagem, tempo_total_viagem_min, dentro_prazo_raster,
                     percentual_atraso_raster, rodou_fora_horario, velocidade_media, eventos_velocidade,
-                    desvios_de_rota, cod_rota, rota_descricao, link_timeline, metadata, data_extracao, excluido_na_origem, data_exclusao_origem
+                    desvios_de_rota, cod_rota, rota_descricao, link_timeline, metadata, metadata_gz, hash_linha, data_extracao, excluido_na_origem, data_exclusao_origem
                 )
                 VALUES (
                     source.cod_solicitacao, source.sequencial, source.cod_filial, source.status_viagem, source.placa_veiculo,
@@ -85,7 +99,7 @@ public class RasterViagemRepository extends AbstractRepository<RasterViagemEntit
                     source.data_hora_prev_ini, source.data_hora_prev_fim, source.data_hora_real_ini, source.data_hora_real_fim,
                     source.data_hora_identificou_fim_viagem, source.tempo_total_viagem_min, source.dentro_prazo_raster,
                     source.percentual_atraso_raster, source.rodou_fora_horario, source.velocidade_media, source.eventos_velocidade,
-                    source.desvios_de_rota, source.cod_rota, source.rota_descricao, source.link_timeline, source.metadata, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem
+                    source.desvios_de_rota, source.cod_rota, source.rota_descricao, source.link_timeline, source.metadata, source.metadata_gz, source.hash_linha, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem
                 );
             """;
 
@@ -120,9 +134,10 @@ public class RasterViagemRepository extends AbstractRepository<RasterViagemEntit
             setLongParameter(statement, index++, viagem.getCodRota());
             setStringParameter(statement, index++, viagem.getRotaDescricao());
             setStringParameter(statement, index++, viagem.getLinkTimeline());
-            setStringParameter(statement, index++, viagem.getMetadata());
+            index = setPayloadParameters(statement, index, viagem.getMetadata());
+            setHashLinhaParameter(statement, index++, viagem);
             setInstantParameter(statement, index++, viagem.getDataExtracao());
-            if (index != 32) {
+            if (index != 34) {
                 throw new SQLException("Numero incorreto de parametros Raster viagens: " + (index - 1));
             }
             return statement.executeUpdate();
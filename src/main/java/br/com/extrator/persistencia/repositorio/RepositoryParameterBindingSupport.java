@@ -24,6 +24,10 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import br.com.extrator.persistencia.entidade.LinhaCompacta;
+import br.com.extrator.suporte.configuracao.ConfigEtl;
+import br.com.extrator.suporte.json.PayloadCompactado;
+
 /**
  * Centraliza helpers de bind de parametros SQL compartilhados pelos repositorios.
  */
@@ -151,6 +155,46 @@ abstract class RepositoryParameterBindingSupport {
         }
     }
 
+    /**
+     * Vincula uma coluna de {@link LinhaCompacta} com o tipo SQL correspondente ao tipo declarado no layout.
+     */
+    protected void setColunaParameter(
+        final PreparedStatement statement,
+        final int index,
+        final LinhaCompacta linha,
+        final int coluna
+    ) throws SQLException {
+        switch (linha.layout().tipo(coluna)) {
+            case LONG -> setLongParameter(statement, index, linha.getLong(coluna));
+            case INTEIRO -> setIntegerParameter(statement, index, linha.getInteiro(coluna));
+            case BOOLEANO -> setBooleanParameter(statement, index, linha.getBooleano(coluna));
+            case DECIMAL -> setBigDecimalParameter(statement, index, linha.getDecimal(coluna));
+            case DATA -> setParameter(statement, index, linha.getData(coluna), Types.DATE);
+            case DATA_HORA -> setParameter(statement, index, linha.getDataHora(coluna), Types.TIMESTAMP_WITH_TIMEZONE);
+            case TEXTO -> setStringParameter(statement, index, linha.getTexto(coluna));
+        }
+    }
+
+    /**
+     * Vincula o par (coluna texto, coluna _gz) de um payload e devolve o proximo indice livre.
+     * Com etl.payload.compressao.enabled o texto vai NULL e o gzip para a coluna _gz; sem ela, o inverso.
+     * Payload em branco fica sempre no texto, para os filtros NULLIF(LTRIM(...)) das views continuarem valendo.
+     */
+    protected int setPayloadParameters(
+        final PreparedStatement statement,
+        final int index,
+        final String payload
+    ) throws SQLException {
+        if (payload != null && !payload.isBlank() && ConfigEtl.isCompressaoPayloadAtiva()) {
+            statement.setNull(index, Types.NVARCHAR);
+            statement.setBytes(index + 1, PayloadCompactado.compactar(payload));
+        } else {
+            setStringParameter(statement, index, payload);
+            statement.setNull(index + 1, Types.VARBINARY);
+        }
+        return index + 2;
+    }
+
     protected void setDateParameter(
         final PreparedStatement statement,
         final int index,
@@ -5,6 +5,8 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 
 import br.com.extrator.persistencia.entidade.SinistroEntity;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
@@ -18,6 +20,16 @@ public class SinistroRepository extends AbstractRepository<SinistroEntity> {
         return NOME_TABELA;
     }
 
+    @Override
+    protected List<String> getColunasChaveHashLinha() {
+        return List.of("identificador_unico");
+    }
+
+    @Override
+    protected List<Object> obterChaveHashLinha(final SinistroEntity sinistro) {
+        return Arrays.asList(sinistro.getIdentificadorUnico());
+    }
+
     @Override
     protected boolean aceitarMergeSemAlteracoesComoSucesso(final SinistroEntity sinistro) {
         return true;
@@ -60,7 +72,7 @@ public class SinistroRepository extends AbstractRepository<SinistroEntity> {
         );
         final String sql = String.format("""
             MERGE %s AS target
-            USING (VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(0 AS bit), CAST(NULL AS datetime2(0))))
+            USING (VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(0 AS bit), CAST(NULL AS datetime2(0))))
                 AS source (
                     identificador_unico, sequence_code, opening_at_date, occurrence_at_date, occurrence_at_time,
                     expected_solution_date, insurance_claim_location, informed_by, finished_at_date, finished_at_time,
@@ -69,7 +81,7 @@ public class SinistroRepository extends AbstractRepository<SinistroEntity> {
                     customer_credit_entries_subtotal, responsible_credits_subtotal,
                     responsible_debit_entries_subtotal, insurer_credits_subtotal, insurance_claim_total,
                     branch_nickname, event_name, user_name, vehicle_plate, occurrence_description, occurrence_code,
-                    treatment_at, dealing_type, solution_type, metadata, data_extracao, excluido_na_origem, data_exclusao_origem
+                    treatment_at, dealing_type, solution_type, metadata, metadata_gz, hash_linha, data_extracao, excluido_na_origem, data_exclusao_origem
                 )
             ON target.identificador_unico = source.identificador_unico
             WHEN MATCHED AND (%s OR target.excluido_na_origem = 1) THEN
@@ -106,6 +118,8 @@ public class SinistroRepository extends AbstractRepository<SinistroEntity> {
                     dealing_type = source.dealing_type,
                     solution_type = source.solution_type,
                     metadata = source.metadata,
+                    metadata_gz = source.metadata_gz,
+                    hash_linha = source.hash_linha,
                     data_extracao = source.data_extracao,
                     excluido_na_origem = source.excluido_na_origem,
                     data_exclusao_origem = source.data_exclusao_origem
@@ -118,7 +132,7 @@ public class SinistroRepository extends AbstractRepository<SinistroEntity> {
                     customer_credit_entries_subtotal, responsible_credits_subtotal,
                     responsible_debit_entries_subtotal, insurer_credits_subtotal, insurance_claim_total,
                     branch_nickname, event_name, user_name, vehicle_plate, occurrence_description, occurrence_code,
-                    treatment_at, dealing_type, solution_type, metadata, data_extracao, excluido_na_origem, data_exclusao_origem
+                    treatment_at, dealing_type, solution_type, metadata, metadata_gz, hash_linha, data_extracao, excluido_na_origem, data_exclusao_origem
                 )
                 VALUES (
                     source.identificador_unico, source.sequence_code, source.opening_at_date, source.occurrence_at_date, source.occurrence_at_time,
@@ -128,7 +142,7 @@ public class SinistroRepository extends AbstractRepository<SinistroEntity> {
                     source.customer_credit_entries_subtotal, source.responsible_credits_subtotal,
                     source.responsible_debit_entries_subtotal, source.insurer_credits_subtotal, source.insurance_claim_total,
                     source.branch_nickname, source.event_name, source.user_name, source.vehicle_plate, source.occurrence_description, source.occurrence_code,
-                    source.treatment_at, source.dealing_type, source.solution_type, source.metadata, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem
+                    source.treatment_at, source.dealing_type, source.solution_type, source.metadata, source.metadata_gz, source.hash_linha, source.data_extracao, source.excluido_na_origem, source.data_exclusao_origem
                 );
             """, NOME_TABELA, freshnessGuard);
 
@@ -166,7 +180,8 @@ public class SinistroRepository extends AbstractRepository<SinistroEntity> {
             statement.setObject(paramIndex++, sinistro.getTreatmentAt(), Types.TIMESTAMP_WITH_TIMEZONE);
             setStringParameter(statement, paramIndex++, sinistro.getDealingType());
             setStringParameter(statement, paramIndex++, sinistro.getSolutionType());
-            setStringParameter(statement, paramIndex++, sinistro.getMetadata());
+            paramIndex = setPayloadParameters(statement, paramIndex, sinistro.getMetadata());
+            setHashLinhaParameter(statement, paramIndex++, sinistro);
             setInstantParameter(statement, paramIndex++, Instant.now());
             return statement.executeUpdate();
         }
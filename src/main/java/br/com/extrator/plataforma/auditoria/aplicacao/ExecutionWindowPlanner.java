@@ -1,25 +1,36 @@
 package br.com.extrator.plataforma.auditoria.aplicacao;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import br.com.extrator.aplicacao.extracao.ExtracaoPorIntervaloRequest.ModoExecucao;
 import br.com.extrator.aplicacao.portas.ExecutionAuditPort;
 import br.com.extrator.features.usuarios.aplicacao.UsuariosExecutionWindowStrategy;
 import br.com.extrator.plataforma.auditoria.dominio.ExecutionWindowPlan;
 import br.com.extrator.suporte.configuracao.ConfigEtl;
+import br.com.extrator.suporte.tempo.RelogioSistema;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
 
 public final class ExecutionWindowPlanner {
     private final ExecutionAuditPort executionAuditPort;
+    private final Supplier<LocalDateTime> relogio;
     private final Map<String, FeatureExecutionWindowStrategy> strategies;
 
     public ExecutionWindowPlanner(final ExecutionAuditPort executionAuditPort) {
+        this(executionAuditPort, RelogioSistema::agora);
+    }
+
+    ExecutionWindowPlanner(final ExecutionAuditPort executionAuditPort, final Supplier<LocalDateTime> relogio) {
         this.executionAuditPort = executionAuditPort;
+        this.relogio = relogio;
         this.strategies = registrarStrategies();
     }
 
@@ -57,16 +68,78 @@ public final class ExecutionWindowPlanner {
     private Map<String, FeatureExecutionWindowStrategy> registrarStrategies() {
         final Map<String, FeatureExecutionWindowStrategy> registradas = new LinkedHashMap<>();
         final int intradiaLookbackOffsetDias = ConfigEtl.obterIntradiaLookbackOffsetDias();
-        registrarLookbackIntradia(registradas, ConstantesEntidades.COLETAS, intradiaLookbackOffsetDias);
-        registrarLookbackIntradia(registradas, ConstantesEntidades.MANIFESTOS, intradiaLookbackOffsetDias);
-        registrarLookbackIntradia(registradas, ConstantesEntidades.FRETES, intradiaLookbackOffsetDias);
-        registrarLookbackIntradia(registradas, ConstantesEntidades.COTACOES, intradiaLookbackOffsetDias);
-        registrarLookbackIntradia(registradas, ConstantesEntidades.LOCALIZACAO_CARGAS, intradiaLookbackOffsetDias);
-        registrarLookbackIntradia(registradas, ConstantesEntidades.FATURAS_POR_CLIENTE, intradiaLookbackOffsetDias);
-        registrarLookbackIntradia(registradas, ConstantesEntidades.CONTAS_A_PAGAR, intradiaLookbackOffsetDias);
-        registrarLookbackIntradia(registradas, ConstantesEntidades.INVENTARIO, intradiaLookbackOffsetDias);
-        registrarLookbackIntradia(registradas, ConstantesEntidades.SINISTROS, intradiaLookbackOffsetDias);
-        registrarLookbackIntradia(registradas, ConstantesEntidades.RASTER_VIAGENS, intradiaLookbackOffsetDias);
+        final Set<String> entidadesWatermarkPreciso = ConfigEtl.obterEntidadesJanelaWatermarkPrecisa();
+        final Duration sobreposicao = Duration.ofMinutes(ConfigEtl.obterJanelaWatermarkPrecisaSobreposicaoMinutos());
+        registrarLookbackIntradia(
+            registradas,
+            ConstantesEntidades.COLETAS,
+            intradiaLookbackOffsetDias,
+            entidadesWatermarkPreciso,
+            sobreposicao
+        );
+        registrarLookbackIntradia(
+            registradas,
+            ConstantesEntidades.MANIFESTOS,
+            intradiaLookbackOffsetDias,
+            entidadesWatermarkPreciso,
+            sobreposicao
+        );
+        registrarLookbackIntradia(
+            registradas,
+            ConstantesEntidades.FRETES,
+            intradiaLookbackOffsetDias,
+            entidadesWatermarkPreciso,
+            sobreposicao
+        );
+        registrarLookbackIntradia(
+            registradas,
+            ConstantesEntidades.COTACOES,
+            intradiaLookbackOffsetDias,
+            entidadesWatermarkPreciso,
+            sobreposicao
+        );
+        registrarLookbackIntradia(
+            registradas,
+            ConstantesEntidades.LOCALIZACAO_CARGAS,
+            intradiaLookbackOffsetDias,
+            entidadesWatermarkPreciso,
+            sobreposicao
+        );
+        registrarLookbackIntradia(
+            registradas,
+            ConstantesEntidades.FATURAS_POR_CLIENTE,
+            intradiaLookbackOffsetDias,
+            entidadesWatermarkPreciso,
+            sobreposicao
+        );
+        registrarLookbackIntradia(
+            registradas,
+            ConstantesEntidades.CONTAS_A_PAGAR,
+            intradiaLookbackOffsetDias,
+            entidadesWatermarkPreciso,
+            sobreposicao
+        );
+        registrarLookbackIntradia(
+            registradas,
+            ConstantesEntidades.INVENTARIO,
+            intradiaLookbackOffsetDias,
+            entidadesWatermarkPreciso,
+            sobreposicao
+        );
+        registrarLookbackIntradia(
+            registradas,
+            ConstantesEntidades.SINISTROS,
+            intradiaLookbackOffsetDias,
+            entidadesWatermarkPreciso,
+            sobreposicao
+        );
+        registrarLookbackIntradia(
+            registradas,
+            ConstantesEntidades.RASTER_VIAGENS,
+            intradiaLookbackOffsetDias,
+            entidadesWatermarkPreciso,
+            sobreposicao
+        );
 
         registradas.put(ConstantesEntidades.USUARIOS_SISTEMA, new UsuariosExecutionWindowStrategy());
         return Map.copyOf(registradas);
@@ -74,8 +147,17 @@ public final class ExecutionWindowPlanner {
 
     private void registrarLookbackIntradia(final Map<String, FeatureExecutionWindowStrategy> registradas,
                                            final String entidade,
-                                           final int lookbackOffsetDias) {
-        registradas.put(entidade, new IntradiaLookbackExecutionWindowStrategy(entidade, lookbackOffsetDias));
+                                           final int lookbackOffsetDias,
+                                           final Set<String> entidadesWatermarkPreciso,
+                                           final Duration sobreposicao) {
+        final IntradiaLookbackExecutionWindowStrategy lookback =
+            new IntradiaLookbackExecutionWindowStrategy(entidade, lookbackOffsetDias);
+        registradas.put(
+            entidade,
+            entidadesWatermarkPreciso.contains(entidade)
+                ? new WatermarkPrecisoExecutionWindowStrategy(lookback, sobreposicao, relogio)
+                : lookback
+        );
     }
 
     private List<String> entidadesPadrao() {
@@ -137,4 +219,63 @@ public final class ExecutionWindowPlanner {
             return confirmacaoInicio.isAfter(confirmacaoFim) ? confirmacaoFim : confirmacaoInicio;
         }
     }
+
+    /**
+     * Micro-batch consultando a partir do watermark confirmado menos a sobreposicao. Sem watermark do
+     * proprio dia (primeiro ciclo do dia) mantem a janela de lookback completa. A confirmacao termina no
+     * instante do planejamento, para o proximo watermark ser preciso.
+     */
+    private static final class WatermarkPrecisoExecutionWindowStrategy implements FeatureExecutionWindowStrategy {
+        private final IntradiaLookbackExecutionWindowStrategy lookback;
+        private final Duration sobreposicao;
+        private final Supplier<LocalDateTime> relogio;
+
+        private WatermarkPrecisoExecutionWindowStrategy(final IntradiaLookbackExecutionWindowStrategy lookback,
+                                                        final Duration sobreposicao,
+                                                        final Supplier<LocalDateTime> relogio) {
+            this.lookback = lookback;
+            this.sobreposicao = sobreposicao;
+            this.relogio = relogio;
+        }
+
+        @Override
+        public String entidade() {
+            return lookback.entidade();
+        }
+
+        @Override
+        public ExecutionWindowPlan planejar(final LocalDate dataReferenciaFim,
+                                            final Optional<LocalDateTime> watermarkConfirmado) {
+            return lookback.planejar(dataReferenciaFim, watermarkConfirmado);
+        }
+
+        @Override
+        public ExecutionWindowPlan planejar(final LocalDate dataReferenciaFim,
+                                            final Optional<LocalDateTime> watermarkConfirmado,
+                                            final ModoExecucao modoExecucao) {
+            final LocalDateTime agora = relogio.get();
+            if (modoExecucao != ModoExecucao.MICRO_BATCH || !agora.toLocalDate().equals(dataReferenciaFim)) {
+                return lookback.planejar(dataReferenciaFim, watermarkConfirmado);
+            }
+            final Optional<LocalDateTime> watermarkDoDia = watermarkConfirmado
+                .filter(watermark -> watermark.toLocalDate().equals(dataReferenciaFim) && !watermark.isAfter(agora));
+            if (watermarkDoDia.isEmpty()) {
+                final ExecutionWindowPlan completo = lookback.planejar(dataReferenciaFim, watermarkConfirmado);
+                return new ExecutionWindowPlan(
+                    completo.consultaDataInicio(),
+                    completo.consultaDataFim(),
+                    completo.confirmacaoInicio().isAfter(agora) ? agora : completo.confirmacaoInicio(),
+                    agora
+                );
+            }
+            final LocalDateTime consultaInicio = watermarkDoDia.get().minus(sobreposicao);
+            return new ExecutionWindowPlan(
+                consultaInicio.toLocalDate(),
+                dataReferenciaFim,
+                watermarkDoDia.get(),
+                agora,
+                consultaInicio
+            );
+        }
+    }
 }
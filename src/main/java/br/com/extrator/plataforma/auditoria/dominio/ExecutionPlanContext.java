@@ -63,6 +63,9 @@ public final class ExecutionPlanContext {
             propriedades.put(prefix + "consulta_data_fim", plano.consultaDataFim().toString());
             propriedades.put(prefix + "confirmacao_inicio", plano.confirmacaoInicio().toString());
             propriedades.put(prefix + "confirmacao_fim", plano.confirmacaoFim().toString());
+            if (plano.possuiConsultaPrecisa()) {
+                propriedades.put(prefix + "consulta_inicio_preciso", plano.consultaInicioPreciso().toString());
+            }
         }
         return Map.copyOf(propriedades);
     }
@@ -78,6 +81,7 @@ public final class ExecutionPlanContext {
         final String consultaFim = System.getProperty(prefix + "consulta_data_fim");
         final String confirmacaoInicio = System.getProperty(prefix + "confirmacao_inicio");
         final String confirmacaoFim = System.getProperty(prefix + "confirmacao_fim");
+        final String consultaInicioPreciso = System.getProperty(prefix + "consulta_inicio_preciso");
 
         if (consultaInicio == null || consultaFim == null || confirmacaoInicio == null || confirmacaoFim == null) {
             return Optional.empty();
@@ -88,7 +92,8 @@ public final class ExecutionPlanContext {
                 LocalDate.parse(consultaInicio),
                 LocalDate.parse(consultaFim),
                 LocalDateTime.parse(confirmacaoInicio),
-                LocalDateTime.parse(confirmacaoFim)
+                LocalDateTime.parse(confirmacaoFim),
+                consultaInicioPreciso == null ? null : LocalDateTime.parse(consultaInicioPreciso)
             ));
         } catch (final DateTimeParseException ignored) {
             return Optional.empty();
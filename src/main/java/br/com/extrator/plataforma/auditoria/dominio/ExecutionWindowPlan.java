@@ -6,15 +6,29 @@ import java.time.LocalTime;
 
 /**
  * Janela de consulta e confirmacao da execucao.
+ * {@code consultaInicioPreciso}, quando presente, restringe a consulta a partir de um instante
+ * (watermark menos sobreposicao) em APIs que aceitam filtro por data/hora.
  */
 public record ExecutionWindowPlan(
     LocalDate consultaDataInicio,
     LocalDate consultaDataFim,
     LocalDateTime confirmacaoInicio,
-    LocalDateTime confirmacaoFim
+    LocalDateTime confirmacaoFim,
+    LocalDateTime consultaInicioPreciso
 ) {
+    public ExecutionWindowPlan(final LocalDate consultaDataInicio,
+                               final LocalDate consultaDataFim,
+                               final LocalDateTime confirmacaoInicio,
+                               final LocalDateTime confirmacaoFim) {
+        this(consultaDataInicio, consultaDataFim, confirmacaoInicio, confirmacaoFim, null);
+    }
+
+    public boolean possuiConsultaPrecisa() {
+        return consultaInicioPreciso != null;
+    }
+
     public LocalDateTime consultaInicioDateTime() {
-        return consultaDataInicio.atStartOfDay();
+        return possuiConsultaPrecisa() ? consultaInicioPreciso : consultaDataInicio.atStartOfDay();
     }
 
     public LocalDateTime consultaFimDateTime() {
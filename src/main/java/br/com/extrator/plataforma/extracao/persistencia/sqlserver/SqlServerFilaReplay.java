@@ -0,0 +1,245 @@
+package br.com.extrator.plataforma.extracao.persistencia.sqlserver;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.extrator.aplicacao.extracao.FilaReplay;
+import br.com.extrator.suporte.banco.GerenciadorConexao;
+
+public final class SqlServerFilaReplay implements FilaReplay {
+    private static final Logger logger = LoggerFactory.getLogger(SqlServerFilaReplay.class);
+    private static final String TABLE_NAME = "dbo.sys_replay_fila";
+
+    @Override
+    public boolean isDisponivel() {
+        try (Connection connection = GerenciadorConexao.obterConexao();
+             PreparedStatement ps = connection.prepareStatement(
+                 "SELECT CASE WHEN OBJECT_ID(?, 'U') IS NULL THEN 0 ELSE 1 END"
+             )) {
+            ps.setString(1, TABLE_NAME);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        } catch (final SQLException | RuntimeException e) {
+            logger.debug("Fila de replay indisponivel: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void enfileirar(final Collection<ItemReplay> itens, final String origem) throws Exception {
+        if (itens == null || itens.isEmpty()) {
+            return;
+        }
+        final String sql = """
+            MERGE dbo.sys_replay_fila WITH (HOLDLOCK) AS target
+            USING (VALUES (?, ?, ?, ?, ?)) AS source (api, entidade, data_referencia, prioridade, origem)
+            ON target.api = source.api
+               AND target.entidade = source.entidade
+               AND target.data_referencia = source.data_referencia
+            WHEN MATCHED AND source.prioridade > target.prioridade THEN
+                UPDATE SET prioridade = source.prioridade, atualizado_em = SYSDATETIME()
+            WHEN NOT MATCHED THEN
+                INSERT (api, entidade, data_referencia, prioridade, origem)
+                VALUES (source.api, source.entidade, source.data_referencia, source.prioridade, source.origem);
+            """;
+        try (Connection connection = GerenciadorConexao.obterConexao()) {
+            final boolean autoCommitOriginal = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                for (final ItemReplay item : itens) {
+                    ps.setString(1, item.api());
+                    ps.setString(2, item.entidade());
+                    ps.setObject(3, item.data());
+                    ps.setInt(4, item.prioridade());
+                    ps.setString(5, origem);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                connection.commit();
+            } catch (final SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommitOriginal);
+            }
+        }
+    }
+
+    /**
+     * Arrenda dias do escopo (api + entidade) do item disponivel mais prioritario, do mais antigo ao mais
+     * recente. READPAST pula linhas que outro worker esta arrendando no mesmo instante.
+     */
+    @Override
+    public List<ItemReplay> arrendar(final String dono,
+                                     final int limite,
+                                     final LocalDate dataMaxima,
+                                     final LocalDateTime agora,
+                                     final Duration lease) throws Exception {
+        final String sql = """
+            WITH ancora AS (
+                SELECT TOP (1) api, entidade
+                  FROM dbo.sys_replay_fila WITH (READPAST)
+                 WHERE data_referencia <= ?
+                   AND disponivel_em <= ?
+                   AND (lease_expira_em IS NULL OR lease_expira_em < ?)
+                 ORDER BY prioridade DESC, data_referencia, api, entidade
+            ),
+            candidatos AS (
+                SELECT TOP (?) fila.*
+                  FROM dbo.sys_replay_fila fila WITH (UPDLOCK, READPAST, ROWLOCK)
+                  JOIN ancora
+                    ON ancora.api = fila.api
+                   AND ancora.entidade = fila.entidade
+                 WHERE fila.data_referencia <= ?
+                   AND fila.disponivel_em <= ?
+                   AND (fila.lease_expira_em IS NULL OR fila.lease_expira_em < ?)
+                 ORDER BY fila.data_referencia
+            )
+            UPDATE candidatos
+               SET lease_dono = ?,
+                   lease_expira_em = ?,
+                   atualizado_em = SYSDATETIME()
+            OUTPUT inserted.api, inserted.entidade, inserted.data_referencia, inserted.prioridade, inserted.tentativas;
+            """;
+        final List<ItemReplay> arrendados = new ArrayList<>();
+        try (Connection connection = GerenciadorConexao.obterConexao();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+            final Timestamp instante = Timestamp.valueOf(agora);
+            ps.setObject(1, dataMaxima);
+            ps.setTimestamp(2, instante);
+            ps.setTimestamp(3, instante);
+            ps.setInt(4, Math.max(1, limite));
+            ps.setObject(5, dataMaxima);
+            ps.setTimestamp(6, instante);
+            ps.setTimestamp(7, instante);
+            ps.setString(8, dono);
+            ps.setTimestamp(9, Timestamp.valueOf(agora.plus(lease)));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    arrendados.add(new ItemReplay(
+                        rs.getString("api"),
+                        rs.getString("entidade"),
+                        rs.getObject("data_referencia", LocalDate.class),
+                        rs.getInt("prioridade"),
+                        rs.getInt("tentativas")
+                    ));
+                }
+            }
+        }
+        // OUTPUT nao garante ordem.
+        arrendados.sort(Comparator.comparing(ItemReplay::data));
+        return arrendados;
+    }
+
+    @Override
+    public void concluir(final Collection<ItemReplay> itens, final String dono) throws Exception {
+        executarPorItem(
+            "DELETE FROM dbo.sys_replay_fila WHERE api = ? AND entidade = ? AND data_referencia = ? AND lease_dono = ?",
+            itens,
+            dono,
+            null
+        );
+    }
+
+    @Override
+    public void falhar(final Collection<ItemReplay> itens,
+                       final String dono,
+                       final LocalDateTime proximaTentativa,
+                       final String erro) throws Exception {
+        final String sql = """
+            UPDATE dbo.sys_replay_fila
+               SET tentativas = tentativas + 1,
+                   disponivel_em = ?,
+                   ultimo_erro = ?,
+                   lease_dono = NULL,
+                   lease_expira_em = NULL,
+                   atualizado_em = SYSDATETIME()
+             WHERE api = ? AND entidade = ? AND data_referencia = ? AND lease_dono = ?
+            """;
+        executarPorItem(sql, itens, dono, ps -> {
+            ps.setTimestamp(1, Timestamp.valueOf(proximaTentativa));
+            ps.setString(2, resumirErro(erro));
+        });
+    }
+
+    @Override
+    public void liberar(final Collection<ItemReplay> itens, final String dono) throws Exception {
+        final String sql = """
+            UPDATE dbo.sys_replay_fila
+               SET lease_dono = NULL,
+                   lease_expira_em = NULL,
+                   atualizado_em = SYSDATETIME()
+             WHERE api = ? AND entidade = ? AND data_referencia = ? AND lease_dono = ?
+            """;
+        executarPorItem(sql, itens, dono, null);
+    }
+
+    @Override
+    public List<LocalDate> datasPendentes() throws Exception {
+        final List<LocalDate> datas = new ArrayList<>();
+        try (Connection connection = GerenciadorConexao.obterConexao();
+             PreparedStatement ps = connection.prepareStatement(
+                 "SELECT DISTINCT data_referencia FROM dbo.sys_replay_fila ORDER BY data_referencia"
+             );
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                datas.add(rs.getObject(1, LocalDate.class));
+            }
+        }
+        return datas;
+    }
+
+    @FunctionalInterface
+    private interface ParametrosExtras {
+        void aplicar(PreparedStatement ps) throws SQLException;
+    }
+
+    /**
+     * Parametros extras ocupam as primeiras posicoes; a chave do item e o dono vem por ultimo.
+     */
+    private void executarPorItem(final String sql,
+                                 final Collection<ItemReplay> itens,
+                                 final String dono,
+                                 final ParametrosExtras extras) throws SQLException {
+        if (itens == null || itens.isEmpty()) {
+            return;
+        }
+        final int deslocamento = extras == null ? 0 : 2;
+        try (Connection connection = GerenciadorConexao.obterConexao();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (final ItemReplay item : itens) {
+                if (extras != null) {
+                    extras.aplicar(ps);
+                }
+                ps.setString(deslocamento + 1, item.api());
+                ps.setString(deslocamento + 2, item.entidade());
+                ps.setObject(deslocamento + 3, item.data());
+                ps.setString(deslocamento + 4, dono);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private static String resumirErro(final String erro) {
+        if (erro == null || erro.isBlank()) {
+            return null;
+        }
+        final String limpo = erro.replaceAll("\\s+", " ").trim();
+        return limpo.length() > 1000 ? limpo.substring(0, 1000) : limpo;
+    }
+}
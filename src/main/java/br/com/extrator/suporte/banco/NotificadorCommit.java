@@ -0,0 +1,41 @@
+package br.com.extrator.suporte.banco;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Avisa ouvintes do processo de que dados novos foram confirmados no banco.
+ * Ouvintes devem ser rapidos e nao bloqueantes: sao chamados na thread que fez o commit.
+ */
+public final class NotificadorCommit {
+    private static final Logger logger = LoggerFactory.getLogger(NotificadorCommit.class);
+    private static final List<Consumer<String>> OUVINTES = new CopyOnWriteArrayList<>();
+
+    private NotificadorCommit() {
+    }
+
+    /**
+     * Registra ouvinte; fechar o retorno remove o registro.
+     */
+    public static AutoCloseable registrar(final Consumer<String> ouvinte) {
+        OUVINTES.add(ouvinte);
+        return () -> OUVINTES.remove(ouvinte);
+    }
+
+    /**
+     * @param origem tabela ou step que confirmou os dados
+     */
+    public static void notificar(final String origem) {
+        for (final Consumer<String> ouvinte : OUVINTES) {
+            try {
+                ouvinte.accept(origem);
+            } catch (final RuntimeException e) {
+                logger.warn("Ouvinte de commit falhou para origem {}: {}", origem, e.getMessage());
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@ Atributos: [PENDENTE]
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -83,6 +84,32 @@ public final class ConfigEtl {
         );
     }
 
+    /**
+     * Entidades DataExport com filtro em data/hora consultadas a partir do watermark confirmado no micro-batch.
+     * Vazio por padrao: o filtro precisa ser horario de atualizacao, e nenhum template atual filtra por um
+     * (requested_at/service_at/started_at sao horarios do evento).
+     */
+    public static Set<String> obterEntidadesJanelaWatermarkPrecisa() {
+        return parseConjuntoEntidades(ConfigSource.obterConfiguracao(
+            "ETL_JANELA_WATERMARK_PRECISA_ENTIDADES",
+            "etl.janela.watermark_precisa.entidades"
+        ));
+    }
+
+    public static int obterJanelaWatermarkPrecisaSobreposicaoMinutos() {
+        return ConfigValueParser.parseInt(
+            ConfigSource.obterConfiguracao(
+                "ETL_JANELA_WATERMARK_PRECISA_SOBREPOSICAO_MINUTOS",
+                "etl.janela.watermark_precisa.sobreposicao_minutos"
+            ),
+            10,
+            value -> value >= 0 && value <= 1440,
+            logger,
+            "etl.janela.watermark_precisa.sobreposicao_minutos",
+            "0 a 1440 minutos"
+        );
+    }
+
     public static long obterIntervaloMinutosDaemon() {
         return ConfigValueParser.parseLong(
             ConfigSource.obterConfiguracao(
@@ -97,6 +124,77 @@ public final class ConfigEtl {
         );
     }
 
+    public static boolean isCadenciaAdaptativaDaemonAtiva() {
+        return obterBooleanComFallback(
+            "ETL_DAEMON_CADENCIA_ADAPTATIVA",
+            "etl.daemon.cadencia_adaptativa.ativa",
+            true
+        );
+    }
+
+    public static Duration obterCadenciaAdaptativaTeto() {
+        final long minutos = ConfigValueParser.parseLong(
+            ConfigSource.obterConfiguracao(
+                "ETL_DAEMON_CADENCIA_ADAPTATIVA_TETO_MINUTOS",
+                "etl.daemon.cadencia_adaptativa.teto_minutos"
+            ),
+            240L,
+            value -> value > 0L,
+            logger,
+            "etl.daemon.cadencia_adaptativa.teto_minutos",
+            "240 minutos"
+        );
+        return Duration.ofMinutes(minutos);
+    }
+
+    /**
+     * Entidades consultadas em todo ciclo do daemon, independentemente do rendimento recente.
+     */
+    public static Set<String> obterCadenciaAdaptativaEntidadesFixas() {
+        final String valor = ConfigSource.obterConfiguracao(
+            "ETL_DAEMON_CADENCIA_ADAPTATIVA_ENTIDADES_FIXAS",
+            "etl.daemon.cadencia_adaptativa.entidades_fixas"
+        );
+        if (valor == null) {
+            return Set.of(ConstantesEntidades.COLETAS, ConstantesEntidades.FRETES);
+        }
+        return parseConjuntoEntidades(valor);
+    }
+
+    /**
+     * Entidades adiadas pela cadencia adaptativa no ciclo corrente; repassada aos processos filhos.
+     */
+    public static Set<String> obterEntidadesAdiadasCadencia() {
+        return parseConjuntoEntidades(ConfigSource.obterConfiguracao(
+            "ETL_CADENCIA_ENTIDADES_ADIADAS",
+            "etl.cadencia.entidades_adiadas"
+        ));
+    }
+
+    /**
+     * Porta do endpoint HTTP de controle do daemon em loopback; 0 desativa.
+     */
+    public static int obterDaemonControleHttpPorta() {
+        return ConfigValueParser.parseInt(
+            ConfigSource.obterConfiguracao(
+                "ETL_DAEMON_CONTROLE_HTTP_PORTA",
+                "etl.daemon.controle.http.porta"
+            ),
+            0,
+            value -> value >= 0 && value <= 65535,
+            logger,
+            "etl.daemon.controle.http.porta",
+            "0 (desativado)"
+        );
+    }
+
+    /**
+     * Segredo exigido pelo endpoint HTTP de controle; sem ele o endpoint nao abre.
+     */
+    public static String obterDaemonControleHttpToken() {
+        return ConfigSource.obterConfiguracao("ETL_DAEMON_CONTROLE_HTTP_TOKEN", "etl.daemon.controle.http.token");
+    }
+
     public static List<String> obterMaterializacaoFatosBiProcedures() {
         final String targetsOverride = ConfigSource.obterConfiguracaoExterna(
             "ETL_BI_PROCEDURES_TARGET",
@@ -213,6 +311,81 @@ public final class ConfigEtl {
         return Duration.ofSeconds(segundos);
     }
 
+    public static int obterMaterializacaoFatosBiParalelismo() {
+        return ConfigValueParser.parseInt(
+            ConfigSource.obterConfiguracao(
+                "ETL_MATERIALIZACAO_FATOS_BI_PARALELISMO",
+                "etl.materializacao.fatos_bi.paralelismo"
+            ),
+            3,
+            value -> value >= 1 && value <= MATERIALIZACAO_FATOS_BI_PROCEDURES_PERMITIDAS.size(),
+            logger,
+            "etl.materializacao.fatos_bi.paralelismo",
+            "1 a " + MATERIALIZACAO_FATOS_BI_PROCEDURES_PERMITIDAS.size() + " procedures simultaneas"
+        );
+    }
+
+    /**
+     * Quando ativo, o loop daemon materializa fatos BI em worker proprio disparado por commits,
+     * sem esperar o fim da extracao nem consumir o timeout do ciclo. Desligado por padrao: mantem a
+     * materializacao dentro do ciclo ate o modo ser habilitado explicitamente.
+     */
+    public static boolean isMaterializacaoFatosBiPorEventoAtiva() {
+        return obterBooleanComFallback(
+            "ETL_MATERIALIZACAO_FATOS_BI_POR_EVENTO",
+            "etl.materializacao.fatos_bi.por_evento",
+            false
+        );
+    }
+
+    public static Duration obterMaterializacaoFatosBiAtrasoGatilho() {
+        final long segundos = ConfigValueParser.parseLong(
+            ConfigSource.obterConfiguracao(
+                "ETL_MATERIALIZACAO_FATOS_BI_GATILHO_ATRASO_SEGUNDOS",
+                "etl.materializacao.fatos_bi.gatilho.atraso_segundos"
+            ),
+            30L,
+            value -> value >= 0L,
+            logger,
+            "etl.materializacao.fatos_bi.gatilho.atraso_segundos",
+            "30 segundos"
+        );
+        return Duration.ofSeconds(segundos);
+    }
+
+    public static Duration obterMaterializacaoFatosBiTimeoutExecucao() {
+        final long minutos = ConfigValueParser.parseLong(
+            ConfigSource.obterConfiguracao(
+                "ETL_MATERIALIZACAO_FATOS_BI_TIMEOUT_EXECUCAO_MINUTOS",
+                "etl.materializacao.fatos_bi.timeout_execucao_minutos"
+            ),
+            45L,
+            value -> value > 0L,
+            logger,
+            "etl.materializacao.fatos_bi.timeout_execucao_minutos",
+            "45 minutos"
+        );
+        return Duration.ofMinutes(minutos);
+    }
+
+    /**
+     * Quanto o encerramento do daemon espera o worker de materializacao escoar o gatilho pendente.
+     */
+    public static Duration obterMaterializacaoFatosBiLimiteEncerramento() {
+        final long segundos = ConfigValueParser.parseLong(
+            ConfigSource.obterConfiguracao(
+                "ETL_MATERIALIZACAO_FATOS_BI_ENCERRAMENTO_SEGUNDOS",
+                "etl.materializacao.fatos_bi.encerramento_segundos"
+            ),
+            120L,
+            value -> value >= 0L,
+            logger,
+            "etl.materializacao.fatos_bi.encerramento_segundos",
+            "120 segundos"
+        );
+        return Duration.ofSeconds(segundos);
+    }
+
     public static int obterMaterializacaoFatosBiTimeoutSegundos() {
         return ConfigValueParser.parseInt(
             ConfigSource.obterConfiguracao(
@@ -768,6 +941,40 @@ public final class ConfigEtl {
         );
     }
 
+    /**
+     * Blocos de 30 dias executados em paralelo na extracao por intervalo; 1 mantem a execucao sequencial.
+     */
+    public static int obterIntervaloBlocosParalelismo() {
+        return ConfigValueParser.parseInt(
+            ConfigSource.obterConfiguracao(
+                "ETL_INTERVALO_BLOCOS_PARALELISMO",
+                "etl.intervalo.blocos.paralelismo"
+            ),
+            1,
+            value -> value >= 1 && value <= 12,
+            logger,
+            "etl.intervalo.blocos.paralelismo",
+            "1 (sequencial)"
+        );
+    }
+
+    /**
+     * Conexoes ao banco que os blocos paralelos do --extracao-intervalo podem somar entre os processos filhos.
+     */
+    public static int obterIntervaloBlocosMaxConexoesBanco() {
+        return ConfigValueParser.parseInt(
+            ConfigSource.obterConfiguracao(
+                "ETL_INTERVALO_BLOCOS_MAX_CONEXOES_BANCO",
+                "etl.intervalo.blocos.max_conexoes_banco"
+            ),
+            40,
+            value -> value >= 1,
+            logger,
+            "etl.intervalo.blocos.max_conexoes_banco",
+            "40"
+        );
+    }
+
     public static Duration obterTimeoutEntidadeDataExport(final String entidade) {
         final String chave = normalizarChaveEntidade(entidade);
         return Duration.ofMillis(obterLongComFallback(
@@ -905,6 +1112,81 @@ public final class ConfigEtl {
         );
     }
 
+    /**
+     * Processos filhos mantidos aquecidos para steps isolados; 0 volta a abrir uma JVM por step.
+     */
+    public static int obterTamanhoPoolProcessosAquecidos() {
+        return ConfigValueParser.parseInt(
+            ConfigSource.obterConfiguracao(
+                "ETL_PROCESS_ISOLATION_WARM_POOL_SIZE",
+                "etl.process.isolation.warm_pool.size"
+            ),
+            0,
+            value -> value >= 0 && value <= 8,
+            logger,
+            "etl.process.isolation.warm_pool.size",
+            "0 (uma JVM por step)"
+        );
+    }
+
+    /**
+     * Limite de chaves naturais rastreadas entre chunks de uma extracao; 0 desliga o rastreio.
+     */
+    public static int obterMaximoChavesDeduplicacaoEntreChunks() {
+        return ConfigValueParser.parseInt(
+            ConfigSource.obterConfiguracao(
+                "ETL_DEDUP_ENTRE_CHUNKS_MAX_CHAVES",
+                "etl.dedup.entre_chunks.max_chaves"
+            ),
+            1_000_000,
+            value -> value >= 0 && value <= 50_000_000,
+            logger,
+            "etl.dedup.entre_chunks.max_chaves",
+            "1000000"
+        );
+    }
+
+    /**
+     * Grava metadata e nfse_xml_document compactados (gzip de NVARCHAR, compativel com DECOMPRESS)
+     * nas colunas *_gz, deixando a coluna texto NULL. Exige a migration 054.
+     */
+    public static boolean isCompressaoPayloadAtiva() {
+        return obterBooleanComFallback(
+            "ETL_PAYLOAD_COMPRESSAO_ENABLED",
+            "etl.payload.compressao.enabled",
+            false
+        );
+    }
+
+    /**
+     * Antes do MERGE, compara o hash_linha do lote com o gravado e so refresca data_extracao
+     * das linhas inalteradas. Exige a migration 055.
+     */
+    public static boolean isPreFiltroHashLinhaAtivo() {
+        return obterBooleanComFallback(
+            "ETL_MERGE_PREFILTRO_HASH_ENABLED",
+            "etl.merge.prefiltro_hash.enabled",
+            true
+        );
+    }
+
+    /**
+     * Steps atendidos por um processo aquecido antes de ser reciclado.
+     */
+    public static int obterMaximoStepsPorProcessoAquecido() {
+        return ConfigValueParser.parseInt(
+            ConfigSource.obterConfiguracao(
+                "ETL_PROCESS_ISOLATION_WARM_POOL_MAX_STEPS",
+                "etl.process.isolation.warm_pool.max_steps"
+            ),
+            50,
+            value -> value >= 1 && value <= 10_000,
+            logger,
+            "etl.process.isolation.warm_pool.max_steps",
+            "50"
+        );
+    }
+
     public static boolean isProcessoFilhoIsolado() {
         return obterBooleanComFallback(
             "ETL_PROCESS_ISOLATED_CHILD",
@@ -934,6 +1216,19 @@ public final class ConfigEtl {
         );
     }
 
+    private static Set<String> parseConjuntoEntidades(final String valor) {
+        if (valor == null || valor.isBlank()) {
+            return Set.of();
+        }
+        final Set<String> entidades = new LinkedHashSet<>();
+        for (final String item : valor.split(",")) {
+            if (!item.isBlank()) {
+                entidades.add(item.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return Set.copyOf(entidades);
+    }
+
     private static boolean obterBooleanComFallback(final String envKey,
                                                    final String propertyKey,
                                                    final boolean valorPadrao) {
@@ -35,6 +35,40 @@ public final class ConfigLoop {
         );
     }
 
+    /**
+     * Duracao do lease de um item da fila SQL de replay; expirado, outro worker pode assumir o item.
+     */
+    public static int obterReconciliacaoFilaLeaseMinutos() {
+        return ConfigValueParser.parseInt(
+            ConfigSource.obterConfiguracao(
+                "LOOP_RECONCILIACAO_FILA_LEASE_MINUTOS",
+                "loop.reconciliacao.fila.lease_minutos"
+            ),
+            180,
+            value -> value > 0,
+            null,
+            null,
+            null
+        );
+    }
+
+    /**
+     * Dias contiguos da mesma entidade agrupados em uma unica execucao da fila SQL de replay.
+     */
+    public static int obterReconciliacaoFilaDiasPorExecucao() {
+        return ConfigValueParser.parseInt(
+            ConfigSource.obterConfiguracao(
+                "LOOP_RECONCILIACAO_FILA_DIAS_POR_EXECUCAO",
+                "loop.reconciliacao.fila.dias_por_execucao"
+            ),
+            31,
+            value -> value > 0 && value <= 31,
+            null,
+            null,
+            null
+        );
+    }
+
     public static int obterReconciliacaoDiasRetroativosFalha() {
         return ConfigValueParser.parseInt(
             ConfigSource.obterConfiguracao(
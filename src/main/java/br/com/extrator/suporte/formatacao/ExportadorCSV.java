@@ -36,6 +36,7 @@ import java.nio.file.Paths;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -44,6 +45,7 @@ import java.util.Set;
 
 import br.com.extrator.suporte.banco.GerenciadorConexao;
 import br.com.extrator.suporte.console.LoggerConsole;
+import br.com.extrator.suporte.json.PayloadCompactado;
 
 /**
  * Exportador de dados para CSV
@@ -276,7 +278,7 @@ public class ExportadorCSV {
                 
                 while (rs.next()) {
                     for (int i = 1; i <= columnCount; i++) {
-                        final Object value = rs.getObject(i);
+                        final Object value = valorParaCsv(rs, metaData, i);
                         if (value != null) {
                             String strValue = value.toString();
                             // Escapar valores que contenham vírgula ou aspas
@@ -322,6 +324,19 @@ public class ExportadorCSV {
         }
     }
 
+    /**
+     * Colunas *_gz (etl.payload.compressao.enabled) saem como o texto original, nao como byte[].
+     */
+    private static Object valorParaCsv(final ResultSet rs,
+                                       final ResultSetMetaData metaData,
+                                       final int coluna) throws SQLException {
+        final Object valor = rs.getObject(coluna);
+        if (valor instanceof byte[] bytes && metaData.getColumnLabel(coluna).endsWith("_gz")) {
+            return PayloadCompactado.descompactar(bytes);
+        }
+        return valor;
+    }
+
     private static boolean deveFiltrarAtivosPorExpurgoLogico(final String origem) {
         String nomeTabela = origem == null ? "" : origem.trim().toLowerCase(Locale.ROOT);
         if (nomeTabela.startsWith("dbo.")) {
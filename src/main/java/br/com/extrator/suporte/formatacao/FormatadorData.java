@@ -119,6 +119,10 @@ public final class FormatadorData {
             return null;
         }
         final String valor = dateStr.trim();
+        final LocalDate rapido = ParserDataHora.lerLocalDate(valor);
+        if (rapido != null) {
+            return rapido;
+        }
         for (final DateTimeFormatter formatter : FORMATOS_DATA_SEM_HORA) {
             try {
                 return LocalDate.parse(valor, formatter);
@@ -159,6 +163,10 @@ public final class FormatadorData {
         if (dateTimeStr == null || dateTimeStr.trim().isEmpty()) {
             return null;
         }
+        final LocalDateTime rapido = ParserDataHora.lerLocalDateTime(dateTimeStr.trim());
+        if (rapido != null) {
+            return rapido;
+        }
         try {
             return LocalDateTime.parse(dateTimeStr.trim());
         } catch (final DateTimeParseException e) {
@@ -178,7 +186,13 @@ public final class FormatadorData {
             return null;
         }
         final String valor = dateTimeStr.trim();
-        final ZoneId zoneId = ConfigApi.obterZoneIdDataExport();
+        final ZoneId zoneId = zonaPadrao();
+
+        // Formas conhecidas lidas sem formatador nem excecao; o restante segue as tentativas abaixo.
+        final OffsetDateTime rapido = ParserDataHora.lerOffsetDateTime(valor, zoneId);
+        if (rapido != null) {
+            return rapido;
+        }
 
         // Formato ISO completo com offset (ex.: 2025-10-02T00:00:00.000-03:00)
         try {
@@ -212,6 +226,13 @@ public final class FormatadorData {
         }
     }
     
+    /**
+     * Fuso aplicado a datas sem offset vindas da API.
+     */
+    static ZoneId zonaPadrao() {
+        return ConfigApi.obterZoneIdDataExport();
+    }
+
     // ========== MÉTODOS DE FORMATAÇÃO ==========
     
     /**
@@ -0,0 +1,355 @@
+package br.com.extrator.suporte.formatacao;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Leitura rapida de datas dos payloads: identifica o formato pela forma da string (tamanho e separadores)
+ * e converte os digitos direto, sem DateTimeFormatter e sem excecao. So aceita valores que os formatadores
+ * do {@link FormatadorData} leriam com o mesmo resultado; qualquer outro caso (data invalida, fuso com
+ * segundos, espacos) devolve null e o chamador segue para o parser completo.
+ *
+ * <p>Instancias por campo de origem ({@link #campo(String)}) lembram o ultimo formato reconhecido e o testam
+ * primeiro.</p>
+ */
+public final class ParserDataHora {
+    private static final Map<String, ParserDataHora> POR_CAMPO = new ConcurrentHashMap<>();
+
+    /** Formas reconhecidas; a ordem dia/mes das formas com barra e decidida por quem chama. */
+    enum Formato {
+        /** yyyy-MM-dd */
+        ISO_DATA,
+        /** yyyy-MM-ddTHH:mm[:ss[.fffffffff]] */
+        ISO_LOCAL,
+        /** yyyy-MM-ddTHH:mm[:ss[.fffffffff]](Z|+HH:MM) */
+        ISO_OFFSET,
+        /** yyyy-MM-dd HH:mm[:ss] */
+        ISO_ESPACO,
+        /** xx/xx/yyyy */
+        BARRA_DATA,
+        /** xx/xx/yyyy HH:mm[:ss] */
+        BARRA_DATA_HORA;
+
+        /** Mesma decisao de {@link ParserDataHora#detectar(String)}, testando so esta forma. */
+        boolean reconhece(final String valor) {
+            final int tamanho = valor.length();
+            if (tamanho < 10) {
+                return false;
+            }
+            final boolean iso = valor.charAt(4) == '-' && valor.charAt(7) == '-';
+            return switch (this) {
+                case ISO_DATA -> iso && tamanho == 10;
+                case ISO_ESPACO -> iso && tamanho > 10 && valor.charAt(10) == ' ';
+                case ISO_LOCAL, ISO_OFFSET -> iso && tamanho >= 16 && valor.charAt(10) == 'T'
+                    && (valor.charAt(tamanho - 1) == 'Z' || temSinalDeFuso(valor)) == (this == ISO_OFFSET);
+                case BARRA_DATA, BARRA_DATA_HORA -> !iso && valor.charAt(2) == '/' && valor.charAt(5) == '/'
+                    && (this == BARRA_DATA ? tamanho == 10 : tamanho > 10 && valor.charAt(10) == ' ');
+            };
+        }
+    }
+
+    private final String nomeCampo;
+    private volatile Formato ultimoFormato;
+
+    private ParserDataHora(final String nomeCampo) {
+        this.nomeCampo = nomeCampo;
+    }
+
+    /**
+     * Parser do campo de origem (ex.: "manifestos.created_at"), compartilhado entre threads.
+     */
+    public static ParserDataHora campo(final String nomeCampo) {
+        return POR_CAMPO.computeIfAbsent(nomeCampo, ParserDataHora::new);
+    }
+
+    public String nomeCampo() {
+        return nomeCampo;
+    }
+
+    /**
+     * Mesmo resultado de {@link FormatadorData#parseOffsetDateTime(String)}.
+     */
+    public OffsetDateTime paraOffsetDateTime(final String valor) {
+        if (valor == null) {
+            return null;
+        }
+        final String limpo = valor.trim();
+        if (!limpo.isEmpty()) {
+            final Formato formato = formatoProvavel(limpo);
+            final OffsetDateTime lido = lerOffsetDateTime(formato, limpo, FormatadorData.zonaPadrao());
+            if (lido != null) {
+                ultimoFormato = formato;
+                return lido;
+            }
+        }
+        return FormatadorData.parseOffsetDateTime(valor);
+    }
+
+    /**
+     * Mesmo resultado de {@link FormatadorData#parseLocalDate(String)}.
+     */
+    public LocalDate paraLocalDate(final String valor) {
+        if (valor == null) {
+            return null;
+        }
+        final String limpo = valor.trim();
+        if (!limpo.isEmpty()) {
+            final Formato formato = formatoProvavel(limpo);
+            final LocalDate lido = lerLocalDate(formato, limpo);
+            if (lido != null) {
+                ultimoFormato = formato;
+                return lido;
+            }
+        }
+        return FormatadorData.parseLocalDate(valor);
+    }
+
+    Formato ultimoFormato() {
+        return ultimoFormato;
+    }
+
+    private Formato formatoProvavel(final String valor) {
+        final Formato anterior = ultimoFormato;
+        return anterior != null && anterior.reconhece(valor) ? anterior : detectar(valor);
+    }
+
+    // ========== LEITURAS SEM EXCECAO (valor ja sem espacos nas pontas) ==========
+
+    static Formato detectar(final String valor) {
+        final int tamanho = valor.length();
+        if (tamanho < 10) {
+            return null;
+        }
+        if (valor.charAt(4) == '-' && valor.charAt(7) == '-') {
+            if (tamanho == 10) {
+                return Formato.ISO_DATA;
+            }
+            final char separador = valor.charAt(10);
+            if (separador == ' ') {
+                return Formato.ISO_ESPACO;
+            }
+            if (separador == 'T' && tamanho >= 16) {
+                final char ultimo = valor.charAt(tamanho - 1);
+                return ultimo == 'Z' || temSinalDeFuso(valor) ? Formato.ISO_OFFSET : Formato.ISO_LOCAL;
+            }
+            return null;
+        }
+        if (valor.charAt(2) == '/' && valor.charAt(5) == '/') {
+            if (tamanho == 10) {
+                return Formato.BARRA_DATA;
+            }
+            return valor.charAt(10) == ' ' ? Formato.BARRA_DATA_HORA : null;
+        }
+        return null;
+    }
+
+    /**
+     * Ordem do {@link FormatadorData#parseOffsetDateTime(String)}: ISO com fuso, ISO local, legados
+     * (incluindo MM/dd/yyyy HH:mm[:ss]) e, por fim, so data ISO no inicio do dia.
+     */
+    static OffsetDateTime lerOffsetDateTime(final String valor, final ZoneId zona) {
+        return lerOffsetDateTime(detectar(valor), valor, zona);
+    }
+
+    private static OffsetDateTime lerOffsetDateTime(final Formato formato, final String valor, final ZoneId zona) {
+        if (formato == null) {
+            return null;
+        }
+        switch (formato) {
+            case ISO_OFFSET -> {
+                final int fimHora = valor.charAt(valor.length() - 1) == 'Z' ? valor.length() - 1 : valor.length() - 6;
+                final LocalDateTime local = lerDataHoraIso(valor, fimHora);
+                final ZoneOffset fuso = lerFuso(valor, fimHora);
+                return local == null || fuso == null ? null : OffsetDateTime.of(local, fuso);
+            }
+            case ISO_LOCAL -> {
+                final LocalDateTime local = lerDataHoraIso(valor, valor.length());
+                return local == null ? null : local.atZone(zona).toOffsetDateTime();
+            }
+            case ISO_ESPACO -> {
+                final LocalDate data = lerData(valor, 0, 5, 8);
+                final LocalDateTime local = data == null ? null : lerHoraSemFracao(data, valor, 11);
+                return local == null ? null : local.atZone(zona).toOffsetDateTime();
+            }
+            case BARRA_DATA_HORA -> {
+                final LocalDateTime local = lerDataHoraBarra(valor, true);
+                return local == null ? null : local.atZone(zona).toOffsetDateTime();
+            }
+            case ISO_DATA -> {
+                final LocalDate data = lerData(valor, 0, 5, 8);
+                return data == null ? null : data.atStartOfDay(zona).toOffsetDateTime();
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Ordem do {@link FormatadorData#parseLocalDate(String)}: ISO, MM/dd/yyyy e dd/MM/yyyy.
+     */
+    static LocalDate lerLocalDate(final String valor) {
+        return lerLocalDate(detectar(valor), valor);
+    }
+
+    private static LocalDate lerLocalDate(final Formato formato, final String valor) {
+        if (formato == Formato.ISO_DATA) {
+            return lerData(valor, 0, 5, 8);
+        }
+        if (formato != Formato.BARRA_DATA) {
+            return null;
+        }
+        final int primeiro = doisDigitos(valor, 0);
+        if (primeiro >= 1 && primeiro <= 12) {
+            // MM/dd/yyyy vence; com dia invalido o formatador ajustaria o dia, entao o parser completo decide.
+            return lerData(valor, 6, 0, 3);
+        }
+        return primeiro > 12 ? lerData(valor, 6, 3, 0) : null;
+    }
+
+    /**
+     * Mesmo resultado de {@code LocalDateTime.parse(valor)} (ISO local).
+     */
+    static LocalDateTime lerLocalDateTime(final String valor) {
+        return detectar(valor) == Formato.ISO_LOCAL ? lerDataHoraIso(valor, valor.length()) : null;
+    }
+
+    /**
+     * dd/MM/yyyy HH:mm[:ss] sem excecao; null quando fora do formato ou com data invalida.
+     */
+    public static OffsetDateTime lerDataHoraBr(final String valor, final ZoneId zona) {
+        if (valor == null || detectar(valor) != Formato.BARRA_DATA_HORA) {
+            return null;
+        }
+        final LocalDateTime local = lerDataHoraBarra(valor, false);
+        return local == null ? null : local.atZone(zona).toOffsetDateTime();
+    }
+
+    private static LocalDateTime lerDataHoraBarra(final String valor, final boolean mesPrimeiro) {
+        final LocalDate data = mesPrimeiro ? lerData(valor, 6, 0, 3) : lerData(valor, 6, 3, 0);
+        return data == null ? null : lerHoraSemFracao(data, valor, 11);
+    }
+
+    /** HH:mm ou HH:mm:ss ate o fim da string. */
+    private static LocalDateTime lerHoraSemFracao(final LocalDate data, final String valor, final int inicio) {
+        final int tamanho = valor.length() - inicio;
+        if (tamanho != 5 && tamanho != 8) {
+            return null;
+        }
+        return lerHora(data, valor, inicio, valor.length(), false);
+    }
+
+    /** yyyy-MM-ddTHH:mm[:ss[.f{1,9}]] ate {@code fim}. */
+    private static LocalDateTime lerDataHoraIso(final String valor, final int fim) {
+        final LocalDate data = lerData(valor, 0, 5, 8);
+        return data == null ? null : lerHora(data, valor, 11, fim, true);
+    }
+
+    private static LocalDateTime lerHora(final LocalDate data,
+                                         final String valor,
+                                         final int inicio,
+                                         final int fim,
+                                         final boolean aceitaFracao) {
+        if (fim - inicio < 5 || valor.charAt(inicio + 2) != ':') {
+            return null;
+        }
+        final int hora = doisDigitos(valor, inicio);
+        final int minuto = doisDigitos(valor, inicio + 3);
+        if (hora < 0 || hora > 23 || minuto < 0 || minuto > 59) {
+            return null;
+        }
+        int segundo = 0;
+        int nano = 0;
+        int posicao = inicio + 5;
+        if (posicao < fim) {
+            if (valor.charAt(posicao) != ':' || fim - posicao < 3) {
+                return null;
+            }
+            segundo = doisDigitos(valor, posicao + 1);
+            if (segundo < 0 || segundo > 59) {
+                return null;
+            }
+            posicao += 3;
+            if (posicao < fim) {
+                final int digitos = fim - posicao - 1;
+                if (!aceitaFracao || valor.charAt(posicao) != '.' || digitos < 1 || digitos > 9) {
+                    return null;
+                }
+                for (int i = posicao + 1; i < fim; i++) {
+                    final int digito = valor.charAt(i) - '0';
+                    if (digito < 0 || digito > 9) {
+                        return null;
+                    }
+                    nano = nano * 10 + digito;
+                }
+                for (int i = digitos; i < 9; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+        return LocalDateTime.of(data.getYear(), data.getMonthValue(), data.getDayOfMonth(), hora, minuto, segundo, nano);
+    }
+
+    /** Z ou +HH:MM/-HH:MM a partir de {@code inicio}. */
+    private static ZoneOffset lerFuso(final String valor, final int inicio) {
+        if (valor.charAt(inicio) == 'Z') {
+            return ZoneOffset.UTC;
+        }
+        final char sinal = valor.charAt(inicio);
+        if ((sinal != '+' && sinal != '-') || valor.charAt(inicio + 3) != ':') {
+            return null;
+        }
+        final int horas = doisDigitos(valor, inicio + 1);
+        final int minutos = doisDigitos(valor, inicio + 4);
+        if (horas < 0 || horas > 17 || minutos < 0 || minutos > 59) {
+            return null;
+        }
+        final int segundos = (horas * 3600 + minutos * 60) * (sinal == '-' ? -1 : 1);
+        return ZoneOffset.ofTotalSeconds(segundos);
+    }
+
+    private static boolean temSinalDeFuso(final String valor) {
+        final int posicao = valor.length() - 6;
+        if (posicao < 16) {
+            return false;
+        }
+        final char sinal = valor.charAt(posicao);
+        return sinal == '+' || sinal == '-';
+    }
+
+    /** Data com ano de 4 digitos; null quando fora do calendario (sem ajuste de dia). */
+    private static LocalDate lerData(final String valor, final int posAno, final int posMes, final int posDia) {
+        final int ano = quatroDigitos(valor, posAno);
+        final int mes = doisDigitos(valor, posMes);
+        final int dia = doisDigitos(valor, posDia);
+        if (ano < 1 || mes < 1 || mes > 12 || dia < 1) {
+            return null;
+        }
+        final int diasNoMes = switch (mes) {
+            case 2 -> (ano % 4 == 0 && (ano % 100 != 0 || ano % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+        return dia > diasNoMes ? null : LocalDate.of(ano, mes, dia);
+    }
+
+    private static int doisDigitos(final String valor, final int posicao) {
+        final int dezena = valor.charAt(posicao) - '0';
+        final int unidade = valor.charAt(posicao + 1) - '0';
+        if (dezena < 0 || dezena > 9 || unidade < 0 || unidade > 9) {
+            return -1;
+        }
+        return dezena * 10 + unidade;
+    }
+
+    private static int quatroDigitos(final String valor, final int posicao) {
+        final int alto = doisDigitos(valor, posicao);
+        final int baixo = doisDigitos(valor, posicao + 2);
+        return alto < 0 || baixo < 0 ? -1 : alto * 100 + baixo;
+    }
+}
@@ -110,6 +110,9 @@ public class GerenciadorRequisicaoHttp {
         private static final GerenciadorRequisicaoHttp INSTANCE = new GerenciadorRequisicaoHttp();
     }
 
+    // Bytes de corpo recebidos pela thread corrente; a extracao de uma entidade roda inteira na mesma thread.
+    private static final ThreadLocal<long[]> BYTES_RECEBIDOS_THREAD = ThreadLocal.withInitial(() -> new long[1]);
+
     private final ConcurrentHashMap<String, CircuitBreakerState> circuitBreakers = new ConcurrentHashMap<>();
     private final ReentrantLock lockThrottling = new ReentrantLock(true);
     private final AtomicLong ultimaRequisicaoTimestamp = new AtomicLong(0);
@@ -123,6 +126,14 @@ public class GerenciadorRequisicaoHttp {
         return Holder.INSTANCE;
     }
 
+    /**
+     * Total acumulado de bytes de corpo HTTP recebidos pela thread corrente.
+     * Consumidores calculam o delta entre duas leituras para medir uma extracao.
+     */
+    public static long obterBytesRecebidosThreadAtual() {
+        return BYTES_RECEBIDOS_THREAD.get()[0];
+    }
+
     private GerenciadorRequisicaoHttp() {
         this.maxTentativas = ConfigApi.obterMaxTentativasRetry();
         this.delayBaseMs = ConfigApi.obterDelayBaseRetry();
@@ -246,6 +257,7 @@ public class GerenciadorRequisicaoHttp {
             try {
                 registrarTentativa(tipoEntidade, tentativa, charset);
                 final HttpResponse<String> resposta = executarComTimeout(cliente, requisicao, bodyHandler, tipoEntidade);
+                registrarBytesRecebidos(resposta);
                 final int statusCode = resposta.statusCode();
 
                 if (statusCode >= 200 && statusCode < 300) {
@@ -281,6 +293,40 @@ public class GerenciadorRequisicaoHttp {
         throw new RuntimeException(mensagemFalha, ultimaFalha);
     }
 
+    private void registrarBytesRecebidos(final HttpResponse<String> resposta) {
+        if (resposta == null) {
+            return;
+        }
+        final OptionalLong contentLength = resposta.headers() == null
+            ? OptionalLong.empty()
+            : resposta.headers().firstValueAsLong("Content-Length");
+        final long bytes = contentLength.isPresent()
+            ? contentLength.getAsLong()
+            : tamanhoUtf8(resposta.body());
+        BYTES_RECEBIDOS_THREAD.get()[0] += Math.max(0L, bytes);
+    }
+
+    private static long tamanhoUtf8(final String corpo) {
+        if (corpo == null) {
+            return 0L;
+        }
+        long total = 0L;
+        for (int i = 0; i < corpo.length(); i++) {
+            final char c = corpo.charAt(i);
+            if (c < 0x80) {
+                total += 1;
+            } else if (c < 0x800) {
+                total += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                total += 4;
+                i++;
+            } else {
+                total += 3;
+            }
+        }
+        return total;
+    }
+
     private HttpResponse<String> executarComTimeout(final HttpClient cliente,
                                                     final HttpRequest requisicao,
                                                     final HttpResponse.BodyHandler<String> bodyHandler,
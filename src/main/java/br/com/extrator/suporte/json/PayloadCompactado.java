@@ -0,0 +1,55 @@
+package br.com.extrator.suporte.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip de payloads texto (metadata JSON, XML de NFS-e) no mesmo formato de COMPRESS(N'...') do SQL Server:
+ * o texto e codificado em UTF-16LE, entao CAST(DECOMPRESS(coluna) AS NVARCHAR(MAX)) devolve o original.
+ */
+public final class PayloadCompactado {
+    public static final Charset CHARSET = StandardCharsets.UTF_16LE;
+
+    private PayloadCompactado() {
+    }
+
+    public static byte[] compactar(final String texto) {
+        if (texto == null) {
+            return null;
+        }
+        final byte[] bruto = texto.getBytes(CHARSET);
+        final ByteArrayOutputStream saida = new ByteArrayOutputStream(Math.max(64, bruto.length / 8));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(bruto);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Falha ao compactar payload", e);
+        }
+        return saida.toByteArray();
+    }
+
+    public static String descompactar(final byte[] compactado) {
+        if (compactado == null) {
+            return null;
+        }
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compactado))) {
+            return new String(gzip.readAllBytes(), CHARSET);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Payload compactado invalido", e);
+        }
+    }
+
+    /**
+     * Leitor em streaming do texto original, para parsear sem materializar a String inteira.
+     */
+    public static Reader abrirLeitor(final byte[] compactado) throws IOException {
+        return new InputStreamReader(new GZIPInputStream(new ByteArrayInputStream(compactado)), CHARSET);
+    }
+}
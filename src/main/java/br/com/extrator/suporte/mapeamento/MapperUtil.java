@@ -19,6 +19,7 @@ Metodos principais:
 - createObjectMapper(): realiza operacao relacionada a "create object mapper".
 - sharedJson(): realiza operacao relacionada a "shared json".
 - toJson(...1 args): realiza operacao relacionada a "to json".
+- jsonOriginalOu(...2 args): metadata a partir do JSON original da API, com fallback para toJson.
 Atributos-chave:
 - logger: logger da classe para diagnostico.
 - SHARED_MAPPER: apoio de mapeamento de dados.
@@ -26,6 +27,8 @@ Atributos-chave:
 
 package br.com.extrator.suporte.mapeamento;
 
+import java.util.function.Supplier;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.slf4j.Logger;
@@ -82,4 +85,18 @@ public final class MapperUtil {
             return null;
         }
     }
+
+    /**
+     * Metadata do registro: o JSON original da API quando disponivel; senao, a serializacao da origem.
+     *
+     * @param jsonOriginal Trecho do registro na resposta da API (pode ser null)
+     * @param origem Fornece o objeto a serializar, chamado so quando nao ha JSON original
+     * @return JSON string ou null em caso de erro
+     */
+    public static String jsonOriginalOu(final String jsonOriginal, final Supplier<?> origem) {
+        if (jsonOriginal != null && !jsonOriginal.isBlank()) {
+            return jsonOriginal;
+        }
+        return toJson(origem.get());
+    }
 }
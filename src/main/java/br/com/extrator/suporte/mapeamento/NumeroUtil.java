@@ -19,6 +19,7 @@ Metodos principais:
 - createDecimalFormatUS(): realiza operacao relacionada a "create decimal format us".
 - parseBigDecimalUS(...1 args): realiza operacao relacionada a "parse big decimal us".
 - parseIntegerOrNull(...1 args): realiza operacao relacionada a "parse integer or null".
+- isDecimalSimples(...1 args): identifica numeros que dispensam o DecimalFormat.
 Atributos-chave:
 - logger: logger da classe para diagnostico.
 - DECIMAL_FORMAT_US: campo de estado para "decimal format us".
@@ -43,7 +44,8 @@ import org.slf4j.LoggerFactory;
  */
 public final class NumeroUtil {
     private static final Logger logger = LoggerFactory.getLogger(NumeroUtil.class);
-    private static final DecimalFormat DECIMAL_FORMAT_US = createDecimalFormatUS();
+    // DecimalFormat nao e thread-safe; fica so para formas fora do padrao -?digitos[.digitos].
+    private static final ThreadLocal<DecimalFormat> DECIMAL_FORMAT_US = ThreadLocal.withInitial(NumeroUtil::createDecimalFormatUS);
     
     private NumeroUtil() {
         // Classe utilitária - construtor privado
@@ -71,16 +73,45 @@ public final class NumeroUtil {
         if (valor == null || valor.trim().isEmpty()) {
             return null;
         }
+        // Remove vírgulas (separador de milhares) antes de parsear
+        final String valorLimpo = valor.indexOf(',') >= 0 ? valor.replace(",", "") : valor;
+        if (isDecimalSimples(valorLimpo)) {
+            return new BigDecimal(valorLimpo);
+        }
         try {
-            // Remove vírgulas (separador de milhares) antes de parsear
-            final String valorLimpo = valor.replace(",", "");
-            return (BigDecimal) DECIMAL_FORMAT_US.parse(valorLimpo);
+            return (BigDecimal) DECIMAL_FORMAT_US.get().parse(valorLimpo);
         } catch (final Exception e) {
             logger.warn("Erro ao parsear BigDecimal (US locale): {}", valor);
             return null;
         }
     }
     
+    /**
+     * -?digitos[.digitos]: forma em que new BigDecimal e o DecimalFormat US dao o mesmo valor e escala.
+     */
+    static boolean isDecimalSimples(final String valor) {
+        final int tamanho = valor.length();
+        int posicao = tamanho > 0 && valor.charAt(0) == '-' ? 1 : 0;
+        final int inicioInteiro = posicao;
+        while (posicao < tamanho && valor.charAt(posicao) >= '0' && valor.charAt(posicao) <= '9') {
+            posicao++;
+        }
+        if (posicao == inicioInteiro) {
+            return false;
+        }
+        if (posicao == tamanho) {
+            return true;
+        }
+        if (valor.charAt(posicao) != '.') {
+            return false;
+        }
+        final int inicioFracao = ++posicao;
+        while (posicao < tamanho && valor.charAt(posicao) >= '0' && valor.charAt(posicao) <= '9') {
+            posicao++;
+        }
+        return posicao == tamanho && posicao > inicioFracao;
+    }
+
     /**
      * Converte string para Integer de forma segura.
      * 
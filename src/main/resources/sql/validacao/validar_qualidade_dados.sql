@@ -23,21 +23,21 @@ UNION ALL
 SELECT 'fretes', 'status', COUNT(*)
 FROM fretes WHERE status IS NULL AND data_extracao >= DATEADD(HOUR, -24, GETDATE());
 
--- Metadata NULL (problema grave - perdemos backup do JSON)
+-- Metadata NULL (problema grave - perdemos backup do JSON); metadata_gz cobre o modo compactado
 SELECT 
     'cotacoes' AS tabela,
     COUNT(*) AS total_metadata_null
 FROM cotacoes
-WHERE metadata IS NULL AND data_extracao >= DATEADD(HOUR, -24, GETDATE())
+WHERE metadata IS NULL AND metadata_gz IS NULL AND data_extracao >= DATEADD(HOUR, -24, GETDATE())
 UNION ALL
 SELECT 'manifestos', COUNT(*)
-FROM manifestos WHERE metadata IS NULL AND data_extracao >= DATEADD(HOUR, -24, GETDATE())
+FROM manifestos WHERE metadata IS NULL AND metadata_gz IS NULL AND data_extracao >= DATEADD(HOUR, -24, GETDATE())
 UNION ALL
 SELECT 'fretes', COUNT(*)
-FROM fretes WHERE metadata IS NULL AND data_extracao >= DATEADD(HOUR, -24, GETDATE())
+FROM fretes WHERE metadata IS NULL AND metadata_gz IS NULL AND data_extracao >= DATEADD(HOUR, -24, GETDATE())
 UNION ALL
 SELECT 'contas_a_pagar', COUNT(*)
-FROM contas_a_pagar WHERE metadata IS NULL AND data_extracao >= DATEADD(HOUR, -24, GETDATE());
+FROM contas_a_pagar WHERE metadata IS NULL AND metadata_gz IS NULL AND data_extracao >= DATEADD(HOUR, -24, GETDATE());
 
 -- data_extracao NULL (problema crítico)
 SELECT 
@@ -0,0 +1,20 @@
+package br.com.extrator.aplicacao.expurgo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class EntityReconciliationSpecsTest {
+
+    @Test
+    void deveLerMetadataCompactadoNasExpressoesTemporais() {
+        assertEquals(2, EntityReconciliationSpecs.dataExportPadrao().size());
+        for (final EntityReconciliationSpec spec : EntityReconciliationSpecs.dataExportPadrao()) {
+            final String temporal = spec.dbTemporalExpression();
+            assertTrue(temporal.contains("CAST(DECOMPRESS(base.metadata_gz) AS NVARCHAR(MAX))"), spec.entityName());
+            assertFalse(temporal.contains("ISJSON(base.metadata)"), spec.entityName());
+        }
+    }
+}
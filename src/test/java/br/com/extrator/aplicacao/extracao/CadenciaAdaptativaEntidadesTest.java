@@ -0,0 +1,162 @@
+package br.com.extrator.aplicacao.extracao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.com.extrator.plataforma.auditoria.dominio.ExecutionAuditRecord;
+import br.com.extrator.suporte.validacao.ConstantesEntidades;
+
+class CadenciaAdaptativaEntidadesTest {
+    private static final List<String> ENTIDADES = List.of(
+        ConstantesEntidades.FRETES,
+        ConstantesEntidades.INVENTARIO,
+        ConstantesEntidades.SINISTROS
+    );
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void deveRecuarExponencialmenteAteOTeto() {
+        final CadenciaAdaptativaEntidades cadencia = criar();
+
+        assertEquals(Duration.ZERO, cadencia.atraso(0));
+        assertEquals(Duration.ofMinutes(30), cadencia.atraso(1));
+        assertEquals(Duration.ofMinutes(90), cadencia.atraso(2));
+        assertEquals(Duration.ofMinutes(210), cadencia.atraso(3));
+        assertEquals(Duration.ofMinutes(240), cadencia.atraso(4));
+        assertEquals(Duration.ofMinutes(240), cadencia.atraso(40));
+    }
+
+    @Test
+    void deveAdiarEntidadeOciosaEManterEntidadeFixaEComRendimento() {
+        final CadenciaAdaptativaEntidades cadencia = criar();
+        final LocalDateTime inicio = LocalDateTime.of(2026, 4, 10, 8, 0);
+        final Map<String, Integer> semRendimento = Map.of(
+            ConstantesEntidades.FRETES, 0,
+            ConstantesEntidades.INVENTARIO, 0,
+            ConstantesEntidades.SINISTROS, 5
+        );
+
+        cadencia.registrarCiclo(ENTIDADES, semRendimento, inicio);
+        assertTrue(cadencia.planejarAdiadas(ENTIDADES, inicio.plusMinutes(60)).isEmpty());
+
+        cadencia.registrarCiclo(ENTIDADES, semRendimento, inicio.plusMinutes(60));
+        assertEquals(
+            Set.of(ConstantesEntidades.INVENTARIO),
+            cadencia.planejarAdiadas(ENTIDADES, inicio.plusMinutes(120))
+        );
+        assertTrue(cadencia.planejarAdiadas(ENTIDADES, inicio.plusMinutes(180)).isEmpty());
+        assertEquals(2, cadencia.estado(ConstantesEntidades.INVENTARIO).orElseThrow().ciclosOciosos());
+    }
+
+    @Test
+    void deveVoltarATodoCicloQuandoHouverFalhaOuRendimentoDesconhecido() {
+        final CadenciaAdaptativaEntidades cadencia = criar();
+        final LocalDateTime inicio = LocalDateTime.of(2026, 4, 10, 8, 0);
+        final List<String> inventario = List.of(ConstantesEntidades.INVENTARIO);
+
+        for (int ciclo = 0; ciclo < 3; ciclo++) {
+            cadencia.registrarCiclo(inventario, Map.of(ConstantesEntidades.INVENTARIO, 0), inicio);
+        }
+        cadencia.registrarCiclo(inventario, Map.of(), inicio);
+
+        assertEquals(0, cadencia.estado(ConstantesEntidades.INVENTARIO).orElseThrow().ciclosOciosos());
+        assertTrue(cadencia.planejarAdiadas(inventario, inicio.plusMinutes(60)).isEmpty());
+    }
+
+    @Test
+    void deveGarantirPassagemDiariaMesmoNoTeto() {
+        final CadenciaAdaptativaEntidades cadencia = criar();
+        final LocalDateTime fimDoDia = LocalDateTime.of(2026, 4, 10, 23, 0);
+        final List<String> inventario = List.of(ConstantesEntidades.INVENTARIO);
+        for (int ciclo = 0; ciclo < 6; ciclo++) {
+            cadencia.registrarCiclo(inventario, Map.of(ConstantesEntidades.INVENTARIO, 0), fimDoDia);
+        }
+
+        assertEquals(Set.of(ConstantesEntidades.INVENTARIO), cadencia.planejarAdiadas(inventario, fimDoDia.plusMinutes(50)));
+        assertTrue(cadencia.planejarAdiadas(inventario, fimDoDia.plusMinutes(61)).isEmpty());
+    }
+
+    @Test
+    void deveConsiderarApenasExecucoesCompletasNoRendimento() {
+        final Map<String, Integer> rendimentos = CadenciaAdaptativaEntidades.resolverRendimentos(List.of(
+            audit(ConstantesEntidades.INVENTARIO, "COMPLETO", true, 0, LocalDateTime.of(2026, 4, 10, 8, 0)),
+            audit(ConstantesEntidades.INVENTARIO, "COMPLETO", true, 7, LocalDateTime.of(2026, 4, 10, 8, 5)),
+            audit(ConstantesEntidades.SINISTROS, "INCOMPLETO_DB", true, 0, LocalDateTime.of(2026, 4, 10, 8, 0)),
+            audit(ConstantesEntidades.COTACOES, "COMPLETO", false, 0, LocalDateTime.of(2026, 4, 10, 8, 0))
+        ));
+
+        assertEquals(Map.of(ConstantesEntidades.INVENTARIO, 7), rendimentos);
+    }
+
+    @Test
+    void deveRecuarQuandoJanelaSoTiverLinhasInalteradas() {
+        final CadenciaAdaptativaEntidades cadencia = criar();
+        final LocalDateTime inicio = LocalDateTime.of(2026, 4, 10, 8, 0);
+        final List<String> inventario = List.of(ConstantesEntidades.INVENTARIO);
+        // Todas as linhas voltaram iguais: o refresh de data_extracao infla db_persistidos, mas tudo e no-op.
+        final ExecutionAuditRecord soInalteradas = new ExecutionAuditRecord(
+            "exec-1", ConstantesEntidades.INVENTARIO,
+            inicio.minusDays(1), inicio, inicio.minusDays(1), inicio,
+            "COMPLETO", 10, 10, 10, 10, true, null, 1, 10, 0,
+            inicio.minusMinutes(1), inicio, "--loop-daemon-run", "cycle-1", null
+        );
+
+        final Map<String, Integer> rendimentos = CadenciaAdaptativaEntidades.resolverRendimentos(List.of(soInalteradas));
+        assertEquals(Map.of(ConstantesEntidades.INVENTARIO, 0), rendimentos);
+
+        cadencia.registrarCiclo(inventario, rendimentos, inicio);
+        cadencia.registrarCiclo(inventario, rendimentos, inicio.plusMinutes(60));
+        assertEquals(Set.of(ConstantesEntidades.INVENTARIO), cadencia.planejarAdiadas(inventario, inicio.plusMinutes(120)));
+    }
+
+    private CadenciaAdaptativaEntidades criar() {
+        return new CadenciaAdaptativaEntidades(
+            tempDir.resolve("entity_cadence.properties"),
+            Duration.ofMinutes(60),
+            Duration.ofMinutes(240),
+            Set.of(ConstantesEntidades.FRETES)
+        );
+    }
+
+    private static ExecutionAuditRecord audit(final String entidade,
+                                              final String status,
+                                              final boolean apiCompleta,
+                                              final int persistidos,
+                                              final LocalDateTime fim) {
+        return new ExecutionAuditRecord(
+            "exec-1",
+            entidade,
+            fim.minusDays(1),
+            fim,
+            fim.minusDays(1),
+            fim,
+            status,
+            10,
+            10,
+            10,
+            persistidos,
+            apiCompleta,
+            null,
+            1,
+            10 - persistidos,
+            0,
+            fim.minusMinutes(1),
+            fim,
+            "--loop-daemon-run",
+            "cycle-1",
+            null
+        );
+    }
+}
@@ -5,7 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -16,11 +21,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import br.com.extrator.aplicacao.contexto.AplicacaoContexto;
 import br.com.extrator.aplicacao.pipeline.PipelineOrchestrator;
@@ -38,6 +46,7 @@ import br.com.extrator.aplicacao.portas.GraphQLGateway;
 import br.com.extrator.aplicacao.portas.IntegridadeEtlPort;
 import br.com.extrator.aplicacao.portas.PipelineOrchestratorFactory;
 import br.com.extrator.observabilidade.pipeline.InMemoryPipelineMetrics;
+import br.com.extrator.suporte.observabilidade.ExecutionContext;
 
 class ExtracaoPorIntervaloUseCaseTest {
 
@@ -48,6 +57,7 @@ class ExtracaoPorIntervaloUseCaseTest {
     private static final String PROP_TIMEOUT_COLETAS_INTERVALO = "etl.graphql.timeout.entidade.coletas.intervalo.ms";
     private static final String PROP_MAX_EXPANSAO_INTERVALO = "etl.referencial.coletas.backfill.max_expansao_dias.intervalo";
     private static final String PROP_MAX_FALHAS_INTERVALO = "etl.intervalo.coletas.max_consecutive_failures";
+    private static final String PROP_PARALELISMO_BLOCOS = "etl.intervalo.blocos.paralelismo";
     private static final List<String> CAMPOS_CONTEXTO = List.of(
         "orchestratorFactory",
         "graphQLGateway",
@@ -58,6 +68,9 @@ class ExtracaoPorIntervaloUseCaseTest {
 
     private final Map<String, Object> contextoAnterior = new HashMap<>();
 
+    @TempDir
+    Path diretorioProgresso;
+
     @BeforeEach
     void prepararContexto() throws Exception {
         for (final String campo : CAMPOS_CONTEXTO) {
@@ -77,6 +90,7 @@ class ExtracaoPorIntervaloUseCaseTest {
         System.clearProperty(PROP_TIMEOUT_COLETAS_INTERVALO);
         System.clearProperty(PROP_MAX_EXPANSAO_INTERVALO);
         System.clearProperty(PROP_MAX_FALHAS_INTERVALO);
+        System.clearProperty(PROP_PARALELISMO_BLOCOS);
     }
 
     @Test
@@ -355,6 +369,93 @@ class ExtracaoPorIntervaloUseCaseTest {
         assertTrue(erro.getMessage().contains("falhas criticas consecutivas de coletas"));
     }
 
+    @Test
+    void blocosParalelosDevemExecutarTodosOsBlocosELimparProgresso() {
+        System.setProperty(PROP_PARALELISMO_BLOCOS, "3");
+        final Set<LocalDate> blocosExecutados = ConcurrentHashMap.newKeySet();
+        final AtomicInteger chamadas = new AtomicInteger(0);
+        final GraphQLGateway gateway = (dataInicio, dataFim, entidade) -> {
+            chamadas.incrementAndGet();
+            blocosExecutados.add(dataInicio);
+            return resultadoGraphql(entidade, StepStatus.SUCCESS, "ok");
+        };
+
+        final ExtracaoPorIntervaloUseCase useCase = criarUseCase(
+            gateway,
+            new LogPorPeriodoExtractionLogQueryPort(),
+            new SequencialIntegridadePort(new ArrayDeque<>())
+        );
+
+        assertDoesNotThrow(() -> useCase.executar(requestComBlocos(3)));
+
+        assertEquals(6, chamadas.get());
+        assertEquals(3, blocosExecutados.size());
+        assertTrue(listarProgresso().isEmpty(), "Progresso deve ser removido apos intervalo sem falhas.");
+    }
+
+    @Test
+    void blocosParalelosDevemHerdarOExecutionIdDaExecucao() {
+        System.setProperty(PROP_PARALELISMO_BLOCOS, "3");
+        final String executionId = ExecutionContext.initialize("--extracao-intervalo");
+        final Set<String> executionIdsVistos = ConcurrentHashMap.newKeySet();
+        final GraphQLGateway gateway = (dataInicio, dataFim, entidade) -> {
+            executionIdsVistos.add(ExecutionContext.currentExecutionId());
+            return resultadoGraphql(entidade, StepStatus.SUCCESS, "ok");
+        };
+
+        final ExtracaoPorIntervaloUseCase useCase = criarUseCase(
+            gateway,
+            new LogPorPeriodoExtractionLogQueryPort(),
+            new SequencialIntegridadePort(new ArrayDeque<>())
+        );
+
+        try {
+            assertDoesNotThrow(() -> useCase.executar(requestComBlocos(3)));
+        } finally {
+            ExecutionContext.clear();
+        }
+
+        assertEquals(Set.of(executionId), executionIdsVistos);
+    }
+
+    @Test
+    void blocosParalelosDevemRetomarApenasBlocosPendentes() {
+        System.setProperty(PROP_PARALELISMO_BLOCOS, "2");
+        final ExtracaoPorIntervaloRequest request = requestComBlocos(3);
+        final ProgressoBlocosIntervalo progresso = ProgressoBlocosIntervalo.para(diretorioProgresso, request);
+        progresso.registrarConcluido(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 30));
+        final Set<LocalDate> blocosExecutados = ConcurrentHashMap.newKeySet();
+        final GraphQLGateway gateway = (dataInicio, dataFim, entidade) -> {
+            blocosExecutados.add(dataInicio);
+            final boolean falhaUltimoBloco = "coletas".equals(entidade) && dataInicio.equals(LocalDate.of(2026, 3, 2));
+            return resultadoGraphql(entidade, falhaUltimoBloco ? StepStatus.FAILED : StepStatus.SUCCESS, "bloco");
+        };
+
+        final ExtracaoPorIntervaloUseCase useCase = criarUseCase(
+            gateway,
+            new LogPorPeriodoExtractionLogQueryPort(),
+            new SequencialIntegridadePort(new ArrayDeque<>())
+        );
+
+        final PartialExecutionException erro = assertThrows(PartialExecutionException.class, () -> useCase.executar(request));
+
+        assertEquals(Set.of(LocalDate.of(2026, 1, 31), LocalDate.of(2026, 3, 2)), blocosExecutados);
+        assertTrue(erro.getMessage().contains("Bloco 3"));
+        final ProgressoBlocosIntervalo retomado = ProgressoBlocosIntervalo.para(diretorioProgresso, request);
+        assertEquals(2, retomado.totalConcluidos());
+        assertTrue(retomado.concluido(LocalDate.of(2026, 1, 31), LocalDate.of(2026, 3, 1)));
+    }
+
+    @Test
+    void paralelismoDeBlocosComIsolamentoDeveContarOPoolDeCadaProcessoFilho() {
+        // 2 steps simultaneos por bloco, cada um com pool de 10 conexoes: 40 conexoes cabem 2 blocos.
+        assertEquals(2, ExtracaoPorIntervaloUseCase.calcularParalelismoBlocos(6, 4, true, 10, 40));
+        assertEquals(1, ExtracaoPorIntervaloUseCase.calcularParalelismoBlocos(6, 4, true, 10, 15));
+        // Sem isolamento, os blocos dividem o pool do processo (2 conexoes por bloco).
+        assertEquals(4, ExtracaoPorIntervaloUseCase.calcularParalelismoBlocos(6, 4, false, 10, 15));
+        assertEquals(3, ExtracaoPorIntervaloUseCase.calcularParalelismoBlocos(3, 4, false, 10, 15));
+    }
+
     @Test
     void deveClassificarResumoErroApiComTimeoutComoTimeout() {
         final String reason = ExtracaoPorIntervaloUseCase.resolverReasonCodeResumo(
@@ -386,10 +487,21 @@ class ExtracaoPorIntervaloUseCaseTest {
         return new ExtracaoPorIntervaloUseCase(
             new NoOpPreBackfillReferencialColetasUseCase(),
             new PlanejadorEscopoExtracaoIntervalo(),
-            resourceName -> () -> { }
+            resourceName -> () -> { },
+            diretorioProgresso
         );
     }
 
+    private List<Path> listarProgresso() {
+        try (Stream<Path> arquivos = Files.list(diretorioProgresso)) {
+            return arquivos.toList();
+        } catch (final NoSuchFileException e) {
+            return List.of();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private PipelineOrchestrator criarOrchestrator() {
         final RetryPolicy retryPolicy = new RetryPolicy() {
             @Override
@@ -566,6 +678,26 @@ class ExtracaoPorIntervaloUseCaseTest {
         }
     }
 
+    private static final class LogPorPeriodoExtractionLogQueryPort implements ExtractionLogQueryPort {
+        @Override
+        public Optional<LogExtracaoInfo> buscarUltimoLogPorEntidadeNoIntervaloExecucao(
+            final String entidade,
+            final LocalDateTime inicio,
+            final LocalDateTime fim
+        ) {
+            return Optional.of(new LogExtracaoInfo(LogExtracaoInfo.StatusExtracao.COMPLETO, LocalDateTime.now(), 10));
+        }
+
+        @Override
+        public Optional<LogExtracaoInfo> buscarUltimaExtracaoPorPeriodo(
+            final String entidade,
+            final LocalDate dataInicio,
+            final LocalDate dataFim
+        ) {
+            return Optional.of(new LogExtracaoInfo(LogExtracaoInfo.StatusExtracao.COMPLETO, LocalDateTime.now(), 10));
+        }
+    }
+
     private static final class SequencialIntegridadePort implements IntegridadeEtlPort {
         private final Queue<ResultadoIntegridade> resultados;
 
@@ -0,0 +1,88 @@
+package br.com.extrator.aplicacao.materializacao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class FatoMaterializacaoExecutorParaleloTest {
+
+    @Test
+    void deveExecutarProceduresIndependentesAoMesmoTempoPreservandoOrdem() throws Exception {
+        final List<FatoMaterializacaoJanela> janelas = List.of(
+            FatoMaterializacaoJanela.padrao("dbo.sp_carga_fato_gestao_vista_fretes"),
+            FatoMaterializacaoJanela.padrao("dbo.sp_carga_fato_gestao_vista_faturas"),
+            FatoMaterializacaoJanela.padrao("dbo.sp_carga_fato_gestao_vista_coletores")
+        );
+        final CountDownLatch todasIniciadas = new CountDownLatch(janelas.size());
+
+        final List<FatoMaterializacaoProcedureResultado> resultados =
+            FatoMaterializacaoExecutorParalelo.executar(janelas, 3, janela -> {
+                todasIniciadas.countDown();
+                try {
+                    // Se a execucao fosse sequencial, a primeira procedure nunca veria as outras iniciarem.
+                    assertTrue(todasIniciadas.await(5, TimeUnit.SECONDS));
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return sucesso(janela.procedureName());
+            });
+
+        assertEquals(
+            janelas.stream().map(FatoMaterializacaoJanela::procedureName).toList(),
+            resultados.stream().map(FatoMaterializacaoProcedureResultado::procedureName).toList()
+        );
+        assertTrue(resultados.stream().allMatch(FatoMaterializacaoProcedureResultado::sucesso));
+    }
+
+    @Test
+    void deveSerializarProcedureNaoMapeadaERegistrarFalhaSemInterromperDemais() throws Exception {
+        final List<FatoMaterializacaoJanela> janelas = List.of(
+            FatoMaterializacaoJanela.padrao("dbo.sp_customizada"),
+            FatoMaterializacaoJanela.padrao("dbo.sp_carga_fato_gestao_vista_faturas")
+        );
+        final AtomicInteger simultaneas = new AtomicInteger();
+        final AtomicInteger maximoSimultaneas = new AtomicInteger();
+
+        final List<FatoMaterializacaoProcedureResultado> resultados =
+            FatoMaterializacaoExecutorParalelo.executar(janelas, 2, janela -> {
+                maximoSimultaneas.accumulateAndGet(simultaneas.incrementAndGet(), Math::max);
+                try {
+                    if (janela.procedureName().contains("customizada")) {
+                        throw new IllegalStateException("lock ocupado");
+                    }
+                    return sucesso(janela.procedureName());
+                } finally {
+                    simultaneas.decrementAndGet();
+                }
+            });
+
+        assertEquals(1, maximoSimultaneas.get());
+        assertFalse(resultados.get(0).sucesso());
+        assertEquals("lock ocupado", resultados.get(0).erro());
+        assertTrue(resultados.get(1).sucesso());
+    }
+
+    @Test
+    void deveDetectarConflitoApenasEntreEscritaELeitura() {
+        assertFalse(FatoMaterializacaoPlanejador.conflitam(
+            "dbo.sp_carga_fato_gestao_vista_fretes",
+            "dbo.sp_carga_fato_fretes_faturamento"
+        ));
+        assertTrue(FatoMaterializacaoPlanejador.conflitam(
+            "dbo.sp_carga_fato_gestao_vista_fretes",
+            "[dbo].[sp_carga_fato_gestao_vista_fretes]"
+        ));
+    }
+
+    private static FatoMaterializacaoProcedureResultado sucesso(final String procedure) {
+        return new FatoMaterializacaoProcedureResultado(procedure, 1L, 0L, null, Duration.ofMillis(10));
+    }
+}
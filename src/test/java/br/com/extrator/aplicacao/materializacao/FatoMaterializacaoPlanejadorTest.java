@@ -0,0 +1,123 @@
+package br.com.extrator.aplicacao.materializacao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class FatoMaterializacaoPlanejadorTest {
+    private static final LocalDate HOJE = LocalDate.of(2026, 6, 10);
+    private static final LocalDateTime ATUALIZADO_EM = LocalDateTime.of(2026, 6, 10, 8, 0);
+
+    @Test
+    void deveIgnorarProceduresSemAlteracaoERestringirJanelaDasAlteradas() {
+        final Map<String, FatoMaterializacaoFaixaAlterada> faixas = Map.of(
+            "faturas_por_cliente", faixa("faturas_por_cliente", LocalDate.of(2026, 5, 2), LocalDate.of(2026, 5, 4))
+        );
+
+        final FatoMaterializacaoPlanejador.Plano plano = FatoMaterializacaoPlanejador.planejar(
+            List.of("dbo.sp_carga_fato_gestao_vista_faturas", "dbo.sp_carga_fato_gestao_vista_coletores"),
+            faixas,
+            false,
+            HOJE
+        );
+
+        assertEquals(
+            List.of(new FatoMaterializacaoJanela(
+                "dbo.sp_carga_fato_gestao_vista_faturas",
+                LocalDate.of(2026, 5, 1),
+                LocalDate.of(2026, 5, 6)
+            )),
+            plano.janelas()
+        );
+        assertEquals(List.of("dbo.sp_carga_fato_gestao_vista_coletores"), plano.ignoradas());
+    }
+
+    @Test
+    void deveIncluirJanelaPadraoQuandoFonteNaoAlinhadaMudou() {
+        final Map<String, FatoMaterializacaoFaixaAlterada> faixas = Map.of(
+            "fretes", faixa("fretes", LocalDate.of(2026, 5, 20), LocalDate.of(2026, 5, 21)),
+            "faturas_por_cliente", faixa("faturas_por_cliente", LocalDate.of(2026, 6, 9), LocalDate.of(2026, 6, 9))
+        );
+
+        final FatoMaterializacaoPlanejador.Plano plano = FatoMaterializacaoPlanejador.planejar(
+            List.of("[dbo].[sp_carga_fato_fretes_faturamento]"),
+            faixas,
+            false,
+            HOJE
+        );
+
+        final FatoMaterializacaoJanela janela = plano.janelas().get(0);
+        assertEquals(LocalDate.of(2026, 5, 19), janela.dataInicio());
+        assertEquals(HOJE.plusDays(2), janela.dataFimExclusivo());
+    }
+
+    @Test
+    void deveUsarJanelaPadraoParaFaixaDesconhecidaEProcedureNaoMapeada() {
+        final Map<String, FatoMaterializacaoFaixaAlterada> faixas = Map.of(
+            "manifestos", new FatoMaterializacaoFaixaAlterada("manifestos", null, null, true, 3L, ATUALIZADO_EM)
+        );
+
+        final FatoMaterializacaoPlanejador.Plano plano = FatoMaterializacaoPlanejador.planejar(
+            List.of("dbo.sp_carga_fato_gestao_vista_manifestos", "dbo.sp_customizada"),
+            faixas,
+            false,
+            HOJE
+        );
+
+        assertEquals(
+            List.of(
+                FatoMaterializacaoJanela.padrao("dbo.sp_carga_fato_gestao_vista_manifestos"),
+                FatoMaterializacaoJanela.padrao("dbo.sp_customizada")
+            ),
+            plano.janelas()
+        );
+        assertTrue(plano.ignoradas().isEmpty());
+    }
+
+    @Test
+    void deveExecutarTodasNaRevarreduraDiaria() {
+        final FatoMaterializacaoPlanejador.Plano plano = FatoMaterializacaoPlanejador.planejar(
+            List.of("dbo.sp_carga_fato_gestao_vista_faturas"),
+            Map.of(),
+            true,
+            HOJE
+        );
+
+        assertEquals(List.of(FatoMaterializacaoJanela.padrao("dbo.sp_carga_fato_gestao_vista_faturas")), plano.janelas());
+    }
+
+    @Test
+    void deveConsumirFaixaSomenteQuandoTodasAsConsumidorasConcluiram() {
+        final FatoMaterializacaoFaixaAlterada faturas =
+            faixa("faturas_por_cliente", LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 2));
+        final FatoMaterializacaoFaixaAlterada cotacoes = faixa("cotacoes", null, null);
+        final List<FatoMaterializacaoProcedureResultado> resultados = List.of(
+            FatoMaterializacaoProcedureResultado.ignorada("dbo.sp_carga_fato_gestao_vista_faturas"),
+            FatoMaterializacaoProcedureResultado.falha(
+                "dbo.sp_carga_fato_fretes_faturamento",
+                new IllegalStateException("timeout"),
+                Duration.ofSeconds(1)
+            )
+        );
+
+        final List<FatoMaterializacaoFaixaAlterada> consumidas =
+            FatoMaterializacaoPlanejador.faixasConsumidas(List.of(faturas, cotacoes), resultados);
+
+        assertEquals(List.of(cotacoes), consumidas);
+        assertFalse(consumidas.contains(faturas));
+    }
+
+    private static FatoMaterializacaoFaixaAlterada faixa(final String tabela,
+                                                         final LocalDate minima,
+                                                         final LocalDate maxima) {
+        return new FatoMaterializacaoFaixaAlterada(tabela, minima, maxima, minima == null, 1L, ATUALIZADO_EM);
+    }
+}
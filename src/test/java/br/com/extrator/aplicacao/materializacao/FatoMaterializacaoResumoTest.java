@@ -39,5 +39,7 @@ class FatoMaterializacaoResumoTest {
         assertEquals(List.of(falha), resumo.proceduresComFalha());
         assertTrue(sucesso.sucesso());
         assertFalse(falha.sucesso());
+        assertEquals(Duration.ofMillis(1500), resumo.duracaoSomadaProcedures());
+        assertEquals(sucesso, resumo.procedureMaisLenta().orElseThrow());
     }
 }
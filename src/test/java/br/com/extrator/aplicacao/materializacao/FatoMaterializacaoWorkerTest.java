@@ -0,0 +1,216 @@
+package br.com.extrator.aplicacao.materializacao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.extrator.suporte.banco.NotificadorCommit;
+
+class FatoMaterializacaoWorkerTest {
+
+    @Test
+    void deveAgruparGatilhosRecebidosDuranteExecucaoEmUmaUnicaRodadaSeguinte() throws Exception {
+        final CountDownLatch primeiraIniciada = new CountDownLatch(1);
+        final CountDownLatch liberarPrimeira = new CountDownLatch(1);
+        final CountDownLatch segundaConcluida = new CountDownLatch(1);
+        final AtomicInteger execucoes = new AtomicInteger();
+
+        try (FatoMaterializacaoWorker worker = new FatoMaterializacaoWorker(
+            () -> {
+                if (execucoes.incrementAndGet() == 1) {
+                    primeiraIniciada.countDown();
+                    assertTrue(liberarPrimeira.await(5, TimeUnit.SECONDS));
+                } else {
+                    segundaConcluida.countDown();
+                }
+                return new FatoMaterializacaoResumo(List.of(), Duration.ofMillis(1));
+            },
+            Duration.ofSeconds(10),
+            Duration.ZERO,
+            null
+        )) {
+            worker.sinalizar("fretes");
+            assertTrue(primeiraIniciada.await(5, TimeUnit.SECONDS));
+            worker.sinalizar("manifestos");
+            worker.sinalizar("coletas");
+            worker.sinalizar("faturas_por_cliente");
+            liberarPrimeira.countDown();
+
+            assertTrue(segundaConcluida.await(5, TimeUnit.SECONDS));
+            aguardarOcioso(worker);
+            final FatoMaterializacaoWorker.Estado estado = worker.estado();
+            assertEquals(2, execucoes.get());
+            assertEquals(2L, estado.execucoes());
+            assertEquals(4L, estado.gatilhos());
+            assertEquals(2L, estado.gatilhosAgrupados());
+            assertEquals("faturas_por_cliente", estado.ultimaOrigem());
+            assertTrue(worker.consumirResumoConcluido().isPresent());
+            assertTrue(worker.consumirResumoConcluido().isEmpty());
+        }
+    }
+
+    @Test
+    void deveRegistrarTimeoutProprioSemDerrubarWorker() throws Exception {
+        try (FatoMaterializacaoWorker worker = new FatoMaterializacaoWorker(
+            () -> {
+                Thread.sleep(5_000L);
+                return null;
+            },
+            Duration.ofMillis(100),
+            Duration.ZERO,
+            null
+        )) {
+            worker.sinalizar("fretes");
+            final long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (worker.estado().execucoes() == 0 && System.nanoTime() < limite) {
+                Thread.sleep(10L);
+            }
+
+            final FatoMaterializacaoWorker.Estado estado = worker.estado();
+            assertEquals(1L, estado.execucoes());
+            assertTrue(estado.ultimoErro().contains("Timeout"));
+        }
+    }
+
+    @Test
+    void commitNotificadoDeveDispararExecucao() throws Exception {
+        final CountDownLatch executou = new CountDownLatch(1);
+
+        try (FatoMaterializacaoWorker worker = new FatoMaterializacaoWorker(
+            () -> {
+                executou.countDown();
+                return new FatoMaterializacaoResumo(List.of(), Duration.ofMillis(1));
+            },
+            Duration.ofSeconds(10),
+            Duration.ZERO,
+            null
+        );
+             AutoCloseable registro = NotificadorCommit.registrar(worker::sinalizar)) {
+            NotificadorCommit.notificar("fretes");
+
+            assertTrue(executou.await(5, TimeUnit.SECONDS));
+            assertEquals("fretes", worker.estado().ultimaOrigem());
+        }
+    }
+
+    @Test
+    void deveAgruparGatilhosRecebidosDuranteAtrasoEmUmaUnicaExecucao() throws Exception {
+        final AtomicInteger execucoes = new AtomicInteger();
+
+        try (FatoMaterializacaoWorker worker = new FatoMaterializacaoWorker(
+            () -> {
+                execucoes.incrementAndGet();
+                return new FatoMaterializacaoResumo(List.of(), Duration.ofMillis(1));
+            },
+            Duration.ofSeconds(10),
+            Duration.ofMillis(300),
+            null
+        )) {
+            worker.sinalizar("fretes");
+            worker.sinalizar("coletas");
+            worker.sinalizar("manifestos");
+            final long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (worker.estado().execucoes() == 0 && System.nanoTime() < limite) {
+                Thread.sleep(10L);
+            }
+
+            assertEquals(1, execucoes.get());
+            assertEquals(3L, worker.estado().gatilhos());
+            assertEquals(2L, worker.estado().gatilhosAgrupados());
+        }
+    }
+
+    @Test
+    void fecharDeveEscoarGatilhoPendenteSemEsperarAtraso() throws Exception {
+        final AtomicInteger execucoes = new AtomicInteger();
+        final FatoMaterializacaoWorker worker = new FatoMaterializacaoWorker(
+            () -> {
+                execucoes.incrementAndGet();
+                return new FatoMaterializacaoResumo(List.of(), Duration.ofMillis(1));
+            },
+            Duration.ofSeconds(10),
+            Duration.ofMinutes(10),
+            Duration.ofSeconds(5),
+            null
+        );
+        worker.sinalizar("fretes");
+
+        final long inicio = System.nanoTime();
+        worker.close();
+
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - inicio) < 5L);
+        assertEquals(1, execucoes.get());
+        assertEquals(FatoMaterializacaoWorker.Status.ENCERRADO, worker.estado().status());
+        assertTrue(worker.consumirResumoConcluido().isPresent());
+    }
+
+    @Test
+    void fecharDeveRespeitarLimiteDeEncerramentoComExecucaoTravada() throws Exception {
+        final CountDownLatch iniciada = new CountDownLatch(1);
+        final FatoMaterializacaoWorker worker = new FatoMaterializacaoWorker(
+            () -> {
+                iniciada.countDown();
+                Thread.sleep(60_000L);
+                return null;
+            },
+            Duration.ofMinutes(45),
+            Duration.ZERO,
+            Duration.ofMillis(200),
+            null
+        );
+        worker.sinalizar("fretes");
+        assertTrue(iniciada.await(5, TimeUnit.SECONDS));
+
+        final long inicio = System.nanoTime();
+        worker.close();
+
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - inicio) < 5L);
+        assertEquals(FatoMaterializacaoWorker.Status.ENCERRADO, worker.estado().status());
+        worker.sinalizar("coletas");
+        assertEquals(1L, worker.estado().gatilhos());
+    }
+
+    @Test
+    void fecharInterrompidoDevePreservarInterrupcaoEEncerrarWorker() throws Exception {
+        final CountDownLatch iniciada = new CountDownLatch(1);
+        final FatoMaterializacaoWorker worker = new FatoMaterializacaoWorker(
+            () -> {
+                iniciada.countDown();
+                Thread.sleep(60_000L);
+                return null;
+            },
+            Duration.ofMinutes(45),
+            Duration.ZERO,
+            Duration.ofSeconds(30),
+            null
+        );
+        worker.sinalizar("fretes");
+        assertTrue(iniciada.await(5, TimeUnit.SECONDS));
+
+        Thread.currentThread().interrupt();
+        final long inicio = System.nanoTime();
+        try {
+            worker.close();
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - inicio) < 5L);
+        assertEquals(FatoMaterializacaoWorker.Status.ENCERRADO, worker.estado().status());
+    }
+
+    private static void aguardarOcioso(final FatoMaterializacaoWorker worker) throws InterruptedException {
+        final long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (worker.estado().status() != FatoMaterializacaoWorker.Status.OCIOSO && System.nanoTime() < limite) {
+            Thread.sleep(10L);
+        }
+    }
+}
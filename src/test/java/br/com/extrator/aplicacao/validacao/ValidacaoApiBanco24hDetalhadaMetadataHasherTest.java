@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import org.junit.jupiter.api.Test;
 
+import br.com.extrator.suporte.json.PayloadCompactado;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
 
 class ValidacaoApiBanco24hDetalhadaMetadataHasherTest {
@@ -585,4 +586,29 @@ class ValidacaoApiBanco24hDetalhadaMetadataHasherTest {
             hasher.hashMetadata(ConstantesEntidades.FATURAS_POR_CLIENTE, alterado)
         );
     }
+
+    @Test
+    void deveHashearMetadataCompactadaIgualAoTexto() {
+        final String metadata = """
+            {
+              "id":"FRETE-1",
+              "accountingCreditId":"99",
+              "status":"delivering",
+              "cte":{"key":"3526","number":123}
+            }
+            """;
+
+        assertEquals(
+            hasher.hashMetadata(ConstantesEntidades.FRETES, metadata),
+            hasher.hashMetadataCompactado(ConstantesEntidades.FRETES, PayloadCompactado.compactar(metadata))
+        );
+        assertEquals(
+            hasher.hashMetadata(ConstantesEntidades.COLETAS, "nao-e-json"),
+            hasher.hashMetadataCompactado(ConstantesEntidades.COLETAS, PayloadCompactado.compactar("nao-e-json"))
+        );
+        assertEquals(
+            hasher.hashMetadata(ConstantesEntidades.COLETAS, null),
+            hasher.hashMetadataCompactado(ConstantesEntidades.COLETAS, null)
+        );
+    }
 }
@@ -1,8 +1,11 @@
 package br.com.extrator.aplicacao.validacao;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
@@ -21,4 +24,21 @@ class ValidacaoEtlExtremaUseCaseTest {
         assertTrue(ValidacaoEtlExtremaUseCase.deveExecutarStressApi(ConstantesEntidades.COLETAS));
         assertTrue(ValidacaoEtlExtremaUseCase.deveExecutarReplayIdempotencia(ConstantesEntidades.FRETES));
     }
+
+    @Test
+    void deveManterExecucaoSequencialSemEarlyExitPorPadrao() {
+        final ValidacaoEtlExtremaRequest request =
+            new ValidacaoEtlExtremaRequest(false, false, 3, false, false, LocalDate.of(2026, 7, 2));
+
+        assertEquals(1, request.paralelismoEntidades());
+        assertEquals(0, request.limiteFalhasEarlyExit());
+        assertFalse(request.earlyExitAtivo());
+    }
+
+    @Test
+    void deveInterromperSomenteQuandoLimiteDeFalhasForAtingido() {
+        assertFalse(ValidacaoEtlExtremaUseCase.limiteFalhasAtingido(5, 0));
+        assertFalse(ValidacaoEtlExtremaUseCase.limiteFalhasAtingido(1, 2));
+        assertTrue(ValidacaoEtlExtremaUseCase.limiteFalhasAtingido(2, 2));
+    }
 }
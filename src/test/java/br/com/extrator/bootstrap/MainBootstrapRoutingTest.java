@@ -3,8 +3,15 @@ package br.com.extrator.bootstrap;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Map;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import br.com.extrator.comandos.cli.CommandRegistry;
+import br.com.extrator.comandos.cli.base.Comando;
+import br.com.extrator.comandos.cli.base.Subsistema;
+
 class MainBootstrapRoutingTest {
 
     @Test
@@ -28,6 +35,28 @@ class MainBootstrapRoutingTest {
         assertTrue(Main.requerInicializacaoContexto("--validar-etl-extremo"));
     }
 
+    @Test
+    void comandosNaoDevemIniciarSubsistemasNaoDeclarados() {
+        for (final Map.Entry<String, Comando> entrada : CommandRegistry.criarMapaComandos().entrySet()) {
+            final String nome = entrada.getKey();
+            final Set<Subsistema> declarados = entrada.getValue().subsistemas();
+            if (!declarados.contains(Subsistema.CONTEXTO_PIPELINE)) {
+                assertFalse(Main.requerInicializacaoContexto(nome), nome);
+            }
+            if (!declarados.contains(Subsistema.BANCO_DADOS)) {
+                assertFalse(Main.gravaHistoricoNoBanco(nome), nome);
+            }
+        }
+        assertFalse(Main.gravaHistoricoNoBanco("--treinar-cds"));
+        assertFalse(Main.gravaHistoricoNoBanco("--comando-desconhecido"));
+    }
+
+    @Test
+    void introspeccaoDeveGravarHistoricoNoBancoSemContextoDoPipeline() {
+        assertTrue(Main.gravaHistoricoNoBanco("--introspeccao"));
+        assertFalse(Main.requerInicializacaoContexto("--introspeccao"));
+    }
+
     @Test
     void sincronizacaoUsuariosDeveEncerrarProcessoAoConcluir() {
         assertTrue(Main.deveEncerrarProcessoAoConcluir("--sincronizar-usuarios"));
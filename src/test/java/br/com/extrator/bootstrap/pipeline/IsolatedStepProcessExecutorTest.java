@@ -1,5 +1,6 @@
 package br.com.extrator.bootstrap.pipeline;
 
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -7,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import java.net.URISyntaxException;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
@@ -95,6 +97,33 @@ class IsolatedStepProcessExecutorTest {
         assertTrue(comando.contains("-Detl.parent.retry.max_attempts=3"));
     }
 
+    @Test
+    void blocosSimultaneosDoMesmoCicloDevemGravarLogsSeparados() {
+        ExecutionContext.initialize("--extracao-intervalo");
+        final IsolatedStepProcessExecutor executor = new IsolatedStepProcessExecutor();
+        final LocalDateTime agora = LocalDateTime.of(2026, 3, 18, 10, 15, 47);
+
+        final String primeiroBloco = executor.nomeArquivoLog(
+            IsolatedStepProcessExecutor.ApiType.GRAPHQL,
+            LocalDate.of(2026, 1, 1),
+            LocalDate.of(2026, 1, 30),
+            "fretes",
+            null,
+            agora
+        );
+        final String segundoBloco = executor.nomeArquivoLog(
+            IsolatedStepProcessExecutor.ApiType.GRAPHQL,
+            LocalDate.of(2026, 1, 31),
+            LocalDate.of(2026, 3, 1),
+            "fretes",
+            null,
+            agora
+        );
+
+        assertNotEquals(primeiroBloco, segundoBloco);
+        assertTrue(segundoBloco.contains("_2026-01-31_2026-03-01_"));
+    }
+
     private static final class HangingCommandExecutor extends IsolatedStepProcessExecutor {
         @Override
         protected List<String> construirComando(final ApiType apiType,
@@ -0,0 +1,125 @@
+package br.com.extrator.bootstrap.pipeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.extrator.suporte.concorrencia.ExecutionTimeoutException;
+
+class WarmStepWorkerPoolTest {
+    private static final LocalDate DIA = LocalDate.of(2026, 3, 18);
+
+    private final WarmStepWorkerPool pool = new WarmStepWorkerPool(1, 10);
+    private final IsolatedStepProcessExecutor executor = new WorkerFalsoExecutor(pool);
+
+    @AfterEach
+    void encerrarPool() {
+        pool.encerrar();
+    }
+
+    @Test
+    void stepsSeguidosDevemReutilizarAMesmaJvmAquecida() throws Exception {
+        final IsolatedStepProcessExecutor.ProcessExecutionResult primeiro = executar("fretes", IsolatedStepProcessExecutor.FaultMode.NONE, Duration.ofSeconds(30));
+        final IsolatedStepProcessExecutor.ProcessExecutionResult segundo = executar("coletas", IsolatedStepProcessExecutor.FaultMode.NONE, Duration.ofSeconds(30));
+
+        assertEquals(primeiro.pid(), segundo.pid());
+        assertTrue(Files.readString(segundo.logFile()).contains("step coletas"));
+        assertEquals(1, pool.totalOciosos());
+    }
+
+    @Test
+    void workerTravadoDeveSerMortoNoTimeoutESubstituido() throws Exception {
+        final long pidAquecido = executar("fretes", IsolatedStepProcessExecutor.FaultMode.NONE, Duration.ofSeconds(30)).pid();
+        final long inicioMs = System.currentTimeMillis();
+
+        assertThrows(
+            ExecutionTimeoutException.class,
+            () -> executar("fretes", IsolatedStepProcessExecutor.FaultMode.HANG_IGNORE_INTERRUPT, Duration.ofMillis(1_500L))
+        );
+
+        assertTrue(System.currentTimeMillis() - inicioMs < 10_000L);
+        assertFalse(ProcessHandle.of(pidAquecido).map(ProcessHandle::isAlive).orElse(false));
+        final long pidSeguinte = executar("fretes", IsolatedStepProcessExecutor.FaultMode.NONE, Duration.ofSeconds(30)).pid();
+        assertNotEquals(pidAquecido, pidSeguinte);
+    }
+
+    @Test
+    void falhaNoStepDeveDescartarAJvm() throws Exception {
+        final long pidAquecido = executar("fretes", IsolatedStepProcessExecutor.FaultMode.NONE, Duration.ofSeconds(30)).pid();
+
+        final IllegalStateException erro = assertThrows(
+            IllegalStateException.class,
+            () -> executar("fretes", IsolatedStepProcessExecutor.FaultMode.ERROR, Duration.ofSeconds(30))
+        );
+
+        assertTrue(erro.getMessage().contains("Falha simulada"));
+        assertNotEquals(pidAquecido, executar("fretes", IsolatedStepProcessExecutor.FaultMode.NONE, Duration.ofSeconds(30)).pid());
+    }
+
+    private IsolatedStepProcessExecutor.ProcessExecutionResult executar(final String entidade,
+                                                                       final IsolatedStepProcessExecutor.FaultMode faultMode,
+                                                                       final Duration timeout) throws Exception {
+        return executor.executar(IsolatedStepProcessExecutor.ApiType.GRAPHQL, DIA, DIA, entidade, faultMode, timeout);
+    }
+
+    private static final class WorkerFalsoExecutor extends IsolatedStepProcessExecutor {
+        private WorkerFalsoExecutor(final WarmStepWorkerPool pool) {
+            super(pool);
+        }
+
+        @Override
+        protected List<String> construirComandoWorker() {
+            return List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp",
+                System.getProperty("java.class.path"),
+                WorkerFalso.class.getName()
+            );
+        }
+    }
+
+    /**
+     * Worker minimo que fala o protocolo do pool sem inicializar o extrator.
+     */
+    public static final class WorkerFalso {
+        public static void main(final String[] args) throws Exception {
+            final BufferedReader entrada = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            String linha;
+            while ((linha = entrada.readLine()) != null) {
+                final WarmStepWorkerPool.PedidoStep pedido = WarmStepWorkerPool.PedidoStep.ler(linha);
+                switch (IsolatedStepProcessExecutor.FaultMode.fromCliValue(pedido.fault())) {
+                    case HANG_IGNORE_INTERRUPT -> {
+                        while (true) {
+                            Thread.sleep(1_000L);
+                        }
+                    }
+                    case ERROR -> System.out.println(WarmStepWorkerPool.PREFIXO_RESULTADO + "erro Falha simulada");
+                    default -> {
+                        Files.writeString(
+                            Path.of(pedido.arquivoLog()),
+                            "step " + pedido.entidade() + System.lineSeparator(),
+                            StandardOpenOption.APPEND
+                        );
+                        System.out.println(WarmStepWorkerPool.PREFIXO_RESULTADO + WarmStepWorkerPool.RESULTADO_OK);
+                    }
+                }
+                System.out.flush();
+            }
+        }
+    }
+}
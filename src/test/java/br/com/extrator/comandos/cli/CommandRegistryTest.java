@@ -17,6 +17,7 @@ Estrutura interna:
 Metodos principais:
 - deveConterComandosEssenciais(): verifica comportamento esperado em teste automatizado.
 - mapaDeveSerImutavel(): realiza operacao relacionada a "mapa deve ser imutavel".
+- comandosLevesDevemDeclararSoOsSubsistemasUsados(): verifica subsistemas declarados sem instanciar o comando.
 Atributos-chave:
 - Atributos nao mapeados automaticamente; consulte a implementacao abaixo.
 [DOC-FILE-END]============================================================== */
@@ -27,12 +28,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import br.com.extrator.comandos.cli.base.Comando;
+import br.com.extrator.comandos.cli.base.Subsistema;
 
 class CommandRegistryTest {
 
@@ -41,6 +45,7 @@ class CommandRegistryTest {
         final Map<String, Comando> comandos = CommandRegistry.criarMapaComandos();
         assertTrue(comandos.containsKey("--fluxo-completo"));
         assertTrue(comandos.containsKey("--fechamento-mensal"));
+        assertTrue(comandos.containsKey("--recontar-completude"));
         assertTrue(comandos.containsKey("--recovery"));
         assertTrue(comandos.containsKey("--expurgo-orfaos"));
         assertTrue(comandos.containsKey("--loop-daemon-run"));
@@ -73,4 +78,29 @@ class CommandRegistryTest {
 
         assertEquals(1, instanciacoes.get());
     }
+
+    @Test
+    void comandosLevesDevemDeclararSoOsSubsistemasUsados() {
+        final Map<String, Comando> comandos = CommandRegistry.criarMapaComandos();
+
+        assertEquals(Subsistema.nenhum(), comandos.get("--ajuda").subsistemas());
+        assertEquals(Subsistema.nenhum(), comandos.get("--loop-daemon-status").subsistemas());
+        assertEquals(Subsistema.nenhum(), comandos.get("--auth-check").subsistemas());
+        assertEquals(EnumSet.of(Subsistema.BANCO_DADOS), comandos.get("--introspeccao").subsistemas());
+        assertEquals(EnumSet.of(Subsistema.BANCO_DADOS), comandos.get("--validar").subsistemas());
+        assertEquals(Subsistema.todos(), comandos.get("--fluxo-completo").subsistemas());
+    }
+
+    @Test
+    void declararSubsistemasNaoDeveInstanciarComando() {
+        final AtomicInteger instanciacoes = new AtomicInteger();
+        final Comando comando = CommandRegistry.lazy(() -> {
+            instanciacoes.incrementAndGet();
+            return args -> {
+            };
+        }, Set.of(Subsistema.BANCO_DADOS));
+
+        assertEquals(EnumSet.of(Subsistema.BANCO_DADOS), comando.subsistemas());
+        assertEquals(0, instanciacoes.get());
+    }
 }
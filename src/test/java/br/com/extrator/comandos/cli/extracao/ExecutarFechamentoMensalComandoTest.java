@@ -6,11 +6,16 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import br.com.extrator.aplicacao.extracao.ExtracaoPorIntervaloRequest;
 import br.com.extrator.aplicacao.extracao.ExtracaoPorIntervaloUseCase;
+import br.com.extrator.aplicacao.portas.CompletudePort;
 
 class ExecutarFechamentoMensalComandoTest {
 
@@ -49,6 +54,58 @@ class ExecutarFechamentoMensalComandoTest {
         assertEquals(LocalDate.of(2025, 12, 31), useCase.requestCapturada.dataFim());
     }
 
+    @Test
+    void deveRecontarCadaDiaUtilDoMesFechadoAposExtrairOMes() throws Exception {
+        final CapturingExtracaoPorIntervaloUseCase useCase = new CapturingExtracaoPorIntervaloUseCase();
+        final List<LocalDate> recontagens = new ArrayList<>();
+        final ExecutarFechamentoMensalComando comando = new ExecutarFechamentoMensalComando(
+            useCase,
+            () -> LocalDate.of(2026, 7, 2),
+            data -> {
+                assertNotNull(useCase.requestCapturada);
+                recontagens.add(data);
+                return Map.of("fretes", CompletudePort.StatusCompletude.INCOMPLETO);
+            }
+        );
+
+        comando.executar(new String[] {"--fechamento-mensal"});
+
+        assertEquals(22, recontagens.size());
+        assertEquals(LocalDate.of(2026, 6, 1), recontagens.get(0));
+        assertEquals(LocalDate.of(2026, 6, 30), recontagens.get(recontagens.size() - 1));
+        assertFalse(recontagens.contains(LocalDate.of(2026, 6, 6)));
+        assertFalse(recontagens.contains(LocalDate.of(2026, 6, 7)));
+    }
+
+    @Test
+    void deveContarDivergenciasPorDiaEEntidade() {
+        final int divergencias = ExecutarFechamentoMensalComando.recontarCompletude(
+            data -> data.getDayOfMonth() == 3
+                ? Map.of("fretes", CompletudePort.StatusCompletude.INCOMPLETO)
+                : Map.of("fretes", CompletudePort.StatusCompletude.OK),
+            YearMonth.of(2026, 2)
+        );
+
+        assertEquals(1, divergencias);
+        assertEquals(20, ExecutarFechamentoMensalComando.diasUteis(YearMonth.of(2026, 2)).size());
+    }
+
+    @Test
+    void naoDeveFalharFechamentoQuandoRecontagemEstiverIndisponivel() throws Exception {
+        final CapturingExtracaoPorIntervaloUseCase useCase = new CapturingExtracaoPorIntervaloUseCase();
+        final ExecutarFechamentoMensalComando comando = new ExecutarFechamentoMensalComando(
+            useCase,
+            () -> LocalDate.of(2026, 7, 2),
+            data -> {
+                throw new IllegalStateException("AplicacaoContexto nao inicializado: CompletudePort ausente.");
+            }
+        );
+
+        comando.executar(new String[] {"--fechamento-mensal"});
+
+        assertNotNull(useCase.requestCapturada);
+    }
+
     private static final class CapturingExtracaoPorIntervaloUseCase extends ExtracaoPorIntervaloUseCase {
         private ExtracaoPorIntervaloRequest requestCapturada;
 
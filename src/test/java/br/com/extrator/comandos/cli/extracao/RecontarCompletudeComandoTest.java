@@ -0,0 +1,61 @@
+package br.com.extrator.comandos.cli.extracao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.extrator.aplicacao.portas.CompletudePort;
+
+class RecontarCompletudeComandoTest {
+
+    @Test
+    void deveRecontarMesAnteriorQuandoMesNaoInformado() throws Exception {
+        final List<LocalDate> recontagens = new ArrayList<>();
+        final RecontarCompletudeComando comando = new RecontarCompletudeComando(
+            () -> LocalDate.of(2026, 1, 15),
+            data -> {
+                recontagens.add(data);
+                return Map.of("fretes", CompletudePort.StatusCompletude.OK);
+            }
+        );
+
+        comando.executar(new String[] {"--recontar-completude"});
+
+        assertEquals(23, recontagens.size());
+        assertEquals(LocalDate.of(2025, 12, 1), recontagens.get(0));
+        assertEquals(LocalDate.of(2025, 12, 31), recontagens.get(recontagens.size() - 1));
+    }
+
+    @Test
+    void deveRecontarMesInformado() throws Exception {
+        final List<LocalDate> recontagens = new ArrayList<>();
+        final RecontarCompletudeComando comando = new RecontarCompletudeComando(
+            () -> LocalDate.of(2026, 7, 2),
+            data -> {
+                recontagens.add(data);
+                return Map.of();
+            }
+        );
+
+        comando.executar(new String[] {"--recontar-completude", "2026-02"});
+
+        assertEquals(LocalDate.of(2026, 2, 2), recontagens.get(0));
+        assertEquals(LocalDate.of(2026, 2, 27), recontagens.get(recontagens.size() - 1));
+    }
+
+    @Test
+    void deveRejeitarMesInvalido() {
+        final RecontarCompletudeComando comando = new RecontarCompletudeComando(
+            () -> LocalDate.of(2026, 7, 2),
+            data -> Map.of()
+        );
+
+        assertThrows(IllegalArgumentException.class, () -> comando.executar(new String[] {"--recontar-completude", "fev"}));
+    }
+}
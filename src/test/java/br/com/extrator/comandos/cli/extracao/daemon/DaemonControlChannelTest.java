@@ -0,0 +1,148 @@
+package br.com.extrator.comandos.cli.extracao.daemon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+class DaemonControlChannelTest {
+    private static final String TOKEN = "segredo-de-teste";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void deveAcordarEsperaAssimQueForceRunForSolicitado() throws Exception {
+        final DaemonStateStore store = novoStore();
+        try (DaemonControlChannel canal = DaemonControlChannel.abrir(store, 0, null, Map::of)) {
+            final long inicio = System.nanoTime();
+            final CompletableFuture<LoopDaemonRunHandler.WaitResult> espera = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return canal.aguardar(LocalDateTime.now().plusMinutes(10));
+                } catch (final InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            Thread.sleep(200L);
+            store.requestForceRun(PedidoCicloManual.de("Cotacoes, fretes", "2026-04-01", null));
+
+            assertEquals(LoopDaemonRunHandler.WaitResult.FORCE_RUN_REQUESTED, espera.get(20, TimeUnit.SECONDS));
+            assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - inicio) < 20L);
+        }
+
+        final PedidoCicloManual pedido = store.consumeForceRun().orElseThrow();
+        assertEquals(Set.of("cotacoes", "fretes"), pedido.entidades());
+        assertEquals(LocalDate.of(2026, 4, 1), pedido.dataFim());
+        assertTrue(store.consumeForceRun().isEmpty());
+    }
+
+    @Test
+    void deveAceitarComandosPeloEndpointHttpEmLoopback() throws Exception {
+        final DaemonStateStore store = novoStore();
+        final int porta;
+        try (ServerSocket livre = new ServerSocket(0)) {
+            porta = livre.getLocalPort();
+        }
+        try (DaemonControlChannel canal = DaemonControlChannel.abrir(store, porta, TOKEN, () -> Map.of("fase", "EXTRACAO"))) {
+            final HttpClient cliente = HttpClient.newHttpClient();
+
+            assertEquals(400, enviar(cliente, "POST", porta, "/force-run?data_inicio=ontem", TOKEN).statusCode());
+            assertEquals(405, enviar(cliente, "GET", porta, "/stop", TOKEN).statusCode());
+            assertEquals(202, enviar(cliente, "POST", porta, "/force-run?entidades=inventario", TOKEN).statusCode());
+            assertEquals(Set.of("inventario"), store.consumeForceRun().orElseThrow().entidades());
+
+            final Optional<JsonNode> status = LoopDaemonStatusHandler.consultarStatusAoVivo(canal.portaHttp(), TOKEN);
+            assertEquals("EXTRACAO", status.orElseThrow().path("fase").asText());
+
+            assertEquals(202, enviar(cliente, "POST", porta, "/stop", TOKEN).statusCode());
+            assertEquals(LoopDaemonRunHandler.WaitResult.STOP_REQUESTED, canal.aguardar(LocalDateTime.now().plusMinutes(10)));
+        }
+    }
+
+    @Test
+    void endpointHttpDeveRecusarPedidosSemTokenCorreto() throws Exception {
+        final DaemonStateStore store = novoStore();
+        final int porta = portaLivre();
+        try (DaemonControlChannel canal = DaemonControlChannel.abrir(store, porta, TOKEN, Map::of)) {
+            final HttpClient cliente = HttpClient.newHttpClient();
+
+            assertEquals(401, enviar(cliente, "POST", porta, "/stop", null).statusCode());
+            assertEquals(401, enviar(cliente, "POST", porta, "/force-run", "outro-token").statusCode());
+            assertEquals(401, enviar(cliente, "GET", porta, "/status", null).statusCode());
+            assertFalse(store.stopRequested());
+            assertFalse(store.forceRunRequested());
+        }
+    }
+
+    @Test
+    void endpointHttpNaoDeveAbrirSemToken() throws Exception {
+        final DaemonStateStore store = novoStore();
+        try (DaemonControlChannel canal = DaemonControlChannel.abrir(store, portaLivre(), " ", Map::of)) {
+            assertEquals(-1, canal.portaHttp());
+        }
+    }
+
+    @Test
+    void pedidoSoComEntidadesDeveUsarJanelaBaseDoCiclo() {
+        final PedidoCicloManual pedido = PedidoCicloManual.de("inventario", null, null)
+            .comIntervaloPadrao(LocalDate.of(2026, 4, 10));
+
+        assertEquals(LocalDate.of(2026, 4, 9), pedido.dataInicio());
+        assertEquals(LocalDate.of(2026, 4, 10), pedido.dataFim());
+        assertEquals(Set.of("inventario"), pedido.entidades());
+    }
+
+    @Test
+    void deveTratarConteudoLegadoComoCicloImediato() {
+        assertEquals(PedidoCicloManual.imediato(), PedidoCicloManual.ler("force-run@2026-04-10T08:00"));
+        assertEquals("ciclo_completo", PedidoCicloManual.ler(null).descrever());
+    }
+
+    private static HttpResponse<String> enviar(final HttpClient cliente,
+                                               final String metodo,
+                                               final int porta,
+                                               final String caminho,
+                                               final String token) throws Exception {
+        final HttpRequest.Builder requisicao = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + porta + caminho))
+            .method(metodo, HttpRequest.BodyPublishers.noBody());
+        if (token != null) {
+            requisicao.header(DaemonControlChannel.CABECALHO_TOKEN, token);
+        }
+        return cliente.send(requisicao.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int portaLivre() throws Exception {
+        try (ServerSocket livre = new ServerSocket(0)) {
+            return livre.getLocalPort();
+        }
+    }
+
+    private DaemonStateStore novoStore() {
+        final Path baseDir = tempDir.resolve("daemon");
+        return new DaemonStateStore(
+            baseDir,
+            baseDir.resolve("loop_daemon.state"),
+            baseDir.resolve("loop_daemon.pid"),
+            baseDir.resolve("loop_daemon.stop"),
+            baseDir.resolve("loop_daemon.force_run")
+        );
+    }
+}
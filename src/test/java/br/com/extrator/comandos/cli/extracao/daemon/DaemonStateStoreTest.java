@@ -27,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.OptionalLong;
 import java.util.Properties;
 
@@ -99,6 +100,20 @@ class DaemonStateStoreTest {
         assertEquals(3, store.readConsecutiveNonSuccessCycles());
     }
 
+    @Test
+    void devePreservarEstadoDaMaterializacaoEntreGravacoesDoCiclo() {
+        final DaemonStateStore store = novoStore();
+        store.saveState("RUNNING", 222L, "ciclo", null, null);
+
+        store.saveMaterializationState(Map.of("status", "EXECUTANDO", "runs", "2"));
+        store.saveState("WAITING_NEXT_CYCLE", 222L, "ciclo concluido", null, null);
+
+        final Properties estado = store.loadState();
+        assertEquals("WAITING_NEXT_CYCLE", estado.getProperty("status"));
+        assertEquals("EXECUTANDO", estado.getProperty("bi_materialization_status"));
+        assertEquals("2", estado.getProperty("bi_materialization_runs"));
+    }
+
     private DaemonStateStore novoStore() {
         return new DaemonStateStore(
             tempDir.resolve("daemon"),
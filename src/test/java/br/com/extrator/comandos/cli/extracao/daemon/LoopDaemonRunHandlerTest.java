@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -26,6 +27,7 @@ import br.com.extrator.aplicacao.materializacao.FatoMaterializacaoProcedureResul
 import br.com.extrator.aplicacao.materializacao.FatoMaterializacaoResumo;
 import br.com.extrator.comandos.cli.extracao.reconciliacao.LoopReconciliationService;
 import br.com.extrator.comandos.cli.extracao.reconciliacao.LoopReconciliationService.ReconciliationSummary;
+import br.com.extrator.suporte.banco.NotificadorCommit;
 
 class LoopDaemonRunHandlerTest {
 
@@ -63,6 +65,67 @@ class LoopDaemonRunHandlerTest {
         assertEquals("STOPPED", stateStore.loadState().getProperty("status"), "Estado final deve ser STOPPED");
     }
 
+    @Test
+    void forceRunComEscopoDeveRespeitarEntidadesEIntervaloPedidos() throws Exception {
+        final DaemonStateStore stateStore = novoStore();
+        final DaemonHistoryWriter historyWriter = novoHistoryWriter();
+        final AtomicInteger chamadaEspera = new AtomicInteger();
+        final AtomicInteger fluxosCompletos = new AtomicInteger();
+        final List<PedidoCicloManual> pedidosEscopo = new ArrayList<>();
+
+        final LoopDaemonRunHandler handler = new LoopDaemonRunHandler(
+            stateStore,
+            historyWriter,
+            fluxosCompletos::incrementAndGet,
+            () -> null,
+            (inicio, fimExtracao, sucesso, detalheFalha) -> null,
+            (proximoCiclo, store) -> {
+                try {
+                    return switch (chamadaEspera.getAndIncrement()) {
+                        case 0 -> {
+                            store.requestForceRun(PedidoCicloManual.de("inventario", null, null));
+                            yield LoopDaemonRunHandler.WaitResult.FORCE_RUN_REQUESTED;
+                        }
+                        case 1 -> {
+                            store.requestForceRun(PedidoCicloManual.de("cotacoes", "2026-04-01", "2026-04-02"));
+                            yield LoopDaemonRunHandler.WaitResult.FORCE_RUN_REQUESTED;
+                        }
+                        default -> LoopDaemonRunHandler.WaitResult.STOP_REQUESTED;
+                    };
+                } catch (final java.io.IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            },
+            cicloLog -> () -> { },
+            () -> 13579L,
+            LoopDaemonHandlerSupport.INTERVALO_MINUTOS_FALLBACK,
+            false,
+            () -> java.time.Duration.ofSeconds(30),
+            LoopDaemonRunHandlerTest::ignorarFechamento,
+            () -> LocalDate.of(1970, 1, 2),
+            null,
+            false,
+            Duration.ZERO,
+            pedidosEscopo::add
+        );
+
+        handler.executar();
+
+        // Pedidos com escopo nao rodam o fluxo completo: so o primeiro ciclo (sem pedido) roda.
+        assertEquals(1, fluxosCompletos.get());
+        assertEquals(2, pedidosEscopo.size());
+        final PedidoCicloManual soEntidade = pedidosEscopo.get(0);
+        assertEquals(Set.of("inventario"), soEntidade.entidades());
+        assertEquals(LocalDate.of(1970, 1, 1), soEntidade.dataInicio());
+        assertEquals(LocalDate.of(1970, 1, 2), soEntidade.dataFim());
+        assertEquals(Set.of("cotacoes"), pedidosEscopo.get(1).entidades());
+        assertEquals(LocalDate.of(2026, 4, 1), pedidosEscopo.get(1).dataInicio());
+        assertEquals(LocalDate.of(2026, 4, 2), pedidosEscopo.get(1).dataFim());
+        assertEquals("dataexport", LoopDaemonRunHandler.resolverApiEntidade("cotacoes"));
+        assertFalse(Files.exists(stateStore.getForceRunFile()), "Pedido manual deve ser consumido");
+        assertEquals(3L, handler.statusAoVivo().get("ciclos_concluidos"));
+    }
+
     @Test
     void deveAgendarProximoCicloComIntervaloDeSessentaMinutos() throws Exception {
         final DaemonStateStore stateStore = novoStore();
@@ -249,6 +312,51 @@ class LoopDaemonRunHandlerTest {
         assertTrue(conteudo.contains("materializacao_bi"), "Resumo do ciclo deve registrar materializacao BI");
     }
 
+    @Test
+    void materializacaoPorEventoDeveRodarForaDoCicloQuandoHouverCommit() throws Exception {
+        final DaemonStateStore stateStore = novoStore();
+        final DaemonHistoryWriter historyWriter = novoHistoryWriter();
+        final CompletableFuture<Void> materializou = new CompletableFuture<>();
+
+        final LoopDaemonRunHandler handler = new LoopDaemonRunHandler(
+            stateStore,
+            historyWriter,
+            () -> NotificadorCommit.notificar("fretes"),
+            () -> {
+                materializou.complete(null);
+                return new FatoMaterializacaoResumo(List.of(), Duration.ofMillis(5));
+            },
+            (inicio, fimExtracao, sucesso, detalheFalha) -> null,
+            (proximoCiclo, store) -> {
+                // Espera do ciclo: a materializacao acontece em paralelo.
+                materializou.join();
+                return LoopDaemonRunHandler.WaitResult.STOP_REQUESTED;
+            },
+            cicloLog -> () -> { },
+            () -> 24682L,
+            LoopDaemonHandlerSupport.INTERVALO_MINUTOS_FALLBACK,
+            false,
+            () -> java.time.Duration.ofSeconds(30),
+            LoopDaemonRunHandlerTest::ignorarFechamento,
+            () -> LocalDate.of(1970, 1, 2),
+            null,
+            true,
+            Duration.ZERO
+        );
+
+        handler.executar();
+
+        final Path logCiclo = localizarPrimeiroLogCiclo(tempDir.resolve("daemon").resolve("ciclos"));
+        final String conteudo = Files.readString(logCiclo, StandardCharsets.UTF_8);
+        final Properties estado = stateStore.loadState();
+
+        assertTrue(materializou.isDone());
+        assertTrue(conteudo.contains("materializacao_bi[modo=evento"));
+        assertEquals("ENCERRADO", estado.getProperty("bi_materialization_status"));
+        assertEquals("1", estado.getProperty("bi_materialization_runs"));
+        assertEquals("fretes", estado.getProperty("bi_materialization_last_trigger_origin"));
+    }
+
     @Test
     void falhaParcialDeMaterializacaoDeveSerRegistradaComoAlertaDoCiclo() throws Exception {
         final DaemonStateStore stateStore = novoStore();
@@ -481,6 +589,10 @@ class LoopDaemonRunHandlerTest {
         }
     }
 
+    private static void ignorarFechamento(final LocalDate dataInicio, final LocalDate dataFim) {
+        // fechamento mensal fora do escopo deste teste
+    }
+
     private DaemonStateStore novoStore() {
         return novoStore(tempDir.resolve("daemon"));
     }
@@ -41,13 +41,20 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -59,6 +66,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import br.com.extrator.aplicacao.extracao.FilaReplay;
+
 class LoopReconciliationServiceTest {
 
     private static final LocalDate HOJE = LocalDate.of(2026, 2, 20);
@@ -398,6 +407,170 @@ class LoopReconciliationServiceTest {
         }
     }
 
+    @Test
+    void filaSqlDeveAgruparDiasContiguosEmUmUnicoReplayEPriorizarFalhaDeCiclo() {
+        salvarEstadoInicial(
+            ONTEM.toString(),
+            "",
+            "2026-02-16|dataexport|manifestos,2026-02-17|dataexport|manifestos,2026-02-19|dataexport|manifestos"
+        );
+        final FilaReplayEmMemoria fila = new FilaReplayEmMemoria();
+        final List<String> execucoes = new ArrayList<>();
+        final LoopReconciliationService service = new LoopReconciliationService(
+            stateFile,
+            clock,
+            true,
+            2,
+            0,
+            new LoopReconciliationService.ReconciliationExecutor() {
+                @Override
+                public CompletionStage<Void> execute(final LocalDate data, final String api, final String entidade) {
+                    throw new IllegalStateException("fila deve executar por intervalo");
+                }
+
+                @Override
+                public CompletionStage<Void> executeIntervalo(final LocalDate inicio,
+                                                              final LocalDate fim,
+                                                              final String api,
+                                                              final String entidade) {
+                    execucoes.add(inicio + ".." + fim + "|" + api + "|" + entidade);
+                    return "fretes".equals(entidade) ? falha("falha simulada") : sucesso();
+                }
+            },
+            fila,
+            Duration.ofHours(1),
+            31
+        );
+
+        final var resumo = service.processarPosCiclo(
+            LocalDateTime.of(2026, 2, 20, 10, 0),
+            LocalDateTime.of(2026, 2, 20, 10, 30),
+            false,
+            "Fluxo completo concluido com falhas parciais. Runners falhados: GraphQL/fretes"
+        );
+
+        assertEquals(
+            List.of("2026-02-20..2026-02-20|graphql|fretes", "2026-02-16..2026-02-17|dataexport|manifestos"),
+            execucoes
+        );
+        assertEquals(2, resumo.getReconciliacoesExecutadas());
+        assertEquals(1, resumo.getFalhas());
+        assertEquals(List.of(LocalDate.of(2026, 2, 19), HOJE), resumo.getPendenciasRestantes());
+        assertEquals(1, fila.itens.get("2026-02-20|graphql|fretes").tentativas());
+        assertTrue(fila.leases.isEmpty(), "Nenhum item deve permanecer arrendado apos o ciclo.");
+        assertEquals("", carregarEstado(stateFile).getProperty("pending_targets"));
+    }
+
+    @Test
+    void primeiroLoteDevePararNaPrimeiraLacunaOuNoLimiteDeDias() {
+        final List<FilaReplay.ItemReplay> arrendados = List.of(
+            item("2026-02-01"),
+            item("2026-02-02"),
+            item("2026-02-03"),
+            item("2026-02-05")
+        );
+
+        final var lote = LoopReconciliationService.primeiroLote(arrendados, 31);
+        assertEquals(LocalDate.of(2026, 2, 1), lote.inicio());
+        assertEquals(LocalDate.of(2026, 2, 3), lote.fim());
+        assertEquals(3, lote.itens().size());
+        assertEquals(LocalDate.of(2026, 2, 2), LoopReconciliationService.primeiroLote(arrendados, 2).fim());
+        assertEquals(
+            LocalDateTime.of(2026, 2, 20, 16, 0),
+            LoopReconciliationService.proximaTentativa(9, LocalDateTime.of(2026, 2, 20, 10, 0))
+        );
+    }
+
+    private static FilaReplay.ItemReplay item(final String data) {
+        return new FilaReplay.ItemReplay("dataexport", "manifestos", LocalDate.parse(data), 0, 0);
+    }
+
+    /**
+     * Mesma semantica de arrendamento da fila SQL: escopo do item mais prioritario, dias em ordem.
+     */
+    private static final class FilaReplayEmMemoria implements FilaReplay {
+        private final Map<String, ItemReplay> itens = new LinkedHashMap<>();
+        private final Map<String, String> leases = new HashMap<>();
+        private final Map<String, LocalDateTime> disponivelEm = new HashMap<>();
+
+        private static String chave(final ItemReplay item) {
+            return item.data() + "|" + item.api() + "|" + item.entidade();
+        }
+
+        @Override
+        public boolean isDisponivel() {
+            return true;
+        }
+
+        @Override
+        public void enfileirar(final Collection<ItemReplay> novos, final String origem) {
+            for (final ItemReplay item : novos) {
+                itens.merge(chave(item), item, (atual, novo) -> novo.prioridade() > atual.prioridade()
+                    ? new ItemReplay(atual.api(), atual.entidade(), atual.data(), novo.prioridade(), atual.tentativas())
+                    : atual);
+            }
+        }
+
+        @Override
+        public List<ItemReplay> arrendar(final String dono,
+                                         final int limite,
+                                         final LocalDate dataMaxima,
+                                         final LocalDateTime agora,
+                                         final Duration lease) {
+            final List<ItemReplay> disponiveis = itens.values().stream()
+                .filter(item -> !item.data().isAfter(dataMaxima))
+                .filter(item -> !leases.containsKey(chave(item)))
+                .filter(item -> !disponivelEm.getOrDefault(chave(item), agora).isAfter(agora))
+                .sorted(Comparator.comparingInt(ItemReplay::prioridade).reversed().thenComparing(ItemReplay::data))
+                .toList();
+            if (disponiveis.isEmpty()) {
+                return List.of();
+            }
+            final ItemReplay ancora = disponiveis.get(0);
+            final List<ItemReplay> arrendados = disponiveis.stream()
+                .filter(item -> item.api().equals(ancora.api()) && item.entidade().equals(ancora.entidade()))
+                .sorted(Comparator.comparing(ItemReplay::data))
+                .limit(limite)
+                .toList();
+            arrendados.forEach(item -> leases.put(chave(item), dono));
+            return arrendados;
+        }
+
+        @Override
+        public void concluir(final Collection<ItemReplay> concluidos, final String dono) {
+            for (final ItemReplay item : concluidos) {
+                if (dono.equals(leases.remove(chave(item)))) {
+                    itens.remove(chave(item));
+                }
+            }
+        }
+
+        @Override
+        public void falhar(final Collection<ItemReplay> falhos,
+                           final String dono,
+                           final LocalDateTime proximaTentativa,
+                           final String erro) {
+            for (final ItemReplay item : falhos) {
+                if (dono.equals(leases.remove(chave(item)))) {
+                    itens.computeIfPresent(chave(item), (chave, atual) -> new ItemReplay(
+                        atual.api(), atual.entidade(), atual.data(), atual.prioridade(), atual.tentativas() + 1
+                    ));
+                    disponivelEm.put(chave(item), proximaTentativa);
+                }
+            }
+        }
+
+        @Override
+        public void liberar(final Collection<ItemReplay> liberados, final String dono) {
+            liberados.forEach(item -> leases.remove(chave(item), dono));
+        }
+
+        @Override
+        public List<LocalDate> datasPendentes() {
+            return itens.values().stream().map(ItemReplay::data).distinct().sorted().toList();
+        }
+    }
+
     private static CompletableFuture<Void> sucesso() {
         return CompletableFuture.completedFuture(null);
     }
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 import org.junit.jupiter.api.Test;
@@ -25,4 +26,14 @@ class DataExportTimeWindowSupportTest {
         assertEquals(Duration.ofHours(24), Duration.between(inicio, fim));
         assertEquals("2026-03-09 - 2026-03-09", support.formatarRange(inicio, fim));
     }
+
+    @Test
+    void deveFormatarRangeComHoraQuandoInicioForPreciso() {
+        final DataExportTimeWindowSupport support = new DataExportTimeWindowSupport(ZoneId.of("America/Sao_Paulo"));
+
+        final Instant inicio = support.instante(LocalDateTime.of(2026, 3, 9, 13, 50));
+        final Instant fim = support.fimDoDia(LocalDate.of(2026, 3, 9));
+
+        assertEquals("2026-03-09 13:50 - 2026-03-09 23:59", support.formatarRange(inicio, fim));
+    }
 }
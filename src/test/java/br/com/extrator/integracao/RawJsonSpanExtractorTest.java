@@ -0,0 +1,86 @@
+package br.com.extrator.integracao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import br.com.extrator.dominio.dataexport.manifestos.ManifestoDTO;
+import br.com.extrator.dominio.graphql.fretes.FreteNodeDTO;
+import br.com.extrator.integracao.mapeamento.dataexport.manifestos.ManifestoMapper;
+import br.com.extrator.suporte.mapeamento.MapperUtil;
+
+class RawJsonSpanExtractorTest {
+
+    @Test
+    void deveRecortarCadaRegistroExatamenteComoVeioNoCorpo() {
+        final String primeiro = "{ \"sequence_code\" : 10, \"km\":\"460.00\", \"nome\":\"S\\u00e3o José\" }";
+        final String segundo = "{\"sequence_code\":11,\"itens\":[{\"a\":1},{\"b\":[2,3]}]}";
+        final String corpo = "{\"meta\":{\"data\":[]},\"data\":[ " + primeiro + " ,\n null, " + segundo + "]}";
+
+        final List<String> trechos = RawJsonSpanExtractor.extrair(corpo, "data", RawJsonSpanExtractor.CADA_ELEMENTO);
+
+        assertEquals(Arrays.asList(primeiro, null, segundo), trechos);
+    }
+
+    @Test
+    void deveSeguirEdgesNodeIgnorandoEdgesSemNode() throws Exception {
+        final String node = "{\"id\":1,\"totalCubicVolume\":1.50}";
+        final String corpo = "{\"data\":{\"freight\":{\"edges\":[{\"cursor\":\"a\"},{\"node\":" + node
+            + ",\"cursor\":\"b\"}],\"pageInfo\":{\"hasNextPage\":false}}}}";
+        final JsonNode dadosEntidade = MapperUtil.sharedJson().readTree(corpo).get("data").get("freight");
+
+        final List<String> trechos = RawJsonSpanExtractor.extrair(
+            corpo,
+            GraphQLTypedResponseParser.caminhoRegistros(dadosEntidade, "freight")
+        );
+        final GraphQLTypedResponseParser.ParsedGraphQLPage<FreteNodeDTO> pagina =
+            new GraphQLTypedResponseParser(MapperUtil.sharedJson()).extrairPagina(dadosEntidade, "freight", FreteNodeDTO.class, trechos);
+
+        assertEquals(List.of(node), trechos);
+        assertEquals(node, pagina.entidades().get(0).getJsonOriginal());
+    }
+
+    @Test
+    void mapperDeveGravarOJsonOriginalComoMetadata() throws Exception {
+        final String registro = "{\"sequence_code\":69533,\"km\":460.00,\"campo_novo\":{\"x\":true}}";
+        final String corpo = "{\"data\":[" + registro + "]}";
+        final List<ManifestoDTO> dtos = MapperUtil.sharedJson().convertValue(
+            MapperUtil.sharedJson().readTree(corpo).get("data"),
+            new TypeReference<List<ManifestoDTO>>() {}
+        );
+
+        RawJsonSpanExtractor.anexar(dtos, corpo, "data", RawJsonSpanExtractor.CADA_ELEMENTO);
+
+        assertEquals(registro, new ManifestoMapper().toEntity(dtos.get(0)).getMetadata());
+    }
+
+    @Test
+    void semJsonOriginalMetadataDeveSerReserializadaENaoVazarOCampoInterno() {
+        final ManifestoDTO dto = new ManifestoDTO();
+        dto.setSequenceCode(69533L);
+
+        final String metadata = new ManifestoMapper().toEntity(dto).getMetadata();
+
+        assertTrue(metadata.contains("\"sequence_code\":69533"));
+        dto.setJsonOriginal("{\"sequence_code\":69533}");
+        assertFalse(MapperUtil.toJson(dto).contains("jsonOriginal"));
+    }
+
+    @Test
+    void contagemDivergenteNaoDeveAssociarTrechos() {
+        final List<ManifestoDTO> dtos = List.of(new ManifestoDTO(), new ManifestoDTO());
+
+        RawJsonSpanExtractor.anexar(dtos, "{\"data\":[{\"sequence_code\":1}]}", "data", RawJsonSpanExtractor.CADA_ELEMENTO);
+
+        assertNull(dtos.get(0).getJsonOriginal());
+    }
+}
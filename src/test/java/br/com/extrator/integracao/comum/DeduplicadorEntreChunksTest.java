@@ -0,0 +1,159 @@
+package br.com.extrator.integracao.comum;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.extrator.dominio.RegistroComJsonOriginal;
+import br.com.extrator.integracao.PageChunkConsumer;
+import br.com.extrator.integracao.ResultadoExtracao;
+
+class DeduplicadorEntreChunksTest {
+
+    @AfterEach
+    void limparOverrides() {
+        System.clearProperty("etl.dedup.entre_chunks.max_chaves");
+    }
+
+    @Test
+    void repeticaoIdenticaEmOutroChunkNaoDeveSerReenviada() {
+        final DeduplicadorEntreChunks<Registro> deduplicador = new DeduplicadorEntreChunks<>(Registro::chave, 100);
+
+        assertEquals(2, deduplicador.filtrar(List.of(new Registro("a", "{\"v\":1}"), new Registro("b", "{\"v\":1}"))).size());
+        final List<Registro> segundo = deduplicador.filtrar(List.of(new Registro("a", "{\"v\":1}"), new Registro("c", "{}")));
+
+        assertEquals(List.of("c"), segundo.stream().map(Registro::chave).toList());
+        assertEquals(3, deduplicador.getTotalChaves());
+        assertEquals(1, deduplicador.getRepeticoesDescartadas());
+        assertEquals(0, deduplicador.getVersoesEmChunkPosterior());
+    }
+
+    @Test
+    void versaoDiferenteOuSemJsonOriginalDeveSeguirParaOMerge() {
+        final DeduplicadorEntreChunks<Registro> deduplicador = new DeduplicadorEntreChunks<>(Registro::chave, 100);
+        deduplicador.filtrar(List.of(new Registro("a", "{\"v\":1}"), new Registro("b", null)));
+
+        final List<Registro> segundo = deduplicador.filtrar(List.of(
+            new Registro("a", "{\"v\":2}"),
+            new Registro("b", null),
+            new Registro(null, "{}")
+        ));
+
+        assertEquals(3, segundo.size());
+        assertEquals(2, deduplicador.getVersoesEmChunkPosterior());
+        assertEquals(0, deduplicador.getRepeticoesDescartadas());
+    }
+
+    @Test
+    void limiteDeChavesDeveDeixarChavesNovasPassaremSemRastreio() {
+        final DeduplicadorEntreChunks<Registro> deduplicador = new DeduplicadorEntreChunks<>(Registro::chave, 3_000);
+        final List<Registro> chunk = IntStream.range(0, 5_000).mapToObj(i -> new Registro("k" + i, "{}")).toList();
+
+        assertEquals(5_000, deduplicador.filtrar(chunk).size());
+        assertTrue(deduplicador.isSaturado());
+        assertEquals(3_000, deduplicador.getTotalChaves());
+        assertEquals(2_000, deduplicador.filtrar(chunk).size());
+        assertEquals(3_000, deduplicador.getRepeticoesDescartadas());
+    }
+
+    @Test
+    void extracaoEmChunksDeveSalvarCadaChunkSemReenviarRepeticoes() throws Exception {
+        final ExtractorFalso extractor = new ExtractorFalso(List.of(
+            List.of(new Registro("a", "{\"v\":1}"), new Registro("b", "{\"v\":1}")),
+            List.of(new Registro("b", "{\"v\":1}"), new Registro("c", "{\"v\":1}"))
+        ));
+
+        final ChunkedExtractionOutcome<Registro> outcome = extractor.extractAndSaveWithMetrics(LocalDate.now(), LocalDate.now());
+
+        assertEquals(List.of(2, 1), extractor.tamanhosSalvos);
+        assertEquals(3, outcome.getSaveMetrics().getTotalUnicos());
+    }
+
+    @Test
+    void extracaoSemChunksDeveSalvarOsDadosDoResultado() throws Exception {
+        System.setProperty("etl.dedup.entre_chunks.max_chaves", "0");
+        final ExtractorFalso extractor = new ExtractorFalso(List.of());
+        extractor.dadosSemChunk = List.of(new Registro("a", "{}"), new Registro("a", "{}"));
+
+        extractor.extractAndSaveWithMetrics(null, null);
+
+        assertEquals(List.of(2), extractor.tamanhosSalvos);
+    }
+
+    private static final class Registro implements RegistroComJsonOriginal {
+        private final String chave;
+        private String jsonOriginal;
+
+        private Registro(final String chave, final String jsonOriginal) {
+            this.chave = chave;
+            this.jsonOriginal = jsonOriginal;
+        }
+
+        String chave() {
+            return chave;
+        }
+
+        @Override
+        public String getJsonOriginal() {
+            return jsonOriginal;
+        }
+
+        @Override
+        public void setJsonOriginal(final String jsonOriginal) {
+            this.jsonOriginal = jsonOriginal;
+        }
+    }
+
+    private static final class ExtractorFalso implements ChunkedEntityExtractor<Registro> {
+        private final List<List<Registro>> chunks;
+        private final List<Integer> tamanhosSalvos = new ArrayList<>();
+        private List<Registro> dadosSemChunk = List.of();
+
+        private ExtractorFalso(final List<List<Registro>> chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        public ResultadoExtracao<Registro> extractInChunks(final LocalDate dataInicio,
+                                                           final LocalDate dataFim,
+                                                           final PageChunkConsumer<Registro> chunkConsumer) {
+            for (final List<Registro> chunk : chunks) {
+                try {
+                    chunkConsumer.process(chunk);
+                } catch (final Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return ResultadoExtracao.completo(dadosSemChunk, 1, dadosSemChunk.size());
+        }
+
+        @Override
+        public ResultadoExtracao<Registro> extract(final LocalDate dataInicio, final LocalDate dataFim) {
+            return ResultadoExtracao.completo(dadosSemChunk, 1, dadosSemChunk.size());
+        }
+
+        @Override
+        public int save(final List<Registro> dtos) {
+            tamanhosSalvos.add(dtos.size());
+            return dtos.size();
+        }
+
+        @Override
+        public Function<Registro, ?> chaveNaturalEntreChunks() {
+            return Registro::chave;
+        }
+
+        @Override
+        public String getEntityName() {
+            return "registros";
+        }
+    }
+}
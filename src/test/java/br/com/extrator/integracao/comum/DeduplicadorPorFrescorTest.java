@@ -0,0 +1,89 @@
+package br.com.extrator.integracao.comum;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class DeduplicadorPorFrescorTest {
+    private static final OffsetDateTime BASE = OffsetDateTime.of(2026, 3, 18, 10, 0, 0, 0, ZoneOffset.ofHours(-3));
+
+    private record Registro(String chave, OffsetDateTime atualizadoEm, LocalDate criadoEm, String valor) {
+    }
+
+    private static final DeduplicadorPorFrescor<Registro> DEDUPLICADOR = DeduplicadorPorFrescor
+        .<Registro>porChave(Registro::chave)
+        .comFrescor(r -> ChaveFrescor.de(r.atualizadoEm(), r.criadoEm()));
+
+    @Test
+    void deveManterOMaisFrescoNaPosicaoDaPrimeiraOcorrencia() {
+        final List<Registro> resultado = DEDUPLICADOR.deduplicar(List.of(
+            new Registro("a", BASE, null, "a1"),
+            new Registro("b", BASE, null, "b1"),
+            new Registro("a", BASE.plusNanos(1_000), null, "a2"),
+            new Registro("a", BASE.minusDays(1), null, "a3")
+        ));
+
+        assertEquals(List.of("a2", "b1"), resultado.stream().map(Registro::valor).toList());
+    }
+
+    @Test
+    void campoNuloDeveFicarAbaixoDeQualquerDataEDesempatarPeloCampoSeguinte() {
+        final List<Registro> resultado = DEDUPLICADOR.deduplicar(List.of(
+            new Registro("a", BASE, LocalDate.of(2026, 1, 1), "com-data"),
+            new Registro("a", null, LocalDate.of(2027, 1, 1), "sem-data"),
+            new Registro("b", BASE, LocalDate.of(2026, 1, 2), "b-recente"),
+            new Registro("b", BASE, LocalDate.of(2026, 1, 1), "b-antigo")
+        ));
+
+        assertEquals(List.of("com-data", "b-recente"), resultado.stream().map(Registro::valor).toList());
+    }
+
+    @Test
+    void chaveDeveSeguirACompareToDeOffsetDateTime() {
+        final OffsetDateTime mesmoInstanteEmUtc = BASE.withOffsetSameInstant(ZoneOffset.UTC);
+
+        assertEquals(
+            Integer.signum(mesmoInstanteEmUtc.compareTo(BASE)),
+            Integer.signum(ChaveFrescor.de(mesmoInstanteEmUtc).compareTo(ChaveFrescor.de(BASE)))
+        );
+        assertEquals(0, ChaveFrescor.de(BASE).compareTo(ChaveFrescor.de(BASE.plusSeconds(0))));
+        assertTrue(ChaveFrescor.de(BASE.minusYears(500)).compareTo(ChaveFrescor.de((OffsetDateTime) null)) > 0);
+    }
+
+    @Test
+    void empateDeveUsarDesempateEConsolidarComOPerdedor() {
+        final List<String> consolidacoes = new ArrayList<>();
+        final List<Registro> resultado = DEDUPLICADOR
+            .comDesempate((atual, candidato) -> atual.valor().compareTo(candidato.valor()) >= 0 ? atual : candidato)
+            .comConsolidacao((vencedor, perdedor) -> consolidacoes.add(vencedor.valor() + "<" + perdedor.valor()))
+            .deduplicar(List.of(
+                new Registro("a", BASE, null, "x"),
+                new Registro("a", BASE, null, "z"),
+                new Registro("a", BASE, null, "y")
+            ));
+
+        assertEquals("z", resultado.get(0).valor());
+        assertEquals(List.of("z<x", "z<y"), consolidacoes);
+    }
+
+    @Test
+    void semFrescorDeveManterOUltimoEPropagarErroDeChave() {
+        final DeduplicadorPorFrescor<Registro> keepLast = DeduplicadorPorFrescor.porChave(r -> {
+            if (r.chave() == null) {
+                throw new IllegalStateException("sem chave");
+            }
+            return r.chave();
+        });
+
+        assertEquals("a2", keepLast.deduplicar(List.of(new Registro("a", BASE, null, "a1"), new Registro("a", null, null, "a2"))).get(0).valor());
+        assertThrows(IllegalStateException.class, () -> keepLast.deduplicar(List.of(new Registro(null, BASE, null, "x"))));
+    }
+}
@@ -43,6 +43,7 @@ import org.junit.jupiter.api.Test;
 
 import br.com.extrator.integracao.PageChunkConsumer;
 import br.com.extrator.integracao.ResultadoExtracao;
+import br.com.extrator.persistencia.entidade.LogExtracaoEntity;
 import br.com.extrator.suporte.validacao.ConstantesEntidades;
 
 class ExtractionLoggerTest {
@@ -157,6 +158,19 @@ class ExtractionLoggerTest {
         assertTrue(result.isSucesso());
     }
 
+    @Test
+    void deveGravarMetricasTipadasNoLogDeExtracao() {
+        final ResultadoExtracao<String> resultadoExtracao = ResultadoExtracao.completo(List.of("a", "b", "c"), 2, 3);
+        final DataExportEntityExtractor.SaveResult saveResult = new DataExportEntityExtractor.SaveResult(2, 2, 1);
+        final LogExtracaoEntity log = executar(resultadoExtracao, saveResult).toLogEntity();
+
+        assertEquals(2, log.getUniqueCount());
+        assertEquals(2, log.getDbUpserts());
+        assertEquals(1, log.getInvalidCount());
+        assertEquals(2, log.getPaginasProcessadas());
+        assertEquals(0L, log.getBytesRecebidos());
+    }
+
     private ExtractionResult executar(final ResultadoExtracao<String> resultadoExtracao,
                                       final DataExportEntityExtractor.SaveResult saveResult) {
         return executar(resultadoExtracao, saveResult, false);
@@ -1,21 +1,25 @@
 package br.com.extrator.integracao.dataexport.extractors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import br.com.extrator.dominio.dataexport.faturaporcliente.FaturaPorClienteDTO;
 import br.com.extrator.integracao.ClienteApiDataExport;
+import br.com.extrator.integracao.PageChunkConsumer;
 import br.com.extrator.integracao.ResultadoExtracao;
 import br.com.extrator.integracao.mapeamento.dataexport.faturaporcliente.FaturaPorClienteMapper;
 import br.com.extrator.persistencia.entidade.FaturaPorClienteEntity;
 import br.com.extrator.persistencia.repositorio.FaturaPorClienteRepository;
 import br.com.extrator.suporte.console.LoggerConsole;
+import br.com.extrator.suporte.mapeamento.MapperUtil;
 
 class FaturaPorClienteExtractorTest {
 
@@ -63,6 +67,40 @@ class FaturaPorClienteExtractorTest {
         assertEquals(LocalDate.of(2026, 4, 14), repository.salvos.get(0).getDataVencimentoFatura());
     }
 
+    @Test
+    void naoDeveReenviarFaturaIdenticaRepetidaEmOutroChunk() throws Exception {
+        final FakeFaturaPorClienteRepository repository = new FakeFaturaPorClienteRepository();
+        final FaturaPorClienteDTO primeira = comJsonOriginal(faturaBase());
+        final FaturaPorClienteDTO outra = faturaBase();
+        outra.setCteNumber(55140L);
+        outra.setCteKey("35123456789012345678901234567890123456789013");
+        final FaturaPorClienteDTO terceira = faturaBase();
+        terceira.setCteNumber(55141L);
+        terceira.setCteKey("35123456789012345678901234567890123456789014");
+        // A mesma fatura volta na pagina seguinte com o mesmo trecho JSON.
+        final FaturaPorClienteDTO repetida = comJsonOriginal(faturaBase());
+        final FaturaPorClienteExtractor extractor = new FaturaPorClienteExtractor(
+            new FakeClienteApiDataExport(List.of(
+                List.of(primeira, comJsonOriginal(outra)),
+                List.of(repetida, comJsonOriginal(terceira))
+            )),
+            repository,
+            new FaturaPorClienteMapper(),
+            LoggerConsole.getLogger(FaturaPorClienteExtractorTest.class)
+        );
+
+        final var outcome = extractor.extractAndSaveWithMetrics(LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 3));
+
+        assertEquals(List.of(2, 1), repository.tamanhosSalvos);
+        assertEquals(3, outcome.getSaveMetrics().getTotalUnicos());
+        assertFalse(MapperUtil.toJson(primeira).contains("jsonOriginal"));
+    }
+
+    private static FaturaPorClienteDTO comJsonOriginal(final FaturaPorClienteDTO dto) {
+        dto.setJsonOriginal(MapperUtil.toJson(dto));
+        return dto;
+    }
+
     private static FaturaPorClienteDTO faturaBase() {
         final FaturaPorClienteDTO dto = new FaturaPorClienteDTO();
         dto.setCteNumber(55139L);
@@ -76,11 +114,34 @@ class FaturaPorClienteExtractorTest {
     }
 
     private static final class FakeClienteApiDataExport extends ClienteApiDataExport {
+        private final List<List<FaturaPorClienteDTO>> chunks;
         private LocalDate dataInicioCapturada;
         private LocalDate dataFimCapturada;
 
         private FakeClienteApiDataExport() {
+            this(List.of());
+        }
+
+        private FakeClienteApiDataExport(final List<List<FaturaPorClienteDTO>> chunks) {
             super(true);
+            this.chunks = chunks;
+        }
+
+        @Override
+        public ResultadoExtracao<FaturaPorClienteDTO> buscarFaturasPorCliente(
+                final LocalDate dataInicio,
+                final LocalDate dataFim,
+                final PageChunkConsumer<FaturaPorClienteDTO> chunkConsumer) {
+            int total = 0;
+            for (final List<FaturaPorClienteDTO> chunk : chunks) {
+                try {
+                    chunkConsumer.process(chunk);
+                } catch (final Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                total += chunk.size();
+            }
+            return ResultadoExtracao.completo(List.of(), chunks.size(), total);
         }
 
         @Override
@@ -94,10 +155,12 @@ class FaturaPorClienteExtractorTest {
 
     private static final class FakeFaturaPorClienteRepository extends FaturaPorClienteRepository {
         private List<FaturaPorClienteEntity> salvos = List.of();
+        private final List<Integer> tamanhosSalvos = new ArrayList<>();
 
         @Override
         public int salvar(final List<FaturaPorClienteEntity> entidades) {
             this.salvos = List.copyOf(entidades);
+            tamanhosSalvos.add(entidades.size());
             return entidades.size();
         }
 
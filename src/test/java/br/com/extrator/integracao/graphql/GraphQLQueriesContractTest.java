@@ -1,5 +1,6 @@
 package br.com.extrator.integracao.graphql;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
@@ -15,4 +16,25 @@ class GraphQLQueriesContractTest {
         assertTrue(GraphQLQueries.QUERY_USUARIOS_SISTEMA.contains("id"));
         assertTrue(GraphQLQueries.QUERY_USUARIOS_SISTEMA.contains("name"));
     }
+
+    @Test
+    void projecaoDeChavesDeveManterOperacaoEPaginacaoSemCamposPesados() {
+        final String coletas = GraphQLQueries.queryColetas(ProjecaoGraphQL.CHAVES);
+        assertTrue(coletas.contains("query BuscarColetasExpandidaV2($params: PickInput!, $after: String)"));
+        assertTrue(coletas.contains("pageInfo { hasNextPage endCursor }"));
+        assertTrue(coletas.contains("node { id sequenceCode }"));
+        assertFalse(coletas.contains("pickAddress"));
+
+        final String fretes = GraphQLQueries.queryFretes(ProjecaoGraphQL.CHAVES_E_FRESCOR);
+        assertTrue(fretes.contains("freight(params: $params, after: $after, first: 100)"));
+        assertTrue(fretes.contains("pageInfo { hasNextPage endCursor }"));
+        assertTrue(fretes.contains("cte { issuedAt createdAt }"));
+        assertFalse(fretes.contains("freightInvoices"));
+    }
+
+    @Test
+    void projecaoCompletaDeveDevolverQueryOriginal() {
+        assertSame(GraphQLQueries.QUERY_COLETAS, GraphQLQueries.queryColetas(ProjecaoGraphQL.COMPLETA));
+        assertSame(GraphQLQueries.QUERY_FRETES, GraphQLQueries.queryFretes(ProjecaoGraphQL.COMPLETA));
+    }
 }
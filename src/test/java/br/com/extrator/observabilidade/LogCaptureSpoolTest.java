@@ -0,0 +1,39 @@
+package br.com.extrator.observabilidade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LogCaptureSpoolTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void deveGravarSaidaEmDiscoPreservandoOrdemEEstatisticas() throws Exception {
+        final Path parcial = tempDir.resolve("extracao_dados.stdout.part");
+        final StringBuilder esperado = new StringBuilder();
+
+        try (LogCaptureSpool spool = new LogCaptureSpool(parcial)) {
+            // Volume maior que a fila para exercitar o bloqueio por capacidade.
+            for (int i = 0; i < 2_000; i++) {
+                final String linha = "linha " + i + " çã\n";
+                esperado.append(linha);
+                spool.write(linha.getBytes(StandardCharsets.UTF_8));
+            }
+            spool.write("sem quebra final".getBytes(StandardCharsets.UTF_8));
+            esperado.append("sem quebra final");
+            spool.close();
+
+            assertEquals(2_001, spool.linhas());
+            assertEquals(esperado.toString().getBytes(StandardCharsets.UTF_8).length, spool.bytesEscritos());
+        }
+
+        assertEquals(esperado.toString(), Files.readString(parcial, StandardCharsets.UTF_8));
+    }
+}
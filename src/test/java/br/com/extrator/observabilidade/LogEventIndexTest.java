@@ -0,0 +1,78 @@
+package br.com.extrator.observabilidade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LogEventIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void deveClassificarLinhasComMesmaSemanticaDaVarreduraLegada() {
+        assertEquals(
+            Set.of(LogEventIndex.TipoEvento.WARN, LogEventIndex.TipoEvento.RETRY),
+            LogEventIndex.classificar("10:00:01 WARN  Client - Retry 2/5 entidade=fretes")
+        );
+        assertEquals(Set.of(LogEventIndex.TipoEvento.STATUS_INCOMPLETO), LogEventIndex.classificar("status_code=INCOMPLETO"));
+        assertTrue(LogEventIndex.classificar("at org.junit.jupiter.Timeout.retry").isEmpty());
+        assertTrue(LogEventIndex.classificar("linha comum").isEmpty());
+    }
+
+    @Test
+    void deveIndexarComOffsetsEmBytesUtf8() throws Exception {
+        final Path log = tempDir.resolve("extracao_dados_teste.log");
+        final String conteudo = "cabeçalho\n10:00 ERROR Falha entidade=coletas\nok\nregistros descartados: 3\n";
+
+        try (LogEventIndex.Escritor escritor = LogEventIndex.abrirEscritor(log);
+             OutputStream saida = escritor.envolver(Files.newOutputStream(log))) {
+            saida.write(conteudo.getBytes(StandardCharsets.UTF_8));
+        }
+
+        final List<LogEventIndex.Evento> eventos = LogEventIndex.ler(log).orElseThrow();
+        assertEquals(2, eventos.size());
+        final LogEventIndex.Evento erro = eventos.get(0);
+        assertTrue(erro.possui(LogEventIndex.TipoEvento.ERROR));
+        assertEquals("coletas", erro.entidade());
+        assertEquals("cabeçalho\n".getBytes(StandardCharsets.UTF_8).length, erro.offset());
+        assertTrue(eventos.get(1).evidenciaOperacional());
+    }
+
+    @Test
+    void deveIndexarLinhasGravadasEmStreaming() throws Exception {
+        final Path log = tempDir.resolve("extracao_daemon_2026-04-09_10-00-00.log");
+        Files.createFile(log);
+
+        try (LogEventIndex.Escritor escritor = LogEventIndex.abrirEscritor(log);
+             OutputStream saida = escritor.envolver(new FileOutputStream(log.toFile(), true))) {
+            saida.write("inicio\n10:00 WA".getBytes(StandardCharsets.UTF_8));
+            saida.write("RN x timeout\nTodas as APIs foram processadas com sucesso.".getBytes(StandardCharsets.UTF_8));
+        }
+
+        final List<LogEventIndex.Evento> eventos = LogEventIndex.ler(log).orElseThrow();
+        assertEquals(2, eventos.size());
+        assertEquals(7L, eventos.get(0).offset());
+        assertTrue(eventos.get(0).possui(LogEventIndex.TipoEvento.TIMEOUT));
+        assertTrue(eventos.get(1).possui(LogEventIndex.TipoEvento.RESUMO_SUCESSO));
+    }
+
+    @Test
+    void deveRetornarVazioQuandoLogNaoPossuiIndice() throws Exception {
+        final Path log = tempDir.resolve("legado.log");
+        Files.writeString(log, "10:00 WARN legado\n");
+
+        assertFalse(LogEventIndex.ler(log).isPresent());
+    }
+}
@@ -0,0 +1,181 @@
+package br.com.extrator.observabilidade.servicos;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+class CompletudeIncrementalValidatorTest {
+    private static final LocalDate DIA = LocalDate.of(2026, 10, 5);
+    private static final LocalDateTime VALIDADO_EM = DIA.atTime(10, 0);
+
+    @Test
+    void deveReconciliarPendenciasComLogsPosterioresAUltimaValidacao() throws Exception {
+        try (Connection conexao = abrirBanco("completude_tocado")) {
+            inserirDia(conexao, "fretes", DIA, 90L, VALIDADO_EM);
+            inserirLog(conexao, "fretes", 100L, DIA.atTime(14, 5));
+
+            final Map<String, CompletudeValidator.StatusValidacao> resultado = novoValidator()
+                .validar(conexao, Set.of("fretes"))
+                .orElseThrow();
+
+            assertEquals(CompletudeValidator.StatusValidacao.INCOMPLETO, resultado.get("fretes"));
+            // Divergente: segue pendente para a proxima validacao.
+            assertEquals(Timestamp.valueOf(VALIDADO_EM), lerValidadoEm(conexao, "fretes", DIA));
+            assertEquals(90L, lerPendentes(conexao, "fretes", DIA));
+        }
+    }
+
+    @Test
+    void deveIgnorarLogsJaConsumidosEDiasSemPendencia() throws Exception {
+        try (Connection conexao = abrirBanco("completude_intocado")) {
+            inserirDia(conexao, "fretes", DIA, 0L, VALIDADO_EM);
+            inserirLog(conexao, "fretes", 100L, DIA.atTime(9, 0));
+
+            final Map<String, CompletudeValidator.StatusValidacao> resultado = novoValidator()
+                .validar(conexao, Set.of("fretes"))
+                .orElseThrow();
+
+            assertEquals(CompletudeValidator.StatusValidacao.OK, resultado.get("fretes"));
+        }
+    }
+
+    @Test
+    void deveSomarDatasDeNegocioDaEntidadeECarimbarComUltimoLogConsumido() throws Exception {
+        try (Connection conexao = abrirBanco("completude_carimbo")) {
+            // Um fechamento do mes anterior confirma operacoes em varias datas de negocio.
+            final LocalDate diaAnterior = DIA.minusDays(20);
+            inserirDia(conexao, "coletas", diaAnterior, 30L, VALIDADO_EM);
+            inserirDia(conexao, "coletas", DIA, 10L, null);
+            inserirLog(conexao, "coletas", 25L, DIA.atTime(12, 0));
+            final LocalDateTime ultimoFim = DIA.atTime(16, 31);
+            inserirLog(conexao, "coletas", 15L, ultimoFim);
+
+            final Map<String, CompletudeValidator.StatusValidacao> resultado = novoValidator()
+                .validar(conexao, Set.of("coletas"))
+                .orElseThrow();
+
+            assertEquals(CompletudeValidator.StatusValidacao.OK, resultado.get("coletas"));
+            assertEquals(Timestamp.valueOf(ultimoFim), lerValidadoEm(conexao, "coletas", diaAnterior));
+            assertEquals(Timestamp.valueOf(ultimoFim), lerValidadoEm(conexao, "coletas", DIA));
+            assertEquals(0L, lerPendentes(conexao, "coletas", diaAnterior));
+            assertEquals(0L, lerPendentes(conexao, "coletas", DIA));
+        }
+    }
+
+    @Test
+    void deveFicarIndisponivelSemColunaValidadoEm() throws Exception {
+        try (Connection conexao = abrirBanco("completude_sem_coluna")) {
+            final CompletudeIncrementalValidator validator = new CompletudeIncrementalValidator(
+                LoggerFactory.getLogger(CompletudeIncrementalValidatorTest.class)
+            ) {
+                @Override
+                boolean colunaExiste(final Connection c, final String tabela, final String coluna) {
+                    return false;
+                }
+            };
+
+            assertTrue(validator.validar(conexao, Set.of("fretes")).isEmpty());
+            assertNull(lerValidadoEm(conexao, "fretes", DIA));
+        }
+    }
+
+    private static CompletudeIncrementalValidator novoValidator() {
+        return new CompletudeIncrementalValidator(LoggerFactory.getLogger(CompletudeIncrementalValidatorTest.class)) {
+            @Override
+            boolean colunaExiste(final Connection conexao, final String tabela, final String coluna) {
+                // SQLite nao tem INFORMATION_SCHEMA; as tabelas do fixture ja tem operacoes_pendentes.
+                return true;
+            }
+        };
+    }
+
+    private static Connection abrirBanco(final String nome) throws SQLException {
+        final Connection conexao = DriverManager.getConnection("jdbc:sqlite:file:" + nome + "?mode=memory&cache=shared");
+        conexao.createStatement().execute("ATTACH DATABASE ':memory:' AS dbo");
+        conexao.createStatement().execute("""
+            CREATE TABLE dbo.sys_completude_diaria (
+                entidade TEXT, data_referencia DATE, operacoes_pendentes INTEGER, validado_em TIMESTAMP
+            )
+            """);
+        conexao.createStatement().execute("""
+            CREATE TABLE dbo.log_extracoes (
+                entidade TEXT, status_final TEXT, unique_count INTEGER, db_upserts INTEGER, timestamp_fim TIMESTAMP
+            )
+            """);
+        return conexao;
+    }
+
+    private static void inserirDia(final Connection conexao,
+                                   final String entidade,
+                                   final LocalDate dia,
+                                   final long pendentes,
+                                   final LocalDateTime validadoEm) throws SQLException {
+        try (PreparedStatement stmt = conexao.prepareStatement(
+            "INSERT INTO dbo.sys_completude_diaria VALUES (?, ?, ?, ?)"
+        )) {
+            stmt.setString(1, entidade);
+            stmt.setDate(2, Date.valueOf(dia));
+            stmt.setLong(3, pendentes);
+            stmt.setTimestamp(4, validadoEm == null ? null : Timestamp.valueOf(validadoEm));
+            stmt.executeUpdate();
+        }
+    }
+
+    private static void inserirLog(final Connection conexao,
+                                   final String entidade,
+                                   final long uniqueCount,
+                                   final LocalDateTime fim) throws SQLException {
+        try (PreparedStatement stmt = conexao.prepareStatement(
+            "INSERT INTO dbo.log_extracoes VALUES (?, 'COMPLETO', ?, ?, ?)"
+        )) {
+            stmt.setString(1, entidade);
+            stmt.setLong(2, uniqueCount);
+            stmt.setLong(3, uniqueCount);
+            stmt.setTimestamp(4, Timestamp.valueOf(fim));
+            stmt.executeUpdate();
+        }
+    }
+
+    private static Timestamp lerValidadoEm(final Connection conexao,
+                                           final String entidade,
+                                           final LocalDate dia) throws SQLException {
+        try (PreparedStatement stmt = conexao.prepareStatement(
+            "SELECT validado_em FROM dbo.sys_completude_diaria WHERE entidade = ? AND data_referencia = ?"
+        )) {
+            stmt.setString(1, entidade);
+            stmt.setDate(2, Date.valueOf(dia));
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getTimestamp(1) : null;
+            }
+        }
+    }
+
+    private static long lerPendentes(final Connection conexao,
+                                     final String entidade,
+                                     final LocalDate dia) throws SQLException {
+        try (PreparedStatement stmt = conexao.prepareStatement(
+            "SELECT operacoes_pendentes FROM dbo.sys_completude_diaria WHERE entidade = ? AND data_referencia = ?"
+        )) {
+            stmt.setString(1, entidade);
+            stmt.setDate(2, Date.valueOf(dia));
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : -1L;
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.extrator.persistencia.entidade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.extrator.persistencia.entidade.LinhaCompacta.TipoColuna;
+
+class LinhaCompactaTest {
+
+    @Test
+    void deveDevolverValoresIguaisAosGravadosEmCadaTipo() {
+        final LinhaCompacta.Construtor construtor = LinhaCompacta.construtor();
+        final int id = construtor.coluna("id", TipoColuna.LONG);
+        final int numero = construtor.coluna("numero", TipoColuna.INTEIRO);
+        final int ativo = construtor.coluna("ativo", TipoColuna.BOOLEANO);
+        final int valor = construtor.coluna("valor", TipoColuna.DECIMAL);
+        final int enorme = construtor.coluna("enorme", TipoColuna.DECIMAL);
+        final int data = construtor.coluna("data", TipoColuna.DATA);
+        final int emitidoEm = construtor.coluna("emitido_em", TipoColuna.DATA_HORA);
+        final int nome = construtor.coluna("nome", TipoColuna.TEXTO);
+        final LinhaCompacta linha = new LinhaCompacta(construtor.construir());
+
+        final OffsetDateTime instante = OffsetDateTime.of(2026, 10, 1, 23, 59, 58, 123_456_789, ZoneOffset.ofHours(-3));
+        final BigDecimal grande = new BigDecimal("123456789012345678901234567890.12");
+        linha.setLong(id, -9_000_000_000L);
+        linha.setInteiro(numero, 42);
+        linha.setBooleano(ativo, false);
+        linha.setDecimal(valor, new BigDecimal("-10.500"));
+        linha.setDecimal(enorme, grande);
+        linha.setData(data, LocalDate.of(1999, 12, 31));
+        linha.setDataHora(emitidoEm, instante);
+        linha.setTexto(nome, "Frete");
+
+        assertEquals(-9_000_000_000L, linha.getLong(id));
+        assertEquals(42, linha.getInteiro(numero));
+        assertFalse(linha.getBooleano(ativo));
+        assertEquals(new BigDecimal("-10.500"), linha.getDecimal(valor));
+        assertEquals(grande, linha.getDecimal(enorme));
+        assertEquals(LocalDate.of(1999, 12, 31), linha.getData(data));
+        assertEquals(instante, linha.getDataHora(emitidoEm));
+        assertEquals("Frete", linha.get(nome));
+
+        linha.setDecimal(enorme, BigDecimal.ONE);
+        assertEquals(BigDecimal.ONE, linha.getDecimal(enorme));
+        linha.setLong(id, null);
+        linha.setDataHora(emitidoEm, null);
+        assertNull(linha.getLong(id));
+        assertNull(linha.getDataHora(emitidoEm));
+    }
+
+    @Test
+    void deveRejeitarAcessoComTipoOuColunaErrados() {
+        final LinhaCompacta.Construtor construtor = LinhaCompacta.construtor();
+        final int id = construtor.coluna("id", TipoColuna.LONG);
+        final LinhaCompacta.Layout layout = construtor.construir();
+
+        assertThrows(IllegalArgumentException.class, () -> new LinhaCompacta(layout).setTexto(id, "1"));
+        assertThrows(IllegalArgumentException.class, () -> layout.indice("inexistente"));
+        assertThrows(IllegalArgumentException.class, () -> construtor.coluna("id", TipoColuna.TEXTO));
+    }
+
+    @Test
+    void freteEntityDeveGuardarCamposNaLinhaCompacta() {
+        final FreteEntity frete = new FreteEntity();
+        frete.setId(77L);
+        frete.setValorTotal(new BigDecimal("1500.25"));
+        frete.setCteIssuedAt(OffsetDateTime.of(2026, 10, 2, 8, 0, 0, 0, ZoneOffset.ofHours(-3)));
+        frete.setCortesia(Boolean.TRUE);
+
+        final LinhaCompacta linha = frete.linhaCompacta();
+        assertEquals(77L, linha.get(FreteEntity.LAYOUT.indice("id")));
+        assertEquals(new BigDecimal("1500.25"), frete.getValorTotal());
+        assertEquals(frete.getCteIssuedAt(), linha.get(FreteEntity.LAYOUT.indice("cte_issued_at")));
+        assertTrue(frete.getCortesia());
+        assertNull(frete.getServicoEm());
+    }
+
+    @Test
+    void manifestoEntityDeveGuardarCamposNaLinhaCompacta() {
+        final ManifestoEntity manifesto = new ManifestoEntity();
+        manifesto.setSequenceCode(10L);
+        manifesto.setPickSequenceCode(555L);
+        manifesto.setMdfeNumber(3);
+        manifesto.setTotalCost(new BigDecimal("980.10"));
+        manifesto.setManualKm(Boolean.FALSE);
+        manifesto.calcularIdentificadorUnico();
+
+        final LinhaCompacta linha = manifesto.linhaCompacta();
+        assertEquals("555_MDFE_3", linha.get(ManifestoEntity.LAYOUT.indice("identificador_unico")));
+        assertEquals(new BigDecimal("980.10"), linha.get(ManifestoEntity.LAYOUT.indice("total_cost")));
+        assertFalse(manifesto.getManualKm());
+        assertNull(manifesto.getFinishedAt());
+    }
+}
@@ -8,7 +8,10 @@ import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -121,6 +124,31 @@ class AbstractRepositoryAtomicityTest {
         }
     }
 
+    @Test
+    void deveRegistrarCompletudeDiariaPorDataDeNegocioEmCadaCommitDeBatch() throws Exception {
+        final String jdbcUrl = "jdbc:sqlite:file:repo_completude_batch?mode=memory&cache=shared";
+        try (Connection anchor = DriverManager.getConnection(jdbcUrl)) {
+            anchor.createStatement().execute("CREATE TABLE TEST_ATOMIC (id TEXT PRIMARY KEY, value TEXT NOT NULL)");
+            System.setProperty("db.atomic.commit", "false");
+            System.setProperty("db.batch.size", "2");
+
+            final AtomicTestRepository repository = new AtomicTestRepository(jdbcUrl);
+            repository.salvar(List.of(
+                new TestRecord("a", "2026-06-01", false, false),
+                new TestRecord("b", "2026-06-02", false, false),
+                new TestRecord("c", "2026-06-01", false, false)
+            ));
+
+            assertEquals(List.of(
+                Map.of(LocalDate.of(2026, 6, 1), 1L, LocalDate.of(2026, 6, 2), 1L),
+                Map.of(LocalDate.of(2026, 6, 1), 1L)
+            ), repository.completudeRegistrada);
+        } finally {
+            System.clearProperty("db.atomic.commit");
+            System.clearProperty("db.batch.size");
+        }
+    }
+
     private int contarRegistros(final Connection connection) throws SQLException {
         try (PreparedStatement ps = connection.prepareStatement("SELECT COUNT(*) FROM TEST_ATOMIC");
              ResultSet rs = ps.executeQuery()) {
@@ -139,6 +167,7 @@ class AbstractRepositoryAtomicityTest {
         private final boolean falharNaPromocao;
         private int prepararStagingChamadas;
         private int promoverStagingChamadas;
+        private final List<Map<LocalDate, Long>> completudeRegistrada = new ArrayList<>();
 
         private AtomicTestRepository(final String jdbcUrl) {
             this(jdbcUrl, false, false, false, false);
@@ -193,6 +222,22 @@ class AbstractRepositoryAtomicityTest {
             return "TEST_ATOMIC";
         }
 
+        @Override
+        protected List<LocalDate> obterDatasNegocio(final TestRecord entidade) {
+            // So o teste de completude usa datas como valor; os demais caem no dia da extracao.
+            return entidade.value().matches("\\d{4}-\\d{2}-\\d{2}") ? List.of(LocalDate.parse(entidade.value())) : null;
+        }
+
+        @Override
+        protected void registrarCompletudeDiaria(final Connection conexao,
+                                                 final ContadoresCompletudeDiaria contadores) throws SQLException {
+            final Map<LocalDate, Long> confirmadas = contadores.confirmadasPorDia();
+            if (!confirmadas.isEmpty()) {
+                completudeRegistrada.add(confirmadas);
+            }
+            super.registrarCompletudeDiaria(conexao, contadores);
+        }
+
         @Override
         protected boolean aceitarMergeSemAlteracoesComoSucesso(final TestRecord entidade) {
             return aceitarNoOpComoSucesso;
@@ -3,15 +3,21 @@ package br.com.extrator.persistencia.repositorio;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
 
@@ -52,6 +58,96 @@ class AbstractRepositoryNoOpRefreshTest {
         }
     }
 
+    @Test
+    void preFiltroDeveSoRefrescarLinhaComHashIgualEContarComoNoOp() throws Exception {
+        try (Connection anchor = abrirTabelaPreFiltro("prefiltro_igual")) {
+            final PreFiltroRepository repository = new PreFiltroRepository("prefiltro_igual");
+            repository.salvar(List.of(new Linha("A", "v1")));
+            anchor.createStatement().execute("UPDATE linhas_prefiltro SET data_extracao = 0");
+
+            final int sucesso = repository.salvar(List.of(new Linha("A", "v1")));
+
+            assertEquals(1, sucesso);
+            assertEquals(List.of("A"), repository.merges);
+            assertEquals(1, repository.getUltimoResumoSalvamento().getRegistrosNoOpIdempotente());
+            assertTrue(lerLong(anchor, "SELECT data_extracao FROM linhas_prefiltro WHERE id = 'A'") > 0L);
+        }
+    }
+
+    @Test
+    void preFiltroDeveMandarLinhaAlteradaParaOMerge() throws Exception {
+        try (Connection anchor = abrirTabelaPreFiltro("prefiltro_alterada")) {
+            final PreFiltroRepository repository = new PreFiltroRepository("prefiltro_alterada");
+            repository.salvar(List.of(new Linha("A", "v1")));
+
+            repository.salvar(List.of(new Linha("A", "v2")));
+
+            assertEquals(List.of("A", "A"), repository.merges);
+            assertEquals(0, repository.getUltimoResumoSalvamento().getRegistrosNoOpIdempotente());
+            assertEquals("v2", lerTexto(anchor, "SELECT valor FROM linhas_prefiltro WHERE id = 'A'"));
+        }
+    }
+
+    @Test
+    void preFiltroNaoDevePularLinhaExcluidaNaOrigem() throws Exception {
+        try (Connection anchor = abrirTabelaPreFiltro("prefiltro_excluida")) {
+            final PreFiltroRepository repository = new PreFiltroRepository("prefiltro_excluida");
+            repository.salvar(List.of(new Linha("A", "v1")));
+            anchor.createStatement().execute("UPDATE linhas_prefiltro SET excluido_na_origem = 1");
+
+            repository.salvar(List.of(new Linha("A", "v1")));
+
+            assertEquals(List.of("A", "A"), repository.merges);
+            assertEquals(0L, lerLong(anchor, "SELECT excluido_na_origem FROM linhas_prefiltro WHERE id = 'A'"));
+        }
+    }
+
+    @Test
+    void preFiltroDeveManterUltimaOcorrenciaComChaveRepetidaNoLote() throws Exception {
+        try (Connection anchor = abrirTabelaPreFiltro("prefiltro_repetida")) {
+            final PreFiltroRepository repository = new PreFiltroRepository("prefiltro_repetida");
+            repository.salvar(List.of(new Linha("A", "v1")));
+
+            // A ultima ocorrencia tem o hash gravado; pula-la deixaria v2 no banco.
+            repository.salvar(List.of(new Linha("A", "v2"), new Linha("A", "v1")));
+
+            assertEquals(List.of("A", "A", "A"), repository.merges);
+            assertEquals("v1", lerTexto(anchor, "SELECT valor FROM linhas_prefiltro WHERE id = 'A'"));
+        }
+    }
+
+    private static Connection abrirTabelaPreFiltro(final String nome) throws SQLException {
+        final Connection anchor = DriverManager.getConnection(urlPreFiltro(nome));
+        anchor.createStatement().execute("""
+            CREATE TABLE linhas_prefiltro (
+                id TEXT PRIMARY KEY,
+                valor TEXT,
+                hash_linha BLOB,
+                excluido_na_origem INTEGER NOT NULL DEFAULT 0,
+                data_extracao INTEGER
+            )
+            """);
+        return anchor;
+    }
+
+    private static String urlPreFiltro(final String nome) {
+        return "jdbc:sqlite:file:" + nome + "?mode=memory&cache=shared";
+    }
+
+    private static long lerLong(final Connection conexao, final String sql) throws SQLException {
+        try (ResultSet rs = conexao.createStatement().executeQuery(sql)) {
+            assertTrue(rs.next());
+            return rs.getLong(1);
+        }
+    }
+
+    private static String lerTexto(final Connection conexao, final String sql) throws SQLException {
+        try (ResultSet rs = conexao.createStatement().executeQuery(sql)) {
+            assertTrue(rs.next());
+            return rs.getString(1);
+        }
+    }
+
     private static final class NoOpRefreshRepository extends AbstractRepository<String> {
         private final String jdbcUrl;
 
@@ -97,4 +193,123 @@ class AbstractRepositoryNoOpRefreshTest {
             return 0;
         }
     }
+
+    public static final class Linha {
+        private final String id;
+        private final String valor;
+
+        Linha(final String id, final String valor) {
+            this.id = id;
+            this.valor = valor;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getValor() {
+            return valor;
+        }
+    }
+
+    /**
+     * Repositorio com pre-filtro por hash_linha sobre SQLite. Os comandos do pre-filtro sao os do SQL Server,
+     * traduzidos em {@link #paraSqlite(String)} so no que o dialeto exige.
+     */
+    private static final class PreFiltroRepository extends AbstractRepository<Linha> {
+        private static final Pattern CRIAR_LOTE = Pattern.compile(
+            "SELECT TOP 0 (.+?)\\s+INTO #hash_linha_lote\\s+FROM (\\S+);", Pattern.DOTALL);
+        private static final Pattern REFRESH = Pattern.compile(
+            "UPDATE target\\s+SET (.+?)\\s+OUTPUT (.+?)\\s+FROM (\\S+) AS target\\s+JOIN #hash_linha_lote AS lote"
+                + "\\s+ON (.+?)\\s+WHERE (.+)", Pattern.DOTALL);
+
+        private final String jdbcUrl;
+        private final List<String> merges = new ArrayList<>();
+
+        private PreFiltroRepository(final String nome) {
+            this.jdbcUrl = urlPreFiltro(nome);
+        }
+
+        @Override
+        protected String getNomeTabela() {
+            return "linhas_prefiltro";
+        }
+
+        @Override
+        protected String qualificarTabelaDestino() {
+            return "linhas_prefiltro";
+        }
+
+        @Override
+        protected Connection obterConexao() throws SQLException {
+            return traduzindoSql(Connection.class, DriverManager.getConnection(jdbcUrl));
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <C> C traduzindoSql(final Class<C> tipo, final C alvo) {
+            return (C) Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[] {tipo}, (proxy, metodo, args) -> {
+                if (args != null && args.length > 0 && args[0] instanceof String sql) {
+                    args[0] = paraSqlite(sql);
+                }
+                try {
+                    final Object resultado = metodo.invoke(alvo, args);
+                    return resultado instanceof Statement statement && !(resultado instanceof PreparedStatement)
+                        ? traduzindoSql(Statement.class, statement)
+                        : resultado;
+                } catch (final InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+
+        @Override
+        protected void verificarTabelaExisteOuLancarErro(final Connection conexao) {
+            // Tabela de teste preparada no fixture.
+        }
+
+        @Override
+        protected List<String> getColunasChaveHashLinha() {
+            return List.of("id");
+        }
+
+        @Override
+        protected List<Object> obterChaveHashLinha(final Linha linha) {
+            return List.of(linha.getId());
+        }
+
+        @Override
+        protected int executarMerge(final Connection conexao, final Linha linha) throws SQLException {
+            merges.add(linha.getId());
+            try (PreparedStatement stmt = conexao.prepareStatement("""
+                INSERT INTO linhas_prefiltro (id, valor, hash_linha, excluido_na_origem, data_extracao)
+                VALUES (?, ?, ?, 0, ?)
+                ON CONFLICT(id) DO UPDATE SET
+                    valor = excluded.valor,
+                    hash_linha = excluded.hash_linha,
+                    excluido_na_origem = 0,
+                    data_extracao = excluded.data_extracao
+                """)) {
+                stmt.setString(1, linha.getId());
+                stmt.setString(2, linha.getValor());
+                setHashLinhaParameter(stmt, 3, linha);
+                stmt.setLong(4, System.currentTimeMillis());
+                return stmt.executeUpdate();
+            }
+        }
+
+        private static String paraSqlite(final String sql) {
+            final Matcher criar = CRIAR_LOTE.matcher(sql);
+            if (criar.find()) {
+                return "CREATE TEMP TABLE hash_linha_lote AS SELECT " + criar.group(1) + " FROM " + criar.group(2)
+                    + " WHERE 0";
+            }
+            final Matcher refresh = REFRESH.matcher(sql);
+            if (refresh.find()) {
+                return "UPDATE " + refresh.group(3) + " AS target SET " + refresh.group(1)
+                    + " FROM hash_linha_lote AS lote WHERE " + refresh.group(4) + " AND " + refresh.group(5)
+                    + " RETURNING " + refresh.group(2).replace("inserted.", "");
+            }
+            return sql.replace("#hash_linha_lote", "hash_linha_lote");
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package br.com.extrator.persistencia.repositorio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class DescritorEntidadeTest {
+
+    @Test
+    void deveDescreverPelasColunasChaveDoRepositorio() {
+        final String descricao = DescritorEntidade.descrever(
+            new Registro(1L, "SEQ-9", null),
+            List.of("cod_solicitacao", "ordem"),
+            Arrays.asList(123L, null)
+        );
+
+        assertEquals("Registro{cod_solicitacao=123}", descricao);
+    }
+
+    @Test
+    void deveUsarGettersCandidatosSemDuplicarSequenceCode() {
+        assertEquals("Registro{id=1, sequenceCode=SEQ-9, documentNumber=NF-1}",
+            DescritorEntidade.descrever(new Registro(1L, "SEQ-9", "NF-1")));
+    }
+
+    @Test
+    void deveCairNosGettersQuandoChaveDoRepositorioVemNula() {
+        final String descricao = DescritorEntidade.descrever(
+            new Registro(null, "SEQ-9", null),
+            List.of("id"),
+            Arrays.asList((Object) null)
+        );
+
+        assertEquals("Registro{sequenceCode=SEQ-9}", descricao);
+    }
+
+    @Test
+    void deveCairNoToStringSemCamposConhecidos() {
+        assertEquals("SemChave{toString=sem-chave}", DescritorEntidade.descrever(new SemChave()));
+        assertEquals("null", DescritorEntidade.descrever(null));
+    }
+
+    @Test
+    void deveConverterSnakeCaseNoNomeDoGetter() {
+        assertEquals("getSequenceCode", DescritorEntidade.nomeGetter("sequence_code"));
+        assertEquals("getDocumentNumber", DescritorEntidade.nomeGetter("documentNumber"));
+    }
+
+    public static final class Registro {
+        private final Long id;
+        private final String sequenceCode;
+        private final String documentNumber;
+
+        Registro(final Long id, final String sequenceCode, final String documentNumber) {
+            this.id = id;
+            this.sequenceCode = sequenceCode;
+            this.documentNumber = documentNumber;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getSequenceCode() {
+            return sequenceCode;
+        }
+
+        public String getDocumentNumber() {
+            return documentNumber;
+        }
+    }
+
+    public static final class SemChave {
+        @Override
+        public String toString() {
+            return "sem-chave";
+        }
+    }
+}
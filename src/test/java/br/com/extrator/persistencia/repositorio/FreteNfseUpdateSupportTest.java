@@ -0,0 +1,38 @@
+package br.com.extrator.persistencia.repositorio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class FreteNfseUpdateSupportTest {
+
+    @Test
+    void deveExtrairDiscriminacaoComPrefixoCaixaECdata() {
+        final String xml = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <ns2:CompNfse xmlns:ns2="http://www.abrasf.org.br/nfse.xsd">
+              <ns2:Servico>
+                <ns2:Discriminacao> <![CDATA[Frete CTe 123 & taxa]]> </ns2:Discriminacao>
+              </ns2:Servico>
+            </ns2:CompNfse>""";
+
+        assertEquals("Frete CTe 123 & taxa", FreteNfseUpdateSupport.extrairDiscriminacaoDoXml(xml));
+    }
+
+    @Test
+    void devePararNaTagSemLerRestoDoDocumento() {
+        // O trecho malformado vem depois da tag e nao chega a ser lido.
+        final String xml = "<Nfse><Discriminacao>Servico de transporte</Discriminacao><Valor>1<2</Nfse>";
+
+        assertEquals("Servico de transporte", FreteNfseUpdateSupport.extrairDiscriminacaoDoXml(xml));
+    }
+
+    @Test
+    void deveRetornarNuloSemTagVaziaOuXmlInvalido() {
+        assertNull(FreteNfseUpdateSupport.extrairDiscriminacaoDoXml("<Nfse><Valor>10</Valor></Nfse>"));
+        assertNull(FreteNfseUpdateSupport.extrairDiscriminacaoDoXml("<Nfse><Discriminacao>  </Discriminacao></Nfse>"));
+        assertNull(FreteNfseUpdateSupport.extrairDiscriminacaoDoXml("<Nfse><Valor>"));
+        assertNull(FreteNfseUpdateSupport.extrairDiscriminacaoDoXml(null));
+    }
+}
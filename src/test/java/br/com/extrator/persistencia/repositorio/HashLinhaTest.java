@@ -0,0 +1,74 @@
+package br.com.extrator.persistencia.repositorio;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.extrator.persistencia.entidade.FreteEntity;
+import br.com.extrator.persistencia.entidade.RasterViagemEntity;
+
+class HashLinhaTest {
+
+    @Test
+    void enriquecimentoNfseNaoDeveAlterarHashDoFrete() {
+        final FreteEntity doMerge = new FreteEntity();
+        doMerge.setId(10L);
+        doMerge.setValorTotal(new BigDecimal("99.90"));
+        final FreteEntity enriquecido = new FreteEntity();
+        enriquecido.setId(10L);
+        enriquecido.setValorTotal(new BigDecimal("99.90"));
+        enriquecido.setNfseSeries("A1");
+        enriquecido.setNfseNumber(123);
+        enriquecido.setNfseXmlDocument("<nfse/>");
+
+        assertArrayEquals(
+            HashLinha.calcular(doMerge, FreteRepository.CAMPOS_NFSE_FORA_DO_HASH),
+            HashLinha.calcular(enriquecido, FreteRepository.CAMPOS_NFSE_FORA_DO_HASH)
+        );
+        assertFalse(Arrays.equals(HashLinha.calcular(doMerge), HashLinha.calcular(enriquecido)));
+    }
+
+    @Test
+    void deveIgnorarDataExtracaoNoHash() {
+        final RasterViagemEntity primeira = viagem();
+        primeira.setDataExtracao(Instant.parse("2026-10-01T10:00:00Z"));
+        final RasterViagemEntity segunda = viagem();
+        segunda.setDataExtracao(Instant.parse("2026-10-02T10:00:00Z"));
+
+        final byte[] hash = HashLinha.calcular(primeira);
+
+        assertEquals(HashLinha.TAMANHO_BYTES, hash.length);
+        assertArrayEquals(hash, HashLinha.calcular(segunda));
+    }
+
+    @Test
+    void deveMudarHashQuandoConteudoOuOffsetMudar() {
+        final byte[] base = HashLinha.calcular(viagem());
+
+        final RasterViagemEntity velocidadeAlterada = viagem();
+        velocidadeAlterada.setVelocidadeMedia(new BigDecimal("61.5"));
+        assertFalse(Arrays.equals(base, HashLinha.calcular(velocidadeAlterada)));
+
+        // Mesmo instante em outro offset: a coluna DATETIMEOFFSET guardaria um valor diferente.
+        final RasterViagemEntity offsetAlterado = viagem();
+        offsetAlterado.setDataHoraRealFim(OffsetDateTime.of(2026, 10, 1, 9, 30, 0, 0, ZoneOffset.UTC));
+        assertFalse(Arrays.equals(base, HashLinha.calcular(offsetAlterado)));
+    }
+
+    private static RasterViagemEntity viagem() {
+        final RasterViagemEntity viagem = new RasterViagemEntity();
+        viagem.setCodSolicitacao(123L);
+        viagem.setVelocidadeMedia(new BigDecimal("60.0"));
+        viagem.setDataHoraRealFim(OffsetDateTime.of(2026, 10, 1, 6, 30, 0, 0, ZoneOffset.ofHours(-3)));
+        viagem.setMetadata("{\"cod_solicitacao\":123}");
+        return viagem;
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.extrator.plataforma.auditoria.aplicacao;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -22,6 +23,7 @@ import br.com.extrator.suporte.validacao.ConstantesEntidades;
 
 class ExecutionWindowPlannerTest {
     private static final String PROP_LOOKBACK_INTRADIA = "etl.intradia.lookback.offset.dias";
+    private static final String PROP_WATERMARK_PRECISA = "etl.janela.watermark_precisa.entidades";
     private String lookbackAnterior;
 
     @BeforeEach
@@ -32,6 +34,7 @@ class ExecutionWindowPlannerTest {
 
     @AfterEach
     void restaurarLookbackIntradia() {
+        System.clearProperty(PROP_WATERMARK_PRECISA);
         if (lookbackAnterior == null) {
             System.clearProperty(PROP_LOOKBACK_INTRADIA);
             return;
@@ -224,6 +227,80 @@ class ExecutionWindowPlannerTest {
         assertEquals(watermark, plano.confirmacaoInicio());
     }
 
+    @Test
+    void cotacaoAtualizadaNoMesmoDiaDeveSerRelidaComJanelaPadrao() {
+        final LocalDateTime agora = LocalDateTime.of(2026, 3, 25, 14, 15);
+        final LocalDateTime watermark = LocalDateTime.of(2026, 3, 25, 14, 0);
+        // requested_at e horario do pedido: cotacao pedida as 09:00 e alterada as 14:10 continua com 09:00.
+        final LocalDateTime requestedAtAlteradaHoje = LocalDateTime.of(2026, 3, 25, 9, 0);
+        final ExecutionWindowPlanner planner =
+            new ExecutionWindowPlanner(new StubExecutionAuditPort(watermark), () -> agora);
+
+        final ExecutionWindowPlan plano = planner.planejarEntidade(
+            ConstantesEntidades.COTACOES,
+            LocalDate.of(2026, 3, 25),
+            ModoExecucao.MICRO_BATCH
+        );
+
+        assertFalse(plano.possuiConsultaPrecisa());
+        assertJanelaD7(plano);
+        assertFalse(plano.consultaInicioDateTime().isAfter(requestedAtAlteradaHoje));
+    }
+
+    @Test
+    void deveConsultarCotacoesAPartirDoWatermarkDoDiaNoMicroBatch() {
+        System.setProperty(PROP_WATERMARK_PRECISA, ConstantesEntidades.COTACOES);
+        final LocalDateTime agora = LocalDateTime.of(2026, 3, 25, 14, 15);
+        final LocalDateTime watermark = LocalDateTime.of(2026, 3, 25, 14, 0);
+        final ExecutionWindowPlanner planner =
+            new ExecutionWindowPlanner(new StubExecutionAuditPort(watermark), () -> agora);
+
+        final ExecutionWindowPlan plano = planner.planejarEntidade(
+            ConstantesEntidades.COTACOES,
+            LocalDate.of(2026, 3, 25),
+            ModoExecucao.MICRO_BATCH
+        );
+
+        assertEquals(LocalDateTime.of(2026, 3, 25, 13, 50), plano.consultaInicioPreciso());
+        assertEquals(plano.consultaInicioPreciso(), plano.consultaInicioDateTime());
+        assertEquals(LocalDate.of(2026, 3, 25), plano.consultaDataInicio());
+        assertEquals(watermark, plano.confirmacaoInicio());
+        assertEquals(agora, plano.confirmacaoFim());
+    }
+
+    @Test
+    void deveManterLookbackCompletoNoPrimeiroCicloDoDiaEConfirmarAteOPlanejamento() {
+        System.setProperty(PROP_WATERMARK_PRECISA, ConstantesEntidades.COTACOES);
+        final LocalDateTime agora = LocalDateTime.of(2026, 3, 25, 0, 15);
+        final LocalDateTime watermarkDiaAnterior = LocalDateTime.of(2026, 3, 24, 23, 59, 59);
+        final ExecutionWindowPlanner planner =
+            new ExecutionWindowPlanner(new StubExecutionAuditPort(watermarkDiaAnterior), () -> agora);
+
+        final ExecutionWindowPlan micro = planner.planejarEntidade(
+            ConstantesEntidades.COTACOES,
+            LocalDate.of(2026, 3, 25),
+            ModoExecucao.MICRO_BATCH
+        );
+        final ExecutionWindowPlan intervalo = planner.planejarEntidade(
+            ConstantesEntidades.COTACOES,
+            LocalDate.of(2026, 3, 25),
+            ModoExecucao.INTERVALO
+        );
+        final ExecutionWindowPlan manifestos = planner.planejarEntidade(
+            ConstantesEntidades.MANIFESTOS,
+            LocalDate.of(2026, 3, 25),
+            ModoExecucao.MICRO_BATCH
+        );
+
+        assertJanelaD7(micro);
+        assertTrue(!micro.possuiConsultaPrecisa());
+        assertEquals(agora, micro.confirmacaoFim());
+        assertJanelaD7(intervalo);
+        assertEquals(LocalDate.of(2026, 3, 25).atTime(LocalTime.MAX), intervalo.confirmacaoFim());
+        assertTrue(!manifestos.possuiConsultaPrecisa());
+        assertEquals(LocalDate.of(2026, 3, 25).atTime(LocalTime.MAX), manifestos.confirmacaoFim());
+    }
+
     @Test
     void deveFalharQuandoEntidadeNaoPossuirStrategyRegistrada() {
         final ExecutionWindowPlanner planner = new ExecutionWindowPlanner(new StubExecutionAuditPort());
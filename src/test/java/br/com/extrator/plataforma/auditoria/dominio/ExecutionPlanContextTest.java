@@ -53,6 +53,22 @@ class ExecutionPlanContextTest {
         assertEquals(LocalDateTime.of(2026, 4, 23, 23, 59, 59), planoOpt.get().confirmacaoFim());
     }
 
+    @Test
+    void deveRepassarInicioPrecisoAoProcessoFilho() {
+        final ExecutionWindowPlan plano = new ExecutionWindowPlan(
+            LocalDate.of(2026, 4, 23),
+            LocalDate.of(2026, 4, 23),
+            LocalDateTime.of(2026, 4, 23, 14, 0),
+            LocalDateTime.of(2026, 4, 23, 14, 15),
+            LocalDateTime.of(2026, 4, 23, 13, 50)
+        );
+        ExecutionPlanContext.setPlanos(Map.of("coletas", plano));
+        ExecutionPlanContext.exportarSystemProperties().forEach(System::setProperty);
+        ExecutionPlanContext.clear();
+
+        assertEquals(plano, ExecutionPlanContext.getPlano("coletas").orElseThrow());
+    }
+
     @Test
     void deveDisponibilizarPlanoParaOutraThreadDaMesmaExecucao() throws InterruptedException {
         final ExecutionWindowPlan plano = new ExecutionWindowPlan(
@@ -79,5 +95,6 @@ class ExecutionPlanContextTest {
         System.clearProperty(prefix + "consulta_data_fim");
         System.clearProperty(prefix + "confirmacao_inicio");
         System.clearProperty(prefix + "confirmacao_fim");
+        System.clearProperty(prefix + "consulta_inicio_preciso");
     }
 }
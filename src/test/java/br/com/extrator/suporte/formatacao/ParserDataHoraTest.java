@@ -0,0 +1,103 @@
+package br.com.extrator.suporte.formatacao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParserDataHoraTest {
+    private static final ZoneId ZONA = ZoneId.of("America/Sao_Paulo");
+
+    @BeforeEach
+    void fixarTimezone() {
+        System.setProperty("api.dataexport.timezone", ZONA.getId());
+    }
+
+    @AfterEach
+    void limparOverrides() {
+        System.clearProperty("api.dataexport.timezone");
+    }
+
+    @Test
+    void deveLerFormasIsoComOMesmoResultadoDoJavaTime() {
+        for (final String valor : List.of(
+            "2025-10-02T00:00:00.000-03:00",
+            "2026-03-18T14:05:09Z",
+            "2026-03-18T14:05:09.123456789+05:30",
+            "2026-03-18T14:05-03:00"
+        )) {
+            assertEquals(OffsetDateTime.parse(valor), ParserDataHora.lerOffsetDateTime(valor, ZONA), valor);
+        }
+        for (final String valor : List.of("2026-03-18T14:05:09", "2026-03-18T14:05", "2026-03-18T14:05:09.5")) {
+            assertEquals(LocalDateTime.parse(valor), ParserDataHora.lerLocalDateTime(valor), valor);
+            assertEquals(LocalDateTime.parse(valor).atZone(ZONA).toOffsetDateTime(), ParserDataHora.lerOffsetDateTime(valor, ZONA), valor);
+        }
+        assertEquals(LocalDate.of(2024, 2, 29), ParserDataHora.lerLocalDate("2024-02-29"));
+        assertEquals(LocalDate.of(2025, 10, 7).atStartOfDay(ZONA).toOffsetDateTime(), ParserDataHora.lerOffsetDateTime("2025-10-07", ZONA));
+    }
+
+    @Test
+    void deveLerFormasLegadasComOMesmoResultadoDosFormatters() {
+        assertEquals(
+            LocalDateTime.parse("2026-03-18 14:05:09", DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")).atZone(ZONA).toOffsetDateTime(),
+            ParserDataHora.lerOffsetDateTime("2026-03-18 14:05:09", ZONA)
+        );
+        assertEquals(
+            LocalDateTime.parse("03/18/2026 14:05", DateTimeFormatter.ofPattern("MM/dd/yyyy HH:mm")).atZone(ZONA).toOffsetDateTime(),
+            ParserDataHora.lerOffsetDateTime("03/18/2026 14:05", ZONA)
+        );
+        assertEquals(
+            LocalDateTime.of(2026, 3, 25, 8, 30).atZone(ZONA).toOffsetDateTime(),
+            ParserDataHora.lerDataHoraBr("25/03/2026 08:30", ZONA)
+        );
+    }
+
+    @Test
+    void deveRecusarValoresQueOsFormattersNaoAceitariam() {
+        assertNull(ParserDataHora.lerLocalDate("2025-02-30"));
+        assertNull(ParserDataHora.lerOffsetDateTime("02/30/2025 10:00", ZONA));
+        assertNull(ParserDataHora.lerOffsetDateTime("25/03/2026 08:30", ZONA));
+        assertNull(ParserDataHora.lerDataHoraBr("25/03/2026 08:30:00.5", ZONA));
+        assertNull(ParserDataHora.lerOffsetDateTime("2026-03-18T24:00:00Z", ZONA));
+        assertNull(ParserDataHora.lerOffsetDateTime("2026-03-18T10:00:00+18:00", ZONA));
+        assertNull(ParserDataHora.detectar("18/3/2026"));
+    }
+
+    @Test
+    void formatoDeveSerMemorizadoPorCampoSemMudarOResultado() {
+        final ParserDataHora parser = ParserDataHora.campo("teste.memo_formato");
+
+        assertEquals(
+            OffsetDateTime.of(2026, 3, 18, 10, 0, 0, 0, ZoneOffset.ofHours(-3)),
+            parser.paraOffsetDateTime("2026-03-18T10:00:00-03:00")
+        );
+        assertEquals(ParserDataHora.Formato.ISO_OFFSET, parser.ultimoFormato());
+
+        assertEquals(LocalDate.of(2026, 3, 18).atStartOfDay(ZONA).toOffsetDateTime(), parser.paraOffsetDateTime(" 2026-03-18 "));
+        assertEquals(ParserDataHora.Formato.ISO_DATA, parser.ultimoFormato());
+        assertEquals(parser, ParserDataHora.campo("teste.memo_formato"));
+        assertNull(parser.paraOffsetDateTime("nao e data"));
+    }
+
+    @Test
+    void reconheceDeveConcordarComDetectar() {
+        for (final String valor : List.of(
+            "2026-03-18", "2026-03-18T10:00", "2026-03-18T10:00:00Z", "2026-03-18T10:00:00.1-03:00",
+            "2026-03-18 10:00:00", "03/18/2026", "18/03/2026 10:00", "18/03/2026x", "2026-03-18X10", "abc"
+        )) {
+            for (final ParserDataHora.Formato formato : ParserDataHora.Formato.values()) {
+                assertEquals(ParserDataHora.detectar(valor) == formato, formato.reconhece(valor), valor + " " + formato);
+            }
+        }
+    }
+}
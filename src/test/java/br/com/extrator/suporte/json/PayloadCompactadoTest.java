@@ -0,0 +1,56 @@
+package br.com.extrator.suporte.json;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+
+class PayloadCompactadoTest {
+
+    @Test
+    void deveGerarGzipDeUtf16LeComoOCompressDoSqlServer() throws IOException {
+        final String xml = "<discriminacao>Serviço de transporte – São Paulo 📦</discriminacao>";
+
+        final byte[] compactado = PayloadCompactado.compactar(xml);
+
+        assertEquals((byte) 0x1f, compactado[0]);
+        assertEquals((byte) 0x8b, compactado[1]);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compactado))) {
+            // CAST(DECOMPRESS(...) AS NVARCHAR(MAX)) interpreta exatamente estes bytes.
+            assertArrayEquals(xml.getBytes(StandardCharsets.UTF_16LE), gzip.readAllBytes());
+        }
+        assertEquals(xml, PayloadCompactado.descompactar(compactado));
+    }
+
+    @Test
+    void deveLerEmStreamingEReduzirPayloadRepetitivo() throws IOException {
+        final String json = "{\"itens\":[" + "{\"id\":1,\"status\":\"finished\"},".repeat(500) + "{}]}";
+
+        final byte[] compactado = PayloadCompactado.compactar(json);
+
+        assertTrue(compactado.length < json.length() / 10);
+        try (Reader leitor = PayloadCompactado.abrirLeitor(compactado)) {
+            final StringBuilder lido = new StringBuilder();
+            final char[] buffer = new char[256];
+            int n;
+            while ((n = leitor.read(buffer)) >= 0) {
+                lido.append(buffer, 0, n);
+            }
+            assertEquals(json, lido.toString());
+        }
+    }
+
+    @Test
+    void devePreservarNulo() {
+        assertNull(PayloadCompactado.compactar(null));
+        assertNull(PayloadCompactado.descompactar(null));
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.extrator.suporte.mapeamento;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.ParseException;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+class NumeroUtilTest {
+
+    @Test
+    void parseBigDecimalUSDeveManterValorEEscalaDoDecimalFormat() throws ParseException {
+        final DecimalFormat format = new DecimalFormat("#,##0.00", new DecimalFormatSymbols(Locale.US));
+        format.setParseBigDecimal(true);
+        for (final String valor : List.of("460.00", "-0.00", "0", "1,234.56", "-12.5", "007.10", "1E3", "12.5abc", "99999999999999999999.123")) {
+            final BigDecimal esperado = (BigDecimal) format.parse(valor.replace(",", ""));
+            assertEquals(esperado, NumeroUtil.parseBigDecimalUS(valor), valor);
+        }
+    }
+
+    @Test
+    void parseBigDecimalUSDeveRetornarNullParaVazioOuInvalido() {
+        assertNull(NumeroUtil.parseBigDecimalUS(null));
+        assertNull(NumeroUtil.parseBigDecimalUS("  "));
+        assertNull(NumeroUtil.parseBigDecimalUS("abc"));
+        assertNull(NumeroUtil.parseBigDecimalUS(" 5"));
+    }
+
+    @Test
+    void decimalSimplesSoAceitaDigitosComPontoOpcional() {
+        for (final String valor : List.of("1", "-1", "1.0", "-0.001")) {
+            assertEquals(true, NumeroUtil.isDecimalSimples(valor), valor);
+        }
+        for (final String valor : List.of("", "-", "1.", ".5", "1e3", "+1", " 1", "1.2.3", "١")) {
+            assertEquals(false, NumeroUtil.isDecimalSimples(valor), valor);
+        }
+    }
+}